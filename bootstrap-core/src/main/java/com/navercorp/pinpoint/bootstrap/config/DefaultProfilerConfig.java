@@ -48,6 +48,9 @@ public class DefaultProfilerConfig implements ProfilerConfig {
 
     public static final int DEFAULT_AGENT_STAT_COLLECTION_INTERVAL_MS = 5 * 1000;
     public static final int DEFAULT_NUM_AGENT_STAT_BATCH_SEND = 6;
+    // encoded size per agent stat, DEFAULT_NUM_AGENT_STAT_BATCH_SEND of them must fit in a UDP datagram
+    public static final int DEFAULT_THREAD_SAMPLE_MAX_BYTES = 3 * 1024;
+    public static final int DEFAULT_JDBC_SQL_STAT_MAX_BYTES = 3 * 1024;
 
     public interface ValueResolver {
         String resolve(String value, Properties properties);
@@ -148,11 +151,21 @@ public class DefaultProfilerConfig implements ProfilerConfig {
     private boolean deadlockMonitorEnable = true;
     private long deadlockMonitorInterval = 60000L;
 
+    private boolean threadSampleMonitorEnable = false;
+    private long threadSampleMonitorInterval = 1000L;
+    private long threadSampleMinElapsed = 1000L;
+    private int threadSampleMaxDepth = 32;
+    private int threadSampleMaxStacks = 20;
+    private int threadSampleMaxBytes = DEFAULT_THREAD_SAMPLE_MAX_BYTES;
+
     private int callStackMaxDepth = 512;
 
     private int jdbcSqlCacheSize = 1024;
     private boolean traceSqlBindValue = false;
     private int maxSqlBindValueSize = 1024;
+    private boolean jdbcSqlStatEnable = false;
+    private int jdbcSqlStatMaxSize = 500;
+    private int jdbcSqlStatMaxBytes = DEFAULT_JDBC_SQL_STAT_MAX_BYTES;
 
     // Sampling
     private boolean samplingEnable = true;
@@ -166,6 +179,7 @@ public class DefaultProfilerConfig implements ProfilerConfig {
     private String profileOsName;
     private int profileJvmStatCollectIntervalMs = DEFAULT_AGENT_STAT_COLLECTION_INTERVAL_MS;
     private int profileJvmStatBatchSendCount = DEFAULT_NUM_AGENT_STAT_BATCH_SEND;
+    private boolean profileJvmStatBatchCompactDataSource = true;
     private boolean profilerJvmStatCollectDetailedMetrics;
 
     private Filter<String> profilableClassFilter = new SkipFilter<String>();
@@ -182,6 +196,8 @@ public class DefaultProfilerConfig implements ProfilerConfig {
 
     private boolean proxyHttpHeaderEnable = true;
 
+    private boolean compactTraceHeaderEnable = false;
+
     private HttpStatusCodeErrors httpStatusCodeErrors = new HttpStatusCodeErrors();
 
     private String injectionModuleFactoryClazzName = null;
@@ -344,6 +360,36 @@ public class DefaultProfilerConfig implements ProfilerConfig {
         return deadlockMonitorInterval;
     }
 
+    @Override
+    public boolean isThreadSampleMonitorEnable() {
+        return threadSampleMonitorEnable;
+    }
+
+    @Override
+    public long getThreadSampleMonitorInterval() {
+        return threadSampleMonitorInterval;
+    }
+
+    @Override
+    public long getThreadSampleMinElapsed() {
+        return threadSampleMinElapsed;
+    }
+
+    @Override
+    public int getThreadSampleMaxDepth() {
+        return threadSampleMaxDepth;
+    }
+
+    @Override
+    public int getThreadSampleMaxStacks() {
+        return threadSampleMaxStacks;
+    }
+
+    @Override
+    public int getThreadSampleMaxBytes() {
+        return threadSampleMaxBytes;
+    }
+
     @Override
     public int getSpanDataSenderSocketTimeout() {
         return spanDataSenderSocketTimeout;
@@ -384,6 +430,21 @@ public class DefaultProfilerConfig implements ProfilerConfig {
         return traceSqlBindValue;
     }
 
+    @Override
+    public boolean isJdbcSqlStatEnable() {
+        return jdbcSqlStatEnable;
+    }
+
+    @Override
+    public int getJdbcSqlStatMaxSize() {
+        return jdbcSqlStatMaxSize;
+    }
+
+    @Override
+    public int getJdbcSqlStatMaxBytes() {
+        return jdbcSqlStatMaxBytes;
+    }
+
     @Override
     public int getMaxSqlBindValueSize() {
         return maxSqlBindValueSize;
@@ -430,6 +491,11 @@ public class DefaultProfilerConfig implements ProfilerConfig {
         return profileJvmStatBatchSendCount;
     }
 
+    @Override
+    public boolean isProfileJvmStatBatchCompactDataSource() {
+        return profileJvmStatBatchCompactDataSource;
+    }
+
     @Override
     public boolean isProfilerJvmStatCollectDetailedMetrics() {
         return profilerJvmStatCollectDetailedMetrics;
@@ -513,6 +579,11 @@ public class DefaultProfilerConfig implements ProfilerConfig {
         return proxyHttpHeaderEnable;
     }
 
+    @Override
+    public boolean isCompactTraceHeaderEnable() {
+        return compactTraceHeaderEnable;
+    }
+
     @Override
     public HttpStatusCodeErrors getHttpStatusCodeErrors() {
         return httpStatusCodeErrors;
@@ -589,6 +660,13 @@ public class DefaultProfilerConfig implements ProfilerConfig {
         this.deadlockMonitorEnable = readBoolean("profiler.monitor.deadlock.enable", true);
         this.deadlockMonitorInterval = readLong("profiler.monitor.deadlock.interval", 60000L);
 
+        this.threadSampleMonitorEnable = readBoolean("profiler.monitor.threadsample.enable", false);
+        this.threadSampleMonitorInterval = readLong("profiler.monitor.threadsample.interval", 1000L);
+        this.threadSampleMinElapsed = readLong("profiler.monitor.threadsample.min.elapsed", 1000L);
+        this.threadSampleMaxDepth = readInt("profiler.monitor.threadsample.max.depth", 32);
+        this.threadSampleMaxStacks = readInt("profiler.monitor.threadsample.max.stacks", 20);
+        this.threadSampleMaxBytes = readInt("profiler.monitor.threadsample.max.bytes", DEFAULT_THREAD_SAMPLE_MAX_BYTES);
+
         // CallStack
         this.callStackMaxDepth = readInt("profiler.callstack.max.depth", 64);
         if (this.callStackMaxDepth < 2) {
@@ -598,6 +676,9 @@ public class DefaultProfilerConfig implements ProfilerConfig {
         // JDBC
         this.jdbcSqlCacheSize = readInt("profiler.jdbc.sqlcachesize", 1024);
         this.traceSqlBindValue = readBoolean("profiler.jdbc.tracesqlbindvalue", false);
+        this.jdbcSqlStatEnable = readBoolean("profiler.jdbc.sqlstat.enable", false);
+        this.jdbcSqlStatMaxSize = readInt("profiler.jdbc.sqlstat.max.size", 500);
+        this.jdbcSqlStatMaxBytes = readInt("profiler.jdbc.sqlstat.max.bytes", DEFAULT_JDBC_SQL_STAT_MAX_BYTES);
 
 
         this.samplingEnable = readBoolean("profiler.sampling.enable", true);
@@ -616,6 +697,7 @@ public class DefaultProfilerConfig implements ProfilerConfig {
         this.profileJvmVendorName = readString("profiler.jvm.vendor.name", null);
         this.profileJvmStatCollectIntervalMs = readInt("profiler.jvm.stat.collect.interval", DEFAULT_AGENT_STAT_COLLECTION_INTERVAL_MS);
         this.profileJvmStatBatchSendCount = readInt("profiler.jvm.stat.batch.send.count", DEFAULT_NUM_AGENT_STAT_BATCH_SEND);
+        this.profileJvmStatBatchCompactDataSource = readBoolean("profiler.jvm.stat.batch.compact.datasource", true);
         this.profilerJvmStatCollectDetailedMetrics = readBoolean("profiler.jvm.stat.collect.detailed.metrics", false);
 
         this.agentInfoSendRetryInterval = readLong("profiler.agentInfo.send.retry.interval", DEFAULT_AGENT_INFO_SEND_RETRY_INTERVAL);
@@ -643,6 +725,8 @@ public class DefaultProfilerConfig implements ProfilerConfig {
         // proxy http header names
         this.proxyHttpHeaderEnable = readBoolean("profiler.proxy.http.header.enable", true);
 
+        this.compactTraceHeaderEnable = readBoolean("profiler.trace.header.compact.enable", false);
+
         this.httpStatusCodeErrors = new HttpStatusCodeErrors(readList("profiler.http.status.code.errors"));
 
         this.injectionModuleFactoryClazzName = readString("profiler.guice.module.factory", null);
@@ -792,10 +876,19 @@ public class DefaultProfilerConfig implements ProfilerConfig {
         sb.append(", dataSourceTraceLimitSize=").append(dataSourceTraceLimitSize);
         sb.append(", deadlockMonitorEnable=").append(deadlockMonitorEnable);
         sb.append(", deadlockMonitorInterval=").append(deadlockMonitorInterval);
+        sb.append(", threadSampleMonitorEnable=").append(threadSampleMonitorEnable);
+        sb.append(", threadSampleMonitorInterval=").append(threadSampleMonitorInterval);
+        sb.append(", threadSampleMinElapsed=").append(threadSampleMinElapsed);
+        sb.append(", threadSampleMaxDepth=").append(threadSampleMaxDepth);
+        sb.append(", threadSampleMaxStacks=").append(threadSampleMaxStacks);
+        sb.append(", threadSampleMaxBytes=").append(threadSampleMaxBytes);
         sb.append(", callStackMaxDepth=").append(callStackMaxDepth);
         sb.append(", jdbcSqlCacheSize=").append(jdbcSqlCacheSize);
         sb.append(", traceSqlBindValue=").append(traceSqlBindValue);
         sb.append(", maxSqlBindValueSize=").append(maxSqlBindValueSize);
+        sb.append(", jdbcSqlStatEnable=").append(jdbcSqlStatEnable);
+        sb.append(", jdbcSqlStatMaxSize=").append(jdbcSqlStatMaxSize);
+        sb.append(", jdbcSqlStatMaxBytes=").append(jdbcSqlStatMaxBytes);
         sb.append(", samplingEnable=").append(samplingEnable);
         sb.append(", samplingRate=").append(samplingRate);
         sb.append(", ioBufferingEnable=").append(ioBufferingEnable);
@@ -804,6 +897,7 @@ public class DefaultProfilerConfig implements ProfilerConfig {
         sb.append(", profileJvmVendorName='").append(profileJvmVendorName).append('\'');
         sb.append(", profileJvmStatCollectIntervalMs=").append(profileJvmStatCollectIntervalMs);
         sb.append(", profileJvmStatBatchSendCount=").append(profileJvmStatBatchSendCount);
+        sb.append(", profileJvmStatBatchCompactDataSource=").append(profileJvmStatBatchCompactDataSource);
         sb.append(", profilerJvmStatCollectDetailedMetrics=").append(profilerJvmStatCollectDetailedMetrics);
         sb.append(", profilableClassFilter=").append(profilableClassFilter);
         sb.append(", DEFAULT_AGENT_INFO_SEND_RETRY_INTERVAL=").append(DEFAULT_AGENT_INFO_SEND_RETRY_INTERVAL);
@@ -814,6 +908,7 @@ public class DefaultProfilerConfig implements ProfilerConfig {
         sb.append(", propagateInterceptorException=").append(propagateInterceptorException);
         sb.append(", supportLambdaExpressions=").append(supportLambdaExpressions);
         sb.append(", proxyHttpHeaderEnable=").append(proxyHttpHeaderEnable);
+        sb.append(", compactTraceHeaderEnable=").append(compactTraceHeaderEnable);
         sb.append(", httpStatusCodeErrors=").append(httpStatusCodeErrors);
         sb.append(", injectionModuleFactoryClazzName='").append(injectionModuleFactoryClazzName).append('\'');
         sb.append(", applicationNamespace='").append(applicationNamespace).append('\'');
@@ -85,6 +85,18 @@ public interface ProfilerConfig {
 
     long getDeadlockMonitorInterval();
 
+    boolean isThreadSampleMonitorEnable();
+
+    long getThreadSampleMonitorInterval();
+
+    long getThreadSampleMinElapsed();
+
+    int getThreadSampleMaxDepth();
+
+    int getThreadSampleMaxStacks();
+
+    int getThreadSampleMaxBytes();
+
     int getSpanDataSenderSocketTimeout();
 
     String getSpanDataSenderSocketType();
@@ -103,6 +115,12 @@ public interface ProfilerConfig {
 
     int getMaxSqlBindValueSize();
 
+    boolean isJdbcSqlStatEnable();
+
+    int getJdbcSqlStatMaxSize();
+
+    int getJdbcSqlStatMaxBytes();
+
     boolean isSamplingEnable();
 
     int getSamplingRate();
@@ -119,6 +137,8 @@ public interface ProfilerConfig {
 
     int getProfileJvmStatBatchSendCount();
 
+    boolean isProfileJvmStatBatchCompactDataSource();
+
     boolean isProfilerJvmStatCollectDetailedMetrics();
 
     long getAgentInfoSendRetryInterval();
@@ -150,6 +170,8 @@ public interface ProfilerConfig {
 
     boolean isProxyHttpHeaderEnable();
 
+    boolean isCompactTraceHeaderEnable();
+
     HttpStatusCodeErrors getHttpStatusCodeErrors();
 
     String getInjectionModuleFactoryClazzName();
@@ -34,7 +34,8 @@ public enum Header {
     HTTP_HOST("Pinpoint-Host"),
     HTTP_PROXY_NGINX("Pinpoint-ProxyNginx"),
     HTTP_PROXY_APACHE("Pinpoint-ProxyApache"),
-    HTTP_PROXY_APP("Pinpoint-ProxyApp");
+    HTTP_PROXY_APP("Pinpoint-ProxyApp"),
+    HTTP_COMPACT_TRACE("Pinpoint-Trace");
 
     public static final String FILTER_PATTERN_PREFIX = "Pinpoint-";
     private static final int FILTER_PATTERN_PREFIX_LENGTH = FILTER_PATTERN_PREFIX.length();
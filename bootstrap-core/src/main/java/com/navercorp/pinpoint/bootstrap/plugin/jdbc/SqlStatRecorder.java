@@ -0,0 +1,32 @@
+/*
+ * Copyright 2018 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.pinpoint.bootstrap.plugin.jdbc;
+
+import com.navercorp.pinpoint.bootstrap.context.DatabaseInfo;
+import com.navercorp.pinpoint.bootstrap.context.ParsingResult;
+
+/**
+ * Aggregates the execution time of each sql per datasource, regardless of whether the request is sampled.
+ * {@link #begin()} and {@link #end(DatabaseInfo, ParsingResult, Throwable)} must be called on the same thread.
+ */
+public interface SqlStatRecorder {
+
+    void begin();
+
+    void end(DatabaseInfo databaseInfo, ParsingResult parsingResult, Throwable throwable);
+
+}
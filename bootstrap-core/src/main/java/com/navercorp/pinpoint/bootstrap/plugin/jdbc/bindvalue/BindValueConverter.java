@@ -107,4 +107,11 @@ public class BindValueConverter {
         return converter.convert0(methodName, args);
     }
 
+    /**
+     * @return converter of the given setXxx() method or null if not supported
+     */
+    public static Converter getConverter(String methodName) {
+        return converter.convertermap.get(methodName);
+    }
+
 }
@@ -0,0 +1,151 @@
+/*
+ * Copyright 2018 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.pinpoint.bootstrap.plugin.jdbc.bindvalue;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+
+/**
+ * Keeps the arguments of PreparedStatement setXxx() calls by parameterIndex.
+ * Immutable values are converted to string only when the bind values are actually recorded.
+ * Other values (byte[], Date, Timestamp, setObject() values...) are converted when bound,
+ * because the application may modify them before execute and the reference would keep a large value alive.
+ * Not thread safe. one instance per statement.
+ */
+public class BindValueRecorder {
+
+    private static final int DEFAULT_CAPACITY = 8;
+
+    // args[0] is the value converted when bound
+    private static final Converter CONVERTED = new Converter() {
+        @Override
+        public String convert(Object[] args) {
+            return (String) args[0];
+        }
+    };
+
+    private Converter[] converters;
+    private Object[][] arguments;
+    // largest parameterIndex recorded. PreparedStatement first parameterIndex is 1
+    private int size;
+
+    public BindValueRecorder() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    public BindValueRecorder(int initialCapacity) {
+        if (initialCapacity < 0) {
+            throw new IllegalArgumentException("negative initialCapacity:" + initialCapacity);
+        }
+        this.converters = new Converter[initialCapacity];
+        this.arguments = new Object[initialCapacity][];
+    }
+
+    public void record(int parameterIndex, Converter converter, Object[] args) {
+        if (parameterIndex < 1) {
+            // invalid index. PreparedStatement first parameterIndex is 1
+            return;
+        }
+        final int arrayIndex = parameterIndex - 1;
+        ensureCapacity(parameterIndex);
+        if (converter != null && args != null && !isImmutableValue(args)) {
+            this.converters[arrayIndex] = CONVERTED;
+            this.arguments[arrayIndex] = new Object[] {converter.convert(args)};
+        } else {
+            this.converters[arrayIndex] = converter;
+            this.arguments[arrayIndex] = args;
+        }
+        if (size < parameterIndex) {
+            size = parameterIndex;
+        }
+    }
+
+    private static boolean isImmutableValue(Object[] args) {
+        if (args.length < 2) {
+            return true;
+        }
+        final Object value = args[1];
+        return value == null || value instanceof String || value instanceof Integer || value instanceof Long
+                || value instanceof Boolean || value instanceof Short || value instanceof Byte || value instanceof Character
+                || value instanceof Double || value instanceof Float || value instanceof BigDecimal || value instanceof BigInteger;
+    }
+
+    private void ensureCapacity(int minCapacity) {
+        final int capacity = converters.length;
+        if (minCapacity <= capacity) {
+            return;
+        }
+        final int newCapacity = Math.max(minCapacity, capacity << 1);
+
+        final Converter[] newConverters = new Converter[newCapacity];
+        System.arraycopy(converters, 0, newConverters, 0, size);
+        this.converters = newConverters;
+
+        final Object[][] newArguments = new Object[newCapacity][];
+        System.arraycopy(arguments, 0, newArguments, 0, size);
+        this.arguments = newArguments;
+    }
+
+    /**
+     * @return largest recorded parameterIndex
+     */
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * @param arrayIndex parameterIndex - 1
+     * @return converted bind value or null if the parameter is not bound
+     */
+    public String getBindValue(int arrayIndex) {
+        if (arrayIndex < 0 || arrayIndex >= size) {
+            throw new IndexOutOfBoundsException("arrayIndex:" + arrayIndex + ", size:" + size);
+        }
+        final Object[] args = arguments[arrayIndex];
+        if (args == null) {
+            return null;
+        }
+        final Converter converter = converters[arrayIndex];
+        if (converter == null) {
+            return "";
+        }
+        return converter.convert(args);
+    }
+
+    /**
+     * release references to the bound values and reuse the arrays.
+     */
+    public void clear() {
+        for (int i = 0; i < size; i++) {
+            converters[i] = null;
+            arguments[i] = null;
+        }
+        size = 0;
+    }
+
+    @Override
+    public String toString() {
+        return "BindValueRecorder{" +
+                "size=" + size +
+                ", capacity=" + converters.length +
+                '}';
+    }
+}
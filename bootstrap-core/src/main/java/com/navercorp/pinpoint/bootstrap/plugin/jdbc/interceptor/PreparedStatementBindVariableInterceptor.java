@@ -16,9 +16,6 @@
 
 package com.navercorp.pinpoint.bootstrap.plugin.jdbc.interceptor;
 
-import java.util.HashMap;
-import java.util.Map;
-
 import com.navercorp.pinpoint.bootstrap.context.Trace;
 import com.navercorp.pinpoint.bootstrap.context.TraceContext;
 import com.navercorp.pinpoint.bootstrap.interceptor.StaticAroundInterceptor;
@@ -26,6 +23,7 @@ import com.navercorp.pinpoint.bootstrap.logging.PLogger;
 import com.navercorp.pinpoint.bootstrap.logging.PLoggerFactory;
 import com.navercorp.pinpoint.bootstrap.plugin.jdbc.BindValueAccessor;
 import com.navercorp.pinpoint.bootstrap.plugin.jdbc.bindvalue.BindValueConverter;
+import com.navercorp.pinpoint.bootstrap.plugin.jdbc.bindvalue.BindValueRecorder;
 import com.navercorp.pinpoint.bootstrap.util.NumberUtils;
 
 /**
@@ -72,13 +70,13 @@ public class PreparedStatementBindVariableInterceptor implements StaticAroundInt
             return;
         }
 
-        Map<Integer, String> bindList = ((BindValueAccessor) target)._$PINPOINT$_getBindValue();
-        if (bindList == null) {
-            bindList = new HashMap<Integer, String>();
-            ((BindValueAccessor) target)._$PINPOINT$_setBindValue(bindList);
+        BindValueRecorder bindValueRecorder = ((BindValueAccessor) target)._$PINPOINT$_getBindValue();
+        if (bindValueRecorder == null) {
+            bindValueRecorder = new BindValueRecorder();
+            ((BindValueAccessor) target)._$PINPOINT$_setBindValue(bindValueRecorder);
         }
 
-        final String value = BindValueConverter.convert(methodName, args);
-        bindList.put(index, value);
+        // conversion is deferred until the sql is recorded
+        bindValueRecorder.record(index, BindValueConverter.getConverter(methodName), args);
     }
 }
\ No newline at end of file
@@ -16,9 +16,6 @@
 
 package com.navercorp.pinpoint.bootstrap.plugin.jdbc.interceptor;
 
-import java.util.HashMap;
-import java.util.Map;
-
 import com.navercorp.pinpoint.bootstrap.context.DatabaseInfo;
 import com.navercorp.pinpoint.bootstrap.context.MethodDescriptor;
 import com.navercorp.pinpoint.bootstrap.context.ParsingResult;
@@ -31,7 +28,9 @@ import com.navercorp.pinpoint.bootstrap.logging.PLoggerFactory;
 import com.navercorp.pinpoint.bootstrap.plugin.jdbc.BindValueAccessor;
 import com.navercorp.pinpoint.bootstrap.plugin.jdbc.DatabaseInfoAccessor;
 import com.navercorp.pinpoint.bootstrap.plugin.jdbc.ParsingResultAccessor;
+import com.navercorp.pinpoint.bootstrap.plugin.jdbc.SqlStatRecorder;
 import com.navercorp.pinpoint.bootstrap.plugin.jdbc.UnKnownDatabaseInfo;
+import com.navercorp.pinpoint.bootstrap.plugin.jdbc.bindvalue.BindValueRecorder;
 import com.navercorp.pinpoint.bootstrap.plugin.jdbc.bindvalue.BindValueUtils;
 
 /**
@@ -72,28 +71,26 @@ public class PreparedStatementExecuteQueryInterceptor implements AroundIntercept
             logger.beforeInterceptor(target, args);
         }
 
-        Trace trace = traceContext.currentTraceObject();
+        Trace trace = traceContext.currentRawTraceObject();
         if (trace == null) {
             return;
         }
+        // sql stat also covers unsampled requests
+        getSqlStatRecorder().begin();
+        if (!trace.canSampled()) {
+            return;
+        }
 
         SpanEventRecorder recorder = trace.traceBlockBegin();
         try {
-            DatabaseInfo databaseInfo = (target instanceof DatabaseInfoAccessor) ? ((DatabaseInfoAccessor)target)._$PINPOINT$_getDatabaseInfo() : null;
-            
-            if (databaseInfo == null) {
-                databaseInfo = UnKnownDatabaseInfo.INSTANCE;
-            }
+            DatabaseInfo databaseInfo = getDatabaseInfo(target);
             
             recorder.recordServiceType(databaseInfo.getExecuteQueryType());
             recorder.recordEndPoint(databaseInfo.getMultipleHost());
             recorder.recordDestinationId(databaseInfo.getDatabaseId());
 
-            ParsingResult parsingResult = null;
-            if (target instanceof ParsingResultAccessor) {
-                parsingResult = ((ParsingResultAccessor)target)._$PINPOINT$_getParsingResult();
-            }
-            Map<Integer, String> bindValue = null;
+            ParsingResult parsingResult = getParsingResult(target);
+            BindValueRecorder bindValue = null;
             if (target instanceof BindValueAccessor) {
                 bindValue = ((BindValueAccessor)target)._$PINPOINT$_getBindValue();
             }
@@ -121,13 +118,35 @@ public class PreparedStatementExecuteQueryInterceptor implements AroundIntercept
 
     }
 
+    private SqlStatRecorder getSqlStatRecorder() {
+        return traceContext.getJdbcContext().getSqlStatRecorder();
+    }
+
+    private DatabaseInfo getDatabaseInfo(Object target) {
+        DatabaseInfo databaseInfo = (target instanceof DatabaseInfoAccessor) ? ((DatabaseInfoAccessor)target)._$PINPOINT$_getDatabaseInfo() : null;
+        if (databaseInfo == null) {
+            databaseInfo = UnKnownDatabaseInfo.INSTANCE;
+        }
+        return databaseInfo;
+    }
+
+    private ParsingResult getParsingResult(Object target) {
+        if (target instanceof ParsingResultAccessor) {
+            return ((ParsingResultAccessor)target)._$PINPOINT$_getParsingResult();
+        }
+        return null;
+    }
+
     private void clean(Object target) {
         if (target instanceof BindValueAccessor) {
-            ((BindValueAccessor)target)._$PINPOINT$_setBindValue(new HashMap<Integer, String>());
+            final BindValueRecorder bindValue = ((BindValueAccessor)target)._$PINPOINT$_getBindValue();
+            if (bindValue != null) {
+                bindValue.clear();
+            }
         }
     }
 
-    private String toBindVariable(Map<Integer, String> bindValue) {
+    private String toBindVariable(BindValueRecorder bindValue) {
         return BindValueUtils.bindValueToString(bindValue, maxSqlBindValueLength);
     }
 
@@ -137,12 +156,21 @@ public class PreparedStatementExecuteQueryInterceptor implements AroundIntercept
             logger.afterInterceptor(target, args, result, throwable);
         }
 
-        Trace trace = traceContext.currentTraceObject();
+        Trace trace = traceContext.currentRawTraceObject();
         if (trace == null) {
             return;
         }
+        try {
+            getSqlStatRecorder().end(getDatabaseInfo(target), getParsingResult(target), throwable);
+        } catch (Exception e) {
+            if (logger.isWarnEnabled()) {
+                logger.warn(e.getMessage(), e);
+            }
+        }
+        if (!trace.canSampled()) {
+            return;
+        }
 
-        
         try {
             SpanEventRecorder recorder = trace.currentSpanEventRecorder();
             // TODO Test if it's success. if failed terminate. else calculate resultset fetch too. we'd better make resultset fetch optional.
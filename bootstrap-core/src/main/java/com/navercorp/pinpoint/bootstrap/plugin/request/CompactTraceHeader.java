@@ -0,0 +1,175 @@
+/*
+ * Copyright 2018 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.pinpoint.bootstrap.plugin.request;
+
+import com.navercorp.pinpoint.bootstrap.context.Header;
+import com.navercorp.pinpoint.common.util.Assert;
+
+/**
+ * Single header carrying everything the legacy {@link Header} set propagates for a sampled request.
+ * <pre>
+ * version;transactionId;spanId;parentSpanId;flags;parentApplicationName;parentApplicationType;parentApplicationNamespace;host
+ * </pre>
+ * Numbers are written in radix 36. An empty namespace means it is the same as the parent application name
+ * and an empty host means no host was propagated.
+ * None of the fields may contain the delimiter (agentId and applicationName are restricted by IdValidateUtils).
+ */
+public final class CompactTraceHeader {
+
+    public static final char VERSION = '1';
+    public static final char DELIMITER = ';';
+    private static final int RADIX = Character.MAX_RADIX;
+    private static final int FIELD_COUNT = 8;
+
+    private final String transactionId;
+    private final long spanId;
+    private final long parentSpanId;
+    private final short flags;
+    private final String parentApplicationName;
+    private final short parentApplicationType;
+    private final String parentApplicationNamespace;
+    private final String host;
+
+    public CompactTraceHeader(String transactionId, long spanId, long parentSpanId, short flags,
+                              String parentApplicationName, short parentApplicationType, String parentApplicationNamespace, String host) {
+        this.transactionId = Assert.requireNonNull(transactionId, "transactionId must not be null");
+        this.spanId = spanId;
+        this.parentSpanId = parentSpanId;
+        this.flags = flags;
+        this.parentApplicationName = Assert.requireNonNull(parentApplicationName, "parentApplicationName must not be null");
+        this.parentApplicationType = parentApplicationType;
+        this.parentApplicationNamespace = parentApplicationNamespace;
+        this.host = host;
+    }
+
+    public String getTransactionId() {
+        return transactionId;
+    }
+
+    public long getSpanId() {
+        return spanId;
+    }
+
+    public long getParentSpanId() {
+        return parentSpanId;
+    }
+
+    public short getFlags() {
+        return flags;
+    }
+
+    public String getParentApplicationName() {
+        return parentApplicationName;
+    }
+
+    public short getParentApplicationType() {
+        return parentApplicationType;
+    }
+
+    public String getParentApplicationNamespace() {
+        return parentApplicationNamespace;
+    }
+
+    public String getHost() {
+        return host;
+    }
+
+    public String format() {
+        final StringBuilder sb = new StringBuilder(128);
+        sb.append(VERSION).append(DELIMITER);
+        sb.append(transactionId).append(DELIMITER);
+        sb.append(Long.toString(spanId, RADIX)).append(DELIMITER);
+        sb.append(Long.toString(parentSpanId, RADIX)).append(DELIMITER);
+        sb.append(Integer.toString(flags, RADIX)).append(DELIMITER);
+        sb.append(parentApplicationName).append(DELIMITER);
+        sb.append(Integer.toString(parentApplicationType, RADIX)).append(DELIMITER);
+        if (parentApplicationNamespace != null && !parentApplicationNamespace.equals(parentApplicationName)) {
+            sb.append(parentApplicationNamespace);
+        }
+        sb.append(DELIMITER);
+        if (host != null) {
+            sb.append(host);
+        }
+        return sb.toString();
+    }
+
+    /**
+     * @return the compact trace header the given trace header was read from, null if it was read from the legacy headers
+     */
+    public static CompactTraceHeader from(TraceHeader traceHeader) {
+        if (traceHeader instanceof ContinueTraceHeader) {
+            return ((ContinueTraceHeader) traceHeader).getCompactTraceHeader();
+        }
+        return null;
+    }
+
+    /**
+     * @return null if the value is not a compact trace header this version understands
+     */
+    public static CompactTraceHeader parse(String value) {
+        if (value == null || value.length() < 2) {
+            return null;
+        }
+        if (value.charAt(0) != VERSION || value.charAt(1) != DELIMITER) {
+            return null;
+        }
+
+        final String[] fields = new String[FIELD_COUNT];
+        int start = 2;
+        for (int i = 0; i < FIELD_COUNT - 1; i++) {
+            final int end = value.indexOf(DELIMITER, start);
+            if (end == -1) {
+                return null;
+            }
+            fields[i] = value.substring(start, end);
+            start = end + 1;
+        }
+        // host is the last field and may be empty
+        fields[FIELD_COUNT - 1] = value.substring(start);
+
+        final String transactionId = fields[0];
+        final String parentApplicationName = fields[4];
+        if (transactionId.length() == 0 || parentApplicationName.length() == 0) {
+            return null;
+        }
+        try {
+            final long spanId = Long.parseLong(fields[1], RADIX);
+            final long parentSpanId = Long.parseLong(fields[2], RADIX);
+            final short flags = Short.parseShort(fields[3], RADIX);
+            final short parentApplicationType = Short.parseShort(fields[5], RADIX);
+            final String parentApplicationNamespace = fields[6].length() == 0 ? parentApplicationName : fields[6];
+            final String host = fields[7].length() == 0 ? null : fields[7];
+            return new CompactTraceHeader(transactionId, spanId, parentSpanId, flags, parentApplicationName, parentApplicationType, parentApplicationNamespace, host);
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "CompactTraceHeader{" +
+                "transactionId='" + transactionId + '\'' +
+                ", spanId=" + spanId +
+                ", parentSpanId=" + parentSpanId +
+                ", flags=" + flags +
+                ", parentApplicationName='" + parentApplicationName + '\'' +
+                ", parentApplicationType=" + parentApplicationType +
+                ", parentApplicationNamespace='" + parentApplicationNamespace + '\'' +
+                ", host='" + host + '\'' +
+                '}';
+    }
+}
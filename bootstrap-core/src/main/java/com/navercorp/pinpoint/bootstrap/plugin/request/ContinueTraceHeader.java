@@ -28,12 +28,22 @@ public class ContinueTraceHeader implements TraceHeader {
     private long parentSpanId;
     private long spanId;
     private short flags;
+    private final CompactTraceHeader compactTraceHeader;
 
     public ContinueTraceHeader(String transactionId, long parentSpanId, long spanId, short flags) {
         this.transactionId = Assert.requireNonNull(transactionId, "transactionId must not be null");
         this.parentSpanId = parentSpanId;
         this.spanId = spanId;
         this.flags = flags;
+        this.compactTraceHeader = null;
+    }
+
+    public ContinueTraceHeader(CompactTraceHeader compactTraceHeader) {
+        this.compactTraceHeader = Assert.requireNonNull(compactTraceHeader, "compactTraceHeader must not be null");
+        this.transactionId = compactTraceHeader.getTransactionId();
+        this.parentSpanId = compactTraceHeader.getParentSpanId();
+        this.spanId = compactTraceHeader.getSpanId();
+        this.flags = compactTraceHeader.getFlags();
     }
 
 
@@ -62,6 +72,13 @@ public class ContinueTraceHeader implements TraceHeader {
         return flags;
     }
 
+    /**
+     * @return the compact trace header this header was read from, null if it was read from the legacy headers
+     */
+    public CompactTraceHeader getCompactTraceHeader() {
+        return compactTraceHeader;
+    }
+
     @Override
     public String toString() {
         return "ContinueTraceHeader{" +
@@ -34,17 +34,24 @@ public class DefaultRequestTraceWriter<T> implements RequestTraceWriter<T> {
     private final String applicationName;
     private final short serverTypeCode;
     private final String applicationNamespace;
+    private final boolean compactTraceHeader;
 
     public DefaultRequestTraceWriter(ClientHeaderAdaptor<T> clientHeaderAdaptor, TraceContext traceContext) {
-        this(clientHeaderAdaptor, traceContext.getApplicationName(), traceContext.getServerTypeCode(), traceContext.getApplicationName());
+        this(clientHeaderAdaptor, traceContext.getApplicationName(), traceContext.getServerTypeCode(), traceContext.getApplicationName(),
+                traceContext.getProfilerConfig().isCompactTraceHeaderEnable());
     }
 
     public DefaultRequestTraceWriter(ClientHeaderAdaptor<T> clientHeaderAdaptor, String applicationName, short serverTypeCode, String applicationNamespace) {
+        this(clientHeaderAdaptor, applicationName, serverTypeCode, applicationNamespace, false);
+    }
+
+    public DefaultRequestTraceWriter(ClientHeaderAdaptor<T> clientHeaderAdaptor, String applicationName, short serverTypeCode, String applicationNamespace, boolean compactTraceHeader) {
         this.clientHeaderAdaptor = Assert.requireNonNull(clientHeaderAdaptor, "clientHeaderAdaptor must not be null");
 
         this.applicationName = Assert.requireNonNull(applicationName, "applicationName must not be null");
         this.serverTypeCode = serverTypeCode;
         this.applicationNamespace = Assert.requireNonNull(applicationNamespace, "applicationNamespace must not be null");
+        this.compactTraceHeader = compactTraceHeader;
     }
 
     @Override
@@ -63,6 +70,13 @@ public class DefaultRequestTraceWriter<T> implements RequestTraceWriter<T> {
         if (isDebug) {
             logger.debug("Set request header. traceId={}, applicationName={}, serverTypeCode={}, applicationNamespace={}", traceId, applicationName, serverTypeCode, applicationNamespace);
         }
+        if (compactTraceHeader) {
+            final CompactTraceHeader compact = new CompactTraceHeader(traceId.getTransactionId(), traceId.getSpanId(), traceId.getParentSpanId(), traceId.getFlags(),
+                    applicationName, serverTypeCode, applicationNamespace, host);
+            clientHeaderAdaptor.setHeader(header, Header.HTTP_COMPACT_TRACE.toString(), compact.format());
+            return;
+        }
+
         clientHeaderAdaptor.setHeader(header, Header.HTTP_TRACE_ID.toString(), traceId.getTransactionId());
         clientHeaderAdaptor.setHeader(header, Header.HTTP_SPAN_ID.toString(), String.valueOf(traceId.getSpanId()));
         clientHeaderAdaptor.setHeader(header, Header.HTTP_PARENT_SPAN_ID.toString(), String.valueOf(traceId.getParentSpanId()));
@@ -52,6 +52,11 @@ public class DefaultTraceHeaderReader<T> implements TraceHeaderReader<T> {
         final String transactionId = requestAdaptor.getHeader(request, Header.HTTP_TRACE_ID.toString());
         // TODO miss validation check
         if (transactionId == null) {
+            // the compact header replaces the legacy headers of sampled requests, legacy requests never look it up
+            final CompactTraceHeader compactTraceHeader = readCompactTraceHeader(request);
+            if (compactTraceHeader != null) {
+                return new ContinueTraceHeader(compactTraceHeader);
+            }
             return NewTraceHeader.INSTANCE;
         }
         final String parentSpanIdStr = requestAdaptor.getHeader(request, Header.HTTP_PARENT_SPAN_ID.toString());
@@ -74,6 +79,20 @@ public class DefaultTraceHeaderReader<T> implements TraceHeaderReader<T> {
         return new ContinueTraceHeader(transactionId, parentSpanId, spanId, flags);
     }
 
+    private CompactTraceHeader readCompactTraceHeader(final T request) {
+        final String value = requestAdaptor.getHeader(request, Header.HTTP_COMPACT_TRACE.toString());
+        if (value == null) {
+            return null;
+        }
+        final CompactTraceHeader compactTraceHeader = CompactTraceHeader.parse(value);
+        if (compactTraceHeader == null) {
+            if (isDebug) {
+                logger.debug("Invalid compact trace header. {}={}, fallback to legacy headers", Header.HTTP_COMPACT_TRACE, value);
+            }
+        }
+        return compactTraceHeader;
+    }
+
     private boolean samplingEnable(final T request) {
         final String samplingFlag = requestAdaptor.getHeader(request, Header.HTTP_SAMPLED.toString());
         if (isDebug) {
@@ -54,9 +54,21 @@ public class RequestTraceReader<T> {
 
     // Read the transaction information from the request.
     public Trace read(T request) {
+        return read(request, readTraceHeader(request));
+    }
+
+    public TraceHeader readTraceHeader(T request) {
+        Assert.requireNonNull(request, "request must not be null");
+        return traceHeaderReader.read(request);
+    }
+
+    /**
+     * @param traceHeader read by {@link #readTraceHeader(Object)}, pass it on to {@link ServerRequestRecorder} as well
+     */
+    public Trace read(T request, TraceHeader traceHeader) {
         Assert.requireNonNull(request, "request must not be null");
+        Assert.requireNonNull(traceHeader, "traceHeader must not be null");
 
-        final TraceHeader traceHeader = traceHeaderReader.read(request);
         // Check sampling flag from client. If the flag is false, do not sample this request.
         final TraceHeaderState state = traceHeader.getState();
         if (state == TraceHeaderState.DISABLE) {
@@ -70,7 +82,7 @@ public class RequestTraceReader<T> {
         }
 
         if (state == TraceHeaderState.CONTINUE) {
-            if (!nameSpaceChecker.checkNamespace(request)) {
+            if (!nameSpaceChecker.checkNamespace(request, traceHeader)) {
                 return newTrace(request);
             }
 
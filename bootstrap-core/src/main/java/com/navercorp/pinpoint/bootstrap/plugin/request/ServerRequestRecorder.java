@@ -38,6 +38,13 @@ public class ServerRequestRecorder<T> {
 
     // Records the server's request information.
     public void record(final SpanRecorder recorder, final T request) {
+        record(recorder, request, null);
+    }
+
+    /**
+     * @param traceHeader the header the trace was read from, saves reading the compact trace header again. null if unknown.
+     */
+    public void record(final SpanRecorder recorder, final T request, final TraceHeader traceHeader) {
         if (recorder == null || request == null) {
             return;
         }
@@ -60,11 +67,17 @@ public class ServerRequestRecorder<T> {
         }
 
         if (!recorder.isRoot()) {
-            recordParentInfo(recorder, request);
+            recordParentInfo(recorder, request, traceHeader);
         }
     }
 
-    private void recordParentInfo(final SpanRecorder recorder, final T request) {
+    private void recordParentInfo(final SpanRecorder recorder, final T request, final TraceHeader traceHeader) {
+        final CompactTraceHeader compactTraceHeader = getCompactTraceHeader(request, traceHeader);
+        if (compactTraceHeader != null) {
+            recordParentInfo(recorder, request, compactTraceHeader);
+            return;
+        }
+
         final String parentApplicationName = requestAdaptor.getHeader(request, Header.HTTP_PARENT_APPLICATION_NAME.toString());
         if (parentApplicationName != null) {
             String host = requestAdaptor.getHeader(request, Header.HTTP_HOST.toString());
@@ -88,4 +101,26 @@ public class ServerRequestRecorder<T> {
             }
         }
     }
+
+    private CompactTraceHeader getCompactTraceHeader(final T request, final TraceHeader traceHeader) {
+        if (traceHeader != null) {
+            return CompactTraceHeader.from(traceHeader);
+        }
+        return CompactTraceHeader.parse(requestAdaptor.getHeader(request, Header.HTTP_COMPACT_TRACE.toString()));
+    }
+
+    private void recordParentInfo(final SpanRecorder recorder, final T request, final CompactTraceHeader compactTraceHeader) {
+        String host = compactTraceHeader.getHost();
+        if (host == null) {
+            host = requestAdaptor.getAcceptorHost(request);
+        }
+        recorder.recordAcceptorHost(host);
+
+        final String parentApplicationName = compactTraceHeader.getParentApplicationName();
+        final short parentApplicationType = compactTraceHeader.getParentApplicationType();
+        recorder.recordParentApplication(parentApplicationName, parentApplicationType);
+        if (isDebug) {
+            logger.debug("Record acceptorHost={}, parentApplicationName={}, parentApplicationType={}", host, parentApplicationName, parentApplicationType);
+        }
+    }
 }
\ No newline at end of file
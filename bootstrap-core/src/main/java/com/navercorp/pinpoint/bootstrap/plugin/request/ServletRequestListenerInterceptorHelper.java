@@ -107,13 +107,14 @@ public class ServletRequestListenerInterceptorHelper<T> {
             return null;
         }
 
-        final Trace trace = this.requestTraceReader.read(request);
+        final TraceHeader traceHeader = this.requestTraceReader.readTraceHeader(request);
+        final Trace trace = this.requestTraceReader.read(request, traceHeader);
         if (trace.canSampled()) {
             final SpanRecorder recorder = trace.getSpanRecorder();
             // record root span
             recorder.recordServiceType(this.serviceType);
             recorder.recordApi(SERVLET_SYNC_METHOD_DESCRIPTOR);
-            this.serverRequestRecorder.record(recorder, request);
+            this.serverRequestRecorder.record(recorder, request, traceHeader);
             // record proxy HTTP header.
             this.proxyHttpHeaderRecorder.record(recorder, request);
         }
@@ -16,6 +16,8 @@
 
 package com.navercorp.pinpoint.bootstrap.plugin.request.util;
 
+import com.navercorp.pinpoint.bootstrap.plugin.request.TraceHeader;
+
 /**
  * @author Woonduk Kang(emeroad)
  */
@@ -24,4 +26,9 @@ public class BypassNameSpaceChecker<T> implements NameSpaceChecker<T> {
     public boolean checkNamespace(T request) {
         return true;
     }
+
+    @Override
+    public boolean checkNamespace(T request, TraceHeader traceHeader) {
+        return true;
+    }
 }
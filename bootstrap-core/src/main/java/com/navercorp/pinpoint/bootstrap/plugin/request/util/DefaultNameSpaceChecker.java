@@ -19,7 +19,9 @@ package com.navercorp.pinpoint.bootstrap.plugin.request.util;
 import com.navercorp.pinpoint.bootstrap.context.Header;
 import com.navercorp.pinpoint.bootstrap.logging.PLogger;
 import com.navercorp.pinpoint.bootstrap.logging.PLoggerFactory;
+import com.navercorp.pinpoint.bootstrap.plugin.request.CompactTraceHeader;
 import com.navercorp.pinpoint.bootstrap.plugin.request.RequestAdaptor;
+import com.navercorp.pinpoint.bootstrap.plugin.request.TraceHeader;
 import com.navercorp.pinpoint.common.util.Assert;
 import com.navercorp.pinpoint.common.util.StringUtils;
 
@@ -44,8 +46,17 @@ public class DefaultNameSpaceChecker<T> implements NameSpaceChecker<T> {
 
     @Override
     public boolean checkNamespace(T request) {
+        final CompactTraceHeader compactTraceHeader = CompactTraceHeader.parse(requestAdaptor.getHeader(request, Header.HTTP_COMPACT_TRACE.toString()));
+        return checkNamespace(getParentApplicationNamespace(request, compactTraceHeader));
+    }
+
+    @Override
+    public boolean checkNamespace(T request, TraceHeader traceHeader) {
+        final CompactTraceHeader compactTraceHeader = CompactTraceHeader.from(traceHeader);
+        return checkNamespace(getParentApplicationNamespace(request, compactTraceHeader));
+    }
 
-        final String parentApplicationNamespace = requestAdaptor.getHeader(request, Header.HTTP_PARENT_APPLICATION_NAMESPACE.toString());
+    private boolean checkNamespace(String parentApplicationNamespace) {
         // If parentApplicationNamespace is null, it is ignored for backwards compatibility.
         if (parentApplicationNamespace == null) {
             return true;
@@ -59,4 +70,11 @@ public class DefaultNameSpaceChecker<T> implements NameSpaceChecker<T> {
         }
         return false;
     }
+
+    private String getParentApplicationNamespace(T request, CompactTraceHeader compactTraceHeader) {
+        if (compactTraceHeader != null) {
+            return compactTraceHeader.getParentApplicationNamespace();
+        }
+        return requestAdaptor.getHeader(request, Header.HTTP_PARENT_APPLICATION_NAMESPACE.toString());
+    }
 }
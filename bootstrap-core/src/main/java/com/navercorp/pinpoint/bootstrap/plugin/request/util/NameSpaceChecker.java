@@ -16,9 +16,16 @@
 
 package com.navercorp.pinpoint.bootstrap.plugin.request.util;
 
+import com.navercorp.pinpoint.bootstrap.plugin.request.TraceHeader;
+
 /**
  * @author Woonduk Kang(emeroad)
  */
 public interface NameSpaceChecker<T> {
     boolean checkNamespace(T request);
+
+    /**
+     * @param traceHeader the header the trace is continued from, saves reading the compact trace header again
+     */
+    boolean checkNamespace(T request, TraceHeader traceHeader);
 }
@@ -0,0 +1,165 @@
+/*
+ * Copyright 2018 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.pinpoint.bootstrap.plugin.jdbc.bindvalue;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.sql.Timestamp;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.Map;
+
+public class BindValueRecorderTest {
+
+    @Test
+    public void testBindValueToString() throws Exception {
+        BindValueRecorder recorder = new BindValueRecorder();
+        record(recorder, 1, "setString", "a");
+        record(recorder, 2, "setInt", 1);
+        record(recorder, 3, "setNull", null);
+
+        String result = BindValueUtils.bindValueToString(recorder, 1024);
+        Assert.assertEquals("a, 1, null", result);
+    }
+
+    @Test
+    public void testBindValueToString_sameAsMap() throws Exception {
+        BindValueRecorder recorder = new BindValueRecorder();
+        Map<Integer, String> bindValueMap = new HashMap<Integer, String>();
+
+        record(recorder, bindValueMap, 1, "setString", "abc");
+        record(recorder, bindValueMap, 2, "setLong", 12345678901L);
+        // skip 3
+        record(recorder, bindValueMap, 4, "setBoolean", Boolean.TRUE);
+        record(recorder, bindValueMap, 5, "setXxxx", "not supported");
+
+        for (int limit : new int[] {-1, 0, 1, 3, 10, 100}) {
+            Assert.assertEquals("limit:" + limit, BindValueUtils.bindValueToString(bindValueMap, limit), BindValueUtils.bindValueToString(recorder, limit));
+        }
+    }
+
+    @Test
+    public void testBindValueToString_limit() throws Exception {
+        BindValueRecorder recorder = new BindValueRecorder();
+        record(recorder, 1, "setString", "a");
+        record(recorder, 2, "setString", "12345678901");
+        record(recorder, 3, "setString", "c");
+
+        String result = BindValueUtils.bindValueToString(recorder, 10);
+        Assert.assertEquals("a, 1234567890...(11), ...(3)", result);
+    }
+
+    @Test
+    public void testLazyConvert() throws Exception {
+        final int[] convertCount = new int[1];
+        Converter converter = new Converter() {
+            @Override
+            public String convert(Object[] args) {
+                convertCount[0]++;
+                return String.valueOf(args[1]);
+            }
+        };
+        BindValueRecorder recorder = new BindValueRecorder();
+        recorder.record(1, converter, new Object[] {1, "12345"});
+        recorder.record(2, converter, new Object[] {2, "b"});
+        recorder.record(3, converter, new Object[] {3, "c"});
+        Assert.assertEquals(0, convertCount[0]);
+
+        String result = BindValueUtils.bindValueToString(recorder, 5);
+        Assert.assertEquals("12345, ...(3)", result);
+        Assert.assertEquals(1, convertCount[0]);
+    }
+
+    @Test
+    public void testMutableValueConvertedWhenBound() throws Exception {
+        BindValueRecorder recorder = new BindValueRecorder();
+        final byte[] bytes = new byte[] {1, 2};
+        final Timestamp timestamp = new Timestamp(0);
+        final Date date = new Date(0);
+        record(recorder, 1, "setBytes", bytes);
+        record(recorder, 2, "setTimestamp", timestamp);
+        record(recorder, 3, "setObject", date);
+        final String expected = BindValueUtils.bindValueToString(recorder, 1024);
+
+        // modified by the application before execute
+        bytes[0] = 9;
+        timestamp.setTime(1000000);
+        date.setTime(1000000);
+
+        Assert.assertEquals(expected, BindValueUtils.bindValueToString(recorder, 1024));
+        Assert.assertEquals(BindValueConverter.convert("setBytes", new Object[] {1, new byte[] {1, 2}}), recorder.getBindValue(0));
+    }
+
+    @Test
+    public void testOverwrite() throws Exception {
+        BindValueRecorder recorder = new BindValueRecorder();
+        record(recorder, 1, "setString", "a");
+        record(recorder, 1, "setString", "b");
+
+        Assert.assertEquals(1, recorder.size());
+        Assert.assertEquals("b", BindValueUtils.bindValueToString(recorder, 100));
+    }
+
+    @Test
+    public void testGrow() throws Exception {
+        BindValueRecorder recorder = new BindValueRecorder(1);
+        record(recorder, 1, "setInt", 1);
+        record(recorder, 20, "setInt", 20);
+
+        Assert.assertEquals(20, recorder.size());
+        Assert.assertEquals("1", recorder.getBindValue(0));
+        Assert.assertNull(recorder.getBindValue(1));
+        Assert.assertEquals("20", recorder.getBindValue(19));
+    }
+
+    @Test
+    public void testClear() throws Exception {
+        BindValueRecorder recorder = new BindValueRecorder();
+        record(recorder, 1, "setString", "a");
+        record(recorder, 2, "setString", "b");
+
+        recorder.clear();
+        Assert.assertTrue(recorder.isEmpty());
+        Assert.assertEquals("", BindValueUtils.bindValueToString(recorder, 100));
+
+        record(recorder, 1, "setString", "c");
+        Assert.assertEquals("c", BindValueUtils.bindValueToString(recorder, 100));
+    }
+
+    @Test
+    public void test_index_error() throws Exception {
+        BindValueRecorder recorder = new BindValueRecorder();
+        record(recorder, -2, "setString", "-2");
+        record(recorder, 0, "setString", "0");
+
+        Assert.assertTrue(recorder.isEmpty());
+
+        record(recorder, 1, "setString", "1");
+        record(recorder, 3, "setString", "3");
+        Assert.assertEquals("1, , 3", BindValueUtils.bindValueToString(recorder, 100));
+    }
+
+    private void record(BindValueRecorder recorder, int index, String methodName, Object value) {
+        recorder.record(index, BindValueConverter.getConverter(methodName), new Object[] {index, value});
+    }
+
+    private void record(BindValueRecorder recorder, Map<Integer, String> bindValueMap, int index, String methodName, Object value) {
+        record(recorder, index, methodName, value);
+        bindValueMap.put(index, BindValueConverter.convert(methodName, new Object[] {index, value}));
+    }
+}
@@ -0,0 +1,156 @@
+/*
+ * Copyright 2018 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.pinpoint.bootstrap.plugin.request;
+
+import com.navercorp.pinpoint.bootstrap.context.Header;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+public class CompactTraceHeaderTest {
+
+    @Test
+    public void formatAndParse() {
+        CompactTraceHeader header = new CompactTraceHeader("agentId^1520000000000^10", -4320523591839117354L, Long.MAX_VALUE, (short) 1,
+                "appName", (short) 1010, "namespace", "localhost:8080");
+        CompactTraceHeader parse = CompactTraceHeader.parse(header.format());
+
+        Assert.assertEquals("agentId^1520000000000^10", parse.getTransactionId());
+        Assert.assertEquals(-4320523591839117354L, parse.getSpanId());
+        Assert.assertEquals(Long.MAX_VALUE, parse.getParentSpanId());
+        Assert.assertEquals(1, parse.getFlags());
+        Assert.assertEquals("appName", parse.getParentApplicationName());
+        Assert.assertEquals(1010, parse.getParentApplicationType());
+        Assert.assertEquals("namespace", parse.getParentApplicationNamespace());
+        Assert.assertEquals("localhost:8080", parse.getHost());
+    }
+
+    @Test
+    public void defaultNamespaceAndEmptyHost() {
+        CompactTraceHeader header = new CompactTraceHeader("agent-id^1^2", 1, -1, (short) 0, "app-name", (short) 1000, "app-name", null);
+        String value = header.format();
+        Assert.assertEquals("1;agent-id^1^2;1;-1;0;app-name;rs;;", value);
+
+        CompactTraceHeader parse = CompactTraceHeader.parse(value);
+        Assert.assertEquals("app-name", parse.getParentApplicationNamespace());
+        Assert.assertNull(parse.getHost());
+    }
+
+    @Test
+    public void parseInvalid() {
+        Assert.assertNull(CompactTraceHeader.parse(null));
+        Assert.assertNull(CompactTraceHeader.parse(""));
+        Assert.assertNull(CompactTraceHeader.parse("getHeader"));
+        Assert.assertNull(CompactTraceHeader.parse("2;agent^1^2;1;-1;0;app;rs;;"));
+        Assert.assertNull(CompactTraceHeader.parse("1;agent^1^2;1;-1;0;app;rs"));
+        Assert.assertNull(CompactTraceHeader.parse("1;agent^1^2;!;-1;0;app;rs;;"));
+        Assert.assertNull(CompactTraceHeader.parse("1;;1;-1;0;app;rs;;"));
+    }
+
+    @Test
+    public void readCompactHeader() {
+        Map<String, String> request = new HashMap<String, String>();
+        request.put(Header.HTTP_COMPACT_TRACE.toString(), "1;agent^1^2;a;b;1;app;rs;;");
+
+        TraceHeader traceHeader = new DefaultTraceHeaderReader<Map<String, String>>(new MapRequestAdaptor()).read(request);
+        Assert.assertEquals(TraceHeaderState.CONTINUE, traceHeader.getState());
+        Assert.assertEquals("agent^1^2", traceHeader.getTransactionId());
+        Assert.assertEquals(10, traceHeader.getSpanId());
+        Assert.assertEquals(11, traceHeader.getParentSpanId());
+        Assert.assertEquals(1, traceHeader.getFlags());
+    }
+
+    @Test
+    public void readLegacyHeaderFallback() {
+        Map<String, String> request = new HashMap<String, String>();
+        request.put(Header.HTTP_COMPACT_TRACE.toString(), "invalid");
+        request.put(Header.HTTP_TRACE_ID.toString(), "agent^1^2");
+        request.put(Header.HTTP_SPAN_ID.toString(), "10");
+        request.put(Header.HTTP_PARENT_SPAN_ID.toString(), "11");
+
+        TraceHeader traceHeader = new DefaultTraceHeaderReader<Map<String, String>>(new MapRequestAdaptor()).read(request);
+        Assert.assertEquals(TraceHeaderState.CONTINUE, traceHeader.getState());
+        Assert.assertEquals("agent^1^2", traceHeader.getTransactionId());
+        Assert.assertEquals(10, traceHeader.getSpanId());
+        Assert.assertEquals(11, traceHeader.getParentSpanId());
+        Assert.assertNull(CompactTraceHeader.from(traceHeader));
+    }
+
+    @Test
+    public void compactHeaderIsPassedAlong() {
+        Map<String, String> request = new HashMap<String, String>();
+        request.put(Header.HTTP_COMPACT_TRACE.toString(), "1;agent^1^2;a;b;1;app;rs;ns;host");
+
+        TraceHeader traceHeader = new DefaultTraceHeaderReader<Map<String, String>>(new MapRequestAdaptor()).read(request);
+        CompactTraceHeader compactTraceHeader = CompactTraceHeader.from(traceHeader);
+        Assert.assertEquals("app", compactTraceHeader.getParentApplicationName());
+        Assert.assertEquals("ns", compactTraceHeader.getParentApplicationNamespace());
+        Assert.assertEquals("host", compactTraceHeader.getHost());
+    }
+
+    @Test
+    public void readLegacyHeaderWithoutCompactHeaderLookup() {
+        Map<String, String> request = new HashMap<String, String>();
+        request.put(Header.HTTP_TRACE_ID.toString(), "agent^1^2");
+        request.put(Header.HTTP_SPAN_ID.toString(), "10");
+        request.put(Header.HTTP_PARENT_SPAN_ID.toString(), "11");
+
+        final Set<String> readHeaders = new HashSet<String>();
+        RequestAdaptor<Map<String, String>> requestAdaptor = new MapRequestAdaptor() {
+            @Override
+            public String getHeader(Map<String, String> request, String name) {
+                readHeaders.add(name);
+                return super.getHeader(request, name);
+            }
+        };
+        TraceHeader traceHeader = new DefaultTraceHeaderReader<Map<String, String>>(requestAdaptor).read(request);
+        Assert.assertEquals(TraceHeaderState.CONTINUE, traceHeader.getState());
+        Assert.assertFalse(readHeaders.contains(Header.HTTP_COMPACT_TRACE.toString()));
+    }
+
+    private static class MapRequestAdaptor implements RequestAdaptor<Map<String, String>> {
+
+        @Override
+        public String getHeader(Map<String, String> request, String name) {
+            return request.get(name);
+        }
+
+        @Override
+        public String getRpcName(Map<String, String> request) {
+            return null;
+        }
+
+        @Override
+        public String getEndPoint(Map<String, String> request) {
+            return null;
+        }
+
+        @Override
+        public String getRemoteAddress(Map<String, String> request) {
+            return null;
+        }
+
+        @Override
+        public String getAcceptorHost(Map<String, String> request) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,104 @@
+/*
+ * Copyright 2018 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.pinpoint.collector.alarm;
+
+import com.navercorp.pinpoint.common.server.bo.stat.AgentStatBo;
+import com.navercorp.pinpoint.common.server.bo.stat.CpuLoadBo;
+import com.navercorp.pinpoint.common.server.bo.stat.DataSourceBo;
+import com.navercorp.pinpoint.common.server.bo.stat.DataSourceListBo;
+import com.navercorp.pinpoint.common.server.bo.stat.JvmGcBo;
+import com.navercorp.pinpoint.common.util.CollectionUtils;
+
+import java.util.List;
+
+/**
+ * Sliding window of a single agent's stat.
+ */
+public class AgentStatWindow {
+
+    private final SlidingWindowCounter heapUsed;
+    private final SlidingWindowCounter heapMax;
+    private final SlidingWindowCounter jvmCpuLoad;
+    private final SlidingWindowCounter jvmCpuLoadSampleCount;
+    private final SlidingWindowCounter dataSourceConnectionUsageRate;
+
+    private volatile long lastUpdateTime;
+
+    public AgentStatWindow(long windowSize, long slotInterval) {
+        this.heapUsed = new SlidingWindowCounter(windowSize, slotInterval);
+        this.heapMax = new SlidingWindowCounter(windowSize, slotInterval);
+        this.jvmCpuLoad = new SlidingWindowCounter(windowSize, slotInterval);
+        this.jvmCpuLoadSampleCount = new SlidingWindowCounter(windowSize, slotInterval);
+        this.dataSourceConnectionUsageRate = new SlidingWindowCounter(windowSize, slotInterval);
+    }
+
+    /**
+     * Counted at the arrival time, the clock of the response times, not at the agent's timestamp.
+     */
+    public void update(AgentStatBo agentStatBo, long currentTime) {
+        final List<JvmGcBo> jvmGcBos = agentStatBo.getJvmGcBos();
+        if (CollectionUtils.hasLength(jvmGcBos)) {
+            for (JvmGcBo jvmGcBo : jvmGcBos) {
+                heapUsed.add(currentTime, jvmGcBo.getHeapUsed());
+                heapMax.add(currentTime, jvmGcBo.getHeapMax());
+            }
+        }
+
+        final List<CpuLoadBo> cpuLoadBos = agentStatBo.getCpuLoadBos();
+        if (CollectionUtils.hasLength(cpuLoadBos)) {
+            for (CpuLoadBo cpuLoadBo : cpuLoadBos) {
+                jvmCpuLoad.add(currentTime, (long) (cpuLoadBo.getJvmCpuLoad() * 100));
+                jvmCpuLoadSampleCount.add(currentTime, 1);
+            }
+        }
+
+        final List<DataSourceListBo> dataSourceListBos = agentStatBo.getDataSourceListBos();
+        if (CollectionUtils.hasLength(dataSourceListBos)) {
+            // usage rate of the most used datasource
+            for (DataSourceListBo dataSourceListBo : dataSourceListBos) {
+                for (DataSourceBo dataSourceBo : dataSourceListBo.getList()) {
+                    final long usageRate = calculatePercent(dataSourceBo.getActiveConnectionSize(), dataSourceBo.getMaxConnectionSize());
+                    dataSourceConnectionUsageRate.updateMax(currentTime, usageRate);
+                }
+            }
+        }
+        this.lastUpdateTime = currentTime;
+    }
+
+    public long getHeapUsageRate(long now) {
+        return calculatePercent(heapUsed.sum(now), heapMax.sum(now));
+    }
+
+    public long getJvmCpuUsageRate(long now) {
+        return calculatePercent(jvmCpuLoad.sum(now), 100 * jvmCpuLoadSampleCount.sum(now));
+    }
+
+    public long getDataSourceConnectionUsageRate(long now) {
+        return dataSourceConnectionUsageRate.max(now);
+    }
+
+    public long getLastUpdateTime() {
+        return lastUpdateTime;
+    }
+
+    static long calculatePercent(long used, long total) {
+        if (total == 0 || used == 0) {
+            return 0;
+        }
+        return (used * 100L) / total;
+    }
+}
@@ -0,0 +1,100 @@
+/*
+ * Copyright 2018 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.pinpoint.collector.alarm;
+
+/**
+ * Checkers which can be evaluated from the data flowing through the collector.
+ * names are the same as the web's CheckerCategory so that the same rule definition can be used.
+ */
+public enum AlarmCheckerCategory {
+
+    SLOW_COUNT("SLOW COUNT", "") {
+        @Override
+        public long getDetectedValue(ApplicationAlarmWindow window, long now) {
+            return window.getSlowCount(now);
+        }
+    },
+    SLOW_RATE("SLOW RATE", "%") {
+        @Override
+        public long getDetectedValue(ApplicationAlarmWindow window, long now) {
+            return window.getSlowRate(now);
+        }
+    },
+    ERROR_COUNT("ERROR COUNT", "") {
+        @Override
+        public long getDetectedValue(ApplicationAlarmWindow window, long now) {
+            return window.getErrorCount(now);
+        }
+    },
+    ERROR_RATE("ERROR RATE", "%") {
+        @Override
+        public long getDetectedValue(ApplicationAlarmWindow window, long now) {
+            return window.getErrorRate(now);
+        }
+    },
+    TOTAL_COUNT("TOTAL COUNT", "") {
+        @Override
+        public long getDetectedValue(ApplicationAlarmWindow window, long now) {
+            return window.getTotalCount(now);
+        }
+    },
+    HEAP_USAGE_RATE("HEAP USAGE RATE", "%") {
+        @Override
+        public long getDetectedValue(ApplicationAlarmWindow window, long now) {
+            return window.getMaxHeapUsageRate(now);
+        }
+    },
+    JVM_CPU_USAGE_RATE("JVM CPU USAGE RATE", "%") {
+        @Override
+        public long getDetectedValue(ApplicationAlarmWindow window, long now) {
+            return window.getMaxJvmCpuUsageRate(now);
+        }
+    },
+    DATASOURCE_CONNECTION_USAGE_RATE("DATASOURCE CONNECTION USAGE RATE", "%") {
+        @Override
+        public long getDetectedValue(ApplicationAlarmWindow window, long now) {
+            return window.getMaxDataSourceConnectionUsageRate(now);
+        }
+    };
+
+    private final String name;
+    private final String unit;
+
+    AlarmCheckerCategory(String name, String unit) {
+        this.name = name;
+        this.unit = unit;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public String getUnit() {
+        return unit;
+    }
+
+    public abstract long getDetectedValue(ApplicationAlarmWindow window, long now);
+
+    public static AlarmCheckerCategory getValue(String name) {
+        for (AlarmCheckerCategory category : AlarmCheckerCategory.values()) {
+            if (category.getName().equalsIgnoreCase(name) || category.name().equalsIgnoreCase(name)) {
+                return category;
+            }
+        }
+        return null;
+    }
+}
@@ -0,0 +1,64 @@
+/*
+ * Copyright 2018 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.pinpoint.collector.alarm;
+
+import java.util.Objects;
+
+public class AlarmRule {
+
+    private final String ruleId;
+    private final String applicationId;
+    private final AlarmCheckerCategory checkerCategory;
+    private final long threshold;
+
+    public AlarmRule(String ruleId, String applicationId, AlarmCheckerCategory checkerCategory, long threshold) {
+        this.ruleId = Objects.requireNonNull(ruleId, "ruleId must not be null");
+        this.applicationId = Objects.requireNonNull(applicationId, "applicationId must not be null");
+        this.checkerCategory = Objects.requireNonNull(checkerCategory, "checkerCategory must not be null");
+        this.threshold = threshold;
+    }
+
+    public String getRuleId() {
+        return ruleId;
+    }
+
+    public String getApplicationId() {
+        return applicationId;
+    }
+
+    public AlarmCheckerCategory getCheckerCategory() {
+        return checkerCategory;
+    }
+
+    public long getThreshold() {
+        return threshold;
+    }
+
+    public boolean isDetected(long detectedValue) {
+        return detectedValue >= threshold;
+    }
+
+    @Override
+    public String toString() {
+        return "AlarmRule{" +
+                "ruleId='" + ruleId + '\'' +
+                ", applicationId='" + applicationId + '\'' +
+                ", checkerCategory=" + checkerCategory.getName() +
+                ", threshold=" + threshold +
+                '}';
+    }
+}
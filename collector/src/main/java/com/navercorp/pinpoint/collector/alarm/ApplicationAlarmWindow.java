@@ -0,0 +1,139 @@
+/*
+ * Copyright 2018 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.pinpoint.collector.alarm;
+
+import com.navercorp.pinpoint.common.server.bo.stat.AgentStatBo;
+import com.navercorp.pinpoint.common.trace.HistogramSlot;
+import com.navercorp.pinpoint.common.trace.ServiceType;
+import com.navercorp.pinpoint.common.trace.SlotType;
+
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Sliding window counters of an application.
+ */
+public class ApplicationAlarmWindow {
+
+    private final String applicationName;
+    private final long windowSize;
+    private final long slotInterval;
+
+    private final SlidingWindowCounter totalCount;
+    private final SlidingWindowCounter errorCount;
+    private final SlidingWindowCounter slowCount;
+
+    private final ConcurrentMap<String, AgentStatWindow> agentStatWindowMap = new ConcurrentHashMap<>();
+
+    public ApplicationAlarmWindow(String applicationName, long windowSize, long slotInterval) {
+        this.applicationName = applicationName;
+        this.windowSize = windowSize;
+        this.slotInterval = slotInterval;
+        this.totalCount = new SlidingWindowCounter(windowSize, slotInterval);
+        this.errorCount = new SlidingWindowCounter(windowSize, slotInterval);
+        this.slowCount = new SlidingWindowCounter(windowSize, slotInterval);
+    }
+
+    public String getApplicationName() {
+        return applicationName;
+    }
+
+    public void updateResponseTime(ServiceType serviceType, long timestamp, int elapsed, boolean isError) {
+        totalCount.add(timestamp, 1);
+        if (isError) {
+            errorCount.add(timestamp, 1);
+            return;
+        }
+        final HistogramSlot histogramSlot = serviceType.getHistogramSchema().findHistogramSlot(elapsed, false);
+        final SlotType slotType = histogramSlot.getSlotType();
+        if (slotType == SlotType.SLOW || slotType == SlotType.VERY_SLOW) {
+            slowCount.add(timestamp, 1);
+        }
+    }
+
+    public void updateAgentStat(AgentStatBo agentStatBo, long currentTime) {
+        final String agentId = agentStatBo.getAgentId();
+        AgentStatWindow agentStatWindow = agentStatWindowMap.get(agentId);
+        if (agentStatWindow == null) {
+            agentStatWindow = new AgentStatWindow(windowSize, slotInterval);
+            final AgentStatWindow before = agentStatWindowMap.putIfAbsent(agentId, agentStatWindow);
+            if (before != null) {
+                agentStatWindow = before;
+            }
+        }
+        agentStatWindow.update(agentStatBo, currentTime);
+    }
+
+    public long getTotalCount(long now) {
+        return totalCount.sum(now);
+    }
+
+    public long getErrorCount(long now) {
+        return errorCount.sum(now);
+    }
+
+    public long getSlowCount(long now) {
+        return slowCount.sum(now);
+    }
+
+    public long getErrorRate(long now) {
+        return AgentStatWindow.calculatePercent(getErrorCount(now), getTotalCount(now));
+    }
+
+    public long getSlowRate(long now) {
+        return AgentStatWindow.calculatePercent(getSlowCount(now), getTotalCount(now));
+    }
+
+    public long getMaxHeapUsageRate(long now) {
+        long max = 0;
+        for (AgentStatWindow agentStatWindow : agentStatWindowMap.values()) {
+            max = Math.max(max, agentStatWindow.getHeapUsageRate(now));
+        }
+        return max;
+    }
+
+    public long getMaxJvmCpuUsageRate(long now) {
+        long max = 0;
+        for (AgentStatWindow agentStatWindow : agentStatWindowMap.values()) {
+            max = Math.max(max, agentStatWindow.getJvmCpuUsageRate(now));
+        }
+        return max;
+    }
+
+    public long getMaxDataSourceConnectionUsageRate(long now) {
+        long max = 0;
+        for (AgentStatWindow agentStatWindow : agentStatWindowMap.values()) {
+            max = Math.max(max, agentStatWindow.getDataSourceConnectionUsageRate(now));
+        }
+        return max;
+    }
+
+    /**
+     * remove agents which did not send agent stat during the window
+     */
+    public void expireAgent(long now) {
+        final Iterator<Map.Entry<String, AgentStatWindow>> iterator = agentStatWindowMap.entrySet().iterator();
+        while (iterator.hasNext()) {
+            final AgentStatWindow agentStatWindow = iterator.next().getValue();
+            if (agentStatWindow.getLastUpdateTime() < now - windowSize) {
+                iterator.remove();
+            }
+        }
+    }
+}
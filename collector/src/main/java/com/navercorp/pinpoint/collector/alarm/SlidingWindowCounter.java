@@ -0,0 +1,150 @@
+/*
+ * Copyright 2018 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.pinpoint.collector.alarm;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Lock-free counter over a sliding time window.
+ * The window is divided into fixed slots, a slot is replaced when its time has passed out of the window.
+ * The time and the count of a slot are replaced together, so no update is lost or counted in the wrong slot.
+ */
+public class SlidingWindowCounter {
+
+    private final long slotInterval;
+    private final int slotCount;
+
+    private final AtomicReferenceArray<Slot> slots;
+
+    public SlidingWindowCounter(long windowSize, long slotInterval) {
+        if (slotInterval <= 0) {
+            throw new IllegalArgumentException("slotInterval must be positive. slotInterval:" + slotInterval);
+        }
+        if (windowSize < slotInterval) {
+            throw new IllegalArgumentException("windowSize must be greater than slotInterval. windowSize:" + windowSize);
+        }
+        this.slotInterval = slotInterval;
+        this.slotCount = (int) (windowSize / slotInterval);
+        this.slots = new AtomicReferenceArray<>(slotCount);
+        for (int i = 0; i < slotCount; i++) {
+            slots.set(i, new Slot(0, 0));
+        }
+    }
+
+    public void add(long timestamp, long delta) {
+        final long slotTime = timestamp - (timestamp % slotInterval);
+        final int index = index(slotTime);
+        while (true) {
+            final Slot slot = slots.get(index);
+            if (slot.time == slotTime) {
+                slot.count.addAndGet(delta);
+                return;
+            }
+            if (slot.time > slotTime) {
+                // too old. already out of the window
+                return;
+            }
+            if (slots.compareAndSet(index, slot, new Slot(slotTime, delta))) {
+                return;
+            }
+        }
+    }
+
+    /**
+     * Keeps the largest value of the slot instead of the sum. Read with {@link #max(long)}, do not mix with {@link #add(long, long)}.
+     */
+    public void updateMax(long timestamp, long value) {
+        final long slotTime = timestamp - (timestamp % slotInterval);
+        final int index = index(slotTime);
+        while (true) {
+            final Slot slot = slots.get(index);
+            if (slot.time == slotTime) {
+                slot.updateMax(value);
+                return;
+            }
+            if (slot.time > slotTime) {
+                // too old. already out of the window
+                return;
+            }
+            if (slots.compareAndSet(index, slot, new Slot(slotTime, value))) {
+                return;
+            }
+        }
+    }
+
+    public long sum(long now) {
+        final long currentSlotTime = now - (now % slotInterval);
+        final long windowStart = currentSlotTime - (slotInterval * (slotCount - 1));
+        long sum = 0;
+        for (int i = 0; i < slotCount; i++) {
+            final Slot slot = slots.get(i);
+            if (slot.time >= windowStart && slot.time <= currentSlotTime) {
+                sum += slot.count.get();
+            }
+        }
+        return sum;
+    }
+
+    public long max(long now) {
+        final long currentSlotTime = now - (now % slotInterval);
+        final long windowStart = currentSlotTime - (slotInterval * (slotCount - 1));
+        long max = 0;
+        for (int i = 0; i < slotCount; i++) {
+            final Slot slot = slots.get(i);
+            if (slot.time >= windowStart && slot.time <= currentSlotTime) {
+                max = Math.max(max, slot.count.get());
+            }
+        }
+        return max;
+    }
+
+    private int index(long slotTime) {
+        return (int) ((slotTime / slotInterval) % slotCount);
+    }
+
+    public long getWindowSize() {
+        return slotInterval * slotCount;
+    }
+
+    @Override
+    public String toString() {
+        return "SlidingWindowCounter{" +
+                "slotInterval=" + slotInterval +
+                ", slotCount=" + slotCount +
+                '}';
+    }
+
+    private static class Slot {
+        private final long time;
+        private final AtomicLong count;
+
+        private Slot(long time, long count) {
+            this.time = time;
+            this.count = new AtomicLong(count);
+        }
+
+        private void updateMax(long value) {
+            while (true) {
+                final long current = count.get();
+                if (current >= value || count.compareAndSet(current, value)) {
+                    return;
+                }
+            }
+        }
+    }
+}
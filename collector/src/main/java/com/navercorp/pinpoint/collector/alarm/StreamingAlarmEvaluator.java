@@ -0,0 +1,264 @@
+/*
+ * Copyright 2018 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.pinpoint.collector.alarm;
+
+import com.navercorp.pinpoint.collector.config.CollectorConfiguration;
+import com.navercorp.pinpoint.common.server.bo.stat.AgentStatBo;
+import com.navercorp.pinpoint.common.trace.ServiceType;
+import com.navercorp.pinpoint.common.util.PinpointThreadFactory;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.client.SimpleClientHttpRequestFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.RestTemplate;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Evaluates alarm rules against sliding windows updated by the data received by the collector,
+ * so that alarms are detected within seconds instead of waiting for the web's batch job.
+ */
+@Component
+public class StreamingAlarmEvaluator {
+
+    // agents without requests keep their agent stat alarms for a while
+    static final long AGENT_APPLICATION_EXPIRE_TIME = TimeUnit.HOURS.toMillis(1);
+
+    private static final int WEB_TIMEOUT = 3000;
+
+    private final Logger logger = LoggerFactory.getLogger(this.getClass());
+
+    private final boolean enable;
+    private final long windowSize;
+    private final long slotInterval;
+    private final long checkInterval;
+    private final long renotifyInterval;
+
+    private final AlarmRuleRepository alarmRuleRepository;
+    private final AlarmMessageSender alarmMessageSender;
+
+    private final ConcurrentMap<String, ApplicationAlarmWindow> applicationWindowMap = new ConcurrentHashMap<>();
+    private final ConcurrentMap<String, AgentApplication> agentApplicationMap = new ConcurrentHashMap<>();
+    // ruleId -> last notified time
+    private final ConcurrentMap<String, Long> detectedRuleMap = new ConcurrentHashMap<>();
+
+    private ScheduledExecutorService scheduler;
+
+    @Autowired
+    public StreamingAlarmEvaluator(CollectorConfiguration config) {
+        this(config, newRestTemplate());
+    }
+
+    private StreamingAlarmEvaluator(CollectorConfiguration config, RestTemplate restTemplate) {
+        this(config.isAlarmStreamingEnable(), config.getAlarmStreamingWindowSize(), config.getAlarmStreamingSlotInterval(),
+                config.getAlarmStreamingCheckInterval(), config.getAlarmStreamingRenotifyInterval(),
+                new WebAlarmRuleRepository(restTemplate, config.getAlarmStreamingWebUrl(), config.getAlarmStreamingRuleRefreshInterval()),
+                new WebAlarmMessageSender(restTemplate, config.getAlarmStreamingWebUrl()));
+    }
+
+    StreamingAlarmEvaluator(boolean enable, long windowSize, long slotInterval, long checkInterval, long renotifyInterval,
+                            AlarmRuleRepository alarmRuleRepository, AlarmMessageSender alarmMessageSender) {
+        this.enable = enable;
+        this.windowSize = windowSize;
+        this.slotInterval = slotInterval;
+        this.checkInterval = checkInterval;
+        this.renotifyInterval = renotifyInterval;
+        this.alarmRuleRepository = Objects.requireNonNull(alarmRuleRepository, "alarmRuleRepository must not be null");
+        this.alarmMessageSender = Objects.requireNonNull(alarmMessageSender, "alarmMessageSender must not be null");
+    }
+
+    private static RestTemplate newRestTemplate() {
+        final SimpleClientHttpRequestFactory requestFactory = new SimpleClientHttpRequestFactory();
+        requestFactory.setConnectTimeout(WEB_TIMEOUT);
+        requestFactory.setReadTimeout(WEB_TIMEOUT);
+        return new RestTemplate(requestFactory);
+    }
+
+    @PostConstruct
+    public void start() {
+        if (!enable) {
+            return;
+        }
+        logger.info("start StreamingAlarmEvaluator. windowSize:{}, slotInterval:{}, checkInterval:{}, rules:{}, sender:{}", windowSize, slotInterval, checkInterval, alarmRuleRepository, alarmMessageSender);
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(new PinpointThreadFactory("Pinpoint-StreamingAlarmEvaluator", true));
+        this.scheduler.scheduleWithFixedDelay(new Runnable() {
+            @Override
+            public void run() {
+                try {
+                    alarmRuleRepository.refresh();
+                    evaluate(System.currentTimeMillis());
+                } catch (Exception e) {
+                    logger.warn("alarm evaluation failed. Caused:{}", e.getMessage(), e);
+                }
+            }
+        }, checkInterval, checkInterval, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (scheduler == null) {
+            return;
+        }
+        scheduler.shutdown();
+        try {
+            scheduler.awaitTermination(3000, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        scheduler = null;
+    }
+
+    public boolean isEnable() {
+        return enable;
+    }
+
+    public void updateResponseTime(String applicationName, ServiceType serviceType, String agentId, int elapsed, boolean isError) {
+        updateResponseTime(applicationName, serviceType, agentId, elapsed, isError, System.currentTimeMillis());
+    }
+
+    void updateResponseTime(String applicationName, ServiceType serviceType, String agentId, int elapsed, boolean isError, long timestamp) {
+        if (!enable) {
+            return;
+        }
+        final ApplicationAlarmWindow window = getApplicationWindow(applicationName);
+        if (window == null) {
+            return;
+        }
+        window.updateResponseTime(serviceType, timestamp, elapsed, isError);
+
+        // agent stat does not carry applicationName
+        if (agentId != null) {
+            final AgentApplication agentApplication = agentApplicationMap.get(agentId);
+            if (agentApplication != null && agentApplication.applicationName.equals(applicationName)) {
+                agentApplication.touch(timestamp, slotInterval);
+            } else {
+                agentApplicationMap.put(agentId, new AgentApplication(applicationName, timestamp));
+            }
+        }
+    }
+
+    public void updateAgentStat(AgentStatBo agentStatBo) {
+        updateAgentStat(agentStatBo, System.currentTimeMillis());
+    }
+
+    void updateAgentStat(AgentStatBo agentStatBo, long timestamp) {
+        if (!enable) {
+            return;
+        }
+        final AgentApplication agentApplication = agentApplicationMap.get(agentStatBo.getAgentId());
+        if (agentApplication == null) {
+            return;
+        }
+        final ApplicationAlarmWindow window = getApplicationWindow(agentApplication.applicationName);
+        if (window == null) {
+            return;
+        }
+        window.updateAgentStat(agentStatBo, timestamp);
+    }
+
+    private ApplicationAlarmWindow getApplicationWindow(String applicationName) {
+        final ApplicationAlarmWindow window = applicationWindowMap.get(applicationName);
+        if (window != null) {
+            return window;
+        }
+        // track only the applications with rules
+        if (alarmRuleRepository.getRules(applicationName).isEmpty()) {
+            return null;
+        }
+        final ApplicationAlarmWindow newWindow = new ApplicationAlarmWindow(applicationName, windowSize, slotInterval);
+        final ApplicationAlarmWindow before = applicationWindowMap.putIfAbsent(applicationName, newWindow);
+        if (before != null) {
+            return before;
+        }
+        return newWindow;
+    }
+
+    void evaluate(long now) {
+        expireAgentApplication(now);
+
+        for (ApplicationAlarmWindow window : applicationWindowMap.values()) {
+            window.expireAgent(now);
+
+            final List<AlarmRule> rules = alarmRuleRepository.getRules(window.getApplicationName());
+            for (AlarmRule rule : rules) {
+                final long detectedValue = rule.getCheckerCategory().getDetectedValue(window, now);
+                if (!rule.isDetected(detectedValue)) {
+                    detectedRuleMap.remove(rule.getRuleId());
+                    continue;
+                }
+
+                final Long lastNotifiedTime = detectedRuleMap.get(rule.getRuleId());
+                if (lastNotifiedTime != null && now - lastNotifiedTime < renotifyInterval) {
+                    continue;
+                }
+                detectedRuleMap.put(rule.getRuleId(), now);
+                send(rule, detectedValue);
+            }
+        }
+    }
+
+    /**
+     * remove agents which did not send requests for {@link #AGENT_APPLICATION_EXPIRE_TIME}, such as terminated agents
+     */
+    private void expireAgentApplication(long now) {
+        final Iterator<AgentApplication> iterator = agentApplicationMap.values().iterator();
+        while (iterator.hasNext()) {
+            if (iterator.next().lastUpdateTime < now - AGENT_APPLICATION_EXPIRE_TIME) {
+                iterator.remove();
+            }
+        }
+    }
+
+    int getAgentApplicationSize() {
+        return agentApplicationMap.size();
+    }
+
+    private void send(AlarmRule rule, long detectedValue) {
+        try {
+            alarmMessageSender.send(rule, detectedValue);
+        } catch (Exception e) {
+            logger.warn("alarm send failed. rule:{} Caused:{}", rule, e.getMessage(), e);
+        }
+    }
+
+    private static class AgentApplication {
+        private final String applicationName;
+        private volatile long lastUpdateTime;
+
+        private AgentApplication(String applicationName, long lastUpdateTime) {
+            this.applicationName = applicationName;
+            this.lastUpdateTime = lastUpdateTime;
+        }
+
+        private void touch(long timestamp, long interval) {
+            // avoid writing the shared field on every request
+            if (timestamp - lastUpdateTime >= interval) {
+                lastUpdateTime = timestamp;
+            }
+        }
+    }
+}
@@ -0,0 +1,55 @@
+/*
+ * Copyright 2018 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.navercorp.pinpoint.collector.alarm;
+
+import org.springframework.web.client.RestTemplate;
+
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Sends the detected alarm with the web's alarm message sender, the same sms and email as the web's batch.
+ */
+public class WebAlarmMessageSender implements AlarmMessageSender {
+
+    private static final String SEND_URL = "/application/alarmRule/streaming.pinpoint?applicationId={applicationId}&ruleId={ruleId}&unit={unit}&detectedValue={detectedValue}";
+
+    private final RestTemplate restTemplate;
+    private final String webUrl;
+
+    public WebAlarmMessageSender(RestTemplate restTemplate, String webUrl) {
+        this.restTemplate = Objects.requireNonNull(restTemplate, "restTemplate must not be null");
+        this.webUrl = Objects.requireNonNull(webUrl, "webUrl must not be null");
+    }
+
+    @Override
+    public void send(AlarmRule rule, long detectedValue) {
+        final Map<?, ?> result = restTemplate.postForObject(webUrl + SEND_URL, null, Map.class,
+                rule.getApplicationId(), rule.getRuleId(), rule.getCheckerCategory().getUnit(), detectedValue);
+        if (result == null || result.get("errorCode") != null) {
+            throw new IllegalStateException("alarm send failed. rule:" + rule + " result:" + result);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "WebAlarmMessageSender{" +
+                "webUrl='" + webUrl + '\'' +
+                '}';
+    }
+}
@@ -0,0 +1,166 @@
+/*
+ * Copyright 2018 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.navercorp.pinpoint.collector.alarm;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.web.client.RestTemplate;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Alarm rules of the web's alarm_rule table, read through the web's alarm rule api.
+ * Rules of an application are loaded by the next {@link #refresh()} after the application is first asked for,
+ * so that the data path never waits for the web. All rules are reloaded every refresh interval.
+ */
+public class WebAlarmRuleRepository implements AlarmRuleRepository {
+
+    private static final String RULE_URL = "/application/alarmRule.pinpoint?applicationId={applicationId}";
+
+    private final Logger logger = LoggerFactory.getLogger(this.getClass());
+
+    private final RestTemplate restTemplate;
+    private final String webUrl;
+    private final long refreshInterval;
+    private final ObjectMapper objectMapper = new ObjectMapper().configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+
+    private final ConcurrentMap<String, List<AlarmRule>> ruleMap = new ConcurrentHashMap<>();
+    private final Set<String> newApplicationIds = Collections.newSetFromMap(new ConcurrentHashMap<String, Boolean>());
+    private long lastRefreshTime;
+
+    public WebAlarmRuleRepository(RestTemplate restTemplate, String webUrl, long refreshInterval) {
+        this.restTemplate = Objects.requireNonNull(restTemplate, "restTemplate must not be null");
+        this.webUrl = Objects.requireNonNull(webUrl, "webUrl must not be null");
+        this.refreshInterval = refreshInterval;
+    }
+
+    @Override
+    public List<AlarmRule> getRules(String applicationId) {
+        final List<AlarmRule> rules = ruleMap.get(applicationId);
+        if (rules != null) {
+            return rules;
+        }
+        // loaded by the next refresh
+        if (ruleMap.putIfAbsent(applicationId, Collections.<AlarmRule>emptyList()) == null) {
+            newApplicationIds.add(applicationId);
+        }
+        return Collections.emptyList();
+    }
+
+    /**
+     * called by a single thread
+     */
+    @Override
+    public void refresh() {
+        final long now = System.currentTimeMillis();
+        if (now - lastRefreshTime < refreshInterval) {
+            final Iterator<String> iterator = newApplicationIds.iterator();
+            while (iterator.hasNext()) {
+                final String applicationId = iterator.next();
+                iterator.remove();
+                refresh(applicationId);
+            }
+            return;
+        }
+
+        lastRefreshTime = now;
+        newApplicationIds.clear();
+        for (String applicationId : ruleMap.keySet()) {
+            refresh(applicationId);
+        }
+    }
+
+    private void refresh(String applicationId) {
+        try {
+            ruleMap.put(applicationId, loadRules(applicationId));
+        } catch (Exception e) {
+            // keep the rules loaded before
+            logger.warn("alarm rule load failed. applicationId:{} Caused:{}", applicationId, e.getMessage(), e);
+        }
+    }
+
+    List<AlarmRule> loadRules(String applicationId) throws Exception {
+        final String responseBody = restTemplate.getForObject(webUrl + RULE_URL, String.class, applicationId);
+        final List<WebRule> webRules = objectMapper.readValue(responseBody, new TypeReference<List<WebRule>>() {});
+        if (webRules.isEmpty()) {
+            return Collections.emptyList();
+        }
+
+        final List<AlarmRule> rules = new ArrayList<>(webRules.size());
+        for (WebRule webRule : webRules) {
+            final AlarmCheckerCategory checkerCategory = AlarmCheckerCategory.getValue(webRule.getCheckerName());
+            if (checkerCategory == null || webRule.getRuleId() == null || webRule.getThreshold() == null) {
+                // checkers which need data not flowing through the collector are left to the web's batch
+                continue;
+            }
+            rules.add(new AlarmRule(webRule.getRuleId(), applicationId, checkerCategory, webRule.getThreshold()));
+        }
+        return rules;
+    }
+
+    @Override
+    public String toString() {
+        return "WebAlarmRuleRepository{" +
+                "webUrl='" + webUrl + '\'' +
+                ", applications=" + ruleMap.size() +
+                '}';
+    }
+
+    /**
+     * Rule of the web
+     */
+    public static class WebRule {
+        private String ruleId;
+        private String checkerName;
+        private Integer threshold;
+
+        public String getRuleId() {
+            return ruleId;
+        }
+
+        public void setRuleId(String ruleId) {
+            this.ruleId = ruleId;
+        }
+
+        public String getCheckerName() {
+            return checkerName;
+        }
+
+        public void setCheckerName(String checkerName) {
+            this.checkerName = checkerName;
+        }
+
+        public Integer getThreshold() {
+            return threshold;
+        }
+
+        public void setThreshold(Integer threshold) {
+            this.threshold = threshold;
+        }
+    }
+}
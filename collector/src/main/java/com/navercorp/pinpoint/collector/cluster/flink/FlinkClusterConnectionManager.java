@@ -15,13 +15,19 @@
  */
 package com.navercorp.pinpoint.collector.cluster.flink;
 
+import com.codahale.metrics.MetricRegistry;
 import com.navercorp.pinpoint.collector.cluster.connection.ClusterConnectionManager;
+import com.navercorp.pinpoint.collector.config.CollectorConfiguration;
+import com.navercorp.pinpoint.collector.sender.AgentStatBatchSender;
+import com.navercorp.pinpoint.collector.sender.BundleAgentStatBatchSender;
+import com.navercorp.pinpoint.collector.sender.DirectAgentStatBatchSender;
 import com.navercorp.pinpoint.collector.sender.FlinkRequestFactory;
 import com.navercorp.pinpoint.collector.sender.FlinkTcpDataSender;
 import com.navercorp.pinpoint.collector.util.Address;
 import com.navercorp.pinpoint.common.util.Assert;
 import com.navercorp.pinpoint.rpc.client.DefaultPinpointClientFactory;
 import com.navercorp.pinpoint.rpc.client.PinpointClientFactory;
+import com.navercorp.pinpoint.thrift.io.AgentStatBatchBundleCodec;
 import com.navercorp.pinpoint.thrift.io.FlinkHeaderTBaseSerializer;
 import com.navercorp.pinpoint.thrift.io.FlinkHeaderTBaseSerializerFactory;
 import org.slf4j.Logger;
@@ -38,14 +44,31 @@ public class FlinkClusterConnectionManager implements ClusterConnectionManager {
     private final TcpDataSenderRepository tcpDataSenderRepository;
     private final FlinkHeaderTBaseSerializerFactory flinkHeaderTBaseSerializerFactory;
     private final FlinkRequestFactory flinkRequestFactory;
+    private final CollectorConfiguration collectorConfiguration;
+    private final MetricRegistry metricRegistry;
+    private final AgentStatBatchBundleCodec agentStatBatchBundleCodec;
 
-    public FlinkClusterConnectionManager(TcpDataSenderRepository tcpDataSenderRepository, FlinkHeaderTBaseSerializerFactory flinkHeaderTBaseSerializerFactory, FlinkRequestFactory flinkRequestFactory) {
+    public FlinkClusterConnectionManager(TcpDataSenderRepository tcpDataSenderRepository, FlinkHeaderTBaseSerializerFactory flinkHeaderTBaseSerializerFactory, FlinkRequestFactory flinkRequestFactory,
+                                         CollectorConfiguration collectorConfiguration, MetricRegistry metricRegistry) {
         this.tcpDataSenderRepository = Assert.requireNonNull(tcpDataSenderRepository, "tcpDataSenderRepository must not be null");
         this.flinkHeaderTBaseSerializerFactory = Assert.requireNonNull(flinkHeaderTBaseSerializerFactory, "flinkHeaderTBaseSerializerFactory must not be null");
         this.flinkRequestFactory = Assert.requireNonNull(flinkRequestFactory, "flinkRequestFactory must not be null");
+        this.collectorConfiguration = Assert.requireNonNull(collectorConfiguration, "collectorConfiguration must not be null");
+        this.metricRegistry = metricRegistry;
+        this.agentStatBatchBundleCodec = newAgentStatBatchBundleCodec(collectorConfiguration.getFlinkClusterBundleCompressType());
         this.pinpointClientFactory = newPointClientFactory();
     }
 
+    private AgentStatBatchBundleCodec newAgentStatBatchBundleCodec(String compressType) {
+        if ("none".equalsIgnoreCase(compressType)) {
+            return new AgentStatBatchBundleCodec(AgentStatBatchBundleCodec.COMPRESS_TYPE_NONE);
+        }
+        if ("deflate".equalsIgnoreCase(compressType)) {
+            return new AgentStatBatchBundleCodec(AgentStatBatchBundleCodec.COMPRESS_TYPE_DEFLATE);
+        }
+        throw new IllegalArgumentException("unsupported flink.cluster.bundle.compress.type:" + compressType);
+    }
+
     private PinpointClientFactory newPointClientFactory() {
         PinpointClientFactory pinpointClientFactory = new DefaultPinpointClientFactory();
         pinpointClientFactory.setWriteTimeoutMillis(1000 * 3);
@@ -113,11 +136,22 @@ public class FlinkClusterConnectionManager implements ClusterConnectionManager {
             final int port = address.getPort();
             FlinkHeaderTBaseSerializer serializer = flinkHeaderTBaseSerializerFactory.createSerializer();
             FlinkTcpDataSender tcpDataSender = new FlinkTcpDataSender("flink", host, port, pinpointClientFactory, serializer, flinkRequestFactory);
-            return new SenderContext(tcpDataSender);
+            return new SenderContext(newAgentStatBatchSender(address, tcpDataSender));
         } catch (Exception e) {
             logger.error("not create tcpDataSender for {}.", address, e);
         }
 
         return null;
     }
+
+    private AgentStatBatchSender newAgentStatBatchSender(Address address, FlinkTcpDataSender tcpDataSender) {
+        if (!collectorConfiguration.isFlinkClusterBundleEnable()) {
+            return new DirectAgentStatBatchSender(tcpDataSender);
+        }
+
+        final String name = address.getHost() + ":" + address.getPort();
+        return new BundleAgentStatBatchSender(name, tcpDataSender, agentStatBatchBundleCodec,
+                collectorConfiguration.getFlinkClusterBundleSize(), collectorConfiguration.getFlinkClusterBundleFlushInterval(),
+                collectorConfiguration.getFlinkClusterBundleQueueSize(), metricRegistry);
+    }
 }
@@ -15,25 +15,25 @@
  */
 package com.navercorp.pinpoint.collector.cluster.flink;
 
-import com.navercorp.pinpoint.collector.sender.FlinkTcpDataSender;
+import com.navercorp.pinpoint.collector.sender.AgentStatBatchSender;
 import com.navercorp.pinpoint.common.util.Assert;
 
 /**
  * @author minwoo.jung
  */
 public class SenderContext {
-    private FlinkTcpDataSender flinkTcpDataSender;
+    private AgentStatBatchSender agentStatBatchSender;
 
-    public SenderContext(FlinkTcpDataSender tcpDataSender) {
-        this.flinkTcpDataSender = Assert.requireNonNull(tcpDataSender, "flinkTcpDataSender must not be null");
+    public SenderContext(AgentStatBatchSender agentStatBatchSender) {
+        this.agentStatBatchSender = Assert.requireNonNull(agentStatBatchSender, "agentStatBatchSender must not be null");
     }
 
-    public FlinkTcpDataSender getFlinkTcpDataSender() {
-        return flinkTcpDataSender;
+    public AgentStatBatchSender getAgentStatBatchSender() {
+        return agentStatBatchSender;
     }
 
     public void close() {
-        flinkTcpDataSender.stop();
+        agentStatBatchSender.stop();
     }
 
 }
@@ -15,7 +15,7 @@
  */
 package com.navercorp.pinpoint.collector.cluster.flink;
 
-import com.navercorp.pinpoint.collector.sender.FlinkTcpDataSender;
+import com.navercorp.pinpoint.collector.sender.AgentStatBatchSender;
 import com.navercorp.pinpoint.collector.service.SendAgentStatService;
 import com.navercorp.pinpoint.collector.util.Address;
 
@@ -51,12 +51,12 @@ public class TcpDataSenderRepository {
     private void replaceDataInSendAgentStatService() {
         Collection<SenderContext> values = clusterConnectionRepository.values();
 
-        List<FlinkTcpDataSender> tcpDataSenderList = new ArrayList<>(values.size());
+        List<AgentStatBatchSender> agentStatBatchSenderList = new ArrayList<>(values.size());
         for (SenderContext senderContext : values) {
-            tcpDataSenderList.add(senderContext.getFlinkTcpDataSender());
+            agentStatBatchSenderList.add(senderContext.getAgentStatBatchSender());
         }
 
-        sendAgentStatService.replaceFlinkTcpDataSenderList(tcpDataSenderList);
+        sendAgentStatService.replaceAgentStatBatchSenderList(agentStatBatchSenderList);
     }
 
     public boolean containsKey(Address address) {
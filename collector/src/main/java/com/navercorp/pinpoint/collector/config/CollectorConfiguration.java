@@ -66,6 +66,20 @@ public class CollectorConfiguration implements InitializingBean {
     private String flinkClusterZookeeperAddress;
     private int flinkClusterSessionTimeout;
 
+    private boolean flinkClusterBundleEnable;
+    private int flinkClusterBundleSize;
+    private long flinkClusterBundleFlushInterval;
+    private int flinkClusterBundleQueueSize;
+    private String flinkClusterBundleCompressType;
+
+    private boolean alarmStreamingEnable;
+    private long alarmStreamingWindowSize;
+    private long alarmStreamingSlotInterval;
+    private long alarmStreamingCheckInterval;
+    private long alarmStreamingRenotifyInterval;
+    private String alarmStreamingWebUrl;
+    private long alarmStreamingRuleRefreshInterval;
+
     public void setFlinkClusterEnable(boolean flinkClusterEnable) {
         this.flinkClusterEnable = flinkClusterEnable;
     }
@@ -90,6 +104,102 @@ public class CollectorConfiguration implements InitializingBean {
         return flinkClusterSessionTimeout;
     }
 
+    public boolean isFlinkClusterBundleEnable() {
+        return flinkClusterBundleEnable;
+    }
+
+    public void setFlinkClusterBundleEnable(boolean flinkClusterBundleEnable) {
+        this.flinkClusterBundleEnable = flinkClusterBundleEnable;
+    }
+
+    public int getFlinkClusterBundleSize() {
+        return flinkClusterBundleSize;
+    }
+
+    public void setFlinkClusterBundleSize(int flinkClusterBundleSize) {
+        this.flinkClusterBundleSize = flinkClusterBundleSize;
+    }
+
+    public long getFlinkClusterBundleFlushInterval() {
+        return flinkClusterBundleFlushInterval;
+    }
+
+    public void setFlinkClusterBundleFlushInterval(long flinkClusterBundleFlushInterval) {
+        this.flinkClusterBundleFlushInterval = flinkClusterBundleFlushInterval;
+    }
+
+    public int getFlinkClusterBundleQueueSize() {
+        return flinkClusterBundleQueueSize;
+    }
+
+    public void setFlinkClusterBundleQueueSize(int flinkClusterBundleQueueSize) {
+        this.flinkClusterBundleQueueSize = flinkClusterBundleQueueSize;
+    }
+
+    public String getFlinkClusterBundleCompressType() {
+        return flinkClusterBundleCompressType;
+    }
+
+    public void setFlinkClusterBundleCompressType(String flinkClusterBundleCompressType) {
+        this.flinkClusterBundleCompressType = flinkClusterBundleCompressType;
+    }
+
+    public boolean isAlarmStreamingEnable() {
+        return alarmStreamingEnable;
+    }
+
+    public void setAlarmStreamingEnable(boolean alarmStreamingEnable) {
+        this.alarmStreamingEnable = alarmStreamingEnable;
+    }
+
+    public long getAlarmStreamingWindowSize() {
+        return alarmStreamingWindowSize;
+    }
+
+    public void setAlarmStreamingWindowSize(long alarmStreamingWindowSize) {
+        this.alarmStreamingWindowSize = alarmStreamingWindowSize;
+    }
+
+    public long getAlarmStreamingSlotInterval() {
+        return alarmStreamingSlotInterval;
+    }
+
+    public void setAlarmStreamingSlotInterval(long alarmStreamingSlotInterval) {
+        this.alarmStreamingSlotInterval = alarmStreamingSlotInterval;
+    }
+
+    public long getAlarmStreamingCheckInterval() {
+        return alarmStreamingCheckInterval;
+    }
+
+    public void setAlarmStreamingCheckInterval(long alarmStreamingCheckInterval) {
+        this.alarmStreamingCheckInterval = alarmStreamingCheckInterval;
+    }
+
+    public long getAlarmStreamingRenotifyInterval() {
+        return alarmStreamingRenotifyInterval;
+    }
+
+    public void setAlarmStreamingRenotifyInterval(long alarmStreamingRenotifyInterval) {
+        this.alarmStreamingRenotifyInterval = alarmStreamingRenotifyInterval;
+    }
+
+    public String getAlarmStreamingWebUrl() {
+        return alarmStreamingWebUrl;
+    }
+
+    public void setAlarmStreamingWebUrl(String alarmStreamingWebUrl) {
+        this.alarmStreamingWebUrl = alarmStreamingWebUrl;
+    }
+
+    public long getAlarmStreamingRuleRefreshInterval() {
+        return alarmStreamingRuleRefreshInterval;
+    }
+
+    public void setAlarmStreamingRuleRefreshInterval(long alarmStreamingRuleRefreshInterval) {
+        this.alarmStreamingRuleRefreshInterval = alarmStreamingRuleRefreshInterval;
+    }
+
     public int getAgentEventWorkerThreadSize() {
         return this.agentEventWorkerThreadSize;
     }
@@ -189,6 +299,11 @@ public class CollectorConfiguration implements InitializingBean {
         this.flinkClusterEnable = readBoolean(properties, "flink.cluster.enable");
         this.flinkClusterZookeeperAddress = readString(properties, "flink.cluster.zookeeper.address", "");
         this.flinkClusterSessionTimeout = readInt(properties, "flink.cluster.zookeeper.sessiontimeout", -1);
+        this.flinkClusterBundleEnable = readBoolean(properties, "flink.cluster.bundle.enable");
+        this.flinkClusterBundleSize = readInt(properties, "flink.cluster.bundle.size", 100);
+        this.flinkClusterBundleFlushInterval = readLong(properties, "flink.cluster.bundle.flush.interval", 1000L);
+        this.flinkClusterBundleQueueSize = readInt(properties, "flink.cluster.bundle.queue.size", 1024 * 10);
+        this.flinkClusterBundleCompressType = readString(properties, "flink.cluster.bundle.compress.type", "deflate");
         
         String[] l4Ips = StringUtils.split(readString(properties, "collector.l4.ip", null), ",");
         if (l4Ips == null) {
@@ -208,6 +323,14 @@ public class CollectorConfiguration implements InitializingBean {
 
         this.clusterListenIp = readString(properties, "cluster.listen.ip", "");
         this.clusterListenPort = readInt(properties, "cluster.listen.port", -1);
+
+        this.alarmStreamingEnable = readBoolean(properties, "collector.alarm.streaming.enable");
+        this.alarmStreamingWindowSize = readLong(properties, "collector.alarm.streaming.window.size", 5 * 60 * 1000L);
+        this.alarmStreamingSlotInterval = readLong(properties, "collector.alarm.streaming.slot.interval", 10 * 1000L);
+        this.alarmStreamingCheckInterval = readLong(properties, "collector.alarm.streaming.check.interval", 1000L);
+        this.alarmStreamingRenotifyInterval = readLong(properties, "collector.alarm.streaming.renotify.interval", 10 * 60 * 1000L);
+        this.alarmStreamingWebUrl = readString(properties, "collector.alarm.streaming.web.url", "http://localhost:8080");
+        this.alarmStreamingRuleRefreshInterval = readLong(properties, "collector.alarm.streaming.rule.refresh.interval", 60 * 1000L);
     }
 
     protected static String readString(Properties properties, String propertyName, String defaultValue) {
@@ -263,6 +386,18 @@ public class CollectorConfiguration implements InitializingBean {
         sb.append(", flinkClusterEnable=").append(flinkClusterEnable);
         sb.append(", flinkClusterZookeeperAddress='").append(flinkClusterZookeeperAddress).append('\'');
         sb.append(", flinkClusterSessionTimeout=").append(flinkClusterSessionTimeout);
+        sb.append(", flinkClusterBundleEnable=").append(flinkClusterBundleEnable);
+        sb.append(", flinkClusterBundleSize=").append(flinkClusterBundleSize);
+        sb.append(", flinkClusterBundleFlushInterval=").append(flinkClusterBundleFlushInterval);
+        sb.append(", flinkClusterBundleQueueSize=").append(flinkClusterBundleQueueSize);
+        sb.append(", flinkClusterBundleCompressType='").append(flinkClusterBundleCompressType).append('\'');
+        sb.append(", alarmStreamingEnable=").append(alarmStreamingEnable);
+        sb.append(", alarmStreamingWindowSize=").append(alarmStreamingWindowSize);
+        sb.append(", alarmStreamingSlotInterval=").append(alarmStreamingSlotInterval);
+        sb.append(", alarmStreamingCheckInterval=").append(alarmStreamingCheckInterval);
+        sb.append(", alarmStreamingRenotifyInterval=").append(alarmStreamingRenotifyInterval);
+        sb.append(", alarmStreamingWebUrl='").append(alarmStreamingWebUrl).append('\'');
+        sb.append(", alarmStreamingRuleRefreshInterval=").append(alarmStreamingRuleRefreshInterval);
         sb.append('}');
         return sb.toString();
     }
@@ -22,6 +22,7 @@ import com.navercorp.pinpoint.collector.dao.ApplicationTraceIndexDao;
 import com.navercorp.pinpoint.common.hbase.TableNameProvider;
 import com.navercorp.pinpoint.common.server.bo.SpanBo;
 import com.navercorp.pinpoint.common.server.util.AcceptedTimeService;
+import com.navercorp.pinpoint.common.server.util.ApplicationTraceIndexBucketUtils;
 import com.navercorp.pinpoint.common.buffer.AutomaticBuffer;
 import com.navercorp.pinpoint.common.buffer.Buffer;
 import com.navercorp.pinpoint.common.hbase.HbaseOperations2;
@@ -32,6 +33,7 @@ import org.apache.hadoop.hbase.TableName;
 import org.apache.hadoop.hbase.client.Put;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Repository;
 
 /**
@@ -56,6 +58,9 @@ public class HbaseApplicationTraceIndexDao implements ApplicationTraceIndexDao {
     @Qualifier("applicationTraceIndexDistributor")
     private AbstractRowKeyDistributor rowKeyDistributor;
 
+    @Value("#{pinpoint_collector_properties['collector.applicationTraceIndex.bucket.enable'] ?: false}")
+    private boolean bucketIndexEnable;
+
     @Override
     public void insert(final SpanBo span) {
         if (span == null) {
@@ -79,6 +84,25 @@ public class HbaseApplicationTraceIndexDao implements ApplicationTraceIndexDao {
         if (!success) {
             hbaseTemplate.put(applicationTraceIndexTableName, put);
         }
+
+        if (bucketIndexEnable) {
+            insertBucketIndex(span, acceptedTime, value);
+        }
+    }
+
+    private void insertBucketIndex(SpanBo span, long acceptedTime, byte[] value) {
+        // same cell as the trace index, keyed additionally by elapsed band and error
+        final byte bucket = ApplicationTraceIndexBucketUtils.getBucket(span.getElapsed(), span.getErrCode() != 0);
+        final byte[] bucketRowKey = ApplicationTraceIndexBucketUtils.getRowKey(span.getApplicationId(), bucket, acceptedTime);
+        final Put put = new Put(rowKeyDistributor.getDistributedKey(bucketRowKey));
+
+        put.addColumn(APPLICATION_TRACE_INDEX_BUCKET_CF_TRACE, makeQualifier(span), acceptedTime, value);
+
+        final TableName bucketTableName = tableNameProvider.getTableName(APPLICATION_TRACE_INDEX_BUCKET_STR);
+        boolean success = hbaseTemplate.asyncPut(bucketTableName, put);
+        if (!success) {
+            hbaseTemplate.put(bucketTableName, put);
+        }
     }
 
     private byte[] makeQualifier(final SpanBo span) {
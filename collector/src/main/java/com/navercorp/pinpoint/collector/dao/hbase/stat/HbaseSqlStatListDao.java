@@ -0,0 +1,105 @@
+/*
+ * Copyright 2018 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.pinpoint.collector.dao.hbase.stat;
+
+import com.navercorp.pinpoint.collector.dao.AgentStatDaoV2;
+import com.navercorp.pinpoint.common.hbase.HBaseTables;
+import com.navercorp.pinpoint.common.hbase.HbaseOperations2;
+import com.navercorp.pinpoint.common.hbase.TableNameProvider;
+import com.navercorp.pinpoint.common.server.bo.serializer.stat.AgentStatHbaseOperationFactory;
+import com.navercorp.pinpoint.common.server.bo.serializer.stat.AgentStatUtils;
+import com.navercorp.pinpoint.common.server.bo.serializer.stat.SqlStatSerializer;
+import com.navercorp.pinpoint.common.server.bo.stat.AgentStatType;
+import com.navercorp.pinpoint.common.server.bo.stat.SqlStatBo;
+import com.navercorp.pinpoint.common.server.bo.stat.SqlStatListBo;
+import com.navercorp.pinpoint.common.util.CollectionUtils;
+import org.apache.hadoop.hbase.TableName;
+import org.apache.hadoop.hbase.client.Put;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Repository;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+@Repository
+public class HbaseSqlStatListDao implements AgentStatDaoV2<SqlStatListBo> {
+
+    @Autowired
+    private HbaseOperations2 hbaseTemplate;
+
+    @Autowired
+    private TableNameProvider tableNameProvider;
+
+    @Autowired
+    private AgentStatHbaseOperationFactory agentStatHbaseOperationFactory;
+
+    @Autowired
+    private SqlStatSerializer sqlStatSerializer;
+
+    @Override
+    public void insert(String agentId, List<SqlStatListBo> sqlStatListBos) {
+        if (agentId == null) {
+            throw new NullPointerException("agentId must not be null");
+        }
+        if (CollectionUtils.isEmpty(sqlStatListBos)) {
+            return;
+        }
+
+        List<SqlStatListBo> mergedSqlStatListBos = mergeSqlStatListBos(sqlStatListBos);
+        List<Put> sqlStatPuts = this.agentStatHbaseOperationFactory.createPuts(agentId, AgentStatType.SQL_STAT, mergedSqlStatListBos, sqlStatSerializer);
+        if (!sqlStatPuts.isEmpty()) {
+            TableName agentStatTableName = tableNameProvider.getTableName(HBaseTables.AGENT_STAT_VER2_STR);
+            List<Put> rejectedPuts = this.hbaseTemplate.asyncPut(agentStatTableName, sqlStatPuts);
+            if (CollectionUtils.hasLength(rejectedPuts)) {
+                this.hbaseTemplate.put(agentStatTableName, rejectedPuts);
+            }
+        }
+    }
+
+    private List<SqlStatListBo> mergeSqlStatListBos(List<SqlStatListBo> sqlStatListBos) {
+        // the timestamps of every list in a column are decoded relative to the first one,
+        // so merge all sqlStatBos of a timeslot into a single list ordered by timestamp
+        Map<Long, List<SqlStatBo>> timeSlotMap = new TreeMap<>();
+        for (SqlStatListBo sqlStatListBo : sqlStatListBos) {
+            for (SqlStatBo sqlStatBo : sqlStatListBo.getList()) {
+                long timeSlot = AgentStatUtils.getBaseTimestamp(sqlStatBo.getTimestamp());
+                List<SqlStatBo> sqlStatBoList = timeSlotMap.computeIfAbsent(timeSlot, key -> new ArrayList<>());
+                sqlStatBoList.add(sqlStatBo);
+            }
+        }
+
+        List<SqlStatListBo> mergedSqlStatListBos = new ArrayList<>(timeSlotMap.size());
+        for (List<SqlStatBo> sqlStatBoList : timeSlotMap.values()) {
+            sqlStatBoList.sort(Comparator.comparingLong(SqlStatBo::getTimestamp));
+            SqlStatBo first = sqlStatBoList.get(0);
+
+            SqlStatListBo mergedSqlStatListBo = new SqlStatListBo();
+            mergedSqlStatListBo.setAgentId(first.getAgentId());
+            mergedSqlStatListBo.setStartTimestamp(first.getStartTimestamp());
+            mergedSqlStatListBo.setTimestamp(first.getTimestamp());
+            for (SqlStatBo sqlStatBo : sqlStatBoList) {
+                mergedSqlStatListBo.add(sqlStatBo);
+            }
+            mergedSqlStatListBos.add(mergedSqlStatListBo);
+        }
+        return mergedSqlStatListBos;
+    }
+
+}
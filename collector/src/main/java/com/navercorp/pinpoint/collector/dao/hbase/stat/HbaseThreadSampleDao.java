@@ -0,0 +1,67 @@
+/*
+ * Copyright 2018 Naver Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.pinpoint.collector.dao.hbase.stat;
+
+import com.navercorp.pinpoint.collector.dao.AgentStatDaoV2;
+import com.navercorp.pinpoint.common.hbase.HBaseTables;
+import com.navercorp.pinpoint.common.hbase.HbaseOperations2;
+import com.navercorp.pinpoint.common.hbase.TableNameProvider;
+import com.navercorp.pinpoint.common.server.bo.serializer.stat.AgentStatHbaseOperationFactory;
+import com.navercorp.pinpoint.common.server.bo.serializer.stat.ThreadSampleSerializer;
+import com.navercorp.pinpoint.common.server.bo.stat.AgentStatType;
+import com.navercorp.pinpoint.common.server.bo.stat.ThreadSampleBo;
+import org.apache.commons.collections.CollectionUtils;
+import org.apache.hadoop.hbase.TableName;
+import org.apache.hadoop.hbase.client.Put;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public class HbaseThreadSampleDao implements AgentStatDaoV2<ThreadSampleBo> {
+
+    @Autowired
+    private HbaseOperations2 hbaseTemplate;
+
+    @Autowired
+    private TableNameProvider tableNameProvider;
+
+    @Autowired
+    private AgentStatHbaseOperationFactory agentStatHbaseOperationFactory;
+
+    @Autowired
+    private ThreadSampleSerializer threadSampleSerializer;
+
+    @Override
+    public void insert(String agentId, List<ThreadSampleBo> threadSampleBos) {
+        if (agentId == null) {
+            throw new NullPointerException("agentId must not be null");
+        }
+        if (CollectionUtils.isEmpty(threadSampleBos)) {
+            return;
+        }
+        List<Put> threadSamplePuts = this.agentStatHbaseOperationFactory.createPuts(agentId, AgentStatType.THREAD_SAMPLE, threadSampleBos, this.threadSampleSerializer);
+        if (!threadSamplePuts.isEmpty()) {
+            TableName agentStatTableName = tableNameProvider.getTableName(HBaseTables.AGENT_STAT_VER2_STR);
+            List<Put> rejectedPuts = this.hbaseTemplate.asyncPut(agentStatTableName, threadSamplePuts);
+            if (CollectionUtils.isNotEmpty(rejectedPuts)) {
+                this.hbaseTemplate.put(agentStatTableName, rejectedPuts);
+            }
+        }
+    }
+}
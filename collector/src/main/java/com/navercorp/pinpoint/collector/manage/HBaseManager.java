@@ -55,4 +55,9 @@ public class HBaseManager extends AbstractCollectorManager implements HBaseManag
         return hBaseAsyncOperation.getOpsAverageLatencyForEachRegionServer();
     }
 
+    @Override
+    public Map<String, Long> getAsyncOpsAverageQueueTimeForEachRegionServer() {
+        return hBaseAsyncOperation.getOpsAverageQueueTimeForEachRegionServer();
+    }
+
 }
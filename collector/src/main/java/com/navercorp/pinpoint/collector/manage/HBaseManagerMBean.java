@@ -34,4 +34,6 @@ public interface HBaseManagerMBean {
 
     Map<String, Long> getAsyncOpsAverageLatencyForEachRegionServer();
 
+    Map<String, Long> getAsyncOpsAverageQueueTimeForEachRegionServer();
+
 }
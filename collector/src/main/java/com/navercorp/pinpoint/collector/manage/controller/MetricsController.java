@@ -0,0 +1,87 @@
+/*
+ * Copyright 2018 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.pinpoint.collector.manage.controller;
+
+import com.codahale.metrics.Gauge;
+import com.codahale.metrics.Meter;
+import com.codahale.metrics.MetricRegistry;
+import com.codahale.metrics.Snapshot;
+import com.codahale.metrics.Timer;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Controller;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestMethod;
+import org.springframework.web.bind.annotation.ResponseBody;
+import org.springframework.web.servlet.ModelAndView;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Flat snapshot of the collector {@link MetricRegistry} (executor submitted/rejected meters, worker timers, jvm gauges).
+ * Used by the ingestion benchmark in pinpoint-tools to compute collector side drop rate and latency.
+ */
+@Controller
+@RequestMapping("/admin")
+public class MetricsController {
+
+    private static final double DURATION_FACTOR = 1.0 / TimeUnit.MILLISECONDS.toNanos(1);
+
+    @Autowired
+    private MetricRegistry metricRegistry;
+
+    @RequestMapping(value = "/metrics", method = RequestMethod.GET)
+    @ResponseBody
+    public ModelAndView metrics() {
+        final Map<String, Number> metrics = new TreeMap<>();
+
+        for (Map.Entry<String, Meter> entry : metricRegistry.getMeters().entrySet()) {
+            final Meter meter = entry.getValue();
+            metrics.put(entry.getKey() + ".count", meter.getCount());
+            metrics.put(entry.getKey() + ".m1_rate", meter.getOneMinuteRate());
+        }
+
+        for (Map.Entry<String, Timer> entry : metricRegistry.getTimers().entrySet()) {
+            final Timer timer = entry.getValue();
+            final Snapshot snapshot = timer.getSnapshot();
+            metrics.put(entry.getKey() + ".count", timer.getCount());
+            metrics.put(entry.getKey() + ".mean_ms", snapshot.getMean() * DURATION_FACTOR);
+            metrics.put(entry.getKey() + ".p99_ms", snapshot.get99thPercentile() * DURATION_FACTOR);
+            metrics.put(entry.getKey() + ".max_ms", snapshot.getMax() * DURATION_FACTOR);
+        }
+
+        for (Map.Entry<String, Gauge> entry : metricRegistry.getGauges().entrySet()) {
+            final Object value = entry.getValue().getValue();
+            if (value instanceof Number) {
+                metrics.put(entry.getKey(), (Number) value);
+            } else if (value instanceof Map) {
+                // keyed gauges such as the per region server queue time
+                for (Map.Entry<?, ?> keyed : ((Map<?, ?>) value).entrySet()) {
+                    if (keyed.getValue() instanceof Number) {
+                        metrics.put(entry.getKey() + "." + keyed.getKey(), (Number) keyed.getValue());
+                    }
+                }
+            }
+        }
+
+        ModelAndView mv = ControllerUtils.createJsonView(true);
+        mv.addObject("metrics", metrics);
+        return mv;
+    }
+
+}
@@ -29,16 +29,24 @@ import com.navercorp.pinpoint.common.server.bo.stat.FileDescriptorBo;
 import com.navercorp.pinpoint.common.server.bo.stat.JvmGcBo;
 import com.navercorp.pinpoint.common.server.bo.stat.JvmGcDetailedBo;
 import com.navercorp.pinpoint.common.server.bo.stat.ResponseTimeBo;
+import com.navercorp.pinpoint.common.server.bo.stat.SqlStatBo;
+import com.navercorp.pinpoint.common.server.bo.stat.SqlStatListBo;
+import com.navercorp.pinpoint.common.server.bo.stat.TcpRequestBo;
+import com.navercorp.pinpoint.common.server.bo.stat.ThreadSampleBo;
 import com.navercorp.pinpoint.common.server.bo.stat.TransactionBo;
 import com.navercorp.pinpoint.thrift.dto.TAgentStat;
 import com.navercorp.pinpoint.thrift.dto.TAgentStatBatch;
 import com.navercorp.pinpoint.thrift.dto.TDataSource;
 import com.navercorp.pinpoint.thrift.dto.TDataSourceList;
+import com.navercorp.pinpoint.thrift.dto.TSqlStat;
+import com.navercorp.pinpoint.thrift.dto.TSqlStatList;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
 
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 /**
  * @author HyunGil Jeong
@@ -76,6 +84,15 @@ public class AgentStatBatchMapper implements ThriftBoMapper<AgentStatBo, TAgentS
     @Autowired
     private DirectBufferBoMapper directBufferBoMapper;
 
+    @Autowired
+    private SqlStatBoMapper sqlStatBoMapper;
+
+    @Autowired
+    private TcpRequestBoMapper tcpRequestBoMapper;
+
+    @Autowired
+    private ThreadSampleBoMapper threadSampleBoMapper;
+
     @Override
     public AgentStatBo map(TAgentStatBatch tAgentStatBatch) {
         if (!tAgentStatBatch.isSetAgentStats()) {
@@ -100,6 +117,11 @@ public class AgentStatBatchMapper implements ThriftBoMapper<AgentStatBo, TAgentS
         List<DeadlockThreadCountBo> deadlockThreadCountBos = new ArrayList<>(agentStatsSize);
         List<FileDescriptorBo> fileDescriptorBos = new ArrayList<>(agentStatsSize);
         List<DirectBufferBo> directBufferBos = new ArrayList<>(agentStatsSize);
+        List<SqlStatListBo> sqlStatListBos = new ArrayList<>(agentStatsSize);
+        List<TcpRequestBo> tcpRequestBos = new ArrayList<>(agentStatsSize);
+        List<ThreadSampleBo> threadSampleBos = new ArrayList<>(agentStatsSize);
+        // compact batches carry databaseName and url only on the first occurrence of each datasource
+        Map<Integer, DataSourceBo> prevDataSourceBos = new HashMap<>();
 
         for (TAgentStat tAgentStat : tAgentStatBatch.getAgentStats()) {
             final long timestamp = tAgentStat.getTimestamp();
@@ -146,6 +168,7 @@ public class AgentStatBatchMapper implements ThriftBoMapper<AgentStatBo, TAgentS
                 if (dataSourceList.getDataSourceListSize() > 0) {
                     for (TDataSource dataSource : dataSourceList.getDataSourceList()) {
                         DataSourceBo dataSourceBo = dataSourceBoMapper.map(dataSource);
+                        restoreCompactedData(dataSourceBo, dataSource, prevDataSourceBos.put(dataSource.getId(), dataSourceBo));
                         setBaseData(dataSourceBo, agentId, startTimestamp, timestamp);
                         dataSourceListBo.add(dataSourceBo);
                     }
@@ -180,6 +203,33 @@ public class AgentStatBatchMapper implements ThriftBoMapper<AgentStatBo, TAgentS
                 setBaseData(directBufferBo, agentId, startTimestamp, timestamp);
                 directBufferBos.add(directBufferBo);
             }
+
+            // sqlStat
+            if (tAgentStat.isSetSqlStatList() && tAgentStat.getSqlStatList().getSqlStatListSize() > 0) {
+                SqlStatListBo sqlStatListBo = new SqlStatListBo();
+                setBaseData(sqlStatListBo, agentId, startTimestamp, timestamp);
+                TSqlStatList tSqlStatList = tAgentStat.getSqlStatList();
+                for (TSqlStat sqlStat : tSqlStatList.getSqlStatList()) {
+                    SqlStatBo sqlStatBo = this.sqlStatBoMapper.map(sqlStat, tSqlStatList.getDatabaseList());
+                    setBaseData(sqlStatBo, agentId, startTimestamp, timestamp);
+                    sqlStatListBo.add(sqlStatBo);
+                }
+                sqlStatListBos.add(sqlStatListBo);
+            }
+
+            // tcpRequest
+            if (tAgentStat.isSetTcpRequest()) {
+                TcpRequestBo tcpRequestBo = this.tcpRequestBoMapper.map(tAgentStat.getTcpRequest());
+                setBaseData(tcpRequestBo, agentId, startTimestamp, timestamp);
+                tcpRequestBos.add(tcpRequestBo);
+            }
+
+            // threadSample
+            if (tAgentStat.isSetThreadSample()) {
+                ThreadSampleBo threadSampleBo = this.threadSampleBoMapper.map(tAgentStat.getThreadSample());
+                setBaseData(threadSampleBo, agentId, startTimestamp, timestamp);
+                threadSampleBos.add(threadSampleBo);
+            }
         }
 
         agentStatBo.setJvmGcBos(jvmGcBos);
@@ -192,9 +242,24 @@ public class AgentStatBatchMapper implements ThriftBoMapper<AgentStatBo, TAgentS
         agentStatBo.setDeadlockThreadCountBos(deadlockThreadCountBos);
         agentStatBo.setFileDescriptorBos(fileDescriptorBos);
         agentStatBo.setDirectBufferBos(directBufferBos);
+        agentStatBo.setSqlStatListBos(sqlStatListBos);
+        agentStatBo.setTcpRequestBos(tcpRequestBos);
+        agentStatBo.setThreadSampleBos(threadSampleBos);
         return agentStatBo;
     }
 
+    private void restoreCompactedData(DataSourceBo dataSourceBo, TDataSource dataSource, DataSourceBo prevDataSourceBo) {
+        if (prevDataSourceBo == null) {
+            return;
+        }
+        if (!dataSource.isSetDatabaseName()) {
+            dataSourceBo.setDatabaseName(prevDataSourceBo.getDatabaseName());
+        }
+        if (!dataSource.isSetUrl()) {
+            dataSourceBo.setJdbcUrl(prevDataSourceBo.getJdbcUrl());
+        }
+    }
+
     private void setBaseData(AgentStatDataPoint agentStatDataPoint, String agentId, long startTimestamp, long timestamp) {
         agentStatDataPoint.setAgentId(agentId);
         agentStatDataPoint.setStartTimestamp(startTimestamp);
@@ -29,10 +29,16 @@ import com.navercorp.pinpoint.common.server.bo.stat.FileDescriptorBo;
 import com.navercorp.pinpoint.common.server.bo.stat.JvmGcBo;
 import com.navercorp.pinpoint.common.server.bo.stat.JvmGcDetailedBo;
 import com.navercorp.pinpoint.common.server.bo.stat.ResponseTimeBo;
+import com.navercorp.pinpoint.common.server.bo.stat.SqlStatBo;
+import com.navercorp.pinpoint.common.server.bo.stat.SqlStatListBo;
+import com.navercorp.pinpoint.common.server.bo.stat.TcpRequestBo;
+import com.navercorp.pinpoint.common.server.bo.stat.ThreadSampleBo;
 import com.navercorp.pinpoint.common.server.bo.stat.TransactionBo;
 import com.navercorp.pinpoint.thrift.dto.TAgentStat;
 import com.navercorp.pinpoint.thrift.dto.TDataSource;
 import com.navercorp.pinpoint.thrift.dto.TDataSourceList;
+import com.navercorp.pinpoint.thrift.dto.TSqlStat;
+import com.navercorp.pinpoint.thrift.dto.TSqlStatList;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
 
@@ -74,6 +80,15 @@ public class AgentStatMapper implements ThriftBoMapper<AgentStatBo, TAgentStat>
     @Autowired
     private DirectBufferBoMapper directBufferBoMapper;
 
+    @Autowired
+    private SqlStatBoMapper sqlStatBoMapper;
+
+    @Autowired
+    private TcpRequestBoMapper tcpRequestBoMapper;
+
+    @Autowired
+    private ThreadSampleBoMapper threadSampleBoMapper;
+
     @Override
     public AgentStatBo map(TAgentStat tAgentStat) {
         if (tAgentStat == null) {
@@ -154,6 +169,30 @@ public class AgentStatMapper implements ThriftBoMapper<AgentStatBo, TAgentStat>
             setBaseData(directBufferBo, agentId, startTimestamp, timestamp);
             agentStatBo.setDirectBufferBos(Arrays.asList(directBufferBo));
         }
+        // sqlStat
+        if (tAgentStat.isSetSqlStatList() && tAgentStat.getSqlStatList().getSqlStatListSize() > 0) {
+            SqlStatListBo sqlStatListBo = new SqlStatListBo();
+            setBaseData(sqlStatListBo, agentId, startTimestamp, timestamp);
+            TSqlStatList tSqlStatList = tAgentStat.getSqlStatList();
+            for (TSqlStat sqlStat : tSqlStatList.getSqlStatList()) {
+                SqlStatBo sqlStatBo = this.sqlStatBoMapper.map(sqlStat, tSqlStatList.getDatabaseList());
+                setBaseData(sqlStatBo, agentId, startTimestamp, timestamp);
+                sqlStatListBo.add(sqlStatBo);
+            }
+            agentStatBo.setSqlStatListBos(Arrays.asList(sqlStatListBo));
+        }
+        // tcpRequest
+        if (tAgentStat.isSetTcpRequest()) {
+            TcpRequestBo tcpRequestBo = this.tcpRequestBoMapper.map(tAgentStat.getTcpRequest());
+            setBaseData(tcpRequestBo, agentId, startTimestamp, timestamp);
+            agentStatBo.setTcpRequestBos(Arrays.asList(tcpRequestBo));
+        }
+        // threadSample
+        if (tAgentStat.isSetThreadSample()) {
+            ThreadSampleBo threadSampleBo = this.threadSampleBoMapper.map(tAgentStat.getThreadSample());
+            setBaseData(threadSampleBo, agentId, startTimestamp, timestamp);
+            agentStatBo.setThreadSampleBos(Arrays.asList(threadSampleBo));
+        }
 
         return agentStatBo;
     }
@@ -18,6 +18,7 @@ package com.navercorp.pinpoint.collector.mapper.thrift.stat;
 
 import com.navercorp.pinpoint.collector.mapper.thrift.ThriftBoMapper;
 import com.navercorp.pinpoint.common.server.bo.stat.ResponseTimeBo;
+import com.navercorp.pinpoint.common.util.LogLinearHistogram;
 import com.navercorp.pinpoint.thrift.dto.TResponseTime;
 import org.springframework.stereotype.Component;
 
@@ -32,6 +33,9 @@ public class ResponseTimeBoMapper implements ThriftBoMapper<ResponseTimeBo, TRes
         ResponseTimeBo responseTimeBo = new ResponseTimeBo();
         responseTimeBo.setAvg(tResponseTime.getAvg());
         responseTimeBo.setMax(tResponseTime.getMax());
+        if (tResponseTime.isSetHistogram()) {
+            responseTimeBo.setHistogram(LogLinearHistogram.decode(tResponseTime.getHistogram()));
+        }
         return responseTimeBo;
     }
 
@@ -0,0 +1,79 @@
+/*
+ * Copyright 2018 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.pinpoint.collector.mapper.thrift.stat;
+
+import com.navercorp.pinpoint.collector.mapper.thrift.ThriftBoMapper;
+import com.navercorp.pinpoint.common.server.bo.stat.SqlStatBo;
+import com.navercorp.pinpoint.thrift.dto.TSqlDatabase;
+import com.navercorp.pinpoint.thrift.dto.TSqlStat;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+@Component
+public class SqlStatBoMapper implements ThriftBoMapper<SqlStatBo, TSqlStat> {
+
+    @Override
+    public SqlStatBo map(TSqlStat sqlStat) {
+        return map(sqlStat, null);
+    }
+
+    /**
+     * @param databaseList databases of the enclosing TSqlStatList, referred to by {@link TSqlStat#getDatabaseIndex()}
+     */
+    public SqlStatBo map(TSqlStat sqlStat, List<TSqlDatabase> databaseList) {
+        SqlStatBo sqlStatBo = new SqlStatBo();
+        sqlStatBo.setSqlId(sqlStat.getSqlId());
+        final TSqlDatabase database = getDatabase(sqlStat, databaseList);
+        if (database != null) {
+            if (database.isSetDatabaseName()) {
+                sqlStatBo.setDatabaseName(database.getDatabaseName());
+            }
+            if (database.isSetUrl()) {
+                sqlStatBo.setUrl(database.getUrl());
+            }
+        }
+        // older agents send databaseName and url with every sql stat
+        if (sqlStat.isSetDatabaseName()) {
+            sqlStatBo.setDatabaseName(sqlStat.getDatabaseName());
+        }
+        if (sqlStat.isSetUrl()) {
+            sqlStatBo.setUrl(sqlStat.getUrl());
+        }
+        sqlStatBo.setCount(sqlStat.getCount());
+        sqlStatBo.setErrorCount(sqlStat.getErrorCount());
+        sqlStatBo.setTotalTime(sqlStat.getTotalTime());
+        sqlStatBo.setMaxTime(sqlStat.getMaxTime());
+        sqlStatBo.setFastCount(sqlStat.getFastCount());
+        sqlStatBo.setNormalCount(sqlStat.getNormalCount());
+        sqlStatBo.setSlowCount(sqlStat.getSlowCount());
+        sqlStatBo.setVerySlowCount(sqlStat.getVerySlowCount());
+        return sqlStatBo;
+    }
+
+    private TSqlDatabase getDatabase(TSqlStat sqlStat, List<TSqlDatabase> databaseList) {
+        if (!sqlStat.isSetDatabaseIndex() || databaseList == null) {
+            return null;
+        }
+        final int databaseIndex = sqlStat.getDatabaseIndex();
+        if (databaseIndex < 0 || databaseIndex >= databaseList.size()) {
+            return null;
+        }
+        return databaseList.get(databaseIndex);
+    }
+
+}
@@ -16,6 +16,7 @@
 package com.navercorp.pinpoint.collector.mapper.thrift.stat;
 
 import com.navercorp.pinpoint.common.server.bo.stat.ResponseTimeBo;
+import com.navercorp.pinpoint.common.util.LogLinearHistogram;
 import com.navercorp.pinpoint.thrift.dto.flink.TFResponseTime;
 
 /**
@@ -26,6 +27,10 @@ public class TFResponseTimeMapper {
     public TFResponseTime map(ResponseTimeBo responseTimeBo) {
         TFResponseTime tFResponseTime = new TFResponseTime();
         tFResponseTime.setAvg(responseTimeBo.getAvg());
+        final LogLinearHistogram histogram = responseTimeBo.getHistogram();
+        if (histogram != null) {
+            tFResponseTime.setHistogram(histogram.encode());
+        }
         return tFResponseTime;
     }
 }
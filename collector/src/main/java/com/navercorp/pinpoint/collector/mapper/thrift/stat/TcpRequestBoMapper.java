@@ -0,0 +1,39 @@
+/*
+ * Copyright 2018 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.pinpoint.collector.mapper.thrift.stat;
+
+import com.navercorp.pinpoint.collector.mapper.thrift.ThriftBoMapper;
+import com.navercorp.pinpoint.common.server.bo.stat.TcpRequestBo;
+import com.navercorp.pinpoint.thrift.dto.TTcpRequest;
+import org.springframework.stereotype.Component;
+
+@Component
+public class TcpRequestBoMapper implements ThriftBoMapper<TcpRequestBo, TTcpRequest> {
+
+    @Override
+    public TcpRequestBo map(TTcpRequest tTcpRequest) {
+        TcpRequestBo tcpRequestBo = new TcpRequestBo();
+        tcpRequestBo.setPendingCount(tTcpRequest.getPendingCount());
+        tcpRequestBo.setRetryQueueSize(tTcpRequest.getRetryQueueSize());
+        tcpRequestBo.setRequestCount(tTcpRequest.getRequestCount());
+        tcpRequestBo.setFailCount(tTcpRequest.getFailCount());
+        tcpRequestBo.setRejectCount(tTcpRequest.getRejectCount());
+        tcpRequestBo.setAvgRoundTripTime(tTcpRequest.getAvgRoundTripTime());
+        tcpRequestBo.setMaxRoundTripTime(tTcpRequest.getMaxRoundTripTime());
+        return tcpRequestBo;
+    }
+}
@@ -0,0 +1,49 @@
+/*
+ * Copyright 2018 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.pinpoint.collector.mapper.thrift.stat;
+
+import com.navercorp.pinpoint.collector.mapper.thrift.ThriftBoMapper;
+import com.navercorp.pinpoint.common.server.bo.stat.ThreadSampleBo;
+import com.navercorp.pinpoint.common.server.bo.stat.ThreadSampleStackBo;
+import com.navercorp.pinpoint.thrift.dto.TThreadSample;
+import com.navercorp.pinpoint.thrift.dto.TThreadSampleStack;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Component
+public class ThreadSampleBoMapper implements ThriftBoMapper<ThreadSampleBo, TThreadSample> {
+
+    @Override
+    public ThreadSampleBo map(TThreadSample tThreadSample) {
+        ThreadSampleBo threadSampleBo = new ThreadSampleBo();
+        threadSampleBo.setSampledThreadCount(tThreadSample.getSampledThreadCount());
+        if (tThreadSample.isSetStackList()) {
+            List<ThreadSampleStackBo> stackBoList = new ArrayList<>(tThreadSample.getStackListSize());
+            for (TThreadSampleStack tThreadSampleStack : tThreadSample.getStackList()) {
+                ThreadSampleStackBo stackBo = new ThreadSampleStackBo();
+                stackBo.setSampleCount(tThreadSampleStack.getSampleCount());
+                stackBo.setEntryPoint(tThreadSampleStack.getEntryPoint());
+                stackBo.setStack(tThreadSampleStack.getStack());
+                stackBoList.add(stackBo);
+            }
+            threadSampleBo.setStackBoList(stackBoList);
+        }
+        return threadSampleBo;
+    }
+}
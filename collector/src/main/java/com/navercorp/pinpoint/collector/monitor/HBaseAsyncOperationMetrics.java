@@ -37,6 +37,8 @@ public class HBaseAsyncOperationMetrics implements MetricSet {
     private static final String FAILED_COUNT = HBASE_ASYNC_OPS + ".failed.count";
     private static final String WAITING_COUNT = HBASE_ASYNC_OPS + ".waiting.count";
     private static final String AVERAGE_LATENCY = HBASE_ASYNC_OPS + ".latency.value";
+    private static final String MAX_QUEUE_TIME = HBASE_ASYNC_OPS + ".queue.time.max";
+    private static final String QUEUE_TIME = HBASE_ASYNC_OPS + ".queue.time";
 
     private final HBaseAsyncOperation hBaseAsyncOperation;
 
@@ -84,6 +86,23 @@ public class HBaseAsyncOperationMetrics implements MetricSet {
                 return hBaseAsyncOperation.getOpsAverageLatency();
             }
         });
+        gauges.put(MAX_QUEUE_TIME, new Gauge<Long>() {
+            @Override
+            public Long getValue() {
+                long max = 0;
+                for (Long queueTime : hBaseAsyncOperation.getOpsAverageQueueTimeForEachRegionServer().values()) {
+                    max = Math.max(max, queueTime);
+                }
+                return max;
+            }
+        });
+        // per region server, so a hot server can be told apart from overall slowness
+        gauges.put(QUEUE_TIME, new Gauge<Map<String, Long>>() {
+            @Override
+            public Map<String, Long> getValue() {
+                return hBaseAsyncOperation.getOpsAverageQueueTimeForEachRegionServer();
+            }
+        });
 
         return Collections.unmodifiableMap(gauges);
     }
@@ -0,0 +1,170 @@
+/*
+ * Copyright 2018 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.navercorp.pinpoint.collector.sender;
+
+import com.codahale.metrics.Meter;
+import com.codahale.metrics.MetricRegistry;
+import com.navercorp.pinpoint.common.util.PinpointThreadFactory;
+import com.navercorp.pinpoint.thrift.dto.flink.TFAgentStatBatch;
+import com.navercorp.pinpoint.thrift.dto.flink.TFAgentStatBatchBundle;
+import com.navercorp.pinpoint.thrift.io.AgentStatBatchBundleCodec;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Queues stat batches of many agents and sends them to one flink task manager as a compressed {@link TFAgentStatBatchBundle}.
+ * A bundle is sent when {@code bundleSize} batches are queued or every {@code flushInterval} ms, whichever comes first.
+ * When the queue is full, new batches are dropped and counted.
+ * Meters are registered per sender as {@code flinkStatBundle.<name>.*}.
+ */
+public class BundleAgentStatBatchSender implements AgentStatBatchSender {
+
+    private final Logger logger = LoggerFactory.getLogger(this.getClass());
+
+    private final FlinkTcpDataSender flinkTcpDataSender;
+    private final AgentStatBatchBundleCodec agentStatBatchBundleCodec;
+    private final int bundleSize;
+    private final BlockingQueue<TFAgentStatBatch> queue;
+    private final ScheduledExecutorService flushExecutor;
+    private final AtomicBoolean flushRequested = new AtomicBoolean(false);
+    private final Runnable flushTask = new Runnable() {
+        @Override
+        public void run() {
+            flush();
+        }
+    };
+
+    private final Meter sentMeter;
+    private final Meter bundleMeter;
+    private final Meter dropMeter;
+    private final AtomicLong unreportedDropCount = new AtomicLong();
+
+    public BundleAgentStatBatchSender(String name, FlinkTcpDataSender flinkTcpDataSender, AgentStatBatchBundleCodec agentStatBatchBundleCodec,
+                                      int bundleSize, long flushInterval, int queueSize, MetricRegistry registry) {
+        Objects.requireNonNull(name, "name must not be null");
+        this.flinkTcpDataSender = Objects.requireNonNull(flinkTcpDataSender, "flinkTcpDataSender must not be null");
+        this.agentStatBatchBundleCodec = Objects.requireNonNull(agentStatBatchBundleCodec, "agentStatBatchBundleCodec must not be null");
+        if (bundleSize <= 0) {
+            throw new IllegalArgumentException("bundleSize must be greater than 0. bundleSize:" + bundleSize);
+        }
+        if (flushInterval <= 0) {
+            throw new IllegalArgumentException("flushInterval must be greater than 0. flushInterval:" + flushInterval);
+        }
+        if (queueSize < bundleSize) {
+            throw new IllegalArgumentException("queueSize must not be less than bundleSize. queueSize:" + queueSize);
+        }
+        this.bundleSize = bundleSize;
+        this.queue = new ArrayBlockingQueue<>(queueSize);
+
+        if (registry == null) {
+            this.sentMeter = new Meter();
+            this.bundleMeter = new Meter();
+            this.dropMeter = new Meter();
+        } else {
+            this.sentMeter = registry.meter(MetricRegistry.name("flinkStatBundle", name, "sent"));
+            this.bundleMeter = registry.meter(MetricRegistry.name("flinkStatBundle", name, "bundles"));
+            this.dropMeter = registry.meter(MetricRegistry.name("flinkStatBundle", name, "dropped"));
+        }
+
+        this.flushExecutor = Executors.newSingleThreadScheduledExecutor(new PinpointThreadFactory("Pinpoint-FlinkStatBundle-" + name, true));
+        this.flushExecutor.scheduleWithFixedDelay(flushTask, flushInterval, flushInterval, TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public boolean send(TFAgentStatBatch tFAgentStatBatch) {
+        if (!queue.offer(tFAgentStatBatch)) {
+            drop(1);
+            return false;
+        }
+
+        if (queue.size() >= bundleSize && flushRequested.compareAndSet(false, true)) {
+            try {
+                flushExecutor.execute(flushTask);
+            } catch (RejectedExecutionException e) {
+                // stopped. the remaining batches are flushed by stop()
+                flushRequested.set(false);
+            }
+        }
+        return true;
+    }
+
+    private void flush() {
+        flushRequested.set(false);
+
+        final List<TFAgentStatBatch> agentStatBatchList = new ArrayList<>(bundleSize);
+        while (queue.drainTo(agentStatBatchList, bundleSize) > 0) {
+            sendBundle(agentStatBatchList);
+            agentStatBatchList.clear();
+        }
+
+        final long dropCount = unreportedDropCount.getAndSet(0);
+        if (dropCount > 0) {
+            logger.warn("{} agent stat batches dropped. queue is full. total dropped:{}", dropCount, dropMeter.getCount());
+        }
+    }
+
+    private void sendBundle(List<TFAgentStatBatch> agentStatBatchList) {
+        try {
+            final TFAgentStatBatchBundle bundle = agentStatBatchBundleCodec.encode(agentStatBatchList);
+            if (logger.isDebugEnabled()) {
+                logger.debug("send to flinkserver. count:{}, bodySize:{}", bundle.getCount(), bundle.bufferForBody().remaining());
+            }
+            if (flinkTcpDataSender.send(bundle)) {
+                sentMeter.mark(agentStatBatchList.size());
+                bundleMeter.mark();
+            } else {
+                drop(agentStatBatchList.size());
+            }
+        } catch (Exception e) {
+            drop(agentStatBatchList.size());
+            logger.warn("Error sending bundle to flink server. Caused:{}", e.getMessage(), e);
+        }
+    }
+
+    private void drop(int count) {
+        dropMeter.mark(count);
+        unreportedDropCount.addAndGet(count);
+    }
+
+    public long getDropCount() {
+        return dropMeter.getCount();
+    }
+
+    @Override
+    public void stop() {
+        flushExecutor.shutdown();
+        try {
+            flushExecutor.awaitTermination(3000, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        flush();
+
+        flinkTcpDataSender.stop();
+    }
+}
@@ -0,0 +1,42 @@
+/*
+ * Copyright 2018 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.navercorp.pinpoint.collector.sender;
+
+import com.navercorp.pinpoint.thrift.dto.flink.TFAgentStatBatch;
+
+import java.util.Objects;
+
+/**
+ * Sends every stat batch as its own message.
+ */
+public class DirectAgentStatBatchSender implements AgentStatBatchSender {
+
+    private final FlinkTcpDataSender flinkTcpDataSender;
+
+    public DirectAgentStatBatchSender(FlinkTcpDataSender flinkTcpDataSender) {
+        this.flinkTcpDataSender = Objects.requireNonNull(flinkTcpDataSender, "flinkTcpDataSender must not be null");
+    }
+
+    @Override
+    public boolean send(TFAgentStatBatch tFAgentStatBatch) {
+        return flinkTcpDataSender.send(tFAgentStatBatch);
+    }
+
+    @Override
+    public void stop() {
+        flinkTcpDataSender.stop();
+    }
+}
@@ -26,6 +26,9 @@ import com.navercorp.pinpoint.common.server.bo.stat.FileDescriptorBo;
 import com.navercorp.pinpoint.common.server.bo.stat.JvmGcBo;
 import com.navercorp.pinpoint.common.server.bo.stat.JvmGcDetailedBo;
 import com.navercorp.pinpoint.common.server.bo.stat.ResponseTimeBo;
+import com.navercorp.pinpoint.common.server.bo.stat.SqlStatListBo;
+import com.navercorp.pinpoint.common.server.bo.stat.TcpRequestBo;
+import com.navercorp.pinpoint.common.server.bo.stat.ThreadSampleBo;
 import com.navercorp.pinpoint.common.server.bo.stat.TransactionBo;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -70,6 +73,15 @@ public class HBaseAgentStatService implements AgentStatService {
     @Autowired
     private AgentStatDaoV2<DirectBufferBo> directBufferDao;
 
+    @Autowired
+    private AgentStatDaoV2<SqlStatListBo> sqlStatListDao;
+
+    @Autowired
+    private AgentStatDaoV2<TcpRequestBo> tcpRequestDao;
+
+    @Autowired
+    private AgentStatDaoV2<ThreadSampleBo> threadSampleDao;
+
     @Override
     public void save(AgentStatBo agentStatBo) {
         final String agentId = agentStatBo.getAgentId();
@@ -84,6 +96,9 @@ public class HBaseAgentStatService implements AgentStatService {
             this.deadlockDao.insert(agentId, agentStatBo.getDeadlockThreadCountBos());
             this.fileDescriptorDao.insert(agentId, agentStatBo.getFileDescriptorBos());
             this.directBufferDao.insert(agentId, agentStatBo.getDirectBufferBos());
+            this.sqlStatListDao.insert(agentId, agentStatBo.getSqlStatListBos());
+            this.tcpRequestDao.insert(agentId, agentStatBo.getTcpRequestBos());
+            this.threadSampleDao.insert(agentId, agentStatBo.getThreadSampleBos());
         } catch (Exception e) {
             logger.warn("Error inserting AgentStatBo. Caused:{}", e.getMessage(), e);
         }
@@ -17,7 +17,7 @@ package com.navercorp.pinpoint.collector.service;
 
 import com.navercorp.pinpoint.collector.config.CollectorConfiguration;
 import com.navercorp.pinpoint.collector.mapper.thrift.stat.TFAgentStatBatchMapper;
-import com.navercorp.pinpoint.collector.sender.FlinkTcpDataSender;
+import com.navercorp.pinpoint.collector.sender.AgentStatBatchSender;
 import com.navercorp.pinpoint.common.server.bo.stat.AgentStatBo;
 import com.navercorp.pinpoint.thrift.dto.flink.TFAgentStatBatch;
 import org.slf4j.Logger;
@@ -38,7 +38,7 @@ public class SendAgentStatService implements AgentStatService {
     private final boolean flinkClusterEnable;
     private final TFAgentStatBatchMapper tFAgentStatBatchMapper = new TFAgentStatBatchMapper();
 
-    private volatile List<FlinkTcpDataSender> flinkTcpDataSenderList = new CopyOnWriteArrayList<>();
+    private volatile List<AgentStatBatchSender> agentStatBatchSenderList = new CopyOnWriteArrayList<>();
     private AtomicInteger callCount = new AtomicInteger(1);
 
     public SendAgentStatService(CollectorConfiguration config) {
@@ -52,44 +52,44 @@ public class SendAgentStatService implements AgentStatService {
         }
 
         try {
-            FlinkTcpDataSender tcpDataSender = roundRobinTcpDataSender();
-            if (tcpDataSender == null) {
-                logger.warn("not send flink server. Because FlinkTcpDataSender is null");
+            AgentStatBatchSender agentStatBatchSender = roundRobinAgentStatBatchSender();
+            if (agentStatBatchSender == null) {
+                logger.warn("not send flink server. Because AgentStatBatchSender is null");
                 return;
             }
             TFAgentStatBatch tFAgentStatBatch = tFAgentStatBatchMapper.map(agentStatBo);
             if (logger.isDebugEnabled()) {
                 logger.debug("send to flinkserver : {}", tFAgentStatBatch);
             }
-            tcpDataSender.send(tFAgentStatBatch);
+            agentStatBatchSender.send(tFAgentStatBatch);
         } catch (Exception e) {
             logger.error("Error sending to flink server. Caused:{}", e.getMessage(), e);
         }
     }
 
-    private FlinkTcpDataSender roundRobinTcpDataSender() {
-        if (flinkTcpDataSenderList.isEmpty()) {
+    private AgentStatBatchSender roundRobinAgentStatBatchSender() {
+        if (agentStatBatchSenderList.isEmpty()) {
             return null;
         }
 
         int count = callCount.getAndIncrement();
-        int tcpDataSenderIndex = count % flinkTcpDataSenderList.size();
+        int senderIndex = count % agentStatBatchSenderList.size();
 
-        if (tcpDataSenderIndex < 0) {
-            tcpDataSenderIndex = tcpDataSenderIndex * -1;
+        if (senderIndex < 0) {
+            senderIndex = senderIndex * -1;
             callCount.set(0);
         }
 
         try {
-            return flinkTcpDataSenderList.get(tcpDataSenderIndex);
+            return agentStatBatchSenderList.get(senderIndex);
         } catch (Exception e) {
-            logger.warn("not get FlinkTcpDataSender", e);
+            logger.warn("not get AgentStatBatchSender", e);
         }
 
         return null;
     }
 
-    public void replaceFlinkTcpDataSenderList(List<FlinkTcpDataSender> flinkTcpDataSenderList) {
-        this.flinkTcpDataSenderList = new CopyOnWriteArrayList<FlinkTcpDataSender>(flinkTcpDataSenderList);
+    public void replaceAgentStatBatchSenderList(List<AgentStatBatchSender> agentStatBatchSenderList) {
+        this.agentStatBatchSenderList = new CopyOnWriteArrayList<AgentStatBatchSender>(agentStatBatchSenderList);
     }
 }
@@ -16,6 +16,7 @@
 
 package com.navercorp.pinpoint.collector.service;
 
+import com.navercorp.pinpoint.collector.alarm.StreamingAlarmEvaluator;
 import com.navercorp.pinpoint.collector.dao.MapResponseTimeDao;
 import com.navercorp.pinpoint.collector.dao.MapStatisticsCalleeDao;
 import com.navercorp.pinpoint.collector.dao.MapStatisticsCallerDao;
@@ -41,6 +42,9 @@ public class StatisticsService {
     @Autowired
     private MapResponseTimeDao mapResponseTimeDao;
 
+    @Autowired(required = false)
+    private StreamingAlarmEvaluator streamingAlarmEvaluator;
+
     /**
      * Calling MySQL from Tomcat generates the following message for the caller(Tomcat) :<br/>
      * emeroad-app (TOMCAT) -> MySQL_DB_ID (MYSQL)[10.25.141.69:3306] <br/>
@@ -79,5 +83,8 @@ public class StatisticsService {
 
     public void updateResponseTime(String applicationName, ServiceType serviceType, String agentId, int elapsed, boolean isError) {
         mapResponseTimeDao.received(applicationName, serviceType, agentId, elapsed, isError);
+        if (streamingAlarmEvaluator != null) {
+            streamingAlarmEvaluator.updateResponseTime(applicationName, serviceType, agentId, elapsed, isError);
+        }
     }
 }
@@ -0,0 +1,51 @@
+/*
+ * Copyright 2018 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.pinpoint.collector.service;
+
+import com.navercorp.pinpoint.collector.alarm.StreamingAlarmEvaluator;
+import com.navercorp.pinpoint.common.server.bo.stat.AgentStatBo;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+import java.util.Objects;
+
+@Service("streamingAlarmAgentStatService")
+public class StreamingAlarmAgentStatService implements AgentStatService {
+
+    private final Logger logger = LoggerFactory.getLogger(this.getClass());
+
+    private final StreamingAlarmEvaluator streamingAlarmEvaluator;
+
+    @Autowired
+    public StreamingAlarmAgentStatService(StreamingAlarmEvaluator streamingAlarmEvaluator) {
+        this.streamingAlarmEvaluator = Objects.requireNonNull(streamingAlarmEvaluator, "streamingAlarmEvaluator must not be null");
+    }
+
+    @Override
+    public void save(AgentStatBo agentStatBo) {
+        if (!streamingAlarmEvaluator.isEnable()) {
+            return;
+        }
+        try {
+            streamingAlarmEvaluator.updateAgentStat(agentStatBo);
+        } catch (Exception e) {
+            logger.warn("Error updating streaming alarm. Caused:{}", e.getMessage(), e);
+        }
+    }
+}
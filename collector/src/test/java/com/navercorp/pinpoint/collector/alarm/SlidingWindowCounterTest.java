@@ -0,0 +1,104 @@
+/*
+ * Copyright 2018 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.pinpoint.collector.alarm;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.concurrent.CountDownLatch;
+
+public class SlidingWindowCounterTest {
+
+    @Test
+    public void sum() {
+        SlidingWindowCounter counter = new SlidingWindowCounter(5000, 1000);
+        counter.add(1000, 1);
+        counter.add(1500, 2);
+        counter.add(3000, 3);
+
+        Assert.assertEquals(6, counter.sum(3000));
+        Assert.assertEquals(6, counter.sum(5999));
+        // slot 1000 is out of the window
+        Assert.assertEquals(3, counter.sum(6000));
+        Assert.assertEquals(0, counter.sum(8000));
+    }
+
+    @Test
+    public void reuseSlot() {
+        SlidingWindowCounter counter = new SlidingWindowCounter(5000, 1000);
+        counter.add(1000, 1);
+        counter.add(6000, 5);
+
+        Assert.assertEquals(5, counter.sum(6000));
+
+        // too old
+        counter.add(1000, 1);
+        Assert.assertEquals(5, counter.sum(6000));
+    }
+
+    @Test
+    public void max() {
+        SlidingWindowCounter counter = new SlidingWindowCounter(5000, 1000);
+        counter.updateMax(1000, 90);
+        counter.updateMax(1500, 30);
+        counter.updateMax(3000, 10);
+
+        Assert.assertEquals(90, counter.max(3000));
+        // slot 1000 is out of the window
+        Assert.assertEquals(10, counter.max(6000));
+        Assert.assertEquals(0, counter.max(8000));
+    }
+
+    @Test
+    public void concurrentReuseSlot() throws Exception {
+        final SlidingWindowCounter counter = new SlidingWindowCounter(5000, 1000);
+        counter.add(1000, 100);
+
+        final int threadCount = 4;
+        final int addCount = 10000;
+        final CountDownLatch start = new CountDownLatch(1);
+        final Thread[] threads = new Thread[threadCount];
+        for (int i = 0; i < threadCount; i++) {
+            threads[i] = new Thread(new Runnable() {
+                @Override
+                public void run() {
+                    try {
+                        start.await();
+                    } catch (InterruptedException e) {
+                        return;
+                    }
+                    // every thread races to replace the old slot
+                    for (int j = 0; j < addCount; j++) {
+                        counter.add(6000, 1);
+                    }
+                }
+            });
+            threads[i].start();
+        }
+        start.countDown();
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        Assert.assertEquals(threadCount * addCount, counter.sum(6000));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void invalidWindow() {
+        new SlidingWindowCounter(500, 1000);
+    }
+}
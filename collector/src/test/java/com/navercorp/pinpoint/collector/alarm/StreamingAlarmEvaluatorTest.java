@@ -0,0 +1,171 @@
+/*
+ * Copyright 2018 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.pinpoint.collector.alarm;
+
+import com.navercorp.pinpoint.common.server.bo.stat.AgentStatBo;
+import com.navercorp.pinpoint.common.server.bo.stat.DataSourceBo;
+import com.navercorp.pinpoint.common.server.bo.stat.DataSourceListBo;
+import com.navercorp.pinpoint.common.trace.ServiceType;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+public class StreamingAlarmEvaluatorTest {
+
+    private static final String APPLICATION_NAME = "testApp";
+
+    @Test
+    public void errorCount() {
+        AlarmRuleRepository repository = new TestAlarmRuleRepository(AlarmCheckerCategory.ERROR_COUNT, 3);
+        TestAlarmMessageSender sender = new TestAlarmMessageSender();
+        StreamingAlarmEvaluator evaluator = new StreamingAlarmEvaluator(true, 60000, 1000, 1000, 60000, repository, sender);
+
+        final long now = 100000;
+        evaluator.updateResponseTime(APPLICATION_NAME, ServiceType.STAND_ALONE, "agent", 10, true, now);
+        evaluator.updateResponseTime(APPLICATION_NAME, ServiceType.STAND_ALONE, "agent", 10, true, now);
+        evaluator.evaluate(now);
+        Assert.assertEquals(0, sender.detectedValues.size());
+
+        evaluator.updateResponseTime(APPLICATION_NAME, ServiceType.STAND_ALONE, "agent", 10, true, now);
+        evaluator.evaluate(now);
+        Assert.assertEquals(1, sender.detectedValues.size());
+        Assert.assertEquals(3L, sender.detectedValues.get(0).longValue());
+
+        // not notified again within renotify interval
+        evaluator.evaluate(now + 1000);
+        Assert.assertEquals(1, sender.detectedValues.size());
+
+        // recovered, then detected again
+        evaluator.evaluate(now + 61000);
+        evaluator.updateResponseTime(APPLICATION_NAME, ServiceType.STAND_ALONE, "agent", 10, true, now + 62000);
+        evaluator.updateResponseTime(APPLICATION_NAME, ServiceType.STAND_ALONE, "agent", 10, true, now + 62000);
+        evaluator.updateResponseTime(APPLICATION_NAME, ServiceType.STAND_ALONE, "agent", 10, true, now + 62000);
+        evaluator.evaluate(now + 62000);
+        Assert.assertEquals(2, sender.detectedValues.size());
+    }
+
+    @Test
+    public void slowRate() {
+        AlarmRuleRepository repository = new TestAlarmRuleRepository(AlarmCheckerCategory.SLOW_RATE, 50);
+        TestAlarmMessageSender sender = new TestAlarmMessageSender();
+        StreamingAlarmEvaluator evaluator = new StreamingAlarmEvaluator(true, 60000, 1000, 1000, 60000, repository, sender);
+
+        final long now = 100000;
+        evaluator.updateResponseTime(APPLICATION_NAME, ServiceType.STAND_ALONE, "agent", 10, false, now);
+        evaluator.updateResponseTime(APPLICATION_NAME, ServiceType.STAND_ALONE, "agent", 10000, false, now);
+        evaluator.evaluate(now);
+        Assert.assertEquals(1, sender.detectedValues.size());
+        Assert.assertEquals(50L, sender.detectedValues.get(0).longValue());
+    }
+
+    @Test
+    public void applicationWithoutRule() {
+        AlarmRuleRepository repository = new TestAlarmRuleRepository(AlarmCheckerCategory.TOTAL_COUNT, 1);
+        TestAlarmMessageSender sender = new TestAlarmMessageSender();
+        StreamingAlarmEvaluator evaluator = new StreamingAlarmEvaluator(true, 60000, 1000, 1000, 60000, repository, sender);
+
+        final long now = 100000;
+        evaluator.updateResponseTime("otherApp", ServiceType.STAND_ALONE, "agent", 10, false, now);
+        evaluator.evaluate(now);
+        Assert.assertEquals(0, sender.detectedValues.size());
+    }
+
+    @Test
+    public void dataSourceConnectionUsageRate() {
+        AlarmRuleRepository repository = new TestAlarmRuleRepository(AlarmCheckerCategory.DATASOURCE_CONNECTION_USAGE_RATE, 80);
+        TestAlarmMessageSender sender = new TestAlarmMessageSender();
+        StreamingAlarmEvaluator evaluator = new StreamingAlarmEvaluator(true, 60000, 1000, 1000, 60000, repository, sender);
+
+        final long now = 100000;
+        evaluator.updateResponseTime(APPLICATION_NAME, ServiceType.STAND_ALONE, "agent", 10, false, now - 2000);
+        // counted at the arrival time, as the response times
+        evaluator.updateAgentStat(createDataSourceStat("agent", 0, 9, 10), now - 2000);
+        evaluator.updateAgentStat(createDataSourceStat("agent", 0, 1, 10), now - 1000);
+
+        // peak of the window, not the latest value
+        evaluator.evaluate(now);
+        Assert.assertEquals(1, sender.detectedValues.size());
+        Assert.assertEquals(90L, sender.detectedValues.get(0).longValue());
+    }
+
+    @Test
+    public void expireAgentApplication() {
+        AlarmRuleRepository repository = new TestAlarmRuleRepository(AlarmCheckerCategory.TOTAL_COUNT, 100);
+        StreamingAlarmEvaluator evaluator = new StreamingAlarmEvaluator(true, 60000, 1000, 1000, 60000, repository, new TestAlarmMessageSender());
+
+        final long now = 100000;
+        evaluator.updateResponseTime(APPLICATION_NAME, ServiceType.STAND_ALONE, "agent", 10, false, now);
+        evaluator.evaluate(now + StreamingAlarmEvaluator.AGENT_APPLICATION_EXPIRE_TIME);
+        Assert.assertEquals(1, evaluator.getAgentApplicationSize());
+
+        evaluator.evaluate(now + StreamingAlarmEvaluator.AGENT_APPLICATION_EXPIRE_TIME + 1);
+        Assert.assertEquals(0, evaluator.getAgentApplicationSize());
+    }
+
+    private AgentStatBo createDataSourceStat(String agentId, long timestamp, int activeConnectionSize, int maxConnectionSize) {
+        DataSourceBo dataSourceBo = new DataSourceBo();
+        dataSourceBo.setAgentId(agentId);
+        dataSourceBo.setTimestamp(timestamp);
+        dataSourceBo.setActiveConnectionSize(activeConnectionSize);
+        dataSourceBo.setMaxConnectionSize(maxConnectionSize);
+
+        DataSourceListBo dataSourceListBo = new DataSourceListBo();
+        dataSourceListBo.setAgentId(agentId);
+        dataSourceListBo.setTimestamp(timestamp);
+        dataSourceListBo.add(dataSourceBo);
+
+        AgentStatBo agentStatBo = new AgentStatBo();
+        agentStatBo.setAgentId(agentId);
+        agentStatBo.setDataSourceListBos(Arrays.asList(dataSourceListBo));
+        return agentStatBo;
+    }
+
+    private static class TestAlarmRuleRepository implements AlarmRuleRepository {
+
+        private final List<AlarmRule> rules;
+
+        private TestAlarmRuleRepository(AlarmCheckerCategory checkerCategory, long threshold) {
+            this.rules = Collections.singletonList(new AlarmRule("rule", APPLICATION_NAME, checkerCategory, threshold));
+        }
+
+        @Override
+        public List<AlarmRule> getRules(String applicationId) {
+            if (APPLICATION_NAME.equals(applicationId)) {
+                return rules;
+            }
+            return Collections.emptyList();
+        }
+
+        @Override
+        public void refresh() {
+        }
+    }
+
+    private static class TestAlarmMessageSender implements AlarmMessageSender {
+
+        private final List<Long> detectedValues = new ArrayList<>();
+
+        @Override
+        public void send(AlarmRule rule, long detectedValue) {
+            detectedValues.add(detectedValue);
+        }
+    }
+}
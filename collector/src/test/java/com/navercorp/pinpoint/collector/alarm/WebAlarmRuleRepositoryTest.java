@@ -0,0 +1,68 @@
+/*
+ * Copyright 2018 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.navercorp.pinpoint.collector.alarm;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.springframework.web.client.RestTemplate;
+
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class WebAlarmRuleRepositoryTest {
+
+    private static final String RULES = "[" +
+            "{\"ruleId\":\"1\",\"applicationId\":\"testApp\",\"checkerName\":\"ERROR COUNT\",\"threshold\":10,\"smsSend\":true}," +
+            "{\"ruleId\":\"2\",\"applicationId\":\"testApp\",\"checkerName\":\"DEADLOCK OCCURRENCE\",\"threshold\":1}" +
+            "]";
+
+    @Test
+    public void loadRulesOnRefresh() {
+        RestTemplate restTemplate = mock(RestTemplate.class);
+        when(restTemplate.getForObject(anyString(), eq(String.class), eq("testApp"))).thenReturn(RULES);
+        WebAlarmRuleRepository repository = new WebAlarmRuleRepository(restTemplate, "http://localhost:8080", 60000);
+
+        // the data path does not wait for the web
+        Assert.assertTrue(repository.getRules("testApp").isEmpty());
+
+        repository.refresh();
+        List<AlarmRule> rules = repository.getRules("testApp");
+        // checkers evaluated only by the web's batch are skipped
+        Assert.assertEquals(1, rules.size());
+        Assert.assertEquals("1", rules.get(0).getRuleId());
+        Assert.assertEquals(AlarmCheckerCategory.ERROR_COUNT, rules.get(0).getCheckerCategory());
+        Assert.assertEquals(10, rules.get(0).getThreshold());
+    }
+
+    @Test
+    public void keepRulesOnLoadFailure() {
+        RestTemplate restTemplate = mock(RestTemplate.class);
+        when(restTemplate.getForObject(anyString(), eq(String.class), eq("testApp"))).thenReturn(RULES);
+        WebAlarmRuleRepository repository = new WebAlarmRuleRepository(restTemplate, "http://localhost:8080", 0);
+        repository.getRules("testApp");
+        repository.refresh();
+
+        when(restTemplate.getForObject(anyString(), eq(String.class), eq("testApp"))).thenReturn("{\"errorCode\":\"500\"}");
+        repository.refresh();
+        Assert.assertEquals(1, repository.getRules("testApp").size());
+    }
+}
@@ -31,6 +31,9 @@ import com.navercorp.pinpoint.common.server.bo.stat.FileDescriptorBo;
 import com.navercorp.pinpoint.common.server.bo.stat.JvmGcBo;
 import com.navercorp.pinpoint.common.server.bo.stat.JvmGcDetailedBo;
 import com.navercorp.pinpoint.common.server.bo.stat.ResponseTimeBo;
+import com.navercorp.pinpoint.common.server.bo.stat.SqlStatListBo;
+import com.navercorp.pinpoint.common.server.bo.stat.TcpRequestBo;
+import com.navercorp.pinpoint.common.server.bo.stat.ThreadSampleBo;
 import com.navercorp.pinpoint.common.server.bo.stat.TransactionBo;
 import com.navercorp.pinpoint.thrift.dto.TAgentInfo;
 import com.navercorp.pinpoint.thrift.dto.TAgentStat;
@@ -96,6 +99,15 @@ public class ThriftAgentStatHandlerV2Test {
     @Mock
     private AgentStatDaoV2<DirectBufferBo> directBufferDao;
 
+    @Mock
+    private AgentStatDaoV2<SqlStatListBo> sqlStatListDao;
+
+    @Mock
+    private AgentStatDaoV2<TcpRequestBo> tcpRequestDao;
+
+    @Mock
+    private AgentStatDaoV2<ThreadSampleBo> threadSampleDao;
+
     @InjectMocks
     private HBaseAgentStatService hBaseAgentStatService = new HBaseAgentStatService();
 
@@ -132,6 +144,9 @@ public class ThriftAgentStatHandlerV2Test {
         verify(deadlockDao).insert(mappedAgentStat.getAgentId(), mappedAgentStat.getDeadlockThreadCountBos());
         verify(fileDescriptorDao).insert(mappedAgentStat.getAgentId(), mappedAgentStat.getFileDescriptorBos());
         verify(directBufferDao).insert(mappedAgentStat.getAgentId(), mappedAgentStat.getDirectBufferBos());
+        verify(sqlStatListDao).insert(mappedAgentStat.getAgentId(), mappedAgentStat.getSqlStatListBos());
+        verify(tcpRequestDao).insert(mappedAgentStat.getAgentId(), mappedAgentStat.getTcpRequestBos());
+        verify(threadSampleDao).insert(mappedAgentStat.getAgentId(), mappedAgentStat.getThreadSampleBos());
 
     }
 
@@ -157,6 +172,9 @@ public class ThriftAgentStatHandlerV2Test {
         verify(deadlockDao).insert(mappedAgentStat.getAgentId(), mappedAgentStat.getDeadlockThreadCountBos());
         verify(fileDescriptorDao).insert(mappedAgentStat.getAgentId(), mappedAgentStat.getFileDescriptorBos());
         verify(directBufferDao).insert(mappedAgentStat.getAgentId(), mappedAgentStat.getDirectBufferBos());
+        verify(sqlStatListDao).insert(mappedAgentStat.getAgentId(), mappedAgentStat.getSqlStatListBos());
+        verify(tcpRequestDao).insert(mappedAgentStat.getAgentId(), mappedAgentStat.getTcpRequestBos());
+        verify(threadSampleDao).insert(mappedAgentStat.getAgentId(), mappedAgentStat.getThreadSampleBos());
     }
 
     @Test
@@ -179,6 +197,9 @@ public class ThriftAgentStatHandlerV2Test {
         verifyZeroInteractions(responseTimeDao);
         verifyZeroInteractions(fileDescriptorDao);
         verifyZeroInteractions(directBufferDao);
+        verifyZeroInteractions(sqlStatListDao);
+        verifyZeroInteractions(tcpRequestDao);
+        verifyZeroInteractions(threadSampleDao);
     }
 
     @Test
@@ -202,6 +223,9 @@ public class ThriftAgentStatHandlerV2Test {
         verifyZeroInteractions(responseTimeDao);
         verifyZeroInteractions(fileDescriptorDao);
         verifyZeroInteractions(directBufferDao);
+        verifyZeroInteractions(sqlStatListDao);
+        verifyZeroInteractions(tcpRequestDao);
+        verifyZeroInteractions(threadSampleDao);
     }
 
     @Test(expected=IllegalArgumentException.class)
@@ -0,0 +1,117 @@
+/*
+ * Copyright 2018 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.pinpoint.collector.mapper.thrift.stat;
+
+import com.navercorp.pinpoint.common.server.bo.stat.AgentStatBo;
+import com.navercorp.pinpoint.common.server.bo.stat.DataSourceBo;
+import com.navercorp.pinpoint.common.server.bo.stat.DataSourceListBo;
+import com.navercorp.pinpoint.profiler.monitor.CollectJob;
+import com.navercorp.pinpoint.profiler.monitor.collector.AgentStatMetricCollector;
+import com.navercorp.pinpoint.profiler.sender.DataSender;
+import com.navercorp.pinpoint.thrift.dto.TAgentStat;
+import com.navercorp.pinpoint.thrift.dto.TAgentStatBatch;
+import com.navercorp.pinpoint.thrift.dto.TDataSource;
+import com.navercorp.pinpoint.thrift.dto.TDataSourceList;
+import org.apache.thrift.TDeserializer;
+import org.apache.thrift.TSerializer;
+import org.junit.Assert;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mockito;
+import org.mockito.Spy;
+import org.mockito.junit.MockitoJUnitRunner;
+
+import java.util.List;
+
+@RunWith(MockitoJUnitRunner.class)
+public class AgentStatBatchMapperTest {
+
+    private static final String AGENT_ID = "agent";
+    private static final long START_TIMESTAMP = 1000;
+
+    @Spy
+    private DataSourceBoMapper dataSourceBoMapper = new DataSourceBoMapper();
+
+    @InjectMocks
+    private AgentStatBatchMapper agentStatBatchMapper;
+
+    @Test
+    public void restoreCompactedDataSource() throws Exception {
+        AgentStatMetricCollector<TAgentStat> agentStatMetricCollector = mockAgentStatMetricCollector();
+        Mockito.when(agentStatMetricCollector.collect()).thenReturn(createAgentStat("url1", "url2"), createAgentStat("url1", "url2"), createAgentStat("url3", "url2"));
+
+        DataSender dataSender = Mockito.mock(DataSender.class);
+        CollectJob job = new CollectJob(dataSender, AGENT_ID, START_TIMESTAMP, agentStatMetricCollector, 3, true);
+        job.run();
+        job.run();
+        job.run();
+
+        ArgumentCaptor<TAgentStatBatch> captor = ArgumentCaptor.forClass(TAgentStatBatch.class);
+        Mockito.verify(dataSender).send(captor.capture());
+        TAgentStatBatch sentBatch = captor.getValue();
+        // compacted on the wire
+        TDataSource compacted = sentBatch.getAgentStats().get(1).getDataSourceList().getDataSourceList().get(0);
+        Assert.assertFalse(compacted.isSetUrl());
+        Assert.assertFalse(compacted.isSetDatabaseName());
+
+        TAgentStatBatch receivedBatch = new TAgentStatBatch();
+        new TDeserializer().deserialize(receivedBatch, new TSerializer().serialize(sentBatch));
+
+        AgentStatBo agentStatBo = agentStatBatchMapper.map(receivedBatch);
+        List<DataSourceListBo> dataSourceListBos = agentStatBo.getDataSourceListBos();
+        Assert.assertEquals(3, dataSourceListBos.size());
+        assertDataSourceList(dataSourceListBos.get(0), "url1", "url2");
+        assertDataSourceList(dataSourceListBos.get(1), "url1", "url2");
+        assertDataSourceList(dataSourceListBos.get(2), "url3", "url2");
+    }
+
+    private void assertDataSourceList(DataSourceListBo dataSourceListBo, String... urls) {
+        List<DataSourceBo> dataSourceBos = dataSourceListBo.getList();
+        Assert.assertEquals(urls.length, dataSourceBos.size());
+        for (int i = 0; i < urls.length; i++) {
+            DataSourceBo dataSourceBo = dataSourceBos.get(i);
+            Assert.assertEquals(AGENT_ID, dataSourceBo.getAgentId());
+            Assert.assertEquals(START_TIMESTAMP, dataSourceBo.getStartTimestamp());
+            Assert.assertEquals(i + 1, dataSourceBo.getId());
+            Assert.assertEquals("database" + (i + 1), dataSourceBo.getDatabaseName());
+            Assert.assertEquals(urls[i], dataSourceBo.getJdbcUrl());
+            Assert.assertEquals(10, dataSourceBo.getActiveConnectionSize());
+        }
+    }
+
+    private TAgentStat createAgentStat(String... urls) {
+        TDataSourceList dataSourceList = new TDataSourceList();
+        for (int i = 0; i < urls.length; i++) {
+            TDataSource dataSource = new TDataSource(i + 1);
+            dataSource.setDatabaseName("database" + (i + 1));
+            dataSource.setUrl(urls[i]);
+            dataSource.setActiveConnectionSize(10);
+            dataSourceList.addToDataSourceList(dataSource);
+        }
+
+        TAgentStat agentStat = new TAgentStat();
+        agentStat.setDataSourceList(dataSourceList);
+        return agentStat;
+    }
+
+    @SuppressWarnings("unchecked")
+    private AgentStatMetricCollector<TAgentStat> mockAgentStatMetricCollector() {
+        return Mockito.mock(AgentStatMetricCollector.class);
+    }
+}
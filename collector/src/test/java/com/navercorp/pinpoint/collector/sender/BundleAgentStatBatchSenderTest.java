@@ -0,0 +1,166 @@
+/*
+ * Copyright 2018 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.navercorp.pinpoint.collector.sender;
+
+import com.codahale.metrics.MetricRegistry;
+import com.navercorp.pinpoint.thrift.dto.flink.TFAgentStatBatch;
+import com.navercorp.pinpoint.thrift.dto.flink.TFAgentStatBatchBundle;
+import com.navercorp.pinpoint.thrift.io.AgentStatBatchBundleCodec;
+import org.junit.Test;
+import org.mockito.ArgumentCaptor;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.atLeast;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class BundleAgentStatBatchSenderTest {
+
+    private final AgentStatBatchBundleCodec codec = new AgentStatBatchBundleCodec();
+
+    @Test
+    public void bundleSizeTest() throws Exception {
+        FlinkTcpDataSender flinkTcpDataSender = mock(FlinkTcpDataSender.class);
+        when(flinkTcpDataSender.send(any())).thenReturn(true);
+
+        BundleAgentStatBatchSender sender = new BundleAgentStatBatchSender("test", flinkTcpDataSender, codec, 10, 60000, 100, null);
+        for (int i = 0; i < 25; i++) {
+            assertTrue(sender.send(createAgentStatBatch("agent" + i)));
+        }
+        verify(flinkTcpDataSender, timeout(3000).atLeast(2)).send(any(TFAgentStatBatchBundle.class));
+
+        // the remaining batches are flushed on stop
+        sender.stop();
+
+        ArgumentCaptor<TFAgentStatBatchBundle> captor = ArgumentCaptor.forClass(TFAgentStatBatchBundle.class);
+        verify(flinkTcpDataSender, atLeast(3)).send(captor.capture());
+        verify(flinkTcpDataSender).stop();
+
+        List<TFAgentStatBatch> received = new ArrayList<>();
+        for (TFAgentStatBatchBundle bundle : captor.getAllValues()) {
+            assertTrue(bundle.getCount() <= 10);
+            received.addAll(codec.decode(bundle));
+        }
+        assertEquals(25, received.size());
+        for (int i = 0; i < 25; i++) {
+            assertEquals("agent" + i, received.get(i).getAgentId());
+        }
+        assertEquals(0, sender.getDropCount());
+    }
+
+    @Test
+    public void flushIntervalTest() throws Exception {
+        FlinkTcpDataSender flinkTcpDataSender = mock(FlinkTcpDataSender.class);
+        when(flinkTcpDataSender.send(any())).thenReturn(true);
+
+        BundleAgentStatBatchSender sender = new BundleAgentStatBatchSender("test", flinkTcpDataSender, codec, 100, 50, 1000, null);
+        try {
+            sender.send(createAgentStatBatch("agent1"));
+            sender.send(createAgentStatBatch("agent2"));
+            sender.send(createAgentStatBatch("agent3"));
+
+            ArgumentCaptor<TFAgentStatBatchBundle> captor = ArgumentCaptor.forClass(TFAgentStatBatchBundle.class);
+            verify(flinkTcpDataSender, timeout(3000)).send(captor.capture());
+            assertEquals(3, captor.getValue().getCount());
+        } finally {
+            sender.stop();
+        }
+    }
+
+    @Test
+    public void dropTest() throws Exception {
+        final CountDownLatch sendEntered = new CountDownLatch(1);
+        final CountDownLatch sendReleased = new CountDownLatch(1);
+        FlinkTcpDataSender flinkTcpDataSender = mock(FlinkTcpDataSender.class);
+        when(flinkTcpDataSender.send(any())).thenAnswer(invocation -> {
+            sendEntered.countDown();
+            sendReleased.await(3000, TimeUnit.MILLISECONDS);
+            return true;
+        });
+
+        BundleAgentStatBatchSender sender = new BundleAgentStatBatchSender("test", flinkTcpDataSender, codec, 10, 60000, 10, null);
+        try {
+            for (int i = 0; i < 10; i++) {
+                sender.send(createAgentStatBatch("agent" + i));
+            }
+            // the flush thread holds the first bundle, the queue is empty again
+            assertTrue(sendEntered.await(3000, TimeUnit.MILLISECONDS));
+
+            for (int i = 0; i < 10; i++) {
+                assertTrue(sender.send(createAgentStatBatch("agent" + i)));
+            }
+            for (int i = 0; i < 5; i++) {
+                assertFalse(sender.send(createAgentStatBatch("agent" + i)));
+            }
+            assertEquals(5, sender.getDropCount());
+        } finally {
+            sendReleased.countDown();
+            sender.stop();
+        }
+    }
+
+    @Test
+    public void sendFailTest() throws Exception {
+        FlinkTcpDataSender flinkTcpDataSender = mock(FlinkTcpDataSender.class);
+        when(flinkTcpDataSender.send(any())).thenReturn(false);
+
+        BundleAgentStatBatchSender sender = new BundleAgentStatBatchSender("test", flinkTcpDataSender, codec, 10, 60000, 100, null);
+        for (int i = 0; i < 3; i++) {
+            sender.send(createAgentStatBatch("agent" + i));
+        }
+        sender.stop();
+
+        assertEquals(3, sender.getDropCount());
+    }
+
+    @Test
+    public void meterPerSenderTest() throws Exception {
+        FlinkTcpDataSender failSender = mock(FlinkTcpDataSender.class);
+        when(failSender.send(any())).thenReturn(false);
+        FlinkTcpDataSender okSender = mock(FlinkTcpDataSender.class);
+        when(okSender.send(any())).thenReturn(true);
+
+        MetricRegistry registry = new MetricRegistry();
+        BundleAgentStatBatchSender sender1 = new BundleAgentStatBatchSender("flink1:19994", failSender, codec, 10, 60000, 100, registry);
+        BundleAgentStatBatchSender sender2 = new BundleAgentStatBatchSender("flink2:19994", okSender, codec, 10, 60000, 100, registry);
+        sender1.send(createAgentStatBatch("agent1"));
+        sender2.send(createAgentStatBatch("agent2"));
+        sender1.stop();
+        sender2.stop();
+
+        assertEquals(1, sender1.getDropCount());
+        assertEquals(0, sender2.getDropCount());
+        assertEquals(1, registry.meter(MetricRegistry.name("flinkStatBundle", "flink2:19994", "sent")).getCount());
+    }
+
+    private TFAgentStatBatch createAgentStatBatch(String agentId) {
+        TFAgentStatBatch agentStatBatch = new TFAgentStatBatch();
+        agentStatBatch.setAgentId(agentId);
+        agentStatBatch.setStartTimestamp(1528000000000L);
+        agentStatBatch.setAgentStats(new ArrayList<>());
+        return agentStatBatch;
+    }
+}
@@ -86,4 +86,9 @@ public class DisabledHBaseAsyncOperation implements HBaseAsyncOperation {
         return Collections.emptyMap();
     }
 
+    @Override
+    public Map<String, Long> getOpsAverageQueueTimeForEachRegionServer() {
+        return Collections.emptyMap();
+    }
+
 }
\ No newline at end of file
@@ -0,0 +1,666 @@
+/*
+ * Copyright 2018 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.pinpoint.common.hbase;
+
+import com.navercorp.pinpoint.common.Charsets;
+import com.navercorp.pinpoint.common.hbase.embedded.EmbeddedStorage;
+import com.navercorp.pinpoint.common.hbase.embedded.EmbeddedTable;
+import com.navercorp.pinpoint.common.util.PinpointThreadFactory;
+import com.sematext.hbase.wd.AbstractRowKeyDistributor;
+import org.apache.hadoop.hbase.TableName;
+import org.apache.hadoop.hbase.client.Delete;
+import org.apache.hadoop.hbase.client.Get;
+import org.apache.hadoop.hbase.client.Increment;
+import org.apache.hadoop.hbase.client.Put;
+import org.apache.hadoop.hbase.client.Result;
+import org.apache.hadoop.hbase.client.ResultScanner;
+import org.apache.hadoop.hbase.client.Scan;
+import org.apache.hadoop.hbase.client.Table;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.util.Assert;
+import org.springframework.util.StringUtils;
+
+import java.io.File;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.nio.charset.Charset;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link HbaseOperations2} backed by {@link EmbeddedStorage} instead of an HBase cluster.
+ * Row key layouts, distributed scans and increments behave as they do against HBase,
+ * so the existing DAOs can run on a single node without ZooKeeper or region servers.
+ * <p>
+ * asyncPut is applied synchronously. {@link #execute(TableName, TableCallback)} hands out a {@link Table} supporting
+ * get, exists, scan, put, delete and increment, other operations throw {@link UnsupportedOperationException}.
+ * <p>
+ * The collector owns the storage directory. The web opens the same directory with readOnly, and follows the
+ * collector's writes every refreshIntervalMillis. Columns older than timeToLiveSeconds expire.
+ */
+public class EmbeddedHbaseTemplate implements HbaseOperations2, InitializingBean, DisposableBean {
+
+    private final Logger logger = LoggerFactory.getLogger(this.getClass());
+
+    private static final Charset CHARSET = Charsets.UTF_8;
+
+    private static final long PURGE_INTERVAL_MILLIS = TimeUnit.MINUTES.toMillis(10);
+
+    private String storagePath;
+    private boolean readOnly = false;
+    private long timeToLiveSeconds = 0;
+    private long refreshIntervalMillis = 1000;
+    private EmbeddedStorage storage;
+    private ScheduledExecutorService maintenanceExecutor;
+
+    /**
+     * @param storagePath directory of the storage log, keeps everything in memory if empty
+     */
+    public void setStoragePath(String storagePath) {
+        this.storagePath = storagePath;
+    }
+
+    /**
+     * @param readOnly follow the storage written by another process
+     */
+    public void setReadOnly(boolean readOnly) {
+        this.readOnly = readOnly;
+    }
+
+    /**
+     * @param timeToLiveSeconds columns older than this expire, 0 keeps them forever
+     */
+    public void setTimeToLiveSeconds(long timeToLiveSeconds) {
+        this.timeToLiveSeconds = timeToLiveSeconds;
+    }
+
+    public void setRefreshIntervalMillis(long refreshIntervalMillis) {
+        this.refreshIntervalMillis = refreshIntervalMillis;
+    }
+
+    public void setStorage(EmbeddedStorage storage) {
+        this.storage = storage;
+    }
+
+    @Override
+    public void afterPropertiesSet() throws Exception {
+        Assert.isTrue(timeToLiveSeconds >= 0, "negative timeToLiveSeconds");
+        Assert.isTrue(refreshIntervalMillis > 0, "refreshIntervalMillis must be greater than 0");
+        if (storage == null) {
+            this.storage = openStorage();
+        }
+        startMaintenance();
+    }
+
+    private EmbeddedStorage openStorage() throws Exception {
+        final long timeToLiveMillis = TimeUnit.SECONDS.toMillis(timeToLiveSeconds);
+        if (!StringUtils.hasText(storagePath)) {
+            Assert.isTrue(!readOnly, "readOnly requires the storagePath of the writing process");
+            logger.info("storagePath is empty. all data will be lost on shutdown");
+            return EmbeddedStorage.memory(timeToLiveMillis);
+        }
+        if (readOnly) {
+            return EmbeddedStorage.openReadOnly(new File(storagePath), timeToLiveMillis);
+        }
+        return EmbeddedStorage.open(new File(storagePath), timeToLiveMillis);
+    }
+
+    private void startMaintenance() {
+        final boolean refresh = storage.isReadOnly();
+        final boolean purge = timeToLiveSeconds > 0;
+        if (!refresh && !purge) {
+            return;
+        }
+        this.maintenanceExecutor = Executors.newSingleThreadScheduledExecutor(new PinpointThreadFactory("Pinpoint-embedded-storage-maintenance", true));
+        if (refresh) {
+            maintenanceExecutor.scheduleWithFixedDelay(new Runnable() {
+                @Override
+                public void run() {
+                    try {
+                        storage.refresh();
+                    } catch (Exception e) {
+                        logger.warn("embedded storage refresh failed. Caused:{}", e.getMessage(), e);
+                    }
+                }
+            }, refreshIntervalMillis, refreshIntervalMillis, TimeUnit.MILLISECONDS);
+        }
+        if (purge) {
+            final long purgeIntervalMillis = Math.min(PURGE_INTERVAL_MILLIS, TimeUnit.SECONDS.toMillis(timeToLiveSeconds));
+            maintenanceExecutor.scheduleWithFixedDelay(new Runnable() {
+                @Override
+                public void run() {
+                    try {
+                        storage.purgeExpired();
+                    } catch (Exception e) {
+                        logger.warn("embedded storage purge failed. Caused:{}", e.getMessage(), e);
+                    }
+                }
+            }, purgeIntervalMillis, purgeIntervalMillis, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    @Override
+    public void destroy() throws Exception {
+        logger.info("EmbeddedHbaseTemplate.destroy()");
+        if (maintenanceExecutor != null) {
+            maintenanceExecutor.shutdown();
+            maintenanceExecutor.awaitTermination(3000, TimeUnit.MILLISECONDS);
+        }
+        if (storage != null) {
+            storage.close();
+        }
+    }
+
+    private <T> T execute(TableName tableName, EmbeddedTableCallback<T> action) {
+        Assert.notNull(action, "Callback object must not be null");
+        Assert.notNull(tableName, "No table specified");
+        Assert.state(storage != null, "storage not initialized");
+
+        final EmbeddedTable table = storage.getTable(tableName);
+        try {
+            return action.doInTable(table);
+        } catch (Throwable e) {
+            if (e instanceof Error) {
+                throw ((Error) e);
+            }
+            if (e instanceof RuntimeException) {
+                throw ((RuntimeException) e);
+            }
+            throw new HbaseSystemException((Exception) e);
+        }
+    }
+
+    @Override
+    public <T> T execute(final TableName tableName, final TableCallback<T> action) {
+        Assert.notNull(action, "Callback object must not be null");
+        return execute(tableName, new EmbeddedTableCallback<T>() {
+            @Override
+            public T doInTable(EmbeddedTable table) throws Throwable {
+                final Table tableAdapter = (Table) Proxy.newProxyInstance(Table.class.getClassLoader(), new Class<?>[]{Table.class},
+                        new TableAdapter(tableName, table));
+                return action.doInTable(tableAdapter);
+            }
+        });
+    }
+
+    @Override
+    public <T> T find(TableName tableName, String family, final ResultsExtractor<T> action) {
+        Scan scan = new Scan();
+        scan.addFamily(family.getBytes(CHARSET));
+        return find(tableName, scan, action);
+    }
+
+    @Override
+    public <T> T find(TableName tableName, String family, String qualifier, final ResultsExtractor<T> action) {
+        Scan scan = new Scan();
+        scan.addColumn(family.getBytes(CHARSET), qualifier.getBytes(CHARSET));
+        return find(tableName, scan, action);
+    }
+
+    @Override
+    public <T> T find(TableName tableName, final Scan scan, final ResultsExtractor<T> action) {
+        return execute(tableName, new EmbeddedTableCallback<T>() {
+            @Override
+            public T doInTable(EmbeddedTable table) throws Throwable {
+                final ResultScanner scanner = table.getScanner(scan);
+                try {
+                    return action.extractData(scanner);
+                } finally {
+                    scanner.close();
+                }
+            }
+        });
+    }
+
+    @Override
+    public <T> List<T> find(TableName tableName, String family, final RowMapper<T> action) {
+        Scan scan = new Scan();
+        scan.addFamily(family.getBytes(CHARSET));
+        return find(tableName, scan, action);
+    }
+
+    @Override
+    public <T> List<T> find(TableName tableName, String family, String qualifier, final RowMapper<T> action) {
+        Scan scan = new Scan();
+        scan.addColumn(family.getBytes(CHARSET), qualifier.getBytes(CHARSET));
+        return find(tableName, scan, action);
+    }
+
+    @Override
+    public <T> List<T> find(TableName tableName, final Scan scan, final RowMapper<T> action) {
+        return find(tableName, scan, new RowMapperResultsExtractor<>(action));
+    }
+
+    @Override
+    public <T> List<T> find(TableName tableName, final List<Scan> scanList, final ResultsExtractor<T> action) {
+        final List<T> result = new ArrayList<>(scanList.size());
+        for (Scan scan : scanList) {
+            result.add(find(tableName, scan, action));
+        }
+        return result;
+    }
+
+    @Override
+    public <T> List<List<T>> find(TableName tableName, List<Scan> scanList, RowMapper<T> action) {
+        return find(tableName, scanList, new RowMapperResultsExtractor<>(action));
+    }
+
+    @Override
+    public <T> List<T> findParallel(TableName tableName, List<Scan> scans, ResultsExtractor<T> action) {
+        // every scan is served from memory, so there is nothing to gain from extra threads
+        return find(tableName, scans, action);
+    }
+
+    @Override
+    public <T> List<List<T>> findParallel(TableName tableName, List<Scan> scans, RowMapper<T> action) {
+        return find(tableName, scans, action);
+    }
+
+    @Override
+    public <T> List<T> find(TableName tableName, final Scan scan, final AbstractRowKeyDistributor rowKeyDistributor, final RowMapper<T> action) {
+        return find(tableName, scan, rowKeyDistributor, new RowMapperResultsExtractor<>(action));
+    }
+
+    @Override
+    public <T> List<T> find(TableName tableName, final Scan scan, final AbstractRowKeyDistributor rowKeyDistributor, int limit, final RowMapper<T> action) {
+        return find(tableName, scan, rowKeyDistributor, new LimitRowMapperResultsExtractor<>(action, limit));
+    }
+
+    @Override
+    public <T> List<T> find(TableName tableName, final Scan scan, final AbstractRowKeyDistributor rowKeyDistributor, int limit, final RowMapper<T> action, final LimitEventHandler limitEventHandler) {
+        return find(tableName, scan, rowKeyDistributor, new LimitRowMapperResultsExtractor<>(action, limit, limitEventHandler));
+    }
+
+    @Override
+    public <T> T find(TableName tableName, final Scan scan, final AbstractRowKeyDistributor rowKeyDistributor, final ResultsExtractor<T> action) {
+        return execute(tableName, new EmbeddedTableCallback<T>() {
+            @Override
+            public T doInTable(EmbeddedTable table) throws Throwable {
+                final Scan[] scans = rowKeyDistributor.getDistributedScans(scan);
+                final ResultScanner[] scanners = new ResultScanner[scans.length];
+                for (int i = 0; i < scans.length; i++) {
+                    scanners[i] = table.getScanner(scans[i]);
+                }
+                final ResultScanner scanner = ReversedDistributedScanner.newScanner(rowKeyDistributor, scanners, scan.isReversed());
+                try {
+                    return action.extractData(scanner);
+                } finally {
+                    scanner.close();
+                }
+            }
+        });
+    }
+
+    @Override
+    public <T> List<T> findParallel(TableName tableName, final Scan scan, final AbstractRowKeyDistributor rowKeyDistributor, final RowMapper<T> action, int numParallelThreads) {
+        return find(tableName, scan, rowKeyDistributor, action);
+    }
+
+    @Override
+    public <T> List<T> findParallel(TableName tableName, final Scan scan, final AbstractRowKeyDistributor rowKeyDistributor, int limit, final RowMapper<T> action, int numParallelThreads) {
+        return find(tableName, scan, rowKeyDistributor, limit, action);
+    }
+
+    @Override
+    public <T> List<T> findParallel(TableName tableName, final Scan scan, final AbstractRowKeyDistributor rowKeyDistributor, int limit, final RowMapper<T> action, final LimitEventHandler limitEventHandler, int numParallelThreads) {
+        return find(tableName, scan, rowKeyDistributor, limit, action, limitEventHandler);
+    }
+
+    @Override
+    public <T> T findParallel(TableName tableName, final Scan scan, final AbstractRowKeyDistributor rowKeyDistributor, final ResultsExtractor<T> action, int numParallelThreads) {
+        return find(tableName, scan, rowKeyDistributor, action);
+    }
+
+    @Override
+    public <T> T get(TableName tableName, String rowName, final RowMapper<T> mapper) {
+        return get(tableName, rowName, null, null, mapper);
+    }
+
+    @Override
+    public <T> T get(TableName tableName, String rowName, String familyName, final RowMapper<T> mapper) {
+        return get(tableName, rowName, familyName, null, mapper);
+    }
+
+    @Override
+    public <T> T get(TableName tableName, final String rowName, final String familyName, final String qualifier, final RowMapper<T> mapper) {
+        return get(tableName, rowName.getBytes(CHARSET), toBytes(familyName), toBytes(qualifier), mapper);
+    }
+
+    private byte[] toBytes(String value) {
+        if (value == null) {
+            return null;
+        }
+        return value.getBytes(CHARSET);
+    }
+
+    @Override
+    public <T> T get(TableName tableName, byte[] rowName, RowMapper<T> mapper) {
+        return get(tableName, rowName, null, null, mapper);
+    }
+
+    @Override
+    public <T> T get(TableName tableName, byte[] rowName, byte[] familyName, RowMapper<T> mapper) {
+        return get(tableName, rowName, familyName, null, mapper);
+    }
+
+    @Override
+    public <T> T get(TableName tableName, final byte[] rowName, final byte[] familyName, final byte[] qualifier, final RowMapper<T> mapper) {
+        Get get = new Get(rowName);
+        if (familyName != null) {
+            if (qualifier != null) {
+                get.addColumn(familyName, qualifier);
+            } else {
+                get.addFamily(familyName);
+            }
+        }
+        return get(tableName, get, mapper);
+    }
+
+    @Override
+    public <T> T get(TableName tableName, final Get get, final RowMapper<T> mapper) {
+        return execute(tableName, new EmbeddedTableCallback<T>() {
+            @Override
+            public T doInTable(EmbeddedTable table) throws Throwable {
+                Result result = table.get(get);
+                return mapper.mapRow(result, 0);
+            }
+        });
+    }
+
+    @Override
+    public <T> List<T> get(TableName tableName, final List<Get> getList, final RowMapper<T> mapper) {
+        return execute(tableName, new EmbeddedTableCallback<List<T>>() {
+            @Override
+            public List<T> doInTable(EmbeddedTable table) throws Throwable {
+                final List<T> list = new ArrayList<>(getList.size());
+                for (int i = 0; i < getList.size(); i++) {
+                    Result result = table.get(getList.get(i));
+                    list.add(mapper.mapRow(result, i));
+                }
+                return list;
+            }
+        });
+    }
+
+    @Override
+    public void put(TableName tableName, final byte[] rowName, final byte[] familyName, final byte[] qualifier, final byte[] value) {
+        put(tableName, rowName, familyName, qualifier, null, value);
+    }
+
+    @Override
+    public void put(TableName tableName, final byte[] rowName, final byte[] familyName, final byte[] qualifier, final Long timestamp, final byte[] value) {
+        put(tableName, createPut(rowName, familyName, timestamp, qualifier, value));
+    }
+
+    @Override
+    public <T> void put(TableName tableName, final byte[] rowName, final byte[] familyName, final byte[] qualifier, final T value, final ValueMapper<T> mapper) {
+        put(tableName, rowName, familyName, qualifier, null, value, mapper);
+    }
+
+    @Override
+    public <T> void put(TableName tableName, final byte[] rowName, final byte[] familyName, final byte[] qualifier, final Long timestamp, final T value, final ValueMapper<T> mapper) {
+        put(tableName, rowName, familyName, qualifier, timestamp, mapper.mapValue(value));
+    }
+
+    @Override
+    public void put(TableName tableName, final Put put) {
+        execute(tableName, new EmbeddedTableCallback<Object>() {
+            @Override
+            public Object doInTable(EmbeddedTable table) throws Throwable {
+                table.put(put);
+                return null;
+            }
+        });
+    }
+
+    @Override
+    public void put(TableName tableName, final List<Put> puts) {
+        execute(tableName, new EmbeddedTableCallback<Object>() {
+            @Override
+            public Object doInTable(EmbeddedTable table) throws Throwable {
+                for (Put put : puts) {
+                    table.put(put);
+                }
+                return null;
+            }
+        });
+    }
+
+    @Override
+    public boolean asyncPut(TableName tableName, byte[] rowName, byte[] familyName, byte[] qualifier, byte[] value) {
+        return asyncPut(tableName, rowName, familyName, qualifier, null, value);
+    }
+
+    @Override
+    public boolean asyncPut(TableName tableName, byte[] rowName, byte[] familyName, byte[] qualifier, Long timestamp, byte[] value) {
+        return asyncPut(tableName, createPut(rowName, familyName, timestamp, qualifier, value));
+    }
+
+    @Override
+    public <T> boolean asyncPut(TableName tableName, byte[] rowName, byte[] familyName, byte[] qualifier, T value, ValueMapper<T> mapper) {
+        return asyncPut(tableName, rowName, familyName, qualifier, null, value, mapper);
+    }
+
+    @Override
+    public <T> boolean asyncPut(TableName tableName, byte[] rowName, byte[] familyName, byte[] qualifier, Long timestamp, T value, ValueMapper<T> mapper) {
+        return asyncPut(tableName, rowName, familyName, qualifier, timestamp, mapper.mapValue(value));
+    }
+
+    @Override
+    public boolean asyncPut(TableName tableName, Put put) {
+        put(tableName, put);
+        return true;
+    }
+
+    @Override
+    public List<Put> asyncPut(TableName tableName, List<Put> puts) {
+        put(tableName, puts);
+        return Collections.emptyList();
+    }
+
+    private Put createPut(byte[] rowName, byte[] familyName, Long timestamp, byte[] qualifier, byte[] value) {
+        Put put = new Put(rowName);
+        if (familyName != null) {
+            if (timestamp == null) {
+                put.addColumn(familyName, qualifier, value);
+            } else {
+                put.addColumn(familyName, qualifier, timestamp, value);
+            }
+        }
+        return put;
+    }
+
+    @Override
+    public void delete(TableName tableName, final Delete delete) {
+        execute(tableName, new EmbeddedTableCallback<Object>() {
+            @Override
+            public Object doInTable(EmbeddedTable table) throws Throwable {
+                table.delete(delete);
+                return null;
+            }
+        });
+    }
+
+    @Override
+    public void delete(TableName tableName, final List<Delete> deletes) {
+        execute(tableName, new EmbeddedTableCallback<Object>() {
+            @Override
+            public Object doInTable(EmbeddedTable table) throws Throwable {
+                for (Delete delete : deletes) {
+                    table.delete(delete);
+                }
+                return null;
+            }
+        });
+    }
+
+    @Override
+    public Result increment(TableName tableName, final Increment increment) {
+        return execute(tableName, new EmbeddedTableCallback<Result>() {
+            @Override
+            public Result doInTable(EmbeddedTable table) throws Throwable {
+                return table.increment(increment);
+            }
+        });
+    }
+
+    @Override
+    public List<Result> increment(TableName tableName, final List<Increment> incrementList) {
+        return execute(tableName, new EmbeddedTableCallback<List<Result>>() {
+            @Override
+            public List<Result> doInTable(EmbeddedTable table) throws Throwable {
+                final List<Result> resultList = new ArrayList<>(incrementList.size());
+                for (Increment increment : incrementList) {
+                    resultList.add(table.increment(increment));
+                }
+                return resultList;
+            }
+        });
+    }
+
+    @Override
+    public long incrementColumnValue(TableName tableName, final byte[] rowName, final byte[] familyName, final byte[] qualifier, final long amount) {
+        return execute(tableName, new EmbeddedTableCallback<Long>() {
+            @Override
+            public Long doInTable(EmbeddedTable table) throws Throwable {
+                return table.incrementColumnValue(rowName, familyName, qualifier, amount);
+            }
+        });
+    }
+
+    @Override
+    public long incrementColumnValue(TableName tableName, final byte[] rowName, final byte[] familyName, final byte[] qualifier, final long amount, final boolean writeToWAL) {
+        return incrementColumnValue(tableName, rowName, familyName, qualifier, amount);
+    }
+
+    private interface EmbeddedTableCallback<T> {
+        T doInTable(EmbeddedTable table) throws Throwable;
+    }
+
+    /**
+     * {@link Table} view of an {@link EmbeddedTable}. A dynamic proxy, so it does not break when the Table interface
+     * gains methods between HBase versions.
+     */
+    private static final class TableAdapter implements InvocationHandler {
+
+        private final TableName tableName;
+        private final EmbeddedTable table;
+
+        private TableAdapter(TableName tableName, EmbeddedTable table) {
+            this.tableName = tableName;
+            this.table = table;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            final String name = method.getName();
+            final int argCount = args == null ? 0 : args.length;
+            switch (name) {
+                case "getName":
+                    return tableName;
+                case "close":
+                    return null;
+                case "toString":
+                    return "EmbeddedTable{" + tableName + "}";
+                case "hashCode":
+                    return System.identityHashCode(proxy);
+                case "equals":
+                    return proxy == args[0];
+                case "get":
+                    if (args[0] instanceof Get) {
+                        return table.get((Get) args[0]);
+                    }
+                    return get((List<Get>) args[0]);
+                case "exists":
+                case "existsAll":
+                    if (args[0] instanceof Get) {
+                        return !table.get((Get) args[0]).isEmpty();
+                    }
+                    return exists((List<Get>) args[0]);
+                case "getScanner":
+                    return table.getScanner(toScan(args));
+                case "put":
+                    if (args[0] instanceof Put) {
+                        table.put((Put) args[0]);
+                    } else {
+                        for (Put put : (List<Put>) args[0]) {
+                            table.put(put);
+                        }
+                    }
+                    return null;
+                case "delete":
+                    if (args[0] instanceof Delete) {
+                        table.delete((Delete) args[0]);
+                    } else {
+                        for (Delete delete : (List<Delete>) args[0]) {
+                            table.delete(delete);
+                        }
+                    }
+                    return null;
+                case "increment":
+                    return table.increment((Increment) args[0]);
+                case "incrementColumnValue":
+                    // the durability or writeToWAL argument does not apply, every write goes to the log
+                    if (argCount >= 4) {
+                        return table.incrementColumnValue((byte[]) args[0], (byte[]) args[1], (byte[]) args[2], (Long) args[3]);
+                    }
+                    break;
+                default:
+                    break;
+            }
+            throw new UnsupportedOperationException(name + " not supported by embedded storage. table:" + tableName);
+        }
+
+        private Result[] get(List<Get> gets) throws Exception {
+            final Result[] results = new Result[gets.size()];
+            for (int i = 0; i < results.length; i++) {
+                results[i] = table.get(gets.get(i));
+            }
+            return results;
+        }
+
+        private boolean[] exists(List<Get> gets) throws Exception {
+            final boolean[] exists = new boolean[gets.size()];
+            for (int i = 0; i < exists.length; i++) {
+                exists[i] = !table.get(gets.get(i)).isEmpty();
+            }
+            return exists;
+        }
+
+        private Scan toScan(Object[] args) {
+            if (args[0] instanceof Scan) {
+                return (Scan) args[0];
+            }
+            final Scan scan = new Scan();
+            if (args.length == 1) {
+                scan.addFamily((byte[]) args[0]);
+            } else {
+                scan.addColumn((byte[]) args[0], (byte[]) args[1]);
+            }
+            return scan;
+        }
+    }
+}
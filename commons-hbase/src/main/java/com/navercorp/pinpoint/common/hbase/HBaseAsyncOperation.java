@@ -50,4 +50,6 @@ public interface HBaseAsyncOperation {
 
     Map<String, Long> getOpsAverageLatencyForEachRegionServer();
 
+    Map<String, Long> getOpsAverageQueueTimeForEachRegionServer();
+
 }
\ No newline at end of file
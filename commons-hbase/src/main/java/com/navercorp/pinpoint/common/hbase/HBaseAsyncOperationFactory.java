@@ -17,8 +17,11 @@
 
 package com.navercorp.pinpoint.common.hbase;
 
+import com.navercorp.pinpoint.common.hbase.async.AdaptiveAsyncOption;
+import com.navercorp.pinpoint.common.hbase.async.AdaptiveHBaseAsyncTemplate;
 import org.apache.hadoop.conf.Configuration;
 import org.apache.hadoop.hbase.client.Connection;
+import org.apache.hadoop.hbase.client.ConnectionFactory;
 import org.apache.hadoop.hbase.client.HTableMultiplexer;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -44,6 +47,10 @@ public class HBaseAsyncOperationFactory {
     public static final String ASYNC_MAX_RETRIES_IN_QUEUE = HTableMultiplexer.TABLE_MULTIPLEXER_MAX_RETRIES_IN_QUEUE;
     public static final int DEFAULT_ASYNC_RETRY_COUNT = 10000;
 
+    // per region server queues with adaptive batching instead of HTableMultiplexer
+    public static final String ENABLE_ADAPTIVE_ASYNC_METHOD = "hbase.client.async.adaptive.enable";
+    public static final boolean DEFAULT_ENABLE_ADAPTIVE_ASYNC_METHOD = false;
+
     public static HBaseAsyncOperation create(Configuration configuration) throws IOException {
         boolean enableAsyncMethod = configuration.getBoolean(ENABLE_ASYNC_METHOD, DEFAULT_ENABLE_ASYNC_METHOD);
         if (!enableAsyncMethod) {
@@ -60,6 +67,11 @@ public class HBaseAsyncOperationFactory {
             configuration.setInt(ASYNC_MAX_RETRIES_IN_QUEUE, DEFAULT_ASYNC_RETRY_COUNT);
         }
 
+        if (configuration.getBoolean(ENABLE_ADAPTIVE_ASYNC_METHOD, DEFAULT_ENABLE_ADAPTIVE_ASYNC_METHOD)) {
+            LOGGER.info("create AdaptiveHBaseAsyncTemplate");
+            return new AdaptiveHBaseAsyncTemplate(ConnectionFactory.createConnection(configuration), new AdaptiveAsyncOption(configuration));
+        }
+
         return new HBaseAsyncTemplate(configuration, queueSize);
     }
 
@@ -79,6 +91,11 @@ public class HBaseAsyncOperationFactory {
             configuration.setInt(ASYNC_MAX_RETRIES_IN_QUEUE, DEFAULT_ASYNC_RETRY_COUNT);
         }
 
+        if (configuration.getBoolean(ENABLE_ADAPTIVE_ASYNC_METHOD, DEFAULT_ENABLE_ADAPTIVE_ASYNC_METHOD)) {
+            LOGGER.info("create AdaptiveHBaseAsyncTemplate");
+            return new AdaptiveHBaseAsyncTemplate(connection, new AdaptiveAsyncOption(configuration));
+        }
+
         return new HBaseAsyncTemplate(connection, configuration, queueSize);
     }
 
@@ -24,6 +24,7 @@ import org.apache.hadoop.hbase.client.HTableMultiplexer;
 import org.apache.hadoop.hbase.client.Put;
 
 import java.io.IOException;
+import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.atomic.AtomicInteger;
@@ -112,4 +113,10 @@ public class HBaseAsyncTemplate implements HBaseAsyncOperation {
         return hTableMultiplexer.getHTableMultiplexerStatus().getAverageLatencyForEachRegionServer();
     }
 
+    @Override
+    public Map<String, Long> getOpsAverageQueueTimeForEachRegionServer() {
+        // not tracked by HTableMultiplexer
+        return Collections.emptyMap();
+    }
+
 }
\ No newline at end of file
@@ -39,6 +39,9 @@ public final class HBaseTables {
     public static final byte[] APPLICATION_TRACE_INDEX_CF_TRACE = Bytes.toBytes("I"); // applicationIndex
     public static final int APPLICATION_TRACE_INDEX_ROW_DISTRIBUTE_SIZE = 1; // applicationIndex hash size
 
+    public static final String APPLICATION_TRACE_INDEX_BUCKET_STR = "ApplicationTraceIndexBucket";
+    public static final byte[] APPLICATION_TRACE_INDEX_BUCKET_CF_TRACE = Bytes.toBytes("I");
+
     public static final String AGENT_STAT_VER2_STR = "AgentStatV2";
     @Deprecated
     public static final TableName AGENT_STAT_VER2 = TableName.valueOf(AGENT_STAT_VER2_STR);
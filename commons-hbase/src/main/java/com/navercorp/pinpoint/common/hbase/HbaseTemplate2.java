@@ -23,7 +23,6 @@ import com.navercorp.pinpoint.common.util.ExecutorFactory;
 import com.navercorp.pinpoint.common.util.PinpointThreadFactory;
 import com.navercorp.pinpoint.common.util.StopWatch;
 import com.sematext.hbase.wd.AbstractRowKeyDistributor;
-import com.sematext.hbase.wd.DistributedScanner;
 import org.apache.hadoop.conf.Configuration;
 import org.apache.hadoop.hbase.TableName;
 import org.apache.hadoop.hbase.client.Delete;
@@ -562,7 +561,7 @@ public class HbaseTemplate2 extends HbaseAccessor implements HbaseOperations2, I
                     watch.start();
                 }
                 final ResultScanner[] splitScanners = splitScan(table, scan, rowKeyDistributor);
-                final ResultScanner scanner = new DistributedScanner(rowKeyDistributor, splitScanners);
+                final ResultScanner scanner = ReversedDistributedScanner.newScanner(rowKeyDistributor, splitScanners, scan.isReversed());
                 if (debugEnabled) {
                     logger.debug("DistributedScanner createTime: {}ms", watch.stop());
                     watch.start();
@@ -0,0 +1,165 @@
+/*
+ * Copyright 2018 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.navercorp.pinpoint.common.hbase;
+
+import com.sematext.hbase.wd.AbstractRowKeyDistributor;
+import com.sematext.hbase.wd.DistributedScanner;
+import org.apache.hadoop.hbase.client.Result;
+import org.apache.hadoop.hbase.client.ResultScanner;
+import org.apache.hadoop.hbase.util.Bytes;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Iterator;
+
+/**
+ * Merges the scanners of a reversed distributed scan in descending order of the original row key.
+ * {@link DistributedScanner} always merges in ascending order,
+ * which drains the partitions of a reversed scan one after another.
+ */
+public class ReversedDistributedScanner implements ResultScanner {
+
+    private final AbstractRowKeyDistributor keyDistributor;
+    private final ResultScanner[] scanners;
+    private final Result[] nextResults;
+    private final boolean[] exhausted;
+    private Result next = null;
+
+    public ReversedDistributedScanner(AbstractRowKeyDistributor keyDistributor, ResultScanner[] scanners) {
+        if (keyDistributor == null) {
+            throw new NullPointerException("keyDistributor must not be null");
+        }
+        if (scanners == null) {
+            throw new NullPointerException("scanners must not be null");
+        }
+        this.keyDistributor = keyDistributor;
+        this.scanners = scanners;
+        this.nextResults = new Result[scanners.length];
+        this.exhausted = new boolean[scanners.length];
+    }
+
+    /**
+     * merges in the direction of the scan.
+     */
+    public static ResultScanner newScanner(AbstractRowKeyDistributor keyDistributor, ResultScanner[] scanners, boolean reversed) {
+        if (reversed) {
+            return new ReversedDistributedScanner(keyDistributor, scanners);
+        }
+        return new DistributedScanner(keyDistributor, scanners);
+    }
+
+    private boolean hasNext() throws IOException {
+        if (next != null) {
+            return true;
+        }
+        next = nextInternal();
+        return next != null;
+    }
+
+    @Override
+    public Result next() throws IOException {
+        if (hasNext()) {
+            Result toReturn = next;
+            next = null;
+            return toReturn;
+        }
+        return null;
+    }
+
+    private Result nextInternal() throws IOException {
+        Result result = null;
+        byte[] resultKey = null;
+        int indexOfResultToUse = -1;
+        for (int i = 0; i < scanners.length; i++) {
+            if (exhausted[i]) {
+                continue;
+            }
+            if (nextResults[i] == null) {
+                nextResults[i] = scanners[i].next();
+                if (nextResults[i] == null) {
+                    exhausted[i] = true;
+                    continue;
+                }
+            }
+            final byte[] originalKey = keyDistributor.getOriginalKey(nextResults[i].getRow());
+            if (result == null || Bytes.compareTo(originalKey, resultKey) > 0) {
+                result = nextResults[i];
+                resultKey = originalKey;
+                indexOfResultToUse = i;
+            }
+        }
+        if (indexOfResultToUse >= 0) {
+            nextResults[indexOfResultToUse] = null;
+        }
+        return result;
+    }
+
+    @Override
+    public Result[] next(int nbRows) throws IOException {
+        ArrayList<Result> resultSets = new ArrayList<>(nbRows);
+        for (int i = 0; i < nbRows; i++) {
+            Result next = next();
+            if (next != null) {
+                resultSets.add(next);
+            } else {
+                break;
+            }
+        }
+        return resultSets.toArray(new Result[0]);
+    }
+
+    @Override
+    public void close() {
+        for (ResultScanner scanner : scanners) {
+            scanner.close();
+        }
+    }
+
+    @Override
+    public Iterator<Result> iterator() {
+        return new Iterator<Result>() {
+            private Result next = null;
+
+            @Override
+            public boolean hasNext() {
+                if (next == null) {
+                    try {
+                        next = ReversedDistributedScanner.this.next();
+                        return next != null;
+                    } catch (IOException e) {
+                        throw new RuntimeException(e);
+                    }
+                }
+                return true;
+            }
+
+            @Override
+            public Result next() {
+                if (!hasNext()) {
+                    return null;
+                }
+                Result temp = next;
+                next = null;
+                return temp;
+            }
+
+            @Override
+            public void remove() {
+                throw new UnsupportedOperationException();
+            }
+        };
+    }
+}
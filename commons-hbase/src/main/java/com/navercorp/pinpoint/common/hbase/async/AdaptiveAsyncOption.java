@@ -0,0 +1,144 @@
+/*
+ * Copyright 2018 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.pinpoint.common.hbase.async;
+
+import org.apache.hadoop.conf.Configuration;
+import org.apache.hadoop.hbase.HConstants;
+
+public class AdaptiveAsyncOption {
+
+    public static final String QUEUE_SIZE = "hbase.client.async.in.queuesize";
+    public static final int DEFAULT_QUEUE_SIZE = 10000;
+
+    public static final String FLUSH_PERIOD = "hbase.client.async.adaptive.flush.period.ms";
+    public static final long DEFAULT_FLUSH_PERIOD = 100;
+
+    public static final String MAX_BATCH_SIZE = "hbase.client.async.adaptive.batch.max";
+    public static final int DEFAULT_MAX_BATCH_SIZE = 1000;
+
+    public static final String MIN_WINDOW = "hbase.client.async.adaptive.window.min";
+    public static final int DEFAULT_MIN_WINDOW = 100;
+
+    public static final String MAX_WINDOW = "hbase.client.async.adaptive.window.max";
+    public static final int DEFAULT_MAX_WINDOW = 10000;
+
+    public static final String WINDOW_INCREMENT = "hbase.client.async.adaptive.window.increment";
+    public static final int DEFAULT_WINDOW_INCREMENT = 10;
+
+    public static final String TARGET_LATENCY = "hbase.client.async.adaptive.latency.target.ms";
+    public static final long DEFAULT_TARGET_LATENCY = 500;
+
+    public static final String MAX_RETRIES = "hbase.client.async.adaptive.retries";
+    public static final int DEFAULT_MAX_RETRIES = 10;
+
+    public static final String MAX_BACKOFF = "hbase.client.async.adaptive.backoff.max.ms";
+    public static final long DEFAULT_MAX_BACKOFF = 10000;
+
+    public static final String WRITE_THREADS = "hbase.client.async.adaptive.threads";
+    public static final int DEFAULT_WRITE_THREADS = 16;
+
+    private final int queueSize;
+    private final long flushPeriod;
+    private final int maxBatchSize;
+    private final int minWindow;
+    private final int maxWindow;
+    private final int windowIncrement;
+    private final long targetLatency;
+    private final int maxRetries;
+    private final long pause;
+    private final long maxBackoff;
+    private final int writeThreads;
+
+    public AdaptiveAsyncOption(Configuration configuration) {
+        if (configuration == null) {
+            throw new NullPointerException("configuration must not be null");
+        }
+        this.queueSize = configuration.getInt(QUEUE_SIZE, DEFAULT_QUEUE_SIZE);
+        this.flushPeriod = configuration.getLong(FLUSH_PERIOD, DEFAULT_FLUSH_PERIOD);
+        this.maxBatchSize = configuration.getInt(MAX_BATCH_SIZE, DEFAULT_MAX_BATCH_SIZE);
+        this.minWindow = configuration.getInt(MIN_WINDOW, DEFAULT_MIN_WINDOW);
+        this.maxWindow = configuration.getInt(MAX_WINDOW, DEFAULT_MAX_WINDOW);
+        this.windowIncrement = configuration.getInt(WINDOW_INCREMENT, DEFAULT_WINDOW_INCREMENT);
+        this.targetLatency = configuration.getLong(TARGET_LATENCY, DEFAULT_TARGET_LATENCY);
+        this.maxRetries = configuration.getInt(MAX_RETRIES, DEFAULT_MAX_RETRIES);
+        // retry backoff starts from the hbase client pause
+        this.pause = configuration.getLong(HConstants.HBASE_CLIENT_PAUSE, HConstants.DEFAULT_HBASE_CLIENT_PAUSE);
+        this.maxBackoff = configuration.getLong(MAX_BACKOFF, DEFAULT_MAX_BACKOFF);
+        this.writeThreads = configuration.getInt(WRITE_THREADS, DEFAULT_WRITE_THREADS);
+    }
+
+    public int getQueueSize() {
+        return queueSize;
+    }
+
+    public long getFlushPeriod() {
+        return flushPeriod;
+    }
+
+    public int getMaxBatchSize() {
+        return maxBatchSize;
+    }
+
+    public int getMinWindow() {
+        return minWindow;
+    }
+
+    public int getMaxWindow() {
+        return maxWindow;
+    }
+
+    public int getWindowIncrement() {
+        return windowIncrement;
+    }
+
+    public long getTargetLatency() {
+        return targetLatency;
+    }
+
+    public int getMaxRetries() {
+        return maxRetries;
+    }
+
+    public long getPause() {
+        return pause;
+    }
+
+    public long getMaxBackoff() {
+        return maxBackoff;
+    }
+
+    public int getWriteThreads() {
+        return writeThreads;
+    }
+
+    @Override
+    public String toString() {
+        return "AdaptiveAsyncOption{" +
+                "queueSize=" + queueSize +
+                ", flushPeriod=" + flushPeriod +
+                ", maxBatchSize=" + maxBatchSize +
+                ", minWindow=" + minWindow +
+                ", maxWindow=" + maxWindow +
+                ", windowIncrement=" + windowIncrement +
+                ", targetLatency=" + targetLatency +
+                ", maxRetries=" + maxRetries +
+                ", pause=" + pause +
+                ", maxBackoff=" + maxBackoff +
+                ", writeThreads=" + writeThreads +
+                '}';
+    }
+}
@@ -0,0 +1,433 @@
+/*
+ * Copyright 2018 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.pinpoint.common.hbase.async;
+
+import com.navercorp.pinpoint.common.hbase.HBaseAsyncOperation;
+import com.navercorp.pinpoint.common.util.PinpointThreadFactory;
+import org.apache.hadoop.hbase.HRegionLocation;
+import org.apache.hadoop.hbase.TableName;
+import org.apache.hadoop.hbase.client.Connection;
+import org.apache.hadoop.hbase.client.Put;
+import org.apache.hadoop.hbase.client.RegionLocator;
+import org.apache.hadoop.hbase.client.Table;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Async put with a bounded queue per region server instead of the fixed buffers of HTableMultiplexer.
+ * <ul>
+ *     <li>put() only queues; regions are located on the flush thread, so a meta lookup never blocks the caller</li>
+ *     <li>batch size and in flight puts of each server follow an {@link AdaptiveWindow} driven by batch latency</li>
+ *     <li>failed puts are retried with exponential backoff and jitter, re-locating the region</li>
+ *     <li>a slow region server only fails its own puts</li>
+ *     <li>close() keeps flushing until the queued puts and pending retries are written, or the close timeout expires</li>
+ * </ul>
+ */
+public class AdaptiveHBaseAsyncTemplate implements HBaseAsyncOperation, Closeable {
+
+    private static final long CLOSE_TIMEOUT = 10000;
+
+    private final Logger logger = LoggerFactory.getLogger(this.getClass());
+
+    private final Connection connection;
+    private final AdaptiveAsyncOption option;
+
+    private final ConcurrentMap<TableName, RegionLocator> regionLocators = new ConcurrentHashMap<>();
+    private final ConcurrentMap<String, RegionServerQueue> serverQueues = new ConcurrentHashMap<>();
+    // puts waiting for their region to be located
+    private final BlockingQueue<PendingPut> locateQueue;
+
+    private final ScheduledExecutorService scheduler;
+    private final ExecutorService writeExecutor;
+
+    private final AtomicLong opsCount = new AtomicLong();
+    private final AtomicLong opsRejectCount = new AtomicLong();
+    private final AtomicLong opsFailedCount = new AtomicLong();
+    private final AtomicInteger pendingRetryCount = new AtomicInteger();
+
+    public AdaptiveHBaseAsyncTemplate(Connection connection, AdaptiveAsyncOption option) {
+        if (connection == null) {
+            throw new NullPointerException("connection must not be null");
+        }
+        if (option == null) {
+            throw new NullPointerException("option must not be null");
+        }
+        this.connection = connection;
+        this.option = option;
+        this.locateQueue = new ArrayBlockingQueue<>(option.getQueueSize());
+
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(new PinpointThreadFactory("Pinpoint-HBaseAsync-Scheduler", true));
+        this.writeExecutor = Executors.newFixedThreadPool(option.getWriteThreads(), new PinpointThreadFactory("Pinpoint-HBaseAsync-Writer", true));
+
+        final long flushPeriod = option.getFlushPeriod();
+        this.scheduler.scheduleWithFixedDelay(new Runnable() {
+            @Override
+            public void run() {
+                flush();
+            }
+        }, flushPeriod, flushPeriod, TimeUnit.MILLISECONDS);
+        logger.info("AdaptiveHBaseAsyncTemplate initialized. {}", option);
+    }
+
+    @Override
+    public boolean isAvailable() {
+        return true;
+    }
+
+    @Override
+    public boolean put(TableName tableName, Put put) {
+        opsCount.incrementAndGet();
+
+        final boolean success = locateQueue.offer(new PendingPut(tableName, put));
+        if (!success) {
+            opsRejectCount.incrementAndGet();
+        }
+        return success;
+    }
+
+    @Override
+    public List<Put> put(TableName tableName, List<Put> puts) {
+        opsCount.addAndGet(puts.size());
+
+        List<Put> rejectPuts = null;
+        for (Put put : puts) {
+            if (!locateQueue.offer(new PendingPut(tableName, put))) {
+                if (rejectPuts == null) {
+                    rejectPuts = new ArrayList<>();
+                }
+                rejectPuts.add(put);
+            }
+        }
+        if (rejectPuts == null) {
+            return Collections.emptyList();
+        }
+        opsRejectCount.addAndGet(rejectPuts.size());
+        return rejectPuts;
+    }
+
+    private void flush() {
+        locate();
+        for (RegionServerQueue serverQueue : serverQueues.values()) {
+            dispatch(serverQueue);
+        }
+    }
+
+    private void locate() {
+        // only what is queued now, so a steady stream of puts can not hold the flush thread
+        for (int i = locateQueue.size(); i > 0; i--) {
+            final PendingPut pendingPut = locateQueue.poll();
+            if (pendingPut == null) {
+                return;
+            }
+            if (!enqueue(pendingPut, false)) {
+                opsFailedCount.incrementAndGet();
+            }
+        }
+    }
+
+    private boolean enqueue(PendingPut pendingPut, boolean reload) {
+        final HRegionLocation location;
+        try {
+            location = getRegionLocator(pendingPut.getTableName()).getRegionLocation(pendingPut.getPut().getRow(), reload);
+        } catch (IOException e) {
+            logger.warn("region location lookup failed. table:{} Caused:{}", pendingPut.getTableName(), e.getMessage(), e);
+            return false;
+        }
+        if (location == null || location.getServerName() == null) {
+            return false;
+        }
+        return getServerQueue(location.getServerName().getServerName()).offer(pendingPut);
+    }
+
+    private RegionLocator getRegionLocator(TableName tableName) throws IOException {
+        final RegionLocator regionLocator = regionLocators.get(tableName);
+        if (regionLocator != null) {
+            return regionLocator;
+        }
+        final RegionLocator newRegionLocator = connection.getRegionLocator(tableName);
+        final RegionLocator before = regionLocators.putIfAbsent(tableName, newRegionLocator);
+        if (before != null) {
+            newRegionLocator.close();
+            return before;
+        }
+        return newRegionLocator;
+    }
+
+    private RegionServerQueue getServerQueue(String serverName) {
+        final RegionServerQueue serverQueue = serverQueues.get(serverName);
+        if (serverQueue != null) {
+            return serverQueue;
+        }
+        final AdaptiveWindow window = new AdaptiveWindow(option.getMinWindow(), option.getMaxWindow(), option.getWindowIncrement(), option.getTargetLatency());
+        final RegionServerQueue newServerQueue = new RegionServerQueue(serverName, option.getQueueSize(), window, option.getMaxBatchSize());
+        final RegionServerQueue before = serverQueues.putIfAbsent(serverName, newServerQueue);
+        if (before != null) {
+            return before;
+        }
+        return newServerQueue;
+    }
+
+    private void dispatch(RegionServerQueue serverQueue) {
+        List<PendingPut> batch;
+        while ((batch = serverQueue.nextBatch()) != null) {
+            try {
+                writeExecutor.execute(new WriteTask(serverQueue, batch));
+            } catch (RejectedExecutionException e) {
+                // shutting down
+                serverQueue.complete(batch.size(), batch.size(), 0);
+                failed(serverQueue, batch.size());
+                return;
+            }
+        }
+    }
+
+    private void failed(RegionServerQueue serverQueue, int count) {
+        serverQueue.failed(count);
+        opsFailedCount.addAndGet(count);
+    }
+
+    private void retry(RegionServerQueue serverQueue, List<PendingPut> failedPuts) {
+        for (final PendingPut pendingPut : failedPuts) {
+            final int retryCount = pendingPut.incrementRetryCount();
+            if (retryCount > option.getMaxRetries()) {
+                failed(serverQueue, 1);
+                continue;
+            }
+            final long backoff = backoff(option.getPause(), option.getMaxBackoff(), retryCount);
+            pendingRetryCount.incrementAndGet();
+            try {
+                scheduler.schedule(new Runnable() {
+                    @Override
+                    public void run() {
+                        // the region may have moved, so look it up again
+                        if (!enqueue(pendingPut, true)) {
+                            failed(serverQueue, 1);
+                        }
+                        pendingRetryCount.decrementAndGet();
+                    }
+                }, backoff, TimeUnit.MILLISECONDS);
+            } catch (RejectedExecutionException e) {
+                pendingRetryCount.decrementAndGet();
+                failed(serverQueue, 1);
+            }
+        }
+    }
+
+    /**
+     * exponential backoff with equal jitter, so retries of a failed batch do not hit the server at once.
+     */
+    static long backoff(long pause, long maxBackoff, int retryCount) {
+        final int shift = Math.min(retryCount - 1, 16);
+        final long delay = Math.min(maxBackoff, pause << shift);
+        final long half = delay / 2;
+        return half + ThreadLocalRandom.current().nextLong(half + 1);
+    }
+
+    private class WriteTask implements Runnable {
+
+        private final RegionServerQueue serverQueue;
+        private final List<PendingPut> batch;
+
+        private WriteTask(RegionServerQueue serverQueue, List<PendingPut> batch) {
+            this.serverQueue = serverQueue;
+            this.batch = batch;
+        }
+
+        @Override
+        public void run() {
+            final long startTime = System.currentTimeMillis();
+            final List<PendingPut> failedPuts = new ArrayList<>();
+            for (Map.Entry<TableName, List<PendingPut>> entry : groupByTable(batch).entrySet()) {
+                if (Thread.currentThread().isInterrupted()) {
+                    // shutting down, the rest of the batch is retried or failed
+                    failedPuts.addAll(entry.getValue());
+                    continue;
+                }
+                write(entry.getKey(), entry.getValue(), failedPuts);
+            }
+            final long latency = System.currentTimeMillis() - startTime;
+            serverQueue.complete(batch.size(), failedPuts.size(), latency);
+
+            if (!failedPuts.isEmpty()) {
+                retry(serverQueue, failedPuts);
+            }
+            // keep the pipe full instead of waiting for the next flush
+            dispatch(serverQueue);
+        }
+
+        private Map<TableName, List<PendingPut>> groupByTable(List<PendingPut> batch) {
+            final Map<TableName, List<PendingPut>> tableMap = new LinkedHashMap<>();
+            for (PendingPut pendingPut : batch) {
+                List<PendingPut> puts = tableMap.get(pendingPut.getTableName());
+                if (puts == null) {
+                    puts = new ArrayList<>();
+                    tableMap.put(pendingPut.getTableName(), puts);
+                }
+                puts.add(pendingPut);
+            }
+            return tableMap;
+        }
+
+        private void write(TableName tableName, List<PendingPut> pendingPuts, List<PendingPut> failedPuts) {
+            final List<Put> puts = new ArrayList<>(pendingPuts.size());
+            for (PendingPut pendingPut : pendingPuts) {
+                puts.add(pendingPut.getPut());
+            }
+            final Object[] results = new Object[puts.size()];
+            try (Table table = connection.getTable(tableName)) {
+                table.batch(puts, results);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } catch (IOException e) {
+                // per put results tell which ones failed
+                if (logger.isDebugEnabled()) {
+                    logger.debug("batch put failed. server:{} table:{} Caused:{}", serverQueue.getServerName(), tableName, e.getMessage(), e);
+                }
+            }
+            for (int i = 0; i < results.length; i++) {
+                if (results[i] == null || results[i] instanceof Throwable) {
+                    failedPuts.add(pendingPuts.get(i));
+                }
+            }
+        }
+    }
+
+    @Override
+    public Long getOpsCount() {
+        return opsCount.get();
+    }
+
+    @Override
+    public Long getOpsRejectedCount() {
+        return opsRejectCount.get();
+    }
+
+    @Override
+    public Long getCurrentOpsCount() {
+        long count = locateQueue.size();
+        for (RegionServerQueue serverQueue : serverQueues.values()) {
+            count += serverQueue.getQueuedCount();
+        }
+        return count;
+    }
+
+    @Override
+    public Long getOpsFailedCount() {
+        return opsFailedCount.get();
+    }
+
+    @Override
+    public Long getOpsAverageLatency() {
+        if (serverQueues.isEmpty()) {
+            return 0L;
+        }
+        long sum = 0;
+        for (RegionServerQueue serverQueue : serverQueues.values()) {
+            sum += serverQueue.getAverageLatency();
+        }
+        return sum / serverQueues.size();
+    }
+
+    @Override
+    public Map<String, Long> getCurrentOpsCountForEachRegionServer() {
+        final Map<String, Long> map = new HashMap<>();
+        for (RegionServerQueue serverQueue : serverQueues.values()) {
+            map.put(serverQueue.getServerName(), serverQueue.getQueuedCount());
+        }
+        return map;
+    }
+
+    @Override
+    public Map<String, Long> getOpsFailedCountForEachRegionServer() {
+        final Map<String, Long> map = new HashMap<>();
+        for (RegionServerQueue serverQueue : serverQueues.values()) {
+            map.put(serverQueue.getServerName(), serverQueue.getFailedCount());
+        }
+        return map;
+    }
+
+    @Override
+    public Map<String, Long> getOpsAverageLatencyForEachRegionServer() {
+        final Map<String, Long> map = new HashMap<>();
+        for (RegionServerQueue serverQueue : serverQueues.values()) {
+            map.put(serverQueue.getServerName(), serverQueue.getAverageLatency());
+        }
+        return map;
+    }
+
+    @Override
+    public Map<String, Long> getOpsAverageQueueTimeForEachRegionServer() {
+        final Map<String, Long> map = new HashMap<>();
+        for (RegionServerQueue serverQueue : serverQueues.values()) {
+            map.put(serverQueue.getServerName(), serverQueue.getAverageQueueTime());
+        }
+        return map;
+    }
+
+    @Override
+    public void close() throws IOException {
+        logger.info("AdaptiveHBaseAsyncTemplate close");
+        // stops the periodic flush, retries already scheduled still run
+        scheduler.shutdown();
+        final long deadline = System.currentTimeMillis() + CLOSE_TIMEOUT;
+        try {
+            // a dispatch only sends what fits in the window, so keep flushing until everything is written
+            while (getCurrentOpsCount() > 0 || pendingRetryCount.get() > 0) {
+                if (System.currentTimeMillis() >= deadline) {
+                    logger.warn("close timed out. queued:{} pendingRetry:{}", getCurrentOpsCount(), pendingRetryCount.get());
+                    break;
+                }
+                flush();
+                Thread.sleep(Math.min(option.getFlushPeriod(), 10));
+            }
+            writeExecutor.shutdown();
+            final long remaining = Math.max(0, deadline - System.currentTimeMillis());
+            if (!writeExecutor.awaitTermination(remaining, TimeUnit.MILLISECONDS)) {
+                logger.warn("write executor did not terminate in time. queued:{}", getCurrentOpsCount());
+                writeExecutor.shutdownNow();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            writeExecutor.shutdownNow();
+        }
+        scheduler.shutdownNow();
+        for (RegionLocator regionLocator : regionLocators.values()) {
+            regionLocator.close();
+        }
+    }
+}
@@ -0,0 +1,68 @@
+/*
+ * Copyright 2018 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.pinpoint.common.hbase.async;
+
+/**
+ * AIMD window of puts allowed in flight to a region server.
+ * grows additively while batches complete under the target latency, and halves on failure or slow batches.
+ */
+final class AdaptiveWindow {
+
+    private final int minWindow;
+    private final int maxWindow;
+    private final int increment;
+    private final long targetLatency;
+
+    private int window;
+
+    AdaptiveWindow(int minWindow, int maxWindow, int increment, long targetLatency) {
+        if (minWindow <= 0) {
+            throw new IllegalArgumentException("minWindow must be positive");
+        }
+        if (maxWindow < minWindow) {
+            throw new IllegalArgumentException("maxWindow must not be less than minWindow");
+        }
+        if (increment <= 0) {
+            throw new IllegalArgumentException("increment must be positive");
+        }
+        this.minWindow = minWindow;
+        this.maxWindow = maxWindow;
+        this.increment = increment;
+        this.targetLatency = targetLatency;
+        this.window = minWindow;
+    }
+
+    synchronized int get() {
+        return window;
+    }
+
+    synchronized void onSuccess(long latency) {
+        if (latency > targetLatency) {
+            decrease();
+            return;
+        }
+        window = Math.min(maxWindow, window + increment);
+    }
+
+    synchronized void onFailure() {
+        decrease();
+    }
+
+    private void decrease() {
+        window = Math.max(minWindow, window / 2);
+    }
+}
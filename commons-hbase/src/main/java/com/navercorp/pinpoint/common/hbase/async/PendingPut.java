@@ -0,0 +1,57 @@
+/*
+ * Copyright 2018 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.pinpoint.common.hbase.async;
+
+import org.apache.hadoop.hbase.TableName;
+import org.apache.hadoop.hbase.client.Put;
+
+final class PendingPut {
+
+    private final TableName tableName;
+    private final Put put;
+    private long enqueueTime;
+    private int retryCount;
+
+    PendingPut(TableName tableName, Put put) {
+        this.tableName = tableName;
+        this.put = put;
+    }
+
+    TableName getTableName() {
+        return tableName;
+    }
+
+    Put getPut() {
+        return put;
+    }
+
+    long getEnqueueTime() {
+        return enqueueTime;
+    }
+
+    void setEnqueueTime(long enqueueTime) {
+        this.enqueueTime = enqueueTime;
+    }
+
+    int getRetryCount() {
+        return retryCount;
+    }
+
+    int incrementRetryCount() {
+        return ++retryCount;
+    }
+}
@@ -0,0 +1,127 @@
+/*
+ * Copyright 2018 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.pinpoint.common.hbase.async;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Bounded queue of puts for one region server.
+ * A slow server only fills up its own queue, puts for the other servers keep flowing.
+ */
+final class RegionServerQueue {
+
+    // weight of the newest sample for the moving averages
+    private static final int EWMA_SHIFT = 3;
+
+    private final String serverName;
+    private final BlockingQueue<PendingPut> queue;
+    private final AdaptiveWindow window;
+    private final int maxBatchSize;
+
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final AtomicLong failedCount = new AtomicLong();
+
+    private volatile long averageQueueTime;
+    private volatile long averageLatency;
+
+    RegionServerQueue(String serverName, int queueSize, AdaptiveWindow window, int maxBatchSize) {
+        if (serverName == null) {
+            throw new NullPointerException("serverName must not be null");
+        }
+        if (window == null) {
+            throw new NullPointerException("window must not be null");
+        }
+        this.serverName = serverName;
+        this.queue = new ArrayBlockingQueue<>(queueSize);
+        this.window = window;
+        this.maxBatchSize = maxBatchSize;
+    }
+
+    String getServerName() {
+        return serverName;
+    }
+
+    boolean offer(PendingPut pendingPut) {
+        pendingPut.setEnqueueTime(System.currentTimeMillis());
+        return queue.offer(pendingPut);
+    }
+
+    /**
+     * drains the next batch within the in flight window.
+     * @return null if the window is full or there is nothing to send
+     */
+    synchronized List<PendingPut> nextBatch() {
+        final int available = window.get() - inFlight.get();
+        if (available <= 0) {
+            return null;
+        }
+        final int batchSize = Math.min(available, maxBatchSize);
+        final List<PendingPut> batch = new ArrayList<>(Math.min(batchSize, queue.size()));
+        queue.drainTo(batch, batchSize);
+        if (batch.isEmpty()) {
+            return null;
+        }
+        inFlight.addAndGet(batch.size());
+
+        final long oldestEnqueueTime = batch.get(0).getEnqueueTime();
+        this.averageQueueTime = ewma(averageQueueTime, System.currentTimeMillis() - oldestEnqueueTime);
+        return batch;
+    }
+
+    void complete(int batchSize, int failed, long latency) {
+        inFlight.addAndGet(-batchSize);
+        this.averageLatency = ewma(averageLatency, latency);
+        if (failed == 0) {
+            window.onSuccess(latency);
+        } else {
+            window.onFailure();
+        }
+    }
+
+    void failed(int count) {
+        failedCount.addAndGet(count);
+    }
+
+    private static long ewma(long average, long sample) {
+        return average + ((sample - average) >> EWMA_SHIFT);
+    }
+
+    long getQueuedCount() {
+        return queue.size() + inFlight.get();
+    }
+
+    long getFailedCount() {
+        return failedCount.get();
+    }
+
+    long getAverageQueueTime() {
+        return averageQueueTime;
+    }
+
+    long getAverageLatency() {
+        return averageLatency;
+    }
+
+    int getWindow() {
+        return window.get();
+    }
+}
@@ -0,0 +1,366 @@
+/*
+ * Copyright 2018 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.pinpoint.common.hbase.embedded;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.Closeable;
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.zip.CRC32;
+
+/**
+ * Append-only mutation log of the embedded storage.
+ * <pre>
+ * record : int bodyLength, long crc32(body), body
+ * body   : byte type, short tableLength, table, int rowLength, row, short familyLength, family,
+ *          int qualifierLength, qualifier, long timestamp, int valueLength, value
+ * </pre>
+ * The log is replayed through a read-only memory mapping. A torn record at the tail (crash during append)
+ * is detected by its length or checksum and truncated.
+ * <p>
+ * A read-only log follows the records appended by the writing process, and reports when the writer has replaced
+ * the file with a compacted snapshot. It never truncates, an incomplete tail is read again on the next call.
+ */
+final class EmbeddedLog implements Closeable {
+
+    static final byte PUT = 1;
+    static final byte DELETE_ROW = 2;
+    static final byte DELETE_FAMILY = 3;
+    static final byte DELETE_COLUMN = 4;
+
+    private static final int HEADER_SIZE = 4 + 8;
+    private static final byte[] EMPTY = new byte[0];
+
+    private final Logger logger = LoggerFactory.getLogger(this.getClass());
+
+    private final File file;
+    private final boolean readOnly;
+    private RandomAccessFile randomAccessFile;
+    private FileChannel channel;
+    // identity of the opened file, changes when the writer replaces the log
+    private Object fileKey;
+    // end of the last complete record
+    private long position;
+
+    EmbeddedLog(File file) {
+        this(file, false);
+    }
+
+    EmbeddedLog(File file, boolean readOnly) {
+        if (file == null) {
+            throw new NullPointerException("file must not be null");
+        }
+        this.file = file;
+        this.readOnly = readOnly;
+    }
+
+    interface Handler {
+        void handle(byte type, String tableName, byte[] row, byte[] family, byte[] qualifier, long timestamp, byte[] value);
+    }
+
+    /**
+     * replays every complete record and opens the log for appending.
+     */
+    synchronized void open(Handler handler) throws IOException {
+        if (readOnly && !file.exists()) {
+            logger.info("log not created yet. file:{}", file);
+            return;
+        }
+        this.randomAccessFile = new RandomAccessFile(file, readOnly ? "r" : "rw");
+        this.channel = randomAccessFile.getChannel();
+        this.fileKey = fileKey(file);
+
+        final long size = channel.size();
+        this.position = replay(0, size, handler);
+        if (readOnly) {
+            return;
+        }
+        if (position < size) {
+            logger.warn("truncate torn log tail. file:{} validSize:{} size:{}", file, position, size);
+            channel.truncate(position);
+        }
+        channel.position(position);
+    }
+
+    /**
+     * replays the records appended by the writer since the previous call. read-only log only.
+     */
+    synchronized void follow(Handler handler) throws IOException {
+        if (!readOnly) {
+            throw new IllegalStateException("follow() on a writable log. file:" + file);
+        }
+        if (channel == null) {
+            open(handler);
+            return;
+        }
+        final long size = channel.size();
+        if (size > position) {
+            this.position = replay(position, size, handler);
+        }
+    }
+
+    /**
+     * @return true if the file was replaced since it was opened, the log must be closed and opened again
+     */
+    synchronized boolean isReplaced() throws IOException {
+        if (channel == null || !file.exists()) {
+            return false;
+        }
+        final Object currentFileKey = fileKey(file);
+        if (fileKey != null && currentFileKey != null) {
+            return !fileKey.equals(currentFileKey);
+        }
+        // file systems without file keys, a compacted log is never larger than the one it replaces
+        return file.length() < position;
+    }
+
+    private static Object fileKey(File file) throws IOException {
+        return Files.readAttributes(file.toPath(), BasicFileAttributes.class).fileKey();
+    }
+
+    private long replay(long from, long size, Handler handler) throws IOException {
+        long position = from;
+        // a single mapping is limited to Integer.MAX_VALUE bytes
+        while (position < size) {
+            final long mapSize = Math.min(size - position, Integer.MAX_VALUE);
+            final MappedByteBuffer mapped = channel.map(FileChannel.MapMode.READ_ONLY, position, mapSize);
+            final int consumed = replay(mapped, handler);
+            if (consumed == 0) {
+                break;
+            }
+            position += consumed;
+        }
+        return position;
+    }
+
+    private int replay(ByteBuffer buffer, Handler handler) {
+        final CRC32 crc32 = new CRC32();
+        int lastValid = 0;
+        while (buffer.remaining() >= HEADER_SIZE) {
+            final int bodyLength = buffer.getInt();
+            final long checksum = buffer.getLong();
+            if (bodyLength <= 0 || bodyLength > buffer.remaining()) {
+                break;
+            }
+            final ByteBuffer body = buffer.slice();
+            body.limit(bodyLength);
+            crc32.reset();
+            crc32.update(body.duplicate());
+            if (crc32.getValue() != checksum) {
+                break;
+            }
+            readRecord(body, handler);
+            buffer.position(buffer.position() + bodyLength);
+            lastValid = buffer.position();
+        }
+        return lastValid;
+    }
+
+    private void readRecord(ByteBuffer body, Handler handler) {
+        final byte type = body.get();
+        final String tableName = new String(readBytes(body, body.getShort()), StandardCharsets.UTF_8);
+        final byte[] row = readBytes(body, body.getInt());
+        final byte[] family = readBytes(body, body.getShort());
+        final byte[] qualifier = readBytes(body, body.getInt());
+        final long timestamp = body.getLong();
+        final byte[] value = readBytes(body, body.getInt());
+        handler.handle(type, tableName, row, family, qualifier, timestamp, value);
+    }
+
+    private byte[] readBytes(ByteBuffer buffer, int length) {
+        if (length == 0) {
+            return EMPTY;
+        }
+        final byte[] bytes = new byte[length];
+        buffer.get(bytes);
+        return bytes;
+    }
+
+    static Record newRecord(byte type, String tableName, byte[] row, byte[] family, byte[] qualifier, long timestamp, byte[] value) {
+        return new Record(type, tableName.getBytes(StandardCharsets.UTF_8), row, family, qualifier, timestamp, value);
+    }
+
+    void append(Record record) throws IOException {
+        final ByteBuffer buffer = record.toByteBuffer();
+        synchronized (this) {
+            ensureOpen();
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+        }
+    }
+
+    void append(Record[] records) throws IOException {
+        if (records.length == 1) {
+            append(records[0]);
+            return;
+        }
+        int size = 0;
+        final ByteBuffer[] buffers = new ByteBuffer[records.length];
+        for (int i = 0; i < records.length; i++) {
+            buffers[i] = records[i].toByteBuffer();
+            size += buffers[i].remaining();
+        }
+        synchronized (this) {
+            ensureOpen();
+            long written = 0;
+            while (written < size) {
+                written += channel.write(buffers);
+            }
+        }
+    }
+
+    private void ensureOpen() throws IOException {
+        if (readOnly) {
+            throw new IOException("read-only log. file:" + file);
+        }
+        if (channel == null) {
+            throw new IOException("log not opened. file:" + file);
+        }
+    }
+
+    synchronized void sync() throws IOException {
+        if (channel != null && !readOnly) {
+            channel.force(false);
+        }
+    }
+
+    synchronized long size() throws IOException {
+        if (channel == null) {
+            return 0;
+        }
+        return channel.size();
+    }
+
+    /**
+     * replaces the log with the records of the given snapshot.
+     * The snapshot is written to a temporary file first, and moved over the log atomically,
+     * so a crash leaves either the old or the new log, never none.
+     */
+    synchronized void rewrite(Iterable<Record> snapshot) throws IOException {
+        ensureOpen();
+        final File tempFile = new File(file.getParentFile(), file.getName() + ".compact");
+        try (RandomAccessFile temp = new RandomAccessFile(tempFile, "rw")) {
+            final FileChannel tempChannel = temp.getChannel();
+            tempChannel.truncate(0);
+            for (Record record : snapshot) {
+                final ByteBuffer buffer = record.toByteBuffer();
+                while (buffer.hasRemaining()) {
+                    tempChannel.write(buffer);
+                }
+            }
+            tempChannel.force(true);
+        }
+        close();
+        Files.move(tempFile.toPath(), file.toPath(), StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        this.randomAccessFile = new RandomAccessFile(file, "rw");
+        this.channel = randomAccessFile.getChannel();
+        this.fileKey = fileKey(file);
+        this.position = channel.size();
+        this.channel.position(position);
+    }
+
+    @Override
+    public synchronized void close() throws IOException {
+        if (channel != null) {
+            if (!readOnly) {
+                channel.force(true);
+            }
+            channel.close();
+            channel = null;
+        }
+        if (randomAccessFile != null) {
+            randomAccessFile.close();
+            randomAccessFile = null;
+        }
+    }
+
+    static final class Record {
+        private final byte type;
+        private final byte[] tableName;
+        private final byte[] row;
+        private final byte[] family;
+        private final byte[] qualifier;
+        private final long timestamp;
+        private final byte[] value;
+
+        private Record(byte type, byte[] tableName, byte[] row, byte[] family, byte[] qualifier, long timestamp, byte[] value) {
+            this.type = type;
+            this.tableName = tableName;
+            this.row = row;
+            this.family = nullToEmpty(family);
+            this.qualifier = nullToEmpty(qualifier);
+            this.timestamp = timestamp;
+            this.value = nullToEmpty(value);
+        }
+
+        byte getType() {
+            return type;
+        }
+
+        byte[] getFamily() {
+            return family;
+        }
+
+        byte[] getQualifier() {
+            return qualifier;
+        }
+
+        long getTimestamp() {
+            return timestamp;
+        }
+
+        byte[] getValue() {
+            return value;
+        }
+
+        private static byte[] nullToEmpty(byte[] bytes) {
+            return bytes == null ? EMPTY : bytes;
+        }
+
+        ByteBuffer toByteBuffer() {
+            final int bodyLength = 1 + 2 + tableName.length + 4 + row.length + 2 + family.length
+                    + 4 + qualifier.length + 8 + 4 + value.length;
+            final ByteBuffer buffer = ByteBuffer.allocate(HEADER_SIZE + bodyLength);
+            buffer.putInt(bodyLength);
+            buffer.putLong(0);
+            buffer.put(type);
+            buffer.putShort((short) tableName.length).put(tableName);
+            buffer.putInt(row.length).put(row);
+            buffer.putShort((short) family.length).put(family);
+            buffer.putInt(qualifier.length).put(qualifier);
+            buffer.putLong(timestamp);
+            buffer.putInt(value.length).put(value);
+
+            final CRC32 crc32 = new CRC32();
+            crc32.update(buffer.array(), HEADER_SIZE, bodyLength);
+            buffer.putLong(4, crc32.getValue());
+            buffer.flip();
+            return buffer;
+        }
+    }
+}
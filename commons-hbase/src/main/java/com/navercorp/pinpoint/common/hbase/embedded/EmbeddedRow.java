@@ -0,0 +1,184 @@
+/*
+ * Copyright 2018 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.pinpoint.common.hbase.embedded;
+
+import org.apache.hadoop.hbase.Cell;
+import org.apache.hadoop.hbase.KeyValue;
+import org.apache.hadoop.hbase.util.Bytes;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.NavigableSet;
+import java.util.TreeMap;
+
+/**
+ * Latest version of every column of a row. Callers must hold the row monitor while mutating or reading.
+ * Columns older than minTimestamp have expired, they are invisible to reads until purged.
+ */
+final class EmbeddedRow {
+
+    private final byte[] row;
+    private final NavigableMap<byte[], NavigableMap<byte[], Column>> families = new TreeMap<>(Bytes.BYTES_COMPARATOR);
+    private boolean removed = false;
+
+    EmbeddedRow(byte[] row) {
+        this.row = row;
+    }
+
+    byte[] getRow() {
+        return row;
+    }
+
+    boolean isRemoved() {
+        return removed;
+    }
+
+    void markRemoved() {
+        this.removed = true;
+    }
+
+    boolean isEmpty() {
+        return families.isEmpty();
+    }
+
+    void put(byte[] family, byte[] qualifier, long timestamp, byte[] value) {
+        NavigableMap<byte[], Column> columns = families.get(family);
+        if (columns == null) {
+            columns = new TreeMap<>(Bytes.BYTES_COMPARATOR);
+            families.put(family, columns);
+        }
+        final Column column = columns.get(qualifier);
+        // only the latest version is kept, an older put is shadowed like maxVersions=1
+        if (column == null || column.timestamp <= timestamp) {
+            columns.put(qualifier, new Column(timestamp, value));
+        }
+    }
+
+    long getLong(byte[] family, byte[] qualifier, long minTimestamp) {
+        final NavigableMap<byte[], Column> columns = families.get(family);
+        if (columns == null) {
+            return 0;
+        }
+        final Column column = columns.get(qualifier);
+        if (column == null || column.timestamp < minTimestamp) {
+            return 0;
+        }
+        if (column.value.length != Bytes.SIZEOF_LONG) {
+            throw new IllegalStateException("Attempted to increment field that isn't 64 bits wide");
+        }
+        return Bytes.toLong(column.value);
+    }
+
+    void deleteFamily(byte[] family) {
+        families.remove(family);
+    }
+
+    void deleteColumn(byte[] family, byte[] qualifier) {
+        final NavigableMap<byte[], Column> columns = families.get(family);
+        if (columns == null) {
+            return;
+        }
+        columns.remove(qualifier);
+        if (columns.isEmpty()) {
+            families.remove(family);
+        }
+    }
+
+    void clear() {
+        families.clear();
+    }
+
+    void purge(long minTimestamp) {
+        final Iterator<NavigableMap<byte[], Column>> familyIterator = families.values().iterator();
+        while (familyIterator.hasNext()) {
+            final NavigableMap<byte[], Column> columns = familyIterator.next();
+            final Iterator<Column> columnIterator = columns.values().iterator();
+            while (columnIterator.hasNext()) {
+                if (columnIterator.next().timestamp < minTimestamp) {
+                    columnIterator.remove();
+                }
+            }
+            if (columns.isEmpty()) {
+                familyIterator.remove();
+            }
+        }
+    }
+
+    /**
+     * @param familyMap family -> qualifiers, an empty map selects every family and a null qualifier set every column
+     * @return unexpired cells in KeyValue order
+     */
+    List<Cell> getCells(Map<byte[], NavigableSet<byte[]>> familyMap, long minTimestamp) {
+        final List<Cell> cells = new ArrayList<>();
+        if (familyMap == null || familyMap.isEmpty()) {
+            for (Map.Entry<byte[], NavigableMap<byte[], Column>> family : families.entrySet()) {
+                addCells(cells, family.getKey(), family.getValue(), null, minTimestamp);
+            }
+            return cells;
+        }
+        for (Map.Entry<byte[], NavigableMap<byte[], Column>> family : families.entrySet()) {
+            if (!familyMap.containsKey(family.getKey())) {
+                continue;
+            }
+            addCells(cells, family.getKey(), family.getValue(), familyMap.get(family.getKey()), minTimestamp);
+        }
+        return cells;
+    }
+
+    private void addCells(List<Cell> cells, byte[] family, NavigableMap<byte[], Column> columns, NavigableSet<byte[]> qualifiers, long minTimestamp) {
+        for (Map.Entry<byte[], Column> entry : columns.entrySet()) {
+            final byte[] qualifier = entry.getKey();
+            if (qualifiers != null && !qualifiers.isEmpty() && !qualifiers.contains(qualifier)) {
+                continue;
+            }
+            final Column column = entry.getValue();
+            if (column.timestamp < minTimestamp) {
+                continue;
+            }
+            cells.add(new KeyValue(row, family, qualifier, column.timestamp, KeyValue.Type.Put, column.value));
+        }
+    }
+
+    void visit(ColumnVisitor visitor, long minTimestamp) {
+        for (Map.Entry<byte[], NavigableMap<byte[], Column>> family : families.entrySet()) {
+            for (Map.Entry<byte[], Column> entry : family.getValue().entrySet()) {
+                final Column column = entry.getValue();
+                if (column.timestamp < minTimestamp) {
+                    continue;
+                }
+                visitor.visit(row, family.getKey(), entry.getKey(), column.timestamp, column.value);
+            }
+        }
+    }
+
+    interface ColumnVisitor {
+        void visit(byte[] row, byte[] family, byte[] qualifier, long timestamp, byte[] value);
+    }
+
+    private static final class Column {
+        private final long timestamp;
+        private final byte[] value;
+
+        private Column(long timestamp, byte[] value) {
+            this.timestamp = timestamp;
+            this.value = value;
+        }
+    }
+}
@@ -0,0 +1,235 @@
+/*
+ * Copyright 2018 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.pinpoint.common.hbase.embedded;
+
+import org.apache.hadoop.hbase.TableName;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.Closeable;
+import java.io.File;
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Single node storage for small installations and tests.
+ * All tables share one append-only log which is replayed into sorted in-memory tables on open,
+ * and rewritten as a sorted snapshot on close.
+ * <p>
+ * A directory has a single writer, usually the collector, which holds a lock file while it is open.
+ * Other processes such as the web open the directory read-only and {@link #refresh()} to follow the writer.
+ * Everything is kept on heap, so set a time to live to bound the size of the storage.
+ */
+public class EmbeddedStorage implements Closeable {
+
+    static final String LOG_FILE_NAME = "pinpoint-embedded.log";
+    static final String LOCK_FILE_NAME = "pinpoint-embedded.lock";
+
+    private final Logger logger = LoggerFactory.getLogger(this.getClass());
+
+    private final EmbeddedLog log;
+    private final boolean readOnly;
+    private final long timeToLiveMillis;
+    private final FileChannel lockChannel;
+    private volatile ConcurrentMap<String, EmbeddedTable> tables = new ConcurrentHashMap<>();
+
+    private EmbeddedStorage(EmbeddedLog log, boolean readOnly, long timeToLiveMillis, FileChannel lockChannel) {
+        if (timeToLiveMillis < 0) {
+            throw new IllegalArgumentException("negative timeToLiveMillis:" + timeToLiveMillis);
+        }
+        this.log = log;
+        this.readOnly = readOnly;
+        this.timeToLiveMillis = timeToLiveMillis;
+        this.lockChannel = lockChannel;
+    }
+
+    public static EmbeddedStorage open(File directory) throws IOException {
+        return open(directory, 0);
+    }
+
+    /**
+     * @param timeToLiveMillis columns older than this expire, 0 keeps them forever
+     */
+    public static EmbeddedStorage open(File directory, long timeToLiveMillis) throws IOException {
+        if (directory == null) {
+            throw new NullPointerException("directory must not be null");
+        }
+        if (!directory.isDirectory() && !directory.mkdirs()) {
+            throw new IOException("can not create directory:" + directory);
+        }
+        final FileChannel lockChannel = lock(directory);
+        final EmbeddedStorage storage;
+        try {
+            storage = new EmbeddedStorage(new EmbeddedLog(new File(directory, LOG_FILE_NAME)), false, timeToLiveMillis, lockChannel);
+            storage.replay(directory);
+        } catch (IOException | RuntimeException e) {
+            lockChannel.close();
+            throw e;
+        }
+        return storage;
+    }
+
+    /**
+     * opens the storage written by another process. Call {@link #refresh()} to see its latest writes.
+     */
+    public static EmbeddedStorage openReadOnly(File directory, long timeToLiveMillis) throws IOException {
+        if (directory == null) {
+            throw new NullPointerException("directory must not be null");
+        }
+        final EmbeddedStorage storage = new EmbeddedStorage(new EmbeddedLog(new File(directory, LOG_FILE_NAME), true), true, timeToLiveMillis, null);
+        storage.replay(directory);
+        return storage;
+    }
+
+    private static FileChannel lock(File directory) throws IOException {
+        final File lockFile = new File(directory, LOCK_FILE_NAME);
+        final FileChannel lockChannel = FileChannel.open(lockFile.toPath(), StandardOpenOption.CREATE, StandardOpenOption.WRITE);
+        final FileLock lock;
+        try {
+            lock = lockChannel.tryLock();
+        } catch (IOException | RuntimeException e) {
+            lockChannel.close();
+            throw e;
+        }
+        if (lock == null) {
+            lockChannel.close();
+            throw new IOException("storage already opened for writing by another process. lockFile:" + lockFile);
+        }
+        return lockChannel;
+    }
+
+    private void replay(File directory) throws IOException {
+        final long start = System.currentTimeMillis();
+        log.open(newReplayHandler(tables));
+        logger.info("EmbeddedStorage opened. directory:{} readOnly:{} tables:{} elapsed:{}ms", directory, readOnly, tables.keySet(), System.currentTimeMillis() - start);
+    }
+
+    private EmbeddedLog.Handler newReplayHandler(final ConcurrentMap<String, EmbeddedTable> tables) {
+        return new EmbeddedLog.Handler() {
+            @Override
+            public void handle(byte type, String tableName, byte[] row, byte[] family, byte[] qualifier, long timestamp, byte[] value) {
+                getTable(tables, tableName).replay(row, type, family, qualifier, timestamp, value);
+            }
+        };
+    }
+
+    /**
+     * storage without a log, every write is lost on close.
+     */
+    public static EmbeddedStorage memory() {
+        return memory(0);
+    }
+
+    public static EmbeddedStorage memory(long timeToLiveMillis) {
+        return new EmbeddedStorage(null, false, timeToLiveMillis, null);
+    }
+
+    public boolean isReadOnly() {
+        return readOnly;
+    }
+
+    public EmbeddedTable getTable(TableName tableName) {
+        if (tableName == null) {
+            throw new NullPointerException("tableName must not be null");
+        }
+        return getTable(tableName.getNameAsString());
+    }
+
+    EmbeddedTable getTable(String tableName) {
+        return getTable(this.tables, tableName);
+    }
+
+    private EmbeddedTable getTable(ConcurrentMap<String, EmbeddedTable> tables, String tableName) {
+        final EmbeddedTable table = tables.get(tableName);
+        if (table != null) {
+            return table;
+        }
+        final EmbeddedTable newTable = new EmbeddedTable(tableName, log, timeToLiveMillis);
+        final EmbeddedTable before = tables.putIfAbsent(tableName, newTable);
+        if (before != null) {
+            return before;
+        }
+        return newTable;
+    }
+
+    /**
+     * read-only storage : applies the writes of the writer since the previous refresh.
+     * If the writer has compacted the log in the meantime, every table is reloaded.
+     */
+    public synchronized void refresh() throws IOException {
+        if (!readOnly) {
+            return;
+        }
+        if (!log.isReplaced()) {
+            log.follow(newReplayHandler(tables));
+            return;
+        }
+        final long start = System.currentTimeMillis();
+        log.close();
+        final ConcurrentMap<String, EmbeddedTable> reloaded = new ConcurrentHashMap<>();
+        log.open(newReplayHandler(reloaded));
+        // readers keep the tables they already hold until their operation completes
+        this.tables = reloaded;
+        logger.info("EmbeddedStorage reloaded. tables:{} elapsed:{}ms", reloaded.keySet(), System.currentTimeMillis() - start);
+    }
+
+    /**
+     * releases the memory of expired columns.
+     */
+    public void purgeExpired() {
+        if (timeToLiveMillis == 0) {
+            return;
+        }
+        for (EmbeddedTable table : tables.values()) {
+            table.purgeExpired();
+        }
+    }
+
+    public void sync() throws IOException {
+        if (log != null) {
+            log.sync();
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (log == null) {
+            return;
+        }
+        if (readOnly) {
+            log.close();
+            return;
+        }
+        try {
+            final List<EmbeddedLog.Record> snapshot = new ArrayList<>();
+            for (EmbeddedTable table : tables.values()) {
+                table.snapshot(snapshot);
+            }
+            log.rewrite(snapshot);
+            log.close();
+        } finally {
+            // releases the lock
+            lockChannel.close();
+        }
+    }
+}
@@ -0,0 +1,451 @@
+/*
+ * Copyright 2018 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.pinpoint.common.hbase.embedded;
+
+import org.apache.hadoop.hbase.Cell;
+import org.apache.hadoop.hbase.CellUtil;
+import org.apache.hadoop.hbase.HConstants;
+import org.apache.hadoop.hbase.KeyValue;
+import org.apache.hadoop.hbase.client.Delete;
+import org.apache.hadoop.hbase.client.Get;
+import org.apache.hadoop.hbase.client.Increment;
+import org.apache.hadoop.hbase.client.Put;
+import org.apache.hadoop.hbase.client.Result;
+import org.apache.hadoop.hbase.client.ResultScanner;
+import org.apache.hadoop.hbase.client.Scan;
+import org.apache.hadoop.hbase.filter.Filter;
+import org.apache.hadoop.hbase.util.Bytes;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.NavigableSet;
+import java.util.concurrent.ConcurrentSkipListMap;
+
+/**
+ * Sorted in-memory index of a table. Every mutation is appended to the {@link EmbeddedLog} before it is applied.
+ * Only the latest version of a column is kept. Columns older than timeToLiveMillis expire like an HBase column family TTL:
+ * they are invisible to reads immediately, and removed from memory by {@link #purgeExpired()} and from the log by the next rewrite.
+ */
+public class EmbeddedTable {
+
+    private final String tableName;
+    private final EmbeddedLog log;
+    private final long timeToLiveMillis;
+    private final ConcurrentSkipListMap<byte[], EmbeddedRow> rows = new ConcurrentSkipListMap<>(Bytes.BYTES_COMPARATOR);
+
+    EmbeddedTable(String tableName, EmbeddedLog log, long timeToLiveMillis) {
+        if (tableName == null) {
+            throw new NullPointerException("tableName must not be null");
+        }
+        if (timeToLiveMillis < 0) {
+            throw new IllegalArgumentException("negative timeToLiveMillis:" + timeToLiveMillis);
+        }
+        this.tableName = tableName;
+        this.log = log;
+        this.timeToLiveMillis = timeToLiveMillis;
+    }
+
+    public String getTableName() {
+        return tableName;
+    }
+
+    public int getRowCount() {
+        return rows.size();
+    }
+
+    /**
+     * @return the oldest unexpired timestamp
+     */
+    private long minTimestamp() {
+        if (timeToLiveMillis == 0) {
+            return Long.MIN_VALUE;
+        }
+        return System.currentTimeMillis() - timeToLiveMillis;
+    }
+
+    public void put(final Put put) throws IOException {
+        final long now = System.currentTimeMillis();
+        mutate(put.getRow(), new RowMutation<Void>() {
+            @Override
+            public Void mutate(EmbeddedRow row) throws IOException {
+                final List<EmbeddedLog.Record> records = new ArrayList<>();
+                for (List<Cell> cells : put.getFamilyCellMap().values()) {
+                    for (Cell cell : cells) {
+                        final long timestamp = cell.getTimestamp() == HConstants.LATEST_TIMESTAMP ? now : cell.getTimestamp();
+                        records.add(EmbeddedLog.newRecord(EmbeddedLog.PUT, tableName, row.getRow(),
+                                CellUtil.cloneFamily(cell), CellUtil.cloneQualifier(cell), timestamp, CellUtil.cloneValue(cell)));
+                    }
+                }
+                appendLog(records);
+                for (EmbeddedLog.Record record : records) {
+                    apply(row, record);
+                }
+                return null;
+            }
+        });
+    }
+
+    public void delete(final Delete delete) throws IOException {
+        mutate(delete.getRow(), new RowMutation<Void>() {
+            @Override
+            public Void mutate(EmbeddedRow row) throws IOException {
+                final List<EmbeddedLog.Record> records = new ArrayList<>();
+                final NavigableMap<byte[], List<Cell>> familyCellMap = delete.getFamilyCellMap();
+                if (familyCellMap.isEmpty()) {
+                    records.add(EmbeddedLog.newRecord(EmbeddedLog.DELETE_ROW, tableName, row.getRow(), null, null, 0, null));
+                } else {
+                    for (List<Cell> cells : familyCellMap.values()) {
+                        for (Cell cell : cells) {
+                            final byte type = CellUtil.isDeleteFamily(cell) ? EmbeddedLog.DELETE_FAMILY : EmbeddedLog.DELETE_COLUMN;
+                            records.add(EmbeddedLog.newRecord(type, tableName, row.getRow(), CellUtil.cloneFamily(cell), CellUtil.cloneQualifier(cell), 0, null));
+                        }
+                    }
+                }
+                appendLog(records);
+                for (EmbeddedLog.Record record : records) {
+                    apply(row, record);
+                }
+                return null;
+            }
+        });
+    }
+
+    public Result increment(final Increment increment) throws IOException {
+        final long now = System.currentTimeMillis();
+        final long minTimestamp = minTimestamp();
+        return mutate(increment.getRow(), new RowMutation<Result>() {
+            @Override
+            public Result mutate(EmbeddedRow row) throws IOException {
+                final List<EmbeddedLog.Record> records = new ArrayList<>();
+                final List<Cell> resultCells = new ArrayList<>();
+                for (List<Cell> cells : increment.getFamilyCellMap().values()) {
+                    for (Cell cell : cells) {
+                        final byte[] family = CellUtil.cloneFamily(cell);
+                        final byte[] qualifier = CellUtil.cloneQualifier(cell);
+                        final long amount = Bytes.toLong(CellUtil.cloneValue(cell));
+                        final byte[] value = Bytes.toBytes(row.getLong(family, qualifier, minTimestamp) + amount);
+                        records.add(EmbeddedLog.newRecord(EmbeddedLog.PUT, tableName, row.getRow(), family, qualifier, now, value));
+                        resultCells.add(new KeyValue(row.getRow(), family, qualifier, now, KeyValue.Type.Put, value));
+                    }
+                }
+                // the log stores the incremented value, so replay is idempotent
+                appendLog(records);
+                for (EmbeddedLog.Record record : records) {
+                    apply(row, record);
+                }
+                Collections.sort(resultCells, KeyValue.COMPARATOR);
+                return Result.create(resultCells);
+            }
+        });
+    }
+
+    public long incrementColumnValue(byte[] rowName, byte[] familyName, byte[] qualifier, long amount) throws IOException {
+        final Increment increment = new Increment(rowName);
+        increment.addColumn(familyName, qualifier, amount);
+        final Result result = increment(increment);
+        return Bytes.toLong(result.getValue(familyName, qualifier));
+    }
+
+    public Result get(Get get) throws IOException {
+        final EmbeddedRow row = rows.get(get.getRow());
+        if (row == null) {
+            return Result.create(Collections.<Cell>emptyList());
+        }
+        final List<Cell> cells;
+        synchronized (row) {
+            cells = row.getCells(get.getFamilyMap(), minTimestamp());
+        }
+        final List<Cell> filtered = filterRow(get.getFilter(), get.getRow(), cells);
+        if (filtered == null) {
+            return Result.create(Collections.<Cell>emptyList());
+        }
+        return Result.create(filtered);
+    }
+
+    /**
+     * startRow/stopRow follow HBase semantics, including reversed scans where startRow is the upper bound.
+     */
+    public ResultScanner getScanner(Scan scan) {
+        final byte[] startRow = scan.getStartRow();
+        final byte[] stopRow = scan.getStopRow();
+        NavigableMap<byte[], EmbeddedRow> range = rows;
+        if (scan.isReversed()) {
+            if (!isEmpty(startRow)) {
+                range = range.headMap(startRow, true);
+            }
+            if (!isEmpty(stopRow)) {
+                range = range.tailMap(stopRow, false);
+            }
+            range = range.descendingMap();
+        } else {
+            if (!isEmpty(startRow)) {
+                range = range.tailMap(startRow, true);
+            }
+            if (!isEmpty(stopRow)) {
+                range = range.headMap(stopRow, false);
+            }
+        }
+        return new EmbeddedResultScanner(range.values().iterator(), scan, minTimestamp());
+    }
+
+    private static boolean isEmpty(byte[] bytes) {
+        return bytes == null || bytes.length == 0;
+    }
+
+    /**
+     * applies the filter the way a region scanner does.
+     * @return null if the whole row is filtered out
+     */
+    static List<Cell> filterRow(Filter filter, byte[] row, List<Cell> cells) throws IOException {
+        if (cells.isEmpty()) {
+            return null;
+        }
+        if (filter == null) {
+            return cells;
+        }
+        filter.reset();
+        if (filter.filterRowKey(row, 0, row.length)) {
+            return null;
+        }
+        final List<Cell> included = new ArrayList<>(cells.size());
+        for (Cell cell : cells) {
+            final Filter.ReturnCode returnCode = filter.filterKeyValue(cell);
+            if (returnCode == Filter.ReturnCode.INCLUDE || returnCode == Filter.ReturnCode.INCLUDE_AND_NEXT_COL) {
+                included.add(filter.transformCell(cell));
+            } else if (returnCode == Filter.ReturnCode.NEXT_ROW) {
+                break;
+            }
+        }
+        if (filter.hasFilterRow()) {
+            filter.filterRowCells(included);
+        }
+        if (filter.filterRow() || included.isEmpty()) {
+            return null;
+        }
+        return included;
+    }
+
+    private void appendLog(List<EmbeddedLog.Record> records) throws IOException {
+        if (log == null || records.isEmpty()) {
+            return;
+        }
+        log.append(records.toArray(new EmbeddedLog.Record[0]));
+    }
+
+    private void apply(EmbeddedRow row, EmbeddedLog.Record record) {
+        apply(row, record.getType(), record.getFamily(), record.getQualifier(), record.getTimestamp(), record.getValue());
+    }
+
+    private void apply(EmbeddedRow row, byte type, byte[] family, byte[] qualifier, long timestamp, byte[] value) {
+        switch (type) {
+            case EmbeddedLog.PUT:
+                row.put(family, qualifier, timestamp, value);
+                break;
+            case EmbeddedLog.DELETE_ROW:
+                row.clear();
+                break;
+            case EmbeddedLog.DELETE_FAMILY:
+                row.deleteFamily(family);
+                break;
+            case EmbeddedLog.DELETE_COLUMN:
+                row.deleteColumn(family, qualifier);
+                break;
+            default:
+                throw new IllegalStateException("unknown record type:" + type);
+        }
+    }
+
+    void replay(byte[] rowKey, final byte type, final byte[] family, final byte[] qualifier, final long timestamp, final byte[] value) {
+        if (type == EmbeddedLog.PUT && timestamp < minTimestamp()) {
+            // expired while the process was down
+            return;
+        }
+        try {
+            mutate(rowKey, new RowMutation<Void>() {
+                @Override
+                public Void mutate(EmbeddedRow row) {
+                    apply(row, type, family, qualifier, timestamp, value);
+                    return null;
+                }
+            });
+        } catch (IOException e) {
+            // replay never touches the log
+            throw new IllegalStateException(e);
+        }
+    }
+
+    void snapshot(final List<EmbeddedLog.Record> records) {
+        final long minTimestamp = minTimestamp();
+        for (final EmbeddedRow row : rows.values()) {
+            synchronized (row) {
+                row.visit(new EmbeddedRow.ColumnVisitor() {
+                    @Override
+                    public void visit(byte[] rowKey, byte[] family, byte[] qualifier, long timestamp, byte[] value) {
+                        records.add(EmbeddedLog.newRecord(EmbeddedLog.PUT, tableName, rowKey, family, qualifier, timestamp, value));
+                    }
+                }, minTimestamp);
+            }
+        }
+    }
+
+    /**
+     * releases the memory of expired columns. The log keeps them until the next rewrite, replay skips them.
+     */
+    public void purgeExpired() {
+        if (timeToLiveMillis == 0) {
+            return;
+        }
+        final long minTimestamp = minTimestamp();
+        for (final EmbeddedRow row : rows.values()) {
+            synchronized (row) {
+                if (row.isRemoved()) {
+                    continue;
+                }
+                row.purge(minTimestamp);
+                if (row.isEmpty()) {
+                    row.markRemoved();
+                    rows.remove(row.getRow(), row);
+                }
+            }
+        }
+    }
+
+    private <T> T mutate(byte[] rowKey, RowMutation<T> mutation) throws IOException {
+        while (true) {
+            EmbeddedRow row = rows.get(rowKey);
+            if (row == null) {
+                final EmbeddedRow newRow = new EmbeddedRow(rowKey);
+                row = rows.putIfAbsent(rowKey, newRow);
+                if (row == null) {
+                    row = newRow;
+                }
+            }
+            synchronized (row) {
+                if (row.isRemoved()) {
+                    // lost a race with a delete of the whole row
+                    continue;
+                }
+                final T result = mutation.mutate(row);
+                if (row.isEmpty()) {
+                    row.markRemoved();
+                    rows.remove(rowKey, row);
+                }
+                return result;
+            }
+        }
+    }
+
+    private interface RowMutation<T> {
+        T mutate(EmbeddedRow row) throws IOException;
+    }
+
+    private static final class EmbeddedResultScanner implements ResultScanner {
+
+        private final Iterator<EmbeddedRow> rows;
+        private final Map<byte[], NavigableSet<byte[]>> familyMap;
+        private final Filter filter;
+        private final long minTimestamp;
+        private boolean closed = false;
+
+        private EmbeddedResultScanner(Iterator<EmbeddedRow> rows, Scan scan, long minTimestamp) {
+            this.rows = rows;
+            this.familyMap = scan.getFamilyMap();
+            this.filter = scan.getFilter();
+            this.minTimestamp = minTimestamp;
+        }
+
+        @Override
+        public Result next() throws IOException {
+            while (!closed && rows.hasNext()) {
+                if (filter != null && filter.filterAllRemaining()) {
+                    closed = true;
+                    break;
+                }
+                final EmbeddedRow row = rows.next();
+                final List<Cell> cells;
+                synchronized (row) {
+                    if (row.isRemoved()) {
+                        continue;
+                    }
+                    cells = row.getCells(familyMap, minTimestamp);
+                }
+                final List<Cell> filtered = filterRow(filter, row.getRow(), cells);
+                if (filtered != null) {
+                    return Result.create(filtered);
+                }
+            }
+            return null;
+        }
+
+        @Override
+        public Result[] next(int nbRows) throws IOException {
+            final List<Result> results = new ArrayList<>(nbRows);
+            for (int i = 0; i < nbRows; i++) {
+                final Result next = next();
+                if (next == null) {
+                    break;
+                }
+                results.add(next);
+            }
+            return results.toArray(new Result[0]);
+        }
+
+        @Override
+        public void close() {
+            this.closed = true;
+        }
+
+        @Override
+        public Iterator<Result> iterator() {
+            return new Iterator<Result>() {
+                private Result next = null;
+
+                @Override
+                public boolean hasNext() {
+                    if (next == null) {
+                        try {
+                            next = EmbeddedResultScanner.this.next();
+                        } catch (IOException e) {
+                            throw new RuntimeException(e);
+                        }
+                    }
+                    return next != null;
+                }
+
+                @Override
+                public Result next() {
+                    if (!hasNext()) {
+                        return null;
+                    }
+                    final Result result = next;
+                    next = null;
+                    return result;
+                }
+
+                @Override
+                public void remove() {
+                    throw new UnsupportedOperationException();
+                }
+            };
+        }
+    }
+}
@@ -37,6 +37,7 @@ import java.util.concurrent.ExecutorService;
 public class ParallelResultScanner implements ResultScanner {
 
     private final AbstractRowKeyDistributor keyDistributor;
+    private final boolean reversed;
     private final List<ScanTask> scanTasks;
     private final Result[] nextResults;
     private Result next = null;
@@ -55,6 +56,7 @@ public class ParallelResultScanner implements ResultScanner {
             throw new NullPointerException("originalScan must not be null");
         }
         this.keyDistributor = keyDistributor;
+        this.reversed = originalScan.isReversed();
 
         final ScanTaskConfig scanTaskConfig = new ScanTaskConfig(tableName, hbaseAccessor, keyDistributor, originalScan.getCaching());
         final Scan[] splitScans = splitScans(originalScan);
@@ -136,8 +138,7 @@ public class ParallelResultScanner implements ResultScanner {
                     continue;
                 }
             }
-            if (result == null || Bytes.compareTo(keyDistributor.getOriginalKey(nextResults[i].getRow()),
-                    keyDistributor.getOriginalKey(result.getRow())) < 0) {
+            if (result == null || isAhead(nextResults[i], result)) {
                 result = nextResults[i];
                 indexOfResultToUse = i;
             }
@@ -148,6 +149,17 @@ public class ParallelResultScanner implements ResultScanner {
         return result;
     }
 
+    /**
+     * partitions are merged in the direction of the scan, otherwise a reversed scan drains one partition at a time
+     */
+    private boolean isAhead(Result candidate, Result current) {
+        final int compare = Bytes.compareTo(keyDistributor.getOriginalKey(candidate.getRow()), keyDistributor.getOriginalKey(current.getRow()));
+        if (reversed) {
+            return compare > 0;
+        }
+        return compare < 0;
+    }
+
     private void checkTask(ScanTask scanTask) {
         Throwable th = scanTask.getThrowable();
         if (th != null) {
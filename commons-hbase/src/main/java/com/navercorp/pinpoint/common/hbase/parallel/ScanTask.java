@@ -16,9 +16,9 @@
 
 package com.navercorp.pinpoint.common.hbase.parallel;
 
+import com.navercorp.pinpoint.common.hbase.ReversedDistributedScanner;
 import com.navercorp.pinpoint.common.hbase.TableFactory;
 import com.sematext.hbase.wd.AbstractRowKeyDistributor;
-import com.sematext.hbase.wd.DistributedScanner;
 import org.apache.hadoop.hbase.TableName;
 import org.apache.hadoop.hbase.client.Result;
 import org.apache.hadoop.hbase.client.ResultScanner;
@@ -101,7 +101,7 @@ public class ScanTask implements Runnable {
             for (int i = 0; i < scanners.length; i++) {
                 scanners[i] = table.getScanner(this.scans[i]);
             }
-            return new DistributedScanner(this.rowKeyDistributor, scanners);
+            return ReversedDistributedScanner.newScanner(this.rowKeyDistributor, scanners, this.scans[0].isReversed());
         }
     }
 
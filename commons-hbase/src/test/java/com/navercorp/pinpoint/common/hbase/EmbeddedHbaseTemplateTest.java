@@ -0,0 +1,254 @@
+/*
+ * Copyright 2018 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.pinpoint.common.hbase;
+
+import com.navercorp.pinpoint.common.hbase.distributor.RangeOneByteSimpleHash;
+import com.sematext.hbase.wd.AbstractRowKeyDistributor;
+import com.sematext.hbase.wd.RowKeyDistributorByHashPrefix;
+import org.apache.hadoop.hbase.TableName;
+import org.apache.hadoop.hbase.client.Append;
+import org.apache.hadoop.hbase.client.Delete;
+import org.apache.hadoop.hbase.client.Get;
+import org.apache.hadoop.hbase.client.Put;
+import org.apache.hadoop.hbase.client.Result;
+import org.apache.hadoop.hbase.client.Scan;
+import org.apache.hadoop.hbase.client.Table;
+import org.apache.hadoop.hbase.util.Bytes;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.util.Arrays;
+import java.util.List;
+
+public class EmbeddedHbaseTemplateTest {
+
+    private static final TableName TABLE = TableName.valueOf("EmbeddedTest");
+    private static final byte[] FAMILY = Bytes.toBytes("F");
+    private static final byte[] QUALIFIER = Bytes.toBytes("q");
+
+    private static final RowMapper<String> ROW_KEY_MAPPER = new RowMapper<String>() {
+        @Override
+        public String mapRow(Result result, int rowNum) throws Exception {
+            if (result.isEmpty()) {
+                return null;
+            }
+            return Bytes.toString(result.getRow());
+        }
+    };
+
+    private static final RowMapper<String> VALUE_MAPPER = new RowMapper<String>() {
+        @Override
+        public String mapRow(Result result, int rowNum) throws Exception {
+            if (result.isEmpty()) {
+                return null;
+            }
+            return Bytes.toString(result.getValue(FAMILY, QUALIFIER));
+        }
+    };
+
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    private EmbeddedHbaseTemplate template;
+
+    @Before
+    public void setUp() throws Exception {
+        template = newTemplate();
+    }
+
+    private EmbeddedHbaseTemplate newTemplate() throws Exception {
+        EmbeddedHbaseTemplate template = new EmbeddedHbaseTemplate();
+        template.setStoragePath(temporaryFolder.getRoot().getAbsolutePath());
+        template.afterPropertiesSet();
+        return template;
+    }
+
+    @After
+    public void tearDown() throws Exception {
+        template.destroy();
+    }
+
+    @Test
+    public void putAndGet() {
+        template.put(TABLE, Bytes.toBytes("row1"), FAMILY, QUALIFIER, Bytes.toBytes("value1"));
+        template.put(TABLE, Bytes.toBytes("row1"), FAMILY, QUALIFIER, Bytes.toBytes("value2"));
+
+        Assert.assertEquals("value2", template.get(TABLE, Bytes.toBytes("row1"), VALUE_MAPPER));
+        Assert.assertNull(template.get(TABLE, Bytes.toBytes("row2"), VALUE_MAPPER));
+    }
+
+    @Test
+    public void rangeScan() {
+        for (String row : Arrays.asList("a", "b", "c", "d")) {
+            template.put(TABLE, Bytes.toBytes(row), FAMILY, QUALIFIER, Bytes.toBytes(row));
+        }
+
+        Scan scan = new Scan(Bytes.toBytes("b"), Bytes.toBytes("d"));
+        Assert.assertEquals(Arrays.asList("b", "c"), template.find(TABLE, scan, ROW_KEY_MAPPER));
+
+        Scan reversed = new Scan(Bytes.toBytes("c"), Bytes.toBytes("a"));
+        reversed.setReversed(true);
+        Assert.assertEquals(Arrays.asList("c", "b"), template.find(TABLE, reversed, ROW_KEY_MAPPER));
+    }
+
+    @Test
+    public void distributedScan() {
+        AbstractRowKeyDistributor distributor = new RowKeyDistributorByHashPrefix(new RangeOneByteSimpleHash(0, 4, 8));
+        for (String row : Arrays.asList("row1", "row2", "row3", "other")) {
+            Put put = new Put(distributor.getDistributedKey(Bytes.toBytes(row)));
+            put.addColumn(FAMILY, QUALIFIER, Bytes.toBytes(row));
+            template.put(TABLE, put);
+        }
+
+        Scan scan = new Scan(Bytes.toBytes("row"), Bytes.toBytes("rox"));
+        List<String> values = template.find(TABLE, scan, distributor, VALUE_MAPPER);
+        Assert.assertEquals(3, values.size());
+        Assert.assertTrue(values.containsAll(Arrays.asList("row1", "row2", "row3")));
+
+        List<String> limited = template.find(TABLE, scan, distributor, 2, VALUE_MAPPER);
+        Assert.assertEquals(2, limited.size());
+    }
+
+    @Test
+    public void reversedDistributedScan() {
+        AbstractRowKeyDistributor distributor = new RowKeyDistributorByHashPrefix(new RangeOneByteSimpleHash(0, 4, 8));
+        for (String row : Arrays.asList("row1", "row2", "row3", "row4", "row5")) {
+            Put put = new Put(distributor.getDistributedKey(Bytes.toBytes(row)));
+            put.addColumn(FAMILY, QUALIFIER, Bytes.toBytes(row));
+            template.put(TABLE, put);
+        }
+
+        Scan scan = new Scan(Bytes.toBytes("rox"), Bytes.toBytes("row"));
+        scan.setReversed(true);
+        Assert.assertEquals(Arrays.asList("row5", "row4", "row3"), template.find(TABLE, scan, distributor, 3, VALUE_MAPPER));
+    }
+
+    @Test
+    public void increment() {
+        Assert.assertEquals(3, template.incrementColumnValue(TABLE, Bytes.toBytes("counter"), FAMILY, QUALIFIER, 3));
+        Assert.assertEquals(5, template.incrementColumnValue(TABLE, Bytes.toBytes("counter"), FAMILY, QUALIFIER, 2));
+    }
+
+    @Test
+    public void delete() {
+        template.put(TABLE, Bytes.toBytes("row1"), FAMILY, QUALIFIER, Bytes.toBytes("value1"));
+        template.delete(TABLE, new Delete(Bytes.toBytes("row1")));
+
+        Assert.assertNull(template.get(TABLE, Bytes.toBytes("row1"), VALUE_MAPPER));
+        Assert.assertTrue(template.find(TABLE, new Scan(), ROW_KEY_MAPPER).isEmpty());
+    }
+
+    @Test
+    public void replay() throws Exception {
+        template.put(TABLE, Bytes.toBytes("row1"), FAMILY, QUALIFIER, Bytes.toBytes("value1"));
+        template.put(TABLE, Bytes.toBytes("row2"), FAMILY, QUALIFIER, Bytes.toBytes("value2"));
+        template.delete(TABLE, new Delete(Bytes.toBytes("row2")));
+        template.incrementColumnValue(TABLE, Bytes.toBytes("counter"), FAMILY, QUALIFIER, 7);
+        template.destroy();
+
+        template = newTemplate();
+        Assert.assertEquals("value1", template.get(TABLE, Bytes.toBytes("row1"), VALUE_MAPPER));
+        Assert.assertNull(template.get(TABLE, Bytes.toBytes("row2"), VALUE_MAPPER));
+        Assert.assertEquals(8, template.incrementColumnValue(TABLE, Bytes.toBytes("counter"), FAMILY, QUALIFIER, 1));
+    }
+
+    @Test
+    public void executeTableCallback() {
+        String value = template.execute(TABLE, new TableCallback<String>() {
+            @Override
+            public String doInTable(Table table) throws Throwable {
+                Put put = new Put(Bytes.toBytes("row1"));
+                put.addColumn(FAMILY, QUALIFIER, Bytes.toBytes("value1"));
+                table.put(put);
+                Assert.assertTrue(table.exists(new Get(Bytes.toBytes("row1"))));
+                return Bytes.toString(table.get(new Get(Bytes.toBytes("row1"))).getValue(FAMILY, QUALIFIER));
+            }
+        });
+
+        Assert.assertEquals("value1", value);
+        Assert.assertEquals("value1", template.get(TABLE, Bytes.toBytes("row1"), VALUE_MAPPER));
+    }
+
+    @Test(expected = UnsupportedOperationException.class)
+    public void executeTableCallback_unsupportedOperation() {
+        template.execute(TABLE, new TableCallback<Object>() {
+            @Override
+            public Object doInTable(Table table) throws Throwable {
+                Append append = new Append(Bytes.toBytes("row1"));
+                append.add(FAMILY, QUALIFIER, Bytes.toBytes("value1"));
+                return table.append(append);
+            }
+        });
+    }
+
+    @Test
+    public void timeToLive() throws Exception {
+        template.destroy();
+        template = new EmbeddedHbaseTemplate();
+        template.setStoragePath(temporaryFolder.getRoot().getAbsolutePath());
+        template.setTimeToLiveSeconds(60);
+        template.afterPropertiesSet();
+
+        final long expired = System.currentTimeMillis() - 120 * 1000;
+        template.put(TABLE, Bytes.toBytes("old"), FAMILY, QUALIFIER, expired, Bytes.toBytes("value1"));
+        template.put(TABLE, Bytes.toBytes("new"), FAMILY, QUALIFIER, Bytes.toBytes("value2"));
+        template.put(TABLE, Bytes.toBytes("counter"), FAMILY, QUALIFIER, expired, Bytes.toBytes(10L));
+
+        Assert.assertNull(template.get(TABLE, Bytes.toBytes("old"), VALUE_MAPPER));
+        Assert.assertEquals(Arrays.asList("new"), template.find(TABLE, new Scan(), ROW_KEY_MAPPER));
+        // an expired counter starts over
+        Assert.assertEquals(1, template.incrementColumnValue(TABLE, Bytes.toBytes("counter"), FAMILY, QUALIFIER, 1));
+    }
+
+    @Test
+    public void readOnlyTemplate() throws Exception {
+        EmbeddedHbaseTemplate reader = new EmbeddedHbaseTemplate();
+        reader.setStoragePath(temporaryFolder.getRoot().getAbsolutePath());
+        reader.setReadOnly(true);
+        reader.setRefreshIntervalMillis(10);
+        reader.afterPropertiesSet();
+        try {
+            template.put(TABLE, Bytes.toBytes("row1"), FAMILY, QUALIFIER, Bytes.toBytes("value1"));
+
+            String value = null;
+            for (int i = 0; i < 500 && value == null; i++) {
+                Thread.sleep(10);
+                value = reader.get(TABLE, Bytes.toBytes("row1"), VALUE_MAPPER);
+            }
+            Assert.assertEquals("value1", value);
+        } finally {
+            reader.destroy();
+        }
+    }
+
+    @Test(expected = HbaseSystemException.class)
+    public void readOnlyTemplate_put() throws Exception {
+        EmbeddedHbaseTemplate reader = new EmbeddedHbaseTemplate();
+        reader.setStoragePath(temporaryFolder.getRoot().getAbsolutePath());
+        reader.setReadOnly(true);
+        reader.afterPropertiesSet();
+        try {
+            reader.put(TABLE, Bytes.toBytes("row1"), FAMILY, QUALIFIER, Bytes.toBytes("value1"));
+        } finally {
+            reader.destroy();
+        }
+    }
+}
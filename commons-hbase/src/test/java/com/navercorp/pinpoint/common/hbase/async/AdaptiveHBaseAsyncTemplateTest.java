@@ -0,0 +1,130 @@
+/*
+ * Copyright 2018 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.pinpoint.common.hbase.async;
+
+import org.apache.hadoop.conf.Configuration;
+import org.apache.hadoop.hbase.HConstants;
+import org.apache.hadoop.hbase.HRegionLocation;
+import org.apache.hadoop.hbase.ServerName;
+import org.apache.hadoop.hbase.TableName;
+import org.apache.hadoop.hbase.client.Connection;
+import org.apache.hadoop.hbase.client.Put;
+import org.apache.hadoop.hbase.client.RegionLocator;
+import org.apache.hadoop.hbase.client.Table;
+import org.apache.hadoop.hbase.util.Bytes;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.Arrays;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class AdaptiveHBaseAsyncTemplateTest {
+
+    private static final TableName TABLE = TableName.valueOf("test");
+    private static final ServerName SERVER = ServerName.valueOf("localhost", 16020, 1L);
+
+    @Test
+    public void backoff() {
+        for (int retry = 1; retry < 20; retry++) {
+            final long expected = Math.min(1000, 100L << Math.min(retry - 1, 16));
+            final long backoff = AdaptiveHBaseAsyncTemplate.backoff(100, 1000, retry);
+            Assert.assertTrue("retry:" + retry + " backoff:" + backoff, backoff >= expected / 2 && backoff <= expected);
+        }
+    }
+
+    @Test
+    public void closeFlushesPutsBeyondWindow() throws Exception {
+        Configuration configuration = new Configuration(false);
+        // no periodic flush, close has to send everything
+        configuration.setLong(AdaptiveAsyncOption.FLUSH_PERIOD, 60000);
+        configuration.setInt(AdaptiveAsyncOption.MIN_WINDOW, 1);
+        configuration.setInt(AdaptiveAsyncOption.MAX_WINDOW, 1);
+        configuration.setInt(AdaptiveAsyncOption.MAX_BATCH_SIZE, 1);
+
+        Table table = mock(Table.class);
+        doAnswer(invocation -> {
+            Object[] results = invocation.getArgument(1);
+            Arrays.fill(results, new Object());
+            return null;
+        }).when(table).batch(anyList(), any(Object[].class));
+        RegionLocator regionLocator = newRegionLocator();
+
+        AdaptiveHBaseAsyncTemplate template = new AdaptiveHBaseAsyncTemplate(newConnection(regionLocator, table), new AdaptiveAsyncOption(configuration));
+        for (int i = 0; i < 10; i++) {
+            Assert.assertTrue(template.put(TABLE, newPut(i)));
+        }
+        template.close();
+
+        verify(table, times(10)).batch(anyList(), any(Object[].class));
+        Assert.assertEquals(0L, template.getCurrentOpsCount().longValue());
+        Assert.assertEquals(0L, template.getOpsFailedCount().longValue());
+    }
+
+    @Test
+    public void retryEnqueueFailureIsCountedForServer() throws Exception {
+        Configuration configuration = new Configuration(false);
+        configuration.setLong(AdaptiveAsyncOption.FLUSH_PERIOD, 10);
+        configuration.setInt(AdaptiveAsyncOption.MAX_RETRIES, 3);
+        configuration.setLong(HConstants.HBASE_CLIENT_PAUSE, 1);
+
+        // every put fails, and the region is gone when the retry looks it up again
+        Table table = mock(Table.class);
+        RegionLocator regionLocator = newRegionLocator();
+        when(regionLocator.getRegionLocation(any(byte[].class), eq(true))).thenReturn(null);
+
+        AdaptiveHBaseAsyncTemplate template = new AdaptiveHBaseAsyncTemplate(newConnection(regionLocator, table), new AdaptiveAsyncOption(configuration));
+        try {
+            Assert.assertTrue(template.put(TABLE, newPut(1)));
+
+            final long deadline = System.currentTimeMillis() + 5000;
+            while (template.getOpsFailedCount() == 0 && System.currentTimeMillis() < deadline) {
+                Thread.sleep(10);
+            }
+            Assert.assertEquals(1L, template.getOpsFailedCount().longValue());
+            Assert.assertEquals(Long.valueOf(1), template.getOpsFailedCountForEachRegionServer().get(SERVER.getServerName()));
+        } finally {
+            template.close();
+        }
+    }
+
+    private RegionLocator newRegionLocator() throws Exception {
+        HRegionLocation location = mock(HRegionLocation.class);
+        when(location.getServerName()).thenReturn(SERVER);
+        RegionLocator regionLocator = mock(RegionLocator.class);
+        when(regionLocator.getRegionLocation(any(byte[].class), eq(false))).thenReturn(location);
+        return regionLocator;
+    }
+
+    private Connection newConnection(RegionLocator regionLocator, Table table) throws Exception {
+        Connection connection = mock(Connection.class);
+        when(connection.getRegionLocator(TABLE)).thenReturn(regionLocator);
+        when(connection.getTable(TABLE)).thenReturn(table);
+        return connection;
+    }
+
+    private Put newPut(int row) {
+        return new Put(Bytes.toBytes(row));
+    }
+}
@@ -0,0 +1,59 @@
+/*
+ * Copyright 2018 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.pinpoint.common.hbase.async;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+public class AdaptiveWindowTest {
+
+    @Test
+    public void additiveIncrease() {
+        AdaptiveWindow window = new AdaptiveWindow(10, 35, 10, 100);
+        Assert.assertEquals(10, window.get());
+
+        window.onSuccess(50);
+        Assert.assertEquals(20, window.get());
+        window.onSuccess(100);
+        Assert.assertEquals(30, window.get());
+        window.onSuccess(10);
+        Assert.assertEquals(35, window.get());
+    }
+
+    @Test
+    public void multiplicativeDecrease() {
+        AdaptiveWindow window = new AdaptiveWindow(10, 100, 30, 100);
+        window.onSuccess(1);
+        window.onSuccess(1);
+        window.onSuccess(1);
+        Assert.assertEquals(100, window.get());
+
+        window.onFailure();
+        Assert.assertEquals(50, window.get());
+        // slow batch
+        window.onSuccess(101);
+        Assert.assertEquals(25, window.get());
+        window.onFailure();
+        window.onFailure();
+        Assert.assertEquals(10, window.get());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void invalidWindow() {
+        new AdaptiveWindow(10, 5, 1, 100);
+    }
+}
@@ -0,0 +1,72 @@
+/*
+ * Copyright 2018 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.pinpoint.common.hbase.async;
+
+import org.apache.hadoop.hbase.TableName;
+import org.apache.hadoop.hbase.client.Put;
+import org.apache.hadoop.hbase.util.Bytes;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.List;
+
+public class RegionServerQueueTest {
+
+    private static final TableName TABLE = TableName.valueOf("test");
+
+    @Test
+    public void rejectWhenFull() {
+        RegionServerQueue queue = new RegionServerQueue("server", 2, new AdaptiveWindow(10, 100, 10, 100), 5);
+
+        Assert.assertTrue(queue.offer(newPendingPut(1)));
+        Assert.assertTrue(queue.offer(newPendingPut(2)));
+        Assert.assertFalse(queue.offer(newPendingPut(3)));
+        Assert.assertEquals(2, queue.getQueuedCount());
+    }
+
+    @Test
+    public void batchWithinWindow() {
+        RegionServerQueue queue = new RegionServerQueue("server", 100, new AdaptiveWindow(4, 100, 4, 100), 3);
+        for (int i = 0; i < 10; i++) {
+            queue.offer(newPendingPut(i));
+        }
+
+        List<PendingPut> first = queue.nextBatch();
+        Assert.assertEquals(3, first.size());
+        List<PendingPut> second = queue.nextBatch();
+        Assert.assertEquals(1, second.size());
+        // window of 4 is full
+        Assert.assertNull(queue.nextBatch());
+
+        queue.complete(first.size(), 0, 10);
+        Assert.assertEquals(8, queue.getWindow());
+        Assert.assertEquals(3, queue.nextBatch().size());
+
+        queue.complete(second.size(), 1, 10);
+        Assert.assertEquals(4, queue.getWindow());
+    }
+
+    @Test
+    public void emptyQueue() {
+        RegionServerQueue queue = new RegionServerQueue("server", 10, new AdaptiveWindow(4, 100, 4, 100), 3);
+        Assert.assertNull(queue.nextBatch());
+    }
+
+    private PendingPut newPendingPut(int row) {
+        return new PendingPut(TABLE, new Put(Bytes.toBytes(row)));
+    }
+}
@@ -0,0 +1,184 @@
+/*
+ * Copyright 2018 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.pinpoint.common.hbase.embedded;
+
+import org.apache.hadoop.hbase.TableName;
+import org.apache.hadoop.hbase.client.Delete;
+import org.apache.hadoop.hbase.client.Get;
+import org.apache.hadoop.hbase.client.Put;
+import org.apache.hadoop.hbase.client.Result;
+import org.apache.hadoop.hbase.util.Bytes;
+import org.junit.Assert;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.File;
+import java.io.IOException;
+
+public class EmbeddedStorageTest {
+
+    private static final TableName TABLE = TableName.valueOf("EmbeddedTest");
+    private static final byte[] FAMILY = Bytes.toBytes("F");
+    private static final byte[] QUALIFIER = Bytes.toBytes("q");
+
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    @Test
+    public void readOnlyFollowsWriter() throws Exception {
+        File directory = temporaryFolder.getRoot();
+        EmbeddedStorage writer = EmbeddedStorage.open(directory);
+        EmbeddedStorage reader = EmbeddedStorage.openReadOnly(directory, 0);
+        try {
+            put(writer, "row1", "value1");
+            Assert.assertNull(get(reader, "row1"));
+
+            reader.refresh();
+            Assert.assertEquals("value1", get(reader, "row1"));
+
+            writer.getTable(TABLE).delete(new Delete(Bytes.toBytes("row1")));
+            put(writer, "row2", "value2");
+            reader.refresh();
+            Assert.assertNull(get(reader, "row1"));
+            Assert.assertEquals("value2", get(reader, "row2"));
+        } finally {
+            reader.close();
+            writer.close();
+        }
+    }
+
+    @Test
+    public void readOnlyOpenedBeforeWriter() throws Exception {
+        File directory = temporaryFolder.getRoot();
+        EmbeddedStorage reader = EmbeddedStorage.openReadOnly(directory, 0);
+        EmbeddedStorage writer = EmbeddedStorage.open(directory);
+        try {
+            put(writer, "row1", "value1");
+            reader.refresh();
+            Assert.assertEquals("value1", get(reader, "row1"));
+        } finally {
+            reader.close();
+            writer.close();
+        }
+    }
+
+    @Test
+    public void readOnlyReloadsCompactedLog() throws Exception {
+        File directory = temporaryFolder.getRoot();
+        EmbeddedStorage writer = EmbeddedStorage.open(directory);
+        EmbeddedStorage reader = EmbeddedStorage.openReadOnly(directory, 0);
+        try {
+            put(writer, "row1", "value1");
+            put(writer, "row1", "value2");
+            reader.refresh();
+
+            // compacts the log
+            writer.close();
+            writer = EmbeddedStorage.open(directory);
+            put(writer, "row2", "value3");
+
+            reader.refresh();
+            Assert.assertEquals("value2", get(reader, "row1"));
+            Assert.assertEquals("value3", get(reader, "row2"));
+        } finally {
+            reader.close();
+            writer.close();
+        }
+    }
+
+    @Test(expected = IOException.class)
+    public void readOnlyPut() throws Exception {
+        File directory = temporaryFolder.getRoot();
+        EmbeddedStorage.open(directory).close();
+        EmbeddedStorage reader = EmbeddedStorage.openReadOnly(directory, 0);
+        try {
+            put(reader, "row1", "value1");
+        } finally {
+            reader.close();
+        }
+    }
+
+    @Test
+    public void rewrite() throws Exception {
+        File directory = temporaryFolder.getRoot();
+        EmbeddedStorage storage = EmbeddedStorage.open(directory);
+        put(storage, "row1", "value1");
+        put(storage, "row1", "value2");
+        storage.close();
+
+        File[] files = directory.listFiles();
+        Assert.assertNotNull(files);
+        for (File file : files) {
+            Assert.assertFalse("temporary file left:" + file, file.getName().endsWith(".compact"));
+        }
+
+        storage = EmbeddedStorage.open(directory);
+        try {
+            Assert.assertEquals("value2", get(storage, "row1"));
+        } finally {
+            storage.close();
+        }
+    }
+
+    @Test
+    public void purgeExpired() throws Exception {
+        EmbeddedStorage storage = EmbeddedStorage.memory(60 * 1000);
+        Put expired = new Put(Bytes.toBytes("row1"));
+        expired.addColumn(FAMILY, QUALIFIER, System.currentTimeMillis() - 120 * 1000, Bytes.toBytes("value1"));
+        storage.getTable(TABLE).put(expired);
+        put(storage, "row2", "value2");
+
+        Assert.assertNull(get(storage, "row1"));
+        Assert.assertEquals(2, storage.getTable(TABLE).getRowCount());
+
+        storage.purgeExpired();
+        Assert.assertEquals(1, storage.getTable(TABLE).getRowCount());
+        Assert.assertEquals("value2", get(storage, "row2"));
+    }
+
+    @Test
+    public void expiredColumnsNotReplayed() throws Exception {
+        File directory = temporaryFolder.getRoot();
+        EmbeddedStorage storage = EmbeddedStorage.open(directory);
+        Put expired = new Put(Bytes.toBytes("row1"));
+        expired.addColumn(FAMILY, QUALIFIER, System.currentTimeMillis() - 120 * 1000, Bytes.toBytes("value1"));
+        storage.getTable(TABLE).put(expired);
+        storage.close();
+
+        storage = EmbeddedStorage.open(directory, 60 * 1000);
+        try {
+            Assert.assertEquals(0, storage.getTable(TABLE).getRowCount());
+        } finally {
+            storage.close();
+        }
+    }
+
+    private void put(EmbeddedStorage storage, String row, String value) throws IOException {
+        Put put = new Put(Bytes.toBytes(row));
+        put.addColumn(FAMILY, QUALIFIER, Bytes.toBytes(value));
+        storage.getTable(TABLE).put(put);
+    }
+
+    private String get(EmbeddedStorage storage, String row) throws IOException {
+        Result result = storage.getTable(TABLE).get(new Get(Bytes.toBytes(row)));
+        if (result.isEmpty()) {
+            return null;
+        }
+        return Bytes.toString(result.getValue(FAMILY, QUALIFIER));
+    }
+}
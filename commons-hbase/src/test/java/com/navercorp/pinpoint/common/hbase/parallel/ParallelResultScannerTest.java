@@ -0,0 +1,173 @@
+/*
+ * Copyright 2018 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.navercorp.pinpoint.common.hbase.parallel;
+
+import com.navercorp.pinpoint.common.hbase.HbaseAccessor;
+import com.navercorp.pinpoint.common.hbase.LimitRowMapperResultsExtractor;
+import com.navercorp.pinpoint.common.hbase.RowMapper;
+import com.navercorp.pinpoint.common.hbase.TableFactory;
+import com.navercorp.pinpoint.common.hbase.embedded.EmbeddedStorage;
+import com.navercorp.pinpoint.common.hbase.embedded.EmbeddedTable;
+import com.sematext.hbase.wd.AbstractRowKeyDistributor;
+import com.sematext.hbase.wd.RowKeyDistributorByHashPrefix;
+import org.apache.hadoop.hbase.TableName;
+import org.apache.hadoop.hbase.client.Put;
+import org.apache.hadoop.hbase.client.Result;
+import org.apache.hadoop.hbase.client.Scan;
+import org.apache.hadoop.hbase.client.Table;
+import org.apache.hadoop.hbase.util.Bytes;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.invocation.InvocationOnMock;
+import org.mockito.stubbing.Answer;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class ParallelResultScannerTest {
+
+    private static final TableName TABLE = TableName.valueOf("ParallelScanTest");
+    private static final byte[] FAMILY = Bytes.toBytes("F");
+    private static final byte[] QUALIFIER = Bytes.toBytes("q");
+    private static final int ROW_COUNT = 40;
+    private static final int PARTITIONS = 4;
+
+    private final AbstractRowKeyDistributor distributor = new RowKeyDistributorByHashPrefix(new RowKeyDistributorByHashPrefix.OneByteSimpleHash(PARTITIONS));
+
+    private final RowMapper<String> rowMapper = new RowMapper<String>() {
+        @Override
+        public String mapRow(Result result, int rowNum) throws Exception {
+            return Bytes.toString(distributor.getOriginalKey(result.getRow()));
+        }
+    };
+
+    private ExecutorService executor;
+    private HbaseAccessor hbaseAccessor;
+
+    @Before
+    public void setUp() throws Exception {
+        final EmbeddedTable embeddedTable = EmbeddedStorage.memory().getTable(TABLE);
+        final Set<Integer> usedPartitions = new HashSet<>();
+        for (int i = 0; i < ROW_COUNT; i++) {
+            final byte[] distributedKey = distributor.getDistributedKey(Bytes.toBytes(rowKey(i)));
+            usedPartitions.add((int) distributedKey[0]);
+            Put put = new Put(distributedKey);
+            put.addColumn(FAMILY, QUALIFIER, Bytes.toBytes(i));
+            embeddedTable.put(put);
+        }
+        Assert.assertTrue("rows must be spread over partitions", usedPartitions.size() > 1);
+
+        final Table table = mock(Table.class);
+        when(table.getScanner(any(Scan.class))).thenAnswer(new Answer<Object>() {
+            @Override
+            public Object answer(InvocationOnMock invocation) throws Throwable {
+                return embeddedTable.getScanner((Scan) invocation.getArguments()[0]);
+            }
+        });
+        final TableFactory tableFactory = mock(TableFactory.class);
+        when(tableFactory.getTable(TABLE)).thenReturn(table);
+
+        this.hbaseAccessor = new HbaseAccessor() {
+        };
+        this.hbaseAccessor.setTableFactory(tableFactory);
+        this.executor = Executors.newFixedThreadPool(PARTITIONS);
+    }
+
+    @After
+    public void tearDown() {
+        executor.shutdownNow();
+    }
+
+    private static String rowKey(int i) {
+        return String.format("row%03d", i);
+    }
+
+    @Test
+    public void forwardScan() throws Exception {
+        Scan scan = new Scan(Bytes.toBytes(rowKey(0)), Bytes.toBytes(rowKey(ROW_COUNT)));
+        List<String> rows = scan(scan, PARTITIONS, 10);
+
+        Assert.assertEquals(expected(0, 10, false), rows);
+    }
+
+    @Test
+    public void reversedScanWithLimit() throws Exception {
+        Scan scan = reversedScan();
+        List<String> rows = scan(scan, PARTITIONS, 10);
+
+        // newest rows of every partition first, so a cursor set to the last row does not skip unread partitions
+        Assert.assertEquals(expected(ROW_COUNT - 10, ROW_COUNT, true), rows);
+    }
+
+    @Test
+    public void reversedScanWithLimit_sharedScanTask() throws Exception {
+        // 2 threads for 4 partitions, every task merges 2 partitions by itself
+        Scan scan = reversedScan();
+        List<String> rows = scan(scan, 2, 10);
+
+        Assert.assertEquals(expected(ROW_COUNT - 10, ROW_COUNT, true), rows);
+    }
+
+    @Test
+    public void reversedScanAll() throws Exception {
+        Scan scan = reversedScan();
+        List<String> rows = scan(scan, PARTITIONS, ROW_COUNT * 2);
+
+        Assert.assertEquals(expected(0, ROW_COUNT, true), rows);
+    }
+
+    private Scan reversedScan() {
+        // start row is the upper bound of a reversed scan
+        Scan scan = new Scan(Bytes.toBytes(rowKey(ROW_COUNT)), Bytes.toBytes("row"));
+        scan.setReversed(true);
+        return scan;
+    }
+
+    private List<String> scan(Scan scan, int numParallelThreads, int limit) throws Exception {
+        scan.setCaching(4);
+        scan.setId("ParallelScanTest");
+        ParallelResultScanner scanner = new ParallelResultScanner(TABLE, hbaseAccessor, executor, scan, distributor, numParallelThreads);
+        try {
+            return new LimitRowMapperResultsExtractor<>(rowMapper, limit).extractData(scanner);
+        } finally {
+            scanner.close();
+        }
+    }
+
+    private List<String> expected(int from, int to, boolean descending) {
+        List<String> expected = new ArrayList<>();
+        if (descending) {
+            for (int i = to - 1; i >= from; i--) {
+                expected.add(rowKey(i));
+            }
+        } else {
+            for (int i = from; i < to; i++) {
+                expected.add(rowKey(i));
+            }
+        }
+        return expected;
+    }
+}
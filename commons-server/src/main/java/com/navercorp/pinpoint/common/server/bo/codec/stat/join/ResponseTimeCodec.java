@@ -30,6 +30,7 @@ import com.navercorp.pinpoint.common.server.bo.serializer.stat.ApplicationStatDe
 import com.navercorp.pinpoint.common.server.bo.stat.join.JoinResponseTimeBo;
 import com.navercorp.pinpoint.common.server.bo.stat.join.JoinStatBo;
 import com.navercorp.pinpoint.common.util.CollectionUtils;
+import com.navercorp.pinpoint.common.util.LogLinearHistogram;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
 import org.springframework.util.Assert;
@@ -72,6 +73,8 @@ public class ResponseTimeCodec implements ApplicationStatCodec {
         StringEncodingStrategy.Analyzer.Builder minAvgAgentIdAnalyzerBuilder = new StringEncodingStrategy.Analyzer.Builder();
         UnsignedLongEncodingStrategy.Analyzer.Builder maxAvgAnalyzerBuilder = new UnsignedLongEncodingStrategy.Analyzer.Builder();
         StringEncodingStrategy.Analyzer.Builder maxAvgAgentIdAnalyzerBuilder = new StringEncodingStrategy.Analyzer.Builder();
+        List<LogLinearHistogram> histograms = new ArrayList<LogLinearHistogram>(numValues);
+        boolean hasHistogram = false;
 
         for (JoinStatBo joinStatBo : joinResponseTimeBoList) {
             JoinResponseTimeBo joinResponseTimeBo = (JoinResponseTimeBo) joinStatBo;
@@ -81,10 +84,28 @@ public class ResponseTimeCodec implements ApplicationStatCodec {
             minAvgAgentIdAnalyzerBuilder.addValue(joinResponseTimeBo.getMinAvgAgentId());
             maxAvgAnalyzerBuilder.addValue(joinResponseTimeBo.getMaxAvg());
             maxAvgAgentIdAnalyzerBuilder.addValue(joinResponseTimeBo.getMaxAvgAgentId());
+            histograms.add(joinResponseTimeBo.getHistogram());
+            if (joinResponseTimeBo.getHistogram() != null) {
+                hasHistogram = true;
+            }
         }
 
         codec.encodeTimestamps(valueBuffer, timestamps);
         encodeDataPoints(valueBuffer, avgAnalyzerBuilder.build(), minAvgAnalyzerBuilder.build(), minAvgAgentIdAnalyzerBuilder.build(), maxAvgAnalyzerBuilder.build(), maxAvgAgentIdAnalyzerBuilder.build());
+        // appended last and only when present so that rows written before histograms existed decode unchanged
+        if (hasHistogram) {
+            encodeHistograms(valueBuffer, histograms);
+        }
+    }
+
+    private void encodeHistograms(Buffer valueBuffer, List<LogLinearHistogram> histograms) {
+        for (LogLinearHistogram histogram : histograms) {
+            if (histogram == null) {
+                valueBuffer.putPrefixedBytes(null);
+            } else {
+                valueBuffer.putPrefixedBytes(histogram.encode());
+            }
+        }
     }
 
     private void encodeDataPoints(Buffer valueBuffer, StrategyAnalyzer<Long> avgAnalyzer, StrategyAnalyzer<Long> minAvgAnalyzer, StrategyAnalyzer<String> minAvgAgentIdAnalyzer, StrategyAnalyzer<Long> maxAvgAnalyzer, StrategyAnalyzer<String> maxAvgAgentIdAnalyzer) {
@@ -127,6 +148,10 @@ public class ResponseTimeCodec implements ApplicationStatCodec {
         List<String> minAvgAgentIdList = this.codec.decodeValues(valueBuffer, minAvgAgentIdEncodingStrategy, numValues);
         List<Long> maxAvgList = this.codec.decodeValues(valueBuffer, maxAvgEncodingStrategy, numValues);
         List<String> maxAvgAgentIdList = this.codec.decodeValues(valueBuffer, maxAvgAgentIdEncodingStrategy, numValues);
+        List<LogLinearHistogram> histogramList = null;
+        if (valueBuffer.hasRemaining()) {
+            histogramList = decodeHistograms(valueBuffer, numValues);
+        }
 
         List<JoinStatBo> joinResponseTimeBoList = new ArrayList<JoinStatBo>();
         for (int i = 0 ; i < numValues ; i++) {
@@ -138,9 +163,25 @@ public class ResponseTimeCodec implements ApplicationStatCodec {
             joinResponseTimeBo.setMinAvgAgentId(minAvgAgentIdList.get(i));
             joinResponseTimeBo.setMaxAvg(maxAvgList.get(i));
             joinResponseTimeBo.setMaxAvgAgentId(maxAvgAgentIdList.get(i));
+            if (histogramList != null) {
+                joinResponseTimeBo.setHistogram(histogramList.get(i));
+            }
             joinResponseTimeBoList.add(joinResponseTimeBo);
         }
 
         return joinResponseTimeBoList;
     }
+
+    private List<LogLinearHistogram> decodeHistograms(Buffer valueBuffer, int numValues) {
+        List<LogLinearHistogram> histogramList = new ArrayList<LogLinearHistogram>(numValues);
+        for (int i = 0; i < numValues; i++) {
+            final byte[] bytes = valueBuffer.readPrefixedBytes();
+            if (bytes == null) {
+                histogramList.add(null);
+            } else {
+                histogramList.add(LogLinearHistogram.decode(bytes));
+            }
+        }
+        return histogramList;
+    }
 }
@@ -27,10 +27,12 @@ import com.navercorp.pinpoint.common.server.bo.codec.stat.strategy.StrategyAnaly
 import com.navercorp.pinpoint.common.server.bo.codec.stat.strategy.UnsignedLongEncodingStrategy;
 import com.navercorp.pinpoint.common.server.bo.codec.strategy.EncodingStrategy;
 import com.navercorp.pinpoint.common.server.bo.stat.ResponseTimeBo;
+import com.navercorp.pinpoint.common.util.LogLinearHistogram;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
 import org.springframework.util.Assert;
 
+import java.util.ArrayList;
 import java.util.List;
 
 /**
@@ -74,6 +76,8 @@ public class ResponseTimeCodecV2 extends AgentStatCodecV2<ResponseTimeBo> {
         private final AgentStatDataPointCodec codec;
         private final UnsignedLongEncodingStrategy.Analyzer.Builder avgAnalyzerBuilder = new UnsignedLongEncodingStrategy.Analyzer.Builder();
         private final UnsignedLongEncodingStrategy.Analyzer.Builder maxAnalyzerBuilder = new UnsignedLongEncodingStrategy.Analyzer.Builder();
+        private final List<LogLinearHistogram> histograms = new ArrayList<>();
+        private boolean hasHistogram = false;
 
         public ResponseTimeCodecEncoder(AgentStatDataPointCodec codec) {
             Assert.notNull(codec, "codec must not be null");
@@ -84,6 +88,11 @@ public class ResponseTimeCodecV2 extends AgentStatCodecV2<ResponseTimeBo> {
         public void addValue(ResponseTimeBo agentStatDataPoint) {
             avgAnalyzerBuilder.addValue(agentStatDataPoint.getAvg());
             maxAnalyzerBuilder.addValue(agentStatDataPoint.getMax());
+            final LogLinearHistogram histogram = agentStatDataPoint.getHistogram();
+            histograms.add(histogram);
+            if (histogram != null) {
+                hasHistogram = true;
+            }
         }
 
         @Override
@@ -101,6 +110,20 @@ public class ResponseTimeCodecV2 extends AgentStatCodecV2<ResponseTimeBo> {
             // encode values
             codec.encodeValues(valueBuffer, avgStrategyAnalyzer.getBestStrategy(), avgStrategyAnalyzer.getValues());
             codec.encodeValues(valueBuffer, maxStrategyAnalyzer.getBestStrategy(), maxStrategyAnalyzer.getValues());
+            // histograms are optional and appended last so that older rows (and agents that do not send them) stay readable
+            if (hasHistogram) {
+                encodeHistograms(valueBuffer);
+            }
+        }
+
+        private void encodeHistograms(Buffer valueBuffer) {
+            for (LogLinearHistogram histogram : histograms) {
+                if (histogram == null) {
+                    valueBuffer.putPrefixedBytes(null);
+                } else {
+                    valueBuffer.putPrefixedBytes(histogram.encode());
+                }
+            }
         }
 
     }
@@ -110,6 +133,7 @@ public class ResponseTimeCodecV2 extends AgentStatCodecV2<ResponseTimeBo> {
         private final AgentStatDataPointCodec codec;
         private List<Long> avgs;
         private List<Long> maxs;
+        private List<LogLinearHistogram> histograms;
 
         public ResponseTimeCodecDecoder(AgentStatDataPointCodec codec) {
             Assert.notNull(codec, "codec must not be null");
@@ -125,6 +149,22 @@ public class ResponseTimeCodecV2 extends AgentStatCodecV2<ResponseTimeBo> {
             if (valueBuffer.hasRemaining()) {
                 this.maxs = codec.decodeValues(valueBuffer, maxEncodingStrategy, valueSize);
             }
+            if (valueBuffer.hasRemaining()) {
+                this.histograms = decodeHistograms(valueBuffer, valueSize);
+            }
+        }
+
+        private List<LogLinearHistogram> decodeHistograms(Buffer valueBuffer, int valueSize) {
+            final List<LogLinearHistogram> histograms = new ArrayList<>(valueSize);
+            for (int i = 0; i < valueSize; i++) {
+                final byte[] bytes = valueBuffer.readPrefixedBytes();
+                if (bytes == null) {
+                    histograms.add(null);
+                } else {
+                    histograms.add(LogLinearHistogram.decode(bytes));
+                }
+            }
+            return histograms;
         }
 
         @Override
@@ -134,6 +174,9 @@ public class ResponseTimeCodecV2 extends AgentStatCodecV2<ResponseTimeBo> {
             if (maxs != null) {
                 responseTimeBo.setMax(maxs.get(index));
             }
+            if (histograms != null) {
+                responseTimeBo.setHistogram(histograms.get(index));
+            }
             return responseTimeBo;
         }
 
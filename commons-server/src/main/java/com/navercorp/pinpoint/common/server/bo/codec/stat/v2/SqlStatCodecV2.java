@@ -0,0 +1,252 @@
+/*
+ * Copyright 2018 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.pinpoint.common.server.bo.codec.stat.v2;
+
+import com.navercorp.pinpoint.common.buffer.Buffer;
+import com.navercorp.pinpoint.common.server.bo.codec.stat.AgentStatCodec;
+import com.navercorp.pinpoint.common.server.bo.codec.stat.AgentStatDataPointCodec;
+import com.navercorp.pinpoint.common.server.bo.codec.stat.header.AgentStatHeaderDecoder;
+import com.navercorp.pinpoint.common.server.bo.codec.stat.header.AgentStatHeaderEncoder;
+import com.navercorp.pinpoint.common.server.bo.codec.stat.header.BitCountingHeaderDecoder;
+import com.navercorp.pinpoint.common.server.bo.codec.stat.header.BitCountingHeaderEncoder;
+import com.navercorp.pinpoint.common.server.bo.codec.stat.strategy.StrategyAnalyzer;
+import com.navercorp.pinpoint.common.server.bo.codec.stat.strategy.StringEncodingStrategy;
+import com.navercorp.pinpoint.common.server.bo.codec.stat.strategy.UnsignedIntegerEncodingStrategy;
+import com.navercorp.pinpoint.common.server.bo.codec.stat.strategy.UnsignedLongEncodingStrategy;
+import com.navercorp.pinpoint.common.server.bo.codec.strategy.EncodingStrategy;
+import com.navercorp.pinpoint.common.server.bo.serializer.stat.AgentStatDecodingContext;
+import com.navercorp.pinpoint.common.server.bo.stat.SqlStatBo;
+import com.navercorp.pinpoint.common.server.bo.stat.SqlStatListBo;
+import org.apache.commons.collections.CollectionUtils;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import org.springframework.util.Assert;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Component("sqlStatCodecV2")
+public class SqlStatCodecV2 implements AgentStatCodec<SqlStatListBo> {
+
+    private static final byte VERSION = 2;
+
+    private final AgentStatDataPointCodec codec;
+
+    @Autowired
+    public SqlStatCodecV2(AgentStatDataPointCodec codec) {
+        Assert.notNull(codec, "agentStatDataPointCodec must not be null");
+        this.codec = codec;
+    }
+
+    @Override
+    public byte getVersion() {
+        return VERSION;
+    }
+
+    @Override
+    public void encodeValues(Buffer valueBuffer, List<SqlStatListBo> sqlStatListBos) {
+        if (CollectionUtils.isEmpty(sqlStatListBos)) {
+            throw new IllegalArgumentException("sqlStatListBos must not be empty");
+        }
+        final int numValues = sqlStatListBos.size();
+        valueBuffer.putVInt(numValues);
+
+        for (SqlStatListBo sqlStatListBo : sqlStatListBos) {
+            encodeSqlStatListBo(valueBuffer, sqlStatListBo);
+        }
+    }
+
+    private void encodeSqlStatListBo(Buffer valueBuffer, SqlStatListBo sqlStatListBo) {
+        final int numValues = sqlStatListBo.size();
+        valueBuffer.putVInt(numValues);
+
+        if (numValues == 0) {
+            return;
+        }
+
+        // sqlId               // int
+        // databaseName        // string
+        // url                 // string
+        // count               // int
+        // errorCount          // int
+        // totalTime           // long
+        // maxTime             // int
+        // fastCount           // int
+        // normalCount         // int
+        // slowCount           // int
+        // verySlowCount       // int
+        List<Long> startTimestamps = new ArrayList<Long>(numValues);
+        List<Long> timestamps = new ArrayList<Long>(numValues);
+
+        UnsignedIntegerEncodingStrategy.Analyzer.Builder sqlIdAnalyzerBuilder = new UnsignedIntegerEncodingStrategy.Analyzer.Builder();
+        StringEncodingStrategy.Analyzer.Builder databaseNameAnalyzerBuilder = new StringEncodingStrategy.Analyzer.Builder();
+        StringEncodingStrategy.Analyzer.Builder urlAnalyzerBuilder = new StringEncodingStrategy.Analyzer.Builder();
+        UnsignedIntegerEncodingStrategy.Analyzer.Builder countAnalyzerBuilder = new UnsignedIntegerEncodingStrategy.Analyzer.Builder();
+        UnsignedIntegerEncodingStrategy.Analyzer.Builder errorCountAnalyzerBuilder = new UnsignedIntegerEncodingStrategy.Analyzer.Builder();
+        UnsignedLongEncodingStrategy.Analyzer.Builder totalTimeAnalyzerBuilder = new UnsignedLongEncodingStrategy.Analyzer.Builder();
+        UnsignedIntegerEncodingStrategy.Analyzer.Builder maxTimeAnalyzerBuilder = new UnsignedIntegerEncodingStrategy.Analyzer.Builder();
+        UnsignedIntegerEncodingStrategy.Analyzer.Builder fastCountAnalyzerBuilder = new UnsignedIntegerEncodingStrategy.Analyzer.Builder();
+        UnsignedIntegerEncodingStrategy.Analyzer.Builder normalCountAnalyzerBuilder = new UnsignedIntegerEncodingStrategy.Analyzer.Builder();
+        UnsignedIntegerEncodingStrategy.Analyzer.Builder slowCountAnalyzerBuilder = new UnsignedIntegerEncodingStrategy.Analyzer.Builder();
+        UnsignedIntegerEncodingStrategy.Analyzer.Builder verySlowCountAnalyzerBuilder = new UnsignedIntegerEncodingStrategy.Analyzer.Builder();
+
+        for (SqlStatBo sqlStatBo : sqlStatListBo.getList()) {
+            startTimestamps.add(sqlStatBo.getStartTimestamp());
+            timestamps.add(sqlStatBo.getTimestamp());
+
+            sqlIdAnalyzerBuilder.addValue(sqlStatBo.getSqlId());
+            databaseNameAnalyzerBuilder.addValue(sqlStatBo.getDatabaseName());
+            urlAnalyzerBuilder.addValue(sqlStatBo.getUrl());
+            countAnalyzerBuilder.addValue(sqlStatBo.getCount());
+            errorCountAnalyzerBuilder.addValue(sqlStatBo.getErrorCount());
+            totalTimeAnalyzerBuilder.addValue(sqlStatBo.getTotalTime());
+            maxTimeAnalyzerBuilder.addValue(sqlStatBo.getMaxTime());
+            fastCountAnalyzerBuilder.addValue(sqlStatBo.getFastCount());
+            normalCountAnalyzerBuilder.addValue(sqlStatBo.getNormalCount());
+            slowCountAnalyzerBuilder.addValue(sqlStatBo.getSlowCount());
+            verySlowCountAnalyzerBuilder.addValue(sqlStatBo.getVerySlowCount());
+        }
+        this.codec.encodeValues(valueBuffer, UnsignedLongEncodingStrategy.REPEAT_COUNT, startTimestamps);
+        this.codec.encodeTimestamps(valueBuffer, timestamps);
+
+        StrategyAnalyzer<Integer> sqlIdAnalyzer = sqlIdAnalyzerBuilder.build();
+        StrategyAnalyzer<String> databaseNameAnalyzer = databaseNameAnalyzerBuilder.build();
+        StrategyAnalyzer<String> urlAnalyzer = urlAnalyzerBuilder.build();
+        StrategyAnalyzer<Integer> countAnalyzer = countAnalyzerBuilder.build();
+        StrategyAnalyzer<Integer> errorCountAnalyzer = errorCountAnalyzerBuilder.build();
+        StrategyAnalyzer<Long> totalTimeAnalyzer = totalTimeAnalyzerBuilder.build();
+        StrategyAnalyzer<Integer> maxTimeAnalyzer = maxTimeAnalyzerBuilder.build();
+        StrategyAnalyzer<Integer> fastCountAnalyzer = fastCountAnalyzerBuilder.build();
+        StrategyAnalyzer<Integer> normalCountAnalyzer = normalCountAnalyzerBuilder.build();
+        StrategyAnalyzer<Integer> slowCountAnalyzer = slowCountAnalyzerBuilder.build();
+        StrategyAnalyzer<Integer> verySlowCountAnalyzer = verySlowCountAnalyzerBuilder.build();
+
+        // encode header
+        AgentStatHeaderEncoder headerEncoder = new BitCountingHeaderEncoder();
+        headerEncoder.addCode(sqlIdAnalyzer.getBestStrategy().getCode());
+        headerEncoder.addCode(databaseNameAnalyzer.getBestStrategy().getCode());
+        headerEncoder.addCode(urlAnalyzer.getBestStrategy().getCode());
+        headerEncoder.addCode(countAnalyzer.getBestStrategy().getCode());
+        headerEncoder.addCode(errorCountAnalyzer.getBestStrategy().getCode());
+        headerEncoder.addCode(totalTimeAnalyzer.getBestStrategy().getCode());
+        headerEncoder.addCode(maxTimeAnalyzer.getBestStrategy().getCode());
+        headerEncoder.addCode(fastCountAnalyzer.getBestStrategy().getCode());
+        headerEncoder.addCode(normalCountAnalyzer.getBestStrategy().getCode());
+        headerEncoder.addCode(slowCountAnalyzer.getBestStrategy().getCode());
+        headerEncoder.addCode(verySlowCountAnalyzer.getBestStrategy().getCode());
+
+        final byte[] header = headerEncoder.getHeader();
+        valueBuffer.putPrefixedBytes(header);
+
+        // encode values
+        this.codec.encodeValues(valueBuffer, sqlIdAnalyzer.getBestStrategy(), sqlIdAnalyzer.getValues());
+        this.codec.encodeValues(valueBuffer, databaseNameAnalyzer.getBestStrategy(), databaseNameAnalyzer.getValues());
+        this.codec.encodeValues(valueBuffer, urlAnalyzer.getBestStrategy(), urlAnalyzer.getValues());
+        this.codec.encodeValues(valueBuffer, countAnalyzer.getBestStrategy(), countAnalyzer.getValues());
+        this.codec.encodeValues(valueBuffer, errorCountAnalyzer.getBestStrategy(), errorCountAnalyzer.getValues());
+        this.codec.encodeValues(valueBuffer, totalTimeAnalyzer.getBestStrategy(), totalTimeAnalyzer.getValues());
+        this.codec.encodeValues(valueBuffer, maxTimeAnalyzer.getBestStrategy(), maxTimeAnalyzer.getValues());
+        this.codec.encodeValues(valueBuffer, fastCountAnalyzer.getBestStrategy(), fastCountAnalyzer.getValues());
+        this.codec.encodeValues(valueBuffer, normalCountAnalyzer.getBestStrategy(), normalCountAnalyzer.getValues());
+        this.codec.encodeValues(valueBuffer, slowCountAnalyzer.getBestStrategy(), slowCountAnalyzer.getValues());
+        this.codec.encodeValues(valueBuffer, verySlowCountAnalyzer.getBestStrategy(), verySlowCountAnalyzer.getValues());
+    }
+
+    @Override
+    public List<SqlStatListBo> decodeValues(Buffer valueBuffer, AgentStatDecodingContext decodingContext) {
+        int numValues = valueBuffer.readVInt();
+
+        List<SqlStatListBo> sqlStatListBos = new ArrayList<SqlStatListBo>(numValues);
+        for (int i = 0; i < numValues; i++) {
+            SqlStatListBo sqlStatListBo = decodeValue(valueBuffer, decodingContext);
+            sqlStatListBos.add(sqlStatListBo);
+        }
+        return sqlStatListBos;
+    }
+
+    private SqlStatListBo decodeValue(Buffer valueBuffer, AgentStatDecodingContext decodingContext) {
+        final String agentId = decodingContext.getAgentId();
+        final long baseTimestamp = decodingContext.getBaseTimestamp();
+        final long timestampDelta = decodingContext.getTimestampDelta();
+        final long initialTimestamp = baseTimestamp + timestampDelta;
+
+        int numValues = valueBuffer.readVInt();
+        SqlStatListBo sqlStatListBo = new SqlStatListBo();
+        if (numValues == 0) {
+            return sqlStatListBo;
+        }
+
+        List<Long> startTimestamps = this.codec.decodeValues(valueBuffer, UnsignedLongEncodingStrategy.REPEAT_COUNT, numValues);
+        List<Long> timestamps = this.codec.decodeTimestamps(initialTimestamp, valueBuffer, numValues);
+
+        // decode headers
+        final byte[] header = valueBuffer.readPrefixedBytes();
+        AgentStatHeaderDecoder headerDecoder = new BitCountingHeaderDecoder(header);
+
+        EncodingStrategy<Integer> sqlIdEncodingStrategy = UnsignedIntegerEncodingStrategy.getFromCode(headerDecoder.getCode());
+        EncodingStrategy<String> databaseNameEncodingStrategy = StringEncodingStrategy.getFromCode(headerDecoder.getCode());
+        EncodingStrategy<String> urlEncodingStrategy = StringEncodingStrategy.getFromCode(headerDecoder.getCode());
+        EncodingStrategy<Integer> countEncodingStrategy = UnsignedIntegerEncodingStrategy.getFromCode(headerDecoder.getCode());
+        EncodingStrategy<Integer> errorCountEncodingStrategy = UnsignedIntegerEncodingStrategy.getFromCode(headerDecoder.getCode());
+        EncodingStrategy<Long> totalTimeEncodingStrategy = UnsignedLongEncodingStrategy.getFromCode(headerDecoder.getCode());
+        EncodingStrategy<Integer> maxTimeEncodingStrategy = UnsignedIntegerEncodingStrategy.getFromCode(headerDecoder.getCode());
+        EncodingStrategy<Integer> fastCountEncodingStrategy = UnsignedIntegerEncodingStrategy.getFromCode(headerDecoder.getCode());
+        EncodingStrategy<Integer> normalCountEncodingStrategy = UnsignedIntegerEncodingStrategy.getFromCode(headerDecoder.getCode());
+        EncodingStrategy<Integer> slowCountEncodingStrategy = UnsignedIntegerEncodingStrategy.getFromCode(headerDecoder.getCode());
+        EncodingStrategy<Integer> verySlowCountEncodingStrategy = UnsignedIntegerEncodingStrategy.getFromCode(headerDecoder.getCode());
+
+        List<Integer> sqlIds = this.codec.decodeValues(valueBuffer, sqlIdEncodingStrategy, numValues);
+        List<String> databaseNames = this.codec.decodeValues(valueBuffer, databaseNameEncodingStrategy, numValues);
+        List<String> urls = this.codec.decodeValues(valueBuffer, urlEncodingStrategy, numValues);
+        List<Integer> counts = this.codec.decodeValues(valueBuffer, countEncodingStrategy, numValues);
+        List<Integer> errorCounts = this.codec.decodeValues(valueBuffer, errorCountEncodingStrategy, numValues);
+        List<Long> totalTimes = this.codec.decodeValues(valueBuffer, totalTimeEncodingStrategy, numValues);
+        List<Integer> maxTimes = this.codec.decodeValues(valueBuffer, maxTimeEncodingStrategy, numValues);
+        List<Integer> fastCounts = this.codec.decodeValues(valueBuffer, fastCountEncodingStrategy, numValues);
+        List<Integer> normalCounts = this.codec.decodeValues(valueBuffer, normalCountEncodingStrategy, numValues);
+        List<Integer> slowCounts = this.codec.decodeValues(valueBuffer, slowCountEncodingStrategy, numValues);
+        List<Integer> verySlowCounts = this.codec.decodeValues(valueBuffer, verySlowCountEncodingStrategy, numValues);
+
+        for (int i = 0; i < numValues; i++) {
+            if (i == 0) {
+                sqlStatListBo.setAgentId(agentId);
+                sqlStatListBo.setTimestamp(timestamps.get(i));
+                sqlStatListBo.setStartTimestamp(startTimestamps.get(i));
+            }
+
+            SqlStatBo sqlStatBo = new SqlStatBo();
+            sqlStatBo.setAgentId(agentId);
+            sqlStatBo.setStartTimestamp(startTimestamps.get(i));
+            sqlStatBo.setTimestamp(timestamps.get(i));
+
+            sqlStatBo.setSqlId(sqlIds.get(i));
+            sqlStatBo.setDatabaseName(databaseNames.get(i));
+            sqlStatBo.setUrl(urls.get(i));
+            sqlStatBo.setCount(counts.get(i));
+            sqlStatBo.setErrorCount(errorCounts.get(i));
+            sqlStatBo.setTotalTime(totalTimes.get(i));
+            sqlStatBo.setMaxTime(maxTimes.get(i));
+            sqlStatBo.setFastCount(fastCounts.get(i));
+            sqlStatBo.setNormalCount(normalCounts.get(i));
+            sqlStatBo.setSlowCount(slowCounts.get(i));
+            sqlStatBo.setVerySlowCount(verySlowCounts.get(i));
+            sqlStatListBo.add(sqlStatBo);
+        }
+        return sqlStatListBo;
+    }
+
+}
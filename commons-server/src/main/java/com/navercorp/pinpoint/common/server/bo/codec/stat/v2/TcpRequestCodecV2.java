@@ -0,0 +1,180 @@
+/*
+ * Copyright 2018 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.pinpoint.common.server.bo.codec.stat.v2;
+
+import com.navercorp.pinpoint.common.buffer.Buffer;
+import com.navercorp.pinpoint.common.server.bo.codec.stat.AgentStatDataPointCodec;
+import com.navercorp.pinpoint.common.server.bo.codec.stat.CodecFactory;
+import com.navercorp.pinpoint.common.server.bo.codec.stat.header.AgentStatHeaderDecoder;
+import com.navercorp.pinpoint.common.server.bo.codec.stat.header.AgentStatHeaderEncoder;
+import com.navercorp.pinpoint.common.server.bo.codec.stat.header.BitCountingHeaderEncoder;
+import com.navercorp.pinpoint.common.server.bo.codec.stat.strategy.StrategyAnalyzer;
+import com.navercorp.pinpoint.common.server.bo.codec.stat.strategy.UnsignedLongEncodingStrategy;
+import com.navercorp.pinpoint.common.server.bo.codec.strategy.EncodingStrategy;
+import com.navercorp.pinpoint.common.server.bo.stat.TcpRequestBo;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import org.springframework.util.Assert;
+
+import java.util.List;
+
+@Component("tcpRequestCodecV2")
+public class TcpRequestCodecV2 extends AgentStatCodecV2<TcpRequestBo> {
+
+    @Autowired
+    public TcpRequestCodecV2(AgentStatDataPointCodec codec) {
+        super(new TcpRequestCodecFactory(codec));
+    }
+
+    private static class TcpRequestCodecFactory implements CodecFactory<TcpRequestBo> {
+
+        private final AgentStatDataPointCodec codec;
+
+        private TcpRequestCodecFactory(AgentStatDataPointCodec codec) {
+            Assert.notNull(codec, "codec must not be null");
+            this.codec = codec;
+        }
+
+        @Override
+        public AgentStatDataPointCodec getCodec() {
+            return codec;
+        }
+
+        @Override
+        public CodecEncoder<TcpRequestBo> createCodecEncoder() {
+            return new TcpRequestCodecEncoder(codec);
+        }
+
+        @Override
+        public CodecDecoder<TcpRequestBo> createCodecDecoder() {
+            return new TcpRequestCodecDecoder(codec);
+        }
+    }
+
+    public static class TcpRequestCodecEncoder implements CodecEncoder<TcpRequestBo> {
+
+        private final AgentStatDataPointCodec codec;
+        private final UnsignedLongEncodingStrategy.Analyzer.Builder pendingCountAnalyzerBuilder = new UnsignedLongEncodingStrategy.Analyzer.Builder();
+        private final UnsignedLongEncodingStrategy.Analyzer.Builder retryQueueSizeAnalyzerBuilder = new UnsignedLongEncodingStrategy.Analyzer.Builder();
+        private final UnsignedLongEncodingStrategy.Analyzer.Builder requestCountAnalyzerBuilder = new UnsignedLongEncodingStrategy.Analyzer.Builder();
+        private final UnsignedLongEncodingStrategy.Analyzer.Builder failCountAnalyzerBuilder = new UnsignedLongEncodingStrategy.Analyzer.Builder();
+        private final UnsignedLongEncodingStrategy.Analyzer.Builder rejectCountAnalyzerBuilder = new UnsignedLongEncodingStrategy.Analyzer.Builder();
+        private final UnsignedLongEncodingStrategy.Analyzer.Builder avgRoundTripTimeAnalyzerBuilder = new UnsignedLongEncodingStrategy.Analyzer.Builder();
+        private final UnsignedLongEncodingStrategy.Analyzer.Builder maxRoundTripTimeAnalyzerBuilder = new UnsignedLongEncodingStrategy.Analyzer.Builder();
+
+        public TcpRequestCodecEncoder(AgentStatDataPointCodec codec) {
+            Assert.notNull(codec, "codec must not be null");
+            this.codec = codec;
+        }
+
+        @Override
+        public void addValue(TcpRequestBo tcpRequestBo) {
+            pendingCountAnalyzerBuilder.addValue(tcpRequestBo.getPendingCount());
+            retryQueueSizeAnalyzerBuilder.addValue(tcpRequestBo.getRetryQueueSize());
+            requestCountAnalyzerBuilder.addValue(tcpRequestBo.getRequestCount());
+            failCountAnalyzerBuilder.addValue(tcpRequestBo.getFailCount());
+            rejectCountAnalyzerBuilder.addValue(tcpRequestBo.getRejectCount());
+            avgRoundTripTimeAnalyzerBuilder.addValue(tcpRequestBo.getAvgRoundTripTime());
+            maxRoundTripTimeAnalyzerBuilder.addValue(tcpRequestBo.getMaxRoundTripTime());
+        }
+
+        @Override
+        public void encode(Buffer valueBuffer) {
+            StrategyAnalyzer<Long> pendingCountStrategyAnalyzer = pendingCountAnalyzerBuilder.build();
+            StrategyAnalyzer<Long> retryQueueSizeStrategyAnalyzer = retryQueueSizeAnalyzerBuilder.build();
+            StrategyAnalyzer<Long> requestCountStrategyAnalyzer = requestCountAnalyzerBuilder.build();
+            StrategyAnalyzer<Long> failCountStrategyAnalyzer = failCountAnalyzerBuilder.build();
+            StrategyAnalyzer<Long> rejectCountStrategyAnalyzer = rejectCountAnalyzerBuilder.build();
+            StrategyAnalyzer<Long> avgRoundTripTimeStrategyAnalyzer = avgRoundTripTimeAnalyzerBuilder.build();
+            StrategyAnalyzer<Long> maxRoundTripTimeStrategyAnalyzer = maxRoundTripTimeAnalyzerBuilder.build();
+
+            // encode header
+            AgentStatHeaderEncoder headerEncoder = new BitCountingHeaderEncoder();
+            headerEncoder.addCode(pendingCountStrategyAnalyzer.getBestStrategy().getCode());
+            headerEncoder.addCode(retryQueueSizeStrategyAnalyzer.getBestStrategy().getCode());
+            headerEncoder.addCode(requestCountStrategyAnalyzer.getBestStrategy().getCode());
+            headerEncoder.addCode(failCountStrategyAnalyzer.getBestStrategy().getCode());
+            headerEncoder.addCode(rejectCountStrategyAnalyzer.getBestStrategy().getCode());
+            headerEncoder.addCode(avgRoundTripTimeStrategyAnalyzer.getBestStrategy().getCode());
+            headerEncoder.addCode(maxRoundTripTimeStrategyAnalyzer.getBestStrategy().getCode());
+
+            final byte[] header = headerEncoder.getHeader();
+            valueBuffer.putPrefixedBytes(header);
+            // encode values
+            this.codec.encodeValues(valueBuffer, pendingCountStrategyAnalyzer.getBestStrategy(), pendingCountStrategyAnalyzer.getValues());
+            this.codec.encodeValues(valueBuffer, retryQueueSizeStrategyAnalyzer.getBestStrategy(), retryQueueSizeStrategyAnalyzer.getValues());
+            this.codec.encodeValues(valueBuffer, requestCountStrategyAnalyzer.getBestStrategy(), requestCountStrategyAnalyzer.getValues());
+            this.codec.encodeValues(valueBuffer, failCountStrategyAnalyzer.getBestStrategy(), failCountStrategyAnalyzer.getValues());
+            this.codec.encodeValues(valueBuffer, rejectCountStrategyAnalyzer.getBestStrategy(), rejectCountStrategyAnalyzer.getValues());
+            this.codec.encodeValues(valueBuffer, avgRoundTripTimeStrategyAnalyzer.getBestStrategy(), avgRoundTripTimeStrategyAnalyzer.getValues());
+            this.codec.encodeValues(valueBuffer, maxRoundTripTimeStrategyAnalyzer.getBestStrategy(), maxRoundTripTimeStrategyAnalyzer.getValues());
+        }
+
+    }
+
+    public static class TcpRequestCodecDecoder implements CodecDecoder<TcpRequestBo> {
+
+        private final AgentStatDataPointCodec codec;
+
+        private List<Long> pendingCount;
+        private List<Long> retryQueueSize;
+        private List<Long> requestCount;
+        private List<Long> failCount;
+        private List<Long> rejectCount;
+        private List<Long> avgRoundTripTime;
+        private List<Long> maxRoundTripTime;
+
+        public TcpRequestCodecDecoder(AgentStatDataPointCodec codec) {
+            Assert.notNull(codec, "codec must not be null");
+            this.codec = codec;
+        }
+
+        @Override
+        public void decode(Buffer valueBuffer, AgentStatHeaderDecoder headerDecoder, int valueSize) {
+            EncodingStrategy<Long> pendingCountEncodingStrategy = UnsignedLongEncodingStrategy.getFromCode(headerDecoder.getCode());
+            EncodingStrategy<Long> retryQueueSizeEncodingStrategy = UnsignedLongEncodingStrategy.getFromCode(headerDecoder.getCode());
+            EncodingStrategy<Long> requestCountEncodingStrategy = UnsignedLongEncodingStrategy.getFromCode(headerDecoder.getCode());
+            EncodingStrategy<Long> failCountEncodingStrategy = UnsignedLongEncodingStrategy.getFromCode(headerDecoder.getCode());
+            EncodingStrategy<Long> rejectCountEncodingStrategy = UnsignedLongEncodingStrategy.getFromCode(headerDecoder.getCode());
+            EncodingStrategy<Long> avgRoundTripTimeEncodingStrategy = UnsignedLongEncodingStrategy.getFromCode(headerDecoder.getCode());
+            EncodingStrategy<Long> maxRoundTripTimeEncodingStrategy = UnsignedLongEncodingStrategy.getFromCode(headerDecoder.getCode());
+            // decode values
+            this.pendingCount = this.codec.decodeValues(valueBuffer, pendingCountEncodingStrategy, valueSize);
+            this.retryQueueSize = this.codec.decodeValues(valueBuffer, retryQueueSizeEncodingStrategy, valueSize);
+            this.requestCount = this.codec.decodeValues(valueBuffer, requestCountEncodingStrategy, valueSize);
+            this.failCount = this.codec.decodeValues(valueBuffer, failCountEncodingStrategy, valueSize);
+            this.rejectCount = this.codec.decodeValues(valueBuffer, rejectCountEncodingStrategy, valueSize);
+            this.avgRoundTripTime = this.codec.decodeValues(valueBuffer, avgRoundTripTimeEncodingStrategy, valueSize);
+            this.maxRoundTripTime = this.codec.decodeValues(valueBuffer, maxRoundTripTimeEncodingStrategy, valueSize);
+        }
+
+        @Override
+        public TcpRequestBo getValue(int index) {
+            TcpRequestBo tcpRequestBo = new TcpRequestBo();
+            tcpRequestBo.setPendingCount(pendingCount.get(index));
+            tcpRequestBo.setRetryQueueSize(retryQueueSize.get(index));
+            tcpRequestBo.setRequestCount(requestCount.get(index));
+            tcpRequestBo.setFailCount(failCount.get(index));
+            tcpRequestBo.setRejectCount(rejectCount.get(index));
+            tcpRequestBo.setAvgRoundTripTime(avgRoundTripTime.get(index));
+            tcpRequestBo.setMaxRoundTripTime(maxRoundTripTime.get(index));
+            return tcpRequestBo;
+        }
+
+    }
+
+}
@@ -0,0 +1,166 @@
+/*
+ * Copyright 2018 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.pinpoint.common.server.bo.codec.stat.v2;
+
+import com.navercorp.pinpoint.common.buffer.Buffer;
+import com.navercorp.pinpoint.common.server.bo.codec.stat.AgentStatDataPointCodec;
+import com.navercorp.pinpoint.common.server.bo.codec.stat.CodecFactory;
+import com.navercorp.pinpoint.common.server.bo.codec.stat.header.AgentStatHeaderDecoder;
+import com.navercorp.pinpoint.common.server.bo.codec.stat.header.AgentStatHeaderEncoder;
+import com.navercorp.pinpoint.common.server.bo.codec.stat.header.BitCountingHeaderEncoder;
+import com.navercorp.pinpoint.common.server.bo.codec.stat.strategy.StrategyAnalyzer;
+import com.navercorp.pinpoint.common.server.bo.codec.stat.strategy.UnsignedIntegerEncodingStrategy;
+import com.navercorp.pinpoint.common.server.bo.codec.strategy.EncodingStrategy;
+import com.navercorp.pinpoint.common.server.bo.stat.ThreadSampleBo;
+import com.navercorp.pinpoint.common.server.bo.stat.ThreadSampleStackBo;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import org.springframework.util.Assert;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Component("threadSampleCodecV2")
+public class ThreadSampleCodecV2 extends AgentStatCodecV2<ThreadSampleBo> {
+
+    @Autowired
+    public ThreadSampleCodecV2(AgentStatDataPointCodec codec) {
+        super(new ThreadSampleCodecFactory(codec));
+    }
+
+    private static class ThreadSampleCodecFactory implements CodecFactory<ThreadSampleBo> {
+
+        private final AgentStatDataPointCodec codec;
+
+        private ThreadSampleCodecFactory(AgentStatDataPointCodec codec) {
+            Assert.notNull(codec, "codec must not be null");
+            this.codec = codec;
+        }
+
+        @Override
+        public AgentStatDataPointCodec getCodec() {
+            return codec;
+        }
+
+        @Override
+        public CodecEncoder<ThreadSampleBo> createCodecEncoder() {
+            return new ThreadSampleCodecEncoder(codec);
+        }
+
+        @Override
+        public CodecDecoder<ThreadSampleBo> createCodecDecoder() {
+            return new ThreadSampleCodecDecoder(codec);
+        }
+    }
+
+    public static class ThreadSampleCodecEncoder implements CodecEncoder<ThreadSampleBo> {
+
+        private final AgentStatDataPointCodec codec;
+        private final UnsignedIntegerEncodingStrategy.Analyzer.Builder sampledThreadCountAnalyzerBuilder = new UnsignedIntegerEncodingStrategy.Analyzer.Builder();
+        private final List<List<ThreadSampleStackBo>> stackBoLists = new ArrayList<List<ThreadSampleStackBo>>();
+
+        public ThreadSampleCodecEncoder(AgentStatDataPointCodec codec) {
+            Assert.notNull(codec, "codec must not be null");
+            this.codec = codec;
+        }
+
+        @Override
+        public void addValue(ThreadSampleBo threadSampleBo) {
+            sampledThreadCountAnalyzerBuilder.addValue(threadSampleBo.getSampledThreadCount());
+            stackBoLists.add(threadSampleBo.getStackBoList());
+        }
+
+        @Override
+        public void encode(Buffer valueBuffer) {
+            StrategyAnalyzer<Integer> sampledThreadCountStrategyAnalyzer = sampledThreadCountAnalyzerBuilder.build();
+
+            // encode header
+            AgentStatHeaderEncoder headerEncoder = new BitCountingHeaderEncoder();
+            headerEncoder.addCode(sampledThreadCountStrategyAnalyzer.getBestStrategy().getCode());
+
+            final byte[] header = headerEncoder.getHeader();
+            valueBuffer.putPrefixedBytes(header);
+            // encode values
+            this.codec.encodeValues(valueBuffer, sampledThreadCountStrategyAnalyzer.getBestStrategy(), sampledThreadCountStrategyAnalyzer.getValues());
+            // stacks are folded frame strings that rarely repeat between samples, so they are written as is
+            for (List<ThreadSampleStackBo> stackBoList : stackBoLists) {
+                encodeStackBoList(valueBuffer, stackBoList);
+            }
+        }
+
+        private void encodeStackBoList(Buffer valueBuffer, List<ThreadSampleStackBo> stackBoList) {
+            if (stackBoList == null) {
+                valueBuffer.putVInt(0);
+                return;
+            }
+            valueBuffer.putVInt(stackBoList.size());
+            for (ThreadSampleStackBo stackBo : stackBoList) {
+                valueBuffer.putVInt(stackBo.getSampleCount());
+                valueBuffer.putPrefixedString(stackBo.getEntryPoint());
+                valueBuffer.putPrefixedString(stackBo.getStack());
+            }
+        }
+
+    }
+
+    public static class ThreadSampleCodecDecoder implements CodecDecoder<ThreadSampleBo> {
+
+        private final AgentStatDataPointCodec codec;
+
+        private List<Integer> sampledThreadCount;
+        private List<List<ThreadSampleStackBo>> stackBoLists;
+
+        public ThreadSampleCodecDecoder(AgentStatDataPointCodec codec) {
+            Assert.notNull(codec, "codec must not be null");
+            this.codec = codec;
+        }
+
+        @Override
+        public void decode(Buffer valueBuffer, AgentStatHeaderDecoder headerDecoder, int valueSize) {
+            EncodingStrategy<Integer> sampledThreadCountEncodingStrategy = UnsignedIntegerEncodingStrategy.getFromCode(headerDecoder.getCode());
+            // decode values
+            this.sampledThreadCount = this.codec.decodeValues(valueBuffer, sampledThreadCountEncodingStrategy, valueSize);
+            this.stackBoLists = new ArrayList<List<ThreadSampleStackBo>>(valueSize);
+            for (int i = 0; i < valueSize; i++) {
+                this.stackBoLists.add(decodeStackBoList(valueBuffer));
+            }
+        }
+
+        private List<ThreadSampleStackBo> decodeStackBoList(Buffer valueBuffer) {
+            final int size = valueBuffer.readVInt();
+            List<ThreadSampleStackBo> stackBoList = new ArrayList<ThreadSampleStackBo>(size);
+            for (int i = 0; i < size; i++) {
+                ThreadSampleStackBo stackBo = new ThreadSampleStackBo();
+                stackBo.setSampleCount(valueBuffer.readVInt());
+                stackBo.setEntryPoint(valueBuffer.readPrefixedString());
+                stackBo.setStack(valueBuffer.readPrefixedString());
+                stackBoList.add(stackBo);
+            }
+            return stackBoList;
+        }
+
+        @Override
+        public ThreadSampleBo getValue(int index) {
+            ThreadSampleBo threadSampleBo = new ThreadSampleBo();
+            threadSampleBo.setSampledThreadCount(sampledThreadCount.get(index));
+            threadSampleBo.setStackBoList(stackBoLists.get(index));
+            return threadSampleBo;
+        }
+
+    }
+
+}
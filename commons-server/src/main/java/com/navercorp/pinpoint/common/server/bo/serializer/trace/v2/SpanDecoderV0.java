@@ -13,7 +13,6 @@ import com.navercorp.pinpoint.common.util.TransactionId;
 import com.navercorp.pinpoint.io.util.AnnotationTranscoder;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import org.springframework.stereotype.Component;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -21,7 +20,6 @@ import java.util.List;
 /**
  * @author Woonduk Kang(emeroad)
  */
-@Component
 public class SpanDecoderV0 implements SpanDecoder {
 
     private final Logger logger = LoggerFactory.getLogger(this.getClass());
@@ -79,10 +77,7 @@ public class SpanDecoderV0 implements SpanDecoder {
     }
 
     private void readSpanChunkValue(Buffer buffer, SpanChunkBo spanChunk, SpanEventBo firstSpanEvent, SpanDecodingContext decodingContext) {
-        final byte version = buffer.readByte();
-        if (version != 0) {
-            throw new IllegalStateException("unknown version :" + version);
-        }
+        final byte version = readVersion(buffer, decodingContext);
         spanChunk.setVersion(version);
 
         List<SpanEventBo> spanEventBoList = readSpanEvent(buffer, firstSpanEvent, decodingContext);
@@ -91,10 +86,7 @@ public class SpanDecoderV0 implements SpanDecoder {
 
     public void readSpanValue(Buffer buffer, SpanBo span, SpanEventBo firstSpanEvent, SpanDecodingContext decodingContext) {
 
-        final byte version = buffer.readByte();
-        if (version != 0) {
-            throw new IllegalStateException("unknown version :" + version);
-        }
+        final byte version = readVersion(buffer, decodingContext);
         span.setVersion(version);
 
         final SpanBitFiled bitFiled = new SpanBitFiled(buffer.readByte());
@@ -124,10 +116,10 @@ public class SpanDecoderV0 implements SpanDecoder {
         span.setStartTime(startTime);
         span.setElapsed(buffer.readVInt());
 
-        span.setRpc(buffer.readPrefixedString());
+        span.setRpc(readString(buffer, decodingContext));
 
-        span.setEndPoint(buffer.readPrefixedString());
-        span.setRemoteAddr(buffer.readPrefixedString());
+        span.setEndPoint(readString(buffer, decodingContext));
+        span.setRemoteAddr(readString(buffer, decodingContext));
         span.setApiId(buffer.readSVInt());
 
         if (bitFiled.isSetErrorCode()) {
@@ -135,7 +127,7 @@ public class SpanDecoderV0 implements SpanDecoder {
         }
         if (bitFiled.isSetHasException()) {
             int exceptionId = buffer.readSVInt();
-            String exceptionMessage = buffer.readPrefixedString();
+            String exceptionMessage = readString(buffer, decodingContext);
             span.setExceptionInfo(exceptionId, exceptionMessage);
         }
 
@@ -147,7 +139,7 @@ public class SpanDecoderV0 implements SpanDecoder {
             span.setLoggingTransactionInfo(buffer.readByte());
         }
 
-        span.setAcceptorHost(buffer.readPrefixedString());
+        span.setAcceptorHost(readString(buffer, decodingContext));
 
 
         if (bitFiled.isSetAnnotation()) {
@@ -240,14 +232,14 @@ public class SpanDecoderV0 implements SpanDecoder {
         spanEventBo.setApiId(buffer.readSVInt());
 
         if (bitField.isSetRpc()) {
-            spanEventBo.setRpc(buffer.readPrefixedString());
+            spanEventBo.setRpc(readString(buffer, decodingContext));
         }
 
         if (bitField.isSetEndPoint()) {
-            spanEventBo.setEndPoint(buffer.readPrefixedString());
+            spanEventBo.setEndPoint(readString(buffer, decodingContext));
         }
         if (bitField.isSetDestinationId()) {
-            spanEventBo.setDestinationId(buffer.readPrefixedString());
+            spanEventBo.setDestinationId(readString(buffer, decodingContext));
         }
 
         if (bitField.isSetNextSpanId()) {
@@ -257,7 +249,7 @@ public class SpanDecoderV0 implements SpanDecoder {
 
         if (bitField.isSetHasException()) {
             int exceptionId = buffer.readSVInt();
-            String exceptionMessage = buffer.readPrefixedString();
+            String exceptionMessage = readString(buffer, decodingContext);
             spanEventBo.setExceptionInfo(exceptionId, exceptionMessage);
         }
 
@@ -289,14 +281,14 @@ public class SpanDecoderV0 implements SpanDecoder {
         firstSpanEvent.setServiceType(buffer.readShort());
 
         if (bitField.isSetRpc()) {
-            firstSpanEvent.setRpc(buffer.readPrefixedString());
+            firstSpanEvent.setRpc(readString(buffer, decodingContext));
         }
 
         if (bitField.isSetEndPoint()) {
-            firstSpanEvent.setEndPoint(buffer.readPrefixedString());
+            firstSpanEvent.setEndPoint(readString(buffer, decodingContext));
         }
         if (bitField.isSetDestinationId()) {
-            firstSpanEvent.setDestinationId(buffer.readPrefixedString());
+            firstSpanEvent.setDestinationId(readString(buffer, decodingContext));
         }
 
         firstSpanEvent.setApiId(buffer.readSVInt());
@@ -307,7 +299,7 @@ public class SpanDecoderV0 implements SpanDecoder {
 
         if (bitField.isSetHasException()) {
             int exceptionId = buffer.readSVInt();
-            String exceptionMessage = buffer.readPrefixedString();
+            String exceptionMessage = readString(buffer, decodingContext);
             firstSpanEvent.setExceptionInfo(exceptionId, exceptionMessage);
         }
 
@@ -336,11 +328,11 @@ public class SpanDecoderV0 implements SpanDecoder {
         for (int i = 0; i < annotationListSize; i++) {
             AnnotationBo current;
             if (i == 0) {
-                current = readFirstAnnotationBo(buffer);
+                current = readFirstAnnotationBo(buffer, decodingContext);
                 // save first annotation for delta bitfield
 //                decodingContext.setPrevFirstAnnotationBo(current);
             } else {
-                current = readDeltaAnnotationBo(buffer, prev);
+                current = readDeltaAnnotationBo(buffer, prev, decodingContext);
             }
 
             prev = current;
@@ -349,20 +341,19 @@ public class SpanDecoderV0 implements SpanDecoder {
         return annotationBoList;
     }
 
-    private AnnotationBo readFirstAnnotationBo(Buffer buffer) {
+    private AnnotationBo readFirstAnnotationBo(Buffer buffer, SpanDecodingContext decodingContext) {
         AnnotationBo current;
         current = new AnnotationBo();
         current.setKey(buffer.readSVInt());
 
         byte valueType = buffer.readByte();
-        byte[] valueBytes = buffer.readPrefixedBytes();
-        Object value = transcoder.decode(valueType, valueBytes);
+        Object value = readAnnotationValue(buffer, valueType, decodingContext);
 
         current.setValue(value);
         return current;
     }
 
-    private AnnotationBo readDeltaAnnotationBo(Buffer buffer, AnnotationBo prev) {
+    private AnnotationBo readDeltaAnnotationBo(Buffer buffer, AnnotationBo prev, SpanDecodingContext decodingContext) {
         AnnotationBo annotation = new AnnotationBo();
 
         final int prevKey = prev.getKey();
@@ -370,13 +361,29 @@ public class SpanDecoderV0 implements SpanDecoder {
         annotation.setKey(buffer.readSVInt() + prevKey);
 
         byte valueType = buffer.readByte();
-        byte[] valueBytes = buffer.readPrefixedBytes();
-        Object value = transcoder.decode(valueType, valueBytes);
+        Object value = readAnnotationValue(buffer, valueType, decodingContext);
 
         annotation.setValue(value);
         return annotation;
     }
 
+    protected byte readVersion(Buffer buffer, SpanDecodingContext decodingContext) {
+        final byte version = buffer.readByte();
+        if (version != 0) {
+            throw new IllegalStateException("unknown version :" + version);
+        }
+        return version;
+    }
+
+    protected String readString(Buffer buffer, SpanDecodingContext decodingContext) {
+        return buffer.readPrefixedString();
+    }
+
+    protected Object readAnnotationValue(Buffer buffer, byte valueType, SpanDecodingContext decodingContext) {
+        byte[] valueBytes = buffer.readPrefixedBytes();
+        return transcoder.decode(valueType, valueBytes);
+    }
+
 
     private SpanEventBo readQualifier(BasicSpan basicSpan, Buffer buffer) {
         String applicationId = buffer.readPrefixedString();
@@ -0,0 +1,50 @@
+/*
+ * Copyright 2018 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.pinpoint.common.server.bo.serializer.trace.v2;
+
+import com.navercorp.pinpoint.common.buffer.Buffer;
+
+/**
+ * @see SpanEncoderV1
+ */
+public class SpanDecoderV1 extends SpanDecoderV0 {
+
+    @Override
+    protected byte readVersion(Buffer buffer, SpanDecodingContext decodingContext) {
+        final byte version = buffer.readByte();
+        if (version != SpanEncoderV1.VERSION) {
+            throw new IllegalStateException("unknown version :" + version);
+        }
+        // new dictionary per cell
+        decodingContext.setStringDictionary(new StringDictionary());
+        return version;
+    }
+
+    @Override
+    protected String readString(Buffer buffer, SpanDecodingContext decodingContext) {
+        final StringDictionary stringDictionary = decodingContext.getStringDictionary();
+        return stringDictionary.readString(buffer);
+    }
+
+    @Override
+    protected Object readAnnotationValue(Buffer buffer, byte valueType, SpanDecodingContext decodingContext) {
+        if (valueType == SpanEncoderV1.STRING_TYPE_CODE) {
+            return readString(buffer, decodingContext);
+        }
+        return super.readAnnotationValue(buffer, valueType, decodingContext);
+    }
+}
@@ -11,6 +11,8 @@ public class SpanDecodingContext {
     private long collectorAcceptedTime;
     private TransactionId transactionId;
 
+    private StringDictionary stringDictionary;
+
 //    public AnnotationBo getPrevFirstAnnotationBo() {
 //        return prevAnnotationBo;
 //    }
@@ -37,7 +39,16 @@ public class SpanDecodingContext {
     }
 
 
+    public StringDictionary getStringDictionary() {
+        return stringDictionary;
+    }
+
+    public void setStringDictionary(StringDictionary stringDictionary) {
+        this.stringDictionary = stringDictionary;
+    }
+
     public void next() {
+        this.stringDictionary = null;
     }
 
     public void finish() {
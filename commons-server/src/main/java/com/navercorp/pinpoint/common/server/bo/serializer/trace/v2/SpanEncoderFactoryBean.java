@@ -0,0 +1,63 @@
+/*
+ * Copyright 2018 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.pinpoint.common.server.bo.serializer.trace.v2;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.FactoryBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Selects the span value format written by the collector.
+ * Readers dispatch on the version byte of each cell, so both formats can coexist in the same table.
+ */
+@Component("spanEncoder")
+public class SpanEncoderFactoryBean implements FactoryBean<SpanEncoder> {
+
+    private final Logger logger = LoggerFactory.getLogger(this.getClass());
+
+    @Value("${collector.span.encoder.version:0}")
+    private int version = 0;
+
+    public void setVersion(int version) {
+        this.version = version;
+    }
+
+    @Override
+    public SpanEncoder getObject() throws Exception {
+        logger.info("SpanEncoder version:{}", version);
+        switch (version) {
+            case 0:
+                return new SpanEncoderV0();
+            case SpanEncoderV1.VERSION:
+                return new SpanEncoderV1();
+            default:
+                throw new IllegalStateException("unsupported SpanEncoder version:" + version);
+        }
+    }
+
+    @Override
+    public Class<?> getObjectType() {
+        return SpanEncoder.class;
+    }
+
+    @Override
+    public boolean isSingleton() {
+        return true;
+    }
+}
@@ -11,7 +11,6 @@ import com.navercorp.pinpoint.common.server.bo.serializer.trace.v2.bitfield.Span
 import com.navercorp.pinpoint.common.server.bo.serializer.trace.v2.bitfield.SpanEventQualifierBitField;
 import com.navercorp.pinpoint.io.util.AnnotationTranscoder;
 import org.apache.commons.collections.CollectionUtils;
-import org.springframework.stereotype.Component;
 
 import java.nio.ByteBuffer;
 import java.util.List;
@@ -19,7 +18,6 @@ import java.util.List;
 /**
  * @author Woonduk Kang(emeroad)
  */
-@Component
 public class SpanEncoderV0 implements SpanEncoder {
 
     private static final AnnotationTranscoder transcoder = new AnnotationTranscoder();
@@ -89,7 +87,7 @@ public class SpanEncoderV0 implements SpanEncoder {
         final Buffer buffer = new AutomaticBuffer(256);
 
         final byte version = spanChunkBo.getVersion();
-        buffer.putByte(version);
+        writeVersion(buffer, version, encodingContext);
 
 
         final List<SpanEventBo> spanEventBoList = spanChunkBo.getSpanEventBoList();
@@ -125,7 +123,7 @@ public class SpanEncoderV0 implements SpanEncoder {
         final Buffer buffer = new AutomaticBuffer(256);
 
         final byte version = span.getRawVersion();
-        buffer.putByte(version);
+        writeVersion(buffer, version, encodingContext);
 
         // bit field
         buffer.putByte(bitField.getBitField());
@@ -158,10 +156,10 @@ public class SpanEncoderV0 implements SpanEncoder {
         buffer.putVInt(span.getElapsed());
 
 
-        buffer.putPrefixedString(span.getRpc());
+        writeString(buffer, span.getRpc(), encodingContext);
 
-        buffer.putPrefixedString(span.getEndPoint());
-        buffer.putPrefixedString(span.getRemoteAddr());
+        writeString(buffer, span.getEndPoint(), encodingContext);
+        writeString(buffer, span.getRemoteAddr(), encodingContext);
         buffer.putSVInt(span.getApiId());
 
 
@@ -172,7 +170,7 @@ public class SpanEncoderV0 implements SpanEncoder {
 
         if (bitField.isSetHasException()) {
             buffer.putSVInt(span.getExceptionId());
-            buffer.putPrefixedString(span.getExceptionMessage());
+            writeString(buffer, span.getExceptionMessage(), encodingContext);
         }
 
         if (bitField.isSetFlag()) {
@@ -184,7 +182,7 @@ public class SpanEncoderV0 implements SpanEncoder {
             buffer.putByte(span.getLoggingTransactionInfo());
         }
 
-        buffer.putPrefixedString(span.getAcceptorHost());
+        writeString(buffer, span.getAcceptorHost(), encodingContext);
 
         if (bitField.isSetAnnotation()) {
             List<AnnotationBo> annotationBoList = span.getAnnotationBoList();
@@ -213,14 +211,14 @@ public class SpanEncoderV0 implements SpanEncoder {
 
 
         if (bitField.isSetRpc()) {
-            buffer.putPrefixedString(spanEventBo.getRpc());
+            writeString(buffer, spanEventBo.getRpc(), encodingContext);
         }
 
         if (bitField.isSetEndPoint()) {
-            buffer.putPrefixedString(spanEventBo.getEndPoint());
+            writeString(buffer, spanEventBo.getEndPoint(), encodingContext);
         }
         if (bitField.isSetDestinationId()) {
-            buffer.putPrefixedString(spanEventBo.getDestinationId());
+            writeString(buffer, spanEventBo.getDestinationId(), encodingContext);
         }
 
         buffer.putSVInt(spanEventBo.getApiId());
@@ -231,7 +229,7 @@ public class SpanEncoderV0 implements SpanEncoder {
 
         if (bitField.isSetHasException()) {
             buffer.putSVInt(spanEventBo.getExceptionId());
-            buffer.putPrefixedString(spanEventBo.getExceptionMessage());
+            writeString(buffer, spanEventBo.getExceptionMessage(), encodingContext);
         }
 
         if (bitField.isSetAnnotation()) {
@@ -306,14 +304,14 @@ public class SpanEncoderV0 implements SpanEncoder {
         buffer.putSVInt(spanEventBo.getApiId());
 
         if (bitField.isSetRpc()) {
-            buffer.putPrefixedString(spanEventBo.getRpc());
+            writeString(buffer, spanEventBo.getRpc(), encodingContext);
         }
 
         if (bitField.isSetEndPoint()) {
-            buffer.putPrefixedString(spanEventBo.getEndPoint());
+            writeString(buffer, spanEventBo.getEndPoint(), encodingContext);
         }
         if (bitField.isSetDestinationId()) {
-            buffer.putPrefixedString(spanEventBo.getDestinationId());
+            writeString(buffer, spanEventBo.getDestinationId(), encodingContext);
         }
 
         if (bitField.isSetNextSpanId()) {
@@ -322,7 +320,7 @@ public class SpanEncoderV0 implements SpanEncoder {
 
         if (bitField.isSetHasException()) {
             buffer.putSVInt(spanEventBo.getExceptionId());
-            buffer.putPrefixedString(spanEventBo.getExceptionMessage());
+            writeString(buffer, spanEventBo.getExceptionMessage(), encodingContext);
         }
 
         if (bitField.isSetAnnotation()) {
@@ -357,25 +355,20 @@ public class SpanEncoderV0 implements SpanEncoder {
                 // first annotation
                 buffer.putSVInt(current.getKey());
 
-                Object value = current.getValue();
-                byte valueTypeCode = transcoder.getTypeCode(value);
-                byte[] valueBytes = transcoder.encode(value, valueTypeCode);
-
-                buffer.putByte(valueTypeCode);
-                buffer.putPrefixedBytes(valueBytes);
+                writeAnnotationValue(buffer, current.getValue(), encodingContext);
 //                else {
 //                    writeDeltaAnnotationBo(buffer, prev, current);
 //                }
                 // save first annotation
 //                encodingCtx.setPrevFirstAnnotationBo(current);
             } else {
-                writeDeltaAnnotationBo(buffer, prev, current);
+                writeDeltaAnnotationBo(buffer, prev, current, encodingContext);
             }
             prev = current;
         }
     }
 
-    private void writeDeltaAnnotationBo(Buffer buffer, AnnotationBo prev, AnnotationBo current) {
+    private void writeDeltaAnnotationBo(Buffer buffer, AnnotationBo prev, AnnotationBo current, SpanEncodingContext<?> encodingContext) {
         // prev : -30 cur: -20  = -20 - - 30 = 10
         // prev :  20 cur: 100  =  100 - 20 = 80
         // prev :  -40 cur: 1000  =  1000 + 40 = 10040
@@ -383,7 +376,18 @@ public class SpanEncoderV0 implements SpanEncoder {
         final int currentKey = current.getKey();
         buffer.putSVInt(currentKey - prevKey);
 
-        Object value = current.getValue();
+        writeAnnotationValue(buffer, current.getValue(), encodingContext);
+    }
+
+    protected void writeVersion(Buffer buffer, byte version, SpanEncodingContext<?> encodingContext) {
+        buffer.putByte(version);
+    }
+
+    protected void writeString(Buffer buffer, String value, SpanEncodingContext<?> encodingContext) {
+        buffer.putPrefixedString(value);
+    }
+
+    protected void writeAnnotationValue(Buffer buffer, Object value, SpanEncodingContext<?> encodingContext) {
         byte valueTypeCode = transcoder.getTypeCode(value);
         byte[] valueBytes = transcoder.encode(value, valueTypeCode);
 
@@ -391,5 +395,4 @@ public class SpanEncoderV0 implements SpanEncoder {
         buffer.putPrefixedBytes(valueBytes);
     }
 
-
 }
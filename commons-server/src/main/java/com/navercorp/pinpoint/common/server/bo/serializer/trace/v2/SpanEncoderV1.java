@@ -0,0 +1,57 @@
+/*
+ * Copyright 2018 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.pinpoint.common.server.bo.serializer.trace.v2;
+
+import com.navercorp.pinpoint.common.buffer.Buffer;
+import com.navercorp.pinpoint.io.util.AnnotationTranscoder;
+
+/**
+ * v1 span value format.
+ * Same layout as v0 except that the strings of a cell(rpc, endPoint, destinationId, exception message, string annotation)
+ * are written through a {@link StringDictionary}, so repeated strings are stored only once per cell.
+ * The qualifier is not changed.
+ */
+public class SpanEncoderV1 extends SpanEncoderV0 {
+
+    public static final byte VERSION = 1;
+
+    private static final AnnotationTranscoder transcoder = new AnnotationTranscoder();
+    static final byte STRING_TYPE_CODE = transcoder.getTypeCode("");
+
+    @Override
+    protected void writeVersion(Buffer buffer, byte version, SpanEncodingContext<?> encodingContext) {
+        buffer.putByte(VERSION);
+        // new dictionary per cell
+        encodingContext.setStringDictionary(new StringDictionary());
+    }
+
+    @Override
+    protected void writeString(Buffer buffer, String value, SpanEncodingContext<?> encodingContext) {
+        final StringDictionary stringDictionary = encodingContext.getStringDictionary();
+        stringDictionary.writeString(buffer, value);
+    }
+
+    @Override
+    protected void writeAnnotationValue(Buffer buffer, Object value, SpanEncodingContext<?> encodingContext) {
+        if (value instanceof String) {
+            buffer.putByte(STRING_TYPE_CODE);
+            writeString(buffer, (String) value, encodingContext);
+        } else {
+            super.writeAnnotationValue(buffer, value, encodingContext);
+        }
+    }
+}
@@ -7,6 +7,8 @@ package com.navercorp.pinpoint.common.server.bo.serializer.trace.v2;
 public class SpanEncodingContext<T> {
     private T value;
 
+    private StringDictionary stringDictionary;
+
 //    private AnnotationBo prevAnnotationBo;
 
     public SpanEncodingContext(T value) {
@@ -18,6 +20,14 @@ public class SpanEncodingContext<T> {
         return value;
     }
 
+    public StringDictionary getStringDictionary() {
+        return stringDictionary;
+    }
+
+    public void setStringDictionary(StringDictionary stringDictionary) {
+        this.stringDictionary = stringDictionary;
+    }
+
 //    public AnnotationBo getPrevFirstAnnotationBo() {
 //        return prevAnnotationBo;
 //    }
@@ -0,0 +1,94 @@
+/*
+ * Copyright 2018 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.pinpoint.common.server.bo.serializer.trace.v2;
+
+import com.navercorp.pinpoint.common.buffer.Buffer;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Cell scoped string table for the v1 span value format.
+ * The first occurrence of a string is written inline, later occurrences are written as a reference.
+ * <pre>
+ * code 0 : null
+ * code 1 : new string (prefixed string follows)
+ * code n : reference to the (n - 2)th string of this cell
+ * </pre>
+ */
+public class StringDictionary {
+
+    private static final int NULL_CODE = 0;
+    private static final int NEW_CODE = 1;
+    private static final int REFERENCE_OFFSET = 2;
+
+    private final Map<String, Integer> indexMap = new HashMap<String, Integer>();
+    private final List<String> stringList = new ArrayList<String>();
+
+    public void writeString(Buffer buffer, String value) {
+        if (value == null) {
+            buffer.putVInt(NULL_CODE);
+            return;
+        }
+
+        final Integer index = indexMap.get(value);
+        if (index != null) {
+            buffer.putVInt(index + REFERENCE_OFFSET);
+            return;
+        }
+
+        buffer.putVInt(NEW_CODE);
+        buffer.putPrefixedString(value);
+        add(value);
+    }
+
+    public String readString(Buffer buffer) {
+        final int code = buffer.readVInt();
+        if (code == NULL_CODE) {
+            return null;
+        }
+        if (code == NEW_CODE) {
+            final String value = buffer.readPrefixedString();
+            add(value);
+            return value;
+        }
+
+        final int index = code - REFERENCE_OFFSET;
+        if (index < 0 || index >= stringList.size()) {
+            throw new IllegalStateException("invalid string reference :" + code);
+        }
+        return stringList.get(index);
+    }
+
+    private void add(String value) {
+        indexMap.put(value, stringList.size());
+        stringList.add(value);
+    }
+
+    public int size() {
+        return stringList.size();
+    }
+
+    @Override
+    public String toString() {
+        return "StringDictionary{" +
+                "size=" + stringList.size() +
+                '}';
+    }
+}
@@ -37,6 +37,9 @@ public class AgentStatBo {
     private List<DeadlockThreadCountBo> deadlockThreadCountBos;
     private List<FileDescriptorBo> fileDescriptorBos;
     private List<DirectBufferBo> directBufferBos;
+    private List<SqlStatListBo> sqlStatListBos;
+    private List<TcpRequestBo> tcpRequestBos;
+    private List<ThreadSampleBo> threadSampleBos;
 
     public long getStartTimestamp() {
         return startTimestamp;
@@ -130,6 +133,30 @@ public class AgentStatBo {
 
     public void setDirectBufferBos(List<DirectBufferBo> directBufferBos) { this.directBufferBos = directBufferBos; }
 
+    public List<SqlStatListBo> getSqlStatListBos() {
+        return sqlStatListBos;
+    }
+
+    public void setSqlStatListBos(List<SqlStatListBo> sqlStatListBos) {
+        this.sqlStatListBos = sqlStatListBos;
+    }
+
+    public List<TcpRequestBo> getTcpRequestBos() {
+        return tcpRequestBos;
+    }
+
+    public void setTcpRequestBos(List<TcpRequestBo> tcpRequestBos) {
+        this.tcpRequestBos = tcpRequestBos;
+    }
+
+    public List<ThreadSampleBo> getThreadSampleBos() {
+        return threadSampleBos;
+    }
+
+    public void setThreadSampleBos(List<ThreadSampleBo> threadSampleBos) {
+        this.threadSampleBos = threadSampleBos;
+    }
+
     @Override
     public String toString() {
         final StringBuilder sb = new StringBuilder("AgentStatBo{");
@@ -144,6 +171,9 @@ public class AgentStatBo {
         sb.append(", deadlockThreadCountBos=").append(deadlockThreadCountBos);
         sb.append(", fileDescriptorBos=").append(fileDescriptorBos);
         sb.append(", directBufferBos=").append(directBufferBos);
+        sb.append(", sqlStatListBos=").append(sqlStatListBos);
+        sb.append(", tcpRequestBos=").append(tcpRequestBos);
+        sb.append(", threadSampleBos=").append(threadSampleBos);
         sb.append('}');
         return sb.toString();
     }
@@ -33,7 +33,10 @@ public enum AgentStatType {
     RESPONSE_TIME((byte) 7, "Response Time"),
     DEADLOCK((byte) 8, "Deadlock"),
     FILE_DESCRIPTOR((byte) 9, "FileDescriptor"),
-    DIRECT_BUFFER((byte) 10, "DirectBuffer");
+    DIRECT_BUFFER((byte) 10, "DirectBuffer"),
+    SQL_STAT((byte) 11, "SqlStat"),
+    TCP_REQUEST((byte) 12, "TcpRequest"),
+    THREAD_SAMPLE((byte) 13, "ThreadSample");
 
 
     public static final int TYPE_CODE_BYTE_LENGTH = 1;
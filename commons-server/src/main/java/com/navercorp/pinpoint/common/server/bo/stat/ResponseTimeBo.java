@@ -16,6 +16,8 @@
 
 package com.navercorp.pinpoint.common.server.bo.stat;
 
+import com.navercorp.pinpoint.common.util.LogLinearHistogram;
+
 /**
  * @author Taejin Koo
  */
@@ -28,6 +30,7 @@ public class ResponseTimeBo implements AgentStatDataPoint {
     private long timestamp;
     private long avg = 0;
     private long max = 0;
+    private LogLinearHistogram histogram;
 
     @Override
     public String getAgentId() {
@@ -80,6 +83,14 @@ public class ResponseTimeBo implements AgentStatDataPoint {
         this.max = max;
     }
 
+    public LogLinearHistogram getHistogram() {
+        return histogram;
+    }
+
+    public void setHistogram(LogLinearHistogram histogram) {
+        this.histogram = histogram;
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o) return true;
@@ -91,6 +102,7 @@ public class ResponseTimeBo implements AgentStatDataPoint {
         if (timestamp != that.timestamp) return false;
         if (avg != that.avg) return false;
         if (max != that.max) return false;
+        if (histogram != null ? !histogram.equals(that.histogram) : that.histogram != null) return false;
         return agentId != null ? agentId.equals(that.agentId) : that.agentId == null;
 
     }
@@ -102,6 +114,7 @@ public class ResponseTimeBo implements AgentStatDataPoint {
         result = 31 * result + (int) (timestamp ^ (timestamp >>> 32));
         result = 31 * result + (int) (avg ^ (avg >>> 32));
         result = 31 * result + (int) (max ^ (max >>> 32));
+        result = 31 * result + (histogram != null ? histogram.hashCode() : 0);
         return result;
     }
 
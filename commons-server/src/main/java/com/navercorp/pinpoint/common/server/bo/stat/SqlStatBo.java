@@ -0,0 +1,229 @@
+/*
+ * Copyright 2018 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.pinpoint.common.server.bo.stat;
+
+/**
+ * Execution statistics of a single sql statement collected during one agent stat interval.
+ */
+public class SqlStatBo implements AgentStatDataPoint {
+
+    public static final int UNCOLLECTED_INT_VALUE = -1;
+    public static final String UNCOLLECTED_STRING_VALUE = "";
+
+    private String agentId;
+    private long startTimestamp;
+    private long timestamp;
+
+    private int sqlId = UNCOLLECTED_INT_VALUE;
+    private String databaseName = UNCOLLECTED_STRING_VALUE;
+    private String url = UNCOLLECTED_STRING_VALUE;
+    private int count = 0;
+    private int errorCount = 0;
+    private long totalTime = 0;
+    private int maxTime = 0;
+    private int fastCount = 0;
+    private int normalCount = 0;
+    private int slowCount = 0;
+    private int verySlowCount = 0;
+
+    @Override
+    public String getAgentId() {
+        return agentId;
+    }
+
+    @Override
+    public void setAgentId(String agentId) {
+        this.agentId = agentId;
+    }
+
+    @Override
+    public long getStartTimestamp() {
+        return startTimestamp;
+    }
+
+    @Override
+    public void setStartTimestamp(long startTimestamp) {
+        this.startTimestamp = startTimestamp;
+    }
+
+    @Override
+    public long getTimestamp() {
+        return timestamp;
+    }
+
+    @Override
+    public void setTimestamp(long timestamp) {
+        this.timestamp = timestamp;
+    }
+
+    @Override
+    public AgentStatType getAgentStatType() {
+        return AgentStatType.SQL_STAT;
+    }
+
+    public int getSqlId() {
+        return sqlId;
+    }
+
+    public void setSqlId(int sqlId) {
+        this.sqlId = sqlId;
+    }
+
+    public String getDatabaseName() {
+        return databaseName;
+    }
+
+    public void setDatabaseName(String databaseName) {
+        this.databaseName = databaseName;
+    }
+
+    public String getUrl() {
+        return url;
+    }
+
+    public void setUrl(String url) {
+        this.url = url;
+    }
+
+    public int getCount() {
+        return count;
+    }
+
+    public void setCount(int count) {
+        this.count = count;
+    }
+
+    public int getErrorCount() {
+        return errorCount;
+    }
+
+    public void setErrorCount(int errorCount) {
+        this.errorCount = errorCount;
+    }
+
+    public long getTotalTime() {
+        return totalTime;
+    }
+
+    public void setTotalTime(long totalTime) {
+        this.totalTime = totalTime;
+    }
+
+    public int getMaxTime() {
+        return maxTime;
+    }
+
+    public void setMaxTime(int maxTime) {
+        this.maxTime = maxTime;
+    }
+
+    public int getFastCount() {
+        return fastCount;
+    }
+
+    public void setFastCount(int fastCount) {
+        this.fastCount = fastCount;
+    }
+
+    public int getNormalCount() {
+        return normalCount;
+    }
+
+    public void setNormalCount(int normalCount) {
+        this.normalCount = normalCount;
+    }
+
+    public int getSlowCount() {
+        return slowCount;
+    }
+
+    public void setSlowCount(int slowCount) {
+        this.slowCount = slowCount;
+    }
+
+    public int getVerySlowCount() {
+        return verySlowCount;
+    }
+
+    public void setVerySlowCount(int verySlowCount) {
+        this.verySlowCount = verySlowCount;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+
+        SqlStatBo sqlStatBo = (SqlStatBo) o;
+
+        if (startTimestamp != sqlStatBo.startTimestamp) return false;
+        if (timestamp != sqlStatBo.timestamp) return false;
+        if (sqlId != sqlStatBo.sqlId) return false;
+        if (count != sqlStatBo.count) return false;
+        if (errorCount != sqlStatBo.errorCount) return false;
+        if (totalTime != sqlStatBo.totalTime) return false;
+        if (maxTime != sqlStatBo.maxTime) return false;
+        if (fastCount != sqlStatBo.fastCount) return false;
+        if (normalCount != sqlStatBo.normalCount) return false;
+        if (slowCount != sqlStatBo.slowCount) return false;
+        if (verySlowCount != sqlStatBo.verySlowCount) return false;
+        if (agentId != null ? !agentId.equals(sqlStatBo.agentId) : sqlStatBo.agentId != null) return false;
+        if (databaseName != null ? !databaseName.equals(sqlStatBo.databaseName) : sqlStatBo.databaseName != null) return false;
+        return url != null ? url.equals(sqlStatBo.url) : sqlStatBo.url == null;
+    }
+
+    @Override
+    public int hashCode() {
+        int result = agentId != null ? agentId.hashCode() : 0;
+        result = 31 * result + (int) (startTimestamp ^ (startTimestamp >>> 32));
+        result = 31 * result + (int) (timestamp ^ (timestamp >>> 32));
+        result = 31 * result + sqlId;
+        result = 31 * result + (databaseName != null ? databaseName.hashCode() : 0);
+        result = 31 * result + (url != null ? url.hashCode() : 0);
+        result = 31 * result + count;
+        result = 31 * result + errorCount;
+        result = 31 * result + (int) (totalTime ^ (totalTime >>> 32));
+        result = 31 * result + maxTime;
+        result = 31 * result + fastCount;
+        result = 31 * result + normalCount;
+        result = 31 * result + slowCount;
+        result = 31 * result + verySlowCount;
+        return result;
+    }
+
+    @Override
+    public String toString() {
+        final StringBuilder sb = new StringBuilder("SqlStatBo{");
+        sb.append("agentId='").append(agentId).append('\'');
+        sb.append(", startTimestamp=").append(startTimestamp);
+        sb.append(", timestamp=").append(timestamp);
+        sb.append(", sqlId=").append(sqlId);
+        sb.append(", databaseName='").append(databaseName).append('\'');
+        sb.append(", url='").append(url).append('\'');
+        sb.append(", count=").append(count);
+        sb.append(", errorCount=").append(errorCount);
+        sb.append(", totalTime=").append(totalTime);
+        sb.append(", maxTime=").append(maxTime);
+        sb.append(", fastCount=").append(fastCount);
+        sb.append(", normalCount=").append(normalCount);
+        sb.append(", slowCount=").append(slowCount);
+        sb.append(", verySlowCount=").append(verySlowCount);
+        sb.append('}');
+        return sb.toString();
+    }
+
+}
@@ -0,0 +1,175 @@
+/*
+ * Copyright 2018 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.pinpoint.common.server.bo.stat;
+
+public class TcpRequestBo implements AgentStatDataPoint {
+
+    public static final long UNCOLLECTED_VALUE = -1;
+
+    private String agentId;
+    private long startTimestamp;
+    private long timestamp;
+
+    private long pendingCount = UNCOLLECTED_VALUE;
+    private long retryQueueSize = UNCOLLECTED_VALUE;
+    private long requestCount = UNCOLLECTED_VALUE;
+    private long failCount = UNCOLLECTED_VALUE;
+    private long rejectCount = UNCOLLECTED_VALUE;
+    private long avgRoundTripTime = UNCOLLECTED_VALUE;
+    private long maxRoundTripTime = UNCOLLECTED_VALUE;
+
+    @Override
+    public String getAgentId() {
+        return agentId;
+    }
+
+    @Override
+    public void setAgentId(String agentId) {
+        this.agentId = agentId;
+    }
+
+    @Override
+    public long getStartTimestamp() {
+        return startTimestamp;
+    }
+
+    @Override
+    public void setStartTimestamp(long startTimestamp) {
+        this.startTimestamp = startTimestamp;
+    }
+
+    @Override
+    public long getTimestamp() {
+        return timestamp;
+    }
+
+    @Override
+    public void setTimestamp(long timestamp) {
+        this.timestamp = timestamp;
+    }
+
+    @Override
+    public AgentStatType getAgentStatType() {
+        return AgentStatType.TCP_REQUEST;
+    }
+
+    public long getPendingCount() {
+        return pendingCount;
+    }
+
+    public void setPendingCount(long pendingCount) {
+        this.pendingCount = pendingCount;
+    }
+
+    public long getRetryQueueSize() {
+        return retryQueueSize;
+    }
+
+    public void setRetryQueueSize(long retryQueueSize) {
+        this.retryQueueSize = retryQueueSize;
+    }
+
+    public long getRequestCount() {
+        return requestCount;
+    }
+
+    public void setRequestCount(long requestCount) {
+        this.requestCount = requestCount;
+    }
+
+    public long getFailCount() {
+        return failCount;
+    }
+
+    public void setFailCount(long failCount) {
+        this.failCount = failCount;
+    }
+
+    public long getRejectCount() {
+        return rejectCount;
+    }
+
+    public void setRejectCount(long rejectCount) {
+        this.rejectCount = rejectCount;
+    }
+
+    public long getAvgRoundTripTime() {
+        return avgRoundTripTime;
+    }
+
+    public void setAvgRoundTripTime(long avgRoundTripTime) {
+        this.avgRoundTripTime = avgRoundTripTime;
+    }
+
+    public long getMaxRoundTripTime() {
+        return maxRoundTripTime;
+    }
+
+    public void setMaxRoundTripTime(long maxRoundTripTime) {
+        this.maxRoundTripTime = maxRoundTripTime;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+
+        TcpRequestBo tcpRequestBo = (TcpRequestBo) o;
+
+        if (startTimestamp != tcpRequestBo.startTimestamp) return false;
+        if (timestamp != tcpRequestBo.timestamp) return false;
+        if (pendingCount != tcpRequestBo.pendingCount) return false;
+        if (retryQueueSize != tcpRequestBo.retryQueueSize) return false;
+        if (requestCount != tcpRequestBo.requestCount) return false;
+        if (failCount != tcpRequestBo.failCount) return false;
+        if (rejectCount != tcpRequestBo.rejectCount) return false;
+        if (avgRoundTripTime != tcpRequestBo.avgRoundTripTime) return false;
+        if (maxRoundTripTime != tcpRequestBo.maxRoundTripTime) return false;
+        return agentId != null ? agentId.equals(tcpRequestBo.agentId) : tcpRequestBo.agentId == null;
+    }
+
+    @Override
+    public int hashCode() {
+        int result = agentId != null ? agentId.hashCode() : 0;
+        result = 31 * result + (int) (startTimestamp ^ (startTimestamp >>> 32));
+        result = 31 * result + (int) (timestamp ^ (timestamp >>> 32));
+        result = 31 * result + (int) (pendingCount ^ (pendingCount >>> 32));
+        result = 31 * result + (int) (retryQueueSize ^ (retryQueueSize >>> 32));
+        result = 31 * result + (int) (requestCount ^ (requestCount >>> 32));
+        result = 31 * result + (int) (failCount ^ (failCount >>> 32));
+        result = 31 * result + (int) (rejectCount ^ (rejectCount >>> 32));
+        result = 31 * result + (int) (avgRoundTripTime ^ (avgRoundTripTime >>> 32));
+        result = 31 * result + (int) (maxRoundTripTime ^ (maxRoundTripTime >>> 32));
+        return result;
+    }
+
+    @Override
+    public String toString() {
+        return "TcpRequestBo{" +
+                "agentId='" + agentId + '\'' +
+                ", startTimestamp=" + startTimestamp +
+                ", timestamp=" + timestamp +
+                ", pendingCount=" + pendingCount +
+                ", retryQueueSize=" + retryQueueSize +
+                ", requestCount=" + requestCount +
+                ", failCount=" + failCount +
+                ", rejectCount=" + rejectCount +
+                ", avgRoundTripTime=" + avgRoundTripTime +
+                ", maxRoundTripTime=" + maxRoundTripTime +
+                '}';
+    }
+}
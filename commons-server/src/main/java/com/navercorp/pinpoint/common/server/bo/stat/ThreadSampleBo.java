@@ -0,0 +1,116 @@
+/*
+ * Copyright 2018 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.pinpoint.common.server.bo.stat;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public class ThreadSampleBo implements AgentStatDataPoint {
+
+    private String agentId;
+    private long startTimestamp;
+    private long timestamp;
+
+    private int sampledThreadCount;
+    private List<ThreadSampleStackBo> stackBoList = new ArrayList<ThreadSampleStackBo>();
+
+    @Override
+    public String getAgentId() {
+        return agentId;
+    }
+
+    @Override
+    public void setAgentId(String agentId) {
+        this.agentId = agentId;
+    }
+
+    @Override
+    public long getStartTimestamp() {
+        return startTimestamp;
+    }
+
+    @Override
+    public void setStartTimestamp(long startTimestamp) {
+        this.startTimestamp = startTimestamp;
+    }
+
+    @Override
+    public long getTimestamp() {
+        return timestamp;
+    }
+
+    @Override
+    public void setTimestamp(long timestamp) {
+        this.timestamp = timestamp;
+    }
+
+    @Override
+    public AgentStatType getAgentStatType() {
+        return AgentStatType.THREAD_SAMPLE;
+    }
+
+    public int getSampledThreadCount() {
+        return sampledThreadCount;
+    }
+
+    public void setSampledThreadCount(int sampledThreadCount) {
+        this.sampledThreadCount = sampledThreadCount;
+    }
+
+    public List<ThreadSampleStackBo> getStackBoList() {
+        return stackBoList;
+    }
+
+    public void setStackBoList(List<ThreadSampleStackBo> stackBoList) {
+        this.stackBoList = stackBoList;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+
+        ThreadSampleBo that = (ThreadSampleBo) o;
+
+        if (startTimestamp != that.startTimestamp) return false;
+        if (timestamp != that.timestamp) return false;
+        if (sampledThreadCount != that.sampledThreadCount) return false;
+        if (agentId != null ? !agentId.equals(that.agentId) : that.agentId != null) return false;
+        return stackBoList != null ? stackBoList.equals(that.stackBoList) : that.stackBoList == null;
+    }
+
+    @Override
+    public int hashCode() {
+        int result = agentId != null ? agentId.hashCode() : 0;
+        result = 31 * result + (int) (startTimestamp ^ (startTimestamp >>> 32));
+        result = 31 * result + (int) (timestamp ^ (timestamp >>> 32));
+        result = 31 * result + sampledThreadCount;
+        result = 31 * result + (stackBoList != null ? stackBoList.hashCode() : 0);
+        return result;
+    }
+
+    @Override
+    public String toString() {
+        return "ThreadSampleBo{" +
+                "agentId='" + agentId + '\'' +
+                ", startTimestamp=" + startTimestamp +
+                ", timestamp=" + timestamp +
+                ", sampledThreadCount=" + sampledThreadCount +
+                ", stackBoList=" + stackBoList +
+                '}';
+    }
+}
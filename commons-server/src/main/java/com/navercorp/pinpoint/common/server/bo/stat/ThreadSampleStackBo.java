@@ -0,0 +1,77 @@
+/*
+ * Copyright 2018 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.pinpoint.common.server.bo.stat;
+
+public class ThreadSampleStackBo {
+
+    private int sampleCount;
+    private String entryPoint;
+    private String stack;
+
+    public int getSampleCount() {
+        return sampleCount;
+    }
+
+    public void setSampleCount(int sampleCount) {
+        this.sampleCount = sampleCount;
+    }
+
+    public String getEntryPoint() {
+        return entryPoint;
+    }
+
+    public void setEntryPoint(String entryPoint) {
+        this.entryPoint = entryPoint;
+    }
+
+    public String getStack() {
+        return stack;
+    }
+
+    public void setStack(String stack) {
+        this.stack = stack;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+
+        ThreadSampleStackBo that = (ThreadSampleStackBo) o;
+
+        if (sampleCount != that.sampleCount) return false;
+        if (entryPoint != null ? !entryPoint.equals(that.entryPoint) : that.entryPoint != null) return false;
+        return stack != null ? stack.equals(that.stack) : that.stack == null;
+    }
+
+    @Override
+    public int hashCode() {
+        int result = sampleCount;
+        result = 31 * result + (entryPoint != null ? entryPoint.hashCode() : 0);
+        result = 31 * result + (stack != null ? stack.hashCode() : 0);
+        return result;
+    }
+
+    @Override
+    public String toString() {
+        return "ThreadSampleStackBo{" +
+                "sampleCount=" + sampleCount +
+                ", entryPoint='" + entryPoint + '\'' +
+                ", stack='" + stack + '\'' +
+                '}';
+    }
+}
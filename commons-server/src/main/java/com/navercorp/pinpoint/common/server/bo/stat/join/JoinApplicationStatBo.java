@@ -379,7 +379,7 @@ public class JoinApplicationStatBo implements JoinStatBo {
         return newJoinApplicationStatBo;
     }
 
-    private static long shiftTimestamp(long timestamp) {
+    public static long shiftTimestamp(long timestamp) {
         return timestamp - (timestamp % SHIFT_RANGE);
     }
 
@@ -15,6 +15,8 @@
  */
 package com.navercorp.pinpoint.common.server.bo.stat.join;
 
+import com.navercorp.pinpoint.common.util.LogLinearHistogram;
+
 import java.util.Date;
 import java.util.List;
 
@@ -34,6 +36,7 @@ public class JoinResponseTimeBo implements JoinStatBo {
     private long maxAvg = UNCOLLECTED_VALUE;
     private String minAvgAgentId = UNKNOWN_AGENT;
     private long minAvg = UNCOLLECTED_VALUE;
+    private LogLinearHistogram histogram;
 
     public JoinResponseTimeBo() {
     }
@@ -76,6 +79,10 @@ public class JoinResponseTimeBo implements JoinStatBo {
         this.minAvg = minAvg;
     }
 
+    public void setHistogram(LogLinearHistogram histogram) {
+        this.histogram = histogram;
+    }
+
     @Override
     public String getId() {
         return id;
@@ -106,6 +113,10 @@ public class JoinResponseTimeBo implements JoinStatBo {
         return minAvg;
     }
 
+    public LogLinearHistogram getHistogram() {
+        return histogram;
+    }
+
     public static JoinResponseTimeBo joinResponseTimeBoList(List<JoinResponseTimeBo> joinResponseTimeBoList, Long timestamp) {
         final int boCount = joinResponseTimeBoList.size();
 
@@ -119,9 +130,16 @@ public class JoinResponseTimeBo implements JoinStatBo {
         String maxAvgAgentId = initJoinResponseTimeBo.getMaxAvgAgentId();
         long minAvg = initJoinResponseTimeBo.getMinAvg();
         String minAvgAgentId = initJoinResponseTimeBo.getMinAvgAgentId();
+        LogLinearHistogram histogram = null;
 
         for (JoinResponseTimeBo joinResponseTimeBo : joinResponseTimeBoList) {
             sumAvg += joinResponseTimeBo.getAvg();
+            if (joinResponseTimeBo.getHistogram() != null) {
+                if (histogram == null) {
+                    histogram = new LogLinearHistogram();
+                }
+                histogram.add(joinResponseTimeBo.getHistogram());
+            }
 
             if (joinResponseTimeBo.getMaxAvg() > maxAvg) {
                 maxAvg = joinResponseTimeBo.getMaxAvg();
@@ -141,6 +159,7 @@ public class JoinResponseTimeBo implements JoinStatBo {
         newJoinResponseTimeBo.setMinAvgAgentId(minAvgAgentId);
         newJoinResponseTimeBo.setMaxAvg(maxAvg);
         newJoinResponseTimeBo.setMaxAvgAgentId(maxAvgAgentId);
+        newJoinResponseTimeBo.setHistogram(histogram);
 
         return newJoinResponseTimeBo;
     }
@@ -155,6 +174,7 @@ public class JoinResponseTimeBo implements JoinStatBo {
             ", maxAvg=" + maxAvg +
             ", minAvgAgentId='" + minAvgAgentId + '\'' +
             ", minAvg=" + minAvg +
+            ", histogram=" + histogram +
             '}';
     }
 
@@ -171,7 +191,8 @@ public class JoinResponseTimeBo implements JoinStatBo {
         if (minAvg != that.minAvg) return false;
         if (!id.equals(that.id)) return false;
         if (!maxAvgAgentId.equals(that.maxAvgAgentId)) return false;
-        return minAvgAgentId.equals(that.minAvgAgentId);
+        if (!minAvgAgentId.equals(that.minAvgAgentId)) return false;
+        return histogram != null ? histogram.equals(that.histogram) : that.histogram == null;
 
     }
 
@@ -184,6 +205,7 @@ public class JoinResponseTimeBo implements JoinStatBo {
         result = 31 * result + (int) (maxAvg ^ (maxAvg >>> 32));
         result = 31 * result + minAvgAgentId.hashCode();
         result = 31 * result + (int) (minAvg ^ (minAvg >>> 32));
+        result = 31 * result + (histogram != null ? histogram.hashCode() : 0);
         return result;
     }
 }
@@ -0,0 +1,123 @@
+/*
+ * Copyright 2018 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.navercorp.pinpoint.common.server.util;
+
+import com.navercorp.pinpoint.common.trace.BaseHistogramSchema;
+import com.navercorp.pinpoint.common.trace.HistogramSchema;
+import com.navercorp.pinpoint.common.util.BytesUtils;
+import com.navercorp.pinpoint.common.util.TimeUtils;
+
+import static com.navercorp.pinpoint.common.PinpointConstants.APPLICATION_NAME_MAX_LEN;
+import static com.navercorp.pinpoint.common.util.BytesUtils.LONG_BYTE_LENGTH;
+
+/**
+ * Row key layout of the ApplicationTraceIndexBucket table.
+ * <pre>
+ * applicationName(fixed 24) + bucket(1) + reverseTimeMillis(8)
+ * bucket = elapsed band(fast, normal, slow, very slow) | error flag
+ * </pre>
+ * Elapsed bands follow {@link BaseHistogramSchema#NORMAL_SCHEMA} so that a bucket matches a response time histogram slot.
+ */
+public final class ApplicationTraceIndexBucketUtils {
+
+    public static final int BUCKET_SIZE = 1;
+    public static final int BUCKET_OFFSET = APPLICATION_NAME_MAX_LEN;
+    public static final int TIMESTAMP_OFFSET = APPLICATION_NAME_MAX_LEN + BUCKET_SIZE;
+    public static final int ROW_KEY_SIZE = TIMESTAMP_OFFSET + LONG_BYTE_LENGTH;
+
+    public static final byte ERROR_FLAG = 0x04;
+    private static final byte BAND_MASK = 0x03;
+
+    private static final HistogramSchema SCHEMA = BaseHistogramSchema.NORMAL_SCHEMA;
+    private static final int[] BAND_UPPER_BOUNDS = {
+            SCHEMA.getFastSlot().getSlotTime(),
+            SCHEMA.getNormalSlot().getSlotTime(),
+            SCHEMA.getSlowSlot().getSlotTime(),
+            Integer.MAX_VALUE
+    };
+
+    private ApplicationTraceIndexBucketUtils() {
+    }
+
+    public static byte getBucket(int elapsed, boolean error) {
+        final int band = getBand(elapsed);
+        if (error) {
+            return (byte) (band | ERROR_FLAG);
+        }
+        return (byte) band;
+    }
+
+    private static int getBand(int elapsed) {
+        for (int band = 0; band < BAND_UPPER_BOUNDS.length - 1; band++) {
+            if (elapsed <= BAND_UPPER_BOUNDS[band]) {
+                return band;
+            }
+        }
+        return BAND_UPPER_BOUNDS.length - 1;
+    }
+
+    public static boolean isError(byte bucket) {
+        return (bucket & ERROR_FLAG) != 0;
+    }
+
+    public static int getBand(byte bucket) {
+        return bucket & BAND_MASK;
+    }
+
+    /**
+     * buckets that may contain a trace whose elapsed time lies within [elapsedFrom, elapsedTo]
+     */
+    public static byte[] getBuckets(int elapsedFrom, int elapsedTo, boolean errorOnly) {
+        if (elapsedFrom > elapsedTo) {
+            throw new IllegalArgumentException("elapsedFrom must not be greater than elapsedTo. elapsedFrom:" + elapsedFrom + " elapsedTo:" + elapsedTo);
+        }
+        final int fromBand = getBand(elapsedFrom);
+        final int toBand = getBand(elapsedTo);
+        final int bandCount = toBand - fromBand + 1;
+
+        final byte[] buckets = new byte[errorOnly ? bandCount : bandCount * 2];
+        int index = 0;
+        for (int band = fromBand; band <= toBand; band++) {
+            if (!errorOnly) {
+                buckets[index++] = (byte) band;
+            }
+            buckets[index++] = (byte) (band | ERROR_FLAG);
+        }
+        return buckets;
+    }
+
+    public static byte[] getRowKey(String applicationName, byte bucket, long timestamp) {
+        if (applicationName == null) {
+            throw new NullPointerException("applicationName must not be null");
+        }
+        final byte[] bApplicationName = BytesUtils.toBytes(applicationName);
+        return getRowKey(bApplicationName, bucket, timestamp);
+    }
+
+    public static byte[] getRowKey(byte[] applicationName, byte bucket, long timestamp) {
+        if (applicationName == null) {
+            throw new NullPointerException("applicationName must not be null");
+        }
+        if (applicationName.length > APPLICATION_NAME_MAX_LEN) {
+            throw new IndexOutOfBoundsException("applicationName.length too big. length:" + applicationName.length);
+        }
+        final byte[] rowKey = new byte[ROW_KEY_SIZE];
+        BytesUtils.writeBytes(rowKey, 0, applicationName);
+        rowKey[BUCKET_OFFSET] = bucket;
+        BytesUtils.writeLong(TimeUtils.reverseTimeMillis(timestamp), rowKey, TIMESTAMP_OFFSET);
+        return rowKey;
+    }
+}
@@ -19,6 +19,7 @@ package com.navercorp.pinpoint.common.server.bo.codec.stat;
 import com.navercorp.pinpoint.common.server.bo.JvmGcType;
 import com.navercorp.pinpoint.common.server.bo.stat.*;
 import com.navercorp.pinpoint.common.trace.ServiceType;
+import com.navercorp.pinpoint.common.util.LogLinearHistogram;
 import org.apache.commons.lang3.RandomUtils;
 
 import java.util.ArrayList;
@@ -265,17 +266,32 @@ public class TestAgentStatFactory {
         List<Long> startTimestamps = createStartTimestamps(startTimestamp, numValues);
         List<Long> timestamps = createTimestamps(initialTimestamp, numValues);
         List<Long> avgs = TestAgentStatDataPointFactory.LONG.createRandomValues(0L, 1000L, numValues);
+        List<Long> maxs = TestAgentStatDataPointFactory.LONG.createRandomValues(1000L, 10000L, numValues);
         for (int i = 0; i < numValues; i++) {
             ResponseTimeBo responseTimeBo = new ResponseTimeBo();
             responseTimeBo.setAgentId(agentId);
             responseTimeBo.setStartTimestamp(startTimestamps.get(i));
             responseTimeBo.setTimestamp(timestamps.get(i));
             responseTimeBo.setAvg(avgs.get(i));
+            responseTimeBo.setMax(maxs.get(i));
+            // agents that do not send histograms are mixed in
+            if (i % 2 == 0) {
+                responseTimeBo.setHistogram(createLogLinearHistogram(maxs.get(i)));
+            }
             responseTimeBos.add(responseTimeBo);
         }
         return responseTimeBos;
     }
 
+    private static LogLinearHistogram createLogLinearHistogram(long maxValue) {
+        LogLinearHistogram histogram = new LogLinearHistogram();
+        final int count = RandomUtils.nextInt(1, 100);
+        for (int i = 0; i < count; i++) {
+            histogram.recordValue(RandomUtils.nextLong(0, maxValue));
+        }
+        return histogram;
+    }
+
     public static List<DeadlockThreadCountBo> createDeadlockBos(String agentId, long startTimestamp, long initialTimestamp) {
         final int numValues = RandomUtils.nextInt(1, MAX_NUM_TEST_VALUES);
         return createDeadlockBos(agentId, startTimestamp, initialTimestamp, numValues);
@@ -394,6 +410,124 @@ public class TestAgentStatFactory {
         }
         return directBufferBos;
     }
+
+    public static List<TcpRequestBo> createTcpRequestBos(String agentId, long startTimestamp, long initialTimestamp) {
+        final int numValues = RandomUtils.nextInt(1, MAX_NUM_TEST_VALUES);
+        return createTcpRequestBos(agentId, startTimestamp, initialTimestamp, numValues);
+    }
+
+    public static List<TcpRequestBo> createTcpRequestBos(String agentId, long startTimestamp, long initialTimestamp, int numValues) {
+        List<TcpRequestBo> tcpRequestBos = new ArrayList<TcpRequestBo>(numValues);
+        List<Long> startTimestamps = createStartTimestamps(startTimestamp, numValues);
+        List<Long> timestamps = createTimestamps(initialTimestamp, numValues);
+        List<Long> pendingCounts = TestAgentStatDataPointFactory.LONG.createRandomValues(0L, 5000L, numValues);
+        List<Long> retryQueueSizes = TestAgentStatDataPointFactory.LONG.createRandomValues(0L, 1000L, numValues);
+        List<Long> requestCounts = TestAgentStatDataPointFactory.LONG.createRandomValues(0L, 10000L, numValues);
+        List<Long> failCounts = TestAgentStatDataPointFactory.LONG.createRandomValues(0L, 100L, numValues);
+        List<Long> rejectCounts = TestAgentStatDataPointFactory.LONG.createRandomValues(0L, 100L, numValues);
+        List<Long> avgRoundTripTimes = TestAgentStatDataPointFactory.LONG.createRandomValues(0L, 1000L, numValues);
+        List<Long> maxRoundTripTimes = TestAgentStatDataPointFactory.LONG.createRandomValues(1000L, 10000L, numValues);
+
+        for (int i = 0; i < numValues; i++) {
+            TcpRequestBo tcpRequestBo = new TcpRequestBo();
+            tcpRequestBo.setAgentId(agentId);
+            tcpRequestBo.setStartTimestamp(startTimestamps.get(i));
+            tcpRequestBo.setTimestamp(timestamps.get(i));
+            tcpRequestBo.setPendingCount(pendingCounts.get(i));
+            tcpRequestBo.setRetryQueueSize(retryQueueSizes.get(i));
+            tcpRequestBo.setRequestCount(requestCounts.get(i));
+            tcpRequestBo.setFailCount(failCounts.get(i));
+            tcpRequestBo.setRejectCount(rejectCounts.get(i));
+            tcpRequestBo.setAvgRoundTripTime(avgRoundTripTimes.get(i));
+            tcpRequestBo.setMaxRoundTripTime(maxRoundTripTimes.get(i));
+            tcpRequestBos.add(tcpRequestBo);
+        }
+        return tcpRequestBos;
+    }
+
+    public static List<ThreadSampleBo> createThreadSampleBos(String agentId, long startTimestamp, long initialTimestamp) {
+        final int numValues = RandomUtils.nextInt(1, MAX_NUM_TEST_VALUES);
+        return createThreadSampleBos(agentId, startTimestamp, initialTimestamp, numValues);
+    }
+
+    public static List<ThreadSampleBo> createThreadSampleBos(String agentId, long startTimestamp, long initialTimestamp, int numValues) {
+        List<ThreadSampleBo> threadSampleBos = new ArrayList<ThreadSampleBo>(numValues);
+        List<Long> startTimestamps = createStartTimestamps(startTimestamp, numValues);
+        List<Long> timestamps = createTimestamps(initialTimestamp, numValues);
+        List<Integer> sampledThreadCounts = TestAgentStatDataPointFactory.INTEGER.createRandomValues(0, 200, numValues);
+
+        for (int i = 0; i < numValues; i++) {
+            ThreadSampleBo threadSampleBo = new ThreadSampleBo();
+            threadSampleBo.setAgentId(agentId);
+            threadSampleBo.setStartTimestamp(startTimestamps.get(i));
+            threadSampleBo.setTimestamp(timestamps.get(i));
+            threadSampleBo.setSampledThreadCount(sampledThreadCounts.get(i));
+            // every third sample has no stacks
+            List<ThreadSampleStackBo> stackBoList = new ArrayList<ThreadSampleStackBo>();
+            for (int j = 0; j < i % 3; j++) {
+                ThreadSampleStackBo stackBo = new ThreadSampleStackBo();
+                stackBo.setSampleCount(RandomUtils.nextInt(1, 100));
+                stackBo.setEntryPoint("/entry-" + j);
+                stackBo.setStack("java.lang.Thread.run;com.example.Service.call" + j);
+                stackBoList.add(stackBo);
+            }
+            threadSampleBo.setStackBoList(stackBoList);
+            threadSampleBos.add(threadSampleBo);
+        }
+        return threadSampleBos;
+    }
+
+    public static List<SqlStatListBo> createSqlStatListBos(String agentId, long startTimestamp, long initialTimestamp) {
+        final int numValues = RandomUtils.nextInt(1, MAX_NUM_TEST_VALUES);
+        return createSqlStatListBos(agentId, startTimestamp, initialTimestamp, numValues);
+    }
+
+    public static List<SqlStatListBo> createSqlStatListBos(String agentId, long startTimestamp, long initialTimestamp, int numValues) {
+        List<SqlStatListBo> sqlStatListBos = new ArrayList<SqlStatListBo>(numValues);
+        for (int i = 0; i < numValues; i++) {
+            int sqlStatBoSize = RandomUtils.nextInt(1, MAX_NUM_TEST_VALUES);
+            SqlStatListBo sqlStatListBo = createSqlStatListBo(agentId, startTimestamp, initialTimestamp, sqlStatBoSize);
+            sqlStatListBos.add(sqlStatListBo);
+        }
+        return sqlStatListBos;
+    }
+
+    private static SqlStatListBo createSqlStatListBo(String agentId, long startTimestamp, long initialTimestamp, int numValues) {
+        SqlStatListBo sqlStatListBo = new SqlStatListBo();
+        sqlStatListBo.setAgentId(agentId);
+        sqlStatListBo.setStartTimestamp(startTimestamp);
+        sqlStatListBo.setTimestamp(initialTimestamp);
+
+        List<Long> startTimestamps = createStartTimestamps(startTimestamp, numValues);
+        List<Long> timestamps = createTimestamps(initialTimestamp, numValues);
+        List<Integer> counts = TestAgentStatDataPointFactory.INTEGER.createRandomValues(1, 1000, numValues);
+
+        for (int i = 0; i < numValues; i++) {
+            SqlStatBo sqlStatBo = new SqlStatBo();
+            sqlStatBo.setAgentId(agentId);
+            sqlStatBo.setStartTimestamp(startTimestamps.get(i));
+            sqlStatBo.setTimestamp(timestamps.get(i));
+
+            final int count = counts.get(i);
+            final int fastCount = RANDOM.nextInt(count + 1);
+            final int normalCount = RANDOM.nextInt(count - fastCount + 1);
+            final int slowCount = RANDOM.nextInt(count - fastCount - normalCount + 1);
+            sqlStatBo.setSqlId(i + 1);
+            sqlStatBo.setDatabaseName("name-" + (i % 3));
+            sqlStatBo.setUrl("jdbcurl-" + (i % 3));
+            sqlStatBo.setCount(count);
+            sqlStatBo.setErrorCount(RANDOM.nextInt(count + 1));
+            sqlStatBo.setTotalTime(count * (long) RANDOM.nextInt(10000));
+            sqlStatBo.setMaxTime(RANDOM.nextInt(60000));
+            sqlStatBo.setFastCount(fastCount);
+            sqlStatBo.setNormalCount(normalCount);
+            sqlStatBo.setSlowCount(slowCount);
+            sqlStatBo.setVerySlowCount(count - fastCount - normalCount - slowCount);
+
+            sqlStatListBo.add(sqlStatBo);
+        }
+        return sqlStatListBo;
+    }
     private static List<Long> createStartTimestamps(long startTimestamp, int numValues) {
         return TestAgentStatDataPointFactory.LONG.createConstantValues(startTimestamp, startTimestamp, numValues);
     }
@@ -24,6 +24,7 @@ import com.navercorp.pinpoint.common.server.bo.serializer.stat.AgentStatUtils;
 import com.navercorp.pinpoint.common.server.bo.serializer.stat.ApplicationStatDecodingContext;
 import com.navercorp.pinpoint.common.server.bo.stat.join.JoinResponseTimeBo;
 import com.navercorp.pinpoint.common.server.bo.stat.join.JoinStatBo;
+import com.navercorp.pinpoint.common.util.LogLinearHistogram;
 import org.junit.Test;
 
 import java.util.ArrayList;
@@ -39,12 +40,28 @@ public class ResponseTimeCodecTest {
 
     @Test
     public void encodeAndDecodeTest() {
-        final String id = "test_app";
         final long currentTime = new Date().getTime();
+        final List<JoinStatBo> joinResponseTimeBoList = createJoinResponseTimeBoList(currentTime);
+        encodeAndDecode(currentTime, joinResponseTimeBoList);
+    }
+
+    @Test
+    public void encodeAndDecodeHistogramTest() {
+        final long currentTime = new Date().getTime();
+        final List<JoinStatBo> joinResponseTimeBoList = createJoinResponseTimeBoList(currentTime);
+        LogLinearHistogram histogram = new LogLinearHistogram();
+        histogram.recordValue(20);
+        histogram.recordValue(6000);
+        ((JoinResponseTimeBo) joinResponseTimeBoList.get(1)).setHistogram(histogram);
+        ((JoinResponseTimeBo) joinResponseTimeBoList.get(3)).setHistogram(new LogLinearHistogram());
+        encodeAndDecode(currentTime, joinResponseTimeBoList);
+    }
+
+    private void encodeAndDecode(long currentTime, List<JoinStatBo> joinResponseTimeBoList) {
+        final String id = "test_app";
         final AgentStatDataPointCodec agentStatDataPointCodec = new AgentStatDataPointCodec();
         final ResponseTimeCodec responseTimeCodec = new ResponseTimeCodec(agentStatDataPointCodec);
         final Buffer encodedValueBuffer = new AutomaticBuffer();
-        final List<JoinStatBo> joinResponseTimeBoList = createJoinResponseTimeBoList(currentTime);
         encodedValueBuffer.putByte(responseTimeCodec.getVersion());
         responseTimeCodec.encodeValues(encodedValueBuffer, joinResponseTimeBoList);
 
@@ -58,6 +75,7 @@ public class ResponseTimeCodecTest {
 
         assertEquals(valueBuffer.readByte(), responseTimeCodec.getVersion());
         List<JoinStatBo> decodedJoinResponseTimeBoList = responseTimeCodec.decodeValues(valueBuffer, decodingContext);
+        assertEquals(joinResponseTimeBoList.size(), decodedJoinResponseTimeBoList.size());
         for (int i = 0 ; i < decodedJoinResponseTimeBoList.size(); i++) {
             assertTrue(decodedJoinResponseTimeBoList.get(i).equals(joinResponseTimeBoList.get(i)));
         }
@@ -54,6 +54,8 @@ public class ResponseTimeCodecV2Test extends AgentStatCodecTestBase<ResponseTime
         Assert.assertEquals("startTimestamp", expected.getStartTimestamp(), actual.getStartTimestamp());
         Assert.assertEquals("timestamp", expected.getTimestamp(), actual.getTimestamp());
         Assert.assertEquals("avg", expected.getAvg(), actual.getAvg());
+        Assert.assertEquals("max", expected.getMax(), actual.getMax());
+        Assert.assertEquals("histogram", expected.getHistogram(), actual.getHistogram());
     }
 
 }
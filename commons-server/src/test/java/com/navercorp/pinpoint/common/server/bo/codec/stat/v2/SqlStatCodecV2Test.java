@@ -0,0 +1,82 @@
+/*
+ * Copyright 2018 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.pinpoint.common.server.bo.codec.stat.v2;
+
+import com.navercorp.pinpoint.common.server.bo.codec.stat.AgentStatCodec;
+import com.navercorp.pinpoint.common.server.bo.codec.stat.AgentStatCodecTestBase;
+import com.navercorp.pinpoint.common.server.bo.codec.stat.TestAgentStatFactory;
+import com.navercorp.pinpoint.common.server.bo.stat.SqlStatBo;
+import com.navercorp.pinpoint.common.server.bo.stat.SqlStatListBo;
+import org.junit.Assert;
+import org.junit.runner.RunWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.context.ContextConfiguration;
+import org.springframework.test.context.junit4.SpringJUnit4ClassRunner;
+
+import java.util.List;
+
+@RunWith(SpringJUnit4ClassRunner.class)
+@ContextConfiguration("classpath:applicationContext-test.xml")
+public class SqlStatCodecV2Test extends AgentStatCodecTestBase<SqlStatListBo> {
+
+    @Autowired
+    private SqlStatCodecV2 sqlStatCodecV2;
+
+    @Override
+    protected List<SqlStatListBo> createAgentStats(String agentId, long startTimestamp, long initialTimestamp) {
+        return TestAgentStatFactory.createSqlStatListBos(agentId, startTimestamp, initialTimestamp);
+    }
+
+    @Override
+    protected AgentStatCodec<SqlStatListBo> getCodec() {
+        return sqlStatCodecV2;
+    }
+
+    @Override
+    protected void verify(SqlStatListBo expected, SqlStatListBo actual) {
+        Assert.assertEquals("agentId", expected.getAgentId(), actual.getAgentId());
+        Assert.assertEquals("startTimestamp", expected.getStartTimestamp(), actual.getStartTimestamp());
+        Assert.assertEquals("timestamp", expected.getTimestamp(), actual.getTimestamp());
+        Assert.assertEquals(expected.size(), actual.size());
+
+        List<SqlStatBo> expectedSqlStatList = expected.getList();
+        List<SqlStatBo> actualSqlStatList = actual.getList();
+
+        for (int i = 0; i < expectedSqlStatList.size(); i++) {
+            verify(expectedSqlStatList.get(i), actualSqlStatList.get(i));
+        }
+    }
+
+    private void verify(SqlStatBo expected, SqlStatBo actual) {
+        Assert.assertEquals("agentId", expected.getAgentId(), actual.getAgentId());
+        Assert.assertEquals("startTimestamp", expected.getStartTimestamp(), actual.getStartTimestamp());
+        Assert.assertEquals("timestamp", expected.getTimestamp(), actual.getTimestamp());
+
+        Assert.assertEquals("sqlId", expected.getSqlId(), actual.getSqlId());
+        Assert.assertEquals("databaseName", expected.getDatabaseName(), actual.getDatabaseName());
+        Assert.assertEquals("url", expected.getUrl(), actual.getUrl());
+        Assert.assertEquals("count", expected.getCount(), actual.getCount());
+        Assert.assertEquals("errorCount", expected.getErrorCount(), actual.getErrorCount());
+        Assert.assertEquals("totalTime", expected.getTotalTime(), actual.getTotalTime());
+        Assert.assertEquals("maxTime", expected.getMaxTime(), actual.getMaxTime());
+        Assert.assertEquals("fastCount", expected.getFastCount(), actual.getFastCount());
+        Assert.assertEquals("normalCount", expected.getNormalCount(), actual.getNormalCount());
+        Assert.assertEquals("slowCount", expected.getSlowCount(), actual.getSlowCount());
+        Assert.assertEquals("verySlowCount", expected.getVerySlowCount(), actual.getVerySlowCount());
+    }
+
+}
@@ -0,0 +1,180 @@
+/*
+ * Copyright 2018 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.pinpoint.common.server.bo.serializer.trace.v2;
+
+import com.google.common.collect.Lists;
+import com.navercorp.pinpoint.common.buffer.Buffer;
+import com.navercorp.pinpoint.common.buffer.OffsetFixedBuffer;
+import com.navercorp.pinpoint.common.server.bo.AnnotationBo;
+import com.navercorp.pinpoint.common.server.bo.RandomTSpan;
+import com.navercorp.pinpoint.common.server.bo.SpanBo;
+import com.navercorp.pinpoint.common.server.bo.SpanChunkBo;
+import com.navercorp.pinpoint.common.server.bo.SpanEventBo;
+import com.navercorp.pinpoint.common.server.bo.SpanFactory;
+import com.navercorp.pinpoint.thrift.dto.TSpan;
+import com.navercorp.pinpoint.thrift.dto.TSpanChunk;
+import com.navercorp.pinpoint.thrift.dto.TSpanEvent;
+import org.apache.commons.lang3.builder.EqualsBuilder;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.nio.ByteBuffer;
+import java.util.List;
+
+public class SpanEncoderV1Test {
+
+    private static final int REPEAT_COUNT = 10;
+
+    private final RandomTSpan randomTSpan = new RandomTSpan();
+    private final SpanFactory spanFactory = new SpanFactory();
+
+    private final SpanEncoder spanEncoderV0 = new SpanEncoderV0();
+    private final SpanEncoder spanEncoder = new SpanEncoderV1();
+    private final SpanDecoder spanDecoder = new SpanDecoderV1();
+
+    @Test
+    public void testEncodeSpanColumnValue_complexSpan_N() {
+        for (int i = 0; i < REPEAT_COUNT; i++) {
+            SpanBo spanBo = randomComplexSpan();
+            assertSpan(spanBo, new SpanDecodingContext());
+        }
+    }
+
+    @Test
+    public void testEncodeSpanColumnValue_complexSpanChunk_N() {
+        for (int i = 0; i < REPEAT_COUNT; i++) {
+            TSpanChunk tSpanChunk = randomTSpan.randomTSpanChunk();
+            tSpanChunk.setSpanEventList(randomTSpanEventList());
+            SpanChunkBo spanChunkBo = spanFactory.buildSpanChunkBo(tSpanChunk);
+            spanChunkBo.setCollectorAcceptTime(System.currentTimeMillis());
+
+            SpanEncodingContext<SpanChunkBo> encodingContext = new SpanEncodingContext<SpanChunkBo>(spanChunkBo);
+            Buffer qualifier = wrapBuffer(spanEncoder.encodeSpanChunkQualifier(encodingContext));
+            Buffer column = wrapBuffer(spanEncoder.encodeSpanChunkColumnValue(encodingContext));
+
+            SpanDecodingContext decodingContext = newDecodingContext(spanChunkBo.getCollectorAcceptTime());
+            decodingContext.setTransactionId(spanChunkBo.getTransactionId());
+            SpanChunkBo decode = (SpanChunkBo) spanDecoder.decode(qualifier, column, decodingContext);
+
+            Assert.assertEquals(SpanEncoderV1.VERSION, decode.getVersion());
+            Assert.assertTrue(EqualsBuilder.reflectionEquals(spanChunkBo.getSpanEventBoList(), decode.getSpanEventBoList()));
+        }
+    }
+
+    @Test
+    public void testEncodeSpanColumnValue_repeatedString() {
+        SpanBo spanBo = randomComplexSpan();
+        for (SpanEventBo spanEventBo : spanBo.getSpanEventBoList()) {
+            spanEventBo.setEndPoint("localhost:3306");
+            spanEventBo.setDestinationId("MYSQL");
+            AnnotationBo sql = new AnnotationBo();
+            sql.setKey(20);
+            sql.setValue("select * from member where id = ?");
+            AnnotationBo count = new AnnotationBo();
+            count.setKey(21);
+            count.setValue(1);
+            spanEventBo.setAnnotationBoList(Lists.newArrayList(sql, count));
+        }
+        spanBo.setCollectorAcceptTime(System.currentTimeMillis());
+
+        int v0Size = spanEncoderV0.encodeSpanColumnValue(new SpanEncodingContext<SpanBo>(spanBo)).remaining();
+        int v1Size = spanEncoder.encodeSpanColumnValue(new SpanEncodingContext<SpanBo>(spanBo)).remaining();
+        Assert.assertTrue("v0:" + v0Size + " v1:" + v1Size, v1Size < v0Size);
+
+        assertSpan(spanBo, new SpanDecodingContext());
+    }
+
+    @Test
+    public void testEncodeSpanColumnValue_nullString() {
+        SpanBo spanBo = randomComplexSpan();
+        spanBo.setRpc(null);
+        spanBo.setRemoteAddr(null);
+        spanBo.setAcceptorHost(null);
+        spanBo.getSpanEventBoList().get(1).setDestinationId(null);
+
+        assertSpan(spanBo, new SpanDecodingContext());
+    }
+
+    @Test
+    public void testDecode_nextCell() {
+        // the dictionary must not leak into the next cell
+        SpanDecodingContext decodingContext = new SpanDecodingContext();
+        for (int i = 0; i < REPEAT_COUNT; i++) {
+            assertSpan(randomComplexSpan(), decodingContext);
+            spanDecoder.next(decodingContext);
+            Assert.assertNull(decodingContext.getStringDictionary());
+        }
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void testDecode_v0() {
+        SpanBo spanBo = randomComplexSpan();
+        spanBo.setCollectorAcceptTime(System.currentTimeMillis());
+
+        SpanEncodingContext<SpanBo> encodingContext = new SpanEncodingContext<SpanBo>(spanBo);
+        Buffer qualifier = wrapBuffer(spanEncoderV0.encodeSpanQualifier(encodingContext));
+        Buffer column = wrapBuffer(spanEncoderV0.encodeSpanColumnValue(encodingContext));
+
+        spanDecoder.decode(qualifier, column, newDecodingContext(spanBo.getCollectorAcceptTime()));
+    }
+
+    private void assertSpan(SpanBo spanBo, SpanDecodingContext decodingContext) {
+        spanBo.setCollectorAcceptTime(System.currentTimeMillis());
+
+        SpanEncodingContext<SpanBo> encodingContext = new SpanEncodingContext<SpanBo>(spanBo);
+        Buffer qualifier = wrapBuffer(spanEncoder.encodeSpanQualifier(encodingContext));
+        Buffer column = wrapBuffer(spanEncoder.encodeSpanColumnValue(encodingContext));
+
+        decodingContext.setTransactionId(spanBo.getTransactionId());
+        decodingContext.setCollectorAcceptedTime(spanBo.getCollectorAcceptTime());
+        SpanBo decode = (SpanBo) spanDecoder.decode(qualifier, column, decodingContext);
+
+        Assert.assertEquals(SpanEncoderV1.VERSION, decode.getVersion());
+
+        List<String> notSerializedField = Lists.newArrayList("parentApplicationId", "parentApplicationServiceType");
+        List<String> excludeField = Lists.newArrayList("version", "annotationBoList", "spanEventBoList");
+        notSerializedField.addAll(excludeField);
+        Assert.assertTrue(EqualsBuilder.reflectionEquals(decode, spanBo, notSerializedField));
+
+        Assert.assertTrue("annotation", EqualsBuilder.reflectionEquals(spanBo.getAnnotationBoList(), decode.getAnnotationBoList()));
+        Assert.assertTrue(EqualsBuilder.reflectionEquals(spanBo.getSpanEventBoList(), decode.getSpanEventBoList()));
+    }
+
+    private SpanDecodingContext newDecodingContext(long collectorAcceptTime) {
+        SpanDecodingContext decodingContext = new SpanDecodingContext();
+        decodingContext.setCollectorAcceptedTime(collectorAcceptTime);
+        return decodingContext;
+    }
+
+    private OffsetFixedBuffer wrapBuffer(ByteBuffer byteBuffer) {
+        return new OffsetFixedBuffer(byteBuffer.array(), byteBuffer.arrayOffset(), byteBuffer.remaining());
+    }
+
+    private SpanBo randomComplexSpan() {
+        TSpan tSpan = randomTSpan.randomTSpan();
+        tSpan.setSpanEventList(randomTSpanEventList());
+        return spanFactory.buildSpanBo(tSpan);
+    }
+
+    private List<TSpanEvent> randomTSpanEventList() {
+        TSpanEvent tSpanEvent1 = randomTSpan.randomTSpanEvent((short) 1);
+        TSpanEvent tSpanEvent2 = randomTSpan.randomTSpanEvent((short) 2);
+        TSpanEvent tSpanEvent3 = randomTSpan.randomTSpanEvent((short) 3);
+        TSpanEvent tSpanEvent4 = randomTSpan.randomTSpanEvent((short) 5);
+        return Lists.newArrayList(tSpanEvent1, tSpanEvent2, tSpanEvent3, tSpanEvent4);
+    }
+}
@@ -16,6 +16,7 @@
 
 package com.navercorp.pinpoint.common.server.bo.stat.join;
 
+import com.navercorp.pinpoint.common.util.LogLinearHistogram;
 import org.junit.Test;
 
 import java.util.ArrayList;
@@ -51,6 +52,34 @@ public class JoinResponseTimeBoTest {
         assertEquals("agent1", joinResponseTimeBo.getMinAvgAgentId());
         assertEquals(9000, joinResponseTimeBo.getMaxAvg());
         assertEquals("agent2", joinResponseTimeBo.getMaxAvgAgentId());
+        assertNull(joinResponseTimeBo.getHistogram());
+    }
+
+    @Test
+    public void joinHistogramTest() {
+        long time = 1496988667231L;
+        JoinResponseTimeBo joinResponseTimeBo1 = new JoinResponseTimeBo("agent1", time, 10, 10, "agent1", 10, "agent1");
+        LogLinearHistogram histogram1 = new LogLinearHistogram();
+        for (int i = 0; i < 99; i++) {
+            histogram1.recordValue(10);
+        }
+        joinResponseTimeBo1.setHistogram(histogram1);
+        JoinResponseTimeBo joinResponseTimeBo2 = new JoinResponseTimeBo("agent2", time, 3000, 3000, "agent2", 3000, "agent2");
+        LogLinearHistogram histogram2 = new LogLinearHistogram();
+        histogram2.recordValue(3000);
+        joinResponseTimeBo2.setHistogram(histogram2);
+        JoinResponseTimeBo joinResponseTimeBo3 = new JoinResponseTimeBo("agent3", time, 20, 20, "agent3", 20, "agent3");
+
+        List<JoinResponseTimeBo> joinResponseTimeBoList = new ArrayList<JoinResponseTimeBo>();
+        joinResponseTimeBoList.add(joinResponseTimeBo1);
+        joinResponseTimeBoList.add(joinResponseTimeBo2);
+        joinResponseTimeBoList.add(joinResponseTimeBo3);
+
+        JoinResponseTimeBo joinResponseTimeBo = JoinResponseTimeBo.joinResponseTimeBoList(joinResponseTimeBoList, time);
+        LogLinearHistogram histogram = joinResponseTimeBo.getHistogram();
+        assertEquals(100, histogram.getTotalCount());
+        assertEquals(10, histogram.getValueAtPercentile(99));
+        assertEquals(LogLinearHistogram.getHighestValue(LogLinearHistogram.getBucketIndex(3000)), histogram.getValueAtPercentile(100));
     }
 
     @Test
@@ -0,0 +1,90 @@
+/*
+ * Copyright 2018 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.navercorp.pinpoint.common.server.util;
+
+import com.navercorp.pinpoint.common.PinpointConstants;
+import com.navercorp.pinpoint.common.util.BytesUtils;
+import com.navercorp.pinpoint.common.util.TimeUtils;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class ApplicationTraceIndexBucketUtilsTest {
+
+    @Test
+    public void getBucket() {
+        Assert.assertEquals(0, ApplicationTraceIndexBucketUtils.getBucket(0, false));
+        Assert.assertEquals(0, ApplicationTraceIndexBucketUtils.getBucket(1000, false));
+        Assert.assertEquals(1, ApplicationTraceIndexBucketUtils.getBucket(1001, false));
+        Assert.assertEquals(2, ApplicationTraceIndexBucketUtils.getBucket(5000, false));
+        Assert.assertEquals(3, ApplicationTraceIndexBucketUtils.getBucket(5001, false));
+        Assert.assertEquals(3, ApplicationTraceIndexBucketUtils.getBucket(Integer.MAX_VALUE, false));
+
+        byte errorBucket = ApplicationTraceIndexBucketUtils.getBucket(2000, true);
+        Assert.assertTrue(ApplicationTraceIndexBucketUtils.isError(errorBucket));
+        Assert.assertEquals(1, ApplicationTraceIndexBucketUtils.getBand(errorBucket));
+        Assert.assertFalse(ApplicationTraceIndexBucketUtils.isError(ApplicationTraceIndexBucketUtils.getBucket(2000, false)));
+    }
+
+    @Test
+    public void getBuckets() {
+        byte[] buckets = ApplicationTraceIndexBucketUtils.getBuckets(0, 500, false);
+        Assert.assertArrayEquals(new byte[]{0, 0x04}, buckets);
+
+        buckets = ApplicationTraceIndexBucketUtils.getBuckets(800, 4000, false);
+        Assert.assertArrayEquals(new byte[]{0, 0x04, 1, 0x05, 2, 0x06}, buckets);
+
+        buckets = ApplicationTraceIndexBucketUtils.getBuckets(0, Integer.MAX_VALUE, true);
+        Assert.assertArrayEquals(new byte[]{0x04, 0x05, 0x06, 0x07}, buckets);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void getBucketsInvalidRange() {
+        ApplicationTraceIndexBucketUtils.getBuckets(3000, 1000, false);
+    }
+
+    @Test
+    public void getRowKey() {
+        final long time = System.currentTimeMillis();
+        final byte bucket = ApplicationTraceIndexBucketUtils.getBucket(4000, true);
+        byte[] rowKey = ApplicationTraceIndexBucketUtils.getRowKey("test", bucket, time);
+
+        Assert.assertEquals(ApplicationTraceIndexBucketUtils.ROW_KEY_SIZE, rowKey.length);
+        Assert.assertEquals("test", BytesUtils.toStringAndRightTrim(rowKey, 0, PinpointConstants.APPLICATION_NAME_MAX_LEN));
+        Assert.assertEquals(bucket, rowKey[ApplicationTraceIndexBucketUtils.BUCKET_OFFSET]);
+        long reverseTime = BytesUtils.bytesToLong(rowKey, ApplicationTraceIndexBucketUtils.TIMESTAMP_OFFSET);
+        Assert.assertEquals(time, TimeUtils.recoveryTimeMillis(reverseTime));
+    }
+
+    @Test
+    public void getRowKeyOrder() {
+        final byte bucket = ApplicationTraceIndexBucketUtils.getBucket(100, false);
+        byte[] older = ApplicationTraceIndexBucketUtils.getRowKey("test", bucket, 1000L);
+        byte[] newer = ApplicationTraceIndexBucketUtils.getRowKey("test", bucket, 2000L);
+        // newer traces come first in a scan
+        Assert.assertTrue(compare(newer, older) < 0);
+    }
+
+    private int compare(byte[] left, byte[] right) {
+        for (int i = 0; i < left.length; i++) {
+            int a = left[i] & 0xff;
+            int b = right[i] & 0xff;
+            if (a != b) {
+                return a - b;
+            }
+        }
+        return 0;
+    }
+}
@@ -0,0 +1,218 @@
+/*
+ * Copyright 2018 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.pinpoint.common.util;
+
+import com.navercorp.pinpoint.common.buffer.AutomaticBuffer;
+import com.navercorp.pinpoint.common.buffer.Buffer;
+import com.navercorp.pinpoint.common.buffer.FixedBuffer;
+
+import java.util.Arrays;
+
+/**
+ * Log-linear bucketed histogram with constant memory. (HdrHistogram style)
+ * Each power of two range is divided into {@link #SUB_BUCKET_COUNT} linear sub buckets,
+ * so the relative error of a recorded value is bounded to 1/{@link #SUB_BUCKET_COUNT}.
+ * Values below {@link #SUB_BUCKET_COUNT} are recorded exactly.
+ * <p>
+ * Histograms with the same layout can be merged without losing accuracy, which is not possible with percentiles.
+ * not thread safe.
+ */
+public class LogLinearHistogram {
+
+    private static final byte VERSION = 0;
+
+    private static final int SUB_BUCKET_BITS = 4;
+    public static final int SUB_BUCKET_COUNT = 1 << SUB_BUCKET_BITS;
+
+    public static final long MAX_TRACKABLE_VALUE = Integer.MAX_VALUE;
+    public static final int BUCKET_COUNT = getBucketIndex(MAX_TRACKABLE_VALUE) + 1;
+
+    private final long[] counts;
+    private long totalCount;
+
+    public LogLinearHistogram() {
+        this.counts = new long[BUCKET_COUNT];
+    }
+
+    public static int getBucketIndex(long value) {
+        if (value < SUB_BUCKET_COUNT) {
+            if (value < 0) {
+                return 0;
+            }
+            return (int) value;
+        }
+        if (value > MAX_TRACKABLE_VALUE) {
+            value = MAX_TRACKABLE_VALUE;
+        }
+        final int exponent = 63 - Long.numberOfLeadingZeros(value);
+        final int shift = exponent - SUB_BUCKET_BITS;
+        // [SUB_BUCKET_COUNT, SUB_BUCKET_COUNT * 2)
+        final int subBucket = (int) (value >>> shift) - SUB_BUCKET_COUNT;
+        return ((shift + 1) << SUB_BUCKET_BITS) + subBucket;
+    }
+
+    public static long getLowestValue(int bucketIndex) {
+        if (bucketIndex < SUB_BUCKET_COUNT) {
+            return bucketIndex;
+        }
+        final int shift = (bucketIndex >>> SUB_BUCKET_BITS) - 1;
+        final int subBucket = bucketIndex & (SUB_BUCKET_COUNT - 1);
+        return ((long) (SUB_BUCKET_COUNT + subBucket)) << shift;
+    }
+
+    public static long getHighestValue(int bucketIndex) {
+        if (bucketIndex < SUB_BUCKET_COUNT) {
+            return bucketIndex;
+        }
+        final int shift = (bucketIndex >>> SUB_BUCKET_BITS) - 1;
+        return getLowestValue(bucketIndex) + (1L << shift) - 1;
+    }
+
+    public void recordValue(long value) {
+        addCount(getBucketIndex(value), 1);
+    }
+
+    public void addCount(int bucketIndex, long count) {
+        if (count <= 0) {
+            return;
+        }
+        counts[bucketIndex] += count;
+        totalCount += count;
+    }
+
+    public void add(LogLinearHistogram histogram) {
+        if (histogram == null) {
+            return;
+        }
+        final long[] otherCounts = histogram.counts;
+        for (int i = 0; i < otherCounts.length; i++) {
+            addCount(i, otherCounts[i]);
+        }
+    }
+
+    public long getCount(int bucketIndex) {
+        return counts[bucketIndex];
+    }
+
+    public long getTotalCount() {
+        return totalCount;
+    }
+
+    /**
+     * @param percentile 0 ~ 100
+     * @return highest value equivalent to the bucket of the percentile. 0 if empty.
+     */
+    public long getValueAtPercentile(double percentile) {
+        if (totalCount == 0) {
+            return 0;
+        }
+        final double requested = Math.min(Math.max(percentile, 0.0), 100.0);
+        long targetCount = (long) Math.ceil((requested / 100.0) * totalCount);
+        if (targetCount < 1) {
+            targetCount = 1;
+        }
+
+        long accumulated = 0;
+        for (int i = 0; i < counts.length; i++) {
+            accumulated += counts[i];
+            if (accumulated >= targetCount) {
+                return getHighestValue(i);
+            }
+        }
+        return getHighestValue(counts.length - 1);
+    }
+
+    /**
+     * sparse encoding. version, bucket count, (index delta, count)...
+     */
+    public byte[] encode() {
+        int bucketCount = 0;
+        for (long count : counts) {
+            if (count > 0) {
+                bucketCount++;
+            }
+        }
+
+        final Buffer buffer = new AutomaticBuffer(2 + (bucketCount * 3));
+        buffer.putByte(VERSION);
+        buffer.putVInt(bucketCount);
+        int lastIndex = 0;
+        for (int i = 0; i < counts.length; i++) {
+            final long count = counts[i];
+            if (count > 0) {
+                buffer.putVInt(i - lastIndex);
+                buffer.putVLong(count);
+                lastIndex = i;
+            }
+        }
+        return buffer.getBuffer();
+    }
+
+    public static LogLinearHistogram decode(byte[] bytes) {
+        if (bytes == null) {
+            throw new NullPointerException("bytes must not be null");
+        }
+        final Buffer buffer = new FixedBuffer(bytes);
+        final byte version = buffer.readByte();
+        if (version != VERSION) {
+            throw new IllegalArgumentException("Unknown version:" + version);
+        }
+
+        final LogLinearHistogram histogram = new LogLinearHistogram();
+        final int bucketCount = buffer.readVInt();
+        int index = 0;
+        for (int i = 0; i < bucketCount; i++) {
+            index += buffer.readVInt();
+            if (index < 0 || index >= BUCKET_COUNT) {
+                throw new IllegalArgumentException("invalid bucket index:" + index);
+            }
+            histogram.addCount(index, buffer.readVLong());
+        }
+        return histogram;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+
+        LogLinearHistogram that = (LogLinearHistogram) o;
+
+        if (totalCount != that.totalCount) return false;
+        return Arrays.equals(counts, that.counts);
+    }
+
+    @Override
+    public int hashCode() {
+        int result = Arrays.hashCode(counts);
+        result = 31 * result + (int) (totalCount ^ (totalCount >>> 32));
+        return result;
+    }
+
+    @Override
+    public String toString() {
+        final StringBuilder sb = new StringBuilder("LogLinearHistogram{");
+        sb.append("totalCount=").append(totalCount);
+        if (totalCount > 0) {
+            sb.append(", p50=").append(getValueAtPercentile(50));
+            sb.append(", p95=").append(getValueAtPercentile(95));
+            sb.append(", p99=").append(getValueAtPercentile(99));
+        }
+        sb.append('}');
+        return sb.toString();
+    }
+}
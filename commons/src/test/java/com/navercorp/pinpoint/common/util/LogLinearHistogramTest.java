@@ -0,0 +1,106 @@
+/*
+ * Copyright 2018 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.pinpoint.common.util;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+public class LogLinearHistogramTest {
+
+    @Test
+    public void bucketIndex() {
+        for (int i = 0; i < LogLinearHistogram.BUCKET_COUNT; i++) {
+            long lowestValue = LogLinearHistogram.getLowestValue(i);
+            long highestValue = LogLinearHistogram.getHighestValue(i);
+            Assert.assertEquals(i, LogLinearHistogram.getBucketIndex(lowestValue));
+            Assert.assertEquals(i, LogLinearHistogram.getBucketIndex(highestValue));
+            if (i + 1 < LogLinearHistogram.BUCKET_COUNT) {
+                Assert.assertEquals(highestValue + 1, LogLinearHistogram.getLowestValue(i + 1));
+            }
+        }
+        Assert.assertEquals(0, LogLinearHistogram.getBucketIndex(-1));
+        Assert.assertEquals(LogLinearHistogram.BUCKET_COUNT - 1, LogLinearHistogram.getBucketIndex(Long.MAX_VALUE));
+    }
+
+    @Test
+    public void percentile() {
+        LogLinearHistogram histogram = new LogLinearHistogram();
+        for (int i = 1; i <= 1000; i++) {
+            histogram.recordValue(i);
+        }
+        Assert.assertEquals(1000, histogram.getTotalCount());
+        assertRelativeError(500, histogram.getValueAtPercentile(50));
+        assertRelativeError(950, histogram.getValueAtPercentile(95));
+        assertRelativeError(990, histogram.getValueAtPercentile(99));
+        assertRelativeError(1000, histogram.getValueAtPercentile(100));
+    }
+
+    @Test
+    public void exactSmallValue() {
+        LogLinearHistogram histogram = new LogLinearHistogram();
+        histogram.recordValue(3);
+        histogram.recordValue(7);
+        Assert.assertEquals(3, histogram.getValueAtPercentile(50));
+        Assert.assertEquals(7, histogram.getValueAtPercentile(99));
+    }
+
+    @Test
+    public void empty() {
+        LogLinearHistogram histogram = new LogLinearHistogram();
+        Assert.assertEquals(0, histogram.getValueAtPercentile(99));
+
+        LogLinearHistogram decode = LogLinearHistogram.decode(histogram.encode());
+        Assert.assertEquals(histogram, decode);
+    }
+
+    @Test
+    public void encodeAndDecode() {
+        LogLinearHistogram histogram = new LogLinearHistogram();
+        histogram.recordValue(1);
+        histogram.recordValue(100);
+        histogram.recordValue(100);
+        histogram.recordValue(60000);
+
+        LogLinearHistogram decode = LogLinearHistogram.decode(histogram.encode());
+        Assert.assertEquals(histogram, decode);
+        Assert.assertEquals(4, decode.getTotalCount());
+    }
+
+    @Test
+    public void add() {
+        LogLinearHistogram histogram1 = new LogLinearHistogram();
+        LogLinearHistogram histogram2 = new LogLinearHistogram();
+        for (int i = 0; i < 90; i++) {
+            histogram1.recordValue(10);
+        }
+        for (int i = 0; i < 10; i++) {
+            histogram2.recordValue(5000);
+        }
+
+        LogLinearHistogram merged = new LogLinearHistogram();
+        merged.add(histogram1);
+        merged.add(histogram2);
+        Assert.assertEquals(100, merged.getTotalCount());
+        Assert.assertEquals(10, merged.getValueAtPercentile(90));
+        assertRelativeError(5000, merged.getValueAtPercentile(95));
+    }
+
+    private void assertRelativeError(long expected, long actual) {
+        double error = Math.abs(actual - expected) / (double) expected;
+        Assert.assertTrue("expected:" + expected + " actual:" + actual, error <= 1.0 / LogLinearHistogram.SUB_BUCKET_COUNT);
+    }
+}
@@ -16,10 +16,34 @@
 package com.navercorp.pinpoint.flink;
 
 import com.navercorp.pinpoint.collector.receiver.thrift.TCPReceiverBean;
+import com.navercorp.pinpoint.common.server.bo.stat.join.JoinActiveTraceBo;
+import com.navercorp.pinpoint.common.server.bo.stat.join.JoinAgentStatBo;
+import com.navercorp.pinpoint.common.server.bo.stat.join.JoinApplicationStatBo;
+import com.navercorp.pinpoint.common.server.bo.stat.join.JoinCpuLoadBo;
+import com.navercorp.pinpoint.common.server.bo.stat.join.JoinDataSourceBo;
+import com.navercorp.pinpoint.common.server.bo.stat.join.JoinDataSourceListBo;
+import com.navercorp.pinpoint.common.server.bo.stat.join.JoinDirectBufferBo;
+import com.navercorp.pinpoint.common.server.bo.stat.join.JoinFileDescriptorBo;
+import com.navercorp.pinpoint.common.server.bo.stat.join.JoinMemoryBo;
+import com.navercorp.pinpoint.common.server.bo.stat.join.JoinResponseTimeBo;
+import com.navercorp.pinpoint.common.server.bo.stat.join.JoinTransactionBo;
+import com.navercorp.pinpoint.common.util.LogLinearHistogram;
 import com.navercorp.pinpoint.flink.cluster.FlinkServerRegister;
 import com.navercorp.pinpoint.flink.config.FlinkConfiguration;
 import com.navercorp.pinpoint.flink.dao.hbase.*;
 import com.navercorp.pinpoint.flink.function.ApplicationStatBoWindowInterceptor;
+import com.navercorp.pinpoint.flink.function.accumulator.ActiveTraceAccumulator;
+import com.navercorp.pinpoint.flink.function.accumulator.ApplicationStatAccumulator;
+import com.navercorp.pinpoint.flink.function.accumulator.CpuLoadAccumulator;
+import com.navercorp.pinpoint.flink.function.accumulator.DataSourceAccumulator;
+import com.navercorp.pinpoint.flink.function.accumulator.DataSourceListAccumulator;
+import com.navercorp.pinpoint.flink.function.accumulator.DirectBufferAccumulator;
+import com.navercorp.pinpoint.flink.function.accumulator.DoubleFieldAccumulator;
+import com.navercorp.pinpoint.flink.function.accumulator.FileDescriptorAccumulator;
+import com.navercorp.pinpoint.flink.function.accumulator.LongFieldAccumulator;
+import com.navercorp.pinpoint.flink.function.accumulator.MemoryAccumulator;
+import com.navercorp.pinpoint.flink.function.accumulator.ResponseTimeAccumulator;
+import com.navercorp.pinpoint.flink.function.accumulator.TransactionAccumulator;
 import com.navercorp.pinpoint.flink.process.ApplicationCache;
 import com.navercorp.pinpoint.flink.process.TBaseFlatMapper;
 import com.navercorp.pinpoint.flink.process.TBaseFlatMapperInterceptor;
@@ -27,6 +51,7 @@ import com.navercorp.pinpoint.flink.receiver.AgentStatHandler;
 import com.navercorp.pinpoint.flink.receiver.TcpDispatchHandler;
 import com.navercorp.pinpoint.flink.receiver.TcpSourceFunction;
 import com.navercorp.pinpoint.flink.vo.RawData;
+import org.apache.flink.api.common.ExecutionConfig;
 import org.apache.flink.streaming.api.datastream.DataStreamSource;
 import org.apache.flink.streaming.api.environment.LocalStreamEnvironment;
 import org.apache.flink.streaming.api.environment.StreamExecutionEnvironment;
@@ -141,13 +166,45 @@ public class Bootstrap {
     }
 
     public StreamExecutionEnvironment createStreamExecutionEnvironment() {
+        final StreamExecutionEnvironment env;
         if (flinkConfiguration.isLocalforFlinkStreamExecutionEnvironment()) {
             LocalStreamEnvironment localEnvironment = StreamExecutionEnvironment.createLocalEnvironment();
             localEnvironment.setParallelism(1);
-            return localEnvironment;
+            env = localEnvironment;
         } else {
-            return StreamExecutionEnvironment.getExecutionEnvironment();
+            env = StreamExecutionEnvironment.getExecutionEnvironment();
         }
+        registerKryoType(env.getConfig());
+        return env;
+    }
+
+    private void registerKryoType(ExecutionConfig executionConfig) {
+        // registered classes are written as an id instead of the full class name
+        executionConfig.registerKryoType(JoinAgentStatBo.class);
+        executionConfig.registerKryoType(JoinApplicationStatBo.class);
+        executionConfig.registerKryoType(JoinCpuLoadBo.class);
+        executionConfig.registerKryoType(JoinMemoryBo.class);
+        executionConfig.registerKryoType(JoinTransactionBo.class);
+        executionConfig.registerKryoType(JoinActiveTraceBo.class);
+        executionConfig.registerKryoType(JoinResponseTimeBo.class);
+        executionConfig.registerKryoType(JoinDataSourceListBo.class);
+        executionConfig.registerKryoType(JoinDataSourceBo.class);
+        executionConfig.registerKryoType(JoinFileDescriptorBo.class);
+        executionConfig.registerKryoType(JoinDirectBufferBo.class);
+        executionConfig.registerKryoType(LogLinearHistogram.class);
+
+        executionConfig.registerKryoType(ApplicationStatAccumulator.class);
+        executionConfig.registerKryoType(CpuLoadAccumulator.class);
+        executionConfig.registerKryoType(MemoryAccumulator.class);
+        executionConfig.registerKryoType(TransactionAccumulator.class);
+        executionConfig.registerKryoType(ActiveTraceAccumulator.class);
+        executionConfig.registerKryoType(ResponseTimeAccumulator.class);
+        executionConfig.registerKryoType(DataSourceListAccumulator.class);
+        executionConfig.registerKryoType(DataSourceAccumulator.class);
+        executionConfig.registerKryoType(FileDescriptorAccumulator.class);
+        executionConfig.registerKryoType(DirectBufferAccumulator.class);
+        executionConfig.registerKryoType(LongFieldAccumulator.class);
+        executionConfig.registerKryoType(DoubleFieldAccumulator.class);
     }
 
     public void setSourceFunctionParallel(DataStreamSource rawData) {
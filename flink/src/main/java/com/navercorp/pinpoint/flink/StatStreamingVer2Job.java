@@ -21,6 +21,7 @@ package com.navercorp.pinpoint.flink;
 
 import com.navercorp.pinpoint.common.server.bo.stat.join.JoinStatBo;
 import com.navercorp.pinpoint.flink.dao.hbase.StatisticsDao;
+import com.navercorp.pinpoint.flink.function.ApplicationStatBoAggregateFunction;
 import com.navercorp.pinpoint.flink.function.ApplicationStatBoWindow;
 import com.navercorp.pinpoint.flink.function.Timestamp;
 import com.navercorp.pinpoint.flink.function.ApplicationStatBoFliter;
@@ -67,7 +68,7 @@ public class StatStreamingVer2Job implements Serializable {
             .keyBy(0)
             .window(TumblingEventTimeWindows.of(Time.milliseconds(ApplicationStatBoWindow.WINDOW_SIZE)))
             .allowedLateness(Time.milliseconds(ApplicationStatBoWindow.ALLOWED_LATENESS))
-            .apply(new ApplicationStatBoWindow());
+            .aggregate(new ApplicationStatBoAggregateFunction(), new ApplicationStatBoWindow());
         applicationStatAggregationData.writeUsingOutputFormat(statisticsDao);
 
         // 1-2. aggregate application stat data
@@ -0,0 +1,51 @@
+/*
+ * Copyright 2018 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.pinpoint.flink.function;
+
+import com.navercorp.pinpoint.common.server.bo.stat.join.JoinApplicationStatBo;
+import com.navercorp.pinpoint.common.server.bo.stat.join.JoinStatBo;
+import com.navercorp.pinpoint.flink.function.accumulator.ApplicationStatAccumulator;
+import org.apache.flink.api.common.functions.AggregateFunction;
+import org.apache.flink.api.java.tuple.Tuple3;
+
+/**
+ * Joins the application stats of a window as they arrive,
+ * so the window state holds one {@link ApplicationStatAccumulator} per application instead of every JoinStatBo.
+ */
+public class ApplicationStatBoAggregateFunction implements AggregateFunction<Tuple3<String, JoinStatBo, Long>, ApplicationStatAccumulator, JoinApplicationStatBo> {
+
+    @Override
+    public ApplicationStatAccumulator createAccumulator() {
+        return new ApplicationStatAccumulator();
+    }
+
+    @Override
+    public void add(Tuple3<String, JoinStatBo, Long> value, ApplicationStatAccumulator accumulator) {
+        accumulator.add((JoinApplicationStatBo) value.f1);
+    }
+
+    @Override
+    public JoinApplicationStatBo getResult(ApplicationStatAccumulator accumulator) {
+        return accumulator.build();
+    }
+
+    @Override
+    public ApplicationStatAccumulator merge(ApplicationStatAccumulator a, ApplicationStatAccumulator b) {
+        a.merge(b);
+        return a;
+    }
+}
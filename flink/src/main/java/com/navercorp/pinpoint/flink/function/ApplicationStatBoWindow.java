@@ -28,14 +28,14 @@ import org.apache.flink.util.Collector;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import java.util.ArrayList;
+import java.util.Collections;
 import java.util.Date;
 import java.util.List;
 
 /**
  * @author minwoo.jung
  */
-public class ApplicationStatBoWindow extends RichWindowFunction<Tuple3<String, JoinStatBo, Long>, Tuple3<String, JoinStatBo, Long>, Tuple, TimeWindow> {
+public class ApplicationStatBoWindow extends RichWindowFunction<JoinApplicationStatBo, Tuple3<String, JoinStatBo, Long>, Tuple, TimeWindow> {
     public static final int WINDOW_SIZE = 10000;
     public static final int ALLOWED_LATENESS = 45000;
 
@@ -50,11 +50,13 @@ public class ApplicationStatBoWindow extends RichWindowFunction<Tuple3<String, J
     }
 
     @Override
-    public void apply(Tuple tuple, TimeWindow window, Iterable<Tuple3<String, JoinStatBo, Long>> values, Collector<Tuple3<String, JoinStatBo, Long>> out) throws Exception {
+    public void apply(Tuple tuple, TimeWindow window, Iterable<JoinApplicationStatBo> values, Collector<Tuple3<String, JoinStatBo, Long>> out) throws Exception {
         String tupleKey = (String)tuple.getField(0);
-        applicationStatBoWindowInterceptor.before(values);
+        // values is already joined by ApplicationStatBoAggregateFunction
+        final JoinApplicationStatBo joinApplicationStatBo = values.iterator().next();
+        final List<Tuple3<String, JoinStatBo, Long>> joinedValues = Collections.singletonList(new Tuple3<>(tupleKey, joinApplicationStatBo, joinApplicationStatBo.getTimestamp()));
+        applicationStatBoWindowInterceptor.before(joinedValues);
         try {
-            JoinApplicationStatBo joinApplicationStatBo = join(values);
             long delayTime = new Date().getTime() - joinApplicationStatBo.getTimestamp();
             if (delayTime > 35000) {
                 if (logger.isDebugEnabled()) {
@@ -86,15 +88,4 @@ public class ApplicationStatBoWindow extends RichWindowFunction<Tuple3<String, J
             applicationStatBoWindowInterceptor.after();
         }
     }
-
-    private JoinApplicationStatBo join(Iterable<Tuple3<String, JoinStatBo, Long>> values) {
-        List<JoinApplicationStatBo> joinApplicaitonStatBoList = new ArrayList<JoinApplicationStatBo>();
-
-        for (Tuple3<String, JoinStatBo, Long> value : values) {
-            joinApplicaitonStatBoList.add((JoinApplicationStatBo) value.f1);
-        }
-
-        return JoinApplicationStatBo.joinApplicationStatBoByTimeSlice(joinApplicaitonStatBoList);
-
-    }
 }
\ No newline at end of file
@@ -0,0 +1,75 @@
+/*
+ * Copyright 2018 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.pinpoint.flink.function.accumulator;
+
+import com.navercorp.pinpoint.common.server.bo.stat.join.JoinActiveTraceBo;
+
+/**
+ * @see JoinActiveTraceBo#joinActiveTraceBoList
+ */
+public class ActiveTraceAccumulator implements JoinStatAccumulator<JoinActiveTraceBo, ActiveTraceAccumulator> {
+
+    private String id;
+    private int count;
+    private int histogramSchemaType;
+    private short version;
+    private final LongFieldAccumulator totalCount = new LongFieldAccumulator();
+
+    @Override
+    public void add(JoinActiveTraceBo joinActiveTraceBo) {
+        if (count == 0) {
+            this.id = joinActiveTraceBo.getId();
+            this.histogramSchemaType = joinActiveTraceBo.getHistogramSchemaType();
+            this.version = joinActiveTraceBo.getVersion();
+        }
+        this.count++;
+        this.totalCount.add(joinActiveTraceBo.getTotalCount(), joinActiveTraceBo.getMaxTotalCount(), joinActiveTraceBo.getMaxTotalCountAgentId(), joinActiveTraceBo.getMinTotalCount(), joinActiveTraceBo.getMinTotalCountAgentId());
+    }
+
+    @Override
+    public void merge(ActiveTraceAccumulator accumulator) {
+        if (accumulator.count == 0) {
+            return;
+        }
+        if (count == 0) {
+            this.id = accumulator.id;
+            this.histogramSchemaType = accumulator.histogramSchemaType;
+            this.version = accumulator.version;
+        }
+        this.count += accumulator.count;
+        this.totalCount.merge(accumulator.totalCount);
+    }
+
+    @Override
+    public JoinActiveTraceBo build(long timestamp) {
+        if (count == 0) {
+            return JoinActiveTraceBo.EMPTY_JOIN_ACTIVE_TRACE_BO;
+        }
+
+        final JoinActiveTraceBo newJoinActiveTraceBo = new JoinActiveTraceBo();
+        newJoinActiveTraceBo.setId(id);
+        newJoinActiveTraceBo.setTimestamp(timestamp);
+        newJoinActiveTraceBo.setHistogramSchemaType(histogramSchemaType);
+        newJoinActiveTraceBo.setVersion(version);
+        newJoinActiveTraceBo.setTotalCount((int) totalCount.getAvg(count));
+        newJoinActiveTraceBo.setMaxTotalCount((int) totalCount.getMax());
+        newJoinActiveTraceBo.setMaxTotalCountAgentId(totalCount.getMaxAgentId());
+        newJoinActiveTraceBo.setMinTotalCount((int) totalCount.getMin());
+        newJoinActiveTraceBo.setMinTotalCountAgentId(totalCount.getMinAgentId());
+        return newJoinActiveTraceBo;
+    }
+}
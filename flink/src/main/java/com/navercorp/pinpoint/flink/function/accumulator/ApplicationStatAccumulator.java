@@ -0,0 +1,146 @@
+/*
+ * Copyright 2018 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.pinpoint.flink.function.accumulator;
+
+import com.navercorp.pinpoint.common.server.bo.stat.join.JoinApplicationStatBo;
+import com.navercorp.pinpoint.common.server.bo.stat.join.JoinStatBo;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * Incremental version of {@link JoinApplicationStatBo#joinApplicationStatBoByTimeSlice(List)}.
+ */
+public class ApplicationStatAccumulator {
+
+    private String applicationId;
+
+    private final Map<Long, CpuLoadAccumulator> cpuLoadMap = new HashMap<>();
+    private final Map<Long, MemoryAccumulator> memoryMap = new HashMap<>();
+    private final Map<Long, TransactionAccumulator> transactionMap = new HashMap<>();
+    private final Map<Long, ActiveTraceAccumulator> activeTraceMap = new HashMap<>();
+    private final Map<Long, ResponseTimeAccumulator> responseTimeMap = new HashMap<>();
+    private final Map<Long, DataSourceListAccumulator> dataSourceListMap = new HashMap<>();
+    private final Map<Long, FileDescriptorAccumulator> fileDescriptorMap = new HashMap<>();
+    private final Map<Long, DirectBufferAccumulator> directBufferMap = new HashMap<>();
+
+    public void add(JoinApplicationStatBo joinApplicationStatBo) {
+        if (applicationId == null) {
+            this.applicationId = joinApplicationStatBo.getId();
+        }
+
+        add(cpuLoadMap, joinApplicationStatBo.getJoinCpuLoadBoList(), CpuLoadAccumulator::new);
+        add(memoryMap, joinApplicationStatBo.getJoinMemoryBoList(), MemoryAccumulator::new);
+        add(transactionMap, joinApplicationStatBo.getJoinTransactionBoList(), TransactionAccumulator::new);
+        add(activeTraceMap, joinApplicationStatBo.getJoinActiveTraceBoList(), ActiveTraceAccumulator::new);
+        add(responseTimeMap, joinApplicationStatBo.getJoinResponseTimeBoList(), ResponseTimeAccumulator::new);
+        add(dataSourceListMap, joinApplicationStatBo.getJoinDataSourceListBoList(), DataSourceListAccumulator::new);
+        add(fileDescriptorMap, joinApplicationStatBo.getJoinFileDescriptorBoList(), FileDescriptorAccumulator::new);
+        add(directBufferMap, joinApplicationStatBo.getJoinDirectBufferBoList(), DirectBufferAccumulator::new);
+    }
+
+    public void merge(ApplicationStatAccumulator accumulator) {
+        if (applicationId == null) {
+            this.applicationId = accumulator.applicationId;
+        }
+
+        merge(cpuLoadMap, accumulator.cpuLoadMap);
+        merge(memoryMap, accumulator.memoryMap);
+        merge(transactionMap, accumulator.transactionMap);
+        merge(activeTraceMap, accumulator.activeTraceMap);
+        merge(responseTimeMap, accumulator.responseTimeMap);
+        merge(dataSourceListMap, accumulator.dataSourceListMap);
+        merge(fileDescriptorMap, accumulator.fileDescriptorMap);
+        merge(directBufferMap, accumulator.directBufferMap);
+    }
+
+    public JoinApplicationStatBo build() {
+        if (applicationId == null) {
+            return JoinApplicationStatBo.EMPTY_JOIN_APPLICATION_STAT_BO;
+        }
+
+        final JoinApplicationStatBo newJoinApplicationStatBo = new JoinApplicationStatBo();
+        newJoinApplicationStatBo.setId(applicationId);
+        newJoinApplicationStatBo.setJoinCpuLoadBoList(build(cpuLoadMap));
+        newJoinApplicationStatBo.setJoinMemoryBoList(build(memoryMap));
+        newJoinApplicationStatBo.setJoinTransactionBoList(build(transactionMap));
+        newJoinApplicationStatBo.setJoinActiveTraceBoList(build(activeTraceMap));
+        newJoinApplicationStatBo.setJoinResponseTimeBoList(build(responseTimeMap));
+        newJoinApplicationStatBo.setJoinDataSourceListBoList(build(dataSourceListMap));
+        newJoinApplicationStatBo.setJoinFileDescriptorBoList(build(fileDescriptorMap));
+        newJoinApplicationStatBo.setJoinDirectBufferBoList(build(directBufferMap));
+        newJoinApplicationStatBo.setTimestamp(getMinTimestamp());
+        return newJoinApplicationStatBo;
+    }
+
+    private long getMinTimestamp() {
+        long minTimestamp = Long.MAX_VALUE;
+        minTimestamp = Math.min(minTimestamp, getMinTimestamp(cpuLoadMap));
+        minTimestamp = Math.min(minTimestamp, getMinTimestamp(memoryMap));
+        minTimestamp = Math.min(minTimestamp, getMinTimestamp(transactionMap));
+        minTimestamp = Math.min(minTimestamp, getMinTimestamp(activeTraceMap));
+        minTimestamp = Math.min(minTimestamp, getMinTimestamp(responseTimeMap));
+        minTimestamp = Math.min(minTimestamp, getMinTimestamp(dataSourceListMap));
+        minTimestamp = Math.min(minTimestamp, getMinTimestamp(fileDescriptorMap));
+        minTimestamp = Math.min(minTimestamp, getMinTimestamp(directBufferMap));
+        return minTimestamp;
+    }
+
+    private static long getMinTimestamp(Map<Long, ?> sliceMap) {
+        long minTimestamp = Long.MAX_VALUE;
+        for (Long timestamp : sliceMap.keySet()) {
+            if (timestamp < minTimestamp) {
+                minTimestamp = timestamp;
+            }
+        }
+        return minTimestamp;
+    }
+
+    private static <T extends JoinStatBo, A extends JoinStatAccumulator<T, A>> void add(Map<Long, A> sliceMap, List<T> joinStatBoList, Supplier<A> accumulatorFactory) {
+        for (T joinStatBo : joinStatBoList) {
+            final long shiftTimestamp = JoinApplicationStatBo.shiftTimestamp(joinStatBo.getTimestamp());
+            A accumulator = sliceMap.get(shiftTimestamp);
+            if (accumulator == null) {
+                accumulator = accumulatorFactory.get();
+                sliceMap.put(shiftTimestamp, accumulator);
+            }
+            accumulator.add(joinStatBo);
+        }
+    }
+
+    private static <T extends JoinStatBo, A extends JoinStatAccumulator<T, A>> void merge(Map<Long, A> sliceMap, Map<Long, A> otherSliceMap) {
+        for (Map.Entry<Long, A> entry : otherSliceMap.entrySet()) {
+            final A accumulator = sliceMap.get(entry.getKey());
+            if (accumulator == null) {
+                sliceMap.put(entry.getKey(), entry.getValue());
+            } else {
+                accumulator.merge(entry.getValue());
+            }
+        }
+    }
+
+    private static <T extends JoinStatBo, A extends JoinStatAccumulator<T, A>> List<T> build(Map<Long, A> sliceMap) {
+        final List<T> joinStatBoList = new ArrayList<>(sliceMap.size());
+        for (Map.Entry<Long, A> entry : sliceMap.entrySet()) {
+            joinStatBoList.add(entry.getValue().build(entry.getKey()));
+        }
+        return joinStatBoList;
+    }
+}
@@ -0,0 +1,75 @@
+/*
+ * Copyright 2018 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.pinpoint.flink.function.accumulator;
+
+import com.navercorp.pinpoint.common.server.bo.stat.join.JoinCpuLoadBo;
+
+/**
+ * @see JoinCpuLoadBo#joinCpuLoadBoList
+ */
+public class CpuLoadAccumulator implements JoinStatAccumulator<JoinCpuLoadBo, CpuLoadAccumulator> {
+
+    private String id;
+    private int count;
+    private final DoubleFieldAccumulator jvmCpuLoad = new DoubleFieldAccumulator();
+    private final DoubleFieldAccumulator systemCpuLoad = new DoubleFieldAccumulator();
+
+    @Override
+    public void add(JoinCpuLoadBo joinCpuLoadBo) {
+        if (count == 0) {
+            this.id = joinCpuLoadBo.getId();
+        }
+        this.count++;
+        this.jvmCpuLoad.add(joinCpuLoadBo.getJvmCpuLoad(), joinCpuLoadBo.getMaxJvmCpuLoad(), joinCpuLoadBo.getMaxJvmCpuAgentId(), joinCpuLoadBo.getMinJvmCpuLoad(), joinCpuLoadBo.getMinJvmCpuAgentId());
+        this.systemCpuLoad.add(joinCpuLoadBo.getSystemCpuLoad(), joinCpuLoadBo.getMaxSystemCpuLoad(), joinCpuLoadBo.getMaxSysCpuAgentId(), joinCpuLoadBo.getMinSystemCpuLoad(), joinCpuLoadBo.getMinSysCpuAgentId());
+    }
+
+    @Override
+    public void merge(CpuLoadAccumulator accumulator) {
+        if (accumulator.count == 0) {
+            return;
+        }
+        if (count == 0) {
+            this.id = accumulator.id;
+        }
+        this.count += accumulator.count;
+        this.jvmCpuLoad.merge(accumulator.jvmCpuLoad);
+        this.systemCpuLoad.merge(accumulator.systemCpuLoad);
+    }
+
+    @Override
+    public JoinCpuLoadBo build(long timestamp) {
+        if (count == 0) {
+            return JoinCpuLoadBo.EMPTY_JOIN_CPU_LOAD_BO;
+        }
+
+        final JoinCpuLoadBo newJoinCpuLoadBo = new JoinCpuLoadBo();
+        newJoinCpuLoadBo.setId(id);
+        newJoinCpuLoadBo.setTimestamp(timestamp);
+        newJoinCpuLoadBo.setJvmCpuLoad(jvmCpuLoad.getAvg(count));
+        newJoinCpuLoadBo.setMaxJvmCpuLoad(jvmCpuLoad.getMax());
+        newJoinCpuLoadBo.setMaxJvmCpuAgentId(jvmCpuLoad.getMaxAgentId());
+        newJoinCpuLoadBo.setMinJvmCpuLoad(jvmCpuLoad.getMin());
+        newJoinCpuLoadBo.setMinJvmCpuAgentId(jvmCpuLoad.getMinAgentId());
+        newJoinCpuLoadBo.setSystemCpuLoad(systemCpuLoad.getAvg(count));
+        newJoinCpuLoadBo.setMaxSystemCpuLoad(systemCpuLoad.getMax());
+        newJoinCpuLoadBo.setMaxSysCpuAgentId(systemCpuLoad.getMaxAgentId());
+        newJoinCpuLoadBo.setMinSystemCpuLoad(systemCpuLoad.getMin());
+        newJoinCpuLoadBo.setMinSysCpuAgentId(systemCpuLoad.getMinAgentId());
+        return newJoinCpuLoadBo;
+    }
+}
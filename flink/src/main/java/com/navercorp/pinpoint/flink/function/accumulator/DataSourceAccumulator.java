@@ -0,0 +1,67 @@
+/*
+ * Copyright 2018 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.pinpoint.flink.function.accumulator;
+
+import com.navercorp.pinpoint.common.server.bo.stat.join.JoinDataSourceBo;
+
+/**
+ * @see JoinDataSourceBo#joinDataSourceBoList
+ */
+public class DataSourceAccumulator {
+
+    private int count;
+    private short serviceTypeCode;
+    private String url;
+    private final LongFieldAccumulator activeConnectionSize = new LongFieldAccumulator();
+
+    public void add(JoinDataSourceBo joinDataSourceBo) {
+        if (count == 0) {
+            this.serviceTypeCode = joinDataSourceBo.getServiceTypeCode();
+            this.url = joinDataSourceBo.getUrl();
+        }
+        this.count++;
+        this.activeConnectionSize.add(joinDataSourceBo.getAvgActiveConnectionSize(), joinDataSourceBo.getMaxActiveConnectionSize(), joinDataSourceBo.getMaxActiveConnectionAgentId(), joinDataSourceBo.getMinActiveConnectionSize(), joinDataSourceBo.getMinActiveConnectionAgentId());
+    }
+
+    public void merge(DataSourceAccumulator accumulator) {
+        if (accumulator.count == 0) {
+            return;
+        }
+        if (count == 0) {
+            this.serviceTypeCode = accumulator.serviceTypeCode;
+            this.url = accumulator.url;
+        }
+        this.count += accumulator.count;
+        this.activeConnectionSize.merge(accumulator.activeConnectionSize);
+    }
+
+    public JoinDataSourceBo build() {
+        if (count == 0) {
+            return JoinDataSourceBo.EMPTY_JOIN_DATA_SOURCE_BO;
+        }
+
+        final JoinDataSourceBo newJoinDataSourceBo = new JoinDataSourceBo();
+        newJoinDataSourceBo.setServiceTypeCode(serviceTypeCode);
+        newJoinDataSourceBo.setUrl(url);
+        newJoinDataSourceBo.setAvgActiveConnectionSize((int) activeConnectionSize.getAvg(count));
+        newJoinDataSourceBo.setMinActiveConnectionSize((int) activeConnectionSize.getMin());
+        newJoinDataSourceBo.setMinActiveConnectionAgentId(activeConnectionSize.getMinAgentId());
+        newJoinDataSourceBo.setMaxActiveConnectionSize((int) activeConnectionSize.getMax());
+        newJoinDataSourceBo.setMaxActiveConnectionAgentId(activeConnectionSize.getMaxAgentId());
+        return newJoinDataSourceBo;
+    }
+}
@@ -0,0 +1,90 @@
+/*
+ * Copyright 2018 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.pinpoint.flink.function.accumulator;
+
+import com.navercorp.pinpoint.common.server.bo.stat.join.JoinDataSourceBo;
+import com.navercorp.pinpoint.common.server.bo.stat.join.JoinDataSourceListBo;
+import com.navercorp.pinpoint.common.server.bo.stat.join.JoinDataSourceListBo.DataSourceKey;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * @see JoinDataSourceListBo#joinDataSourceListBoList
+ */
+public class DataSourceListAccumulator implements JoinStatAccumulator<JoinDataSourceListBo, DataSourceListAccumulator> {
+
+    private String id;
+    private int count;
+    private final Map<DataSourceKey, DataSourceAccumulator> dataSourceMap = new HashMap<>();
+
+    @Override
+    public void add(JoinDataSourceListBo joinDataSourceListBo) {
+        if (count == 0) {
+            this.id = joinDataSourceListBo.getId();
+        }
+        this.count++;
+        for (JoinDataSourceBo joinDataSourceBo : joinDataSourceListBo.getJoinDataSourceBoList()) {
+            final DataSourceKey dataSourceKey = new DataSourceKey(joinDataSourceBo.getUrl(), joinDataSourceBo.getServiceTypeCode());
+            DataSourceAccumulator dataSourceAccumulator = dataSourceMap.get(dataSourceKey);
+            if (dataSourceAccumulator == null) {
+                dataSourceAccumulator = new DataSourceAccumulator();
+                dataSourceMap.put(dataSourceKey, dataSourceAccumulator);
+            }
+            dataSourceAccumulator.add(joinDataSourceBo);
+        }
+    }
+
+    @Override
+    public void merge(DataSourceListAccumulator accumulator) {
+        if (accumulator.count == 0) {
+            return;
+        }
+        if (count == 0) {
+            this.id = accumulator.id;
+        }
+        this.count += accumulator.count;
+        for (Map.Entry<DataSourceKey, DataSourceAccumulator> entry : accumulator.dataSourceMap.entrySet()) {
+            final DataSourceAccumulator dataSourceAccumulator = dataSourceMap.get(entry.getKey());
+            if (dataSourceAccumulator == null) {
+                dataSourceMap.put(entry.getKey(), entry.getValue());
+            } else {
+                dataSourceAccumulator.merge(entry.getValue());
+            }
+        }
+    }
+
+    @Override
+    public JoinDataSourceListBo build(long timestamp) {
+        if (count == 0) {
+            return JoinDataSourceListBo.EMPTY_JOIN_DATA_SOURCE_LIST_BO;
+        }
+
+        final List<JoinDataSourceBo> joinDataSourceBoList = new ArrayList<>(dataSourceMap.size());
+        for (DataSourceAccumulator dataSourceAccumulator : dataSourceMap.values()) {
+            joinDataSourceBoList.add(dataSourceAccumulator.build());
+        }
+
+        final JoinDataSourceListBo newJoinDataSourceListBo = new JoinDataSourceListBo();
+        newJoinDataSourceListBo.setId(id);
+        newJoinDataSourceListBo.setTimestamp(timestamp);
+        newJoinDataSourceListBo.setJoinDataSourceBoList(joinDataSourceBoList);
+        return newJoinDataSourceListBo;
+    }
+}
@@ -0,0 +1,91 @@
+/*
+ * Copyright 2018 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.pinpoint.flink.function.accumulator;
+
+import com.navercorp.pinpoint.common.server.bo.stat.join.JoinDirectBufferBo;
+
+/**
+ * @see JoinDirectBufferBo#joinDirectBufferBoList
+ */
+public class DirectBufferAccumulator implements JoinStatAccumulator<JoinDirectBufferBo, DirectBufferAccumulator> {
+
+    private String id;
+    private int count;
+    private final LongFieldAccumulator directCount = new LongFieldAccumulator();
+    private final LongFieldAccumulator directMemoryUsed = new LongFieldAccumulator();
+    private final LongFieldAccumulator mappedCount = new LongFieldAccumulator();
+    private final LongFieldAccumulator mappedMemoryUsed = new LongFieldAccumulator();
+
+    @Override
+    public void add(JoinDirectBufferBo joinDirectBufferBo) {
+        if (count == 0) {
+            this.id = joinDirectBufferBo.getId();
+        }
+        this.count++;
+        this.directCount.add(joinDirectBufferBo.getAvgDirectCount(), joinDirectBufferBo.getMaxDirectCount(), joinDirectBufferBo.getMaxDirectCountAgentId(), joinDirectBufferBo.getMinDirectCount(), joinDirectBufferBo.getMinDirectCountAgentId());
+        this.directMemoryUsed.add(joinDirectBufferBo.getAvgDirectMemoryUsed(), joinDirectBufferBo.getMaxDirectMemoryUsed(), joinDirectBufferBo.getMaxDirectMemoryUsedAgentId(), joinDirectBufferBo.getMinDirectMemoryUsed(), joinDirectBufferBo.getMinDirectMemoryUsedAgentId());
+        this.mappedCount.add(joinDirectBufferBo.getAvgMappedCount(), joinDirectBufferBo.getMaxMappedCount(), joinDirectBufferBo.getMaxMappedCountAgentId(), joinDirectBufferBo.getMinMappedCount(), joinDirectBufferBo.getMinMappedCountAgentId());
+        this.mappedMemoryUsed.add(joinDirectBufferBo.getAvgMappedMemoryUsed(), joinDirectBufferBo.getMaxMappedMemoryUsed(), joinDirectBufferBo.getMaxMappedMemoryUsedAgentId(), joinDirectBufferBo.getMinMappedMemoryUsed(), joinDirectBufferBo.getMinMappedMemoryUsedAgentId());
+    }
+
+    @Override
+    public void merge(DirectBufferAccumulator accumulator) {
+        if (accumulator.count == 0) {
+            return;
+        }
+        if (count == 0) {
+            this.id = accumulator.id;
+        }
+        this.count += accumulator.count;
+        this.directCount.merge(accumulator.directCount);
+        this.directMemoryUsed.merge(accumulator.directMemoryUsed);
+        this.mappedCount.merge(accumulator.mappedCount);
+        this.mappedMemoryUsed.merge(accumulator.mappedMemoryUsed);
+    }
+
+    @Override
+    public JoinDirectBufferBo build(long timestamp) {
+        if (count == 0) {
+            return JoinDirectBufferBo.EMPTY_JOIN_DIRECT_BUFFER_BO;
+        }
+
+        final JoinDirectBufferBo newJoinDirectBufferBo = new JoinDirectBufferBo();
+        newJoinDirectBufferBo.setId(id);
+        newJoinDirectBufferBo.setTimestamp(timestamp);
+        newJoinDirectBufferBo.setAvgDirectCount(directCount.getAvg(count));
+        newJoinDirectBufferBo.setMaxDirectCount(directCount.getMax());
+        newJoinDirectBufferBo.setMaxDirectCountAgentId(directCount.getMaxAgentId());
+        newJoinDirectBufferBo.setMinDirectCount(directCount.getMin());
+        newJoinDirectBufferBo.setMinDirectCountAgentId(directCount.getMinAgentId());
+        newJoinDirectBufferBo.setAvgDirectMemoryUsed(directMemoryUsed.getAvg(count));
+        newJoinDirectBufferBo.setMaxDirectMemoryUsed(directMemoryUsed.getMax());
+        newJoinDirectBufferBo.setMaxDirectMemoryUsedAgentId(directMemoryUsed.getMaxAgentId());
+        newJoinDirectBufferBo.setMinDirectMemoryUsed(directMemoryUsed.getMin());
+        newJoinDirectBufferBo.setMinDirectMemoryUsedAgentId(directMemoryUsed.getMinAgentId());
+        newJoinDirectBufferBo.setAvgMappedCount(mappedCount.getAvg(count));
+        newJoinDirectBufferBo.setMaxMappedCount(mappedCount.getMax());
+        newJoinDirectBufferBo.setMaxMappedCountAgentId(mappedCount.getMaxAgentId());
+        newJoinDirectBufferBo.setMinMappedCount(mappedCount.getMin());
+        newJoinDirectBufferBo.setMinMappedCountAgentId(mappedCount.getMinAgentId());
+        newJoinDirectBufferBo.setAvgMappedMemoryUsed(mappedMemoryUsed.getAvg(count));
+        newJoinDirectBufferBo.setMaxMappedMemoryUsed(mappedMemoryUsed.getMax());
+        newJoinDirectBufferBo.setMaxMappedMemoryUsedAgentId(mappedMemoryUsed.getMaxAgentId());
+        newJoinDirectBufferBo.setMinMappedMemoryUsed(mappedMemoryUsed.getMin());
+        newJoinDirectBufferBo.setMinMappedMemoryUsedAgentId(mappedMemoryUsed.getMinAgentId());
+        return newJoinDirectBufferBo;
+    }
+}
@@ -0,0 +1,67 @@
+/*
+ * Copyright 2018 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.pinpoint.flink.function.accumulator;
+
+import com.navercorp.pinpoint.common.server.bo.stat.join.JoinFileDescriptorBo;
+
+/**
+ * @see JoinFileDescriptorBo#joinFileDescriptorBoList
+ */
+public class FileDescriptorAccumulator implements JoinStatAccumulator<JoinFileDescriptorBo, FileDescriptorAccumulator> {
+
+    private String id;
+    private int count;
+    private final LongFieldAccumulator openFDCount = new LongFieldAccumulator();
+
+    @Override
+    public void add(JoinFileDescriptorBo joinFileDescriptorBo) {
+        if (count == 0) {
+            this.id = joinFileDescriptorBo.getId();
+        }
+        this.count++;
+        this.openFDCount.add(joinFileDescriptorBo.getAvgOpenFDCount(), joinFileDescriptorBo.getMaxOpenFDCount(), joinFileDescriptorBo.getMaxOpenFDCountAgentId(), joinFileDescriptorBo.getMinOpenFDCount(), joinFileDescriptorBo.getMinOpenFDCountAgentId());
+    }
+
+    @Override
+    public void merge(FileDescriptorAccumulator accumulator) {
+        if (accumulator.count == 0) {
+            return;
+        }
+        if (count == 0) {
+            this.id = accumulator.id;
+        }
+        this.count += accumulator.count;
+        this.openFDCount.merge(accumulator.openFDCount);
+    }
+
+    @Override
+    public JoinFileDescriptorBo build(long timestamp) {
+        if (count == 0) {
+            return JoinFileDescriptorBo.EMPTY_JOIN_FILE_DESCRIPTOR_BO;
+        }
+
+        final JoinFileDescriptorBo newJoinFileDescriptorBo = new JoinFileDescriptorBo();
+        newJoinFileDescriptorBo.setId(id);
+        newJoinFileDescriptorBo.setTimestamp(timestamp);
+        newJoinFileDescriptorBo.setAvgOpenFDCount(openFDCount.getAvg(count));
+        newJoinFileDescriptorBo.setMaxOpenFDCount(openFDCount.getMax());
+        newJoinFileDescriptorBo.setMaxOpenFDCountAgentId(openFDCount.getMaxAgentId());
+        newJoinFileDescriptorBo.setMinOpenFDCount(openFDCount.getMin());
+        newJoinFileDescriptorBo.setMinOpenFDCountAgentId(openFDCount.getMinAgentId());
+        return newJoinFileDescriptorBo;
+    }
+}
@@ -0,0 +1,33 @@
+/*
+ * Copyright 2018 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.pinpoint.flink.function.accumulator;
+
+import com.navercorp.pinpoint.common.server.bo.stat.join.JoinStatBo;
+
+/**
+ * Incremental version of the JoinXXXBo.joinXXXBoList() functions.
+ * Keeps only the running sum/min/max of a time slice instead of every JoinStatBo.
+ */
+public interface JoinStatAccumulator<T extends JoinStatBo, A extends JoinStatAccumulator<T, A>> {
+
+    void add(T joinStatBo);
+
+    void merge(A accumulator);
+
+    T build(long timestamp);
+
+}
@@ -0,0 +1,78 @@
+/*
+ * Copyright 2018 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.pinpoint.flink.function.accumulator;
+
+/**
+ * avg/min/max of a long field.
+ * min and max keep the first agent on a tie, same as the join functions of JoinStatBo.
+ */
+public class LongFieldAccumulator {
+
+    private boolean empty = true;
+    private long sum;
+    private long max;
+    private String maxAgentId;
+    private long min;
+    private String minAgentId;
+
+    public void add(long value, long max, String maxAgentId, long min, String minAgentId) {
+        this.sum += value;
+        if (empty) {
+            this.max = max;
+            this.maxAgentId = maxAgentId;
+            this.min = min;
+            this.minAgentId = minAgentId;
+            this.empty = false;
+            return;
+        }
+        if (max > this.max) {
+            this.max = max;
+            this.maxAgentId = maxAgentId;
+        }
+        if (min < this.min) {
+            this.min = min;
+            this.minAgentId = minAgentId;
+        }
+    }
+
+    public void merge(LongFieldAccumulator accumulator) {
+        if (accumulator.empty) {
+            return;
+        }
+        add(accumulator.sum, accumulator.max, accumulator.maxAgentId, accumulator.min, accumulator.minAgentId);
+    }
+
+    public long getAvg(int count) {
+        return sum / count;
+    }
+
+    public long getMax() {
+        return max;
+    }
+
+    public String getMaxAgentId() {
+        return maxAgentId;
+    }
+
+    public long getMin() {
+        return min;
+    }
+
+    public String getMinAgentId() {
+        return minAgentId;
+    }
+}
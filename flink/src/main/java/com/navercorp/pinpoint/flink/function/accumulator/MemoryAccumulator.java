@@ -0,0 +1,75 @@
+/*
+ * Copyright 2018 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.pinpoint.flink.function.accumulator;
+
+import com.navercorp.pinpoint.common.server.bo.stat.join.JoinMemoryBo;
+
+/**
+ * @see JoinMemoryBo#joinMemoryBoList
+ */
+public class MemoryAccumulator implements JoinStatAccumulator<JoinMemoryBo, MemoryAccumulator> {
+
+    private String id;
+    private int count;
+    private final LongFieldAccumulator heapUsed = new LongFieldAccumulator();
+    private final LongFieldAccumulator nonHeapUsed = new LongFieldAccumulator();
+
+    @Override
+    public void add(JoinMemoryBo joinMemoryBo) {
+        if (count == 0) {
+            this.id = joinMemoryBo.getId();
+        }
+        this.count++;
+        this.heapUsed.add(joinMemoryBo.getHeapUsed(), joinMemoryBo.getMaxHeapUsed(), joinMemoryBo.getMaxHeapAgentId(), joinMemoryBo.getMinHeapUsed(), joinMemoryBo.getMinHeapAgentId());
+        this.nonHeapUsed.add(joinMemoryBo.getNonHeapUsed(), joinMemoryBo.getMaxNonHeapUsed(), joinMemoryBo.getMaxNonHeapAgentId(), joinMemoryBo.getMinNonHeapUsed(), joinMemoryBo.getMinNonHeapAgentId());
+    }
+
+    @Override
+    public void merge(MemoryAccumulator accumulator) {
+        if (accumulator.count == 0) {
+            return;
+        }
+        if (count == 0) {
+            this.id = accumulator.id;
+        }
+        this.count += accumulator.count;
+        this.heapUsed.merge(accumulator.heapUsed);
+        this.nonHeapUsed.merge(accumulator.nonHeapUsed);
+    }
+
+    @Override
+    public JoinMemoryBo build(long timestamp) {
+        if (count == 0) {
+            return JoinMemoryBo.EMPTY_JOIN_MEMORY_BO;
+        }
+
+        final JoinMemoryBo newJoinMemoryBo = new JoinMemoryBo();
+        newJoinMemoryBo.setId(id);
+        newJoinMemoryBo.setTimestamp(timestamp);
+        newJoinMemoryBo.setHeapUsed(heapUsed.getAvg(count));
+        newJoinMemoryBo.setMaxHeapUsed(heapUsed.getMax());
+        newJoinMemoryBo.setMaxHeapAgentId(heapUsed.getMaxAgentId());
+        newJoinMemoryBo.setMinHeapUsed(heapUsed.getMin());
+        newJoinMemoryBo.setMinHeapAgentId(heapUsed.getMinAgentId());
+        newJoinMemoryBo.setNonHeapUsed(nonHeapUsed.getAvg(count));
+        newJoinMemoryBo.setMaxNonHeapUsed(nonHeapUsed.getMax());
+        newJoinMemoryBo.setMaxNonHeapAgentId(nonHeapUsed.getMaxAgentId());
+        newJoinMemoryBo.setMinNonHeapUsed(nonHeapUsed.getMin());
+        newJoinMemoryBo.setMinNonHeapAgentId(nonHeapUsed.getMinAgentId());
+        return newJoinMemoryBo;
+    }
+}
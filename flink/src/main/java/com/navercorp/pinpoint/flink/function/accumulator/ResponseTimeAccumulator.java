@@ -0,0 +1,82 @@
+/*
+ * Copyright 2018 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.pinpoint.flink.function.accumulator;
+
+import com.navercorp.pinpoint.common.server.bo.stat.join.JoinResponseTimeBo;
+import com.navercorp.pinpoint.common.util.LogLinearHistogram;
+
+/**
+ * @see JoinResponseTimeBo#joinResponseTimeBoList
+ */
+public class ResponseTimeAccumulator implements JoinStatAccumulator<JoinResponseTimeBo, ResponseTimeAccumulator> {
+
+    private String id;
+    private int count;
+    private final LongFieldAccumulator avg = new LongFieldAccumulator();
+    private LogLinearHistogram histogram;
+
+    @Override
+    public void add(JoinResponseTimeBo joinResponseTimeBo) {
+        if (count == 0) {
+            this.id = joinResponseTimeBo.getId();
+        }
+        this.count++;
+        this.avg.add(joinResponseTimeBo.getAvg(), joinResponseTimeBo.getMaxAvg(), joinResponseTimeBo.getMaxAvgAgentId(), joinResponseTimeBo.getMinAvg(), joinResponseTimeBo.getMinAvgAgentId());
+        addHistogram(joinResponseTimeBo.getHistogram());
+    }
+
+    @Override
+    public void merge(ResponseTimeAccumulator accumulator) {
+        if (accumulator.count == 0) {
+            return;
+        }
+        if (count == 0) {
+            this.id = accumulator.id;
+        }
+        this.count += accumulator.count;
+        this.avg.merge(accumulator.avg);
+        addHistogram(accumulator.histogram);
+    }
+
+    private void addHistogram(LogLinearHistogram histogram) {
+        if (histogram == null) {
+            return;
+        }
+        if (this.histogram == null) {
+            this.histogram = new LogLinearHistogram();
+        }
+        this.histogram.add(histogram);
+    }
+
+    @Override
+    public JoinResponseTimeBo build(long timestamp) {
+        if (count == 0) {
+            return JoinResponseTimeBo.EMPTY_JOIN_RESPONSE_TIME_BO;
+        }
+
+        final JoinResponseTimeBo newJoinResponseTimeBo = new JoinResponseTimeBo();
+        newJoinResponseTimeBo.setId(id);
+        newJoinResponseTimeBo.setTimestamp(timestamp);
+        newJoinResponseTimeBo.setAvg(avg.getAvg(count));
+        newJoinResponseTimeBo.setMaxAvg(avg.getMax());
+        newJoinResponseTimeBo.setMaxAvgAgentId(avg.getMaxAgentId());
+        newJoinResponseTimeBo.setMinAvg(avg.getMin());
+        newJoinResponseTimeBo.setMinAvgAgentId(avg.getMinAgentId());
+        newJoinResponseTimeBo.setHistogram(histogram);
+        return newJoinResponseTimeBo;
+    }
+}
@@ -0,0 +1,71 @@
+/*
+ * Copyright 2018 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.pinpoint.flink.function.accumulator;
+
+import com.navercorp.pinpoint.common.server.bo.stat.join.JoinTransactionBo;
+
+/**
+ * @see JoinTransactionBo#joinTransactionBoLIst
+ */
+public class TransactionAccumulator implements JoinStatAccumulator<JoinTransactionBo, TransactionAccumulator> {
+
+    private String id;
+    private int count;
+    private long collectInterval;
+    private final LongFieldAccumulator totalCount = new LongFieldAccumulator();
+
+    @Override
+    public void add(JoinTransactionBo joinTransactionBo) {
+        if (count == 0) {
+            this.id = joinTransactionBo.getId();
+            this.collectInterval = joinTransactionBo.getCollectInterval();
+        }
+        this.count++;
+        this.totalCount.add(joinTransactionBo.getTotalCount(), joinTransactionBo.getMaxTotalCount(), joinTransactionBo.getMaxTotalCountAgentId(), joinTransactionBo.getMinTotalCount(), joinTransactionBo.getMinTotalCountAgentId());
+    }
+
+    @Override
+    public void merge(TransactionAccumulator accumulator) {
+        if (accumulator.count == 0) {
+            return;
+        }
+        if (count == 0) {
+            this.id = accumulator.id;
+            this.collectInterval = accumulator.collectInterval;
+        }
+        this.count += accumulator.count;
+        this.totalCount.merge(accumulator.totalCount);
+    }
+
+    @Override
+    public JoinTransactionBo build(long timestamp) {
+        if (count == 0) {
+            return JoinTransactionBo.EMPTY_JOIN_TRANSACTION_BO;
+        }
+
+        final JoinTransactionBo newJoinTransactionBo = new JoinTransactionBo();
+        newJoinTransactionBo.setId(id);
+        newJoinTransactionBo.setTimestamp(timestamp);
+        newJoinTransactionBo.setCollectInterval(collectInterval);
+        newJoinTransactionBo.setTotalCount(totalCount.getAvg(count));
+        newJoinTransactionBo.setMaxTotalCount(totalCount.getMax());
+        newJoinTransactionBo.setMaxTotalCountAgentId(totalCount.getMaxAgentId());
+        newJoinTransactionBo.setMinTotalCount(totalCount.getMin());
+        newJoinTransactionBo.setMinTotalCountAgentId(totalCount.getMinAgentId());
+        return newJoinTransactionBo;
+    }
+}
@@ -16,6 +16,7 @@
 package com.navercorp.pinpoint.flink.mapper.thrift.stat;
 
 import com.navercorp.pinpoint.common.server.bo.stat.join.JoinResponseTimeBo;
+import com.navercorp.pinpoint.common.util.LogLinearHistogram;
 import com.navercorp.pinpoint.flink.mapper.thrift.ThriftBoMapper;
 import com.navercorp.pinpoint.thrift.dto.flink.TFAgentStat;
 import com.navercorp.pinpoint.thrift.dto.flink.TFResponseTime;
@@ -42,6 +43,9 @@ public class JoinResponseTimeBoMapper implements ThriftBoMapper<JoinResponseTime
         joinResponseTimeBo.setMinAvgAgentId(agentId);
         joinResponseTimeBo.setMaxAvg(avg);
         joinResponseTimeBo.setMaxAvgAgentId(agentId);
+        if (tFResponseTime.isSetHistogram()) {
+            joinResponseTimeBo.setHistogram(LogLinearHistogram.decode(tFResponseTime.getHistogram()));
+        }
 
         return joinResponseTimeBo;
     }
@@ -19,10 +19,17 @@ package com.navercorp.pinpoint.flink.receiver;
 import com.navercorp.pinpoint.collector.handler.SimpleHandler;
 import com.navercorp.pinpoint.flink.vo.RawData;
 import com.navercorp.pinpoint.io.request.ServerRequest;
+import com.navercorp.pinpoint.thrift.dto.flink.TFAgentStatBatch;
+import com.navercorp.pinpoint.thrift.dto.flink.TFAgentStatBatchBundle;
+import com.navercorp.pinpoint.thrift.io.AgentStatBatchBundleCodec;
 import org.apache.flink.streaming.api.functions.source.SourceFunction.SourceContext;
 import org.apache.thrift.TBase;
+import org.apache.thrift.TException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 
@@ -31,7 +38,10 @@ import java.util.Objects;
  */
 public class AgentStatHandler implements SimpleHandler {
 
+    private final Logger logger = LoggerFactory.getLogger(this.getClass());
+
     private final SourceContext sourceContext;
+    private final AgentStatBatchBundleCodec agentStatBatchBundleCodec = new AgentStatBatchBundleCodec();
 
     public AgentStatHandler(SourceContext sourceContext) {
         this.sourceContext = Objects.requireNonNull(sourceContext, "sourceContext must not be null");
@@ -45,7 +55,28 @@ public class AgentStatHandler implements SimpleHandler {
         final TBase<?, ?> tBase = (TBase<?, ?>) serverRequest.getData();
         final Map<String, String> metaInfo = new HashMap<>(serverRequest.getHeaderEntity().getEntityAll());
 
+        if (tBase instanceof TFAgentStatBatchBundle) {
+            handleBundle((TFAgentStatBatchBundle) tBase, metaInfo);
+            return;
+        }
+
         RawData rawData = new RawData(tBase, metaInfo);
         sourceContext.collect(rawData);
     }
+
+    private void handleBundle(TFAgentStatBatchBundle bundle, Map<String, String> metaInfo) {
+        final List<TFAgentStatBatch> agentStatBatchList;
+        try {
+            agentStatBatchList = agentStatBatchBundleCodec.decode(bundle);
+        } catch (TException e) {
+            logger.warn("can not decode agent stat batch bundle. count:{}, Caused:{}", bundle.getCount(), e.getMessage(), e);
+            return;
+        }
+
+        synchronized (sourceContext.getCheckpointLock()) {
+            for (TFAgentStatBatch agentStatBatch : agentStatBatchList) {
+                sourceContext.collect(new RawData(agentStatBatch, metaInfo));
+            }
+        }
+    }
 }
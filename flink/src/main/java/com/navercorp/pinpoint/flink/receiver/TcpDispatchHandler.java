@@ -32,8 +32,10 @@ public class TcpDispatchHandler implements DispatchHandler {
     private AgentStatHandler agentStatHandler;
 
     private SimpleHandler getSimpleHandler(Header header) {
-        if (header.getType() == FlinkTBaseLocator.AGENT_STAT_BATCH) {
-            return agentStatHandler;
+        switch (header.getType()) {
+            case FlinkTBaseLocator.AGENT_STAT_BATCH:
+            case FlinkTBaseLocator.AGENT_STAT_BATCH_BUNDLE:
+                return agentStatHandler;
         }
         throw new UnsupportedOperationException("unsupported header:" + header);
     }
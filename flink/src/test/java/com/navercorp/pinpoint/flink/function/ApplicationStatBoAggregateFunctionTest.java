@@ -0,0 +1,269 @@
+/*
+ * Copyright 2018 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.navercorp.pinpoint.flink.function;
+
+import com.navercorp.pinpoint.common.server.bo.stat.join.*;
+import com.navercorp.pinpoint.flink.function.accumulator.ApplicationStatAccumulator;
+import com.navercorp.pinpoint.flink.mapper.thrift.stat.JoinAgentStatBoMapper;
+import com.navercorp.pinpoint.flink.process.ApplicationCache;
+import com.navercorp.pinpoint.flink.process.DefaultTBaseFlatMapperInterceptor;
+import com.navercorp.pinpoint.flink.process.TBaseFlatMapper;
+import com.navercorp.pinpoint.flink.vo.RawData;
+import com.navercorp.pinpoint.thrift.dto.flink.TFAgentStat;
+import com.navercorp.pinpoint.thrift.dto.flink.TFAgentStatBatch;
+import com.navercorp.pinpoint.thrift.dto.flink.TFCpuLoad;
+import com.navercorp.pinpoint.thrift.dto.flink.TFFileDescriptor;
+import com.navercorp.pinpoint.thrift.dto.flink.TFTransaction;
+import org.apache.flink.api.common.functions.util.ListCollector;
+import org.apache.flink.api.java.tuple.Tuple3;
+import org.junit.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class ApplicationStatBoAggregateFunctionTest {
+
+    private static final String APPLICATION_ID = "testApplication";
+    private static final long START_TIMESTAMP = 1498462545000L;
+
+    private final Logger logger = LoggerFactory.getLogger(this.getClass());
+
+    @Test
+    public void aggregateTest() {
+        List<JoinApplicationStatBo> joinApplicationStatBoList = createJoinApplicationStatBoList(50, 12, new Random(1));
+
+        ApplicationStatBoAggregateFunction function = new ApplicationStatBoAggregateFunction();
+        ApplicationStatAccumulator accumulator = function.createAccumulator();
+        for (JoinApplicationStatBo joinApplicationStatBo : joinApplicationStatBoList) {
+            function.add(new Tuple3<>(APPLICATION_ID, joinApplicationStatBo, joinApplicationStatBo.getTimestamp()), accumulator);
+        }
+
+        JoinApplicationStatBo expected = JoinApplicationStatBo.joinApplicationStatBoByTimeSlice(joinApplicationStatBoList);
+        assertJoinApplicationStatBo(expected, function.getResult(accumulator));
+    }
+
+    @Test
+    public void mergeTest() {
+        List<JoinApplicationStatBo> joinApplicationStatBoList = createJoinApplicationStatBoList(20, 12, new Random(2));
+
+        ApplicationStatBoAggregateFunction function = new ApplicationStatBoAggregateFunction();
+        ApplicationStatAccumulator accumulator1 = function.createAccumulator();
+        ApplicationStatAccumulator accumulator2 = function.createAccumulator();
+        final int half = joinApplicationStatBoList.size() / 2;
+        for (int i = 0; i < joinApplicationStatBoList.size(); i++) {
+            JoinApplicationStatBo joinApplicationStatBo = joinApplicationStatBoList.get(i);
+            ApplicationStatAccumulator accumulator = i < half ? accumulator1 : accumulator2;
+            function.add(new Tuple3<>(APPLICATION_ID, joinApplicationStatBo, joinApplicationStatBo.getTimestamp()), accumulator);
+        }
+
+        ApplicationStatAccumulator merged = function.merge(accumulator1, accumulator2);
+
+        JoinApplicationStatBo expected = JoinApplicationStatBo.joinApplicationStatBoByTimeSlice(joinApplicationStatBoList);
+        assertJoinApplicationStatBo(expected, function.getResult(merged));
+    }
+
+    @Test
+    public void emptyAccumulatorTest() {
+        ApplicationStatBoAggregateFunction function = new ApplicationStatBoAggregateFunction();
+        assertEquals(JoinApplicationStatBo.EMPTY_JOIN_APPLICATION_STAT_BO, function.getResult(function.createAccumulator()));
+    }
+
+    @Test
+    public void throughputTest() throws Exception {
+        final int agentCount = 2000;
+        final int statCount = 6;
+
+        ApplicationCache applicationCache = mock(ApplicationCache.class);
+        when(applicationCache.findApplicationId(any(ApplicationCache.ApplicationKey.class))).thenReturn(APPLICATION_ID);
+        TBaseFlatMapper mapper = new TBaseFlatMapper(new JoinAgentStatBoMapper(), applicationCache, new DefaultTBaseFlatMapperInterceptor());
+        ApplicationStatBoFliter filter = new ApplicationStatBoFliter();
+        ApplicationStatBoAggregateFunction function = new ApplicationStatBoAggregateFunction();
+
+        List<RawData> rawDataList = new ArrayList<>(agentCount);
+        Random random = new Random(3);
+        for (int i = 0; i < agentCount; i++) {
+            TFAgentStatBatch tFAgentStatBatch = createTFAgentStatBatch("agent" + i, statCount, random);
+            rawDataList.add(new RawData(tFAgentStatBatch, Collections.emptyMap()));
+        }
+
+        final long startTime = System.nanoTime();
+        ApplicationStatAccumulator accumulator = function.createAccumulator();
+        List<Tuple3<String, JoinStatBo, Long>> dataList = new ArrayList<>();
+        ListCollector<Tuple3<String, JoinStatBo, Long>> collector = new ListCollector<>(dataList);
+        for (RawData rawData : rawDataList) {
+            mapper.flatMap(rawData, collector);
+            for (Tuple3<String, JoinStatBo, Long> data : dataList) {
+                if (filter.filter(data)) {
+                    function.add(data, accumulator);
+                }
+            }
+            dataList.clear();
+        }
+        JoinApplicationStatBo result = function.getResult(accumulator);
+        final long elapsedNanos = System.nanoTime() - startTime;
+
+        final long recordCount = (long) agentCount * statCount;
+        logger.info("aggregated {} agent stat records in {}ms ({} records/sec)", recordCount, elapsedNanos / 1000000, recordCount * 1000000000L / Math.max(elapsedNanos, 1));
+
+        assertEquals(APPLICATION_ID, result.getId());
+        assertEquals(6, result.getJoinCpuLoadBoList().size());
+        assertEquals(6, result.getJoinTransactionBoList().size());
+        assertEquals(6, result.getJoinFileDescriptorBoList().size());
+    }
+
+    private TFAgentStatBatch createTFAgentStatBatch(String agentId, int statCount, Random random) {
+        final List<TFAgentStat> tFAgentStatList = new ArrayList<>(statCount);
+        for (int i = 0; i < statCount; i++) {
+            final TFAgentStat tFAgentStat = new TFAgentStat();
+            tFAgentStat.setAgentId(agentId);
+            tFAgentStat.setTimestamp(START_TIMESTAMP + (i * 5000L));
+            tFAgentStat.setCollectInterval(5000);
+
+            final TFCpuLoad tFCpuLoad = new TFCpuLoad();
+            tFCpuLoad.setJvmCpuLoad(random.nextInt(100));
+            tFCpuLoad.setSystemCpuLoad(random.nextInt(100));
+            tFAgentStat.setCpuLoad(tFCpuLoad);
+
+            final TFTransaction tFTransaction = new TFTransaction();
+            tFTransaction.setSampledNewCount(random.nextInt(100));
+            tFTransaction.setSampledContinuationCount(random.nextInt(100));
+            tFTransaction.setUnsampledNewCount(random.nextInt(100));
+            tFTransaction.setUnsampledContinuationCount(random.nextInt(100));
+            tFAgentStat.setTransaction(tFTransaction);
+
+            final TFFileDescriptor tFFileDescriptor = new TFFileDescriptor();
+            tFFileDescriptor.setOpenFileDescriptorCount(random.nextInt(1000));
+            tFAgentStat.setFileDescriptor(tFFileDescriptor);
+
+            tFAgentStatList.add(tFAgentStat);
+        }
+
+        final TFAgentStatBatch tFAgentStatBatch = new TFAgentStatBatch();
+        tFAgentStatBatch.setAgentId(agentId);
+        tFAgentStatBatch.setStartTimestamp(START_TIMESTAMP - 100000);
+        tFAgentStatBatch.setAgentStats(tFAgentStatList);
+        return tFAgentStatBatch;
+    }
+
+    private List<JoinApplicationStatBo> createJoinApplicationStatBoList(int agentCount, int statCount, Random random) {
+        List<JoinApplicationStatBo> joinApplicationStatBoList = new ArrayList<>(agentCount);
+        for (int i = 0; i < agentCount; i++) {
+            final String agentId = "agent" + i;
+            List<JoinCpuLoadBo> joinCpuLoadBoList = new ArrayList<>();
+            List<JoinMemoryBo> joinMemoryBoList = new ArrayList<>();
+            List<JoinTransactionBo> joinTransactionBoList = new ArrayList<>();
+            List<JoinResponseTimeBo> joinResponseTimeBoList = new ArrayList<>();
+            List<JoinDataSourceListBo> joinDataSourceListBoList = new ArrayList<>();
+            List<JoinFileDescriptorBo> joinFileDescriptorBoList = new ArrayList<>();
+            List<JoinDirectBufferBo> joinDirectBufferBoList = new ArrayList<>();
+
+            for (int j = 0; j < statCount; j++) {
+                // agents report on different offsets, several stats fall into the same time slice
+                final long timestamp = START_TIMESTAMP + (j * 5000L) + (i * 100L);
+                // integral values keep double sums exact regardless of the order they are added in
+                final double jvmCpuLoad = random.nextInt(100);
+                final double systemCpuLoad = random.nextInt(100);
+                joinCpuLoadBoList.add(new JoinCpuLoadBo(agentId, jvmCpuLoad, jvmCpuLoad, agentId, jvmCpuLoad, agentId, systemCpuLoad, systemCpuLoad, agentId, systemCpuLoad, agentId, timestamp));
+
+                final long heapUsed = random.nextInt(10000);
+                final long nonHeapUsed = random.nextInt(10000);
+                joinMemoryBoList.add(new JoinMemoryBo(agentId, timestamp, heapUsed, heapUsed, heapUsed, agentId, agentId, nonHeapUsed, nonHeapUsed, nonHeapUsed, agentId, agentId));
+
+                final long totalCount = random.nextInt(1000);
+                joinTransactionBoList.add(new JoinTransactionBo(agentId, 5000, totalCount, totalCount, agentId, totalCount, agentId, timestamp));
+
+                final long avg = random.nextInt(3000);
+                joinResponseTimeBoList.add(new JoinResponseTimeBo(agentId, timestamp, avg, avg, agentId, avg, agentId));
+
+                List<JoinDataSourceBo> joinDataSourceBoList = new ArrayList<>();
+                for (int k = 0; k < 3; k++) {
+                    final int activeConnectionSize = random.nextInt(30);
+                    joinDataSourceBoList.add(new JoinDataSourceBo((short) 1000, "jdbc:mysql://localhost:3306/db" + k, activeConnectionSize, activeConnectionSize, agentId, activeConnectionSize, agentId));
+                }
+                joinDataSourceListBoList.add(new JoinDataSourceListBo(agentId, joinDataSourceBoList, timestamp));
+
+                final long openFDCount = random.nextInt(500);
+                joinFileDescriptorBoList.add(new JoinFileDescriptorBo(agentId, openFDCount, openFDCount, agentId, openFDCount, agentId, timestamp));
+
+                final long directCount = random.nextInt(100);
+                final long directMemoryUsed = random.nextInt(100000);
+                final long mappedCount = random.nextInt(100);
+                final long mappedMemoryUsed = random.nextInt(100000);
+                joinDirectBufferBoList.add(new JoinDirectBufferBo(agentId, directCount, directCount, agentId, directCount, agentId
+                        , directMemoryUsed, directMemoryUsed, agentId, directMemoryUsed, agentId
+                        , mappedCount, mappedCount, agentId, mappedCount, agentId
+                        , mappedMemoryUsed, mappedMemoryUsed, agentId, mappedMemoryUsed, agentId
+                        , timestamp));
+            }
+
+            JoinApplicationStatBo joinApplicationStatBo = new JoinApplicationStatBo();
+            joinApplicationStatBo.setId(APPLICATION_ID);
+            joinApplicationStatBo.setTimestamp(START_TIMESTAMP);
+            joinApplicationStatBo.setJoinCpuLoadBoList(joinCpuLoadBoList);
+            joinApplicationStatBo.setJoinMemoryBoList(joinMemoryBoList);
+            joinApplicationStatBo.setJoinTransactionBoList(joinTransactionBoList);
+            joinApplicationStatBo.setJoinResponseTimeBoList(joinResponseTimeBoList);
+            joinApplicationStatBo.setJoinDataSourceListBoList(joinDataSourceListBoList);
+            joinApplicationStatBo.setJoinFileDescriptorBoList(joinFileDescriptorBoList);
+            joinApplicationStatBo.setJoinDirectBufferBoList(joinDirectBufferBoList);
+            joinApplicationStatBoList.add(joinApplicationStatBo);
+        }
+        return joinApplicationStatBoList;
+    }
+
+    private void assertJoinApplicationStatBo(JoinApplicationStatBo expected, JoinApplicationStatBo actual) {
+        assertEquals(expected.getId(), actual.getId());
+        assertEquals(expected.getTimestamp(), actual.getTimestamp());
+        assertEquals(sort(expected.getJoinCpuLoadBoList()), sort(actual.getJoinCpuLoadBoList()));
+        assertEquals(sort(expected.getJoinMemoryBoList()), sort(actual.getJoinMemoryBoList()));
+        assertEquals(sort(expected.getJoinTransactionBoList()), sort(actual.getJoinTransactionBoList()));
+        assertEquals(sort(expected.getJoinResponseTimeBoList()), sort(actual.getJoinResponseTimeBoList()));
+        assertEquals(sort(expected.getJoinFileDescriptorBoList()), sort(actual.getJoinFileDescriptorBoList()));
+        assertEquals(sort(expected.getJoinDirectBufferBoList()), sort(actual.getJoinDirectBufferBoList()));
+
+        List<JoinDataSourceListBo> expectedDataSourceList = sort(expected.getJoinDataSourceListBoList());
+        List<JoinDataSourceListBo> actualDataSourceList = sort(actual.getJoinDataSourceListBoList());
+        assertEquals(expectedDataSourceList.size(), actualDataSourceList.size());
+        for (int i = 0; i < expectedDataSourceList.size(); i++) {
+            JoinDataSourceListBo expectedDataSourceListBo = expectedDataSourceList.get(i);
+            JoinDataSourceListBo actualDataSourceListBo = actualDataSourceList.get(i);
+            assertEquals(expectedDataSourceListBo.getTimestamp(), actualDataSourceListBo.getTimestamp());
+            assertEquals(sortByUrl(expectedDataSourceListBo.getJoinDataSourceBoList()), sortByUrl(actualDataSourceListBo.getJoinDataSourceBoList()));
+        }
+    }
+
+    private <T extends JoinStatBo> List<T> sort(List<T> joinStatBoList) {
+        List<T> sortedList = new ArrayList<>(joinStatBoList);
+        sortedList.sort(Comparator.comparingLong(JoinStatBo::getTimestamp));
+        return sortedList;
+    }
+
+    private List<JoinDataSourceBo> sortByUrl(List<JoinDataSourceBo> joinDataSourceBoList) {
+        List<JoinDataSourceBo> sortedList = new ArrayList<>(joinDataSourceBoList);
+        sortedList.sort(Comparator.comparing(JoinDataSourceBo::getUrl));
+        return sortedList;
+    }
+}
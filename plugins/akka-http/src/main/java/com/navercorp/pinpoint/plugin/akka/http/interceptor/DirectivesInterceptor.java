@@ -25,7 +25,6 @@ import com.navercorp.pinpoint.bootstrap.context.AsyncContext;
 import com.navercorp.pinpoint.bootstrap.context.Header;
 import com.navercorp.pinpoint.bootstrap.context.MethodDescriptor;
 import com.navercorp.pinpoint.bootstrap.context.SpanEventRecorder;
-import com.navercorp.pinpoint.bootstrap.context.SpanId;
 import com.navercorp.pinpoint.bootstrap.context.SpanRecorder;
 import com.navercorp.pinpoint.bootstrap.context.Trace;
 import com.navercorp.pinpoint.bootstrap.context.TraceContext;
@@ -34,8 +33,12 @@ import com.navercorp.pinpoint.bootstrap.interceptor.AroundInterceptor;
 import com.navercorp.pinpoint.bootstrap.logging.PLogger;
 import com.navercorp.pinpoint.bootstrap.logging.PLoggerFactory;
 import com.navercorp.pinpoint.bootstrap.plugin.proxy.ProxyHttpHeaderRecorder;
+import com.navercorp.pinpoint.bootstrap.plugin.request.CompactTraceHeader;
+import com.navercorp.pinpoint.bootstrap.plugin.request.DefaultTraceHeaderReader;
 import com.navercorp.pinpoint.bootstrap.plugin.request.RequestAdaptor;
-import com.navercorp.pinpoint.bootstrap.sampler.SamplingFlagUtils;
+import com.navercorp.pinpoint.bootstrap.plugin.request.TraceHeader;
+import com.navercorp.pinpoint.bootstrap.plugin.request.TraceHeaderReader;
+import com.navercorp.pinpoint.bootstrap.plugin.request.TraceHeaderState;
 import com.navercorp.pinpoint.bootstrap.util.NetworkUtils;
 import com.navercorp.pinpoint.bootstrap.util.NumberUtils;
 import com.navercorp.pinpoint.common.trace.ServiceType;
@@ -58,6 +61,7 @@ public class DirectivesInterceptor implements AroundInterceptor {
     private final ProxyHttpHeaderRecorder<HttpRequest> proxyHttpHeaderRecorder;
 
     private final RequestAdaptor<HttpRequest> requestAdaptor;
+    private final TraceHeaderReader<HttpRequest> traceHeaderReader;
     private final Filter<String> excludeHttpMethodFilter;
     private final Filter<String> excludeUrlFilter;
 
@@ -70,6 +74,7 @@ public class DirectivesInterceptor implements AroundInterceptor {
         this.excludeUrlFilter = config.getExcludeUrlFilter();
         this.excludeHttpMethodFilter = config.getExcludeHttpMethodFilter();
         this.requestAdaptor = new HttpRequestAdaptor(config);
+        this.traceHeaderReader = new DefaultTraceHeaderReader<HttpRequest>(requestAdaptor);
         this.proxyHttpHeaderRecorder = new ProxyHttpHeaderRecorder<HttpRequest>(traceContext.getProfilerConfig().isProxyHttpHeaderEnable(), requestAdaptor);
 
         traceContext.cacheApi(AKKA_HTTP_SERVER_METHOD_DESCRIPTOR);
@@ -145,8 +150,9 @@ public class DirectivesInterceptor implements AroundInterceptor {
             return null;
         }
 
-        final boolean sampling = samplingEnable(request);
-        if (!sampling) {
+        // reads the compact trace header as well as the legacy headers
+        final TraceHeader traceHeader = traceHeaderReader.read(request);
+        if (traceHeader.getState() == TraceHeaderState.DISABLE) {
             final Trace trace = traceContext.disableSampling();
             if (isDebug) {
                 logger.debug("Remote call sampling flag found. skip trace requestUrl:{}", requestUri);
@@ -154,12 +160,12 @@ public class DirectivesInterceptor implements AroundInterceptor {
             return trace;
         }
 
-        final TraceId traceId = populateTraceIdFromRequest(request);
+        final TraceId traceId = populateTraceId(traceHeader);
         if (traceId != null) {
             final Trace trace = traceContext.continueAsyncTraceObject(traceId);
             if (trace.canSampled()) {
                 final SpanRecorder recorder = trace.getSpanRecorder();
-                recordRootSpan(recorder, request);
+                recordRootSpan(recorder, request, traceHeader);
                 if (isDebug) {
                     logger.debug("TraceID exist. continue trace. traceId:{}, requestUrl:{}", traceId, requestUri);
                 }
@@ -173,7 +179,7 @@ public class DirectivesInterceptor implements AroundInterceptor {
             final Trace trace = traceContext.newAsyncTraceObject();
             if (trace.canSampled()) {
                 final SpanRecorder recorder = trace.getSpanRecorder();
-                recordRootSpan(recorder, request);
+                recordRootSpan(recorder, request, traceHeader);
             } else {
                 if (isDebug) {
                     logger.debug("Sampling is disabled");
@@ -183,22 +189,9 @@ public class DirectivesInterceptor implements AroundInterceptor {
         }
     }
 
-    private boolean samplingEnable(HttpRequest request) {
-        // optional value
-        final String samplingFlag = requestAdaptor.getHeader(request, Header.HTTP_SAMPLED.toString());
-        if (isDebug) {
-            logger.debug("SamplingFlag={}", samplingFlag);
-        }
-        return SamplingFlagUtils.isSamplingFlag(samplingFlag);
-    }
-
-    private TraceId populateTraceIdFromRequest(final HttpRequest request) {
-        final String transactionId = requestAdaptor.getHeader(request, Header.HTTP_TRACE_ID.toString());
-        if (transactionId != null) {
-            final long parentSpanID = NumberUtils.parseLong(requestAdaptor.getHeader(request, Header.HTTP_PARENT_SPAN_ID.toString()), SpanId.NULL);
-            final long spanID = NumberUtils.parseLong(requestAdaptor.getHeader(request, Header.HTTP_SPAN_ID.toString()), SpanId.NULL);
-            final short flags = NumberUtils.parseShort(requestAdaptor.getHeader(request, Header.HTTP_FLAGS.toString()), (short) 0);
-            final TraceId id = traceContext.createTraceId(transactionId, parentSpanID, spanID, flags);
+    private TraceId populateTraceId(final TraceHeader traceHeader) {
+        if (traceHeader.getState() == TraceHeaderState.CONTINUE) {
+            final TraceId id = traceContext.createTraceId(traceHeader.getTransactionId(), traceHeader.getParentSpanId(), traceHeader.getSpanId(), traceHeader.getFlags());
             if (isDebug) {
                 logger.debug("TraceID exist. continue trace. {}", id);
             }
@@ -208,7 +201,7 @@ public class DirectivesInterceptor implements AroundInterceptor {
         }
     }
 
-    private void recordRootSpan(final SpanRecorder recorder, final HttpRequest request) {
+    private void recordRootSpan(final SpanRecorder recorder, final HttpRequest request, final TraceHeader traceHeader) {
         recorder.recordServiceType(AkkaHttpConstants.AKKA_HTTP_SERVER);
         final String requestURL = requestAdaptor.getRpcName(request);
         if (StringUtils.hasLength(requestURL)) {
@@ -223,27 +216,40 @@ public class DirectivesInterceptor implements AroundInterceptor {
         this.proxyHttpHeaderRecorder.record(recorder, request);
 
         if (!recorder.isRoot()) {
-            recordParentInfo(recorder, request);
+            recordParentInfo(recorder, request, traceHeader);
         }
         recorder.recordApi(AKKA_HTTP_SERVER_METHOD_DESCRIPTOR);
     }
 
-    private void recordParentInfo(SpanRecorder recorder, final HttpRequest request) {
+    private void recordParentInfo(SpanRecorder recorder, final HttpRequest request, final TraceHeader traceHeader) {
+        final CompactTraceHeader compactTraceHeader = CompactTraceHeader.from(traceHeader);
+        if (compactTraceHeader != null) {
+            recordAcceptorHost(recorder, request, compactTraceHeader.getHost());
+            recorder.recordParentApplication(compactTraceHeader.getParentApplicationName(), compactTraceHeader.getParentApplicationType());
+            return;
+        }
+
         String parentApplicationName = requestAdaptor.getHeader(request, Header.HTTP_PARENT_APPLICATION_NAME.toString());
         if (parentApplicationName != null) {
-            final String host = requestAdaptor.getAcceptorHost(request);
-            if (host != null) {
-                recorder.recordAcceptorHost(host);
-            } else {
-                String requestURL = String.valueOf(request.getUri());
-                recorder.recordAcceptorHost(NetworkUtils.getHostFromURL(requestURL));
-            }
+            recordAcceptorHost(recorder, request, null);
             final String type = requestAdaptor.getHeader(request, Header.HTTP_PARENT_APPLICATION_TYPE.toString());
             final short parentApplicationType = NumberUtils.parseShort(type, ServiceType.UNDEFINED.getCode());
             recorder.recordParentApplication(parentApplicationName, parentApplicationType);
         }
     }
 
+    private void recordAcceptorHost(SpanRecorder recorder, final HttpRequest request, String host) {
+        if (host == null) {
+            host = requestAdaptor.getAcceptorHost(request);
+        }
+        if (host != null) {
+            recorder.recordAcceptorHost(host);
+        } else {
+            String requestURL = String.valueOf(request.getUri());
+            recorder.recordAcceptorHost(NetworkUtils.getHostFromURL(requestURL));
+        }
+    }
+
     @Override
     public void after(Object target, Object[] args, Object result, Throwable throwable) {
         if (isDebug) {
@@ -29,6 +29,7 @@ import com.navercorp.pinpoint.bootstrap.logging.PLoggerFactory;
 import com.navercorp.pinpoint.bootstrap.plugin.request.RequestAdaptor;
 import com.navercorp.pinpoint.bootstrap.plugin.request.RequestTraceReader;
 import com.navercorp.pinpoint.bootstrap.plugin.request.ServerRequestRecorder;
+import com.navercorp.pinpoint.bootstrap.plugin.request.TraceHeader;
 import com.navercorp.pinpoint.plugin.grpc.GrpcConstants;
 import com.navercorp.pinpoint.plugin.grpc.descriptor.GrpcServerCallMethodDescritpro;
 
@@ -90,13 +91,14 @@ public class ServerStreamCreatedInterceptor implements AroundInterceptor {
     }
 
     private Trace createTrace(final GrpcServerStreamRequest request) {
-        Trace trace = requestTraceReader.read(request);
+        TraceHeader traceHeader = requestTraceReader.readTraceHeader(request);
+        Trace trace = requestTraceReader.read(request, traceHeader);
         if (trace.canSampled()) {
             SpanRecorder spanRecorder = trace.getSpanRecorder();
             spanRecorder.recordServiceType(GrpcConstants.SERVER_SERVICE_TYPE);
             spanRecorder.recordApi(GRPC_SERVER_CALL_METHOD_DESCRIPTOR);
 
-            this.serverRequestRecorder.record(spanRecorder, request);
+            this.serverRequestRecorder.record(spanRecorder, request, traceHeader);
         }
 
         return trace;
@@ -24,6 +24,7 @@ public class KafkaConfig {
 
     static final String CONSUMER_ENABLE = "profiler.kafka.consumer.enable";
     static final String CONSUMER_ENTRY_POINT = "profiler.kafka.consumer.entryPoint";
+    static final String CONSUMER_BATCH_ENABLE = "profiler.kafka.consumer.batch.enable";
 
     static final String SPRING_CONSUMER_ENABLE = "profiler.springkafka.consumer.enable";
 
@@ -31,6 +32,7 @@ public class KafkaConfig {
     private final boolean consumerEnable;
     private final boolean springConsumerEnable;
     private final String kafkaEntryPoint;
+    private final boolean consumerBatchEnable;
 
     public KafkaConfig(ProfilerConfig config) {
         /*
@@ -40,6 +42,7 @@ public class KafkaConfig {
         this.consumerEnable = config.readBoolean(CONSUMER_ENABLE, false);
         this.springConsumerEnable = config.readBoolean(SPRING_CONSUMER_ENABLE, false);
         this.kafkaEntryPoint = config.readString(CONSUMER_ENTRY_POINT, "");
+        this.consumerBatchEnable = config.readBoolean(CONSUMER_BATCH_ENABLE, false);
     }
 
     public boolean isProducerEnable() {
@@ -58,6 +61,10 @@ public class KafkaConfig {
         return kafkaEntryPoint;
     }
 
+    public boolean isConsumerBatchEnable() {
+        return consumerBatchEnable;
+    }
+
     @Override
     public String toString() {
         return "KafkaConfig{" +
@@ -65,6 +72,7 @@ public class KafkaConfig {
                 ", consumerEnable=" + consumerEnable +
                 ", springConsumerEnable=" + springConsumerEnable +
                 ", kafkaEntryPoint='" + kafkaEntryPoint + '\'' +
+                ", consumerBatchEnable=" + consumerBatchEnable +
                 '}';
     }
 }
@@ -39,6 +39,7 @@ import static com.navercorp.pinpoint.common.trace.ServiceTypeProperty.RECORD_STA
 public class KafkaConstants {
 
     public static final String SCOPE = "KAFKA_SCOPE";
+    public static final String CONSUMER_POLL_SCOPE = "KAFKA_CONSUMER_POLL_SCOPE";
 
     public static final ServiceType KAFKA_CLIENT = ServiceTypeFactory.of(8660, "KAFKA_CLIENT", "KAFKA_CLIENT", QUEUE, RECORD_STATISTICS);
     public static final ServiceType KAFKA_CLIENT_INTERNAL = ServiceTypeFactory.of(8661, "KAFKA_CLIENT_INTERNAL", "KAFKA_CLIENT");
@@ -47,6 +48,7 @@ public class KafkaConstants {
     public static final AnnotationKey KAFKA_PARTITION_ANNOTATION_KEY = AnnotationKeyFactory.of(141, "kafka.partition", VIEW_IN_RECORD_SET);
     public static final AnnotationKey KAFKA_OFFSET_ANNOTATION_KEY = AnnotationKeyFactory.of(142, "kafka.offset", VIEW_IN_RECORD_SET);
     public static final AnnotationKey KAFKA_BATCH_ANNOTATION_KEY = AnnotationKeyFactory.of(143, "kafka.batch", VIEW_IN_RECORD_SET);
+    public static final AnnotationKey KAFKA_PARTITION_STAT_ANNOTATION_KEY = AnnotationKeyFactory.of(144, "kafka.partition.stat", VIEW_IN_RECORD_SET);
 
 
 
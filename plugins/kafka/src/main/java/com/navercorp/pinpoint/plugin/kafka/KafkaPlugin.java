@@ -108,8 +108,9 @@ public class KafkaPlugin implements ProfilerPlugin, TransformTemplateAware {
                     "org.apache.kafka.common.serialization.Deserializer", "org.apache.kafka.common.serialization.Deserializer");
             constructor.addInterceptor(ConsumerConstructorInterceptor.class);
 
+            final KafkaConfig config = new KafkaConfig(instrumentor.getProfilerConfig());
             InstrumentMethod pollMethod = target.getDeclaredMethod("poll", "long");
-            pollMethod.addInterceptor(ConsumerPollInterceptor.class);
+            pollMethod.addScopedInterceptor(ConsumerPollInterceptor.class, va(config.isConsumerBatchEnable()), KafkaConstants.CONSUMER_POLL_SCOPE, ExecutionPolicy.BOUNDARY);
 
             target.addField(RemoteAddressFieldAccessor.class);
 
@@ -135,10 +136,11 @@ public class KafkaPlugin implements ProfilerPlugin, TransformTemplateAware {
         public byte[] doInTransform(Instrumentor instrumentor, ClassLoader classLoader, String className, Class<?> classBeingRedefined, ProtectionDomain protectionDomain, byte[] classfileBuffer) throws InstrumentException {
             final InstrumentClass target = instrumentor.getInstrumentClass(classLoader, className, classfileBuffer);
 
+            final KafkaConfig config = new KafkaConfig(instrumentor.getProfilerConfig());
             MethodFilter methodFilter = MethodFilters.chain(MethodFilters.name("onMessage"), MethodFilters.argAt(0, "org.apache.kafka.clients.consumer.ConsumerRecord"));
             List<InstrumentMethod> declaredMethods = target.getDeclaredMethods(methodFilter);
             for (InstrumentMethod declaredMethod : declaredMethods) {
-                declaredMethod.addScopedInterceptor(ConsumerRecordEntryPointInterceptor.class, va(0), KafkaConstants.SCOPE, ExecutionPolicy.BOUNDARY);
+                declaredMethod.addScopedInterceptor(ConsumerRecordEntryPointInterceptor.class, va(0, config.isConsumerBatchEnable()), KafkaConstants.SCOPE, ExecutionPolicy.BOUNDARY);
             }
 
             return target.toBytecode();
@@ -207,7 +209,7 @@ public class KafkaPlugin implements ProfilerPlugin, TransformTemplateAware {
                         String parameterType = parameterTypes[i];
 
                         if (KafkaConstants.CONSUMER_RECORD_CLASS_NAME.equals(parameterType)) {
-                            method.addInterceptor(ConsumerRecordEntryPointInterceptor.class, va(i));
+                            method.addInterceptor(ConsumerRecordEntryPointInterceptor.class, va(i, config.isConsumerBatchEnable()));
                             break;
                         } else if (KafkaConstants.CONSUMER_MULTI_RECORD_CLASS_NAME.equals(parameterType)) {
                             method.addInterceptor(ConsumerMultiRecordEntryPointInterceptor.class, va(i));
@@ -129,6 +129,7 @@ public class ConsumerMultiRecordEntryPointInterceptor extends ConsumerRecordEntr
                 recorder.recordRpcName(createRpcName(topic, size));
                 recorder.recordAttribute(KafkaConstants.KAFKA_TOPIC_ANNOTATION_KEY, topic);
                 recorder.recordAttribute(KafkaConstants.KAFKA_BATCH_ANNOTATION_KEY, size);
+                recorder.recordAttribute(KafkaConstants.KAFKA_PARTITION_STAT_ANNOTATION_KEY, consumerRecordsDesc.getPartitionStatString(System.currentTimeMillis()));
             }
 
             private String createRpcName(String topic, int count) {
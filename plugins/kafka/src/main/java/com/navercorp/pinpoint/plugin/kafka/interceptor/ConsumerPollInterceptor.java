@@ -17,8 +17,11 @@
 package com.navercorp.pinpoint.plugin.kafka.interceptor;
 
 import com.navercorp.pinpoint.bootstrap.context.MethodDescriptor;
+import com.navercorp.pinpoint.bootstrap.context.SpanRecorder;
+import com.navercorp.pinpoint.bootstrap.context.Trace;
 import com.navercorp.pinpoint.bootstrap.context.TraceContext;
 import com.navercorp.pinpoint.bootstrap.interceptor.AroundInterceptor;
+import com.navercorp.pinpoint.bootstrap.interceptor.scope.InterceptorScope;
 import com.navercorp.pinpoint.bootstrap.logging.PLogger;
 import com.navercorp.pinpoint.bootstrap.logging.PLoggerFactory;
 import com.navercorp.pinpoint.common.util.StringUtils;
@@ -38,10 +41,18 @@ public class ConsumerPollInterceptor implements AroundInterceptor {
 
     private final TraceContext traceContext;
     private final MethodDescriptor descriptor;
+    private final InterceptorScope scope;
+    private final boolean batchEnable;
 
-    public ConsumerPollInterceptor(TraceContext traceContext, MethodDescriptor descriptor) {
+    public ConsumerPollInterceptor(TraceContext traceContext, MethodDescriptor descriptor, InterceptorScope scope) {
+        this(traceContext, descriptor, scope, false);
+    }
+
+    public ConsumerPollInterceptor(TraceContext traceContext, MethodDescriptor descriptor, InterceptorScope scope, boolean batchEnable) {
         this.traceContext = traceContext;
         this.descriptor = descriptor;
+        this.scope = scope;
+        this.batchEnable = batchEnable;
     }
 
     @Override
@@ -49,6 +60,11 @@ public class ConsumerPollInterceptor implements AroundInterceptor {
         if (isDebug) {
             logger.beforeInterceptor(target, args);
         }
+
+        if (batchEnable) {
+            // the batch span is only created once records are returned, but it covers the whole poll
+            scope.getCurrentInvocation().setAttachment(System.currentTimeMillis());
+        }
     }
 
     @Override
@@ -74,7 +90,64 @@ public class ConsumerPollInterceptor implements AroundInterceptor {
                     ((RemoteAddressFieldAccessor) consumerRecord)._$PINPOINT$_setRemoteAddress(remoteAddress);
                 }
             }
+
+            if (batchEnable) {
+                traceBatch((ConsumerRecords) result, scope.getCurrentInvocation().getAttachment());
+            }
+        }
+    }
+
+    private void traceBatch(ConsumerRecords consumerRecords, Object pollStartTime) {
+        if (consumerRecords.isEmpty()) {
+            return;
+        }
+        if (traceContext.currentRawTraceObject() != null) {
+            // poll() is already traced by an outer entry point
+            return;
+        }
+
+        final Trace trace = traceContext.newTraceObject();
+        if (trace == null) {
+            return;
+        }
+        if (!trace.canSampled()) {
+            traceContext.removeTraceObject();
+            return;
+        }
+
+        try {
+            final ConsumerRecordsDesc consumerRecordsDesc = ConsumerRecordsDesc.create(consumerRecords);
+            if (consumerRecordsDesc != null) {
+                recordBatchSpan(trace.getSpanRecorder(), consumerRecordsDesc, pollStartTime);
+            }
+        } catch (Throwable th) {
+            if (logger.isWarnEnabled()) {
+                logger.warn("failed to record batch span. Caused:{}", th.getMessage(), th);
+            }
+        } finally {
+            traceContext.removeTraceObject();
+            trace.close();
+        }
+    }
+
+    private void recordBatchSpan(SpanRecorder recorder, ConsumerRecordsDesc consumerRecordsDesc, Object pollStartTime) {
+        if (pollStartTime instanceof Long) {
+            recorder.recordStartTime((Long) pollStartTime);
         }
+        recorder.recordServiceType(KafkaConstants.KAFKA_CLIENT);
+        recorder.recordApi(descriptor);
+
+        final String remoteAddress = consumerRecordsDesc.getRemoteAddress();
+        recorder.recordEndPoint(remoteAddress);
+        recorder.recordRemoteAddress(remoteAddress);
+        recorder.recordAcceptorHost(remoteAddress);
+
+        final int size = consumerRecordsDesc.size();
+        final String topic = consumerRecordsDesc.getTopicString();
+        recorder.recordRpcName("kafka://topic=" + topic + "?batch=" + size);
+        recorder.recordAttribute(KafkaConstants.KAFKA_TOPIC_ANNOTATION_KEY, topic);
+        recorder.recordAttribute(KafkaConstants.KAFKA_BATCH_ANNOTATION_KEY, size);
+        recorder.recordAttribute(KafkaConstants.KAFKA_PARTITION_STAT_ANNOTATION_KEY, consumerRecordsDesc.getPartitionStatString(System.currentTimeMillis()));
     }
 
 }
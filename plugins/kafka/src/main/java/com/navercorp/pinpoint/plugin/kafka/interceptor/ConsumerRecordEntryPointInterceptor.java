@@ -46,10 +46,18 @@ public class ConsumerRecordEntryPointInterceptor extends SpanRecursiveAroundInte
 
     protected final int parameterIndex;
 
+    // batch mode. the poll span covers the records, so only records with trace headers are traced
+    private final boolean continueTraceOnly;
+
     public ConsumerRecordEntryPointInterceptor(TraceContext traceContext, MethodDescriptor methodDescriptor, int parameterIndex) {
+        this(traceContext, methodDescriptor, parameterIndex, false);
+    }
+
+    public ConsumerRecordEntryPointInterceptor(TraceContext traceContext, MethodDescriptor methodDescriptor, int parameterIndex, boolean continueTraceOnly) {
         super(traceContext, methodDescriptor, SCOPE_NAME);
         traceContext.cacheApi(ENTRY_POINT_METHOD_DESCRIPTOR);
         this.parameterIndex = parameterIndex;
+        this.continueTraceOnly = continueTraceOnly;
     }
 
     @Override
@@ -97,7 +105,7 @@ public class ConsumerRecordEntryPointInterceptor extends SpanRecursiveAroundInte
     private Trace createTrace(ConsumerRecord consumerRecord) {
         TraceFactoryProvider.TraceFactory createTrace = tracyFactoryReference.get();
         if (createTrace == null) {
-            createTrace = TraceFactoryProvider.get(consumerRecord);
+            createTrace = TraceFactoryProvider.get(consumerRecord, continueTraceOnly);
             tracyFactoryReference.compareAndSet(null, createTrace);
         }
         return createTrace.createTrace(traceContext, consumerRecord);
@@ -105,17 +113,20 @@ public class ConsumerRecordEntryPointInterceptor extends SpanRecursiveAroundInte
 
     private static class TraceFactoryProvider {
 
-        private static TraceFactory get(Object object) {
+        private static TraceFactory get(Object object, boolean continueTraceOnly) {
             try {
                 final Class<?> aClass = object.getClass();
                 final Method method = aClass.getMethod("headers");
 
                 if (method != null) {
-                    return new SupportContinueTraceFactory();
+                    return new SupportContinueTraceFactory(continueTraceOnly);
                 }
             } catch (NoSuchMethodException e) {
                 // ignore
             }
+            if (continueTraceOnly) {
+                return new DisabledTraceFactory();
+            }
             return new DefaultTraceFactory();
         }
 
@@ -201,8 +212,22 @@ public class ConsumerRecordEntryPointInterceptor extends SpanRecursiveAroundInte
 
         }
 
+        private static class DisabledTraceFactory implements TraceFactory {
+
+            @Override
+            public Trace createTrace(TraceContext traceContext, ConsumerRecord consumerRecord) {
+                return null;
+            }
+        }
+
         private static class SupportContinueTraceFactory extends DefaultTraceFactory {
 
+            private final boolean continueTraceOnly;
+
+            private SupportContinueTraceFactory(boolean continueTraceOnly) {
+                this.continueTraceOnly = continueTraceOnly;
+            }
+
             @Override
             public Trace createTrace(TraceContext traceContext, ConsumerRecord consumerRecord) {
                 org.apache.kafka.common.header.Headers headers = consumerRecord.headers();
@@ -223,6 +248,8 @@ public class ConsumerRecordEntryPointInterceptor extends SpanRecursiveAroundInte
                 TraceId traceId = populateTraceIdFromHeaders(traceContext, headers);
                 if (traceId != null) {
                     return createContinueTrace(traceContext, consumerRecord, traceId);
+                } else if (continueTraceOnly) {
+                    return null;
                 } else {
                     return createTrace0(traceContext, consumerRecord);
                 }
@@ -21,8 +21,10 @@ import com.navercorp.pinpoint.plugin.kafka.KafkaConstants;
 import com.navercorp.pinpoint.plugin.kafka.field.accessor.RemoteAddressFieldAccessor;
 import org.apache.kafka.clients.consumer.ConsumerRecord;
 
+import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.Iterator;
+import java.util.List;
 import java.util.Set;
 
 /**
@@ -33,11 +35,13 @@ public class ConsumerRecordsDesc {
     private final Set<String> topicSet;
     private final String remoteAddress;
     private final int size;
+    private final List<PartitionStat> partitionStatList;
 
-    private ConsumerRecordsDesc(Set<String> topicSet, String remoteAddress, int size) {
+    private ConsumerRecordsDesc(Set<String> topicSet, String remoteAddress, int size, List<PartitionStat> partitionStatList) {
         this.topicSet = topicSet;
         this.remoteAddress = remoteAddress;
         this.size = size;
+        this.partitionStatList = partitionStatList;
     }
 
     String getTopicString() {
@@ -65,6 +69,26 @@ public class ConsumerRecordsDesc {
         return size;
     }
 
+    /**
+     * ex) topica-0(count=120, lag=35), topica-1(count=80, lag=12)
+     * lag is the time in milliseconds since the oldest record of the partition was created.
+     */
+    String getPartitionStatString(long currentTimeMillis) {
+        final StringBuilder sb = new StringBuilder(32);
+        for (PartitionStat partitionStat : partitionStatList) {
+            if (sb.length() > 0) {
+                sb.append(", ");
+            }
+            sb.append(partitionStat.topic).append('-').append(partitionStat.partition);
+            sb.append("(count=").append(partitionStat.count);
+            if (partitionStat.oldestTimestamp >= 0) {
+                sb.append(", lag=").append(Math.max(0, currentTimeMillis - partitionStat.oldestTimestamp));
+            }
+            sb.append(')');
+        }
+        return sb.toString();
+    }
+
 
     static ConsumerRecordsDesc create(Object object) {
         if (object instanceof Iterable) {
@@ -76,9 +100,11 @@ public class ConsumerRecordsDesc {
 
     static ConsumerRecordsDesc create(Iterator consumerRecordIterator) {
         Set<String> topicSet = new HashSet<String>(1);
+        List<PartitionStat> partitionStatList = new ArrayList<PartitionStat>(1);
         String remoteAddress = null;
         int count = 0;
 
+        PartitionStat current = null;
         while (consumerRecordIterator.hasNext()) {
             Object consumerRecord = consumerRecordIterator.next();
             if (consumerRecord instanceof ConsumerRecord) {
@@ -89,16 +115,34 @@ public class ConsumerRecordsDesc {
                 String topic = ((ConsumerRecord) consumerRecord).topic();
                 topicSet.add(topic);
                 count++;
+
+                // records of ConsumerRecords are grouped by partition
+                int partition = ((ConsumerRecord) consumerRecord).partition();
+                if (current == null || !current.isSamePartition(topic, partition)) {
+                    current = findPartitionStat(partitionStatList, topic, partition);
+                }
+                current.add(((ConsumerRecord) consumerRecord).timestamp());
             }
         }
 
         if (count > 0) {
-            return new ConsumerRecordsDesc(topicSet, remoteAddress, count);
+            return new ConsumerRecordsDesc(topicSet, remoteAddress, count, partitionStatList);
         }
 
         return null;
     }
 
+    private static PartitionStat findPartitionStat(List<PartitionStat> partitionStatList, String topic, int partition) {
+        for (PartitionStat partitionStat : partitionStatList) {
+            if (partitionStat.isSamePartition(topic, partition)) {
+                return partitionStat;
+            }
+        }
+        PartitionStat partitionStat = new PartitionStat(topic, partition);
+        partitionStatList.add(partitionStat);
+        return partitionStat;
+    }
+
     private static String getRemoteAddress(Object remoteAddressFieldAccessor) {
         if (remoteAddressFieldAccessor instanceof RemoteAddressFieldAccessor) {
             return ((RemoteAddressFieldAccessor) remoteAddressFieldAccessor)._$PINPOINT$_getRemoteAddress();
@@ -107,4 +151,32 @@ public class ConsumerRecordsDesc {
         return null;
     }
 
+    private static class PartitionStat {
+
+        private final String topic;
+        private final int partition;
+        private int count;
+        private long oldestTimestamp = -1;
+
+        private PartitionStat(String topic, int partition) {
+            this.topic = topic;
+            this.partition = partition;
+        }
+
+        private boolean isSamePartition(String topic, int partition) {
+            return this.partition == partition && this.topic.equals(topic);
+        }
+
+        private void add(long timestamp) {
+            count++;
+            if (timestamp < 0) {
+                // ConsumerRecord.NO_TIMESTAMP
+                return;
+            }
+            if (oldestTimestamp < 0 || timestamp < oldestTimestamp) {
+                oldestTimestamp = timestamp;
+            }
+        }
+    }
+
 }
@@ -64,6 +64,19 @@ public class KafkaConfigTest {
         Assert.assertEquals("", config.getKafkaEntryPoint());
     }
 
+    @Test
+    public void configTest5() throws Exception {
+        Properties properties = new Properties();
+        properties.put(KafkaConfig.CONSUMER_ENABLE, "true");
+        properties.put(KafkaConfig.CONSUMER_BATCH_ENABLE, "true");
+
+        KafkaConfig config = new KafkaConfig(new DefaultProfilerConfig(properties));
+
+        Assert.assertTrue(config.isConsumerEnable());
+        Assert.assertTrue(config.isConsumerBatchEnable());
+        Assert.assertFalse(createConfig("false", "true").isConsumerBatchEnable());
+    }
+
     private KafkaConfig createConfig(String producerEnable, String consumerEnable) {
         return createConfig(producerEnable, consumerEnable, "");
     }
@@ -1,16 +1,25 @@
 package com.navercorp.pinpoint.plugin.kafka.interceptor;
 
 import com.navercorp.pinpoint.bootstrap.context.MethodDescriptor;
+import com.navercorp.pinpoint.bootstrap.context.SpanRecorder;
+import com.navercorp.pinpoint.bootstrap.context.Trace;
 import com.navercorp.pinpoint.bootstrap.context.TraceContext;
+import com.navercorp.pinpoint.bootstrap.interceptor.scope.InterceptorScope;
+import com.navercorp.pinpoint.bootstrap.interceptor.scope.InterceptorScopeInvocation;
+import com.navercorp.pinpoint.plugin.kafka.KafkaConstants;
 import com.navercorp.pinpoint.plugin.kafka.field.accessor.RemoteAddressFieldAccessor;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
 import org.apache.kafka.clients.consumer.ConsumerRecords;
 import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.mockito.Mock;
 import org.mockito.junit.MockitoJUnitRunner;
 
+import java.util.ArrayList;
 import java.util.Iterator;
+import java.util.List;
 
+import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.verify;
 
@@ -23,6 +32,12 @@ public class ConsumerPollInterceptorTest {
     @Mock
     private MethodDescriptor descriptor;
 
+    @Mock
+    private InterceptorScope scope;
+
+    @Mock
+    private InterceptorScopeInvocation invocation;
+
     @Mock
     private RemoteAddressFieldAccessor addressFieldAccessor;
 
@@ -32,15 +47,31 @@ public class ConsumerPollInterceptorTest {
     @Mock
     private Iterator iterator;
 
+    @Mock
+    private Trace trace;
+
+    @Mock
+    private SpanRecorder recorder;
+
 
     @Test
     public void before() {
-        ConsumerPollInterceptor interceptor = new ConsumerPollInterceptor(traceContext, descriptor);
+        ConsumerPollInterceptor interceptor = new ConsumerPollInterceptor(traceContext, descriptor, scope);
         Object target = new Object();
         Object[] args = new Object[]{};
         interceptor.before(target, args);
     }
 
+    @Test
+    public void beforeBatch() {
+        doReturn(invocation).when(scope).getCurrentInvocation();
+
+        ConsumerPollInterceptor interceptor = new ConsumerPollInterceptor(traceContext, descriptor, scope, true);
+        interceptor.before(new Object(), new Object[]{});
+
+        verify(invocation).setAttachment(anyLong());
+    }
+
     @Test
     public void after() {
 
@@ -48,10 +79,40 @@ public class ConsumerPollInterceptorTest {
         doReturn(iterator).when(consumerRecords).iterator();
         doReturn(false).when(iterator).hasNext();
 
-        ConsumerPollInterceptor interceptor = new ConsumerPollInterceptor(traceContext, descriptor);
+        ConsumerPollInterceptor interceptor = new ConsumerPollInterceptor(traceContext, descriptor, scope);
         interceptor.after(addressFieldAccessor, new Object[]{}, consumerRecords, null);
 
         verify(addressFieldAccessor)._$PINPOINT$_getRemoteAddress();
 
     }
-}
\ No newline at end of file
+
+    @Test
+    public void afterBatch() {
+        List<ConsumerRecord> consumerRecordList = new ArrayList<ConsumerRecord>();
+        consumerRecordList.add(new ConsumerRecord("Test", 1, 1, "hello", "hello too"));
+        consumerRecordList.add(new ConsumerRecord("Test", 1, 2, "hello", "hello too"));
+        consumerRecordList.add(new ConsumerRecord("Test", 2, 1, "hello", "hello too"));
+
+        doReturn("localhost:9092").when(addressFieldAccessor)._$PINPOINT$_getRemoteAddress();
+        doReturn(consumerRecordList.iterator()).doReturn(consumerRecordList.iterator()).when(consumerRecords).iterator();
+        doReturn(false).when(consumerRecords).isEmpty();
+        doReturn(trace).when(traceContext).newTraceObject();
+        doReturn(true).when(trace).canSampled();
+        doReturn(recorder).when(trace).getSpanRecorder();
+        doReturn(invocation).when(scope).getCurrentInvocation();
+        doReturn(1528000000000L).when(invocation).getAttachment();
+
+        ConsumerPollInterceptor interceptor = new ConsumerPollInterceptor(traceContext, descriptor, scope, true);
+        interceptor.after(addressFieldAccessor, new Object[]{}, consumerRecords, null);
+
+        // the span starts when poll() was called
+        verify(recorder).recordStartTime(1528000000000L);
+
+        verify(recorder).recordApi(descriptor);
+        verify(recorder).recordRpcName("kafka://topic=Test?batch=3");
+        verify(recorder).recordAttribute(KafkaConstants.KAFKA_BATCH_ANNOTATION_KEY, 3);
+        verify(recorder).recordAttribute(KafkaConstants.KAFKA_PARTITION_STAT_ANNOTATION_KEY, "Test-1(count=2), Test-2(count=1)");
+        verify(traceContext).removeTraceObject();
+        verify(trace).close();
+    }
+}
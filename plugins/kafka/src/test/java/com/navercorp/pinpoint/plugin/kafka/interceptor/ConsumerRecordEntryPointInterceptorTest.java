@@ -5,12 +5,14 @@ import com.navercorp.pinpoint.plugin.kafka.KafkaConstants;
 import org.apache.kafka.clients.consumer.ConsumerRecord;
 import org.apache.kafka.common.header.Header;
 import org.apache.kafka.common.header.Headers;
+import org.junit.Assert;
 import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.mockito.Mock;
 import org.mockito.junit.MockitoJUnitRunner;
 
 import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 
 @RunWith(MockitoJUnitRunner.class)
@@ -79,4 +81,18 @@ public class ConsumerRecordEntryPointInterceptorTest {
         verify(recorder).recordRpcName("kafka://topic=Test?partition=0&offset=1");
 
     }
-}
\ No newline at end of file
+
+    @Test
+    public void createTrace_continueTraceOnly() {
+
+        doReturn(headers).when(consumerRecord).headers();
+        doReturn(new Header[]{}).when(headers).toArray();
+
+        ConsumerRecordEntryPointInterceptor interceptor = new ConsumerRecordEntryPointInterceptor(traceContext, descriptor, 0, true);
+
+        Trace newTrace = interceptor.createTrace(new Object(), new Object[]{consumerRecord});
+
+        Assert.assertNull(newTrace);
+        verify(traceContext, never()).newTraceObject();
+    }
+}
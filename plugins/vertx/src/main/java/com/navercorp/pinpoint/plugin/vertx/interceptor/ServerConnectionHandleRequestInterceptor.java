@@ -33,6 +33,7 @@ import com.navercorp.pinpoint.bootstrap.plugin.request.RequestAdaptor;
 import com.navercorp.pinpoint.bootstrap.plugin.proxy.ProxyHttpHeaderRecorder;
 import com.navercorp.pinpoint.bootstrap.plugin.request.RequestTraceReader;
 import com.navercorp.pinpoint.bootstrap.plugin.request.ServerRequestRecorder;
+import com.navercorp.pinpoint.bootstrap.plugin.request.TraceHeader;
 import com.navercorp.pinpoint.plugin.vertx.ParameterRecorderFactory;
 import com.navercorp.pinpoint.plugin.vertx.VertxConstants;
 import com.navercorp.pinpoint.plugin.vertx.VertxHttpHeaderFilter;
@@ -227,13 +228,14 @@ public class ServerConnectionHandleRequestInterceptor implements AroundIntercept
             return null;
         }
 
-        final Trace trace = this.requestTraceReader.read(request);
+        final TraceHeader traceHeader = this.requestTraceReader.readTraceHeader(request);
+        final Trace trace = this.requestTraceReader.read(request, traceHeader);
         if (trace.canSampled()) {
             final SpanRecorder recorder = trace.getSpanRecorder();
             // root
             recorder.recordServiceType(VertxConstants.VERTX_HTTP_SERVER);
             recorder.recordApi(VERTX_HTTP_SERVER_METHOD_DESCRIPTOR);
-            this.serverRequestRecorder.record(recorder, request);
+            this.serverRequestRecorder.record(recorder, request, traceHeader);
             // record proxy HTTP header.
             this.proxyHttpHeaderRecorder.record(recorder, request);
         }
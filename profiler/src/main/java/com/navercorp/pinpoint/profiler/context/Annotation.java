@@ -28,9 +28,17 @@ import com.navercorp.pinpoint.profiler.util.AnnotationValueMapper;
  */
 public class Annotation {
 
+    private static final byte OBJECT_TYPE = 0;
+    private static final byte INT_TYPE = 1;
+    private static final byte LONG_TYPE = 2;
+
     private int key;
     private Object value;
 
+    // primitive value holder. avoid boxing of int/long value
+    private byte valueType = OBJECT_TYPE;
+    private long primitiveValue;
+
     public Annotation(int key) {
         this.key = key;
     }
@@ -64,12 +72,12 @@ public class Annotation {
 
     public Annotation(int key, int value) {
         this.key = key;
-        this.value = value;
+        setIntValue(value);
     }
 
     public Annotation(int key, long value) {
         this.key = key;
-        this.value = value;
+        setLongValue(value);
     }
 
     public Annotation(int key, LongIntIntByteByteStringValue value) {
@@ -81,7 +89,70 @@ public class Annotation {
         return key;
     }
 
+    public void setAnnotationKey(int key) {
+        this.key = key;
+    }
+
     public Object getValue() {
+        if (valueType == INT_TYPE) {
+            return (int) primitiveValue;
+        }
+        if (valueType == LONG_TYPE) {
+            return primitiveValue;
+        }
         return value;
     }
+
+    public void setValue(Object value) {
+        this.valueType = OBJECT_TYPE;
+        this.value = AnnotationValueMapper.checkValueType(value);
+    }
+
+    public void setValue(String value) {
+        this.valueType = OBJECT_TYPE;
+        this.value = value;
+    }
+
+    public void setIntValue(int value) {
+        this.valueType = INT_TYPE;
+        this.value = null;
+        this.primitiveValue = value;
+    }
+
+    public void setLongValue(long value) {
+        this.valueType = LONG_TYPE;
+        this.value = null;
+        this.primitiveValue = value;
+    }
+
+    public boolean isIntValue() {
+        return valueType == INT_TYPE;
+    }
+
+    public boolean isLongValue() {
+        return valueType == LONG_TYPE;
+    }
+
+    public int getIntValue() {
+        return (int) primitiveValue;
+    }
+
+    public long getLongValue() {
+        return primitiveValue;
+    }
+
+    public void reset() {
+        this.key = 0;
+        this.value = null;
+        this.valueType = OBJECT_TYPE;
+        this.primitiveValue = 0;
+    }
+
+    @Override
+    public String toString() {
+        return "Annotation{" +
+                "key=" + key +
+                ", value=" + getValue() +
+                '}';
+    }
 }
@@ -16,16 +16,24 @@
 
 package com.navercorp.pinpoint.profiler.context;
 
+import com.navercorp.pinpoint.profiler.context.recycler.EmptySpanDataRecycler;
+import com.navercorp.pinpoint.profiler.context.recycler.SpanDataRecycler;
+
 /**
  * @author Woonduk Kang(emeroad)
  */
 public class CallStackFactoryV2 implements CallStackFactory<SpanEvent> {
 
-    private final CallStack.Factory<SpanEvent> factory = new SpanEventFactory();
+    private final CallStack.Factory<SpanEvent> factory;
     private final int maxDepth;
 
     public CallStackFactoryV2(int maxDepth) {
+        this(maxDepth, EmptySpanDataRecycler.INSTANCE);
+    }
+
+    public CallStackFactoryV2(int maxDepth, SpanDataRecycler spanDataRecycler) {
         this.maxDepth = maxDepth;
+        this.factory = new SpanEventFactory(spanDataRecycler);
     }
 
     @Override
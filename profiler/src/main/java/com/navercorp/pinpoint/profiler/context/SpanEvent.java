@@ -219,6 +219,30 @@ public class SpanEvent extends DefaultFrameAttachment {
         return asyncIdObject;
     }
 
+    /**
+     * clear all fields for reuse. the annotation list instance is retained.
+     */
+    public void reset() {
+        detachFrameObject();
+        this.timeRecording = true;
+        this.stackId = 0;
+        this.startTime = 0;
+        this.elapsedTime = 0;
+        this.sequence = 0;
+        this.serviceType = 0;
+        this.endPoint = null;
+        if (this.annotations != null) {
+            this.annotations.clear();
+        }
+        this.depth = -1;
+        this.nextSpanId = -1;
+        this.destinationId = null;
+        this.apiId = 0;
+        this.exceptionInfo = null;
+        this.asyncIdObject = null;
+        this.localAsyncId = null;
+    }
+
     @Override
     public String toString() {
         return "SpanEvent{" +
@@ -16,10 +16,25 @@
 
 package com.navercorp.pinpoint.profiler.context;
 
+import com.navercorp.pinpoint.common.util.Assert;
+import com.navercorp.pinpoint.profiler.context.recycler.EmptySpanDataRecycler;
+import com.navercorp.pinpoint.profiler.context.recycler.SpanDataRecycler;
+
 /**
  * @author Woonduk Kang(emeroad)
  */
 public class SpanEventFactory implements CallStack.Factory<SpanEvent> {
+
+    private final SpanDataRecycler spanDataRecycler;
+
+    public SpanEventFactory() {
+        this(EmptySpanDataRecycler.INSTANCE);
+    }
+
+    public SpanEventFactory(SpanDataRecycler spanDataRecycler) {
+        this.spanDataRecycler = Assert.requireNonNull(spanDataRecycler, "spanDataRecycler must not be null");
+    }
+
     @Override
     public Class<SpanEvent> getType() {
         return SpanEvent.class;
@@ -27,7 +42,7 @@ public class SpanEventFactory implements CallStack.Factory<SpanEvent> {
 
     @Override
     public SpanEvent newInstance() {
-        return new SpanEvent();
+        return spanDataRecycler.newSpanEvent();
     }
 
     @Override
@@ -42,6 +57,8 @@ public class SpanEventFactory implements CallStack.Factory<SpanEvent> {
 
     @Override
     public String toString() {
-        return "SpanEventFactory{}";
+        return "SpanEventFactory{" +
+                "spanDataRecycler=" + spanDataRecycler +
+                '}';
     }
 }
@@ -43,6 +43,7 @@ import com.navercorp.pinpoint.profiler.instrument.lambda.LambdaTransformBootload
 import com.navercorp.pinpoint.profiler.interceptor.registry.InterceptorRegistryBinder;
 import com.navercorp.pinpoint.profiler.monitor.AgentStatMonitor;
 import com.navercorp.pinpoint.profiler.monitor.DeadlockMonitor;
+import com.navercorp.pinpoint.profiler.monitor.ThreadSampleMonitor;
 import com.navercorp.pinpoint.profiler.receiver.CommandDispatcher;
 import com.navercorp.pinpoint.profiler.sender.DataSender;
 import com.navercorp.pinpoint.profiler.sender.EnhancedDataSender;
@@ -64,6 +65,7 @@ public class DefaultApplicationContext implements ApplicationContext {
     private final ProfilerConfig profilerConfig;
 
     private final DeadlockMonitor deadlockMonitor;
+    private final ThreadSampleMonitor threadSampleMonitor;
     private final AgentInfoSender agentInfoSender;
     private final AgentStatMonitor agentStatMonitor;
 
@@ -151,6 +153,7 @@ public class DefaultApplicationContext implements ApplicationContext {
         this.serverMetaDataRegistryService = injector.getInstance(ServerMetaDataRegistryService.class);
 
         this.deadlockMonitor = injector.getInstance(DeadlockMonitor.class);
+        this.threadSampleMonitor = injector.getInstance(ThreadSampleMonitor.class);
         this.agentInfoSender = injector.getInstance(AgentInfoSender.class);
         this.agentStatMonitor = injector.getInstance(AgentStatMonitor.class);
     }
@@ -247,6 +250,7 @@ public class DefaultApplicationContext implements ApplicationContext {
         this.interceptorRegistryBinder.bind();
 
         this.deadlockMonitor.start();
+        this.threadSampleMonitor.start();
         this.agentInfoSender.start();
         this.agentStatMonitor.start();
     }
@@ -256,6 +260,7 @@ public class DefaultApplicationContext implements ApplicationContext {
         this.agentInfoSender.stop();
         this.agentStatMonitor.stop();
         this.deadlockMonitor.stop();
+        this.threadSampleMonitor.stop();
 
         // Need to process stop
         this.spanDataSender.stop();
@@ -29,6 +29,9 @@ import com.navercorp.pinpoint.profiler.context.provider.stat.jvmgc.DetailedMemor
 import com.navercorp.pinpoint.profiler.context.provider.stat.jvmgc.GarbageCollectorMetricProvider;
 import com.navercorp.pinpoint.profiler.context.provider.stat.jvmgc.MemoryMetricProvider;
 import com.navercorp.pinpoint.profiler.context.provider.stat.response.ResponseTimeMetricProvider;
+import com.navercorp.pinpoint.profiler.context.provider.stat.sqlstat.SqlStatMetricProvider;
+import com.navercorp.pinpoint.profiler.context.provider.stat.tcprequest.TcpRequestMetricProvider;
+import com.navercorp.pinpoint.profiler.context.provider.stat.threadsample.ThreadSampleMetricProvider;
 import com.navercorp.pinpoint.profiler.context.provider.stat.transaction.TransactionMetricProvider;
 import com.navercorp.pinpoint.profiler.monitor.metric.activethread.ActiveTraceMetric;
 import com.navercorp.pinpoint.profiler.monitor.metric.cpu.CpuLoadMetric;
@@ -41,6 +44,9 @@ import com.navercorp.pinpoint.profiler.monitor.metric.gc.GarbageCollectorMetric;
 import com.navercorp.pinpoint.profiler.monitor.metric.memory.DetailedMemoryMetric;
 import com.navercorp.pinpoint.profiler.monitor.metric.memory.MemoryMetric;
 import com.navercorp.pinpoint.profiler.monitor.metric.response.ResponseTimeMetric;
+import com.navercorp.pinpoint.profiler.monitor.metric.sqlstat.SqlStatMetric;
+import com.navercorp.pinpoint.profiler.monitor.metric.tcprequest.TcpRequestMetric;
+import com.navercorp.pinpoint.profiler.monitor.metric.threadsample.ThreadSampleMetric;
 import com.navercorp.pinpoint.profiler.monitor.metric.transaction.TransactionMetric;
 
 /**
@@ -84,5 +90,12 @@ public class StatsModule extends AbstractModule {
         // deadlock
         bind(DeadlockMetric.class).toProvider(DeadlockMetricProvider.class).in(Scopes.SINGLETON);
 
+        // thread sample
+        bind(ThreadSampleMetric.class).toProvider(ThreadSampleMetricProvider.class).in(Scopes.SINGLETON);
+        bind(SqlStatMetric.class).toProvider(SqlStatMetricProvider.class).in(Scopes.SINGLETON);
+
+        // tcp request
+        bind(TcpRequestMetric.class).toProvider(TcpRequestMetricProvider.class).in(Scopes.SINGLETON);
+
     }
 }
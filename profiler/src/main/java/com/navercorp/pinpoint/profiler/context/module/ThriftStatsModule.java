@@ -28,6 +28,9 @@ import com.navercorp.pinpoint.profiler.context.provider.stat.deadlock.DeadlockMe
 import com.navercorp.pinpoint.profiler.context.provider.stat.filedescriptor.FileDescriptorMetricCollectorProvider;
 import com.navercorp.pinpoint.profiler.context.provider.stat.jvmgc.JvmGcMetricCollectorProvider;
 import com.navercorp.pinpoint.profiler.context.provider.stat.response.ResponseTimeMetricCollectorProvider;
+import com.navercorp.pinpoint.profiler.context.provider.stat.sqlstat.SqlStatMetricCollectorProvider;
+import com.navercorp.pinpoint.profiler.context.provider.stat.tcprequest.TcpRequestMetricCollectorProvider;
+import com.navercorp.pinpoint.profiler.context.provider.stat.threadsample.ThreadSampleMetricCollectorProvider;
 import com.navercorp.pinpoint.profiler.context.provider.stat.transaction.TransactionMetricCollectorProvider;
 import com.navercorp.pinpoint.profiler.monitor.collector.AgentStatCollector;
 import com.navercorp.pinpoint.profiler.monitor.collector.AgentStatMetricCollector;
@@ -40,6 +43,9 @@ import com.navercorp.pinpoint.thrift.dto.TDirectBuffer;
 import com.navercorp.pinpoint.thrift.dto.TFileDescriptor;
 import com.navercorp.pinpoint.thrift.dto.TJvmGc;
 import com.navercorp.pinpoint.thrift.dto.TResponseTime;
+import com.navercorp.pinpoint.thrift.dto.TSqlStatList;
+import com.navercorp.pinpoint.thrift.dto.TTcpRequest;
+import com.navercorp.pinpoint.thrift.dto.TThreadSample;
 import com.navercorp.pinpoint.thrift.dto.TTransaction;
 
 /**
@@ -89,6 +95,18 @@ public class ThriftStatsModule extends AbstractModule {
         TypeLiteral<AgentStatMetricCollector<TDeadlock>> deadlockCollector = new TypeLiteral<AgentStatMetricCollector<TDeadlock>>() {};
         bind(deadlockCollector).toProvider(DeadlockMetricCollectorProvider.class).in(Scopes.SINGLETON);
 
+        // thread sample
+        TypeLiteral<AgentStatMetricCollector<TThreadSample>> threadSampleCollector = new TypeLiteral<AgentStatMetricCollector<TThreadSample>>() {};
+        bind(threadSampleCollector).toProvider(ThreadSampleMetricCollectorProvider.class).in(Scopes.SINGLETON);
+
+        // sql stat
+        TypeLiteral<AgentStatMetricCollector<TSqlStatList>> sqlStatCollector = new TypeLiteral<AgentStatMetricCollector<TSqlStatList>>() {};
+        bind(sqlStatCollector).toProvider(SqlStatMetricCollectorProvider.class).in(Scopes.SINGLETON);
+
+        // tcp request
+        TypeLiteral<AgentStatMetricCollector<TTcpRequest>> tcpRequestCollector = new TypeLiteral<AgentStatMetricCollector<TTcpRequest>>() {};
+        bind(tcpRequestCollector).toProvider(TcpRequestMetricCollectorProvider.class).in(Scopes.SINGLETON);
+
         // stat
         TypeLiteral<AgentStatMetricCollector<TAgentStat>> statMetric = new TypeLiteral<AgentStatMetricCollector<TAgentStat>>() {};
         bind(statMetric).annotatedWith(Names.named("AgentStatCollector"))
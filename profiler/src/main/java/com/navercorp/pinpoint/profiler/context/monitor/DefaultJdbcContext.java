@@ -19,6 +19,7 @@ package com.navercorp.pinpoint.profiler.context.monitor;
 import com.google.inject.Inject;
 import com.navercorp.pinpoint.bootstrap.context.DatabaseInfo;
 import com.navercorp.pinpoint.bootstrap.plugin.jdbc.JdbcContext;
+import com.navercorp.pinpoint.bootstrap.plugin.jdbc.SqlStatRecorder;
 import com.navercorp.pinpoint.common.trace.ServiceType;
 
 
@@ -28,13 +29,18 @@ import com.navercorp.pinpoint.common.trace.ServiceType;
 public class DefaultJdbcContext implements JdbcContext {
 
     private final JdbcUrlParsingService jdbcUrlParsingService;
+    private final SqlStatRecorder sqlStatRecorder;
 
     @Inject
-    public DefaultJdbcContext(JdbcUrlParsingService jdbcUrlParsingService) {
+    public DefaultJdbcContext(JdbcUrlParsingService jdbcUrlParsingService, SqlStatRecorder sqlStatRecorder) {
         if (jdbcUrlParsingService == null) {
             throw new NullPointerException("jdbcUrlParsingService must not be null");
         }
+        if (sqlStatRecorder == null) {
+            throw new NullPointerException("sqlStatRecorder must not be null");
+        }
         this.jdbcUrlParsingService = jdbcUrlParsingService;
+        this.sqlStatRecorder = sqlStatRecorder;
     }
 
 
@@ -43,5 +49,10 @@ public class DefaultJdbcContext implements JdbcContext {
         return this.jdbcUrlParsingService.parseJdbcUrl(serviceType, jdbcUrl);
     }
 
+    @Override
+    public SqlStatRecorder getSqlStatRecorder() {
+        return sqlStatRecorder;
+    }
+
 
 }
@@ -0,0 +1,78 @@
+/*
+ * Copyright 2018 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.pinpoint.profiler.context.monitor;
+
+import com.navercorp.pinpoint.bootstrap.context.DatabaseInfo;
+import com.navercorp.pinpoint.bootstrap.context.ParsingResult;
+import com.navercorp.pinpoint.bootstrap.plugin.jdbc.SqlStatRecorder;
+import com.navercorp.pinpoint.profiler.metadata.SqlMetaDataService;
+import com.navercorp.pinpoint.profiler.monitor.SqlStatRegistry;
+
+public class DefaultSqlStatRecorder implements SqlStatRecorder {
+
+    private static final long NOT_STARTED = -1;
+
+    private final SqlMetaDataService sqlMetaDataService;
+    private final SqlStatRegistry sqlStatRegistry;
+
+    private final ThreadLocal<long[]> startTimeHolder = new ThreadLocal<long[]>() {
+        @Override
+        protected long[] initialValue() {
+            return new long[] {NOT_STARTED};
+        }
+    };
+
+    public DefaultSqlStatRecorder(SqlMetaDataService sqlMetaDataService, SqlStatRegistry sqlStatRegistry) {
+        if (sqlMetaDataService == null) {
+            throw new NullPointerException("sqlMetaDataService must not be null");
+        }
+        if (sqlStatRegistry == null) {
+            throw new NullPointerException("sqlStatRegistry must not be null");
+        }
+        this.sqlMetaDataService = sqlMetaDataService;
+        this.sqlStatRegistry = sqlStatRegistry;
+    }
+
+    @Override
+    public void begin() {
+        startTimeHolder.get()[0] = System.currentTimeMillis();
+    }
+
+    @Override
+    public void end(DatabaseInfo databaseInfo, ParsingResult parsingResult, Throwable throwable) {
+        final long[] startTime = startTimeHolder.get();
+        final long begin = startTime[0];
+        if (begin == NOT_STARTED) {
+            return;
+        }
+        startTime[0] = NOT_STARTED;
+
+        if (databaseInfo == null || parsingResult == null) {
+            return;
+        }
+        // sends SqlMetaData for sqls that have not been seen by sampled requests yet
+        sqlMetaDataService.cacheSql(parsingResult);
+        final int sqlId = parsingResult.getId();
+        if (sqlId == ParsingResult.ID_NOT_EXIST) {
+            return;
+        }
+
+        final int elapsedTime = (int) (System.currentTimeMillis() - begin);
+        sqlStatRegistry.record(databaseInfo.getDatabaseId(), databaseInfo.getUrl(), sqlId, elapsedTime, throwable != null);
+    }
+
+}
@@ -18,6 +18,7 @@ package com.navercorp.pinpoint.profiler.context.monitor;
 
 import com.navercorp.pinpoint.bootstrap.context.DatabaseInfo;
 import com.navercorp.pinpoint.bootstrap.plugin.jdbc.JdbcContext;
+import com.navercorp.pinpoint.bootstrap.plugin.jdbc.SqlStatRecorder;
 import com.navercorp.pinpoint.bootstrap.plugin.jdbc.UnKnownDatabaseInfo;
 import com.navercorp.pinpoint.common.trace.ServiceType;
 
@@ -33,4 +34,9 @@ public final class DisabledJdbcContext implements JdbcContext {
         return UnKnownDatabaseInfo.createUnknownDataBase(jdbcUrl);
     }
 
+    @Override
+    public SqlStatRecorder getSqlStatRecorder() {
+        return DisabledSqlStatRecorder.INSTANCE;
+    }
+
 }
@@ -0,0 +1,35 @@
+/*
+ * Copyright 2018 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.pinpoint.profiler.context.monitor;
+
+import com.navercorp.pinpoint.bootstrap.context.DatabaseInfo;
+import com.navercorp.pinpoint.bootstrap.context.ParsingResult;
+import com.navercorp.pinpoint.bootstrap.plugin.jdbc.SqlStatRecorder;
+
+public final class DisabledSqlStatRecorder implements SqlStatRecorder {
+
+    public static final DisabledSqlStatRecorder INSTANCE = new DisabledSqlStatRecorder();
+
+    @Override
+    public void begin() {
+    }
+
+    @Override
+    public void end(DatabaseInfo databaseInfo, ParsingResult parsingResult, Throwable throwable) {
+    }
+
+}
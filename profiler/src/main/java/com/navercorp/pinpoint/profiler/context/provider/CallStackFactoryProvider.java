@@ -25,6 +25,7 @@ import com.navercorp.pinpoint.profiler.context.CallStackFactoryV1;
 import com.navercorp.pinpoint.profiler.context.CallStackFactoryV2;
 import com.navercorp.pinpoint.profiler.context.SpanEvent;
 import com.navercorp.pinpoint.profiler.context.TraceDataFormatVersion;
+import com.navercorp.pinpoint.profiler.context.recycler.SpanDataRecycler;
 
 /**
  * @author Woonduk Kang(emeroad)
@@ -33,22 +34,24 @@ public class CallStackFactoryProvider implements Provider<CallStackFactory<SpanE
 
     private final TraceDataFormatVersion version;
     private final int callStackMaxDepth;
+    private final SpanDataRecycler spanDataRecycler;
 
 
     @Inject
     public CallStackFactoryProvider(@Named("profiler.callstack.max.depth") int callStackMaxDepth,
-                                    TraceDataFormatVersion version) {
+                                    TraceDataFormatVersion version, SpanDataRecycler spanDataRecycler) {
         this.version = Assert.requireNonNull(version, "version must not be null");
         this.callStackMaxDepth = callStackMaxDepth;
+        this.spanDataRecycler = Assert.requireNonNull(spanDataRecycler, "spanDataRecycler must not be null");
     }
 
     @Override
     public CallStackFactory<SpanEvent> get() {
         if (version == TraceDataFormatVersion.V2) {
-            return new CallStackFactoryV2(callStackMaxDepth);
+            return new CallStackFactoryV2(callStackMaxDepth, spanDataRecycler);
         }
         if (version == TraceDataFormatVersion.V1) {
-            return new CallStackFactoryV1(callStackMaxDepth);
+            return new CallStackFactoryV1(callStackMaxDepth, spanDataRecycler);
         }
         throw new UnsupportedOperationException("unknown version :" + version);
     }
@@ -18,6 +18,8 @@ package com.navercorp.pinpoint.profiler.context.provider;
 
 import com.google.inject.Inject;
 import com.google.inject.Provider;
+import com.navercorp.pinpoint.bootstrap.config.ProfilerConfig;
+import com.navercorp.pinpoint.common.util.Assert;
 import com.navercorp.pinpoint.rpc.client.ClientCodecPipelineFactory;
 import com.navercorp.pinpoint.rpc.client.ConnectionFactoryProvider;
 import com.navercorp.pinpoint.rpc.client.DefaultConnectionFactoryProvider;
@@ -27,13 +29,17 @@ import com.navercorp.pinpoint.rpc.client.DefaultConnectionFactoryProvider;
  */
 public class ConnectionFactoryProviderProvider implements Provider<ConnectionFactoryProvider>  {
 
+    private final ProfilerConfig profilerConfig;
+
     @Inject
-    public ConnectionFactoryProviderProvider() {
+    public ConnectionFactoryProviderProvider(ProfilerConfig profilerConfig) {
+        this.profilerConfig = Assert.requireNonNull(profilerConfig, "profilerConfig must not be null");
     }
 
     @Override
     public ConnectionFactoryProvider get() {
-        return new DefaultConnectionFactoryProvider(new ClientCodecPipelineFactory());
+        final boolean writeBatchEnable = profilerConfig.readBoolean("profiler.tcpdatasender.client.write.batch.enable", false);
+        return new DefaultConnectionFactoryProvider(new ClientCodecPipelineFactory(writeBatchEnable));
     }
 
 }
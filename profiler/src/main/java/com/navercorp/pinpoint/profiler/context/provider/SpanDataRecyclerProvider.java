@@ -0,0 +1,56 @@
+/*
+ * Copyright 2018 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.pinpoint.profiler.context.provider;
+
+import com.google.inject.Inject;
+import com.google.inject.Provider;
+import com.navercorp.pinpoint.bootstrap.config.ProfilerConfig;
+import com.navercorp.pinpoint.common.util.Assert;
+import com.navercorp.pinpoint.profiler.context.recycler.DefaultSpanDataRecycler;
+import com.navercorp.pinpoint.profiler.context.recycler.EmptySpanDataRecycler;
+import com.navercorp.pinpoint.profiler.context.recycler.SpanDataRecycler;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+public class SpanDataRecyclerProvider implements Provider<SpanDataRecycler> {
+
+    private static final String RECYCLE_ENABLE = "profiler.span.recycle.enable";
+    private static final String RECYCLE_BATCH_SIZE = "profiler.span.recycle.batch.size";
+    private static final String RECYCLE_MAX_SHARED_BATCH = "profiler.span.recycle.max.shared.batch";
+
+    private final Logger logger = LoggerFactory.getLogger(this.getClass());
+
+    private final ProfilerConfig profilerConfig;
+
+    @Inject
+    public SpanDataRecyclerProvider(ProfilerConfig profilerConfig) {
+        this.profilerConfig = Assert.requireNonNull(profilerConfig, "profilerConfig must not be null");
+    }
+
+    @Override
+    public SpanDataRecycler get() {
+        final boolean recycleEnable = profilerConfig.readBoolean(RECYCLE_ENABLE, false);
+        if (!recycleEnable) {
+            return EmptySpanDataRecycler.INSTANCE;
+        }
+        final int batchSize = profilerConfig.readInt(RECYCLE_BATCH_SIZE, 64);
+        final int maxSharedBatch = profilerConfig.readInt(RECYCLE_MAX_SHARED_BATCH, 256);
+        final SpanDataRecycler spanDataRecycler = new DefaultSpanDataRecycler(batchSize, maxSharedBatch);
+        logger.info("SpanDataRecycler:{}", spanDataRecycler);
+        return spanDataRecycler;
+    }
+}
@@ -25,6 +25,7 @@ import com.navercorp.pinpoint.profiler.context.module.AgentId;
 import com.navercorp.pinpoint.profiler.context.module.AgentStartTime;
 import com.navercorp.pinpoint.profiler.context.module.ApplicationName;
 import com.navercorp.pinpoint.profiler.context.module.ApplicationServerType;
+import com.navercorp.pinpoint.profiler.context.recycler.SpanDataRecycler;
 import com.navercorp.pinpoint.profiler.context.thrift.SpanThriftMessageConverter;
 import com.navercorp.pinpoint.profiler.context.thrift.MessageConverter;
 import org.apache.thrift.TBase;
@@ -43,21 +44,24 @@ public class SpanThriftMessageConverterProvider implements Provider<MessageConve
     private final ServiceType applicationServiceType;
     private final TransactionIdEncoder transactionIdEncoder;
     private final SpanPostProcessor<Context> spanPostProcessor;
+    private final SpanDataRecycler spanDataRecycler;
 
     @Inject
     public SpanThriftMessageConverterProvider(@ApplicationName String applicationName, @AgentId String agentId, @AgentStartTime long agentStartTime,
                                               @ApplicationServerType ServiceType applicationServiceType,
-                                              TransactionIdEncoder transactionIdEncoder, SpanPostProcessor<Context> spanPostProcessor) {
+                                              TransactionIdEncoder transactionIdEncoder, SpanPostProcessor<Context> spanPostProcessor,
+                                              SpanDataRecycler spanDataRecycler) {
         this.applicationName = Assert.requireNonNull(applicationName, "applicationName must not be null");
         this.agentId = Assert.requireNonNull(agentId, "agentId must not be null");
         this.agentStartTime = agentStartTime;
         this.applicationServiceType = Assert.requireNonNull(applicationServiceType, "applicationServiceType must not be null");
         this.transactionIdEncoder = Assert.requireNonNull(transactionIdEncoder, "transactionIdEncoder must not be null");
         this.spanPostProcessor = Assert.requireNonNull(spanPostProcessor, "spanPostProcessor must not be null");
+        this.spanDataRecycler = Assert.requireNonNull(spanDataRecycler, "spanDataRecycler must not be null");
     }
 
     @Override
     public MessageConverter<TBase<?, ?>> get() {
-        return new SpanThriftMessageConverter(applicationName, agentId, agentStartTime, applicationServiceType.getCode(), transactionIdEncoder, spanPostProcessor);
+        return new SpanThriftMessageConverter(applicationName, agentId, agentStartTime, applicationServiceType.getCode(), transactionIdEncoder, spanPostProcessor, spanDataRecycler);
     }
 }
@@ -0,0 +1,58 @@
+/*
+ * Copyright 2018 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.pinpoint.profiler.context.provider;
+
+import com.google.inject.Inject;
+import com.google.inject.Provider;
+import com.navercorp.pinpoint.bootstrap.config.ProfilerConfig;
+import com.navercorp.pinpoint.bootstrap.plugin.jdbc.SqlStatRecorder;
+import com.navercorp.pinpoint.profiler.context.monitor.DefaultSqlStatRecorder;
+import com.navercorp.pinpoint.profiler.context.monitor.DisabledSqlStatRecorder;
+import com.navercorp.pinpoint.profiler.metadata.SqlMetaDataService;
+import com.navercorp.pinpoint.profiler.monitor.SqlStatRegistry;
+
+public class SqlStatRecorderProvider implements Provider<SqlStatRecorder> {
+
+    private final ProfilerConfig profilerConfig;
+    private final SqlMetaDataService sqlMetaDataService;
+    private final SqlStatRegistry sqlStatRegistry;
+
+    @Inject
+    public SqlStatRecorderProvider(ProfilerConfig profilerConfig, SqlMetaDataService sqlMetaDataService, SqlStatRegistry sqlStatRegistry) {
+        if (profilerConfig == null) {
+            throw new NullPointerException("profilerConfig must not be null");
+        }
+        if (sqlMetaDataService == null) {
+            throw new NullPointerException("sqlMetaDataService must not be null");
+        }
+        if (sqlStatRegistry == null) {
+            throw new NullPointerException("sqlStatRegistry must not be null");
+        }
+        this.profilerConfig = profilerConfig;
+        this.sqlMetaDataService = sqlMetaDataService;
+        this.sqlStatRegistry = sqlStatRegistry;
+    }
+
+    @Override
+    public SqlStatRecorder get() {
+        if (!profilerConfig.isJdbcSqlStatEnable()) {
+            return DisabledSqlStatRecorder.INSTANCE;
+        }
+        return new DefaultSqlStatRecorder(sqlMetaDataService, sqlStatRegistry);
+    }
+
+}
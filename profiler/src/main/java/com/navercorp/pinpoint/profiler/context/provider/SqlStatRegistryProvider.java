@@ -0,0 +1,49 @@
+/*
+ * Copyright 2018 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.pinpoint.profiler.context.provider;
+
+import com.google.inject.Inject;
+import com.google.inject.Provider;
+import com.navercorp.pinpoint.bootstrap.config.ProfilerConfig;
+import com.navercorp.pinpoint.profiler.monitor.CollectJob;
+import com.navercorp.pinpoint.profiler.monitor.SqlStatRegistry;
+
+public class SqlStatRegistryProvider implements Provider<SqlStatRegistry> {
+
+    private final int maxSize;
+    private final int maxBytes;
+
+    @Inject
+    public SqlStatRegistryProvider(ProfilerConfig profilerConfig) {
+        if (profilerConfig == null) {
+            throw new NullPointerException("profilerConfig must not be null");
+        }
+        this.maxSize = profilerConfig.getJdbcSqlStatMaxSize();
+        this.maxBytes = getMaxBytes(profilerConfig);
+    }
+
+    // sql stats are never dropped from an agent stat batch, so a whole batch of them must fit
+    private int getMaxBytes(ProfilerConfig profilerConfig) {
+        final int numCollectionsPerBatch = Math.max(1, profilerConfig.getProfileJvmStatBatchSendCount());
+        return Math.min(profilerConfig.getJdbcSqlStatMaxBytes(), CollectJob.MAX_SQL_STAT_BYTES_PER_BATCH / numCollectionsPerBatch);
+    }
+
+    public SqlStatRegistry get() {
+        return new SqlStatRegistry(maxSize, maxBytes);
+    }
+
+}
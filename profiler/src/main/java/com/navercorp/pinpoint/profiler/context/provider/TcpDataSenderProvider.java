@@ -25,6 +25,7 @@ import com.navercorp.pinpoint.profiler.context.module.MetadataConverter;
 import com.navercorp.pinpoint.profiler.context.thrift.MessageConverter;
 import com.navercorp.pinpoint.profiler.sender.EnhancedDataSender;
 import com.navercorp.pinpoint.profiler.sender.MessageSerializer;
+import com.navercorp.pinpoint.profiler.sender.RequestWindow;
 import com.navercorp.pinpoint.profiler.sender.TcpDataSender;
 import com.navercorp.pinpoint.profiler.sender.ThriftMessageSerializer;
 import com.navercorp.pinpoint.rpc.client.PinpointClientFactory;
@@ -57,6 +58,7 @@ public class TcpDataSenderProvider implements Provider<EnhancedDataSender<Object
         int collectorTcpServerPort = profilerConfig.getCollectorTcpServerPort();
         HeaderTBaseSerializer headerTBaseSerializer = tBaseSerializerProvider.get();
         MessageSerializer<byte[]> messageSerializer = new ThriftMessageSerializer(messageConverter, headerTBaseSerializer);
-        return new TcpDataSender("Default", collectorTcpServerIp, collectorTcpServerPort, clientFactory, messageSerializer);
+        int requestWindowSize = profilerConfig.readInt("profiler.tcpdatasender.request.window.size", RequestWindow.DEFAULT_WINDOW_SIZE);
+        return new TcpDataSender("Default", collectorTcpServerIp, collectorTcpServerPort, clientFactory, messageSerializer, requestWindowSize);
     }
 }
@@ -0,0 +1,55 @@
+/*
+ * Copyright 2018 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.pinpoint.profiler.context.provider;
+
+import com.google.inject.Inject;
+import com.google.inject.Provider;
+import com.navercorp.pinpoint.bootstrap.config.ProfilerConfig;
+import com.navercorp.pinpoint.profiler.context.active.ActiveTraceRepository;
+import com.navercorp.pinpoint.profiler.monitor.DefaultThreadSampleMonitor;
+import com.navercorp.pinpoint.profiler.monitor.DisabledThreadSampleMonitor;
+import com.navercorp.pinpoint.profiler.monitor.ThreadSampleMonitor;
+import com.navercorp.pinpoint.profiler.monitor.ThreadSampleRegistry;
+
+public class ThreadSampleMonitorProvider implements Provider<ThreadSampleMonitor> {
+
+    private final ProfilerConfig profilerConfig;
+    private final ActiveTraceRepository activeTraceRepository;
+    private final ThreadSampleRegistry threadSampleRegistry;
+
+    @Inject
+    public ThreadSampleMonitorProvider(ProfilerConfig profilerConfig, ActiveTraceRepository activeTraceRepository,
+                                       ThreadSampleRegistry threadSampleRegistry) {
+        if (profilerConfig == null) {
+            throw new NullPointerException("profilerConfig must not be null");
+        }
+        this.profilerConfig = profilerConfig;
+        this.activeTraceRepository = activeTraceRepository;
+        this.threadSampleRegistry = threadSampleRegistry;
+    }
+
+    @Override
+    public ThreadSampleMonitor get() {
+        if (profilerConfig.isThreadSampleMonitorEnable()) {
+            return new DefaultThreadSampleMonitor(activeTraceRepository, threadSampleRegistry,
+                    profilerConfig.getThreadSampleMonitorInterval(), profilerConfig.getThreadSampleMinElapsed(), profilerConfig.getThreadSampleMaxDepth());
+        } else {
+            return new DisabledThreadSampleMonitor();
+        }
+    }
+
+}
@@ -0,0 +1,51 @@
+/*
+ * Copyright 2018 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.pinpoint.profiler.context.provider.stat.sqlstat;
+
+import com.google.inject.Inject;
+import com.google.inject.Provider;
+import com.navercorp.pinpoint.bootstrap.config.ProfilerConfig;
+import com.navercorp.pinpoint.profiler.monitor.SqlStatRegistry;
+import com.navercorp.pinpoint.profiler.monitor.metric.sqlstat.DefaultSqlStatMetric;
+import com.navercorp.pinpoint.profiler.monitor.metric.sqlstat.SqlStatMetric;
+
+public class SqlStatMetricProvider implements Provider<SqlStatMetric> {
+
+    private final ProfilerConfig profilerConfig;
+    private final SqlStatRegistry sqlStatRegistry;
+
+    @Inject
+    public SqlStatMetricProvider(ProfilerConfig profilerConfig, SqlStatRegistry sqlStatRegistry) {
+        if (profilerConfig == null) {
+            throw new NullPointerException("profilerConfig must not be null");
+        }
+        if (sqlStatRegistry == null) {
+            throw new NullPointerException("sqlStatRegistry must not be null");
+        }
+        this.profilerConfig = profilerConfig;
+        this.sqlStatRegistry = sqlStatRegistry;
+    }
+
+    @Override
+    public SqlStatMetric get() {
+        if (!profilerConfig.isJdbcSqlStatEnable()) {
+            return SqlStatMetric.UNSUPPORTED_SQL_STAT_METRIC;
+        }
+        return new DefaultSqlStatMetric(sqlStatRegistry);
+    }
+
+}
@@ -0,0 +1,45 @@
+/*
+ * Copyright 2018 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.pinpoint.profiler.context.provider.stat.tcprequest;
+
+import com.google.inject.Inject;
+import com.google.inject.Provider;
+import com.navercorp.pinpoint.profiler.monitor.metric.tcprequest.DefaultTcpRequestMetric;
+import com.navercorp.pinpoint.profiler.monitor.metric.tcprequest.TcpRequestMetric;
+import com.navercorp.pinpoint.profiler.sender.EnhancedDataSender;
+import com.navercorp.pinpoint.profiler.sender.TcpDataSender;
+
+public class TcpRequestMetricProvider implements Provider<TcpRequestMetric> {
+
+    private final EnhancedDataSender<Object> dataSender;
+
+    @Inject
+    public TcpRequestMetricProvider(EnhancedDataSender<Object> dataSender) {
+        if (dataSender == null) {
+            throw new NullPointerException("dataSender must not be null");
+        }
+        this.dataSender = dataSender;
+    }
+
+    @Override
+    public TcpRequestMetric get() {
+        if (!(dataSender instanceof TcpDataSender)) {
+            return TcpRequestMetric.UNSUPPORTED_TCP_REQUEST_METRIC;
+        }
+        return new DefaultTcpRequestMetric((TcpDataSender) dataSender);
+    }
+}
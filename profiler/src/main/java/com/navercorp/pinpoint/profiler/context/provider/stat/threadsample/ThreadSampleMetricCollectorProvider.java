@@ -0,0 +1,45 @@
+/*
+ * Copyright 2018 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.pinpoint.profiler.context.provider.stat.threadsample;
+
+import com.google.inject.Inject;
+import com.google.inject.Provider;
+import com.navercorp.pinpoint.common.util.Assert;
+import com.navercorp.pinpoint.profiler.monitor.collector.AgentStatMetricCollector;
+import com.navercorp.pinpoint.profiler.monitor.collector.UnsupportedMetricCollector;
+import com.navercorp.pinpoint.profiler.monitor.collector.threadsample.DefaultThreadSampleMetricCollector;
+import com.navercorp.pinpoint.profiler.monitor.metric.threadsample.ThreadSampleMetric;
+import com.navercorp.pinpoint.thrift.dto.TThreadSample;
+
+public class ThreadSampleMetricCollectorProvider implements Provider<AgentStatMetricCollector<TThreadSample>> {
+
+    private final ThreadSampleMetric threadSampleMetric;
+
+    @Inject
+    public ThreadSampleMetricCollectorProvider(ThreadSampleMetric threadSampleMetric) {
+        this.threadSampleMetric = Assert.requireNonNull(threadSampleMetric, "threadSampleMetric must not be null");
+    }
+
+    @Override
+    public AgentStatMetricCollector<TThreadSample> get() {
+        if (threadSampleMetric == ThreadSampleMetric.UNSUPPORTED_THREAD_SAMPLE_METRIC) {
+            return new UnsupportedMetricCollector<TThreadSample>();
+        }
+        return new DefaultThreadSampleMetricCollector(threadSampleMetric);
+    }
+
+}
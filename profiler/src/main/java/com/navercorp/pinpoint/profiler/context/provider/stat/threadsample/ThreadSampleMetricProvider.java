@@ -0,0 +1,48 @@
+/*
+ * Copyright 2018 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.pinpoint.profiler.context.provider.stat.threadsample;
+
+import com.google.inject.Inject;
+import com.google.inject.Provider;
+import com.navercorp.pinpoint.bootstrap.config.ProfilerConfig;
+import com.navercorp.pinpoint.profiler.monitor.ThreadSampleRegistry;
+import com.navercorp.pinpoint.profiler.monitor.metric.threadsample.DefaultThreadSampleMetric;
+import com.navercorp.pinpoint.profiler.monitor.metric.threadsample.ThreadSampleMetric;
+
+public class ThreadSampleMetricProvider implements Provider<ThreadSampleMetric> {
+
+    private final ProfilerConfig profilerConfig;
+    private final ThreadSampleRegistry threadSampleRegistry;
+
+    @Inject
+    public ThreadSampleMetricProvider(ProfilerConfig profilerConfig, ThreadSampleRegistry threadSampleRegistry) {
+        if (profilerConfig == null) {
+            throw new NullPointerException("profilerConfig must not be null");
+        }
+        this.profilerConfig = profilerConfig;
+        this.threadSampleRegistry = threadSampleRegistry;
+    }
+
+    @Override
+    public ThreadSampleMetric get() {
+        if (!profilerConfig.isThreadSampleMonitorEnable()) {
+            return ThreadSampleMetric.UNSUPPORTED_THREAD_SAMPLE_METRIC;
+        }
+        return new DefaultThreadSampleMetric(threadSampleRegistry);
+    }
+
+}
@@ -20,6 +20,8 @@ import com.navercorp.pinpoint.common.trace.AnnotationKey;
 import com.navercorp.pinpoint.common.util.AnnotationKeyUtils;
 import com.navercorp.pinpoint.common.util.StringUtils;
 import com.navercorp.pinpoint.profiler.context.Annotation;
+import com.navercorp.pinpoint.profiler.context.recycler.EmptySpanDataRecycler;
+import com.navercorp.pinpoint.profiler.context.recycler.SpanDataRecycler;
 import com.navercorp.pinpoint.profiler.metadata.SqlMetaDataService;
 import com.navercorp.pinpoint.profiler.metadata.StringMetaDataService;
 
@@ -30,16 +32,25 @@ public abstract class AbstractRecorder {
 
     protected final StringMetaDataService stringMetaDataService;
     protected final SqlMetaDataService sqlMetaDataService;
+    protected final SpanDataRecycler spanDataRecycler;
 
     public AbstractRecorder(final StringMetaDataService stringMetaDataService, SqlMetaDataService sqlMetaDataService) {
+        this(stringMetaDataService, sqlMetaDataService, EmptySpanDataRecycler.INSTANCE);
+    }
+
+    public AbstractRecorder(final StringMetaDataService stringMetaDataService, SqlMetaDataService sqlMetaDataService, SpanDataRecycler spanDataRecycler) {
         if (stringMetaDataService == null) {
             throw new NullPointerException("stringMetaDataService must not be null");
         }
         if (sqlMetaDataService == null) {
             throw new NullPointerException("sqlMetaDataService must not be null");
         }
+        if (spanDataRecycler == null) {
+            throw new NullPointerException("spanDataRecycler must not be null");
+        }
         this.stringMetaDataService = stringMetaDataService;
         this.sqlMetaDataService = sqlMetaDataService;
+        this.spanDataRecycler = spanDataRecycler;
     }
 
     public void recordError() {
@@ -134,17 +145,20 @@ public abstract class AbstractRecorder {
     }
 
     public void recordAttribute(AnnotationKey key, String value) {
-        Annotation annotation = new Annotation(key.getCode(), value);
+        Annotation annotation = spanDataRecycler.newAnnotation(key.getCode());
+        annotation.setValue(value);
         addAnnotation(annotation);
     }
 
     public void recordAttribute(AnnotationKey key, int value) {
-        Annotation annotation = new Annotation(key.getCode(), value);
+        Annotation annotation = spanDataRecycler.newAnnotation(key.getCode());
+        annotation.setIntValue(value);
         addAnnotation(annotation);
     }
 
     public void recordAttribute(AnnotationKey key, Object value) {
-        Annotation annotation = new Annotation(key.getCode(), value);
+        Annotation annotation = spanDataRecycler.newAnnotation(key.getCode());
+        annotation.setValue(value);
         addAnnotation(annotation);
     }
 
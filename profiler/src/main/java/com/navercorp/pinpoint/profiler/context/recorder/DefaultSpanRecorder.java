@@ -22,6 +22,8 @@ import com.navercorp.pinpoint.profiler.context.Annotation;
 import com.navercorp.pinpoint.profiler.context.DefaultTrace;
 import com.navercorp.pinpoint.profiler.context.Span;
 import com.navercorp.pinpoint.profiler.context.id.TraceRoot;
+import com.navercorp.pinpoint.profiler.context.recycler.EmptySpanDataRecycler;
+import com.navercorp.pinpoint.profiler.context.recycler.SpanDataRecycler;
 import com.navercorp.pinpoint.profiler.metadata.SqlMetaDataService;
 import com.navercorp.pinpoint.profiler.metadata.StringMetaDataService;
 import org.slf4j.Logger;
@@ -41,7 +43,12 @@ public class DefaultSpanRecorder extends AbstractRecorder implements SpanRecorde
     private final boolean sampling;
     
     public DefaultSpanRecorder(final Span span, final boolean isRoot, final boolean sampling, final StringMetaDataService stringMetaDataService, SqlMetaDataService sqlMetaDataService) {
-        super(stringMetaDataService, sqlMetaDataService);
+        this(span, isRoot, sampling, stringMetaDataService, sqlMetaDataService, EmptySpanDataRecycler.INSTANCE);
+    }
+
+    public DefaultSpanRecorder(final Span span, final boolean isRoot, final boolean sampling, final StringMetaDataService stringMetaDataService, SqlMetaDataService sqlMetaDataService,
+                               SpanDataRecycler spanDataRecycler) {
+        super(stringMetaDataService, sqlMetaDataService, spanDataRecycler);
         this.span = span;
         this.isRoot = isRoot;
         this.sampling = sampling;
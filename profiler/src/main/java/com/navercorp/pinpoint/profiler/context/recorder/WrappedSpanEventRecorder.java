@@ -31,6 +31,8 @@ import com.navercorp.pinpoint.profiler.context.AsyncId;
 import com.navercorp.pinpoint.profiler.context.DefaultTrace;
 import com.navercorp.pinpoint.profiler.context.SpanEvent;
 import com.navercorp.pinpoint.profiler.context.id.TraceRoot;
+import com.navercorp.pinpoint.profiler.context.recycler.EmptySpanDataRecycler;
+import com.navercorp.pinpoint.profiler.context.recycler.SpanDataRecycler;
 import com.navercorp.pinpoint.profiler.metadata.SqlMetaDataService;
 import com.navercorp.pinpoint.profiler.metadata.StringMetaDataService;
 import org.slf4j.Logger;
@@ -52,7 +54,12 @@ public class WrappedSpanEventRecorder extends AbstractRecorder implements SpanEv
     private SpanEvent spanEvent;
 
     public WrappedSpanEventRecorder(TraceRoot traceRoot, AsyncContextFactory asyncContextFactory, final StringMetaDataService stringMetaDataService, final SqlMetaDataService sqlMetaCacheService, AsyncState asyncState) {
-        super(stringMetaDataService, sqlMetaCacheService);
+        this(traceRoot, asyncContextFactory, stringMetaDataService, sqlMetaCacheService, EmptySpanDataRecycler.INSTANCE, asyncState);
+    }
+
+    public WrappedSpanEventRecorder(TraceRoot traceRoot, AsyncContextFactory asyncContextFactory, final StringMetaDataService stringMetaDataService, final SqlMetaDataService sqlMetaCacheService,
+                                    SpanDataRecycler spanDataRecycler, AsyncState asyncState) {
+        super(stringMetaDataService, sqlMetaCacheService, spanDataRecycler);
         this.traceRoot = Assert.requireNonNull(traceRoot, "traceRoot must not be null");
 
         this.asyncContextFactory = Assert.requireNonNull(asyncContextFactory, "asyncContextFactory must not be null");
@@ -109,7 +116,8 @@ public class WrappedSpanEventRecorder extends AbstractRecorder implements SpanEv
     }
 
     private void recordSqlParam(IntStringStringValue intStringStringValue) {
-        Annotation annotation = new Annotation(AnnotationKey.SQL_ID.getCode(), intStringStringValue);
+        Annotation annotation = spanDataRecycler.newAnnotation(AnnotationKey.SQL_ID.getCode());
+        annotation.setValue(intStringStringValue);
         spanEvent.addAnnotation(annotation);
     }
 
@@ -0,0 +1,94 @@
+/*
+ * Copyright 2018 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.pinpoint.profiler.context.recycler;
+
+import com.navercorp.pinpoint.profiler.context.Annotation;
+import com.navercorp.pinpoint.profiler.context.SpanEvent;
+
+import java.util.List;
+
+public class DefaultSpanDataRecycler implements SpanDataRecycler {
+
+    private final Recycler<SpanEvent> spanEventRecycler;
+    private final Recycler<Annotation> annotationRecycler;
+
+    public DefaultSpanDataRecycler(int batchSize, int maxSharedBatch) {
+        this.spanEventRecycler = new Recycler<SpanEvent>(batchSize, maxSharedBatch) {
+            @Override
+            protected SpanEvent newObject() {
+                return new SpanEvent();
+            }
+
+            @Override
+            protected void reset(SpanEvent spanEvent) {
+                spanEvent.reset();
+            }
+        };
+        // span events usually carry several annotations
+        final int annotationBatchSize = batchSize * 4;
+        this.annotationRecycler = new Recycler<Annotation>(annotationBatchSize, maxSharedBatch) {
+            @Override
+            protected Annotation newObject() {
+                return new Annotation(0);
+            }
+
+            @Override
+            protected void reset(Annotation annotation) {
+                annotation.reset();
+            }
+        };
+    }
+
+    @Override
+    public SpanEvent newSpanEvent() {
+        return spanEventRecycler.get();
+    }
+
+    @Override
+    public Annotation newAnnotation(int key) {
+        final Annotation annotation = annotationRecycler.get();
+        annotation.setAnnotationKey(key);
+        return annotation;
+    }
+
+    @Override
+    public void recycle(SpanEvent spanEvent) {
+        if (spanEvent == null) {
+            return;
+        }
+        final List<Annotation> annotations = spanEvent.getAnnotations();
+        if (annotations != null) {
+            for (Annotation annotation : annotations) {
+                annotationRecycler.recycle(annotation);
+            }
+        }
+        spanEventRecycler.recycle(spanEvent);
+    }
+
+    @Override
+    public void recycle(Annotation annotation) {
+        annotationRecycler.recycle(annotation);
+    }
+
+    @Override
+    public String toString() {
+        return "DefaultSpanDataRecycler{" +
+                "spanEventRecycler=" + spanEventRecycler +
+                ", annotationRecycler=" + annotationRecycler +
+                '}';
+    }
+}
@@ -0,0 +1,48 @@
+/*
+ * Copyright 2018 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.pinpoint.profiler.context.recycler;
+
+import com.navercorp.pinpoint.profiler.context.Annotation;
+import com.navercorp.pinpoint.profiler.context.SpanEvent;
+
+public class EmptySpanDataRecycler implements SpanDataRecycler {
+
+    public static final SpanDataRecycler INSTANCE = new EmptySpanDataRecycler();
+
+    @Override
+    public SpanEvent newSpanEvent() {
+        return new SpanEvent();
+    }
+
+    @Override
+    public Annotation newAnnotation(int key) {
+        return new Annotation(key);
+    }
+
+    @Override
+    public void recycle(SpanEvent spanEvent) {
+    }
+
+    @Override
+    public void recycle(Annotation annotation) {
+    }
+
+    @Override
+    public String toString() {
+        return "EmptySpanDataRecycler";
+    }
+}
@@ -0,0 +1,139 @@
+/*
+ * Copyright 2018 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.pinpoint.profiler.context.recycler;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Thread local object arena.
+ * Objects are taken from the arena of the application thread and are usually returned by another thread (span sender).
+ * The returning thread collects objects in its own arena and hands them over to other threads in batches,
+ * so no synchronization happens per object.
+ */
+public abstract class Recycler<T> {
+
+    private final int batchSize;
+    private final int maxSharedBatch;
+
+    private final Queue<Object[]> sharedBatchQueue = new ConcurrentLinkedQueue<Object[]>();
+    private final AtomicInteger sharedBatchCount = new AtomicInteger();
+
+    private final ThreadLocal<Arena> arena = new ThreadLocal<Arena>() {
+        @Override
+        protected Arena initialValue() {
+            return new Arena(batchSize * 2);
+        }
+    };
+
+    public Recycler(int batchSize, int maxSharedBatch) {
+        if (batchSize <= 0) {
+            throw new IllegalArgumentException("batchSize must be positive. batchSize:" + batchSize);
+        }
+        if (maxSharedBatch < 0) {
+            throw new IllegalArgumentException("maxSharedBatch must not be negative. maxSharedBatch:" + maxSharedBatch);
+        }
+        this.batchSize = batchSize;
+        this.maxSharedBatch = maxSharedBatch;
+    }
+
+    protected abstract T newObject();
+
+    protected abstract void reset(T object);
+
+    @SuppressWarnings("unchecked")
+    public T get() {
+        final Arena arena = this.arena.get();
+        if (arena.size == 0) {
+            if (!refill(arena)) {
+                return newObject();
+            }
+        }
+        final int index = --arena.size;
+        final Object object = arena.elements[index];
+        arena.elements[index] = null;
+        return (T) object;
+    }
+
+    private boolean refill(Arena arena) {
+        final Object[] batch = sharedBatchQueue.poll();
+        if (batch == null) {
+            return false;
+        }
+        sharedBatchCount.decrementAndGet();
+        System.arraycopy(batch, 0, arena.elements, 0, batch.length);
+        arena.size = batch.length;
+        return true;
+    }
+
+    public void recycle(T object) {
+        if (object == null) {
+            return;
+        }
+        reset(object);
+
+        final Arena arena = this.arena.get();
+        if (arena.size == arena.elements.length) {
+            if (!transfer(arena)) {
+                // arena and shared queue are full. discard object
+                return;
+            }
+        }
+        arena.elements[arena.size++] = object;
+    }
+
+    private boolean transfer(Arena arena) {
+        // racy check, maxSharedBatch is a soft limit
+        if (sharedBatchCount.get() >= maxSharedBatch) {
+            return false;
+        }
+        final Object[] batch = new Object[batchSize];
+        final int from = arena.size - batchSize;
+        System.arraycopy(arena.elements, from, batch, 0, batchSize);
+        for (int i = from; i < arena.size; i++) {
+            arena.elements[i] = null;
+        }
+        arena.size = from;
+
+        sharedBatchCount.incrementAndGet();
+        sharedBatchQueue.offer(batch);
+        return true;
+    }
+
+    int sharedBatchCount() {
+        return sharedBatchCount.get();
+    }
+
+    private static class Arena {
+        private final Object[] elements;
+        private int size;
+
+        private Arena(int capacity) {
+            this.elements = new Object[capacity];
+        }
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + "{" +
+                "batchSize=" + batchSize +
+                ", maxSharedBatch=" + maxSharedBatch +
+                ", sharedBatchCount=" + sharedBatchCount.get() +
+                '}';
+    }
+}
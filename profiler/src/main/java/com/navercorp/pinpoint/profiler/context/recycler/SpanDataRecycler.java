@@ -0,0 +1,36 @@
+/*
+ * Copyright 2018 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.pinpoint.profiler.context.recycler;
+
+import com.navercorp.pinpoint.profiler.context.Annotation;
+import com.navercorp.pinpoint.profiler.context.SpanEvent;
+
+public interface SpanDataRecycler {
+
+    SpanEvent newSpanEvent();
+
+    Annotation newAnnotation(int key);
+
+    /**
+     * must be called after the SpanEvent has been serialized.
+     * annotations of the SpanEvent are recycled together.
+     */
+    void recycle(SpanEvent spanEvent);
+
+    void recycle(Annotation annotation);
+
+}
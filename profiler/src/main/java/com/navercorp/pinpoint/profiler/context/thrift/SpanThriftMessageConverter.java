@@ -32,6 +32,8 @@ import com.navercorp.pinpoint.profiler.context.compress.Context;
 import com.navercorp.pinpoint.profiler.context.id.Shared;
 import com.navercorp.pinpoint.profiler.context.id.TraceRoot;
 import com.navercorp.pinpoint.profiler.context.id.TransactionIdEncoder;
+import com.navercorp.pinpoint.profiler.context.recycler.EmptySpanDataRecycler;
+import com.navercorp.pinpoint.profiler.context.recycler.SpanDataRecycler;
 import com.navercorp.pinpoint.profiler.util.AnnotationValueMapper;
 import com.navercorp.pinpoint.thrift.dto.TAnnotation;
 import com.navercorp.pinpoint.thrift.dto.TAnnotationValue;
@@ -56,16 +58,23 @@ public class SpanThriftMessageConverter implements MessageConverter<TBase<?, ?>>
     private final short applicationServiceType;
     private final TransactionIdEncoder transactionIdEncoder;
     private final SpanPostProcessor<Context> spanPostProcessor;
+    private final SpanDataRecycler spanDataRecycler;
 
     public SpanThriftMessageConverter(String applicationName, String agentId, long agentStartTime, short applicationServiceType,
                                       TransactionIdEncoder transactionIdEncoder, SpanPostProcessor<Context> spanPostProcessor) {
+        this(applicationName, agentId, agentStartTime, applicationServiceType, transactionIdEncoder, spanPostProcessor, EmptySpanDataRecycler.INSTANCE);
+    }
+
+    public SpanThriftMessageConverter(String applicationName, String agentId, long agentStartTime, short applicationServiceType,
+                                      TransactionIdEncoder transactionIdEncoder, SpanPostProcessor<Context> spanPostProcessor,
+                                      SpanDataRecycler spanDataRecycler) {
         this.applicationName = Assert.requireNonNull(applicationName, "applicationName must not be null");
         this.agentId = Assert.requireNonNull(agentId, "agentId must not be null");
         this.agentStartTime = agentStartTime;
         this.applicationServiceType = applicationServiceType;
         this.transactionIdEncoder = Assert.requireNonNull(transactionIdEncoder, "transactionIdEncoder must not be null");
         this.spanPostProcessor = Assert.requireNonNull(spanPostProcessor, "spanPostProcessor must not be null");
-
+        this.spanDataRecycler = Assert.requireNonNull(spanDataRecycler, "spanDataRecycler must not be null");
     }
 
 
@@ -74,16 +83,39 @@ public class SpanThriftMessageConverter implements MessageConverter<TBase<?, ?>>
         if (message instanceof SpanChunk) {
             final SpanChunk spanChunk = (SpanChunk) message;
             final TSpanChunk tSpanChunk = buildTSpanChunk(spanChunk);
+            recycle(spanChunk.getSpanEventList());
             return tSpanChunk;
         }
         if (message instanceof Span) {
             final Span span = (Span) message;
 
-            return buildTSpan(span);
+            final TSpan tSpan = buildTSpan(span);
+            recycleAnnotation(span.getAnnotations());
+            recycle(span.getSpanEventList());
+            return tSpan;
         }
         return null;
     }
 
+    // serialized objects are no longer referenced. return to the recycler
+    private void recycle(List<SpanEvent> spanEventList) {
+        if (spanEventList == null) {
+            return;
+        }
+        for (SpanEvent spanEvent : spanEventList) {
+            spanDataRecycler.recycle(spanEvent);
+        }
+    }
+
+    private void recycleAnnotation(List<Annotation> annotations) {
+        if (annotations == null) {
+            return;
+        }
+        for (Annotation annotation : annotations) {
+            spanDataRecycler.recycle(annotation);
+        }
+    }
+
 
     @VisibleForTesting
     TSpan buildTSpan(Span span) {
@@ -255,7 +287,7 @@ public class SpanThriftMessageConverter implements MessageConverter<TBase<?, ?>>
         final List<TAnnotation> tAnnotationList = new ArrayList<TAnnotation>(annotations.size());
         for (Annotation annotation : annotations) {
             final TAnnotation tAnnotation = new TAnnotation(annotation.getAnnotationKey());
-            final TAnnotationValue tAnnotationValue = AnnotationValueMapper.buildTAnnotationValue(annotation.getValue());
+            final TAnnotationValue tAnnotationValue = buildTAnnotationValue(annotation);
             if (tAnnotationValue != null) {
                 tAnnotation.setValue(tAnnotationValue);
             }
@@ -265,6 +297,16 @@ public class SpanThriftMessageConverter implements MessageConverter<TBase<?, ?>>
         return tAnnotationList;
     }
 
+    private TAnnotationValue buildTAnnotationValue(Annotation annotation) {
+        if (annotation.isIntValue()) {
+            return TAnnotationValue.intValue(annotation.getIntValue());
+        }
+        if (annotation.isLongValue()) {
+            return TAnnotationValue.longValue(annotation.getLongValue());
+        }
+        return AnnotationValueMapper.buildTAnnotationValue(annotation.getValue());
+    }
+
     @Override
     public String toString() {
         return "SpanThriftMessageConverter{" +
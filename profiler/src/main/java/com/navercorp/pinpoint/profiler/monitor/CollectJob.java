@@ -20,17 +20,34 @@ import com.navercorp.pinpoint.profiler.monitor.collector.AgentStatMetricCollecto
 import com.navercorp.pinpoint.profiler.sender.DataSender;
 import com.navercorp.pinpoint.thrift.dto.TAgentStat;
 import com.navercorp.pinpoint.thrift.dto.TAgentStatBatch;
+import com.navercorp.pinpoint.thrift.dto.TDataSource;
+import com.navercorp.pinpoint.thrift.dto.TDataSourceList;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 /**
  * @author Woonduk Kang(emeroad)
  */
 public class CollectJob implements Runnable {
 
+    /**
+     * encoded size of the optional payloads(thread samples, sql stats) of a batch.
+     * the rest of a batch takes a few KB, so the whole batch stays below the UDP datagram limit(65507 bytes).
+     */
+    static final int MAX_OPTIONAL_STAT_BYTES_PER_BATCH = 40 * 1024;
+
+    /**
+     * share of {@link #MAX_OPTIONAL_STAT_BYTES_PER_BATCH} reserved for sql stats.
+     * sql stat counts are drained from the registry, so they are never dropped from a batch.
+     * the registry is sized to keep a batch of them within this instead.
+     */
+    public static final int MAX_SQL_STAT_BYTES_PER_BATCH = 20 * 1024;
+
     private final Logger logger = LoggerFactory.getLogger(this.getClass());
 
     private final DataSender dataSender;
@@ -38,16 +55,25 @@ public class CollectJob implements Runnable {
     private final long agentStartTimestamp;
     private final AgentStatMetricCollector<TAgentStat> agentStatCollector;
     private final int numCollectionsPerBatch;
+    private final boolean compactDataSource;
 
     // Not thread safe. For use with single thread ONLY
     private int collectCount = 0;
     private long prevCollectionTimestamp = System.currentTimeMillis();
     private List<TAgentStat> agentStats;
+    private final Map<Integer, TDataSource> sentDataSources;
 
     public CollectJob(DataSender dataSender,
                        String agentId, long agentStartTimestamp,
                        AgentStatMetricCollector<TAgentStat> agentStatCollector,
                        int numCollectionsPerBatch) {
+        this(dataSender, agentId, agentStartTimestamp, agentStatCollector, numCollectionsPerBatch, false);
+    }
+
+    public CollectJob(DataSender dataSender,
+                       String agentId, long agentStartTimestamp,
+                       AgentStatMetricCollector<TAgentStat> agentStatCollector,
+                       int numCollectionsPerBatch, boolean compactDataSource) {
         if (dataSender == null) {
             throw new NullPointerException("dataSender must not be null");
         }
@@ -56,7 +82,9 @@ public class CollectJob implements Runnable {
         this.agentStartTimestamp = agentStartTimestamp;
         this.agentStatCollector = agentStatCollector;
         this.numCollectionsPerBatch = numCollectionsPerBatch;
+        this.compactDataSource = compactDataSource;
         this.agentStats = new ArrayList<TAgentStat>(numCollectionsPerBatch);
+        this.sentDataSources = new HashMap<Integer, TDataSource>();
     }
 
     @Override
@@ -67,6 +95,9 @@ public class CollectJob implements Runnable {
             final TAgentStat agentStat = agentStatCollector.collect();
             agentStat.setTimestamp(currentCollectionTimestamp);
             agentStat.setCollectInterval(collectInterval);
+            if (compactDataSource) {
+                compactDataSourceList(agentStat.getDataSourceList());
+            }
             this.agentStats.add(agentStat);
             if (++this.collectCount >= numCollectionsPerBatch) {
                 sendAgentStats();
@@ -80,18 +111,74 @@ public class CollectJob implements Runnable {
     }
 
     private void sendAgentStats() {
-        // prepare TAgentStat object.
-        // TODO multi thread issue.
-        // If we reuse TAgentStat, there could be concurrency issue because data sender runs in a different thread.
+        // The data sender serializes the batch on its own thread, so nothing handed over is touched here afterwards.
+        // agentStatCollector.collect() creates a new TAgentStat every time, and sentDataSources keeps copies.
+        limitOptionalStatBytes(this.agentStats);
         final TAgentStatBatch agentStatBatch = new TAgentStatBatch();
         agentStatBatch.setAgentId(agentId);
         agentStatBatch.setStartTimestamp(agentStartTimestamp);
         agentStatBatch.setAgentStats(this.agentStats);
-        // If we reuse agentStats list, there could be concurrency issue because data sender runs in a different
-        // thread.
-        // So create new list.
+        // the list is owned by the batch from now on, start a new one
         this.agentStats = new ArrayList<TAgentStat>(numCollectionsPerBatch);
+        // every batch must be decodable on its own
+        this.sentDataSources.clear();
         logger.trace("collect agentStat:{}", agentStatBatch);
         dataSender.send(agentStatBatch);
     }
+
+    /**
+     * A batch larger than a UDP datagram is discarded as a whole, including cpu, gc and memory stats.
+     * Drops the thread samples of the oldest stats until the batch fits.
+     * Sql stats stay within {@link #MAX_SQL_STAT_BYTES_PER_BATCH} and are always sent.
+     */
+    private void limitOptionalStatBytes(List<TAgentStat> agentStats) {
+        int bytes = 0;
+        for (TAgentStat agentStat : agentStats) {
+            bytes += StatSizeEstimator.threadSampleSize(agentStat.getThreadSample());
+            bytes += StatSizeEstimator.sqlStatListSize(agentStat.getSqlStatList());
+        }
+        for (int i = 0; i < agentStats.size() && bytes > MAX_OPTIONAL_STAT_BYTES_PER_BATCH; i++) {
+            final TAgentStat agentStat = agentStats.get(i);
+            if (agentStat.isSetThreadSample()) {
+                bytes -= StatSizeEstimator.threadSampleSize(agentStat.getThreadSample());
+                agentStat.unsetThreadSample();
+                logger.debug("thread sample dropped. agent stat batch too large");
+            }
+        }
+    }
+
+    /**
+     * databaseName and url rarely change, but are repeated for every datasource on every collection.
+     * Only the first occurrence within a batch carries them, the collector restores the rest by datasource id.
+     */
+    private void compactDataSourceList(TDataSourceList dataSourceList) {
+        if (dataSourceList == null || dataSourceList.getDataSourceListSize() == 0) {
+            return;
+        }
+        for (TDataSource dataSource : dataSourceList.getDataSourceList()) {
+            final TDataSource sent = sentDataSources.get(dataSource.getId());
+            if (sent == null) {
+                // copy, the original is owned by the batch being built
+                sentDataSources.put(dataSource.getId(), dataSource.deepCopy());
+                continue;
+            }
+            if (equals(sent.getDatabaseName(), dataSource.getDatabaseName())) {
+                dataSource.unsetDatabaseName();
+            } else {
+                sent.setDatabaseName(dataSource.getDatabaseName());
+            }
+            if (equals(sent.getUrl(), dataSource.getUrl())) {
+                dataSource.unsetUrl();
+            } else {
+                sent.setUrl(dataSource.getUrl());
+            }
+        }
+    }
+
+    private static boolean equals(String sent, String current) {
+        if (sent == null) {
+            return current == null;
+        }
+        return sent.equals(current);
+    }
 }
@@ -60,13 +60,21 @@ public class DefaultAgentStatMonitor implements AgentStatMonitor {
                                    @AgentId String agentId, @AgentStartTime long agentStartTimestamp,
                                    @Named("AgentStatCollector") AgentStatMetricCollector<TAgentStat> agentStatCollector,
                                    ProfilerConfig profilerConfig) {
-        this(dataSender, agentId, agentStartTimestamp, agentStatCollector, profilerConfig.getProfileJvmStatCollectIntervalMs(), profilerConfig.getProfileJvmStatBatchSendCount());
+        this(dataSender, agentId, agentStartTimestamp, agentStatCollector, profilerConfig.getProfileJvmStatCollectIntervalMs(), profilerConfig.getProfileJvmStatBatchSendCount(),
+                profilerConfig.isProfileJvmStatBatchCompactDataSource());
     }
 
     public DefaultAgentStatMonitor(DataSender dataSender,
                                    String agentId, long agentStartTimestamp,
                                    AgentStatMetricCollector<TAgentStat> agentStatCollector,
                                    long collectionIntervalMs, int numCollectionsPerBatch) {
+        this(dataSender, agentId, agentStartTimestamp, agentStatCollector, collectionIntervalMs, numCollectionsPerBatch, false);
+    }
+
+    public DefaultAgentStatMonitor(DataSender dataSender,
+                                   String agentId, long agentStartTimestamp,
+                                   AgentStatMetricCollector<TAgentStat> agentStatCollector,
+                                   long collectionIntervalMs, int numCollectionsPerBatch, boolean compactDataSource) {
         if (dataSender == null) {
             throw new NullPointerException("dataSender must not be null");
         }
@@ -86,7 +94,7 @@ public class DefaultAgentStatMonitor implements AgentStatMonitor {
             numCollectionsPerBatch = DEFAULT_NUM_COLLECTIONS_PER_SEND;
         }
         this.collectionIntervalMs = collectionIntervalMs;
-        this.collectJob = new CollectJob(dataSender, agentId, agentStartTimestamp, agentStatCollector, numCollectionsPerBatch);
+        this.collectJob = new CollectJob(dataSender, agentId, agentStartTimestamp, agentStatCollector, numCollectionsPerBatch, compactDataSource);
 
         preLoadClass(agentId, agentStartTimestamp, agentStatCollector);
     }
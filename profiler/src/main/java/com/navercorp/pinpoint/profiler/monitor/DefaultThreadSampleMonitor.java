@@ -0,0 +1,47 @@
+/*
+ * Copyright 2018 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.pinpoint.profiler.monitor;
+
+import com.navercorp.pinpoint.profiler.context.active.ActiveTraceRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+public class DefaultThreadSampleMonitor implements ThreadSampleMonitor {
+
+    private final Logger logger = LoggerFactory.getLogger(this.getClass());
+
+    private final ThreadSampleMonitorThread threadSampleMonitorThread;
+
+    public DefaultThreadSampleMonitor(ActiveTraceRepository activeTraceRepository, ThreadSampleRegistry threadSampleRegistry,
+                                      long intervalMillis, long minElapsedMillis, int maxDepth) {
+        ThreadSampleMonitorTask task = new ThreadSampleMonitorTask(activeTraceRepository, threadSampleRegistry, intervalMillis, minElapsedMillis, maxDepth);
+        this.threadSampleMonitorThread = new ThreadSampleMonitorThread(task);
+    }
+
+    @Override
+    public void start() {
+        logger.info("DefaultThreadSampleMonitor started");
+        threadSampleMonitorThread.start();
+    }
+
+    @Override
+    public void stop() {
+        logger.info("DefaultThreadSampleMonitor stopped");
+        threadSampleMonitorThread.stop();
+    }
+
+}
@@ -0,0 +1,118 @@
+/*
+ * Copyright 2018 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.pinpoint.profiler.monitor;
+
+/**
+ * Execution statistics of a single sql statement on a single datasource.
+ */
+public class SqlStat {
+
+    private final SqlDatabase database;
+    private final int sqlId;
+
+    private final int count;
+    private final int errorCount;
+    private final long totalTime;
+    private final int maxTime;
+
+    private final int fastCount;
+    private final int normalCount;
+    private final int slowCount;
+    private final int verySlowCount;
+
+    public SqlStat(SqlDatabase database, int sqlId, int count, int errorCount, long totalTime, int maxTime,
+                   int fastCount, int normalCount, int slowCount, int verySlowCount) {
+        if (database == null) {
+            throw new NullPointerException("database must not be null");
+        }
+        this.database = database;
+        this.sqlId = sqlId;
+        this.count = count;
+        this.errorCount = errorCount;
+        this.totalTime = totalTime;
+        this.maxTime = maxTime;
+        this.fastCount = fastCount;
+        this.normalCount = normalCount;
+        this.slowCount = slowCount;
+        this.verySlowCount = verySlowCount;
+    }
+
+    public SqlDatabase getDatabase() {
+        return database;
+    }
+
+    public String getDatabaseName() {
+        return database.getDatabaseName();
+    }
+
+    public String getUrl() {
+        return database.getUrl();
+    }
+
+    public int getSqlId() {
+        return sqlId;
+    }
+
+    public int getCount() {
+        return count;
+    }
+
+    public int getErrorCount() {
+        return errorCount;
+    }
+
+    public long getTotalTime() {
+        return totalTime;
+    }
+
+    public int getMaxTime() {
+        return maxTime;
+    }
+
+    public int getFastCount() {
+        return fastCount;
+    }
+
+    public int getNormalCount() {
+        return normalCount;
+    }
+
+    public int getSlowCount() {
+        return slowCount;
+    }
+
+    public int getVerySlowCount() {
+        return verySlowCount;
+    }
+
+    @Override
+    public String toString() {
+        final StringBuilder sb = new StringBuilder("SqlStat{");
+        sb.append("database=").append(database);
+        sb.append(", sqlId=").append(sqlId);
+        sb.append(", count=").append(count);
+        sb.append(", errorCount=").append(errorCount);
+        sb.append(", totalTime=").append(totalTime);
+        sb.append(", maxTime=").append(maxTime);
+        sb.append(", fastCount=").append(fastCount);
+        sb.append(", normalCount=").append(normalCount);
+        sb.append(", slowCount=").append(slowCount);
+        sb.append(", verySlowCount=").append(verySlowCount);
+        sb.append('}');
+        return sb.toString();
+    }
+}
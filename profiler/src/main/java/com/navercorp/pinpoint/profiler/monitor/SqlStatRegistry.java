@@ -0,0 +1,273 @@
+/*
+ * Copyright 2018 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.pinpoint.profiler.monitor;
+
+import com.navercorp.pinpoint.common.trace.BaseHistogramSchema;
+import com.navercorp.pinpoint.common.trace.HistogramSchema;
+import com.navercorp.pinpoint.common.trace.HistogramSlot;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Per sql execution statistics recorded between two agent stat collections.
+ * New statements beyond maxSize distinct keys are dropped until the next drain.
+ * Agent stats are sent over UDP, so a drain returns the statements with the longest total time within maxBytes,
+ * and carries the others over to the next drain.
+ */
+public class SqlStatRegistry {
+
+    private static final HistogramSchema SCHEMA = BaseHistogramSchema.FAST_SCHEMA;
+
+    // same order as the web sql stat summary
+    private static final Comparator<SqlStat> TOTAL_TIME_DESCENDING = new Comparator<SqlStat>() {
+        @Override
+        public int compare(SqlStat o1, SqlStat o2) {
+            final long totalTime1 = o1.getTotalTime();
+            final long totalTime2 = o2.getTotalTime();
+            return totalTime1 > totalTime2 ? -1 : (totalTime1 == totalTime2 ? 0 : 1);
+        }
+    };
+
+    private final int maxSize;
+    private final int maxBytes;
+
+    private final AtomicReference<ConcurrentMap<Key, Counter>> counterMapReference;
+
+    public SqlStatRegistry(int maxSize, int maxBytes) {
+        if (maxSize <= 0) {
+            throw new IllegalArgumentException("maxSize must be greater than 0");
+        }
+        if (maxBytes <= 0) {
+            throw new IllegalArgumentException("maxBytes must be greater than 0");
+        }
+        this.maxSize = maxSize;
+        this.maxBytes = maxBytes;
+        this.counterMapReference = new AtomicReference<ConcurrentMap<Key, Counter>>(new ConcurrentHashMap<Key, Counter>());
+    }
+
+    public void record(String databaseName, String url, int sqlId, int elapsedTime, boolean error) {
+        final ConcurrentMap<Key, Counter> counterMap = counterMapReference.get();
+        final Key key = new Key(new SqlDatabase(databaseName, url), sqlId);
+        Counter counter = counterMap.get(key);
+        if (counter == null) {
+            if (counterMap.size() >= maxSize) {
+                return;
+            }
+            counter = getOrCreate(counterMap, key);
+        }
+        counter.add(elapsedTime, error);
+
+        final ConcurrentMap<Key, Counter> currentCounterMap = counterMapReference.get();
+        if (currentCounterMap != counterMap) {
+            // drained in the meantime, the drain may have missed this execution.
+            // move whatever is left to the next map, the drain and this writer never move the same count twice.
+            counter.drainTo(getOrCreate(currentCounterMap, key));
+        }
+    }
+
+    /**
+     * Returns the statistics recorded since the previous call, and clears them.
+     * Writers never wait for a drain. The counter map is swapped, and each counter is read and reset field by field.
+     * A writer that finds the map swapped after recording moves its own leftovers to the next map,
+     * so an execution recorded during a drain is returned by this drain or by the next one.
+     */
+    public synchronized List<SqlStat> drain() {
+        final ConcurrentMap<Key, Counter> nextCounterMap = new ConcurrentHashMap<Key, Counter>();
+        final ConcurrentMap<Key, Counter> counterMap = counterMapReference.getAndSet(nextCounterMap);
+
+        final Map<Key, Counter> drained = new HashMap<Key, Counter>();
+        drainTo(counterMap, drained);
+
+        if (drained.isEmpty()) {
+            return Collections.emptyList();
+        }
+
+        final List<SqlStat> sqlStatList = new ArrayList<SqlStat>(drained.size());
+        for (Map.Entry<Key, Counter> entry : drained.entrySet()) {
+            sqlStatList.add(entry.getValue().toSqlStat(entry.getKey()));
+        }
+        Collections.sort(sqlStatList, TOTAL_TIME_DESCENDING);
+
+        final List<SqlStat> result = new ArrayList<SqlStat>(sqlStatList.size());
+        final Set<SqlDatabase> databases = new HashSet<SqlDatabase>();
+        int bytes = 0;
+        for (SqlStat sqlStat : sqlStatList) {
+            final SqlDatabase database = sqlStat.getDatabase();
+            int size = StatSizeEstimator.sqlStatSize();
+            if (!databases.contains(database)) {
+                size += StatSizeEstimator.sqlDatabaseSize(database.getDatabaseName(), database.getUrl());
+            }
+            if (bytes + size > maxBytes) {
+                // counts are already drained, send them with the next agent stat
+                final Key key = new Key(database, sqlStat.getSqlId());
+                drained.get(key).drainTo(getOrCreate(nextCounterMap, key));
+                continue;
+            }
+            bytes += size;
+            databases.add(database);
+            result.add(sqlStat);
+        }
+        return result;
+    }
+
+    private static void drainTo(Map<Key, Counter> counterMap, Map<Key, Counter> drained) {
+        for (Map.Entry<Key, Counter> entry : counterMap.entrySet()) {
+            final Counter counter = entry.getValue();
+            if (counter.isEmpty()) {
+                continue;
+            }
+            final Key key = entry.getKey();
+            Counter target = drained.get(key);
+            if (target == null) {
+                target = new Counter();
+                drained.put(key, target);
+            }
+            counter.drainTo(target);
+        }
+    }
+
+    private static Counter getOrCreate(ConcurrentMap<Key, Counter> counterMap, Key key) {
+        final Counter counter = counterMap.get(key);
+        if (counter != null) {
+            return counter;
+        }
+        final Counter newCounter = new Counter();
+        final Counter oldCounter = counterMap.putIfAbsent(key, newCounter);
+        return oldCounter != null ? oldCounter : newCounter;
+    }
+
+    @Override
+    public String toString() {
+        final StringBuilder sb = new StringBuilder("SqlStatRegistry{");
+        sb.append("maxSize=").append(maxSize);
+        sb.append(", maxBytes=").append(maxBytes);
+        sb.append('}');
+        return sb.toString();
+    }
+
+    private static class Key {
+        private final SqlDatabase database;
+        private final int sqlId;
+
+        private Key(SqlDatabase database, int sqlId) {
+            this.database = database;
+            this.sqlId = sqlId;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (o == null || getClass() != o.getClass()) return false;
+
+            Key key = (Key) o;
+
+            if (sqlId != key.sqlId) return false;
+            return database.equals(key.database);
+        }
+
+        @Override
+        public int hashCode() {
+            int result = database.hashCode();
+            result = 31 * result + sqlId;
+            return result;
+        }
+    }
+
+    private static class Counter {
+        private final AtomicInteger count = new AtomicInteger();
+        private final AtomicInteger errorCount = new AtomicInteger();
+        private final AtomicLong totalTime = new AtomicLong();
+        private final AtomicInteger maxTime = new AtomicInteger();
+
+        private final AtomicInteger fastCount = new AtomicInteger();
+        private final AtomicInteger normalCount = new AtomicInteger();
+        private final AtomicInteger slowCount = new AtomicInteger();
+        private final AtomicInteger verySlowCount = new AtomicInteger();
+
+        private void add(int elapsedTime, boolean error) {
+            count.incrementAndGet();
+            if (error) {
+                errorCount.incrementAndGet();
+            }
+            totalTime.addAndGet(elapsedTime);
+            updateMaxTime(elapsedTime);
+
+            final HistogramSlot slot = SCHEMA.findHistogramSlot(elapsedTime, false);
+            switch (slot.getSlotType()) {
+                case FAST:
+                    fastCount.incrementAndGet();
+                    break;
+                case NORMAL:
+                    normalCount.incrementAndGet();
+                    break;
+                case SLOW:
+                    slowCount.incrementAndGet();
+                    break;
+                default:
+                    verySlowCount.incrementAndGet();
+                    break;
+            }
+        }
+
+        private void updateMaxTime(int elapsedTime) {
+            while (true) {
+                final int current = maxTime.get();
+                if (elapsedTime <= current) {
+                    return;
+                }
+                if (maxTime.compareAndSet(current, elapsedTime)) {
+                    return;
+                }
+            }
+        }
+
+        private boolean isEmpty() {
+            return count.get() == 0 && errorCount.get() == 0 && totalTime.get() == 0 && maxTime.get() == 0
+                    && fastCount.get() == 0 && normalCount.get() == 0 && slowCount.get() == 0 && verySlowCount.get() == 0;
+        }
+
+        // moves the counts to the target. each field is moved atomically, so concurrent calls never move a count twice
+        private void drainTo(Counter target) {
+            target.count.addAndGet(count.getAndSet(0));
+            target.errorCount.addAndGet(errorCount.getAndSet(0));
+            target.totalTime.addAndGet(totalTime.getAndSet(0));
+            target.updateMaxTime(maxTime.getAndSet(0));
+            target.fastCount.addAndGet(fastCount.getAndSet(0));
+            target.normalCount.addAndGet(normalCount.getAndSet(0));
+            target.slowCount.addAndGet(slowCount.getAndSet(0));
+            target.verySlowCount.addAndGet(verySlowCount.getAndSet(0));
+        }
+
+        private SqlStat toSqlStat(Key key) {
+            return new SqlStat(key.database, key.sqlId, count.get(), errorCount.get(), totalTime.get(), maxTime.get(),
+                    fastCount.get(), normalCount.get(), slowCount.get(), verySlowCount.get());
+        }
+    }
+
+}
@@ -0,0 +1,112 @@
+/*
+ * Copyright 2018 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.navercorp.pinpoint.profiler.monitor;
+
+import com.navercorp.pinpoint.thrift.dto.TSqlDatabase;
+import com.navercorp.pinpoint.thrift.dto.TSqlStat;
+import com.navercorp.pinpoint.thrift.dto.TSqlStatList;
+import com.navercorp.pinpoint.thrift.dto.TThreadSample;
+import com.navercorp.pinpoint.thrift.dto.TThreadSampleStack;
+
+import java.util.List;
+
+/**
+ * Upper bound of the TCompactProtocol encoded size of the optional agent stat payloads.
+ * Agent stats are sent over UDP, so a batch larger than a datagram is dropped as a whole.
+ */
+public final class StatSizeEstimator {
+
+    // field header + the longest varint
+    static final int INT_FIELD_SIZE = 1 + 5;
+    static final int LONG_FIELD_SIZE = 1 + 10;
+    // field header + list header
+    static final int LIST_FIELD_SIZE = 1 + 6;
+    // field header + stop field
+    static final int STRUCT_FIELD_SIZE = 1 + 1;
+
+    private StatSizeEstimator() {
+    }
+
+    static int stringFieldSize(String value) {
+        if (value == null) {
+            return 0;
+        }
+        return INT_FIELD_SIZE + utf8Length(value);
+    }
+
+    static int utf8Length(String value) {
+        final int length = value.length();
+        int utf8Length = length;
+        for (int i = 0; i < length; i++) {
+            final char c = value.charAt(i);
+            if (c >= 0x800) {
+                // surrogate pairs take 4 bytes for 2 chars
+                utf8Length += 2;
+            } else if (c >= 0x80) {
+                utf8Length += 1;
+            }
+        }
+        return utf8Length;
+    }
+
+    public static int threadSampleStackSize(String entryPoint, String stack) {
+        return STRUCT_FIELD_SIZE + INT_FIELD_SIZE + stringFieldSize(entryPoint) + stringFieldSize(stack);
+    }
+
+    public static int threadSampleSize(TThreadSample threadSample) {
+        if (threadSample == null) {
+            return 0;
+        }
+        int size = STRUCT_FIELD_SIZE + INT_FIELD_SIZE + LIST_FIELD_SIZE;
+        final List<TThreadSampleStack> stackList = threadSample.getStackList();
+        if (stackList != null) {
+            for (TThreadSampleStack stack : stackList) {
+                size += threadSampleStackSize(stack.getEntryPoint(), stack.getStack());
+            }
+        }
+        return size;
+    }
+
+    public static int sqlStatSize() {
+        // sqlId, count, errorCount, maxTime, fast/normal/slow/verySlowCount, databaseIndex + totalTime
+        return STRUCT_FIELD_SIZE + 9 * INT_FIELD_SIZE + LONG_FIELD_SIZE;
+    }
+
+    public static int sqlDatabaseSize(String databaseName, String url) {
+        return STRUCT_FIELD_SIZE + stringFieldSize(databaseName) + stringFieldSize(url);
+    }
+
+    public static int sqlStatListSize(TSqlStatList sqlStatList) {
+        if (sqlStatList == null) {
+            return 0;
+        }
+        int size = STRUCT_FIELD_SIZE + 2 * LIST_FIELD_SIZE;
+        final List<TSqlStat> list = sqlStatList.getSqlStatList();
+        if (list != null) {
+            for (TSqlStat sqlStat : list) {
+                size += sqlStatSize() + stringFieldSize(sqlStat.getDatabaseName()) + stringFieldSize(sqlStat.getUrl());
+            }
+        }
+        final List<TSqlDatabase> databaseList = sqlStatList.getDatabaseList();
+        if (databaseList != null) {
+            for (TSqlDatabase database : databaseList) {
+                size += sqlDatabaseSize(database.getDatabaseName(), database.getUrl());
+            }
+        }
+        return size;
+    }
+
+}
@@ -0,0 +1,150 @@
+/*
+ * Copyright 2018 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.pinpoint.profiler.monitor;
+
+import com.navercorp.pinpoint.common.util.ThreadMXBeanUtils;
+import com.navercorp.pinpoint.profiler.context.active.ActiveTraceRepository;
+import com.navercorp.pinpoint.profiler.context.active.ActiveTraceSnapshot;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.lang.management.ThreadInfo;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Samples the stacks of the threads whose active trace has been running longer than minElapsedMillis.
+ * Only those threads are dumped, so the cost of a sample grows with the number of slow requests, not with the thread count.
+ */
+public class ThreadSampleMonitorTask implements Runnable {
+
+    private static final char FRAME_SEPARATOR = ';';
+
+    private final Logger logger = LoggerFactory.getLogger(this.getClass());
+
+    private final ActiveTraceRepository activeTraceRepository;
+    private final ThreadSampleRegistry threadSampleRegistry;
+    private final long intervalMillis;
+    private final long minElapsedMillis;
+    private final int maxDepth;
+
+    private AtomicBoolean stop = new AtomicBoolean(false);
+
+    public ThreadSampleMonitorTask(ActiveTraceRepository activeTraceRepository, ThreadSampleRegistry threadSampleRegistry,
+                                   long intervalMillis, long minElapsedMillis, int maxDepth) {
+        if (activeTraceRepository == null) {
+            throw new NullPointerException("activeTraceRepository must not be null");
+        }
+        if (threadSampleRegistry == null) {
+            throw new NullPointerException("threadSampleRegistry must not be null");
+        }
+        this.activeTraceRepository = activeTraceRepository;
+        this.threadSampleRegistry = threadSampleRegistry;
+        this.intervalMillis = intervalMillis;
+        this.minElapsedMillis = minElapsedMillis;
+        this.maxDepth = maxDepth;
+    }
+
+    @Override
+    public void run() {
+        while (!stop.get()) {
+            try {
+                doTask();
+            } catch (Exception e) {
+                logger.warn("ThreadSampleMonitorTask failed. Caused:{}", e.getMessage(), e);
+            }
+            waitNextTask();
+        }
+        logger.info("ThreadSampleMonitorTask stop completed");
+    }
+
+    void doTask() {
+        final List<ActiveTraceSnapshot> activeTraceSnapshotList = activeTraceRepository.snapshot();
+        if (activeTraceSnapshotList.isEmpty()) {
+            return;
+        }
+
+        final long currentTime = System.currentTimeMillis();
+        final Map<Long, String> entryPointMap = new HashMap<Long, String>();
+        for (ActiveTraceSnapshot activeTraceSnapshot : activeTraceSnapshotList) {
+            if (currentTime - activeTraceSnapshot.getStartTime() < minElapsedMillis) {
+                continue;
+            }
+            entryPointMap.put(activeTraceSnapshot.getThreadId(), activeTraceSnapshot.getEntryPoint());
+        }
+        if (entryPointMap.isEmpty()) {
+            return;
+        }
+
+        final long[] threadIds = new long[entryPointMap.size()];
+        int index = 0;
+        for (Long threadId : entryPointMap.keySet()) {
+            threadIds[index++] = threadId;
+        }
+
+        // the MXBean keeps the innermost frames when a depth is given, so full stacks are taken and cut from the leaf side in foldStack
+        final ThreadInfo[] threadInfos = ThreadMXBeanUtils.findThread(threadIds, Integer.MAX_VALUE);
+        for (ThreadInfo threadInfo : threadInfos) {
+            // terminated thread
+            if (threadInfo == null) {
+                continue;
+            }
+            final String stack = foldStack(threadInfo.getStackTrace(), maxDepth);
+            threadSampleRegistry.record(entryPointMap.get(threadInfo.getThreadId()), stack);
+        }
+    }
+
+    /**
+     * Joins the frames with ';' starting from the outermost frame, without line numbers,
+     * so that the same code path is folded into one stack regardless of where each frame stopped.
+     * Only the outermost maxDepth frames are kept, so a deep stack still starts at its entry point.
+     */
+    static String foldStack(StackTraceElement[] stackTrace, int maxDepth) {
+        final int lastIndex = Math.max(0, stackTrace.length - maxDepth);
+        final StringBuilder sb = new StringBuilder((stackTrace.length - lastIndex) * 64);
+        for (int i = stackTrace.length - 1; i >= lastIndex; i--) {
+            final StackTraceElement frame = stackTrace[i];
+            sb.append(frame.getClassName()).append('.').append(frame.getMethodName());
+            if (i > lastIndex) {
+                sb.append(FRAME_SEPARATOR);
+            }
+        }
+        return sb.toString();
+    }
+
+    private void waitNextTask() {
+        if (!Thread.interrupted()) {
+            try {
+                Thread.sleep(intervalMillis);
+            } catch (InterruptedException ignore) {
+                // It only exhaust time to wait using interrupt.
+                // The end of the job is confirmed by using the stop field.
+            }
+        }
+    }
+
+    void stop() {
+        if (stop.compareAndSet(false, true)) {
+            logger.info("ThreadSampleMonitorTask stop started");
+        } else {
+            logger.info("ThreadSampleMonitorTask already stopped");
+        }
+    }
+
+}
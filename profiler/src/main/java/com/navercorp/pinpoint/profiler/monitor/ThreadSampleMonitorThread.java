@@ -0,0 +1,42 @@
+/*
+ * Copyright 2018 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.pinpoint.profiler.monitor;
+
+public class ThreadSampleMonitorThread {
+
+    private final ThreadSampleMonitorTask threadSampleMonitorTask;
+    private final Thread threadSampleMonitorThread;
+
+    public ThreadSampleMonitorThread(ThreadSampleMonitorTask threadSampleMonitorTask) {
+        if (threadSampleMonitorTask == null) {
+            throw new NullPointerException("threadSampleMonitorTask must not be null");
+        }
+        this.threadSampleMonitorTask = threadSampleMonitorTask;
+        this.threadSampleMonitorThread = new Thread(threadSampleMonitorTask, "Pinpoint-thread-sample-monitor");
+        this.threadSampleMonitorThread.setDaemon(true);
+    }
+
+    void start() {
+        threadSampleMonitorThread.start();
+    }
+
+    void stop() {
+        threadSampleMonitorTask.stop();
+        threadSampleMonitorThread.interrupt();
+    }
+
+}
@@ -0,0 +1,163 @@
+/*
+ * Copyright 2018 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.pinpoint.profiler.monitor;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Folded stack histogram of the threads sampled between two agent stat collections.
+ * The drained histogram keeps the most frequent stacks within maxBytes of encoded size,
+ * so that the agent stat batch still fits in a single UDP datagram.
+ */
+public class ThreadSampleRegistry {
+
+    private static final ThreadSampleSnapshot EMPTY_SNAPSHOT = new ThreadSampleSnapshot(0, Collections.<ThreadSampleStack>emptyList());
+
+    private static final Comparator<ThreadSampleStack> SAMPLE_COUNT_DESCENDING = new Comparator<ThreadSampleStack>() {
+        @Override
+        public int compare(ThreadSampleStack o1, ThreadSampleStack o2) {
+            final int count1 = o1.getSampleCount();
+            final int count2 = o2.getSampleCount();
+            return count1 > count2 ? -1 : (count1 == count2 ? 0 : 1);
+        }
+    };
+
+    private final int maxStacks;
+    private final int maxBytes;
+
+    private final Object lock = new Object();
+    private Map<Key, Counter> stackCountMap = new HashMap<Key, Counter>();
+    private int sampledThreadCount = 0;
+
+    public ThreadSampleRegistry(int maxStacks, int maxBytes) {
+        if (maxStacks <= 0) {
+            throw new IllegalArgumentException("maxStacks must be greater than 0");
+        }
+        if (maxBytes <= 0) {
+            throw new IllegalArgumentException("maxBytes must be greater than 0");
+        }
+        this.maxStacks = maxStacks;
+        this.maxBytes = maxBytes;
+    }
+
+    void record(String entryPoint, String stack) {
+        if (stack == null) {
+            throw new NullPointerException("stack must not be null");
+        }
+        final Key key = new Key(entryPoint, stack);
+        synchronized (lock) {
+            sampledThreadCount++;
+            Counter counter = stackCountMap.get(key);
+            if (counter == null) {
+                if (stackCountMap.size() >= maxStacks) {
+                    // only counted in sampledThreadCount
+                    return;
+                }
+                counter = new Counter();
+                stackCountMap.put(key, counter);
+            }
+            counter.value++;
+        }
+    }
+
+    /**
+     * Returns the samples recorded since the previous call, and clears them.
+     */
+    public ThreadSampleSnapshot drain() {
+        final Map<Key, Counter> stackCountMap;
+        final int sampledThreadCount;
+        synchronized (lock) {
+            if (this.sampledThreadCount == 0) {
+                return EMPTY_SNAPSHOT;
+            }
+            stackCountMap = this.stackCountMap;
+            sampledThreadCount = this.sampledThreadCount;
+            this.stackCountMap = new HashMap<Key, Counter>();
+            this.sampledThreadCount = 0;
+        }
+
+        final List<ThreadSampleStack> stackList = new ArrayList<ThreadSampleStack>(stackCountMap.size());
+        for (Map.Entry<Key, Counter> entry : stackCountMap.entrySet()) {
+            final Key key = entry.getKey();
+            stackList.add(new ThreadSampleStack(key.entryPoint, key.stack, entry.getValue().value));
+        }
+        return new ThreadSampleSnapshot(sampledThreadCount, limitBytes(stackList));
+    }
+
+    private List<ThreadSampleStack> limitBytes(List<ThreadSampleStack> stackList) {
+        Collections.sort(stackList, SAMPLE_COUNT_DESCENDING);
+        final List<ThreadSampleStack> limited = new ArrayList<ThreadSampleStack>(stackList.size());
+        int bytes = 0;
+        for (ThreadSampleStack stack : stackList) {
+            final int stackBytes = StatSizeEstimator.threadSampleStackSize(stack.getEntryPoint(), stack.getStack());
+            if (bytes + stackBytes > maxBytes) {
+                // only counted in sampledThreadCount
+                continue;
+            }
+            bytes += stackBytes;
+            limited.add(stack);
+        }
+        return limited;
+    }
+
+    @Override
+    public String toString() {
+        final StringBuilder sb = new StringBuilder("ThreadSampleRegistry{");
+        sb.append("maxStacks=").append(maxStacks);
+        sb.append(", maxBytes=").append(maxBytes);
+        sb.append('}');
+        return sb.toString();
+    }
+
+    private static class Key {
+        private final String entryPoint;
+        private final String stack;
+
+        private Key(String entryPoint, String stack) {
+            this.entryPoint = entryPoint;
+            this.stack = stack;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (o == null || getClass() != o.getClass()) return false;
+
+            Key key = (Key) o;
+
+            if (entryPoint != null ? !entryPoint.equals(key.entryPoint) : key.entryPoint != null) return false;
+            return stack.equals(key.stack);
+        }
+
+        @Override
+        public int hashCode() {
+            int result = entryPoint != null ? entryPoint.hashCode() : 0;
+            result = 31 * result + stack.hashCode();
+            return result;
+        }
+    }
+
+    private static class Counter {
+        private int value;
+    }
+
+}
@@ -0,0 +1,54 @@
+/*
+ * Copyright 2018 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.pinpoint.profiler.monitor;
+
+import java.util.List;
+
+public class ThreadSampleSnapshot {
+
+    private final int sampledThreadCount;
+    private final List<ThreadSampleStack> stackList;
+
+    public ThreadSampleSnapshot(int sampledThreadCount, List<ThreadSampleStack> stackList) {
+        if (stackList == null) {
+            throw new NullPointerException("stackList must not be null");
+        }
+        this.sampledThreadCount = sampledThreadCount;
+        this.stackList = stackList;
+    }
+
+    /**
+     * @return number of thread samples taken, including the ones dropped because of profiler.monitor.threadsample.max.stacks or max.bytes
+     */
+    public int getSampledThreadCount() {
+        return sampledThreadCount;
+    }
+
+    public List<ThreadSampleStack> getStackList() {
+        return stackList;
+    }
+
+    @Override
+    public String toString() {
+        final StringBuilder sb = new StringBuilder("ThreadSampleSnapshot{");
+        sb.append("sampledThreadCount=").append(sampledThreadCount);
+        sb.append(", stackList=").append(stackList);
+        sb.append('}');
+        return sb.toString();
+    }
+
+}
@@ -0,0 +1,59 @@
+/*
+ * Copyright 2018 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.pinpoint.profiler.monitor;
+
+public class ThreadSampleStack {
+
+    private final String entryPoint;
+    private final String stack;
+    private final int sampleCount;
+
+    public ThreadSampleStack(String entryPoint, String stack, int sampleCount) {
+        this.entryPoint = entryPoint;
+        this.stack = stack;
+        this.sampleCount = sampleCount;
+    }
+
+    /**
+     * @return entry point of the sampled trace, or null if the trace was not sampled
+     */
+    public String getEntryPoint() {
+        return entryPoint;
+    }
+
+    /**
+     * @return frames joined with ';', from the outermost frame to the innermost one
+     */
+    public String getStack() {
+        return stack;
+    }
+
+    public int getSampleCount() {
+        return sampleCount;
+    }
+
+    @Override
+    public String toString() {
+        final StringBuilder sb = new StringBuilder("ThreadSampleStack{");
+        sb.append("entryPoint='").append(entryPoint).append('\'');
+        sb.append(", stack='").append(stack).append('\'');
+        sb.append(", sampleCount=").append(sampleCount);
+        sb.append('}');
+        return sb.toString();
+    }
+
+}
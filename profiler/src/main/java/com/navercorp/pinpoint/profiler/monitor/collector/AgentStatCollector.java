@@ -18,8 +18,6 @@ package com.navercorp.pinpoint.profiler.monitor.collector;
 
 import com.google.inject.Inject;
 import com.navercorp.pinpoint.common.util.Assert;
-import com.navercorp.pinpoint.profiler.context.module.AgentId;
-import com.navercorp.pinpoint.profiler.context.module.AgentStartTime;
 import com.navercorp.pinpoint.thrift.dto.TActiveTrace;
 import com.navercorp.pinpoint.thrift.dto.TAgentStat;
 import com.navercorp.pinpoint.thrift.dto.TCpuLoad;
@@ -29,6 +27,9 @@ import com.navercorp.pinpoint.thrift.dto.TDirectBuffer;
 import com.navercorp.pinpoint.thrift.dto.TFileDescriptor;
 import com.navercorp.pinpoint.thrift.dto.TJvmGc;
 import com.navercorp.pinpoint.thrift.dto.TResponseTime;
+import com.navercorp.pinpoint.thrift.dto.TSqlStatList;
+import com.navercorp.pinpoint.thrift.dto.TTcpRequest;
+import com.navercorp.pinpoint.thrift.dto.TThreadSample;
 import com.navercorp.pinpoint.thrift.dto.TTransaction;
 
 /**
@@ -36,8 +37,6 @@ import com.navercorp.pinpoint.thrift.dto.TTransaction;
  */
 public class AgentStatCollector implements AgentStatMetricCollector<TAgentStat> {
 
-    private final String agentId;
-    private final long agentStartTimestamp;
     private final AgentStatMetricCollector<TJvmGc> jvmGcMetricCollector;
     private final AgentStatMetricCollector<TCpuLoad> cpuLoadMetricCollector;
     private final AgentStatMetricCollector<TTransaction> transactionMetricCollector;
@@ -47,11 +46,12 @@ public class AgentStatCollector implements AgentStatMetricCollector<TAgentStat>
     private final AgentStatMetricCollector<TDeadlock> deadlockMetricCollector;
     private final AgentStatMetricCollector<TFileDescriptor> fileDescriptorMetricCollector;
     private final AgentStatMetricCollector<TDirectBuffer> bufferMetricCollector;
+    private final AgentStatMetricCollector<TThreadSample> threadSampleMetricCollector;
+    private final AgentStatMetricCollector<TSqlStatList> sqlStatMetricCollector;
+    private final AgentStatMetricCollector<TTcpRequest> tcpRequestMetricCollector;
 
     @Inject
     public AgentStatCollector(
-            @AgentId String agentId,
-            @AgentStartTime long agentStartTimestamp,
             AgentStatMetricCollector<TJvmGc> jvmGcMetricCollector,
             AgentStatMetricCollector<TCpuLoad> cpuLoadMetricCollector,
             AgentStatMetricCollector<TTransaction> transactionMetricCollector,
@@ -60,9 +60,10 @@ public class AgentStatCollector implements AgentStatMetricCollector<TAgentStat>
             AgentStatMetricCollector<TResponseTime> responseTimeMetricCollector,
             AgentStatMetricCollector<TDeadlock> deadlockMetricCollector,
             AgentStatMetricCollector<TFileDescriptor> fileDescriptorMetricCollector,
-            AgentStatMetricCollector<TDirectBuffer> bufferMetricCollector) {
-        this.agentId = Assert.requireNonNull(agentId, "agentId must not be null");
-        this.agentStartTimestamp = agentStartTimestamp;
+            AgentStatMetricCollector<TDirectBuffer> bufferMetricCollector,
+            AgentStatMetricCollector<TThreadSample> threadSampleMetricCollector,
+            AgentStatMetricCollector<TSqlStatList> sqlStatMetricCollector,
+            AgentStatMetricCollector<TTcpRequest> tcpRequestMetricCollector) {
         this.jvmGcMetricCollector = Assert.requireNonNull(jvmGcMetricCollector, "jvmGcMetricCollector must not be null");
         this.cpuLoadMetricCollector = Assert.requireNonNull(cpuLoadMetricCollector, "cpuLoadMetricCollector must not be null");
         this.transactionMetricCollector = Assert.requireNonNull(transactionMetricCollector, "transactionMetricCollector must not be null");
@@ -72,13 +73,15 @@ public class AgentStatCollector implements AgentStatMetricCollector<TAgentStat>
         this.deadlockMetricCollector = Assert.requireNonNull(deadlockMetricCollector, "deadlockMetricCollector must not be null");
         this.fileDescriptorMetricCollector = Assert.requireNonNull(fileDescriptorMetricCollector, "fileDescriptorMetricCollector must not be null");
         this.bufferMetricCollector = Assert.requireNonNull(bufferMetricCollector, "bufferMetricCollector must not be null");
+        this.threadSampleMetricCollector = Assert.requireNonNull(threadSampleMetricCollector, "threadSampleMetricCollector must not be null");
+        this.sqlStatMetricCollector = Assert.requireNonNull(sqlStatMetricCollector, "sqlStatMetricCollector must not be null");
+        this.tcpRequestMetricCollector = Assert.requireNonNull(tcpRequestMetricCollector, "tcpRequestMetricCollector must not be null");
     }
 
     @Override
     public TAgentStat collect() {
+        // agentId and startTimestamp are sent once per TAgentStatBatch
         TAgentStat agentStat = new TAgentStat();
-        agentStat.setAgentId(agentId);
-        agentStat.setStartTimestamp(agentStartTimestamp);
         agentStat.setGc(jvmGcMetricCollector.collect());
         agentStat.setCpuLoad(cpuLoadMetricCollector.collect());
         agentStat.setTransaction(transactionMetricCollector.collect());
@@ -88,6 +91,9 @@ public class AgentStatCollector implements AgentStatMetricCollector<TAgentStat>
         agentStat.setDeadlock(deadlockMetricCollector.collect());
         agentStat.setFileDescriptor(fileDescriptorMetricCollector.collect());
         agentStat.setDirectBuffer(bufferMetricCollector.collect());
+        agentStat.setThreadSample(threadSampleMetricCollector.collect());
+        agentStat.setSqlStatList(sqlStatMetricCollector.collect());
+        agentStat.setTcpRequest(tcpRequestMetricCollector.collect());
 
         return agentStat;
     }
@@ -95,9 +101,7 @@ public class AgentStatCollector implements AgentStatMetricCollector<TAgentStat>
     @Override
     public String toString() {
         final StringBuilder sb = new StringBuilder("AgentStatCollector{");
-        sb.append("agentId='").append(agentId).append('\'');
-        sb.append(", agentStartTimestamp=").append(agentStartTimestamp);
-        sb.append(", jvmGcMetricCollector=").append(jvmGcMetricCollector);
+        sb.append("jvmGcMetricCollector=").append(jvmGcMetricCollector);
         sb.append(", cpuLoadMetricCollector=").append(cpuLoadMetricCollector);
         sb.append(", transactionMetricCollector=").append(transactionMetricCollector);
         sb.append(", activeTraceMetricCollector=").append(activeTraceMetricCollector);
@@ -106,6 +110,9 @@ public class AgentStatCollector implements AgentStatMetricCollector<TAgentStat>
         sb.append(", deadlockMetricCollector=").append(deadlockMetricCollector);
         sb.append(", fileDescriptorMetricCollector=").append(fileDescriptorMetricCollector);
         sb.append(", bufferMetricCollector=").append(bufferMetricCollector);
+        sb.append(", threadSampleMetricCollector=").append(threadSampleMetricCollector);
+        sb.append(", sqlStatMetricCollector=").append(sqlStatMetricCollector);
+        sb.append(", tcpRequestMetricCollector=").append(tcpRequestMetricCollector);
         sb.append('}');
         return sb.toString();
     }
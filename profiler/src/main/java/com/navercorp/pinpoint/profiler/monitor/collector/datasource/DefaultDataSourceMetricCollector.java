@@ -23,6 +23,7 @@ import com.navercorp.pinpoint.profiler.monitor.metric.datasource.DataSourceMetri
 import com.navercorp.pinpoint.thrift.dto.TDataSource;
 import com.navercorp.pinpoint.thrift.dto.TDataSourceList;
 
+import java.util.ArrayList;
 import java.util.List;
 
 /**
@@ -49,6 +50,7 @@ public class DefaultDataSourceMetricCollector implements AgentStatMetricCollecto
 
 
         TDataSourceList tDataSourceList = new TDataSourceList();
+        tDataSourceList.setDataSourceList(new ArrayList<TDataSource>(dataSources.size()));
         for (DataSource dataSource : dataSources) {
             TDataSource tDataSource = toTDataSource(dataSource);
             tDataSourceList.addToDataSourceList(tDataSource);
@@ -16,6 +16,7 @@
 
 package com.navercorp.pinpoint.profiler.monitor.collector.response;
 
+import com.navercorp.pinpoint.common.util.LogLinearHistogram;
 import com.navercorp.pinpoint.profiler.monitor.collector.AgentStatMetricCollector;
 import com.navercorp.pinpoint.profiler.monitor.metric.response.ResponseTimeValue;
 import com.navercorp.pinpoint.profiler.monitor.metric.response.ResponseTimeMetric;
@@ -48,6 +49,10 @@ public class DefaultResponseTimeMetricCollector implements AgentStatMetricCollec
         if (max != 0) {
             tResponseTime.setMax(max);
         }
+        LogLinearHistogram histogram = responseTimeValue.getHistogram();
+        if (histogram != null && histogram.getTotalCount() != 0) {
+            tResponseTime.setHistogram(histogram.encode());
+        }
         return tResponseTime;
     }
 
@@ -0,0 +1,99 @@
+/*
+ * Copyright 2018 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.pinpoint.profiler.monitor.collector.sqlstat;
+
+import com.navercorp.pinpoint.profiler.monitor.SqlDatabase;
+import com.navercorp.pinpoint.profiler.monitor.SqlStat;
+import com.navercorp.pinpoint.profiler.monitor.collector.AgentStatMetricCollector;
+import com.navercorp.pinpoint.profiler.monitor.metric.sqlstat.SqlStatMetric;
+import com.navercorp.pinpoint.thrift.dto.TSqlDatabase;
+import com.navercorp.pinpoint.thrift.dto.TSqlStat;
+import com.navercorp.pinpoint.thrift.dto.TSqlStatList;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+public class DefaultSqlStatMetricCollector implements AgentStatMetricCollector<TSqlStatList> {
+
+    private final SqlStatMetric sqlStatMetric;
+
+    public DefaultSqlStatMetricCollector(SqlStatMetric sqlStatMetric) {
+        if (sqlStatMetric == null) {
+            throw new NullPointerException("sqlStatMetric must not be null");
+        }
+        this.sqlStatMetric = sqlStatMetric;
+    }
+
+    @Override
+    public TSqlStatList collect() {
+        final List<SqlStat> sqlStatList = sqlStatMetric.sqlStatList();
+        if (sqlStatList.isEmpty()) {
+            return null;
+        }
+
+        // databaseName and url are sent once, sql stats refer to them by index
+        final Map<SqlDatabase, Integer> databaseIndexMap = new HashMap<SqlDatabase, Integer>();
+        final TSqlStatList tSqlStatList = new TSqlStatList();
+        for (SqlStat sqlStat : sqlStatList) {
+            final SqlDatabase database = sqlStat.getDatabase();
+            Integer databaseIndex = databaseIndexMap.get(database);
+            if (databaseIndex == null) {
+                databaseIndex = databaseIndexMap.size();
+                databaseIndexMap.put(database, databaseIndex);
+                tSqlStatList.addToDatabaseList(toTSqlDatabase(database));
+            }
+            tSqlStatList.addToSqlStatList(toTSqlStat(sqlStat, databaseIndex));
+        }
+        return tSqlStatList;
+    }
+
+    private TSqlDatabase toTSqlDatabase(SqlDatabase database) {
+        final TSqlDatabase tSqlDatabase = new TSqlDatabase();
+        if (database.getDatabaseName() != null) {
+            tSqlDatabase.setDatabaseName(database.getDatabaseName());
+        }
+        if (database.getUrl() != null) {
+            tSqlDatabase.setUrl(database.getUrl());
+        }
+        return tSqlDatabase;
+    }
+
+    private TSqlStat toTSqlStat(SqlStat sqlStat, int databaseIndex) {
+        final TSqlStat tSqlStat = new TSqlStat();
+        tSqlStat.setSqlId(sqlStat.getSqlId());
+        tSqlStat.setDatabaseIndex(databaseIndex);
+        tSqlStat.setCount(sqlStat.getCount());
+        tSqlStat.setErrorCount(sqlStat.getErrorCount());
+        tSqlStat.setTotalTime(sqlStat.getTotalTime());
+        tSqlStat.setMaxTime(sqlStat.getMaxTime());
+        tSqlStat.setFastCount(sqlStat.getFastCount());
+        tSqlStat.setNormalCount(sqlStat.getNormalCount());
+        tSqlStat.setSlowCount(sqlStat.getSlowCount());
+        tSqlStat.setVerySlowCount(sqlStat.getVerySlowCount());
+        return tSqlStat;
+    }
+
+    @Override
+    public String toString() {
+        final StringBuilder sb = new StringBuilder("DefaultSqlStatMetricCollector{");
+        sb.append("sqlStatMetric=").append(sqlStatMetric);
+        sb.append('}');
+        return sb.toString();
+    }
+
+}
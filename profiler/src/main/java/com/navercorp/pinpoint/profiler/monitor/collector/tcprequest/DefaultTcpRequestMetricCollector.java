@@ -0,0 +1,60 @@
+/*
+ * Copyright 2018 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.pinpoint.profiler.monitor.collector.tcprequest;
+
+import com.navercorp.pinpoint.profiler.monitor.collector.AgentStatMetricCollector;
+import com.navercorp.pinpoint.profiler.monitor.metric.tcprequest.TcpRequestMetric;
+import com.navercorp.pinpoint.profiler.monitor.metric.tcprequest.TcpRequestMetricSnapshot;
+import com.navercorp.pinpoint.thrift.dto.TTcpRequest;
+
+public class DefaultTcpRequestMetricCollector implements AgentStatMetricCollector<TTcpRequest> {
+
+    private final TcpRequestMetric tcpRequestMetric;
+
+    public DefaultTcpRequestMetricCollector(TcpRequestMetric tcpRequestMetric) {
+        if (tcpRequestMetric == null) {
+            throw new NullPointerException("tcpRequestMetric must not be null");
+        }
+        this.tcpRequestMetric = tcpRequestMetric;
+    }
+
+    @Override
+    public TTcpRequest collect() {
+        final TcpRequestMetricSnapshot snapshot = tcpRequestMetric.getSnapshot();
+        if (snapshot == null) {
+            return null;
+        }
+
+        final TTcpRequest tTcpRequest = new TTcpRequest();
+        tTcpRequest.setPendingCount(snapshot.getPendingCount());
+        tTcpRequest.setRetryQueueSize(snapshot.getRetryQueueSize());
+        tTcpRequest.setRequestCount(snapshot.getRequestCount());
+        tTcpRequest.setFailCount(snapshot.getFailCount());
+        tTcpRequest.setRejectCount(snapshot.getRejectCount());
+        tTcpRequest.setAvgRoundTripTime(snapshot.getAvgRoundTripTime());
+        tTcpRequest.setMaxRoundTripTime(snapshot.getMaxRoundTripTime());
+        return tTcpRequest;
+    }
+
+    @Override
+    public String toString() {
+        final StringBuilder sb = new StringBuilder("DefaultTcpRequestMetricCollector{");
+        sb.append("tcpRequestMetric=").append(tcpRequestMetric);
+        sb.append('}');
+        return sb.toString();
+    }
+}
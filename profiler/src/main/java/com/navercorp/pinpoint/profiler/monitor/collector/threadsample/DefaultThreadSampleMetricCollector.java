@@ -0,0 +1,67 @@
+/*
+ * Copyright 2018 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.pinpoint.profiler.monitor.collector.threadsample;
+
+import com.navercorp.pinpoint.profiler.monitor.ThreadSampleSnapshot;
+import com.navercorp.pinpoint.profiler.monitor.ThreadSampleStack;
+import com.navercorp.pinpoint.profiler.monitor.collector.AgentStatMetricCollector;
+import com.navercorp.pinpoint.profiler.monitor.metric.threadsample.ThreadSampleMetric;
+import com.navercorp.pinpoint.thrift.dto.TThreadSample;
+import com.navercorp.pinpoint.thrift.dto.TThreadSampleStack;
+
+import java.util.List;
+
+public class DefaultThreadSampleMetricCollector implements AgentStatMetricCollector<TThreadSample> {
+
+    private final ThreadSampleMetric threadSampleMetric;
+
+    public DefaultThreadSampleMetricCollector(ThreadSampleMetric threadSampleMetric) {
+        if (threadSampleMetric == null) {
+            throw new NullPointerException("threadSampleMetric must not be null");
+        }
+        this.threadSampleMetric = threadSampleMetric;
+    }
+
+    @Override
+    public TThreadSample collect() {
+        final ThreadSampleSnapshot snapshot = threadSampleMetric.snapshot();
+        if (snapshot == null || snapshot.getSampledThreadCount() == 0) {
+            return null;
+        }
+
+        final TThreadSample threadSample = new TThreadSample();
+        threadSample.setSampledThreadCount(snapshot.getSampledThreadCount());
+        final List<ThreadSampleStack> stackList = snapshot.getStackList();
+        for (ThreadSampleStack stack : stackList) {
+            final TThreadSampleStack tStack = new TThreadSampleStack();
+            tStack.setSampleCount(stack.getSampleCount());
+            tStack.setEntryPoint(stack.getEntryPoint());
+            tStack.setStack(stack.getStack());
+            threadSample.addToStackList(tStack);
+        }
+        return threadSample;
+    }
+
+    @Override
+    public String toString() {
+        final StringBuilder sb = new StringBuilder("DefaultThreadSampleMetricCollector{");
+        sb.append("threadSampleMetric=").append(threadSampleMetric);
+        sb.append('}');
+        return sb.toString();
+    }
+
+}
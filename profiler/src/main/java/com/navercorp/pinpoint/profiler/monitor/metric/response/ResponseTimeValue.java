@@ -16,6 +16,8 @@
 
 package com.navercorp.pinpoint.profiler.monitor.metric.response;
 
+import com.navercorp.pinpoint.common.util.LogLinearHistogram;
+
 /**
  * @author Taejin Koo
  */
@@ -29,4 +31,6 @@ public interface ResponseTimeValue {
 
     long getTransactionCount();
 
+    LogLinearHistogram getHistogram();
+
 }
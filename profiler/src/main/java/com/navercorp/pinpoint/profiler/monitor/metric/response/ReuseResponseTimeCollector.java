@@ -17,10 +17,12 @@
 package com.navercorp.pinpoint.profiler.monitor.metric.response;
 
 import com.google.inject.Inject;
+import com.navercorp.pinpoint.common.util.LogLinearHistogram;
 import com.navercorp.pinpoint.profiler.util.Counter;
 import com.navercorp.pinpoint.profiler.util.CounterFactory;
 
 import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
 
 /**
  * @author Taejin Koo
@@ -46,7 +48,8 @@ public class ReuseResponseTimeCollector implements ResponseTimeCollector {
         final long totalValue = reset.getTotalValue();
         final long maxValue = reset.getMaxValue();
         final long transactionCount = reset.getTransactionCount();
-        ResponseTimeValue result = new ResponseTimeValue0(totalValue, maxValue, transactionCount);
+        final LogLinearHistogram histogram = reset.getHistogram();
+        ResponseTimeValue result = new ResponseTimeValue0(totalValue, maxValue, transactionCount, histogram);
         return result;
     }
 
@@ -61,6 +64,7 @@ public class ReuseResponseTimeCollector implements ResponseTimeCollector {
         private final Counter totalValue;
         private final Counter transactionCount;
         private final AtomicLong maxValue = new AtomicLong(0);
+        private final AtomicLongArray histogram = new AtomicLongArray(LogLinearHistogram.BUCKET_COUNT);
 
         private ResponseTimeCollector() {
             this.totalValue = CounterFactory.newCounter();
@@ -70,6 +74,7 @@ public class ReuseResponseTimeCollector implements ResponseTimeCollector {
         void add(long value) {
             transactionCount.increment();
             totalValue.add(value);
+            histogram.incrementAndGet(LogLinearHistogram.getBucketIndex(value));
 
             boolean success = setMaxValue(value);
             while (!success) {
@@ -96,6 +101,17 @@ public class ReuseResponseTimeCollector implements ResponseTimeCollector {
         public long getTransactionCount() {
             return transactionCount.longValue();
         }
+
+        public LogLinearHistogram getHistogram() {
+            final LogLinearHistogram result = new LogLinearHistogram();
+            for (int i = 0; i < histogram.length(); i++) {
+                final long count = histogram.get(i);
+                if (count != 0) {
+                    result.addCount(i, count);
+                }
+            }
+            return result;
+        }
     }
 
     private static class ResponseTimeValue0 implements ResponseTimeValue {
@@ -103,11 +119,13 @@ public class ReuseResponseTimeCollector implements ResponseTimeCollector {
         private final long totalResponseTime;
         private final long maxResponseTime;
         private final long transactionCount;
+        private final LogLinearHistogram histogram;
 
-        private ResponseTimeValue0(long totalResponseTime, long maxResponseTime, long transactionCount) {
+        private ResponseTimeValue0(long totalResponseTime, long maxResponseTime, long transactionCount, LogLinearHistogram histogram) {
             this.totalResponseTime = totalResponseTime;
             this.maxResponseTime = maxResponseTime;
             this.transactionCount = transactionCount;
+            this.histogram = histogram;
         }
 
         @Override
@@ -134,12 +152,18 @@ public class ReuseResponseTimeCollector implements ResponseTimeCollector {
             return transactionCount;
         }
 
+        @Override
+        public LogLinearHistogram getHistogram() {
+            return histogram;
+        }
+
         @Override
         public String toString() {
             final StringBuilder sb = new StringBuilder("ResponseTimeValue0{");
             sb.append("totalResponseTime=").append(totalResponseTime);
             sb.append(", transactionCount=").append(transactionCount);
             sb.append(", maxResponseTime=").append(maxResponseTime);
+            sb.append(", histogram=").append(histogram);
             sb.append('}');
             return sb.toString();
         }
@@ -0,0 +1,78 @@
+/*
+ * Copyright 2018 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.pinpoint.profiler.monitor.metric.tcprequest;
+
+import com.navercorp.pinpoint.profiler.sender.RequestWindow;
+import com.navercorp.pinpoint.profiler.sender.TcpDataSender;
+
+/**
+ * Counts of the {@link RequestWindow} are cumulative, the snapshot reports the delta from the previous one.
+ */
+public class DefaultTcpRequestMetric implements TcpRequestMetric {
+
+    private final TcpDataSender tcpDataSender;
+    private final RequestWindow requestWindow;
+
+    private long prevRequestCount;
+    private long prevFailCount;
+    private long prevRejectCount;
+    private long prevSuccessCount;
+    private long prevTotalRoundTripTime;
+
+    public DefaultTcpRequestMetric(TcpDataSender tcpDataSender) {
+        if (tcpDataSender == null) {
+            throw new NullPointerException("tcpDataSender must not be null");
+        }
+        this.tcpDataSender = tcpDataSender;
+        this.requestWindow = tcpDataSender.getRequestWindow();
+        this.prevRequestCount = requestWindow.getRequestCount();
+        this.prevFailCount = requestWindow.getFailCount();
+        this.prevRejectCount = requestWindow.getRejectCount();
+        this.prevSuccessCount = requestWindow.getSuccessCount();
+        this.prevTotalRoundTripTime = requestWindow.getTotalRoundTripTime();
+        requestWindow.resetMaxRoundTripTime();
+    }
+
+    @Override
+    public synchronized TcpRequestMetricSnapshot getSnapshot() {
+        final long totalRoundTripTime = requestWindow.getTotalRoundTripTime();
+        final long successCount = requestWindow.getSuccessCount();
+        final long requestCount = requestWindow.getRequestCount();
+        final long failCount = requestWindow.getFailCount();
+        final long rejectCount = requestWindow.getRejectCount();
+        final long maxRoundTripTime = requestWindow.resetMaxRoundTripTime();
+
+        final long successCountDelta = successCount - prevSuccessCount;
+        final long totalRoundTripTimeDelta = totalRoundTripTime - prevTotalRoundTripTime;
+        final long avgRoundTripTime = successCountDelta > 0 ? totalRoundTripTimeDelta / successCountDelta : 0;
+
+        final TcpRequestMetricSnapshot snapshot = new TcpRequestMetricSnapshot(requestWindow.getPendingCount(), tcpDataSender.getRetryQueueSize(),
+                requestCount - prevRequestCount, failCount - prevFailCount, rejectCount - prevRejectCount, avgRoundTripTime, maxRoundTripTime);
+
+        this.prevRequestCount = requestCount;
+        this.prevFailCount = failCount;
+        this.prevRejectCount = rejectCount;
+        this.prevSuccessCount = successCount;
+        this.prevTotalRoundTripTime = totalRoundTripTime;
+        return snapshot;
+    }
+
+    @Override
+    public String toString() {
+        return "Default TcpRequestMetric";
+    }
+}
@@ -0,0 +1,79 @@
+/*
+ * Copyright 2018 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.pinpoint.profiler.monitor.metric.tcprequest;
+
+public class TcpRequestMetricSnapshot {
+
+    private final long pendingCount;
+    private final long retryQueueSize;
+    private final long requestCount;
+    private final long failCount;
+    private final long rejectCount;
+    private final long avgRoundTripTime;
+    private final long maxRoundTripTime;
+
+    public TcpRequestMetricSnapshot(long pendingCount, long retryQueueSize, long requestCount, long failCount, long rejectCount, long avgRoundTripTime, long maxRoundTripTime) {
+        this.pendingCount = pendingCount;
+        this.retryQueueSize = retryQueueSize;
+        this.requestCount = requestCount;
+        this.failCount = failCount;
+        this.rejectCount = rejectCount;
+        this.avgRoundTripTime = avgRoundTripTime;
+        this.maxRoundTripTime = maxRoundTripTime;
+    }
+
+    public long getPendingCount() {
+        return pendingCount;
+    }
+
+    public long getRetryQueueSize() {
+        return retryQueueSize;
+    }
+
+    public long getRequestCount() {
+        return requestCount;
+    }
+
+    public long getFailCount() {
+        return failCount;
+    }
+
+    public long getRejectCount() {
+        return rejectCount;
+    }
+
+    public long getAvgRoundTripTime() {
+        return avgRoundTripTime;
+    }
+
+    public long getMaxRoundTripTime() {
+        return maxRoundTripTime;
+    }
+
+    @Override
+    public String toString() {
+        return "TcpRequestMetricSnapshot{" +
+                "pendingCount=" + pendingCount +
+                ", retryQueueSize=" + retryQueueSize +
+                ", requestCount=" + requestCount +
+                ", failCount=" + failCount +
+                ", rejectCount=" + rejectCount +
+                ", avgRoundTripTime=" + avgRoundTripTime +
+                ", maxRoundTripTime=" + maxRoundTripTime +
+                '}';
+    }
+}
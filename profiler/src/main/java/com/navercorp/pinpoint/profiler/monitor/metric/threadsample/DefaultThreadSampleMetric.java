@@ -0,0 +1,38 @@
+/*
+ * Copyright 2018 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.pinpoint.profiler.monitor.metric.threadsample;
+
+import com.navercorp.pinpoint.profiler.monitor.ThreadSampleRegistry;
+import com.navercorp.pinpoint.profiler.monitor.ThreadSampleSnapshot;
+
+public class DefaultThreadSampleMetric implements ThreadSampleMetric {
+
+    private final ThreadSampleRegistry threadSampleRegistry;
+
+    public DefaultThreadSampleMetric(ThreadSampleRegistry threadSampleRegistry) {
+        if (threadSampleRegistry == null) {
+            throw new NullPointerException("threadSampleRegistry must not be null");
+        }
+        this.threadSampleRegistry = threadSampleRegistry;
+    }
+
+    @Override
+    public ThreadSampleSnapshot snapshot() {
+        return threadSampleRegistry.drain();
+    }
+
+}
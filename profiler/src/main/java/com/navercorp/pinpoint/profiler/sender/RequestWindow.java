@@ -0,0 +1,261 @@
+/*
+ * Copyright 2018 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.pinpoint.profiler.sender;
+
+import com.navercorp.pinpoint.common.util.Assert;
+import com.navercorp.pinpoint.rpc.DefaultFuture;
+import com.navercorp.pinpoint.rpc.Future;
+import com.navercorp.pinpoint.rpc.FutureListener;
+import com.navercorp.pinpoint.rpc.PinpointSocketException;
+import com.navercorp.pinpoint.rpc.ResponseMessage;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Limits the number of requests waiting for the response.
+ * requests over the window are held in the pending queue and sent one by one as responses free the window,
+ * so a burst of metadata requests does not flood the collector.
+ * each request is still sent as its own message, the window does not merge them.
+ */
+public class RequestWindow {
+
+    public static final int DEFAULT_WINDOW_SIZE = 128;
+    public static final int DEFAULT_MAX_PENDING_SIZE = 1024 * 5;
+
+    public interface RequestSender {
+        Future<ResponseMessage> request(byte[] requestPacket);
+    }
+
+    private final RequestSender requestSender;
+    private final int windowSize;
+    private final int maxPendingSize;
+
+    private final AtomicInteger inFlightCount = new AtomicInteger();
+    private final AtomicInteger pendingCount = new AtomicInteger();
+    private final Queue<PendingRequest> pendingQueue = new ConcurrentLinkedQueue<PendingRequest>();
+    // a failed future may be notified in the caller thread. prevents recursive drain.
+    private final AtomicBoolean draining = new AtomicBoolean(false);
+
+    private final AtomicLong requestCount = new AtomicLong();
+    private final AtomicLong successCount = new AtomicLong();
+    private final AtomicLong failCount = new AtomicLong();
+    private final AtomicLong rejectCount = new AtomicLong();
+    private final AtomicLong totalRoundTripTime = new AtomicLong();
+    private final AtomicLong maxRoundTripTime = new AtomicLong();
+
+    public RequestWindow(RequestSender requestSender) {
+        this(requestSender, DEFAULT_WINDOW_SIZE, DEFAULT_MAX_PENDING_SIZE);
+    }
+
+    public RequestWindow(RequestSender requestSender, int windowSize, int maxPendingSize) {
+        this.requestSender = Assert.requireNonNull(requestSender, "requestSender must not be null");
+        Assert.isTrue(windowSize > 0, "windowSize must be positive");
+        Assert.isTrue(maxPendingSize >= 0, "maxPendingSize cannot be a negative number");
+        this.windowSize = windowSize;
+        this.maxPendingSize = maxPendingSize;
+    }
+
+    public void request(byte[] requestPacket, FutureListener<ResponseMessage> listener) {
+        Assert.requireNonNull(requestPacket, "requestPacket must not be null");
+        Assert.requireNonNull(listener, "listener must not be null");
+
+        final PendingRequest request = new PendingRequest(requestPacket, listener);
+        if (tryAcquire()) {
+            send(request);
+            return;
+        }
+
+        if (pendingCount.incrementAndGet() > maxPendingSize) {
+            pendingCount.decrementAndGet();
+            rejectCount.incrementAndGet();
+            reject(request);
+            return;
+        }
+        pendingQueue.offer(request);
+        // responses may have arrived before offer()
+        drain();
+    }
+
+    private boolean tryAcquire() {
+        while (true) {
+            final int current = inFlightCount.get();
+            if (current >= windowSize) {
+                return false;
+            }
+            if (inFlightCount.compareAndSet(current, current + 1)) {
+                return true;
+            }
+        }
+    }
+
+    private void release() {
+        inFlightCount.decrementAndGet();
+    }
+
+    private void drain() {
+        while (true) {
+            if (!draining.compareAndSet(false, true)) {
+                return;
+            }
+            try {
+                drain0();
+            } finally {
+                draining.set(false);
+            }
+            if (pendingQueue.peek() == null || inFlightCount.get() >= windowSize) {
+                return;
+            }
+        }
+    }
+
+    private void drain0() {
+        while (pendingQueue.peek() != null) {
+            if (!tryAcquire()) {
+                return;
+            }
+            final PendingRequest request = pendingQueue.poll();
+            if (request == null) {
+                release();
+                return;
+            }
+            pendingCount.decrementAndGet();
+            send(request);
+        }
+    }
+
+    private void send(final PendingRequest request) {
+        requestCount.incrementAndGet();
+        final long startTime = System.currentTimeMillis();
+        final Future<ResponseMessage> future = requestSender.request(request.requestPacket);
+        future.setListener(new FutureListener<ResponseMessage>() {
+            @Override
+            public void onComplete(Future<ResponseMessage> future) {
+                release();
+                if (future.isSuccess()) {
+                    recordRoundTripTime(System.currentTimeMillis() - startTime);
+                } else {
+                    failCount.incrementAndGet();
+                }
+                try {
+                    request.listener.onComplete(future);
+                } finally {
+                    drain();
+                }
+            }
+        });
+    }
+
+    private void reject(PendingRequest request) {
+        final DefaultFuture<ResponseMessage> future = new DefaultFuture<ResponseMessage>();
+        future.setFailure(new PinpointSocketException("request window is full. pending:" + pendingCount.get()));
+        request.listener.onComplete(future);
+    }
+
+    private void recordRoundTripTime(long roundTripTime) {
+        successCount.incrementAndGet();
+        totalRoundTripTime.addAndGet(roundTripTime);
+        while (true) {
+            final long max = maxRoundTripTime.get();
+            if (roundTripTime <= max) {
+                return;
+            }
+            if (maxRoundTripTime.compareAndSet(max, roundTripTime)) {
+                return;
+            }
+        }
+    }
+
+    public int getWindowSize() {
+        return windowSize;
+    }
+
+    public int getInFlightCount() {
+        return inFlightCount.get();
+    }
+
+    public int getPendingCount() {
+        return pendingCount.get();
+    }
+
+    public long getRequestCount() {
+        return requestCount.get();
+    }
+
+    public long getSuccessCount() {
+        return successCount.get();
+    }
+
+    public long getFailCount() {
+        return failCount.get();
+    }
+
+    public long getRejectCount() {
+        return rejectCount.get();
+    }
+
+    public long getTotalRoundTripTime() {
+        return totalRoundTripTime.get();
+    }
+
+    public long getAverageRoundTripTime() {
+        final long successCount = this.successCount.get();
+        if (successCount <= 0) {
+            return 0;
+        }
+        return totalRoundTripTime.get() / successCount;
+    }
+
+    public long getMaxRoundTripTime() {
+        return maxRoundTripTime.get();
+    }
+
+    /**
+     * @return max round trip time since the last reset
+     */
+    public long resetMaxRoundTripTime() {
+        return maxRoundTripTime.getAndSet(0);
+    }
+
+    @Override
+    public String toString() {
+        return "RequestWindow{" +
+                "windowSize=" + windowSize +
+                ", inFlightCount=" + getInFlightCount() +
+                ", pendingCount=" + getPendingCount() +
+                ", requestCount=" + getRequestCount() +
+                ", successCount=" + getSuccessCount() +
+                ", failCount=" + getFailCount() +
+                ", rejectCount=" + getRejectCount() +
+                ", averageRoundTripTime=" + getAverageRoundTripTime() +
+                ", maxRoundTripTime=" + getMaxRoundTripTime() +
+                '}';
+    }
+
+    private static class PendingRequest {
+        private final byte[] requestPacket;
+        private final FutureListener<ResponseMessage> listener;
+
+        private PendingRequest(byte[] requestPacket, FutureListener<ResponseMessage> listener) {
+            this.requestPacket = requestPacket;
+            this.listener = listener;
+        }
+    }
+}
@@ -71,11 +71,13 @@ public class TcpDataSender implements EnhancedDataSender<Object> {
 
     private final RetryQueue retryQueue = new RetryQueue();
 
+    private final RequestWindow requestWindow;
+
     protected final AsyncQueueingExecutor<Object> executor;
 
 
     public TcpDataSender(String name, String host, int port, PinpointClientFactory clientFactory) {
-        this(name, ClientFactoryUtils.newPinpointClientProvider(host, port, clientFactory), newDefaultMessageSerializer());
+        this(name, host, port, clientFactory, newDefaultMessageSerializer());
     }
 
     private static ThriftMessageSerializer newDefaultMessageSerializer() {
@@ -84,10 +86,14 @@ public class TcpDataSender implements EnhancedDataSender<Object> {
     }
 
     public TcpDataSender(String name, String host, int port, PinpointClientFactory clientFactory, MessageSerializer<byte[]> messageSerializer) {
-        this(name, ClientFactoryUtils.newPinpointClientProvider(host, port, clientFactory), messageSerializer);
+        this(name, host, port, clientFactory, messageSerializer, RequestWindow.DEFAULT_WINDOW_SIZE);
+    }
+
+    public TcpDataSender(String name, String host, int port, PinpointClientFactory clientFactory, MessageSerializer<byte[]> messageSerializer, int requestWindowSize) {
+        this(name, ClientFactoryUtils.newPinpointClientProvider(host, port, clientFactory), messageSerializer, requestWindowSize);
     }
 
-    private TcpDataSender(String name, ClientFactoryUtils.PinpointClientProvider clientProvider, MessageSerializer<byte[]> messageSerializer) {
+    private TcpDataSender(String name, ClientFactoryUtils.PinpointClientProvider clientProvider, MessageSerializer<byte[]> messageSerializer, int requestWindowSize) {
         this.logger = newLogger(name);
 
         Assert.requireNonNull(clientProvider, "clientProvider must not be null");
@@ -96,11 +102,22 @@ public class TcpDataSender implements EnhancedDataSender<Object> {
         this.messageSerializer = Assert.requireNonNull(messageSerializer, "messageSerializer must not be null");
         this.timer = createTimer(name);
         this.writeFailFutureListener = new WriteFailFutureListener(logger, "io write fail.", "host", -1);
+        this.requestWindow = createRequestWindow(requestWindowSize);
 
         final String executorName = getExecutorName(name);
         this.executor = createAsyncQueueingExecutor(1024 * 5, executorName);
     }
 
+    private RequestWindow createRequestWindow(int requestWindowSize) {
+        RequestWindow.RequestSender requestSender = new RequestWindow.RequestSender() {
+            @Override
+            public Future<ResponseMessage> request(byte[] requestPacket) {
+                return client.request(requestPacket);
+            }
+        };
+        return new RequestWindow(requestSender, requestWindowSize, RequestWindow.DEFAULT_MAX_PENDING_SIZE);
+    }
+
     private AsyncQueueingExecutor<Object> createAsyncQueueingExecutor(int queueSize, String executorName) {
         AsyncQueueingExecutorListener<Object> listener = new DefaultAsyncQueueingExecutorListener() {
             @Override
@@ -178,9 +195,18 @@ public class TcpDataSender implements EnhancedDataSender<Object> {
         return this.client.removePinpointClientReconnectEventListener(eventListener);
     }
 
+    public int getRetryQueueSize() {
+        return retryQueue.size();
+    }
+
+    public RequestWindow getRequestWindow() {
+        return requestWindow;
+    }
+
     @Override
     public void stop() {
         executor.stop();
+        logger.info("stop retryQueueSize:{}, {}", retryQueue.size(), requestWindow);
 
         Set<Timeout> stop = timer.stop();
         if (!stop.isEmpty()) {
@@ -340,9 +366,8 @@ public class TcpDataSender implements EnhancedDataSender<Object> {
         }
     }
 
-    private void doRequest(final byte[] requestPacket, FutureListener futureListener) {
-        final Future<ResponseMessage> response = this.client.request(requestPacket);
-        response.setListener(futureListener);
+    private void doRequest(final byte[] requestPacket, FutureListener<ResponseMessage> futureListener) {
+        this.requestWindow.request(requestPacket, futureListener);
     }
 
     private boolean fireTimeout() {
@@ -0,0 +1,133 @@
+/*
+ * Copyright 2018 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.pinpoint.profiler.context.recycler;
+
+import com.navercorp.pinpoint.profiler.context.Annotation;
+import com.navercorp.pinpoint.profiler.context.SpanEvent;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+public class DefaultSpanDataRecyclerTest {
+
+    @Test
+    public void recycleSpanEvent() {
+        SpanDataRecycler recycler = new DefaultSpanDataRecycler(4, 4);
+
+        SpanEvent spanEvent = recycler.newSpanEvent();
+        spanEvent.setStartTime(100);
+        spanEvent.setDepth(3);
+        spanEvent.setEndPoint("endPoint");
+        Annotation annotation = recycler.newAnnotation(10);
+        annotation.setIntValue(1);
+        spanEvent.addAnnotation(annotation);
+
+        recycler.recycle(spanEvent);
+
+        SpanEvent reuse = recycler.newSpanEvent();
+        Assert.assertSame(spanEvent, reuse);
+        Assert.assertEquals(0, reuse.getStartTime());
+        Assert.assertEquals(-1, reuse.getDepth());
+        Assert.assertNull(reuse.getEndPoint());
+        Assert.assertTrue(reuse.getAnnotations().isEmpty());
+
+        Annotation reuseAnnotation = recycler.newAnnotation(20);
+        Assert.assertSame(annotation, reuseAnnotation);
+        Assert.assertEquals(20, reuseAnnotation.getAnnotationKey());
+        Assert.assertFalse(reuseAnnotation.isIntValue());
+        Assert.assertNull(reuseAnnotation.getValue());
+    }
+
+    @Test
+    public void primitiveAnnotation() {
+        Annotation annotation = new Annotation(1);
+        annotation.setLongValue(10L);
+        Assert.assertTrue(annotation.isLongValue());
+        Assert.assertEquals(10L, annotation.getLongValue());
+        Assert.assertEquals(10L, annotation.getValue());
+
+        annotation.setValue("string");
+        Assert.assertFalse(annotation.isLongValue());
+        Assert.assertEquals("string", annotation.getValue());
+    }
+
+    @Test
+    public void transferToOtherThread() throws Exception {
+        final int batchSize = 4;
+        final DefaultSpanDataRecycler recycler = new DefaultSpanDataRecycler(batchSize, 4);
+        final SpanEvent[] spanEvents = new SpanEvent[batchSize * 3];
+        for (int i = 0; i < spanEvents.length; i++) {
+            spanEvents[i] = recycler.newSpanEvent();
+        }
+
+        // recycled by sender thread
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            Future<?> future = executor.submit(new Runnable() {
+                @Override
+                public void run() {
+                    for (SpanEvent spanEvent : spanEvents) {
+                        recycler.recycle(spanEvent);
+                    }
+                }
+            });
+            future.get();
+
+            // arena capacity of the sender thread is batchSize * 2, overflow is handed over
+            Future<SpanEvent> reuse = executor.submit(new Callable<SpanEvent>() {
+                @Override
+                public SpanEvent call() {
+                    return recycler.newSpanEvent();
+                }
+            });
+            Assert.assertNotNull(reuse.get());
+        } finally {
+            executor.shutdown();
+        }
+
+        SpanEvent shared = recycler.newSpanEvent();
+        boolean found = false;
+        for (SpanEvent spanEvent : spanEvents) {
+            if (spanEvent == shared) {
+                found = true;
+            }
+        }
+        Assert.assertTrue("shared batch", found);
+    }
+
+    @Test
+    public void recyclerLimit() {
+        Recycler<Object> recycler = new Recycler<Object>(2, 1) {
+            @Override
+            protected Object newObject() {
+                return new Object();
+            }
+
+            @Override
+            protected void reset(Object object) {
+            }
+        };
+        for (int i = 0; i < 10; i++) {
+            recycler.recycle(new Object());
+        }
+        Assert.assertEquals(1, recycler.sharedBatchCount());
+    }
+}
@@ -16,12 +16,30 @@
 
 package com.navercorp.pinpoint.profiler.monitor;
 
+import com.navercorp.pinpoint.bootstrap.config.DefaultProfilerConfig;
+import com.navercorp.pinpoint.bootstrap.config.ProfilerConfig;
+import com.navercorp.pinpoint.profiler.context.provider.SqlStatRegistryProvider;
+import com.navercorp.pinpoint.profiler.context.thrift.MessageConverter;
 import com.navercorp.pinpoint.profiler.monitor.collector.AgentStatMetricCollector;
+import com.navercorp.pinpoint.profiler.monitor.collector.sqlstat.DefaultSqlStatMetricCollector;
+import com.navercorp.pinpoint.profiler.monitor.collector.threadsample.DefaultThreadSampleMetricCollector;
+import com.navercorp.pinpoint.profiler.monitor.metric.sqlstat.DefaultSqlStatMetric;
+import com.navercorp.pinpoint.profiler.monitor.metric.threadsample.DefaultThreadSampleMetric;
 import com.navercorp.pinpoint.profiler.sender.DataSender;
+import com.navercorp.pinpoint.profiler.sender.ThriftUdpMessageSerializer;
 import com.navercorp.pinpoint.thrift.dto.TAgentStat;
 import com.navercorp.pinpoint.thrift.dto.TAgentStatBatch;
+import com.navercorp.pinpoint.thrift.dto.TDataSource;
+import com.navercorp.pinpoint.thrift.dto.TDataSourceList;
+import org.apache.thrift.TBase;
+import org.junit.Assert;
 import org.junit.Test;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mockito;
+import org.mockito.invocation.InvocationOnMock;
+import org.mockito.stubbing.Answer;
+
+import java.util.List;
 
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
@@ -45,6 +63,180 @@ public class CollectJobTest {
 
     }
 
+    @Test
+    public void compactDataSource() throws Exception {
+        AgentStatMetricCollector<TAgentStat> agentStatMetricCollector = mockAgentStatMetricCollector();
+        Mockito.when(agentStatMetricCollector.collect()).thenReturn(createAgentStat("url1"), createAgentStat("url1"), createAgentStat("url2"), createAgentStat("url2"));
+
+        DataSender dataSender = mock(DataSender.class);
+
+        CollectJob job = new CollectJob(dataSender, "agent", 0, agentStatMetricCollector, 2, true);
+        job.run();
+        job.run();
+        job.run();
+        job.run();
+
+        ArgumentCaptor<TAgentStatBatch> captor = ArgumentCaptor.forClass(TAgentStatBatch.class);
+        Mockito.verify(dataSender, Mockito.times(2)).send(captor.capture());
+
+        for (TAgentStatBatch agentStatBatch : captor.getAllValues()) {
+            List<TAgentStat> agentStats = agentStatBatch.getAgentStats();
+            Assert.assertEquals(2, agentStats.size());
+
+            TDataSource first = agentStats.get(0).getDataSourceList().getDataSourceList().get(0);
+            Assert.assertTrue(first.isSetUrl());
+            Assert.assertTrue(first.isSetDatabaseName());
+
+            TDataSource second = agentStats.get(1).getDataSourceList().getDataSourceList().get(0);
+            Assert.assertFalse(second.isSetUrl());
+            Assert.assertFalse(second.isSetDatabaseName());
+            Assert.assertEquals(10, second.getActiveConnectionSize());
+        }
+        Assert.assertEquals("url2", captor.getAllValues().get(1).getAgentStats().get(0).getDataSourceList().getDataSourceList().get(0).getUrl());
+    }
+
+    @Test
+    public void threadSampleBatchFitsUdpDatagram() throws Exception {
+        // default settings : 20 stacks of 32 frames per agent stat, 6 agent stats per batch
+        ThreadSampleRegistry registry = new ThreadSampleRegistry(20, DefaultProfilerConfig.DEFAULT_THREAD_SAMPLE_MAX_BYTES);
+        TAgentStatBatch agentStatBatch = collectThreadSampleBatch(registry, DefaultProfilerConfig.DEFAULT_NUM_AGENT_STAT_BATCH_SEND);
+
+        for (TAgentStat agentStat : agentStatBatch.getAgentStats()) {
+            Assert.assertTrue(agentStat.isSetThreadSample());
+            Assert.assertTrue(agentStat.getThreadSample().getStackListSize() > 0);
+            Assert.assertTrue(StatSizeEstimator.threadSampleSize(agentStat.getThreadSample()) <= DefaultProfilerConfig.DEFAULT_THREAD_SAMPLE_MAX_BYTES + 32);
+        }
+        assertFitsUdpDatagram(agentStatBatch);
+    }
+
+    @Test
+    public void limitThreadSampleBytesPerBatch() throws Exception {
+        // max.bytes raised too high for a batch
+        ThreadSampleRegistry registry = new ThreadSampleRegistry(20, 16 * 1024);
+        TAgentStatBatch agentStatBatch = collectThreadSampleBatch(registry, DefaultProfilerConfig.DEFAULT_NUM_AGENT_STAT_BATCH_SEND);
+
+        List<TAgentStat> agentStats = agentStatBatch.getAgentStats();
+        Assert.assertEquals(DefaultProfilerConfig.DEFAULT_NUM_AGENT_STAT_BATCH_SEND, agentStats.size());
+        Assert.assertFalse(agentStats.get(0).isSetThreadSample());
+        Assert.assertTrue(agentStats.get(agentStats.size() - 1).isSetThreadSample());
+        assertFitsUdpDatagram(agentStatBatch);
+    }
+
+    @Test
+    public void sqlStatBatchFitsUdpDatagram() throws Exception {
+        // default settings : 500 statements per agent stat, 6 agent stats per batch
+        ThreadSampleRegistry threadSampleRegistry = new ThreadSampleRegistry(20, DefaultProfilerConfig.DEFAULT_THREAD_SAMPLE_MAX_BYTES);
+        SqlStatRegistry sqlStatRegistry = new SqlStatRegistry(500, DefaultProfilerConfig.DEFAULT_JDBC_SQL_STAT_MAX_BYTES);
+        TAgentStatBatch agentStatBatch = collectBatch(threadSampleRegistry, sqlStatRegistry, DefaultProfilerConfig.DEFAULT_NUM_AGENT_STAT_BATCH_SEND);
+
+        for (TAgentStat agentStat : agentStatBatch.getAgentStats()) {
+            Assert.assertTrue(agentStat.isSetThreadSample());
+            Assert.assertTrue(agentStat.isSetSqlStatList());
+            Assert.assertTrue(agentStat.getSqlStatList().getSqlStatListSize() > 0);
+            Assert.assertTrue(StatSizeEstimator.sqlStatListSize(agentStat.getSqlStatList()) <= DefaultProfilerConfig.DEFAULT_JDBC_SQL_STAT_MAX_BYTES + 32);
+        }
+        assertFitsUdpDatagram(agentStatBatch);
+    }
+
+    @Test
+    public void limitSqlStatBytesPerBatch() throws Exception {
+        // max.bytes raised too high for a batch
+        ProfilerConfig profilerConfig = mock(ProfilerConfig.class);
+        Mockito.when(profilerConfig.getJdbcSqlStatMaxSize()).thenReturn(500);
+        Mockito.when(profilerConfig.getJdbcSqlStatMaxBytes()).thenReturn(16 * 1024);
+        Mockito.when(profilerConfig.getProfileJvmStatBatchSendCount()).thenReturn(DefaultProfilerConfig.DEFAULT_NUM_AGENT_STAT_BATCH_SEND);
+        SqlStatRegistry sqlStatRegistry = new SqlStatRegistryProvider(profilerConfig).get();
+
+        ThreadSampleRegistry threadSampleRegistry = new ThreadSampleRegistry(20, DefaultProfilerConfig.DEFAULT_THREAD_SAMPLE_MAX_BYTES);
+        TAgentStatBatch agentStatBatch = collectBatch(threadSampleRegistry, sqlStatRegistry, DefaultProfilerConfig.DEFAULT_NUM_AGENT_STAT_BATCH_SEND);
+
+        // sql stats are drained, so they are never dropped
+        int bytes = 0;
+        for (TAgentStat agentStat : agentStatBatch.getAgentStats()) {
+            Assert.assertTrue(agentStat.isSetSqlStatList());
+            bytes += StatSizeEstimator.sqlStatListSize(agentStat.getSqlStatList());
+        }
+        Assert.assertTrue(bytes <= CollectJob.MAX_SQL_STAT_BYTES_PER_BATCH + 32 * DefaultProfilerConfig.DEFAULT_NUM_AGENT_STAT_BATCH_SEND);
+        assertFitsUdpDatagram(agentStatBatch);
+    }
+
+    private TAgentStatBatch collectThreadSampleBatch(ThreadSampleRegistry registry, int numCollectionsPerBatch) {
+        return collectBatch(registry, null, numCollectionsPerBatch);
+    }
+
+    private TAgentStatBatch collectBatch(final ThreadSampleRegistry threadSampleRegistry, final SqlStatRegistry sqlStatRegistry, int numCollectionsPerBatch) {
+        AgentStatMetricCollector<TAgentStat> agentStatMetricCollector = mockAgentStatMetricCollector();
+        Mockito.when(agentStatMetricCollector.collect()).thenAnswer(new Answer<TAgentStat>() {
+            @Override
+            public TAgentStat answer(InvocationOnMock invocation) throws Throwable {
+                TAgentStat agentStat = new TAgentStat();
+                if (threadSampleRegistry != null) {
+                    recordLongStacks(threadSampleRegistry);
+                    agentStat.setThreadSample(new DefaultThreadSampleMetricCollector(new DefaultThreadSampleMetric(threadSampleRegistry)).collect());
+                }
+                if (sqlStatRegistry != null) {
+                    recordSqlStats(sqlStatRegistry);
+                    agentStat.setSqlStatList(new DefaultSqlStatMetricCollector(new DefaultSqlStatMetric(sqlStatRegistry)).collect());
+                }
+                return agentStat;
+            }
+        });
+
+        DataSender dataSender = mock(DataSender.class);
+        CollectJob job = new CollectJob(dataSender, "agent", 0, agentStatMetricCollector, numCollectionsPerBatch);
+        for (int i = 0; i < numCollectionsPerBatch; i++) {
+            job.run();
+        }
+
+        ArgumentCaptor<TAgentStatBatch> captor = ArgumentCaptor.forClass(TAgentStatBatch.class);
+        Mockito.verify(dataSender).send(captor.capture());
+        return captor.getValue();
+    }
+
+    private void recordLongStacks(ThreadSampleRegistry registry) {
+        for (int stackIndex = 0; stackIndex < 30; stackIndex++) {
+            StringBuilder stack = new StringBuilder();
+            for (int depth = 0; depth < 32; depth++) {
+                if (depth > 0) {
+                    stack.append(';');
+                }
+                stack.append("com.navercorp.pinpoint.test.service.impl.LongRunningServiceImplementation").append(depth).append(".execute").append(stackIndex);
+            }
+            for (int count = 0; count <= stackIndex % 3; count++) {
+                registry.record("/test/entry/point/" + stackIndex, stack.toString());
+            }
+        }
+    }
+
+    private void recordSqlStats(SqlStatRegistry registry) {
+        for (int sqlId = 0; sqlId < 500; sqlId++) {
+            for (int count = 0; count <= sqlId % 3; count++) {
+                registry.record("orders_database", "jdbc:mysql://order-db-master.example.com:3306/orders_database?useUnicode=true", sqlId, 10, false);
+            }
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private void assertFitsUdpDatagram(TAgentStatBatch agentStatBatch) {
+        MessageConverter<TBase<?, ?>> messageConverter = Mockito.mock(MessageConverter.class);
+        ThriftUdpMessageSerializer serializer = new ThriftUdpMessageSerializer(messageConverter, ThriftUdpMessageSerializer.UDP_MAX_PACKET_LENGTH);
+        Assert.assertNotNull("agent stat batch discarded", serializer.serialize(agentStatBatch));
+    }
+
+    private TAgentStat createAgentStat(String url) {
+        TDataSource dataSource = new TDataSource(1);
+        dataSource.setDatabaseName("database");
+        dataSource.setUrl(url);
+        dataSource.setActiveConnectionSize(10);
+
+        TDataSourceList dataSourceList = new TDataSourceList();
+        dataSourceList.addToDataSourceList(dataSource);
+
+        TAgentStat agentStat = new TAgentStat();
+        agentStat.setDataSourceList(dataSourceList);
+        return agentStat;
+    }
+
     @SuppressWarnings("unchecked")
     private AgentStatMetricCollector<TAgentStat> mockAgentStatMetricCollector() {
         return Mockito.mock(AgentStatMetricCollector.class);
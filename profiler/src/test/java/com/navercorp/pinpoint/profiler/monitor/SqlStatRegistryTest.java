@@ -0,0 +1,157 @@
+/*
+ * Copyright 2018 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.pinpoint.profiler.monitor;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+
+public class SqlStatRegistryTest {
+
+    @Test
+    public void record() {
+        SqlStatRegistry registry = new SqlStatRegistry(10, 1024);
+        registry.record("testdb", "jdbc:mysql://localhost/testdb", 1, 50, false);
+        registry.record("testdb", "jdbc:mysql://localhost/testdb", 1, 200, false);
+        registry.record("testdb", "jdbc:mysql://localhost/testdb", 1, 400, true);
+        registry.record("testdb", "jdbc:mysql://localhost/testdb", 1, 1000, false);
+
+        List<SqlStat> sqlStatList = registry.drain();
+        Assert.assertEquals(1, sqlStatList.size());
+
+        SqlStat sqlStat = sqlStatList.get(0);
+        Assert.assertEquals("testdb", sqlStat.getDatabaseName());
+        Assert.assertEquals(1, sqlStat.getSqlId());
+        Assert.assertEquals(4, sqlStat.getCount());
+        Assert.assertEquals(1, sqlStat.getErrorCount());
+        Assert.assertEquals(1650, sqlStat.getTotalTime());
+        Assert.assertEquals(1000, sqlStat.getMaxTime());
+        Assert.assertEquals(1, sqlStat.getFastCount());
+        Assert.assertEquals(1, sqlStat.getNormalCount());
+        Assert.assertEquals(1, sqlStat.getSlowCount());
+        Assert.assertEquals(1, sqlStat.getVerySlowCount());
+
+        Assert.assertTrue(registry.drain().isEmpty());
+    }
+
+    @Test
+    public void maxSize() {
+        SqlStatRegistry registry = new SqlStatRegistry(2, 1024);
+        registry.record("testdb", "url", 1, 10, false);
+        registry.record("testdb", "url", 2, 10, false);
+        // dropped, max size exceeded
+        registry.record("testdb", "url", 3, 10, false);
+        // already registered
+        registry.record("testdb", "url", 1, 10, false);
+
+        List<SqlStat> sqlStatList = registry.drain();
+        Assert.assertEquals(2, sqlStatList.size());
+        for (SqlStat sqlStat : sqlStatList) {
+            Assert.assertTrue(sqlStat.getSqlId() != 3);
+        }
+    }
+
+    @Test
+    public void maxBytes() {
+        final String url = "jdbc:mysql://localhost:3306/testdb";
+        final int maxBytes = StatSizeEstimator.sqlDatabaseSize("testdb", url) + StatSizeEstimator.sqlStatSize() * 2;
+        SqlStatRegistry registry = new SqlStatRegistry(10, maxBytes);
+        registry.record("testdb", url, 1, 10, false);
+        registry.record("testdb", url, 1, 10, false);
+        registry.record("testdb", url, 1, 10, false);
+        registry.record("testdb", url, 2, 500, false);
+        registry.record("testdb", url, 3, 100, false);
+        registry.record("testdb", url, 3, 100, false);
+
+        // the statements with the longest total time are kept
+        List<SqlStat> sqlStatList = registry.drain();
+        Assert.assertEquals(2, sqlStatList.size());
+        Assert.assertEquals(2, sqlStatList.get(0).getSqlId());
+        Assert.assertEquals(3, sqlStatList.get(1).getSqlId());
+
+        // the others are carried over to the next drain
+        registry.record("testdb", url, 1, 10, false);
+        sqlStatList = registry.drain();
+        Assert.assertEquals(1, sqlStatList.size());
+        Assert.assertEquals(1, sqlStatList.get(0).getSqlId());
+        Assert.assertEquals(4, sqlStatList.get(0).getCount());
+        Assert.assertEquals(40, sqlStatList.get(0).getTotalTime());
+
+        Assert.assertTrue(registry.drain().isEmpty());
+    }
+
+    @Test
+    public void maxBytesPerDatabase() {
+        final String url1 = "jdbc:mysql://localhost:3306/testdb1";
+        final String url2 = "jdbc:mysql://localhost:3306/testdb2";
+        // the database of the second statement does not fit
+        final int maxBytes = StatSizeEstimator.sqlDatabaseSize("testdb1", url1) + StatSizeEstimator.sqlStatSize() * 2;
+        SqlStatRegistry registry = new SqlStatRegistry(10, maxBytes);
+        registry.record("testdb1", url1, 1, 100, false);
+        registry.record("testdb2", url2, 1, 50, false);
+        registry.record("testdb1", url1, 2, 10, false);
+
+        List<SqlStat> sqlStatList = registry.drain();
+        Assert.assertEquals(2, sqlStatList.size());
+        Assert.assertEquals("testdb1", sqlStatList.get(0).getDatabaseName());
+        Assert.assertEquals("testdb1", sqlStatList.get(1).getDatabaseName());
+
+        sqlStatList = registry.drain();
+        Assert.assertEquals(1, sqlStatList.size());
+        Assert.assertEquals("testdb2", sqlStatList.get(0).getDatabaseName());
+    }
+
+    @Test
+    public void drainWhileRecording() throws Exception {
+        final SqlStatRegistry registry = new SqlStatRegistry(10, 1024);
+        final int threadCount = 4;
+        final int recordCount = 100000;
+        final CountDownLatch finished = new CountDownLatch(threadCount);
+        for (int i = 0; i < threadCount; i++) {
+            Thread thread = new Thread(new Runnable() {
+                @Override
+                public void run() {
+                    for (int j = 0; j < recordCount; j++) {
+                        registry.record("testdb", "url", 1, 10, false);
+                    }
+                    finished.countDown();
+                }
+            });
+            thread.setDaemon(true);
+            thread.start();
+        }
+
+        long total = 0;
+        while (finished.getCount() != 0) {
+            total += sumCount(registry.drain());
+        }
+        total += sumCount(registry.drain());
+        // no execution lost between two drains
+        Assert.assertEquals(threadCount * recordCount, total);
+    }
+
+    private long sumCount(List<SqlStat> sqlStatList) {
+        long sum = 0;
+        for (SqlStat sqlStat : sqlStatList) {
+            sum += sqlStat.getCount();
+        }
+        return sum;
+    }
+
+}
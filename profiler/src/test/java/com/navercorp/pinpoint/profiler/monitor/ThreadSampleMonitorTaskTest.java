@@ -0,0 +1,130 @@
+/*
+ * Copyright 2018 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.pinpoint.profiler.monitor;
+
+import com.navercorp.pinpoint.bootstrap.config.DefaultProfilerConfig;
+import com.navercorp.pinpoint.profiler.context.active.ActiveTraceHandle;
+import com.navercorp.pinpoint.profiler.context.active.ActiveTraceRepository;
+import com.navercorp.pinpoint.profiler.context.active.DefaultActiveTraceRepository;
+import com.navercorp.pinpoint.profiler.monitor.metric.response.ReuseResponseTimeCollector;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.concurrent.CountDownLatch;
+
+public class ThreadSampleMonitorTaskTest {
+
+    @Test
+    public void foldStack() {
+        StackTraceElement[] stackTrace = new StackTraceElement[]{
+                new StackTraceElement("com.test.Dao", "select", "Dao.java", 30),
+                new StackTraceElement("com.test.Service", "find", "Service.java", 20),
+                new StackTraceElement("com.test.Controller", "get", "Controller.java", 10)
+        };
+
+        String stack = ThreadSampleMonitorTask.foldStack(stackTrace, 32);
+        Assert.assertEquals("com.test.Controller.get;com.test.Service.find;com.test.Dao.select", stack);
+
+        Assert.assertEquals("", ThreadSampleMonitorTask.foldStack(new StackTraceElement[0], 32));
+    }
+
+    @Test
+    public void foldStackKeepsOutermostFrames() {
+        StackTraceElement[] stackTrace = new StackTraceElement[]{
+                new StackTraceElement("com.test.Dao", "select", "Dao.java", 30),
+                new StackTraceElement("com.test.Service", "find", "Service.java", 20),
+                new StackTraceElement("com.test.Controller", "get", "Controller.java", 10)
+        };
+
+        String stack = ThreadSampleMonitorTask.foldStack(stackTrace, 2);
+        Assert.assertEquals("com.test.Controller.get;com.test.Service.find", stack);
+    }
+
+    @Test
+    public void registry() {
+        ThreadSampleRegistry registry = new ThreadSampleRegistry(2, DefaultProfilerConfig.DEFAULT_THREAD_SAMPLE_MAX_BYTES);
+        registry.record("/a", "main;a");
+        registry.record("/a", "main;a");
+        registry.record(null, "main;b");
+        // dropped, max stacks exceeded
+        registry.record("/c", "main;c");
+
+        ThreadSampleSnapshot snapshot = registry.drain();
+        Assert.assertEquals(4, snapshot.getSampledThreadCount());
+        Assert.assertEquals(2, snapshot.getStackList().size());
+        for (ThreadSampleStack stack : snapshot.getStackList()) {
+            if (stack.getEntryPoint() == null) {
+                Assert.assertEquals("main;b", stack.getStack());
+                Assert.assertEquals(1, stack.getSampleCount());
+            } else {
+                Assert.assertEquals("/a", stack.getEntryPoint());
+                Assert.assertEquals(2, stack.getSampleCount());
+            }
+        }
+
+        ThreadSampleSnapshot empty = registry.drain();
+        Assert.assertEquals(0, empty.getSampledThreadCount());
+        Assert.assertTrue(empty.getStackList().isEmpty());
+    }
+
+    @Test
+    public void sampleLongRunningTrace() throws Exception {
+        final CountDownLatch latch = new CountDownLatch(1);
+        final Thread slowThread = new Thread(new Runnable() {
+            @Override
+            public void run() {
+                awaitLatch(latch);
+            }
+        });
+        slowThread.setDaemon(true);
+        slowThread.start();
+        while (slowThread.getState() != Thread.State.WAITING) {
+            Thread.sleep(10);
+        }
+
+        ActiveTraceRepository activeTraceRepository = new DefaultActiveTraceRepository(new ReuseResponseTimeCollector());
+        long currentTime = System.currentTimeMillis();
+        ActiveTraceHandle slowTrace = activeTraceRepository.register(1, currentTime - 5000, slowThread.getId());
+        ActiveTraceHandle fastTrace = activeTraceRepository.register(2, currentTime, Thread.currentThread().getId());
+
+        ThreadSampleRegistry registry = new ThreadSampleRegistry(10, DefaultProfilerConfig.DEFAULT_THREAD_SAMPLE_MAX_BYTES);
+        ThreadSampleMonitorTask task = new ThreadSampleMonitorTask(activeTraceRepository, registry, 1000, 1000, 64);
+        try {
+            task.doTask();
+        } finally {
+            latch.countDown();
+            slowThread.join(3000);
+            slowTrace.purge(System.currentTimeMillis());
+            fastTrace.purge(System.currentTimeMillis());
+        }
+
+        ThreadSampleSnapshot snapshot = registry.drain();
+        Assert.assertEquals(1, snapshot.getSampledThreadCount());
+        ThreadSampleStack stack = snapshot.getStackList().get(0);
+        Assert.assertNull(stack.getEntryPoint());
+        Assert.assertTrue(stack.getStack(), stack.getStack().contains(ThreadSampleMonitorTaskTest.class.getName() + ".awaitLatch"));
+    }
+
+    private static void awaitLatch(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException ignore) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+}
@@ -50,10 +50,12 @@ public class ReuseResponseTimeCollectorTest {
         ResponseTimeValue responseTimeValue = reuseResponseTimeCollector.resetAndGetValue();
         Assert.assertEquals(totalValue / count, responseTimeValue.getAvg());
         Assert.assertEquals(maxValue, responseTimeValue.getMax());
+        Assert.assertEquals(count, responseTimeValue.getHistogram().getTotalCount());
 
         responseTimeValue = reuseResponseTimeCollector.resetAndGetValue();
         Assert.assertEquals(0, responseTimeValue.getAvg());
         Assert.assertEquals(0, responseTimeValue.getMax());
+        Assert.assertEquals(0, responseTimeValue.getHistogram().getTotalCount());
     }
 
 }
@@ -0,0 +1,145 @@
+/*
+ * Copyright 2018 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.pinpoint.profiler.sender;
+
+import com.navercorp.pinpoint.rpc.DefaultFuture;
+import com.navercorp.pinpoint.rpc.Future;
+import com.navercorp.pinpoint.rpc.FutureListener;
+import com.navercorp.pinpoint.rpc.PinpointSocketException;
+import com.navercorp.pinpoint.rpc.ResponseMessage;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class RequestWindowTest {
+
+    @Test
+    public void window() {
+        TestRequestSender requestSender = new TestRequestSender();
+        RequestWindow requestWindow = new RequestWindow(requestSender, 2, 10);
+        CountingListener listener = new CountingListener();
+
+        for (int i = 0; i < 5; i++) {
+            requestWindow.request(new byte[1], listener);
+        }
+        Assert.assertEquals(2, requestSender.futures.size());
+        Assert.assertEquals(2, requestWindow.getInFlightCount());
+        Assert.assertEquals(3, requestWindow.getPendingCount());
+
+        requestSender.futures.get(0).setResult(new ResponseMessage());
+        Assert.assertEquals(3, requestSender.futures.size());
+        Assert.assertEquals(2, requestWindow.getInFlightCount());
+        Assert.assertEquals(2, requestWindow.getPendingCount());
+
+        requestSender.futures.get(1).setFailure(new PinpointSocketException("test"));
+        requestSender.futures.get(2).setResult(new ResponseMessage());
+        requestSender.futures.get(3).setResult(new ResponseMessage());
+        requestSender.futures.get(4).setResult(new ResponseMessage());
+
+        Assert.assertEquals(5, requestSender.futures.size());
+        Assert.assertEquals(0, requestWindow.getInFlightCount());
+        Assert.assertEquals(0, requestWindow.getPendingCount());
+        Assert.assertEquals(4, listener.success.get());
+        Assert.assertEquals(1, listener.fail.get());
+        Assert.assertEquals(1, requestWindow.getFailCount());
+        Assert.assertEquals(4, requestWindow.getSuccessCount());
+    }
+
+    @Test
+    public void averageRoundTripTime() {
+        TestRequestSender requestSender = new TestRequestSender();
+        RequestWindow requestWindow = new RequestWindow(requestSender, 2, 10);
+        CountingListener listener = new CountingListener();
+
+        requestWindow.request(new byte[1], listener);
+        requestWindow.request(new byte[1], listener);
+        requestWindow.request(new byte[1], listener);
+        requestSender.futures.get(0).setFailure(new PinpointSocketException("test"));
+        requestSender.futures.get(1).setResult(new ResponseMessage());
+
+        // in flight and failed requests are not part of the average
+        Assert.assertEquals(1, requestWindow.getInFlightCount());
+        Assert.assertEquals(1, requestWindow.getSuccessCount());
+        Assert.assertEquals(requestWindow.getTotalRoundTripTime(), requestWindow.getAverageRoundTripTime());
+    }
+
+    @Test
+    public void reject() {
+        TestRequestSender requestSender = new TestRequestSender();
+        RequestWindow requestWindow = new RequestWindow(requestSender, 1, 1);
+        CountingListener listener = new CountingListener();
+
+        requestWindow.request(new byte[1], listener);
+        requestWindow.request(new byte[1], listener);
+        requestWindow.request(new byte[1], listener);
+
+        Assert.assertEquals(1, requestSender.futures.size());
+        Assert.assertEquals(1, requestWindow.getPendingCount());
+        Assert.assertEquals(1, requestWindow.getRejectCount());
+        Assert.assertEquals(1, listener.fail.get());
+    }
+
+    @Test
+    public void immediateFailure() {
+        // disconnected client returns a failed future
+        RequestWindow.RequestSender requestSender = new RequestWindow.RequestSender() {
+            @Override
+            public Future<ResponseMessage> request(byte[] requestPacket) {
+                DefaultFuture<ResponseMessage> future = new DefaultFuture<ResponseMessage>();
+                future.setFailure(new PinpointSocketException("not connected"));
+                return future;
+            }
+        };
+        RequestWindow requestWindow = new RequestWindow(requestSender, 1, 10000);
+        CountingListener listener = new CountingListener();
+
+        for (int i = 0; i < 10000; i++) {
+            requestWindow.request(new byte[1], listener);
+        }
+        Assert.assertEquals(10000, listener.fail.get());
+        Assert.assertEquals(0, requestWindow.getInFlightCount());
+        Assert.assertEquals(0, requestWindow.getPendingCount());
+    }
+
+    private static class TestRequestSender implements RequestWindow.RequestSender {
+        private final List<DefaultFuture<ResponseMessage>> futures = new ArrayList<DefaultFuture<ResponseMessage>>();
+
+        @Override
+        public Future<ResponseMessage> request(byte[] requestPacket) {
+            DefaultFuture<ResponseMessage> future = new DefaultFuture<ResponseMessage>();
+            futures.add(future);
+            return future;
+        }
+    }
+
+    private static class CountingListener implements FutureListener<ResponseMessage> {
+        private final AtomicInteger success = new AtomicInteger();
+        private final AtomicInteger fail = new AtomicInteger();
+
+        @Override
+        public void onComplete(Future<ResponseMessage> future) {
+            if (future.isSuccess()) {
+                success.incrementAndGet();
+            } else {
+                fail.incrementAndGet();
+            }
+        }
+    }
+}
@@ -20,6 +20,7 @@ package com.navercorp.pinpoint.rpc.client;
 import com.navercorp.pinpoint.rpc.PipelineFactory;
 import com.navercorp.pinpoint.rpc.codec.PacketDecoder;
 import com.navercorp.pinpoint.rpc.codec.PacketEncoder;
+import com.navercorp.pinpoint.rpc.codec.WriteBatchingHandler;
 
 import org.jboss.netty.channel.ChannelPipeline;
 import org.jboss.netty.channel.Channels;
@@ -30,12 +31,22 @@ import org.jboss.netty.channel.Channels;
  */
 public class ClientCodecPipelineFactory implements PipelineFactory {
 
+    private final boolean writeBatchEnable;
+
     public ClientCodecPipelineFactory() {
+        this(false);
+    }
+
+    public ClientCodecPipelineFactory(boolean writeBatchEnable) {
+        this.writeBatchEnable = writeBatchEnable;
     }
 
     @Override
     public ChannelPipeline newPipeline() {
         ChannelPipeline pipeline = Channels.pipeline();
+        if (writeBatchEnable) {
+            pipeline.addLast("writeBatch", new WriteBatchingHandler());
+        }
         pipeline.addLast("encoder", new PacketEncoder());
         pipeline.addLast("decoder", new PacketDecoder());
         
@@ -0,0 +1,207 @@
+/*
+ * Copyright 2018 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.pinpoint.rpc.codec;
+
+import org.jboss.netty.buffer.ChannelBuffer;
+import org.jboss.netty.buffer.ChannelBuffers;
+import org.jboss.netty.channel.ChannelFuture;
+import org.jboss.netty.channel.ChannelFutureListener;
+import org.jboss.netty.channel.ChannelHandlerContext;
+import org.jboss.netty.channel.ChannelStateEvent;
+import org.jboss.netty.channel.Channels;
+import org.jboss.netty.channel.MessageEvent;
+import org.jboss.netty.channel.SimpleChannelHandler;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.net.SocketAddress;
+import java.nio.channels.ClosedChannelException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Consolidates the encoded packets written by application threads into a gathering buffer.
+ * packets are queued and flushed by a single task on the I/O thread,
+ * so the packets written while the task is pending are sent with one write() syscall instead of one per packet.
+ * latency is not added because the flush task is scheduled on the first write.
+ * <p>
+ * must be placed in front of the encoder so that the encoded buffers are received. (downstream order: encoder -> WriteBatchingHandler)
+ */
+public class WriteBatchingHandler extends SimpleChannelHandler {
+
+    public static final int DEFAULT_MAX_BATCH_SIZE = 1024 * 64;
+
+    private final Logger logger = LoggerFactory.getLogger(this.getClass());
+
+    private final int maxBatchSize;
+
+    private final Queue<MessageEvent> pendingQueue = new ConcurrentLinkedQueue<MessageEvent>();
+    private final AtomicBoolean flushScheduled = new AtomicBoolean(false);
+    private final Object flushLock = new Object();
+
+    public WriteBatchingHandler() {
+        this(DEFAULT_MAX_BATCH_SIZE);
+    }
+
+    public WriteBatchingHandler(int maxBatchSize) {
+        if (maxBatchSize <= 0) {
+            throw new IllegalArgumentException("maxBatchSize must be positive. maxBatchSize:" + maxBatchSize);
+        }
+        this.maxBatchSize = maxBatchSize;
+    }
+
+    @Override
+    public void writeRequested(final ChannelHandlerContext ctx, MessageEvent e) throws Exception {
+        if (!(e.getMessage() instanceof ChannelBuffer)) {
+            synchronized (flushLock) {
+                flush0(ctx);
+                ctx.sendDownstream(e);
+            }
+            return;
+        }
+
+        pendingQueue.offer(e);
+        if (flushScheduled.compareAndSet(false, true)) {
+            final ChannelFuture executeFuture = ctx.getPipeline().execute(new Runnable() {
+                @Override
+                public void run() {
+                    flushScheduled.set(false);
+                    flush(ctx);
+                }
+            });
+            executeFuture.addListener(new ChannelFutureListener() {
+                @Override
+                public void operationComplete(ChannelFuture future) throws Exception {
+                    if (!future.isSuccess()) {
+                        // could not run on the I/O thread.
+                        flushScheduled.set(false);
+                        flush(ctx);
+                    }
+                }
+            });
+        }
+    }
+
+    @Override
+    public void closeRequested(ChannelHandlerContext ctx, ChannelStateEvent e) throws Exception {
+        flush(ctx);
+        super.closeRequested(ctx, e);
+    }
+
+    @Override
+    public void disconnectRequested(ChannelHandlerContext ctx, ChannelStateEvent e) throws Exception {
+        flush(ctx);
+        super.disconnectRequested(ctx, e);
+    }
+
+    @Override
+    public void channelClosed(ChannelHandlerContext ctx, ChannelStateEvent e) throws Exception {
+        failPendingWrites();
+        super.channelClosed(ctx, e);
+    }
+
+    public void flush(ChannelHandlerContext ctx) {
+        synchronized (flushLock) {
+            flush0(ctx);
+        }
+    }
+
+    private void flush0(ChannelHandlerContext ctx) {
+        while (true) {
+            final MessageEvent first = pendingQueue.poll();
+            if (first == null) {
+                return;
+            }
+            if (pendingQueue.peek() == null) {
+                ctx.sendDownstream(first);
+                continue;
+            }
+
+            final List<MessageEvent> batch = new ArrayList<MessageEvent>();
+            batch.add(first);
+            int batchSize = ((ChannelBuffer) first.getMessage()).readableBytes();
+            while (batchSize < maxBatchSize) {
+                final MessageEvent next = pendingQueue.peek();
+                if (next == null) {
+                    break;
+                }
+                final int nextSize = ((ChannelBuffer) next.getMessage()).readableBytes();
+                if (batchSize + nextSize > maxBatchSize) {
+                    break;
+                }
+                batch.add(pendingQueue.poll());
+                batchSize += nextSize;
+            }
+            write(ctx, batch, batchSize);
+        }
+    }
+
+    private void write(ChannelHandlerContext ctx, final List<MessageEvent> batch, int batchSize) {
+        if (batch.size() == 1) {
+            ctx.sendDownstream(batch.get(0));
+            return;
+        }
+
+        final ChannelBuffer[] buffers = new ChannelBuffer[batch.size()];
+        for (int i = 0; i < buffers.length; i++) {
+            buffers[i] = (ChannelBuffer) batch.get(i).getMessage();
+        }
+        final SocketAddress remoteAddress = batch.get(0).getRemoteAddress();
+
+        final ChannelFuture batchFuture = Channels.future(ctx.getChannel());
+        batchFuture.addListener(new ChannelFutureListener() {
+            @Override
+            public void operationComplete(ChannelFuture future) throws Exception {
+                if (future.isSuccess()) {
+                    for (MessageEvent messageEvent : batch) {
+                        messageEvent.getFuture().setSuccess();
+                    }
+                } else {
+                    final Throwable cause = future.getCause();
+                    for (MessageEvent messageEvent : batch) {
+                        messageEvent.getFuture().setFailure(cause);
+                    }
+                }
+            }
+        });
+        if (logger.isTraceEnabled()) {
+            logger.trace("write batch. packets:{} bytes:{}", batch.size(), batchSize);
+        }
+        Channels.write(ctx, batchFuture, ChannelBuffers.wrappedBuffer(true, buffers), remoteAddress);
+    }
+
+    private void failPendingWrites() {
+        ClosedChannelException cause = null;
+        MessageEvent messageEvent;
+        while ((messageEvent = pendingQueue.poll()) != null) {
+            if (cause == null) {
+                cause = new ClosedChannelException();
+            }
+            messageEvent.getFuture().setFailure(cause);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "WriteBatchingHandler{" +
+                "maxBatchSize=" + maxBatchSize +
+                '}';
+    }
+}
@@ -19,6 +19,7 @@ package com.navercorp.pinpoint.rpc.server;
 import com.navercorp.pinpoint.rpc.PipelineFactory;
 import com.navercorp.pinpoint.rpc.codec.PacketEncoder;
 import com.navercorp.pinpoint.rpc.codec.ServerPacketDecoder;
+import com.navercorp.pinpoint.rpc.codec.WriteBatchingHandler;
 import org.jboss.netty.channel.ChannelPipeline;
 import org.jboss.netty.channel.Channels;
 
@@ -27,12 +28,22 @@ import org.jboss.netty.channel.Channels;
  */
 public class ServerCodecPipelineFactory implements PipelineFactory {
 
+    private final boolean writeBatchEnable;
+
     public ServerCodecPipelineFactory() {
+        this(false);
+    }
+
+    public ServerCodecPipelineFactory(boolean writeBatchEnable) {
+        this.writeBatchEnable = writeBatchEnable;
     }
 
     @Override
     public ChannelPipeline newPipeline() {
         ChannelPipeline pipeline = Channels.pipeline();
+        if (writeBatchEnable) {
+            pipeline.addLast("writeBatch", new WriteBatchingHandler());
+        }
 
         pipeline.addLast("decoder", new ServerPacketDecoder());
         pipeline.addLast("encoder", new PacketEncoder());
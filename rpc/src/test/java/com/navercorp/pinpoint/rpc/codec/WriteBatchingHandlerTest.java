@@ -0,0 +1,93 @@
+/*
+ * Copyright 2018 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.pinpoint.rpc.codec;
+
+import com.navercorp.pinpoint.rpc.client.ClientCodecPipelineFactory;
+import com.navercorp.pinpoint.rpc.client.DefaultConnectionFactoryProvider;
+import com.navercorp.pinpoint.rpc.client.DefaultPinpointClientFactory;
+import com.navercorp.pinpoint.rpc.client.PinpointClient;
+import com.navercorp.pinpoint.rpc.util.PinpointRPCTestUtils;
+import com.navercorp.pinpoint.test.server.TestPinpointServerAcceptor;
+import com.navercorp.pinpoint.test.server.TestServerMessageListenerFactory;
+import org.junit.AfterClass;
+import org.junit.Assert;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+public class WriteBatchingHandlerTest {
+
+    private static DefaultPinpointClientFactory clientFactory;
+
+    @BeforeClass
+    public static void setUp() {
+        clientFactory = new DefaultPinpointClientFactory(new DefaultConnectionFactoryProvider(new ClientCodecPipelineFactory(true)));
+    }
+
+    @AfterClass
+    public static void tearDown() {
+        if (clientFactory != null) {
+            clientFactory.release();
+        }
+    }
+
+    @Test
+    public void send() {
+        TestServerMessageListenerFactory testServerMessageListenerFactory = new TestServerMessageListenerFactory(TestServerMessageListenerFactory.HandshakeType.DUPLEX, true);
+        TestServerMessageListenerFactory.TestServerMessageListener serverMessageListener = testServerMessageListenerFactory.create();
+
+        TestPinpointServerAcceptor testPinpointServerAcceptor = new TestPinpointServerAcceptor(testServerMessageListenerFactory);
+        int bindPort = testPinpointServerAcceptor.bind();
+
+        try {
+            PinpointClient client = clientFactory.connect("127.0.0.1", bindPort);
+
+            final int sendCount = 1000;
+            for (int i = 0; i < sendCount; i++) {
+                client.send(new byte[100]);
+            }
+            serverMessageListener.awaitAssertExpectedSendCount(sendCount, 3000);
+
+            PinpointRPCTestUtils.close(client);
+        } finally {
+            testPinpointServerAcceptor.close();
+        }
+    }
+
+    @Test
+    public void request() {
+        TestPinpointServerAcceptor testPinpointServerAcceptor = new TestPinpointServerAcceptor(new TestServerMessageListenerFactory(TestServerMessageListenerFactory.HandshakeType.DUPLEX));
+        int bindPort = testPinpointServerAcceptor.bind();
+
+        try {
+            PinpointClient client = clientFactory.connect("127.0.0.1", bindPort);
+
+            byte[] randomByte = new byte[10];
+            randomByte[0] = 1;
+            byte[] response = PinpointRPCTestUtils.request(client, randomByte);
+            Assert.assertArrayEquals(randomByte, response);
+
+            PinpointRPCTestUtils.close(client);
+        } finally {
+            testPinpointServerAcceptor.close();
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void invalidMaxBatchSize() {
+        new WriteBatchingHandler(0);
+    }
+}
@@ -24,6 +24,9 @@ public class TAgentStat implements org.apache.thrift.TBase<TAgentStat, TAgentSta
   private static final org.apache.thrift.protocol.TField DEADLOCK_FIELD_DESC = new org.apache.thrift.protocol.TField("deadlock", org.apache.thrift.protocol.TType.STRUCT, (short)70);
   private static final org.apache.thrift.protocol.TField FILE_DESCRIPTOR_FIELD_DESC = new org.apache.thrift.protocol.TField("fileDescriptor", org.apache.thrift.protocol.TType.STRUCT, (short)80);
   private static final org.apache.thrift.protocol.TField DIRECT_BUFFER_FIELD_DESC = new org.apache.thrift.protocol.TField("directBuffer", org.apache.thrift.protocol.TType.STRUCT, (short)90);
+  private static final org.apache.thrift.protocol.TField THREAD_SAMPLE_FIELD_DESC = new org.apache.thrift.protocol.TField("threadSample", org.apache.thrift.protocol.TType.STRUCT, (short)100);
+  private static final org.apache.thrift.protocol.TField SQL_STAT_LIST_FIELD_DESC = new org.apache.thrift.protocol.TField("sqlStatList", org.apache.thrift.protocol.TType.STRUCT, (short)101);
+  private static final org.apache.thrift.protocol.TField TCP_REQUEST_FIELD_DESC = new org.apache.thrift.protocol.TField("tcpRequest", org.apache.thrift.protocol.TType.STRUCT, (short)110);
   private static final org.apache.thrift.protocol.TField METADATA_FIELD_DESC = new org.apache.thrift.protocol.TField("metadata", org.apache.thrift.protocol.TType.STRING, (short)200);
 
   private static final org.apache.thrift.scheme.SchemeFactory STANDARD_SCHEME_FACTORY = new TAgentStatStandardSchemeFactory();
@@ -42,6 +45,9 @@ public class TAgentStat implements org.apache.thrift.TBase<TAgentStat, TAgentSta
   private TDeadlock deadlock; // optional
   private TFileDescriptor fileDescriptor; // optional
   private TDirectBuffer directBuffer; // optional
+  private TThreadSample threadSample; // optional
+  private TSqlStatList sqlStatList; // optional
+  private TTcpRequest tcpRequest; // optional
   private java.lang.String metadata; // optional
 
   /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
@@ -59,6 +65,9 @@ public class TAgentStat implements org.apache.thrift.TBase<TAgentStat, TAgentSta
     DEADLOCK((short)70, "deadlock"),
     FILE_DESCRIPTOR((short)80, "fileDescriptor"),
     DIRECT_BUFFER((short)90, "directBuffer"),
+    THREAD_SAMPLE((short)100, "threadSample"),
+    SQL_STAT_LIST((short)101, "sqlStatList"),
+    TCP_REQUEST((short)110, "tcpRequest"),
     METADATA((short)200, "metadata");
 
     private static final java.util.Map<java.lang.String, _Fields> byName = new java.util.HashMap<java.lang.String, _Fields>();
@@ -100,6 +109,12 @@ public class TAgentStat implements org.apache.thrift.TBase<TAgentStat, TAgentSta
           return FILE_DESCRIPTOR;
         case 90: // DIRECT_BUFFER
           return DIRECT_BUFFER;
+        case 100: // THREAD_SAMPLE
+          return THREAD_SAMPLE;
+        case 101: // SQL_STAT_LIST
+          return SQL_STAT_LIST;
+        case 110: // TCP_REQUEST
+          return TCP_REQUEST;
         case 200: // METADATA
           return METADATA;
         default:
@@ -146,7 +161,7 @@ public class TAgentStat implements org.apache.thrift.TBase<TAgentStat, TAgentSta
   private static final int __TIMESTAMP_ISSET_ID = 1;
   private static final int __COLLECTINTERVAL_ISSET_ID = 2;
   private byte __isset_bitfield = 0;
-  private static final _Fields optionals[] = {_Fields.AGENT_ID,_Fields.START_TIMESTAMP,_Fields.TIMESTAMP,_Fields.COLLECT_INTERVAL,_Fields.GC,_Fields.CPU_LOAD,_Fields.TRANSACTION,_Fields.ACTIVE_TRACE,_Fields.DATA_SOURCE_LIST,_Fields.RESPONSE_TIME,_Fields.DEADLOCK,_Fields.FILE_DESCRIPTOR,_Fields.DIRECT_BUFFER,_Fields.METADATA};
+  private static final _Fields optionals[] = {_Fields.AGENT_ID,_Fields.START_TIMESTAMP,_Fields.TIMESTAMP,_Fields.COLLECT_INTERVAL,_Fields.GC,_Fields.CPU_LOAD,_Fields.TRANSACTION,_Fields.ACTIVE_TRACE,_Fields.DATA_SOURCE_LIST,_Fields.RESPONSE_TIME,_Fields.DEADLOCK,_Fields.FILE_DESCRIPTOR,_Fields.DIRECT_BUFFER,_Fields.THREAD_SAMPLE,_Fields.SQL_STAT_LIST,_Fields.TCP_REQUEST,_Fields.METADATA};
   public static final java.util.Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
   static {
     java.util.Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new java.util.EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
@@ -176,6 +191,12 @@ public class TAgentStat implements org.apache.thrift.TBase<TAgentStat, TAgentSta
         new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRUCT        , "TFileDescriptor")));
     tmpMap.put(_Fields.DIRECT_BUFFER, new org.apache.thrift.meta_data.FieldMetaData("directBuffer", org.apache.thrift.TFieldRequirementType.OPTIONAL,
         new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, TDirectBuffer.class)));
+    tmpMap.put(_Fields.THREAD_SAMPLE, new org.apache.thrift.meta_data.FieldMetaData("threadSample", org.apache.thrift.TFieldRequirementType.OPTIONAL,
+        new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, TThreadSample.class)));
+    tmpMap.put(_Fields.SQL_STAT_LIST, new org.apache.thrift.meta_data.FieldMetaData("sqlStatList", org.apache.thrift.TFieldRequirementType.OPTIONAL,
+        new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, TSqlStatList.class)));
+    tmpMap.put(_Fields.TCP_REQUEST, new org.apache.thrift.meta_data.FieldMetaData("tcpRequest", org.apache.thrift.TFieldRequirementType.OPTIONAL,
+        new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, TTcpRequest.class)));
     tmpMap.put(_Fields.METADATA, new org.apache.thrift.meta_data.FieldMetaData("metadata", org.apache.thrift.TFieldRequirementType.OPTIONAL,
         new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING)));
     metaDataMap = java.util.Collections.unmodifiableMap(tmpMap);
@@ -223,6 +244,15 @@ public class TAgentStat implements org.apache.thrift.TBase<TAgentStat, TAgentSta
     if (other.isSetDirectBuffer()) {
       this.directBuffer = new TDirectBuffer(other.directBuffer);
     }
+    if (other.isSetThreadSample()) {
+      this.threadSample = new TThreadSample(other.threadSample);
+    }
+    if (other.isSetSqlStatList()) {
+      this.sqlStatList = new TSqlStatList(other.sqlStatList);
+    }
+    if (other.isSetTcpRequest()) {
+      this.tcpRequest = new TTcpRequest(other.tcpRequest);
+    }
     if (other.isSetMetadata()) {
       this.metadata = other.metadata;
     }
@@ -250,6 +280,9 @@ public class TAgentStat implements org.apache.thrift.TBase<TAgentStat, TAgentSta
     this.deadlock = null;
     this.fileDescriptor = null;
     this.directBuffer = null;
+    this.threadSample = null;
+    this.sqlStatList = null;
+    this.tcpRequest = null;
     this.metadata = null;
   }
 
@@ -549,6 +582,75 @@ public class TAgentStat implements org.apache.thrift.TBase<TAgentStat, TAgentSta
     }
   }
 
+  public TThreadSample getThreadSample() {
+    return this.threadSample;
+  }
+
+  public void setThreadSample(TThreadSample threadSample) {
+    this.threadSample = threadSample;
+  }
+
+  public void unsetThreadSample() {
+    this.threadSample = null;
+  }
+
+  /** Returns true if field threadSample is set (has been assigned a value) and false otherwise */
+  public boolean isSetThreadSample() {
+    return this.threadSample != null;
+  }
+
+  public void setThreadSampleIsSet(boolean value) {
+    if (!value) {
+      this.threadSample = null;
+    }
+  }
+
+  public TSqlStatList getSqlStatList() {
+    return this.sqlStatList;
+  }
+
+  public void setSqlStatList(TSqlStatList sqlStatList) {
+    this.sqlStatList = sqlStatList;
+  }
+
+  public void unsetSqlStatList() {
+    this.sqlStatList = null;
+  }
+
+  /** Returns true if field sqlStatList is set (has been assigned a value) and false otherwise */
+  public boolean isSetSqlStatList() {
+    return this.sqlStatList != null;
+  }
+
+  public void setSqlStatListIsSet(boolean value) {
+    if (!value) {
+      this.sqlStatList = null;
+    }
+  }
+
+  public TTcpRequest getTcpRequest() {
+    return this.tcpRequest;
+  }
+
+  public void setTcpRequest(TTcpRequest tcpRequest) {
+    this.tcpRequest = tcpRequest;
+  }
+
+  public void unsetTcpRequest() {
+    this.tcpRequest = null;
+  }
+
+  /** Returns true if field tcpRequest is set (has been assigned a value) and false otherwise */
+  public boolean isSetTcpRequest() {
+    return this.tcpRequest != null;
+  }
+
+  public void setTcpRequestIsSet(boolean value) {
+    if (!value) {
+      this.tcpRequest = null;
+    }
+  }
+
   public java.lang.String getMetadata() {
     return this.metadata;
   }
@@ -678,6 +780,30 @@ public class TAgentStat implements org.apache.thrift.TBase<TAgentStat, TAgentSta
       }
       break;
 
+    case THREAD_SAMPLE:
+      if (value == null) {
+        unsetThreadSample();
+      } else {
+        setThreadSample((TThreadSample)value);
+      }
+      break;
+
+    case SQL_STAT_LIST:
+      if (value == null) {
+        unsetSqlStatList();
+      } else {
+        setSqlStatList((TSqlStatList)value);
+      }
+      break;
+
+    case TCP_REQUEST:
+      if (value == null) {
+        unsetTcpRequest();
+      } else {
+        setTcpRequest((TTcpRequest)value);
+      }
+      break;
+
     case METADATA:
       if (value == null) {
         unsetMetadata();
@@ -730,6 +856,15 @@ public class TAgentStat implements org.apache.thrift.TBase<TAgentStat, TAgentSta
     case DIRECT_BUFFER:
       return getDirectBuffer();
 
+    case THREAD_SAMPLE:
+      return getThreadSample();
+
+    case SQL_STAT_LIST:
+      return getSqlStatList();
+
+    case TCP_REQUEST:
+      return getTcpRequest();
+
     case METADATA:
       return getMetadata();
 
@@ -770,6 +905,12 @@ public class TAgentStat implements org.apache.thrift.TBase<TAgentStat, TAgentSta
       return isSetFileDescriptor();
     case DIRECT_BUFFER:
       return isSetDirectBuffer();
+    case THREAD_SAMPLE:
+      return isSetThreadSample();
+    case SQL_STAT_LIST:
+      return isSetSqlStatList();
+    case TCP_REQUEST:
+      return isSetTcpRequest();
     case METADATA:
       return isSetMetadata();
     }
@@ -908,6 +1049,33 @@ public class TAgentStat implements org.apache.thrift.TBase<TAgentStat, TAgentSta
         return false;
     }
 
+    boolean this_present_threadSample = true && this.isSetThreadSample();
+    boolean that_present_threadSample = true && that.isSetThreadSample();
+    if (this_present_threadSample || that_present_threadSample) {
+      if (!(this_present_threadSample && that_present_threadSample))
+        return false;
+      if (!this.threadSample.equals(that.threadSample))
+        return false;
+    }
+
+    boolean this_present_sqlStatList = true && this.isSetSqlStatList();
+    boolean that_present_sqlStatList = true && that.isSetSqlStatList();
+    if (this_present_sqlStatList || that_present_sqlStatList) {
+      if (!(this_present_sqlStatList && that_present_sqlStatList))
+        return false;
+      if (!this.sqlStatList.equals(that.sqlStatList))
+        return false;
+    }
+
+    boolean this_present_tcpRequest = true && this.isSetTcpRequest();
+    boolean that_present_tcpRequest = true && that.isSetTcpRequest();
+    if (this_present_tcpRequest || that_present_tcpRequest) {
+      if (!(this_present_tcpRequest && that_present_tcpRequest))
+        return false;
+      if (!this.tcpRequest.equals(that.tcpRequest))
+        return false;
+    }
+
     boolean this_present_metadata = true && this.isSetMetadata();
     boolean that_present_metadata = true && that.isSetMetadata();
     if (this_present_metadata || that_present_metadata) {
@@ -975,6 +1143,16 @@ public class TAgentStat implements org.apache.thrift.TBase<TAgentStat, TAgentSta
     hashCode = hashCode * 8191 + ((isSetDirectBuffer()) ? 131071 : 524287);
     if (isSetDirectBuffer())
       hashCode = hashCode * 8191 + directBuffer.hashCode();
+    hashCode = hashCode * 8191 + ((isSetThreadSample()) ? 131071 : 524287);
+    if (isSetThreadSample())
+      hashCode = hashCode * 8191 + threadSample.hashCode();
+    hashCode = hashCode * 8191 + ((isSetSqlStatList()) ? 131071 : 524287);
+    if (isSetSqlStatList())
+      hashCode = hashCode * 8191 + sqlStatList.hashCode();
+
+    hashCode = hashCode * 8191 + ((isSetTcpRequest()) ? 131071 : 524287);
+    if (isSetTcpRequest())
+      hashCode = hashCode * 8191 + tcpRequest.hashCode();
 
     hashCode = hashCode * 8191 + ((isSetMetadata()) ? 131071 : 524287);
     if (isSetMetadata())
@@ -1121,6 +1299,36 @@ public class TAgentStat implements org.apache.thrift.TBase<TAgentStat, TAgentSta
         return lastComparison;
       }
     }
+    lastComparison = java.lang.Boolean.valueOf(isSetThreadSample()).compareTo(other.isSetThreadSample());
+    if (lastComparison != 0) {
+      return lastComparison;
+    }
+    if (isSetThreadSample()) {
+      lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.threadSample, other.threadSample);
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+    }
+    lastComparison = java.lang.Boolean.valueOf(isSetSqlStatList()).compareTo(other.isSetSqlStatList());
+    if (lastComparison != 0) {
+      return lastComparison;
+    }
+    if (isSetSqlStatList()) {
+      lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.sqlStatList, other.sqlStatList);
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+    }
+    lastComparison = java.lang.Boolean.valueOf(isSetTcpRequest()).compareTo(other.isSetTcpRequest());
+    if (lastComparison != 0) {
+      return lastComparison;
+    }
+    if (isSetTcpRequest()) {
+      lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.tcpRequest, other.tcpRequest);
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+    }
     lastComparison = java.lang.Boolean.valueOf(isSetMetadata()).compareTo(other.isSetMetadata());
     if (lastComparison != 0) {
       return lastComparison;
@@ -1268,6 +1476,36 @@ public class TAgentStat implements org.apache.thrift.TBase<TAgentStat, TAgentSta
       }
       first = false;
     }
+    if (isSetThreadSample()) {
+      if (!first) sb.append(", ");
+      sb.append("threadSample:");
+      if (this.threadSample == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.threadSample);
+      }
+      first = false;
+    }
+    if (isSetSqlStatList()) {
+      if (!first) sb.append(", ");
+      sb.append("sqlStatList:");
+      if (this.sqlStatList == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.sqlStatList);
+      }
+      first = false;
+    }
+    if (isSetTcpRequest()) {
+      if (!first) sb.append(", ");
+      sb.append("tcpRequest:");
+      if (this.tcpRequest == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.tcpRequest);
+      }
+      first = false;
+    }
     if (isSetMetadata()) {
       if (!first) sb.append(", ");
       sb.append("metadata:");
@@ -1306,6 +1544,15 @@ public class TAgentStat implements org.apache.thrift.TBase<TAgentStat, TAgentSta
     if (directBuffer != null) {
       directBuffer.validate();
     }
+    if (threadSample != null) {
+      threadSample.validate();
+    }
+    if (sqlStatList != null) {
+      sqlStatList.validate();
+    }
+    if (tcpRequest != null) {
+      tcpRequest.validate();
+    }
   }
 
   private void writeObject(java.io.ObjectOutputStream out) throws java.io.IOException {
@@ -1457,6 +1704,33 @@ public class TAgentStat implements org.apache.thrift.TBase<TAgentStat, TAgentSta
               org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
             }
             break;
+          case 100: // THREAD_SAMPLE
+            if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
+              struct.threadSample = new TThreadSample();
+              struct.threadSample.read(iprot);
+              struct.setThreadSampleIsSet(true);
+            } else {
+              org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+            }
+            break;
+          case 101: // SQL_STAT_LIST
+            if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
+              struct.sqlStatList = new TSqlStatList();
+              struct.sqlStatList.read(iprot);
+              struct.setSqlStatListIsSet(true);
+            } else {
+              org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+            }
+            break;
+          case 110: // TCP_REQUEST
+            if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
+              struct.tcpRequest = new TTcpRequest();
+              struct.tcpRequest.read(iprot);
+              struct.setTcpRequestIsSet(true);
+            } else {
+              org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+            }
+            break;
           case 200: // METADATA
             if (schemeField.type == org.apache.thrift.protocol.TType.STRING) {
               struct.metadata = iprot.readString();
@@ -1563,6 +1837,27 @@ public class TAgentStat implements org.apache.thrift.TBase<TAgentStat, TAgentSta
           oprot.writeFieldEnd();
         }
       }
+      if (struct.threadSample != null) {
+        if (struct.isSetThreadSample()) {
+          oprot.writeFieldBegin(THREAD_SAMPLE_FIELD_DESC);
+          struct.threadSample.write(oprot);
+          oprot.writeFieldEnd();
+        }
+      }
+      if (struct.sqlStatList != null) {
+        if (struct.isSetSqlStatList()) {
+          oprot.writeFieldBegin(SQL_STAT_LIST_FIELD_DESC);
+          struct.sqlStatList.write(oprot);
+          oprot.writeFieldEnd();
+        }
+      }
+      if (struct.tcpRequest != null) {
+        if (struct.isSetTcpRequest()) {
+          oprot.writeFieldBegin(TCP_REQUEST_FIELD_DESC);
+          struct.tcpRequest.write(oprot);
+          oprot.writeFieldEnd();
+        }
+      }
       if (struct.metadata != null) {
         if (struct.isSetMetadata()) {
           oprot.writeFieldBegin(METADATA_FIELD_DESC);
@@ -1627,10 +1922,19 @@ public class TAgentStat implements org.apache.thrift.TBase<TAgentStat, TAgentSta
       if (struct.isSetDirectBuffer()) {
         optionals.set(12);
       }
-      if (struct.isSetMetadata()) {
+      if (struct.isSetThreadSample()) {
         optionals.set(13);
       }
-      oprot.writeBitSet(optionals, 14);
+      if (struct.isSetSqlStatList()) {
+        optionals.set(14);
+      }
+      if (struct.isSetTcpRequest()) {
+        optionals.set(15);
+      }
+      if (struct.isSetMetadata()) {
+        optionals.set(16);
+      }
+      oprot.writeBitSet(optionals, 17);
       if (struct.isSetAgentId()) {
         oprot.writeString(struct.agentId);
       }
@@ -1670,6 +1974,15 @@ public class TAgentStat implements org.apache.thrift.TBase<TAgentStat, TAgentSta
       if (struct.isSetDirectBuffer()) {
         struct.directBuffer.write(oprot);
       }
+      if (struct.isSetThreadSample()) {
+        struct.threadSample.write(oprot);
+      }
+      if (struct.isSetSqlStatList()) {
+        struct.sqlStatList.write(oprot);
+      }
+      if (struct.isSetTcpRequest()) {
+        struct.tcpRequest.write(oprot);
+      }
       if (struct.isSetMetadata()) {
         oprot.writeString(struct.metadata);
       }
@@ -1678,7 +1991,7 @@ public class TAgentStat implements org.apache.thrift.TBase<TAgentStat, TAgentSta
     @Override
     public void read(org.apache.thrift.protocol.TProtocol prot, TAgentStat struct) throws org.apache.thrift.TException {
       org.apache.thrift.protocol.TTupleProtocol iprot = (org.apache.thrift.protocol.TTupleProtocol) prot;
-      java.util.BitSet incoming = iprot.readBitSet(14);
+      java.util.BitSet incoming = iprot.readBitSet(17);
       if (incoming.get(0)) {
         struct.agentId = iprot.readString();
         struct.setAgentIdIsSet(true);
@@ -1741,6 +2054,21 @@ public class TAgentStat implements org.apache.thrift.TBase<TAgentStat, TAgentSta
         struct.setDirectBufferIsSet(true);
       }
       if (incoming.get(13)) {
+        struct.threadSample = new TThreadSample();
+        struct.threadSample.read(iprot);
+        struct.setThreadSampleIsSet(true);
+      }
+      if (incoming.get(14)) {
+        struct.sqlStatList = new TSqlStatList();
+        struct.sqlStatList.read(iprot);
+        struct.setSqlStatListIsSet(true);
+      }
+      if (incoming.get(15)) {
+        struct.tcpRequest = new TTcpRequest();
+        struct.tcpRequest.read(iprot);
+        struct.setTcpRequestIsSet(true);
+      }
+      if (incoming.get(16)) {
         struct.metadata = iprot.readString();
         struct.setMetadataIsSet(true);
       }
@@ -13,17 +13,20 @@ public class TResponseTime implements org.apache.thrift.TBase<TResponseTime, TRe
 
   private static final org.apache.thrift.protocol.TField AVG_FIELD_DESC = new org.apache.thrift.protocol.TField("avg", org.apache.thrift.protocol.TType.I64, (short)1);
   private static final org.apache.thrift.protocol.TField MAX_FIELD_DESC = new org.apache.thrift.protocol.TField("max", org.apache.thrift.protocol.TType.I64, (short)2);
+  private static final org.apache.thrift.protocol.TField HISTOGRAM_FIELD_DESC = new org.apache.thrift.protocol.TField("histogram", org.apache.thrift.protocol.TType.STRING, (short)3);
 
   private static final org.apache.thrift.scheme.SchemeFactory STANDARD_SCHEME_FACTORY = new TResponseTimeStandardSchemeFactory();
   private static final org.apache.thrift.scheme.SchemeFactory TUPLE_SCHEME_FACTORY = new TResponseTimeTupleSchemeFactory();
 
   private long avg; // optional
   private long max; // optional
+  private java.nio.ByteBuffer histogram; // optional
 
   /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
   public enum _Fields implements org.apache.thrift.TFieldIdEnum {
     AVG((short)1, "avg"),
-    MAX((short)2, "max");
+    MAX((short)2, "max"),
+    HISTOGRAM((short)3, "histogram");
 
     private static final java.util.Map<java.lang.String, _Fields> byName = new java.util.HashMap<java.lang.String, _Fields>();
 
@@ -42,6 +45,8 @@ public class TResponseTime implements org.apache.thrift.TBase<TResponseTime, TRe
           return AVG;
         case 2: // MAX
           return MAX;
+        case 3: // HISTOGRAM
+          return HISTOGRAM;
         default:
           return null;
       }
@@ -85,7 +90,7 @@ public class TResponseTime implements org.apache.thrift.TBase<TResponseTime, TRe
   private static final int __AVG_ISSET_ID = 0;
   private static final int __MAX_ISSET_ID = 1;
   private byte __isset_bitfield = 0;
-  private static final _Fields optionals[] = {_Fields.AVG,_Fields.MAX};
+  private static final _Fields optionals[] = {_Fields.AVG,_Fields.MAX,_Fields.HISTOGRAM};
   public static final java.util.Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
   static {
     java.util.Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new java.util.EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
@@ -93,6 +98,8 @@ public class TResponseTime implements org.apache.thrift.TBase<TResponseTime, TRe
         new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.I64)));
     tmpMap.put(_Fields.MAX, new org.apache.thrift.meta_data.FieldMetaData("max", org.apache.thrift.TFieldRequirementType.OPTIONAL, 
         new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.I64)));
+    tmpMap.put(_Fields.HISTOGRAM, new org.apache.thrift.meta_data.FieldMetaData("histogram", org.apache.thrift.TFieldRequirementType.OPTIONAL, 
+        new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING        , true)));
     metaDataMap = java.util.Collections.unmodifiableMap(tmpMap);
     org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(TResponseTime.class, metaDataMap);
   }
@@ -111,6 +118,9 @@ public class TResponseTime implements org.apache.thrift.TBase<TResponseTime, TRe
     __isset_bitfield = other.__isset_bitfield;
     this.avg = other.avg;
     this.max = other.max;
+    if (other.isSetHistogram()) {
+      this.histogram = org.apache.thrift.TBaseHelper.copyBinary(other.histogram);
+    }
   }
 
   public TResponseTime deepCopy() {
@@ -123,6 +133,7 @@ public class TResponseTime implements org.apache.thrift.TBase<TResponseTime, TRe
 
     this.max = 0L;
 
+    this.histogram = null;
   }
 
   public long getAvg() {
@@ -169,6 +180,38 @@ public class TResponseTime implements org.apache.thrift.TBase<TResponseTime, TRe
     __isset_bitfield = org.apache.thrift.EncodingUtils.setBit(__isset_bitfield, __MAX_ISSET_ID, value);
   }
 
+  public byte[] getHistogram() {
+    setHistogram(org.apache.thrift.TBaseHelper.rightSize(histogram));
+    return histogram == null ? null : histogram.array();
+  }
+
+  public java.nio.ByteBuffer bufferForHistogram() {
+    return org.apache.thrift.TBaseHelper.copyBinary(histogram);
+  }
+
+  public void setHistogram(byte[] histogram) {
+    this.histogram = histogram == null ? (java.nio.ByteBuffer)null : java.nio.ByteBuffer.wrap(histogram.clone());
+  }
+
+  public void setHistogram(java.nio.ByteBuffer histogram) {
+    this.histogram = org.apache.thrift.TBaseHelper.copyBinary(histogram);
+  }
+
+  public void unsetHistogram() {
+    this.histogram = null;
+  }
+
+  /** Returns true if field histogram is set (has been assigned a value) and false otherwise */
+  public boolean isSetHistogram() {
+    return this.histogram != null;
+  }
+
+  public void setHistogramIsSet(boolean value) {
+    if (!value) {
+      this.histogram = null;
+    }
+  }
+
   public void setFieldValue(_Fields field, java.lang.Object value) {
     switch (field) {
     case AVG:
@@ -187,6 +230,18 @@ public class TResponseTime implements org.apache.thrift.TBase<TResponseTime, TRe
       }
       break;
 
+    case HISTOGRAM:
+      if (value == null) {
+        unsetHistogram();
+      } else {
+        if (value instanceof byte[]) {
+          setHistogram((byte[])value);
+        } else {
+          setHistogram((java.nio.ByteBuffer)value);
+        }
+      }
+      break;
+
     }
   }
 
@@ -198,6 +253,9 @@ public class TResponseTime implements org.apache.thrift.TBase<TResponseTime, TRe
     case MAX:
       return getMax();
 
+    case HISTOGRAM:
+      return getHistogram();
+
     }
     throw new java.lang.IllegalStateException();
   }
@@ -213,6 +271,8 @@ public class TResponseTime implements org.apache.thrift.TBase<TResponseTime, TRe
       return isSetAvg();
     case MAX:
       return isSetMax();
+    case HISTOGRAM:
+      return isSetHistogram();
     }
     throw new java.lang.IllegalStateException();
   }
@@ -250,6 +310,15 @@ public class TResponseTime implements org.apache.thrift.TBase<TResponseTime, TRe
         return false;
     }
 
+    boolean this_present_histogram = true && this.isSetHistogram();
+    boolean that_present_histogram = true && that.isSetHistogram();
+    if (this_present_histogram || that_present_histogram) {
+      if (!(this_present_histogram && that_present_histogram))
+        return false;
+      if (!this.histogram.equals(that.histogram))
+        return false;
+    }
+
     return true;
   }
 
@@ -265,6 +334,10 @@ public class TResponseTime implements org.apache.thrift.TBase<TResponseTime, TRe
     if (isSetMax())
       hashCode = hashCode * 8191 + org.apache.thrift.TBaseHelper.hashCode(max);
 
+    hashCode = hashCode * 8191 + ((isSetHistogram()) ? 131071 : 524287);
+    if (isSetHistogram())
+      hashCode = hashCode * 8191 + histogram.hashCode();
+
     return hashCode;
   }
 
@@ -296,6 +369,16 @@ public class TResponseTime implements org.apache.thrift.TBase<TResponseTime, TRe
         return lastComparison;
       }
     }
+    lastComparison = java.lang.Boolean.valueOf(isSetHistogram()).compareTo(other.isSetHistogram());
+    if (lastComparison != 0) {
+      return lastComparison;
+    }
+    if (isSetHistogram()) {
+      lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.histogram, other.histogram);
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+    }
     return 0;
   }
 
@@ -327,6 +410,16 @@ public class TResponseTime implements org.apache.thrift.TBase<TResponseTime, TRe
       sb.append(this.max);
       first = false;
     }
+    if (isSetHistogram()) {
+      if (!first) sb.append(", ");
+      sb.append("histogram:");
+      if (this.histogram == null) {
+        sb.append("null");
+      } else {
+        org.apache.thrift.TBaseHelper.toString(this.histogram, sb);
+      }
+      first = false;
+    }
     sb.append(")");
     return sb.toString();
   }
@@ -388,6 +481,14 @@ public class TResponseTime implements org.apache.thrift.TBase<TResponseTime, TRe
               org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
             }
             break;
+          case 3: // HISTOGRAM
+            if (schemeField.type == org.apache.thrift.protocol.TType.STRING) {
+              struct.histogram = iprot.readBinary();
+              struct.setHistogramIsSet(true);
+            } else { 
+              org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+            }
+            break;
           default:
             org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
         }
@@ -411,6 +512,13 @@ public class TResponseTime implements org.apache.thrift.TBase<TResponseTime, TRe
         oprot.writeI64(struct.max);
         oprot.writeFieldEnd();
       }
+      if (struct.histogram != null) {
+        if (struct.isSetHistogram()) {
+          oprot.writeFieldBegin(HISTOGRAM_FIELD_DESC);
+          oprot.writeBinary(struct.histogram);
+          oprot.writeFieldEnd();
+        }
+      }
       oprot.writeFieldStop();
       oprot.writeStructEnd();
     }
@@ -435,19 +543,25 @@ public class TResponseTime implements org.apache.thrift.TBase<TResponseTime, TRe
       if (struct.isSetMax()) {
         optionals.set(1);
       }
-      oprot.writeBitSet(optionals, 2);
+      if (struct.isSetHistogram()) {
+        optionals.set(2);
+      }
+      oprot.writeBitSet(optionals, 3);
       if (struct.isSetAvg()) {
         oprot.writeI64(struct.avg);
       }
       if (struct.isSetMax()) {
         oprot.writeI64(struct.max);
       }
+      if (struct.isSetHistogram()) {
+        oprot.writeBinary(struct.histogram);
+      }
     }
 
     @Override
     public void read(org.apache.thrift.protocol.TProtocol prot, TResponseTime struct) throws org.apache.thrift.TException {
       org.apache.thrift.protocol.TTupleProtocol iprot = (org.apache.thrift.protocol.TTupleProtocol) prot;
-      java.util.BitSet incoming = iprot.readBitSet(2);
+      java.util.BitSet incoming = iprot.readBitSet(3);
       if (incoming.get(0)) {
         struct.avg = iprot.readI64();
         struct.setAvgIsSet(true);
@@ -456,6 +570,10 @@ public class TResponseTime implements org.apache.thrift.TBase<TResponseTime, TRe
         struct.max = iprot.readI64();
         struct.setMaxIsSet(true);
       }
+      if (incoming.get(2)) {
+        struct.histogram = iprot.readBinary();
+        struct.setHistogramIsSet(true);
+      }
     }
   }
 
@@ -12,15 +12,18 @@ public class TFResponseTime implements org.apache.thrift.TBase<TFResponseTime, T
   private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("TFResponseTime");
 
   private static final org.apache.thrift.protocol.TField AVG_FIELD_DESC = new org.apache.thrift.protocol.TField("avg", org.apache.thrift.protocol.TType.I64, (short)1);
+  private static final org.apache.thrift.protocol.TField HISTOGRAM_FIELD_DESC = new org.apache.thrift.protocol.TField("histogram", org.apache.thrift.protocol.TType.STRING, (short)2);
 
   private static final org.apache.thrift.scheme.SchemeFactory STANDARD_SCHEME_FACTORY = new TFResponseTimeStandardSchemeFactory();
   private static final org.apache.thrift.scheme.SchemeFactory TUPLE_SCHEME_FACTORY = new TFResponseTimeTupleSchemeFactory();
 
   private long avg; // optional
+  private java.nio.ByteBuffer histogram; // optional
 
   /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
   public enum _Fields implements org.apache.thrift.TFieldIdEnum {
-    AVG((short)1, "avg");
+    AVG((short)1, "avg"),
+    HISTOGRAM((short)2, "histogram");
 
     private static final java.util.Map<java.lang.String, _Fields> byName = new java.util.HashMap<java.lang.String, _Fields>();
 
@@ -37,6 +40,8 @@ public class TFResponseTime implements org.apache.thrift.TBase<TFResponseTime, T
       switch(fieldId) {
         case 1: // AVG
           return AVG;
+        case 2: // HISTOGRAM
+          return HISTOGRAM;
         default:
           return null;
       }
@@ -79,12 +84,14 @@ public class TFResponseTime implements org.apache.thrift.TBase<TFResponseTime, T
   // isset id assignments
   private static final int __AVG_ISSET_ID = 0;
   private byte __isset_bitfield = 0;
-  private static final _Fields optionals[] = {_Fields.AVG};
+  private static final _Fields optionals[] = {_Fields.AVG,_Fields.HISTOGRAM};
   public static final java.util.Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
   static {
     java.util.Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new java.util.EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
     tmpMap.put(_Fields.AVG, new org.apache.thrift.meta_data.FieldMetaData("avg", org.apache.thrift.TFieldRequirementType.OPTIONAL, 
         new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.I64)));
+    tmpMap.put(_Fields.HISTOGRAM, new org.apache.thrift.meta_data.FieldMetaData("histogram", org.apache.thrift.TFieldRequirementType.OPTIONAL, 
+        new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING        , true)));
     metaDataMap = java.util.Collections.unmodifiableMap(tmpMap);
     org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(TFResponseTime.class, metaDataMap);
   }
@@ -100,6 +107,9 @@ public class TFResponseTime implements org.apache.thrift.TBase<TFResponseTime, T
   public TFResponseTime(TFResponseTime other) {
     __isset_bitfield = other.__isset_bitfield;
     this.avg = other.avg;
+    if (other.isSetHistogram()) {
+      this.histogram = org.apache.thrift.TBaseHelper.copyBinary(other.histogram);
+    }
   }
 
   public TFResponseTime deepCopy() {
@@ -110,6 +120,7 @@ public class TFResponseTime implements org.apache.thrift.TBase<TFResponseTime, T
   public void clear() {
     this.avg = 0L;
 
+    this.histogram = null;
   }
 
   public long getAvg() {
@@ -134,6 +145,38 @@ public class TFResponseTime implements org.apache.thrift.TBase<TFResponseTime, T
     __isset_bitfield = org.apache.thrift.EncodingUtils.setBit(__isset_bitfield, __AVG_ISSET_ID, value);
   }
 
+  public byte[] getHistogram() {
+    setHistogram(org.apache.thrift.TBaseHelper.rightSize(histogram));
+    return histogram == null ? null : histogram.array();
+  }
+
+  public java.nio.ByteBuffer bufferForHistogram() {
+    return org.apache.thrift.TBaseHelper.copyBinary(histogram);
+  }
+
+  public void setHistogram(byte[] histogram) {
+    this.histogram = histogram == null ? (java.nio.ByteBuffer)null : java.nio.ByteBuffer.wrap(histogram.clone());
+  }
+
+  public void setHistogram(java.nio.ByteBuffer histogram) {
+    this.histogram = org.apache.thrift.TBaseHelper.copyBinary(histogram);
+  }
+
+  public void unsetHistogram() {
+    this.histogram = null;
+  }
+
+  /** Returns true if field histogram is set (has been assigned a value) and false otherwise */
+  public boolean isSetHistogram() {
+    return this.histogram != null;
+  }
+
+  public void setHistogramIsSet(boolean value) {
+    if (!value) {
+      this.histogram = null;
+    }
+  }
+
   public void setFieldValue(_Fields field, java.lang.Object value) {
     switch (field) {
     case AVG:
@@ -144,6 +187,18 @@ public class TFResponseTime implements org.apache.thrift.TBase<TFResponseTime, T
       }
       break;
 
+    case HISTOGRAM:
+      if (value == null) {
+        unsetHistogram();
+      } else {
+        if (value instanceof byte[]) {
+          setHistogram((byte[])value);
+        } else {
+          setHistogram((java.nio.ByteBuffer)value);
+        }
+      }
+      break;
+
     }
   }
 
@@ -152,6 +207,9 @@ public class TFResponseTime implements org.apache.thrift.TBase<TFResponseTime, T
     case AVG:
       return getAvg();
 
+    case HISTOGRAM:
+      return getHistogram();
+
     }
     throw new java.lang.IllegalStateException();
   }
@@ -165,6 +223,8 @@ public class TFResponseTime implements org.apache.thrift.TBase<TFResponseTime, T
     switch (field) {
     case AVG:
       return isSetAvg();
+    case HISTOGRAM:
+      return isSetHistogram();
     }
     throw new java.lang.IllegalStateException();
   }
@@ -193,6 +253,15 @@ public class TFResponseTime implements org.apache.thrift.TBase<TFResponseTime, T
         return false;
     }
 
+    boolean this_present_histogram = true && this.isSetHistogram();
+    boolean that_present_histogram = true && that.isSetHistogram();
+    if (this_present_histogram || that_present_histogram) {
+      if (!(this_present_histogram && that_present_histogram))
+        return false;
+      if (!this.histogram.equals(that.histogram))
+        return false;
+    }
+
     return true;
   }
 
@@ -204,6 +273,10 @@ public class TFResponseTime implements org.apache.thrift.TBase<TFResponseTime, T
     if (isSetAvg())
       hashCode = hashCode * 8191 + org.apache.thrift.TBaseHelper.hashCode(avg);
 
+    hashCode = hashCode * 8191 + ((isSetHistogram()) ? 131071 : 524287);
+    if (isSetHistogram())
+      hashCode = hashCode * 8191 + histogram.hashCode();
+
     return hashCode;
   }
 
@@ -225,6 +298,16 @@ public class TFResponseTime implements org.apache.thrift.TBase<TFResponseTime, T
         return lastComparison;
       }
     }
+    lastComparison = java.lang.Boolean.valueOf(isSetHistogram()).compareTo(other.isSetHistogram());
+    if (lastComparison != 0) {
+      return lastComparison;
+    }
+    if (isSetHistogram()) {
+      lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.histogram, other.histogram);
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+    }
     return 0;
   }
 
@@ -250,6 +333,16 @@ public class TFResponseTime implements org.apache.thrift.TBase<TFResponseTime, T
       sb.append(this.avg);
       first = false;
     }
+    if (isSetHistogram()) {
+      if (!first) sb.append(", ");
+      sb.append("histogram:");
+      if (this.histogram == null) {
+        sb.append("null");
+      } else {
+        org.apache.thrift.TBaseHelper.toString(this.histogram, sb);
+      }
+      first = false;
+    }
     sb.append(")");
     return sb.toString();
   }
@@ -303,6 +396,14 @@ public class TFResponseTime implements org.apache.thrift.TBase<TFResponseTime, T
               org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
             }
             break;
+          case 2: // HISTOGRAM
+            if (schemeField.type == org.apache.thrift.protocol.TType.STRING) {
+              struct.histogram = iprot.readBinary();
+              struct.setHistogramIsSet(true);
+            } else { 
+              org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+            }
+            break;
           default:
             org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
         }
@@ -321,6 +422,13 @@ public class TFResponseTime implements org.apache.thrift.TBase<TFResponseTime, T
         oprot.writeI64(struct.avg);
         oprot.writeFieldEnd();
       }
+      if (struct.histogram != null) {
+        if (struct.isSetHistogram()) {
+          oprot.writeFieldBegin(HISTOGRAM_FIELD_DESC);
+          oprot.writeBinary(struct.histogram);
+          oprot.writeFieldEnd();
+        }
+      }
       oprot.writeFieldStop();
       oprot.writeStructEnd();
     }
@@ -342,20 +450,30 @@ public class TFResponseTime implements org.apache.thrift.TBase<TFResponseTime, T
       if (struct.isSetAvg()) {
         optionals.set(0);
       }
-      oprot.writeBitSet(optionals, 1);
+      if (struct.isSetHistogram()) {
+        optionals.set(1);
+      }
+      oprot.writeBitSet(optionals, 2);
       if (struct.isSetAvg()) {
         oprot.writeI64(struct.avg);
       }
+      if (struct.isSetHistogram()) {
+        oprot.writeBinary(struct.histogram);
+      }
     }
 
     @Override
     public void read(org.apache.thrift.protocol.TProtocol prot, TFResponseTime struct) throws org.apache.thrift.TException {
       org.apache.thrift.protocol.TTupleProtocol iprot = (org.apache.thrift.protocol.TTupleProtocol) prot;
-      java.util.BitSet incoming = iprot.readBitSet(1);
+      java.util.BitSet incoming = iprot.readBitSet(2);
       if (incoming.get(0)) {
         struct.avg = iprot.readI64();
         struct.setAvgIsSet(true);
       }
+      if (incoming.get(1)) {
+        struct.histogram = iprot.readBinary();
+        struct.setHistogramIsSet(true);
+      }
     }
   }
 
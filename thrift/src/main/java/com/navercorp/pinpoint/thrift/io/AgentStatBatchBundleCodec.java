@@ -0,0 +1,173 @@
+/*
+ * Copyright 2018 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.navercorp.pinpoint.thrift.io;
+
+import com.navercorp.pinpoint.thrift.dto.flink.TFAgentStatBatch;
+import com.navercorp.pinpoint.thrift.dto.flink.TFAgentStatBatchBundle;
+import org.apache.thrift.TException;
+import org.apache.thrift.protocol.TCompactProtocol;
+import org.apache.thrift.protocol.TProtocol;
+import org.apache.thrift.transport.TIOStreamTransport;
+import org.apache.thrift.transport.TMemoryInputTransport;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+/**
+ * Packs {@link TFAgentStatBatch}es of many agents into a single {@link TFAgentStatBatchBundle}.
+ * The batches are written back to back with the compact protocol, and the whole body is deflated at once.
+ * A body bigger than {@code maxBodySize} after inflating is rejected on decode.
+ * Stateless and thread safe.
+ */
+public class AgentStatBatchBundleCodec {
+
+    public static final short COMPRESS_TYPE_NONE = 0;
+    public static final short COMPRESS_TYPE_DEFLATE = 1;
+
+    public static final int DEFAULT_MAX_BODY_SIZE = 16 * 1024 * 1024;
+
+    private static final int BUFFER_SIZE = 4096;
+
+    private final short compressType;
+    private final int maxBodySize;
+
+    public AgentStatBatchBundleCodec() {
+        this(COMPRESS_TYPE_DEFLATE);
+    }
+
+    public AgentStatBatchBundleCodec(short compressType) {
+        this(compressType, DEFAULT_MAX_BODY_SIZE);
+    }
+
+    public AgentStatBatchBundleCodec(short compressType, int maxBodySize) {
+        if (compressType != COMPRESS_TYPE_NONE && compressType != COMPRESS_TYPE_DEFLATE) {
+            throw new IllegalArgumentException("unsupported compressType:" + compressType);
+        }
+        if (maxBodySize <= 0) {
+            throw new IllegalArgumentException("maxBodySize must be greater than 0. maxBodySize:" + maxBodySize);
+        }
+        this.compressType = compressType;
+        this.maxBodySize = maxBodySize;
+    }
+
+    public TFAgentStatBatchBundle encode(List<TFAgentStatBatch> agentStatBatchList) throws TException {
+        if (agentStatBatchList == null) {
+            throw new NullPointerException("agentStatBatchList must not be null");
+        }
+
+        final ByteArrayOutputStream bos = new ByteArrayOutputStream(BUFFER_SIZE);
+        final TProtocol protocol = new TCompactProtocol(new TIOStreamTransport(bos));
+        for (TFAgentStatBatch agentStatBatch : agentStatBatchList) {
+            agentStatBatch.write(protocol);
+        }
+
+        byte[] body = bos.toByteArray();
+        if (compressType == COMPRESS_TYPE_DEFLATE) {
+            body = deflate(body);
+        }
+
+        final TFAgentStatBatchBundle bundle = new TFAgentStatBatchBundle();
+        bundle.setCount(agentStatBatchList.size());
+        bundle.setCompressType(compressType);
+        bundle.setBody(ByteBuffer.wrap(body));
+        return bundle;
+    }
+
+    public List<TFAgentStatBatch> decode(TFAgentStatBatchBundle bundle) throws TException {
+        if (bundle == null) {
+            throw new NullPointerException("bundle must not be null");
+        }
+
+        final int count = bundle.getCount();
+        if (count < 0) {
+            throw new TException("invalid count:" + count);
+        }
+
+        byte[] body = bundle.getBody();
+        if (body == null) {
+            throw new TException("body must not be null");
+        }
+        final short bundleCompressType = bundle.getCompressType();
+        if (bundleCompressType == COMPRESS_TYPE_DEFLATE) {
+            body = inflate(body);
+        } else if (bundleCompressType != COMPRESS_TYPE_NONE) {
+            throw new TException("unsupported compressType:" + bundleCompressType);
+        } else if (body.length > maxBodySize) {
+            throw new TException("body too large. size:" + body.length + ", maxBodySize:" + maxBodySize);
+        }
+        // every batch takes at least one byte, so the count from the wire can't pre-size the list beyond the body
+        if (count > body.length) {
+            throw new TException("invalid count:" + count + ", bodySize:" + body.length);
+        }
+
+        final TProtocol protocol = new TCompactProtocol(new TMemoryInputTransport(body));
+        final List<TFAgentStatBatch> agentStatBatchList = new ArrayList<TFAgentStatBatch>(count);
+        for (int i = 0; i < count; i++) {
+            final TFAgentStatBatch agentStatBatch = new TFAgentStatBatch();
+            agentStatBatch.read(protocol);
+            agentStatBatchList.add(agentStatBatch);
+        }
+        return agentStatBatchList;
+    }
+
+    private byte[] deflate(byte[] bytes) {
+        final Deflater deflater = new Deflater(Deflater.BEST_SPEED);
+        try {
+            deflater.setInput(bytes);
+            deflater.finish();
+
+            final ByteArrayOutputStream bos = new ByteArrayOutputStream(Math.max(bytes.length / 4, 64));
+            final byte[] buffer = new byte[BUFFER_SIZE];
+            while (!deflater.finished()) {
+                final int length = deflater.deflate(buffer);
+                bos.write(buffer, 0, length);
+            }
+            return bos.toByteArray();
+        } finally {
+            deflater.end();
+        }
+    }
+
+    private byte[] inflate(byte[] bytes) throws TException {
+        final Inflater inflater = new Inflater();
+        try {
+            inflater.setInput(bytes);
+
+            final ByteArrayOutputStream bos = new ByteArrayOutputStream((int) Math.min(bytes.length * 4L, maxBodySize));
+            final byte[] buffer = new byte[BUFFER_SIZE];
+            while (!inflater.finished()) {
+                final int length = inflater.inflate(buffer);
+                if (length == 0 && !inflater.finished() && (inflater.needsInput() || inflater.needsDictionary())) {
+                    throw new TException("truncated body");
+                }
+                if (bos.size() + length > maxBodySize) {
+                    throw new TException("inflated body too large. maxBodySize:" + maxBodySize);
+                }
+                bos.write(buffer, 0, length);
+            }
+            return bos.toByteArray();
+        } catch (DataFormatException e) {
+            throw new TException("invalid body", e);
+        } finally {
+            inflater.end();
+        }
+    }
+}
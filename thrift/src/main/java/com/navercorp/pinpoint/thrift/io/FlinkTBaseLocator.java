@@ -23,6 +23,7 @@ import com.navercorp.pinpoint.io.util.HeaderFactory;
 import com.navercorp.pinpoint.io.util.TypeLocator;
 import com.navercorp.pinpoint.io.util.TypeLocatorBuilder;
 import com.navercorp.pinpoint.thrift.dto.flink.TFAgentStatBatch;
+import com.navercorp.pinpoint.thrift.dto.flink.TFAgentStatBatchBundle;
 import org.apache.thrift.TBase;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -37,6 +38,7 @@ public class FlinkTBaseLocator {
 
     private Logger logger = LoggerFactory.getLogger(this.getClass());
     public static final short AGENT_STAT_BATCH = 1000;
+    public static final short AGENT_STAT_BATCH_BUNDLE = 1001;
 
     private final byte version;
     private final TypeLocator<TBase<?, ?>> typeLocator;
@@ -58,6 +60,12 @@ public class FlinkTBaseLocator {
                 return new TFAgentStatBatch();
             }
         });
+        typeLocatorBuilder.addBodyFactory(AGENT_STAT_BATCH_BUNDLE, new BodyFactory<TBase<?, ?>>() {
+            @Override
+            public TBase<?, ?> getObject() {
+                return new TFAgentStatBatchBundle();
+            }
+        });
 
         return typeLocatorBuilder.build();
     }
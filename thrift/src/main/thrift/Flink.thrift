@@ -101,6 +101,7 @@ struct TFActiveTrace {
 
 struct TFResponseTime {
     1: optional i64         avg = 0
+    2: optional binary      histogram
 }
 
 struct TFAgentStat {
@@ -125,6 +126,12 @@ struct TFAgentStatBatch {
     10: list<TFAgentStat>        agentStats
 }
 
+struct TFAgentStatBatchBundle {
+    1: i32                      count
+    2: i16                      compressType
+    3: binary                   body
+}
+
 struct TFDataSource {
     1: i32                      id
     2: optional i16             serviceTypeCode
@@ -104,6 +104,7 @@ struct TActiveTrace {
 struct TResponseTime {
     1: optional i64         avg = 0
     2: optional i64         max = 0
+    3: optional binary      histogram
 }
 
 struct TDeadlock {
@@ -111,6 +112,52 @@ struct TDeadlock {
     2: optional list<Command.TThreadDump>   deadlockedThreadList;
 }
 
+struct TThreadSampleStack {
+    1: i32                      sampleCount
+    2: optional string          entryPoint
+    3: optional string          stack
+}
+
+struct TThreadSample {
+    1: optional i32                         sampledThreadCount
+    2: optional list<TThreadSampleStack>    stackList
+}
+
+struct TSqlStat {
+    1: i32                      sqlId
+    2: optional string          databaseName
+    3: optional string          url
+    4: optional i32             count
+    5: optional i32             errorCount
+    6: optional i64             totalTime
+    7: optional i32             maxTime
+    8: optional i32             fastCount
+    9: optional i32             normalCount
+    10: optional i32            slowCount
+    11: optional i32            verySlowCount
+    12: optional i32            databaseIndex
+}
+
+struct TSqlDatabase {
+    1: string                   databaseName
+    2: optional string          url
+}
+
+struct TSqlStatList {
+    1: list<TSqlStat> sqlStatList
+    2: optional list<TSqlDatabase> databaseList
+}
+
+struct TTcpRequest {
+    1: optional i64 pendingCount
+    2: optional i64 retryQueueSize
+    3: optional i64 requestCount
+    4: optional i64 failCount
+    5: optional i64 rejectCount
+    6: optional i64 avgRoundTripTime
+    7: optional i64 maxRoundTripTime
+}
+
 struct TAgentStat {
     1: optional string      agentId
     2: optional i64         startTimestamp
@@ -125,6 +172,9 @@ struct TAgentStat {
     70: optional TDeadlock deadlock
     80: optional TFileDescriptor fileDescriptor
     90: optional TDirectBuffer directBuffer
+    100: optional TThreadSample threadSample
+    101: optional TSqlStatList sqlStatList
+    110: optional TTcpRequest tcpRequest
     200: optional string    metadata
 }
 
@@ -0,0 +1,151 @@
+/*
+ * Copyright 2018 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.navercorp.pinpoint.thrift.io;
+
+import com.navercorp.pinpoint.thrift.dto.flink.TFAgentStat;
+import com.navercorp.pinpoint.thrift.dto.flink.TFAgentStatBatch;
+import com.navercorp.pinpoint.thrift.dto.flink.TFAgentStatBatchBundle;
+import com.navercorp.pinpoint.thrift.dto.flink.TFCpuLoad;
+import com.navercorp.pinpoint.thrift.dto.flink.TFFileDescriptor;
+import org.apache.thrift.TException;
+import org.junit.Assert;
+import org.junit.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+public class AgentStatBatchBundleCodecTest {
+
+    private final Logger logger = LoggerFactory.getLogger(this.getClass());
+
+    @Test
+    public void encodeDecodeTest() throws TException {
+        List<TFAgentStatBatch> agentStatBatchList = createAgentStatBatchList(100);
+
+        AgentStatBatchBundleCodec codec = new AgentStatBatchBundleCodec();
+        TFAgentStatBatchBundle bundle = codec.encode(agentStatBatchList);
+        Assert.assertEquals(100, bundle.getCount());
+        Assert.assertEquals(AgentStatBatchBundleCodec.COMPRESS_TYPE_DEFLATE, bundle.getCompressType());
+
+        Assert.assertEquals(agentStatBatchList, codec.decode(bundle));
+    }
+
+    @Test
+    public void encodeDecodeNoneTest() throws TException {
+        List<TFAgentStatBatch> agentStatBatchList = createAgentStatBatchList(10);
+
+        AgentStatBatchBundleCodec codec = new AgentStatBatchBundleCodec(AgentStatBatchBundleCodec.COMPRESS_TYPE_NONE);
+        TFAgentStatBatchBundle bundle = codec.encode(agentStatBatchList);
+        Assert.assertEquals(AgentStatBatchBundleCodec.COMPRESS_TYPE_NONE, bundle.getCompressType());
+
+        // the decoder follows the compressType of the bundle
+        Assert.assertEquals(agentStatBatchList, new AgentStatBatchBundleCodec().decode(bundle));
+    }
+
+    @Test
+    public void emptyTest() throws TException {
+        AgentStatBatchBundleCodec codec = new AgentStatBatchBundleCodec();
+        TFAgentStatBatchBundle bundle = codec.encode(Collections.<TFAgentStatBatch>emptyList());
+        Assert.assertEquals(0, bundle.getCount());
+        Assert.assertTrue(codec.decode(bundle).isEmpty());
+    }
+
+    @Test
+    public void compressTest() throws TException {
+        List<TFAgentStatBatch> agentStatBatchList = createAgentStatBatchList(100);
+
+        TFAgentStatBatchBundle deflated = new AgentStatBatchBundleCodec(AgentStatBatchBundleCodec.COMPRESS_TYPE_DEFLATE).encode(agentStatBatchList);
+        TFAgentStatBatchBundle plain = new AgentStatBatchBundleCodec(AgentStatBatchBundleCodec.COMPRESS_TYPE_NONE).encode(agentStatBatchList);
+
+        final int deflatedSize = deflated.getBody().length;
+        final int plainSize = plain.getBody().length;
+        logger.debug("plain:{} deflated:{}", plainSize, deflatedSize);
+        Assert.assertTrue(deflatedSize < plainSize);
+    }
+
+    @Test(expected = TException.class)
+    public void truncatedBodyTest() throws TException {
+        AgentStatBatchBundleCodec codec = new AgentStatBatchBundleCodec();
+        TFAgentStatBatchBundle bundle = codec.encode(createAgentStatBatchList(10));
+
+        byte[] body = bundle.getBody();
+        bundle.setBody(Arrays.copyOf(body, body.length / 2));
+        codec.decode(bundle);
+    }
+
+    @Test(expected = TException.class)
+    public void unsupportedCompressTypeTest() throws TException {
+        AgentStatBatchBundleCodec codec = new AgentStatBatchBundleCodec();
+        TFAgentStatBatchBundle bundle = codec.encode(createAgentStatBatchList(1));
+        bundle.setCompressType((short) 100);
+        codec.decode(bundle);
+    }
+
+    @Test(expected = TException.class)
+    public void invalidCountTest() throws TException {
+        AgentStatBatchBundleCodec codec = new AgentStatBatchBundleCodec();
+        TFAgentStatBatchBundle bundle = codec.encode(createAgentStatBatchList(1));
+        bundle.setCount(Integer.MAX_VALUE);
+        codec.decode(bundle);
+    }
+
+    @Test(expected = TException.class)
+    public void inflatedBodyTooLargeTest() throws TException {
+        List<TFAgentStatBatch> agentStatBatchList = createAgentStatBatchList(100);
+        TFAgentStatBatchBundle plain = new AgentStatBatchBundleCodec(AgentStatBatchBundleCodec.COMPRESS_TYPE_NONE).encode(agentStatBatchList);
+        TFAgentStatBatchBundle deflated = new AgentStatBatchBundleCodec().encode(agentStatBatchList);
+
+        final int maxBodySize = plain.getBody().length - 1;
+        new AgentStatBatchBundleCodec(AgentStatBatchBundleCodec.COMPRESS_TYPE_DEFLATE, maxBodySize).decode(deflated);
+    }
+
+    private List<TFAgentStatBatch> createAgentStatBatchList(int agentCount) {
+        List<TFAgentStatBatch> agentStatBatchList = new ArrayList<TFAgentStatBatch>(agentCount);
+        for (int i = 0; i < agentCount; i++) {
+            final String agentId = "agent" + i;
+            final List<TFAgentStat> agentStatList = new ArrayList<TFAgentStat>();
+            for (int j = 0; j < 6; j++) {
+                TFAgentStat agentStat = new TFAgentStat();
+                agentStat.setAgentId(agentId);
+                agentStat.setStartTimestamp(1528000000000L);
+                agentStat.setTimestamp(1528000005000L + (j * 5000L));
+                agentStat.setCollectInterval(5000);
+
+                TFCpuLoad cpuLoad = new TFCpuLoad();
+                cpuLoad.setJvmCpuLoad(0.1 * j);
+                cpuLoad.setSystemCpuLoad(0.2 * j);
+                agentStat.setCpuLoad(cpuLoad);
+
+                TFFileDescriptor fileDescriptor = new TFFileDescriptor();
+                fileDescriptor.setOpenFileDescriptorCount(100 + j);
+                agentStat.setFileDescriptor(fileDescriptor);
+
+                agentStatList.add(agentStat);
+            }
+
+            TFAgentStatBatch agentStatBatch = new TFAgentStatBatch();
+            agentStatBatch.setAgentId(agentId);
+            agentStatBatch.setStartTimestamp(1528000000000L);
+            agentStatBatch.setAgentStats(agentStatList);
+            agentStatBatchList.add(agentStatBatch);
+        }
+        return agentStatBatchList;
+    }
+}
@@ -0,0 +1,169 @@
+/*
+ * Copyright 2018 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.pinpoint.tools.benchmark;
+
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.util.Properties;
+
+/**
+ * Benchmark settings, read from system properties (-Dbenchmark.agents=10 ...).
+ */
+public class BenchmarkOption {
+
+    private final int agentCount;
+    private final String applicationName;
+    private final int threadCount;
+    private final int spansPerSecond;
+    private final int spanEventCount;
+    private final int spanChunkRatio;
+    private final long statSendIntervalMillis;
+    private final long statCollectIntervalMillis;
+    private final int statBatchSize;
+    private final long warmupMillis;
+    private final long durationMillis;
+    private final String metricsUrl;
+    private final String hostName;
+    private final String ip;
+
+    public BenchmarkOption(Properties properties) {
+        if (properties == null) {
+            throw new NullPointerException("properties must not be null");
+        }
+        this.agentCount = readInt(properties, "benchmark.agents", 10);
+        this.applicationName = properties.getProperty("benchmark.applicationName", "benchmark-app");
+        this.threadCount = readInt(properties, "benchmark.threads", Math.min(agentCount, Runtime.getRuntime().availableProcessors()));
+        // 0 : as fast as possible
+        this.spansPerSecond = readInt(properties, "benchmark.spansPerSecond", 1000);
+        this.spanEventCount = readInt(properties, "benchmark.spanEvents", 10);
+        // one span chunk for every N spans, 0 : no span chunk
+        this.spanChunkRatio = readInt(properties, "benchmark.spanChunkRatio", 10);
+        this.statSendIntervalMillis = readLong(properties, "benchmark.stat.sendInterval", 30000);
+        this.statCollectIntervalMillis = readLong(properties, "benchmark.stat.collectInterval", 5000);
+        this.statBatchSize = readInt(properties, "benchmark.stat.batchSize", 6);
+        this.warmupMillis = readLong(properties, "benchmark.warmup", 10000);
+        this.durationMillis = readLong(properties, "benchmark.duration", 60000);
+        // e.g. http://collector:8081/admin/metrics.pinpoint?password=xxx
+        this.metricsUrl = properties.getProperty("benchmark.collector.metricsUrl", "");
+        this.hostName = properties.getProperty("benchmark.hostName", getLocalHostName());
+        this.ip = properties.getProperty("benchmark.ip", "127.0.0.1");
+
+        if (agentCount <= 0) {
+            throw new IllegalArgumentException("benchmark.agents must be positive");
+        }
+        if (threadCount <= 0) {
+            throw new IllegalArgumentException("benchmark.threads must be positive");
+        }
+    }
+
+    private static String getLocalHostName() {
+        try {
+            return InetAddress.getLocalHost().getHostName();
+        } catch (UnknownHostException e) {
+            return "localhost";
+        }
+    }
+
+    private static int readInt(Properties properties, String key, int defaultValue) {
+        final String value = properties.getProperty(key);
+        if (value == null) {
+            return defaultValue;
+        }
+        return Integer.parseInt(value.trim());
+    }
+
+    private static long readLong(Properties properties, String key, long defaultValue) {
+        final String value = properties.getProperty(key);
+        if (value == null) {
+            return defaultValue;
+        }
+        return Long.parseLong(value.trim());
+    }
+
+    public int getAgentCount() {
+        return agentCount;
+    }
+
+    public String getApplicationName() {
+        return applicationName;
+    }
+
+    public int getThreadCount() {
+        return threadCount;
+    }
+
+    public int getSpansPerSecond() {
+        return spansPerSecond;
+    }
+
+    public int getSpanEventCount() {
+        return spanEventCount;
+    }
+
+    public int getSpanChunkRatio() {
+        return spanChunkRatio;
+    }
+
+    public long getStatSendIntervalMillis() {
+        return statSendIntervalMillis;
+    }
+
+    public long getStatCollectIntervalMillis() {
+        return statCollectIntervalMillis;
+    }
+
+    public int getStatBatchSize() {
+        return statBatchSize;
+    }
+
+    public long getWarmupMillis() {
+        return warmupMillis;
+    }
+
+    public long getDurationMillis() {
+        return durationMillis;
+    }
+
+    public String getMetricsUrl() {
+        return metricsUrl;
+    }
+
+    public String getHostName() {
+        return hostName;
+    }
+
+    public String getIp() {
+        return ip;
+    }
+
+    @Override
+    public String toString() {
+        return "BenchmarkOption{" +
+                "agentCount=" + agentCount +
+                ", applicationName='" + applicationName + '\'' +
+                ", threadCount=" + threadCount +
+                ", spansPerSecond=" + spansPerSecond +
+                ", spanEventCount=" + spanEventCount +
+                ", spanChunkRatio=" + spanChunkRatio +
+                ", statSendIntervalMillis=" + statSendIntervalMillis +
+                ", statCollectIntervalMillis=" + statCollectIntervalMillis +
+                ", statBatchSize=" + statBatchSize +
+                ", warmupMillis=" + warmupMillis +
+                ", durationMillis=" + durationMillis +
+                '}';
+    }
+}
@@ -0,0 +1,316 @@
+/*
+ * Copyright 2018 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.pinpoint.tools.benchmark;
+
+import com.navercorp.pinpoint.bootstrap.config.DefaultProfilerConfig;
+import com.navercorp.pinpoint.bootstrap.config.ProfilerConfig;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Collector ingestion benchmark.
+ * Simulates N agents sending spans, span chunks, agent stats and metadata to a collector,
+ * and reports the sustained throughput together with the collector side drop rate, worker latency and gc.
+ * <pre>
+ * java -Dbenchmark.agents=50 -Dbenchmark.spansPerSecond=20000 \
+ *      -Dbenchmark.collector.metricsUrl=http://collector:8081/admin/metrics.pinpoint?password=xxx \
+ *      -cp pinpoint-tools.jar com.navercorp.pinpoint.tools.benchmark.CollectorBenchmark pinpoint.config
+ * </pre>
+ */
+public class CollectorBenchmark {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(CollectorBenchmark.class);
+
+    private final ProfilerConfig profilerConfig;
+    private final BenchmarkOption option;
+
+    private final List<SyntheticAgent> agents = new ArrayList<SyntheticAgent>();
+    private final List<SpanSendWorker> workers = new ArrayList<SpanSendWorker>();
+    private ScheduledExecutorService statScheduler;
+
+    public CollectorBenchmark(ProfilerConfig profilerConfig, BenchmarkOption option) {
+        if (profilerConfig == null) {
+            throw new NullPointerException("profilerConfig must not be null");
+        }
+        if (option == null) {
+            throw new NullPointerException("option must not be null");
+        }
+        this.profilerConfig = profilerConfig;
+        this.option = option;
+    }
+
+    public static void main(String[] args) {
+        if (args.length != 1) {
+            System.out.println("usage : " + CollectorBenchmark.class.getSimpleName() + " AGENT_CONFIG_FILE");
+            return;
+        }
+
+        ProfilerConfig profilerConfig = null;
+        try {
+            profilerConfig = DefaultProfilerConfig.load(args[0]);
+        } catch (IOException e) {
+            e.printStackTrace();
+            return;
+        }
+
+        final BenchmarkOption option = new BenchmarkOption(System.getProperties());
+        final CollectorBenchmark benchmark = new CollectorBenchmark(profilerConfig, option);
+        try {
+            benchmark.run();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            benchmark.stop();
+        }
+    }
+
+    public void run() throws InterruptedException {
+        LOGGER.info("start benchmark. {}", option);
+        final long agentStartTime = System.currentTimeMillis();
+        for (int i = 0; i < option.getAgentCount(); i++) {
+            final SyntheticTraceFactory traceFactory = new SyntheticTraceFactory("benchmark-" + i, option.getApplicationName(), agentStartTime);
+            final SyntheticAgent agent = new SyntheticAgent(traceFactory, profilerConfig, option);
+            agent.start();
+            agents.add(agent);
+        }
+
+        startStatSender();
+        startSpanSender();
+
+        LOGGER.info("warm up {}ms", option.getWarmupMillis());
+        Thread.sleep(option.getWarmupMillis());
+
+        final Snapshot before = snapshot();
+        LOGGER.info("measure {}ms", option.getDurationMillis());
+        Thread.sleep(option.getDurationMillis());
+        final Snapshot after = snapshot();
+
+        report(before, after);
+    }
+
+    private void startStatSender() {
+        this.statScheduler = Executors.newSingleThreadScheduledExecutor();
+        final long interval = option.getStatSendIntervalMillis();
+        final int agentCount = agents.size();
+        for (int i = 0; i < agentCount; i++) {
+            final SyntheticAgent agent = agents.get(i);
+            // spread the agents over the interval like independently started agents
+            final long initialDelay = interval * i / agentCount;
+            statScheduler.scheduleAtFixedRate(new Runnable() {
+                @Override
+                public void run() {
+                    agent.sendStat();
+                }
+            }, initialDelay, interval, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    private void startSpanSender() {
+        final int threadCount = option.getThreadCount();
+        final double ratePerThread = (double) option.getSpansPerSecond() / threadCount;
+        for (int i = 0; i < threadCount; i++) {
+            final List<SyntheticAgent> assigned = new ArrayList<SyntheticAgent>();
+            for (int agentIndex = i; agentIndex < agents.size(); agentIndex += threadCount) {
+                assigned.add(agents.get(agentIndex));
+            }
+            if (assigned.isEmpty()) {
+                continue;
+            }
+            final SpanSendWorker worker = new SpanSendWorker(assigned, ratePerThread);
+            final Thread thread = new Thread(worker, "Benchmark-SpanSendWorker-" + i);
+            thread.setDaemon(true);
+            thread.start();
+            workers.add(worker);
+        }
+    }
+
+    private Snapshot snapshot() {
+        long span = 0;
+        long spanChunk = 0;
+        long stat = 0;
+        long dropped = 0;
+        for (SyntheticAgent agent : agents) {
+            span += agent.getSentSpan();
+            spanChunk += agent.getSentSpanChunk();
+            stat += agent.getSentStat();
+            dropped += agent.getDropped();
+        }
+        long gcCount = 0;
+        long gcTime = 0;
+        for (GarbageCollectorMXBean gcBean : ManagementFactory.getGarbageCollectorMXBeans()) {
+            gcCount += Math.max(gcBean.getCollectionCount(), 0);
+            gcTime += Math.max(gcBean.getCollectionTime(), 0);
+        }
+        return new Snapshot(System.currentTimeMillis(), span, spanChunk, stat, dropped, gcCount, gcTime, fetchCollectorMetrics());
+    }
+
+    private Map<String, Double> fetchCollectorMetrics() {
+        if (option.getMetricsUrl().isEmpty()) {
+            return Collections.emptyMap();
+        }
+        try {
+            return new CollectorMetricsClient(option.getMetricsUrl()).fetch();
+        } catch (IOException e) {
+            LOGGER.warn("collector metrics fetch failed. Caused:{}", e.getMessage(), e);
+            return Collections.emptyMap();
+        }
+    }
+
+    private void report(Snapshot before, Snapshot after) {
+        final double seconds = (after.timestamp - before.timestamp) / 1000.0;
+        final StringBuilder report = new StringBuilder(1024);
+        report.append("\n==== collector benchmark ====\n");
+        report.append(String.format("agents:%d threads:%d elapsed:%.1fs%n", agents.size(), workers.size(), seconds));
+        report.append(String.format("span      sent:%d (%.1f/s)%n", after.span - before.span, (after.span - before.span) / seconds));
+        report.append(String.format("spanChunk sent:%d (%.1f/s)%n", after.spanChunk - before.spanChunk, (after.spanChunk - before.spanChunk) / seconds));
+        report.append(String.format("agentStat sent:%d (%.1f/s)%n", after.stat - before.stat, (after.stat - before.stat) / seconds));
+        report.append(String.format("sender queue full:%d%n", after.dropped - before.dropped));
+        report.append(String.format("load generator gc count:%d time:%dms%n", after.gcCount - before.gcCount, after.gcTime - before.gcTime));
+
+        if (after.collectorMetrics.isEmpty()) {
+            report.append("collector metrics not available. set -Dbenchmark.collector.metricsUrl and collector.receiver.*.worker.monitor=true\n");
+        } else {
+            appendCollectorReport(report, before.collectorMetrics, after.collectorMetrics);
+        }
+        LOGGER.info(report.toString());
+    }
+
+    private void appendCollectorReport(StringBuilder report, Map<String, Double> before, Map<String, Double> after) {
+        final String rejectedSuffix = ".rejected.count";
+        for (Map.Entry<String, Double> entry : after.entrySet()) {
+            final String key = entry.getKey();
+            if (!key.endsWith(rejectedSuffix)) {
+                continue;
+            }
+            final String executorName = key.substring(0, key.length() - rejectedSuffix.length());
+            final double rejected = delta(before, after, key);
+            final double submitted = delta(before, after, executorName + ".submitted.count");
+            // submitted is marked before the task is offered to the queue, so it includes the rejected ones
+            final double dropRate = submitted == 0 ? 0 : rejected / submitted * 100;
+            report.append(String.format("collector %s submitted:%.0f rejected:%.0f drop rate:%.3f%% latency mean:%.2fms p99:%.2fms%n",
+                    executorName, submitted, rejected, dropRate,
+                    value(after, executorName + ".duration.mean_ms"), value(after, executorName + ".duration.p99_ms")));
+        }
+
+        final String gcPrefix = "jvm.garbage-collectors.";
+        for (Map.Entry<String, Double> entry : after.entrySet()) {
+            final String key = entry.getKey();
+            if (key.startsWith(gcPrefix) && key.endsWith(".count")) {
+                final String gcName = key.substring(gcPrefix.length(), key.length() - ".count".length());
+                report.append(String.format("collector gc %s count:%.0f time:%.0fms%n", gcName,
+                        delta(before, after, key), delta(before, after, gcPrefix + gcName + ".time")));
+            }
+        }
+    }
+
+    private static double value(Map<String, Double> metrics, String key) {
+        final Double value = metrics.get(key);
+        if (value == null) {
+            return 0;
+        }
+        return value;
+    }
+
+    private static double delta(Map<String, Double> before, Map<String, Double> after, String key) {
+        return value(after, key) - value(before, key);
+    }
+
+    public void stop() {
+        for (SpanSendWorker worker : workers) {
+            worker.stop();
+        }
+        if (statScheduler != null) {
+            statScheduler.shutdownNow();
+        }
+        for (SyntheticAgent agent : agents) {
+            agent.stop();
+        }
+    }
+
+    private static class SpanSendWorker implements Runnable {
+
+        private final List<SyntheticAgent> agents;
+        // spans per second, 0 : unlimited
+        private final double rate;
+        private volatile boolean stopped = false;
+
+        private SpanSendWorker(List<SyntheticAgent> agents, double rate) {
+            this.agents = agents;
+            this.rate = rate;
+        }
+
+        @Override
+        public void run() {
+            final long startTime = System.nanoTime();
+            long sent = 0;
+            while (!stopped) {
+                if (rate > 0) {
+                    final long expected = (long) (rate * (System.nanoTime() - startTime) / TimeUnit.SECONDS.toNanos(1));
+                    if (sent >= expected) {
+                        try {
+                            Thread.sleep(1);
+                        } catch (InterruptedException e) {
+                            Thread.currentThread().interrupt();
+                            return;
+                        }
+                        continue;
+                    }
+                }
+                final SyntheticAgent agent = agents.get((int) (sent % agents.size()));
+                agent.sendTrace();
+                sent++;
+            }
+        }
+
+        private void stop() {
+            this.stopped = true;
+        }
+    }
+
+    private static class Snapshot {
+        private final long timestamp;
+        private final long span;
+        private final long spanChunk;
+        private final long stat;
+        private final long dropped;
+        private final long gcCount;
+        private final long gcTime;
+        private final Map<String, Double> collectorMetrics;
+
+        private Snapshot(long timestamp, long span, long spanChunk, long stat, long dropped, long gcCount, long gcTime, Map<String, Double> collectorMetrics) {
+            this.timestamp = timestamp;
+            this.span = span;
+            this.spanChunk = spanChunk;
+            this.stat = stat;
+            this.dropped = dropped;
+            this.gcCount = gcCount;
+            this.gcTime = gcTime;
+            this.collectorMetrics = collectorMetrics;
+        }
+    }
+}
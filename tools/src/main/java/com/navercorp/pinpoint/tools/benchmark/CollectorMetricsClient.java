@@ -0,0 +1,90 @@
+/*
+ * Copyright 2018 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.pinpoint.tools.benchmark;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.HttpURLConnection;
+import java.net.URL;
+import java.util.Collections;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Reads the flat metric snapshot exposed by the collector at /admin/metrics.
+ */
+public class CollectorMetricsClient {
+
+    // "name":number pairs, the response is a single flat json object of metrics
+    private static final Pattern NUMBER_FIELD = Pattern.compile("\"([^\"]+)\"\\s*:\\s*(-?[0-9][0-9.eE+-]*)");
+
+    private static final int TIMEOUT = 5000;
+
+    private final String metricsUrl;
+
+    public CollectorMetricsClient(String metricsUrl) {
+        if (metricsUrl == null) {
+            throw new NullPointerException("metricsUrl must not be null");
+        }
+        this.metricsUrl = metricsUrl;
+    }
+
+    public Map<String, Double> fetch() throws IOException {
+        final HttpURLConnection connection = (HttpURLConnection) new URL(metricsUrl).openConnection();
+        connection.setConnectTimeout(TIMEOUT);
+        connection.setReadTimeout(TIMEOUT);
+        try {
+            final int responseCode = connection.getResponseCode();
+            if (responseCode != HttpURLConnection.HTTP_OK) {
+                throw new IOException("unexpected response code:" + responseCode + " url:" + metricsUrl);
+            }
+            final String body = read(connection.getInputStream());
+            return parse(body);
+        } finally {
+            connection.disconnect();
+        }
+    }
+
+    static Map<String, Double> parse(String body) {
+        if (body == null) {
+            return Collections.emptyMap();
+        }
+        final Map<String, Double> metrics = new TreeMap<String, Double>();
+        final Matcher matcher = NUMBER_FIELD.matcher(body);
+        while (matcher.find()) {
+            metrics.put(matcher.group(1), Double.valueOf(matcher.group(2)));
+        }
+        return metrics;
+    }
+
+    private String read(InputStream inputStream) throws IOException {
+        try {
+            final ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+            final byte[] bytes = new byte[4096];
+            int read;
+            while ((read = inputStream.read(bytes)) != -1) {
+                buffer.write(bytes, 0, read);
+            }
+            return buffer.toString("UTF-8");
+        } finally {
+            inputStream.close();
+        }
+    }
+}
@@ -0,0 +1,159 @@
+/*
+ * Copyright 2018 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.pinpoint.tools.benchmark;
+
+import com.navercorp.pinpoint.bootstrap.config.ProfilerConfig;
+import com.navercorp.pinpoint.common.trace.ServiceType;
+import com.navercorp.pinpoint.profiler.context.thrift.BypassMessageConverter;
+import com.navercorp.pinpoint.profiler.sender.DataSender;
+import com.navercorp.pinpoint.profiler.sender.TcpDataSender;
+import com.navercorp.pinpoint.profiler.sender.UdpDataSenderFactory;
+import com.navercorp.pinpoint.rpc.client.DefaultPinpointClientFactory;
+import com.navercorp.pinpoint.rpc.client.PinpointClientFactory;
+import com.navercorp.pinpoint.rpc.packet.HandshakePropertyType;
+import com.navercorp.pinpoint.thrift.dto.TSpan;
+import org.apache.thrift.TBase;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * One simulated agent. Messages go through the same {@link TcpDataSender} and udp senders a real agent uses,
+ * so the serialization and queueing cost on the sending side is realistic too.
+ */
+public class SyntheticAgent {
+
+    private final SyntheticTraceFactory traceFactory;
+    private final BenchmarkOption option;
+
+    private final PinpointClientFactory clientFactory;
+    private final TcpDataSender tcpDataSender;
+    private final DataSender spanDataSender;
+    private final DataSender statDataSender;
+
+    private final AtomicLong sentSpan = new AtomicLong();
+    private final AtomicLong sentSpanChunk = new AtomicLong();
+    private final AtomicLong sentStat = new AtomicLong();
+    private final AtomicLong dropped = new AtomicLong();
+
+    public SyntheticAgent(SyntheticTraceFactory traceFactory, ProfilerConfig profilerConfig, BenchmarkOption option) {
+        if (traceFactory == null) {
+            throw new NullPointerException("traceFactory must not be null");
+        }
+        if (profilerConfig == null) {
+            throw new NullPointerException("profilerConfig must not be null");
+        }
+        if (option == null) {
+            throw new NullPointerException("option must not be null");
+        }
+        this.traceFactory = traceFactory;
+        this.option = option;
+
+        this.clientFactory = newPinpointClientFactory(traceFactory);
+        final String agentId = traceFactory.getAgentId();
+        this.tcpDataSender = new TcpDataSender("Benchmark-" + agentId, profilerConfig.getCollectorTcpServerIp(), profilerConfig.getCollectorTcpServerPort(), clientFactory);
+        this.spanDataSender = newUdpDataSender("Benchmark-Span-" + agentId, profilerConfig.getCollectorSpanServerIp(), profilerConfig.getCollectorSpanServerPort(),
+                profilerConfig.getSpanDataSenderWriteQueueSize(), profilerConfig.getSpanDataSenderSocketTimeout(),
+                profilerConfig.getSpanDataSenderSocketSendBufferSize(), profilerConfig.getSpanDataSenderSocketType());
+        this.statDataSender = newUdpDataSender("Benchmark-Stat-" + agentId, profilerConfig.getCollectorStatServerIp(), profilerConfig.getCollectorStatServerPort(),
+                profilerConfig.getStatDataSenderWriteQueueSize(), profilerConfig.getStatDataSenderSocketTimeout(),
+                profilerConfig.getStatDataSenderSocketSendBufferSize(), profilerConfig.getStatDataSenderSocketType());
+    }
+
+    private PinpointClientFactory newPinpointClientFactory(SyntheticTraceFactory traceFactory) {
+        final PinpointClientFactory clientFactory = new DefaultPinpointClientFactory();
+        final Map<String, Object> properties = new HashMap<String, Object>();
+        properties.put(HandshakePropertyType.AGENT_ID.getName(), traceFactory.getAgentId());
+        properties.put(HandshakePropertyType.APPLICATION_NAME.getName(), traceFactory.getApplicationName());
+        properties.put(HandshakePropertyType.HOSTNAME.getName(), option.getHostName());
+        properties.put(HandshakePropertyType.IP.getName(), option.getIp());
+        properties.put(HandshakePropertyType.PID.getName(), 0);
+        properties.put(HandshakePropertyType.SERVICE_TYPE.getName(), (int) ServiceType.STAND_ALONE.getCode());
+        properties.put(HandshakePropertyType.START_TIMESTAMP.getName(), traceFactory.getAgentStartTime());
+        properties.put(HandshakePropertyType.VERSION.getName(), "benchmark");
+        properties.put(HandshakePropertyType.SUPPORT_SERVER.getName(), false);
+        clientFactory.setProperties(properties);
+        return clientFactory;
+    }
+
+    @SuppressWarnings("unchecked")
+    private DataSender newUdpDataSender(String threadName, String ip, int port, int queueSize, int timeout, int sendBufferSize, String socketType) {
+        final UdpDataSenderFactory factory = new UdpDataSenderFactory(ip, port, threadName, queueSize, timeout, sendBufferSize, new BypassMessageConverter<TBase<?, ?>>());
+        return factory.create(socketType);
+    }
+
+    /**
+     * registers the agent and its api/sql/string metadata like an agent does on start up.
+     */
+    public void start() {
+        tcpDataSender.request(traceFactory.createAgentInfo(option.getHostName(), option.getIp()));
+        for (TBase<?, ?> metaData : traceFactory.createMetaData()) {
+            tcpDataSender.request(metaData);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    public void sendTrace() {
+        final TSpan span = traceFactory.createSpan(option.getSpanEventCount());
+        if (spanDataSender.send(span)) {
+            sentSpan.incrementAndGet();
+        } else {
+            dropped.incrementAndGet();
+        }
+        if (option.getSpanChunkRatio() > 0 && (span.getSpanId() % option.getSpanChunkRatio()) == 0) {
+            if (spanDataSender.send(traceFactory.createSpanChunk(span, option.getSpanEventCount()))) {
+                sentSpanChunk.incrementAndGet();
+            } else {
+                dropped.incrementAndGet();
+            }
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    public void sendStat() {
+        final long collectInterval = option.getStatCollectIntervalMillis();
+        if (statDataSender.send(traceFactory.createAgentStatBatch(System.currentTimeMillis(), option.getStatBatchSize(), collectInterval))) {
+            sentStat.incrementAndGet();
+        } else {
+            dropped.incrementAndGet();
+        }
+    }
+
+    public long getSentSpan() {
+        return sentSpan.get();
+    }
+
+    public long getSentSpanChunk() {
+        return sentSpanChunk.get();
+    }
+
+    public long getSentStat() {
+        return sentStat.get();
+    }
+
+    public long getDropped() {
+        return dropped.get();
+    }
+
+    public void stop() {
+        spanDataSender.stop();
+        statDataSender.stop();
+        tcpDataSender.stop();
+        clientFactory.release();
+    }
+}
@@ -0,0 +1,227 @@
+/*
+ * Copyright 2018 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.pinpoint.tools.benchmark;
+
+import com.navercorp.pinpoint.common.trace.AnnotationKey;
+import com.navercorp.pinpoint.common.trace.ServiceType;
+import com.navercorp.pinpoint.common.util.TransactionIdUtils;
+import com.navercorp.pinpoint.thrift.dto.TAgentInfo;
+import com.navercorp.pinpoint.thrift.dto.TAgentStat;
+import com.navercorp.pinpoint.thrift.dto.TAgentStatBatch;
+import com.navercorp.pinpoint.thrift.dto.TAnnotation;
+import com.navercorp.pinpoint.thrift.dto.TAnnotationValue;
+import com.navercorp.pinpoint.thrift.dto.TApiMetaData;
+import com.navercorp.pinpoint.thrift.dto.TCpuLoad;
+import com.navercorp.pinpoint.thrift.dto.TJvmGc;
+import com.navercorp.pinpoint.thrift.dto.TJvmGcType;
+import com.navercorp.pinpoint.thrift.dto.TSpan;
+import com.navercorp.pinpoint.thrift.dto.TSpanChunk;
+import com.navercorp.pinpoint.thrift.dto.TSpanEvent;
+import com.navercorp.pinpoint.thrift.dto.TSqlMetaData;
+import com.navercorp.pinpoint.thrift.dto.TStringMetaData;
+import com.navercorp.pinpoint.thrift.dto.TTransaction;
+import org.apache.thrift.TBase;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Builds thrift messages shaped like the ones a real agent sends.
+ */
+public class SyntheticTraceFactory {
+
+    static final int API_COUNT = 20;
+    static final int SQL_COUNT = 10;
+
+    private static final short SPAN_SERVICE_TYPE = ServiceType.STAND_ALONE.getCode();
+    private static final short EVENT_SERVICE_TYPE = ServiceType.INTERNAL_METHOD.getCode();
+
+    private final String agentId;
+    private final String applicationName;
+    private final long agentStartTime;
+
+    private final AtomicLong transactionSequence = new AtomicLong();
+    private final Random random = new Random();
+
+    public SyntheticTraceFactory(String agentId, String applicationName, long agentStartTime) {
+        if (agentId == null) {
+            throw new NullPointerException("agentId must not be null");
+        }
+        if (applicationName == null) {
+            throw new NullPointerException("applicationName must not be null");
+        }
+        this.agentId = agentId;
+        this.applicationName = applicationName;
+        this.agentStartTime = agentStartTime;
+    }
+
+    public String getAgentId() {
+        return agentId;
+    }
+
+    public String getApplicationName() {
+        return applicationName;
+    }
+
+    public long getAgentStartTime() {
+        return agentStartTime;
+    }
+
+    public TAgentInfo createAgentInfo(String hostName, String ip) {
+        final TAgentInfo agentInfo = new TAgentInfo();
+        agentInfo.setAgentId(agentId);
+        agentInfo.setApplicationName(applicationName);
+        agentInfo.setStartTimestamp(agentStartTime);
+        agentInfo.setHostname(hostName);
+        agentInfo.setIp(ip);
+        agentInfo.setPorts("");
+        agentInfo.setServiceType(SPAN_SERVICE_TYPE);
+        agentInfo.setPid(0);
+        agentInfo.setAgentVersion("benchmark");
+        agentInfo.setVmVersion(System.getProperty("java.version"));
+        return agentInfo;
+    }
+
+    public List<TBase<?, ?>> createMetaData() {
+        final List<TBase<?, ?>> metaDataList = new ArrayList<TBase<?, ?>>();
+        for (int apiId = 1; apiId <= API_COUNT; apiId++) {
+            final TApiMetaData apiMetaData = new TApiMetaData(agentId, agentStartTime, apiId, "com.navercorp.benchmark.Service.method" + apiId + "()");
+            apiMetaData.setLine(apiId);
+            metaDataList.add(apiMetaData);
+        }
+        for (int sqlId = 1; sqlId <= SQL_COUNT; sqlId++) {
+            metaDataList.add(new TSqlMetaData(agentId, agentStartTime, sqlId, "SELECT * FROM benchmark_" + sqlId + " WHERE id = ?"));
+        }
+        metaDataList.add(new TStringMetaData(agentId, agentStartTime, 1, "java.lang.IllegalStateException"));
+        return metaDataList;
+    }
+
+    public TSpan createSpan(int spanEventCount) {
+        final long startTime = System.currentTimeMillis();
+        final TSpan span = new TSpan();
+        span.setAgentId(agentId);
+        span.setApplicationName(applicationName);
+        span.setAgentStartTime(agentStartTime);
+        span.setApplicationServiceType(SPAN_SERVICE_TYPE);
+        span.setTransactionId(newTransactionId());
+        span.setSpanId(random.nextLong());
+        span.setParentSpanId(-1);
+        span.setStartTime(startTime);
+        span.setElapsed(random.nextInt(1000));
+        span.setRpc("/benchmark/" + random.nextInt(API_COUNT));
+        span.setServiceType(SPAN_SERVICE_TYPE);
+        span.setEndPoint("localhost:8080");
+        span.setRemoteAddr("127.0.0.1");
+        span.setApiId(1);
+        // roughly 1% errors, so the error paths of the handlers are exercised as well
+        span.setErr(random.nextInt(100) == 0 ? 1 : 0);
+
+        final List<TAnnotation> annotations = new ArrayList<TAnnotation>(1);
+        annotations.add(newAnnotation(AnnotationKey.HTTP_URL.getCode(), "/benchmark"));
+        span.setAnnotations(annotations);
+
+        span.setSpanEventList(createSpanEventList(spanEventCount, 0));
+        return span;
+    }
+
+    public TSpanChunk createSpanChunk(TSpan span, int spanEventCount) {
+        final TSpanChunk spanChunk = new TSpanChunk();
+        spanChunk.setAgentId(agentId);
+        spanChunk.setApplicationName(applicationName);
+        spanChunk.setAgentStartTime(agentStartTime);
+        spanChunk.setApplicationServiceType(SPAN_SERVICE_TYPE);
+        spanChunk.setServiceType(SPAN_SERVICE_TYPE);
+        spanChunk.setTransactionId(span.getTransactionId());
+        spanChunk.setSpanId(span.getSpanId());
+        spanChunk.setEndPoint(span.getEndPoint());
+        spanChunk.setKeyTime(span.getStartTime());
+        spanChunk.setSpanEventList(createSpanEventList(spanEventCount, span.getSpanEventListSize()));
+        return spanChunk;
+    }
+
+    private List<TSpanEvent> createSpanEventList(int spanEventCount, int sequenceOffset) {
+        final List<TSpanEvent> spanEventList = new ArrayList<TSpanEvent>(spanEventCount);
+        for (int i = 0; i < spanEventCount; i++) {
+            final TSpanEvent spanEvent = new TSpanEvent();
+            spanEvent.setSequence((short) (sequenceOffset + i));
+            spanEvent.setDepth(i == 0 ? 1 : 2);
+            spanEvent.setStartElapsed(i);
+            spanEvent.setEndElapsed(random.nextInt(50));
+            spanEvent.setServiceType(EVENT_SERVICE_TYPE);
+            spanEvent.setApiId(1 + random.nextInt(API_COUNT));
+            if (i % 3 == 2) {
+                final List<TAnnotation> annotations = new ArrayList<TAnnotation>(1);
+                annotations.add(newAnnotation(AnnotationKey.ARGS0.getCode(), "arg" + i));
+                spanEvent.setAnnotations(annotations);
+            }
+            spanEventList.add(spanEvent);
+        }
+        return spanEventList;
+    }
+
+    private TAnnotation newAnnotation(int key, String value) {
+        final TAnnotation annotation = new TAnnotation(key);
+        annotation.setValue(TAnnotationValue.stringValue(value));
+        return annotation;
+    }
+
+    private ByteBuffer newTransactionId() {
+        return TransactionIdUtils.formatByteBuffer(null, agentStartTime, transactionSequence.incrementAndGet());
+    }
+
+    public TAgentStatBatch createAgentStatBatch(long timestamp, int statCount, long collectInterval) {
+        final List<TAgentStat> agentStats = new ArrayList<TAgentStat>(statCount);
+        for (int i = statCount - 1; i >= 0; i--) {
+            agentStats.add(createAgentStat(timestamp - (i * collectInterval), collectInterval));
+        }
+        return new TAgentStatBatch(agentId, agentStartTime, agentStats);
+    }
+
+    private TAgentStat createAgentStat(long timestamp, long collectInterval) {
+        final TAgentStat agentStat = new TAgentStat();
+        agentStat.setAgentId(agentId);
+        agentStat.setStartTimestamp(agentStartTime);
+        agentStat.setTimestamp(timestamp);
+        agentStat.setCollectInterval(collectInterval);
+
+        final TJvmGc gc = new TJvmGc();
+        gc.setType(TJvmGcType.G1);
+        gc.setJvmMemoryHeapMax(1024 * 1024 * 1024L);
+        gc.setJvmMemoryHeapUsed(random.nextInt(1024 * 1024 * 1024));
+        gc.setJvmMemoryNonHeapMax(256 * 1024 * 1024L);
+        gc.setJvmMemoryNonHeapUsed(random.nextInt(256 * 1024 * 1024));
+        gc.setJvmGcOldCount(random.nextInt(10));
+        gc.setJvmGcOldTime(random.nextInt(1000));
+        agentStat.setGc(gc);
+
+        final TCpuLoad cpuLoad = new TCpuLoad();
+        cpuLoad.setJvmCpuLoad(random.nextDouble());
+        cpuLoad.setSystemCpuLoad(random.nextDouble());
+        agentStat.setCpuLoad(cpuLoad);
+
+        final TTransaction transaction = new TTransaction();
+        transaction.setSampledNewCount(random.nextInt(1000));
+        transaction.setSampledContinuationCount(random.nextInt(1000));
+        transaction.setUnsampledNewCount(0);
+        transaction.setUnsampledContinuationCount(0);
+        agentStat.setTransaction(transaction);
+        return agentStat;
+    }
+}
@@ -16,20 +16,24 @@
 
 package com.navercorp.pinpoint.web.alarm;
 
-import java.util.HashMap;
-import java.util.LinkedList;
 import java.util.List;
-import java.util.Map;
 import java.util.Queue;
 import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.Executor;
 
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.batch.core.ExitStatus;
 import org.springframework.batch.core.StepExecution;
 import org.springframework.batch.core.StepExecutionListener;
+import org.springframework.batch.item.ExecutionContext;
 import org.springframework.batch.item.ItemReader;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.core.task.SyncTaskExecutor;
+import org.springframework.util.StopWatch;
 
-import com.navercorp.pinpoint.web.alarm.DataCollectorFactory.DataCollectorCategory;
+import com.navercorp.pinpoint.web.alarm.DataCollectionPlanner.CollectMetric;
 import com.navercorp.pinpoint.web.alarm.checker.AlarmChecker;
 import com.navercorp.pinpoint.web.alarm.collector.DataCollector;
 import com.navercorp.pinpoint.web.alarm.vo.Rule;
@@ -41,7 +45,9 @@ import com.navercorp.pinpoint.web.vo.Application;
  * @author minwoo.jung
  */
 public class AlarmReader implements ItemReader<AlarmChecker>, StepExecutionListener {
-    
+
+    private final Logger logger = LoggerFactory.getLogger(this.getClass());
+
     @Autowired
     private DataCollectorFactory dataCollectorFactory;
     
@@ -50,6 +56,10 @@ public class AlarmReader implements ItemReader<AlarmChecker>, StepExecutionListe
     
     @Autowired
     private AlarmService alarmService;
+
+    @Autowired(required = false)
+    @Qualifier("alarmDataCollectorExecutor")
+    private Executor dataCollectorExecutor = new SyncTaskExecutor();
     
     private final Queue<AlarmChecker> checkers = new ConcurrentLinkedDeque<>();
 
@@ -68,32 +78,58 @@ public class AlarmReader implements ItemReader<AlarmChecker>, StepExecutionListe
 
     @Override
     public void beforeStep(StepExecution stepExecution) {
-        List<Application> applicationList = applicationIndexDao.selectAllApplicationNames();
+        StopWatch stopWatch = new StopWatch("alarmReader");
 
+        stopWatch.start("createChecker");
+        List<Application> applicationList = applicationIndexDao.selectAllApplicationNames();
+        // every application shares the same time slot, so the collected data can be shared
+        DataCollectionPlanner planner = new DataCollectionPlanner(dataCollectorFactory, System.currentTimeMillis());
         for (Application application : applicationList) {
-            addChecker(application);
+            addChecker(application, planner);
         }
+        stopWatch.stop();
+
+        stopWatch.start("collect");
+        planner.collect(dataCollectorExecutor);
+        stopWatch.stop();
+
+        recordMetric(stepExecution, planner, stopWatch);
     }
 
-    private void addChecker(Application application) {
+    private void addChecker(Application application, DataCollectionPlanner planner) {
         List<Rule> rules = alarmService.selectRuleByApplicationId(application.getName());
-        long timeSlotEndTime = System.currentTimeMillis();
-        Map<DataCollectorCategory, DataCollector> collectorMap = new HashMap<>();
-        
+
         for (Rule rule : rules) {
             CheckerCategory checkerCategory = CheckerCategory.getValue(rule.getCheckerName());
-            DataCollector collector = collectorMap.get(checkerCategory.getDataCollectorCategory());
-            if (collector == null) {
-                collector = dataCollectorFactory.createDataCollector(checkerCategory, application, timeSlotEndTime);
-                collectorMap.put(collector.getDataCollectorCategory(), collector);
-            }
-            
+            DataCollector collector = planner.getDataCollector(checkerCategory, application);
+
             AlarmChecker checker = checkerCategory.createChecker(collector, rule);
             checkers.add(checker);
         }
         
     }
 
+    private void recordMetric(StepExecution stepExecution, DataCollectionPlanner planner, StopWatch stopWatch) {
+        ExecutionContext executionContext = stepExecution.getExecutionContext();
+        executionContext.putInt("alarm.checker.count", checkers.size());
+        executionContext.putInt("alarm.collector.count", planner.getDataCollectorCount());
+        for (StopWatch.TaskInfo taskInfo : stopWatch.getTaskInfo()) {
+            executionContext.putLong("alarm.step." + taskInfo.getTaskName() + ".time", taskInfo.getTimeMillis());
+        }
+        for (CollectMetric metric : planner.getCollectMetrics()) {
+            if (metric.getCount() == 0) {
+                continue;
+            }
+            final String prefix = "alarm.collect." + metric.getCategory().name();
+            executionContext.putLong(prefix + ".count", metric.getCount());
+            executionContext.putLong(prefix + ".fail", metric.getFailCount());
+            executionContext.putLong(prefix + ".totalTime", metric.getTotalTime());
+            executionContext.putLong(prefix + ".maxTime", metric.getMaxTime());
+            logger.info("alarm data collection {}", metric);
+        }
+        logger.info("alarm reader checkers:{} collectors:{} {}", checkers.size(), planner.getDataCollectorCount(), stopWatch.shortSummary());
+    }
+
     @Override
     public ExitStatus afterStep(StepExecution stepExecution) {
         return null;
@@ -0,0 +1,234 @@
+/*
+ * Copyright 2018 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.pinpoint.web.alarm;
+
+import com.navercorp.pinpoint.common.util.Assert;
+import com.navercorp.pinpoint.web.alarm.DataCollectorFactory.DataCollectorCategory;
+import com.navercorp.pinpoint.web.alarm.collector.DataCollector;
+import com.navercorp.pinpoint.web.vo.Application;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Plans the data collection of a single alarm batch.
+ * Every (application, data collector category) pair is collected only once for the same time slot,
+ * regardless of how many rules require it. All collectors are executed in parallel before the checkers run,
+ * and the checkers share the collected result.
+ */
+public class DataCollectionPlanner {
+
+    private final Logger logger = LoggerFactory.getLogger(this.getClass());
+
+    private final DataCollectorFactory dataCollectorFactory;
+    private final long timeSlotEndTime;
+
+    private final Map<CollectorKey, DataCollector> collectorMap = new LinkedHashMap<>();
+    private final Map<DataCollectorCategory, CollectMetric> metricMap = new EnumMap<>(DataCollectorCategory.class);
+
+    public DataCollectionPlanner(DataCollectorFactory dataCollectorFactory, long timeSlotEndTime) {
+        this.dataCollectorFactory = Assert.requireNonNull(dataCollectorFactory, "dataCollectorFactory must not be null");
+        this.timeSlotEndTime = timeSlotEndTime;
+        for (DataCollectorCategory category : DataCollectorCategory.values()) {
+            metricMap.put(category, new CollectMetric(category));
+        }
+    }
+
+    public long getTimeSlotEndTime() {
+        return timeSlotEndTime;
+    }
+
+    public DataCollector getDataCollector(CheckerCategory checkerCategory, Application application) {
+        final CollectorKey key = new CollectorKey(application, checkerCategory.getDataCollectorCategory());
+        DataCollector collector = collectorMap.get(key);
+        if (collector == null) {
+            collector = dataCollectorFactory.createDataCollector(checkerCategory, application, timeSlotEndTime);
+            collectorMap.put(key, collector);
+        }
+        return collector;
+    }
+
+    public int getDataCollectorCount() {
+        return collectorMap.size();
+    }
+
+    /**
+     * Collects every planned data collector through the executor and waits for completion.
+     * A failed collector is left uncollected, so the checker retries on {@link DataCollector#collect()}.
+     * If interrupted, the collectors not started yet are cancelled. A collect already running finishes in the background,
+     * collectors are synchronized so a checker calling {@link DataCollector#collect()} waits for it instead of collecting twice.
+     */
+    public void collect(Executor executor) {
+        Assert.requireNonNull(executor, "executor must not be null");
+
+        final List<FutureTask<Void>> taskList = new ArrayList<>(collectorMap.size());
+        for (DataCollector collector : collectorMap.values()) {
+            final CollectMetric metric = metricMap.get(collector.getDataCollectorCategory());
+            final FutureTask<Void> task = new FutureTask<>(new CollectTask(collector, metric), null);
+            taskList.add(task);
+            executor.execute(task);
+        }
+
+        for (FutureTask<Void> task : taskList) {
+            try {
+                task.get();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                logger.warn("data collection interrupted");
+                cancel(taskList);
+                return;
+            } catch (ExecutionException e) {
+                logger.warn("data collection failed. Caused:{}", e.getCause().getMessage(), e.getCause());
+            }
+        }
+    }
+
+    private void cancel(List<FutureTask<Void>> taskList) {
+        for (FutureTask<Void> task : taskList) {
+            // not interrupting the running ones, an interrupted HBase call may leave the connection unusable
+            task.cancel(false);
+        }
+    }
+
+    public Collection<CollectMetric> getCollectMetrics() {
+        return metricMap.values();
+    }
+
+    private class CollectTask implements Runnable {
+        private final DataCollector collector;
+        private final CollectMetric metric;
+
+        private CollectTask(DataCollector collector, CollectMetric metric) {
+            this.collector = collector;
+            this.metric = metric;
+        }
+
+        @Override
+        public void run() {
+            final long startTime = System.currentTimeMillis();
+            try {
+                collector.collect();
+                metric.success(System.currentTimeMillis() - startTime);
+            } catch (Exception e) {
+                metric.fail(System.currentTimeMillis() - startTime);
+                logger.warn("{} collect failed. Caused:{}", collector.getClass().getSimpleName(), e.getMessage(), e);
+            }
+        }
+    }
+
+    public static class CollectMetric {
+        private final DataCollectorCategory category;
+        private final AtomicLong count = new AtomicLong();
+        private final AtomicLong failCount = new AtomicLong();
+        private final AtomicLong totalTime = new AtomicLong();
+        private final AtomicLong maxTime = new AtomicLong();
+
+        private CollectMetric(DataCollectorCategory category) {
+            this.category = category;
+        }
+
+        private void success(long elapsed) {
+            count.incrementAndGet();
+            record(elapsed);
+        }
+
+        private void fail(long elapsed) {
+            count.incrementAndGet();
+            failCount.incrementAndGet();
+            record(elapsed);
+        }
+
+        private void record(long elapsed) {
+            totalTime.addAndGet(elapsed);
+            while (true) {
+                final long max = maxTime.get();
+                if (elapsed <= max || maxTime.compareAndSet(max, elapsed)) {
+                    return;
+                }
+            }
+        }
+
+        public DataCollectorCategory getCategory() {
+            return category;
+        }
+
+        public long getCount() {
+            return count.get();
+        }
+
+        public long getFailCount() {
+            return failCount.get();
+        }
+
+        public long getTotalTime() {
+            return totalTime.get();
+        }
+
+        public long getMaxTime() {
+            return maxTime.get();
+        }
+
+        @Override
+        public String toString() {
+            return "CollectMetric{" +
+                    "category=" + category +
+                    ", count=" + count +
+                    ", failCount=" + failCount +
+                    ", totalTime=" + totalTime +
+                    ", maxTime=" + maxTime +
+                    '}';
+        }
+    }
+
+    private static class CollectorKey {
+        private final Application application;
+        private final DataCollectorCategory category;
+
+        private CollectorKey(Application application, DataCollectorCategory category) {
+            this.application = Assert.requireNonNull(application, "application must not be null");
+            this.category = Assert.requireNonNull(category, "category must not be null");
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (o == null || getClass() != o.getClass()) return false;
+
+            CollectorKey that = (CollectorKey) o;
+
+            if (!application.equals(that.application)) return false;
+            return category == that.category;
+        }
+
+        @Override
+        public int hashCode() {
+            int result = application.hashCode();
+            result = 31 * result + category.hashCode();
+            return result;
+        }
+    }
+}
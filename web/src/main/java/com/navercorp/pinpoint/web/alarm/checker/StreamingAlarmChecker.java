@@ -0,0 +1,45 @@
+/*
+ * Copyright 2018 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.navercorp.pinpoint.web.alarm.checker;
+
+import com.navercorp.pinpoint.web.alarm.vo.Rule;
+
+/**
+ * Value detected by the collector's streaming alarm, so that it is sent by the same AlarmMessageSender as the batch.
+ */
+public class StreamingAlarmChecker extends LongValueAlarmChecker {
+
+    private final long detectedValue;
+
+    public StreamingAlarmChecker(Rule rule, String unit, long detectedValue) {
+        super(rule, unit, null);
+        this.detectedValue = detectedValue;
+        this.detected = decideResult(detectedValue);
+    }
+
+    @Override
+    public void check() {
+        // detected by the collector
+    }
+
+    @Override
+    protected Long getDetectedValue() {
+        return detectedValue;
+    }
+
+}
@@ -59,10 +59,12 @@ public class AgentEventDataCollector extends DataCollector {
     }
 
     @Override
-    public void collect() {
+    public synchronized void collect() {
         if (init.get()) {
             return;
         }
+        // a failed collect may have left partial results, it is retried from scratch
+        agentDeadlockEventDetected.clear();
 
         Range range = Range.createUncheckedRange(timeSlotEndTime - slotInterval, timeSlotEndTime);
         List<String> agentIds = applicationIndexDao.selectAgentIds(application.getName());
@@ -57,10 +57,14 @@ public class AgentStatDataCollector extends DataCollector {
     }
 
     @Override
-    public void collect() {
+    public synchronized void collect() {
         if (init.get()) {
             return;
         }
+        // a failed collect may have left partial results, it is retried from scratch
+        agentHeapUsageRate.clear();
+        agentGcCount.clear();
+        agentJvmCpuUsageRate.clear();
 
         Range range = Range.createUncheckedRange(timeSlotEndTime - slotInterval, timeSlotEndTime);
         List<String> agentIds = applicationIndexDao.selectAgentIds(application.getName());
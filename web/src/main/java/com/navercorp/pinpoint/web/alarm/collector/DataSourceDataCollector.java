@@ -62,10 +62,12 @@ public class DataSourceDataCollector extends DataCollector {
     }
 
     @Override
-    public void collect() {
+    public synchronized void collect() {
         if (init.get()) {
             return;
         }
+        // a failed collect may have left partial results, it is retried from scratch
+        agentDataSourceConnectionUsageRateMap.clear();
 
         Range range = Range.createUncheckedRange(timeSlotEndTime - slotInterval, timeSlotEndTime);
         List<String> agentIds = applicationIndexDao.selectAgentIds(application.getName());
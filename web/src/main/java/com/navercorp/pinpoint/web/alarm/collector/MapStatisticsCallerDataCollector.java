@@ -51,10 +51,12 @@ public class MapStatisticsCallerDataCollector extends DataCollector {
     }
 
     @Override
-    public void collect() {
+    public synchronized void collect() {
         if (init.get()) {
             return;
         }
+        // a failed collect may have left partial results, it is retried from scratch
+        calleStatMap.clear();
 
         LinkDataMap callerDataMap = mapStatisticsCallerDao.selectCaller(application, new Range(timeSlotEndTime - slotInterval, timeSlotEndTime));
 
@@ -53,10 +53,14 @@ public class ResponseTimeDataCollector extends DataCollector {
     }
 
     @Override
-    public void collect() {
+    public synchronized void collect() {
         if (init.get()) {
             return;
         }
+        // a failed collect may have left partial results, it is retried from scratch
+        slowCount = 0;
+        errorCount = 0;
+        totalCount = 0;
 
         Range range = Range.createUncheckedRange(timeSlotEndTime - slotInterval, timeSlotEndTime);
         List<ResponseTime> responseTimes = responseDao.selectResponseTime(application, range);
@@ -17,8 +17,12 @@
 package com.navercorp.pinpoint.web.calltree.span;
 
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 /**
  * @author jaehong.kim
@@ -259,6 +263,56 @@ public class CallTreeIterator implements Iterator<CallTreeNode> {
         return nodes.size();
     }
 
+    /**
+     * Returns up to limit nodes starting at offset, in depth-first order.
+     * The ancestors of the first node come first, so that the page can be rendered without the rest of the tree.
+     * They are marked as repeated ancestors.
+     * Every node of the page gets its depth-first index + 1 as id, so ids and parent ids are the same on every page.
+     * The page holds copies of the nodes and of their SpanAligns, linked to their parents only,
+     * so this call tree is never changed and can be paged again.
+     */
+    public CallTreeIterator page(final int offset, final int limit) {
+        if (offset < 0) {
+            throw new IllegalArgumentException("negative offset:" + offset);
+        }
+        if (limit <= 0) {
+            throw new IllegalArgumentException("limit must be positive:" + limit);
+        }
+
+        final CallTreeIterator page = new CallTreeIterator(null);
+        if (nodes == null || offset >= nodes.size()) {
+            page.nodes = new ArrayList<CallTreeNode>(0);
+            return page;
+        }
+
+        final int toIndex = (int) Math.min((long) offset + limit, nodes.size());
+
+        final Set<CallTreeNode> ancestors = Collections.newSetFromMap(new IdentityHashMap<CallTreeNode, Boolean>());
+        CallTreeNode parent = nodes.get(offset).getParent();
+        while (parent != null) {
+            ancestors.add(parent);
+            parent = parent.getParent();
+        }
+
+        final Map<CallTreeNode, CallTreeNode> copies = new IdentityHashMap<CallTreeNode, CallTreeNode>();
+        page.nodes = new ArrayList<CallTreeNode>(ancestors.size() + toIndex - offset);
+        for (int i = 0; i < toIndex; i++) {
+            final CallTreeNode node = nodes.get(i);
+            if (i < offset && !ancestors.contains(node)) {
+                continue;
+            }
+            final SpanAlign align = node.getValue().copy();
+            // id = 0 is the parent of the root span
+            align.setId(i + 1);
+            align.setRepeatedAncestor(i < offset);
+            // parents come first in depth-first order
+            final CallTreeNode copy = new CallTreeNode(copies.get(node.getParent()), align);
+            copies.put(node, copy);
+            page.nodes.add(copy);
+        }
+        return page;
+    }
+
     public boolean isEmpty() {
         return nodes.isEmpty();
     }
@@ -16,6 +16,7 @@
 
 package com.navercorp.pinpoint.web.calltree.span;
 
+import java.util.ArrayList;
 import java.util.List;
 
 import com.navercorp.pinpoint.common.server.bo.AnnotationBo;
@@ -36,10 +37,16 @@ public class SpanAlign {
     private final boolean meta;
 
     private int id;
+    private boolean repeatedAncestor;
     private long gap;
     private int depth;
     private long executionMilliseconds;
 
+    // a copy keeps its own annotations and exception class, see copy()
+    private final boolean copied;
+    private List<AnnotationBo> annotationBoList;
+    private String exceptionClass;
+
     public SpanAlign(SpanBo spanBo) {
         this(spanBo, false);
     }
@@ -58,6 +65,7 @@ public class SpanAlign {
             this.hasChild = true;
         }
         this.meta = meta;
+        this.copied = false;
     }
 
     public SpanAlign(SpanBo spanBo, SpanEventBo spanEventBo) {
@@ -72,6 +80,46 @@ public class SpanAlign {
         this.span = false;
         this.hasChild = false;
         this.meta = false;
+        this.copied = false;
+    }
+
+    private SpanAlign(SpanAlign source) {
+        this.spanBo = source.spanBo;
+        this.spanEventBo = source.spanEventBo;
+        this.span = source.span;
+        this.hasChild = source.hasChild;
+        this.meta = source.meta;
+        this.id = source.id;
+        this.repeatedAncestor = source.repeatedAncestor;
+        this.gap = source.gap;
+        this.depth = source.depth;
+        this.executionMilliseconds = source.executionMilliseconds;
+        this.copied = true;
+        this.annotationBoList = copyAnnotationBoList(source.getAnnotationBoList());
+        this.exceptionClass = source.getExceptionClass();
+    }
+
+    private static List<AnnotationBo> copyAnnotationBoList(List<AnnotationBo> annotationBoList) {
+        if (annotationBoList == null) {
+            return null;
+        }
+        final List<AnnotationBo> copy = new ArrayList<>(annotationBoList.size());
+        for (AnnotationBo annotationBo : annotationBoList) {
+            final AnnotationBo annotationBoCopy = new AnnotationBo();
+            annotationBoCopy.setKey(annotationBo.getKey());
+            annotationBoCopy.setValue(annotationBo.getValue());
+            annotationBoCopy.setAuthorized(annotationBo.isAuthorized());
+            copy.add(annotationBoCopy);
+        }
+        return copy;
+    }
+
+    /**
+     * Returns a copy sharing the span and span event, but with its own annotations and exception class.
+     * Changes made to the copy by the metadata lookup are not seen by this SpanAlign.
+     */
+    public SpanAlign copy() {
+        return new SpanAlign(this);
     }
 
     public boolean isMeta() {
@@ -102,6 +150,14 @@ public class SpanAlign {
         this.id = id;
     }
 
+    public boolean isRepeatedAncestor() {
+        return repeatedAncestor;
+    }
+
+    public void setRepeatedAncestor(boolean repeatedAncestor) {
+        this.repeatedAncestor = repeatedAncestor;
+    }
+
     public long getGap() {
         return gap;
     }
@@ -223,6 +279,9 @@ public class SpanAlign {
     }
 
     public String getExceptionClass() {
+        if (copied) {
+            return exceptionClass;
+        }
         if (isSpan()) {
             return spanBo.getExceptionClass();
         }
@@ -230,7 +289,9 @@ public class SpanAlign {
     }
 
     public void setExceptionClass(String exceptionClass) {
-        if (isSpan()) {
+        if (copied) {
+            this.exceptionClass = exceptionClass;
+        } else if (isSpan()) {
             spanBo.setExceptionClass(exceptionClass);
         } else {
             spanEventBo.setExceptionClass(exceptionClass);
@@ -262,6 +323,9 @@ public class SpanAlign {
     }
 
     public List<AnnotationBo> getAnnotationBoList() {
+        if (copied) {
+            return annotationBoList;
+        }
         if (isSpan()) {
             return spanBo.getAnnotationBoList();
         }
@@ -269,7 +333,9 @@ public class SpanAlign {
     }
 
     public void setAnnotationBoList(List<AnnotationBo> annotationBoList) {
-        if (isSpan()) {
+        if (copied) {
+            this.annotationBoList = annotationBoList;
+        } else if (isSpan()) {
             spanBo.setAnnotationBoList(annotationBoList);
         } else {
             spanEventBo.setAnnotationBoList(annotationBoList);
@@ -51,8 +51,10 @@ public class SpanAligner {
     private int matchType = INIT_MATCH;
     private final long collectorAcceptTime;
     private final List<Node> sortedNodeList = new ArrayList<>();
-    private final Map<String, Node> spanToLinkMap = new HashMap<>();
+    private final Map<SpanKey, Node> spanToLinkMap = new HashMap<>();
     private final List<Link> linkList = new ArrayList<>();
+    // unlinked links by nextSpanId, ordered by startTime
+    private final Map<Long, List<Link>> nextSpanIdToLinkMap = new HashMap<>();
     private final MetaSpanCallTreeFactory metaSpanCallTreeFactory = new MetaSpanCallTreeFactory();
 
     public SpanAligner(final List<SpanBo> spans, final long collectorAcceptTime) {
@@ -66,35 +68,42 @@ public class SpanAligner {
         this.sortedNodeList.sort(new Comparator<Node>() {
             @Override
             public int compare(Node first, Node second) {
-                return (int) (first.span.getStartTime() - second.span.getStartTime());
+                return Long.compare(first.span.getStartTime(), second.span.getStartTime());
             }
         });
 
         // for performance & remove duplicate span
-        final List<Node> duplicatedNodeList = new ArrayList<>();
+        boolean duplicated = false;
         for (Node node : this.sortedNodeList) {
-            final String key = node.span.getParentSpanId() + "." + node.span.getSpanId();
+            final SpanKey key = new SpanKey(node.span.getParentSpanId(), node.span.getSpanId());
             // check duplicated span
             final Node value = this.spanToLinkMap.get(key);
             if (value == null) {
                 this.spanToLinkMap.put(key, node);
             } else {
+                duplicated = true;
                 updateMatchType(PROGRESS_MATCH);
                 // duplicated span, choose focus span
                 if (node.span.getCollectorAcceptTime() == collectorAcceptTime) {
                     // replace value
                     this.spanToLinkMap.put(key, node);
-                    duplicatedNodeList.add(value);
                     logger.warn("Duplicated span - choose focus {}", node);
                 } else {
-                    // add remove list
-                    duplicatedNodeList.add(node);
                     logger.warn("Duplicated span - ignored second {}", node);
                 }
             }
         }
-        // clean duplicated node
-        this.sortedNodeList.removeAll(duplicatedNodeList);
+        // clean duplicated node, only the node mapped to its key survives.
+        if (duplicated) {
+            final List<Node> uniqueNodeList = new ArrayList<>(this.spanToLinkMap.size());
+            for (Node node : this.sortedNodeList) {
+                if (this.spanToLinkMap.get(new SpanKey(node.span.getParentSpanId(), node.span.getSpanId())) == node) {
+                    uniqueNodeList.add(node);
+                }
+            }
+            this.sortedNodeList.clear();
+            this.sortedNodeList.addAll(uniqueNodeList);
+        }
         this.collectorAcceptTime = collectorAcceptTime;
     }
 
@@ -138,15 +147,18 @@ public class SpanAligner {
             return spanAsyncEventMap;
         }
 
-        final List<SpanEventBo> removeList = new ArrayList<>();
+        final List<SpanEventBo> syncSpanEventBoList = new ArrayList<>(spanEventBoList.size());
         for (SpanEventBo spanEvent : spanEventBoList) {
-            if (spanAsyncEventMap.add(spanEvent)) {
-                removeList.add(spanEvent);
+            if (!spanAsyncEventMap.add(spanEvent)) {
+                syncSpanEventBoList.add(spanEvent);
             }
         }
         spanAsyncEventMap.sort();
         // clear async span event
-        spanEventBoList.removeAll(removeList);
+        if (syncSpanEventBoList.size() != spanEventBoList.size()) {
+            spanEventBoList.clear();
+            spanEventBoList.addAll(syncSpanEventBoList);
+        }
         return spanAsyncEventMap;
     }
 
@@ -209,10 +221,8 @@ public class SpanAligner {
     }
 
     private void link() {
-        final List<Link> linkedList = new ArrayList<>();
         for (Link link : this.linkList) {
-            final String key = link.spanId + "." + link.nextSpanId;
-            final Node node = this.spanToLinkMap.get(key);
+            final Node node = this.spanToLinkMap.get(new SpanKey(link.spanId, link.nextSpanId));
             if (node != null) {
                 if (isDebug) {
                     logger.debug("Linked link {} to node {}", link, node);
@@ -221,11 +231,18 @@ public class SpanAligner {
                 node.linked = true;
                 link.linked = true;
                 link.linkedCallTree.update(node.spanCallTree);
-                linkedList.add(link);
+            } else {
+                List<Link> list = this.nextSpanIdToLinkMap.get(link.nextSpanId);
+                if (list == null) {
+                    list = new ArrayList<>();
+                    this.nextSpanIdToLinkMap.put(link.nextSpanId, list);
+                }
+                list.add(link);
             }
         }
-        // remove linked
-        this.linkList.removeAll(linkedList);
+        for (List<Link> list : this.nextSpanIdToLinkMap.values()) {
+            LinkList.sort(list);
+        }
     }
 
     private void fill() {
@@ -235,7 +252,7 @@ public class SpanAligner {
                 continue;
             }
             // find missing grand parent.
-            final List<Link> targetLinkList = LinkList.filterSpan(this.linkList, node.span);
+            final List<Link> targetLinkList = this.nextSpanIdToLinkMap.get(node.span.getParentSpanId());
             if (CollectionUtils.hasLength(targetLinkList)) {
                 final Link matchedLink = LinkList.matchSpan(targetLinkList, node.span);
                 if (matchedLink != null) {
@@ -248,7 +265,7 @@ public class SpanAligner {
                     matchedLink.linkedCallTree.update(unknownSpanCallTree);
                     matchedLink.linked = true;
                     // clear
-                    this.linkList.remove(matchedLink);
+                    targetLinkList.remove(matchedLink);
                     updateMatchType(PROGRESS_MATCH);
                 }
             }
@@ -506,42 +523,60 @@ public class SpanAligner {
     }
 
     private static class LinkList {
-        private static List<Link> filterSpan(final List<Link> linkList, final SpanBo span) {
+        private static void sort(final List<Link> linkList) {
+            linkList.sort(new Comparator<Link>() {
+                @Override
+                public int compare(Link first, Link second) {
+                    return Long.compare(first.startTimeMillis, second.startTimeMillis);
+                }
+            });
+        }
+
+        // linkList must be the links to the span's parent, sorted by startTime.
+        private static Link matchSpan(final List<Link> linkList, final SpanBo span) {
             if (CollectionUtils.isEmpty(linkList)) {
-                return Collections.emptyList();
+                return null;
             }
 
-            final List<Link> result = new ArrayList<>();
             for (Link link : linkList) {
                 if (span.getParentSpanId() == link.parentSpanId && span.getSpanId() == link.spanId) {
                     // skip self's link
                     continue;
                 }
-                if (link.nextSpanId == span.getParentSpanId()) {
-                    result.add(link);
+                if (link.startTimeMillis <= span.getStartTime()) {
+                    return link;
                 }
             }
-            return result;
+            return null;
         }
+    }
 
-        private static Link matchSpan(final List<Link> linkList, final SpanBo span) {
-            if (CollectionUtils.isEmpty(linkList)) {
-                return null;
-            }
+    private static final class SpanKey {
+        private final long parentSpanId;
+        private final long spanId;
 
-            linkList.sort(new Comparator<Link>() {
-                @Override
-                public int compare(Link first, Link second) {
-                    return (int) (first.startTimeMillis - second.startTimeMillis);
-                }
-            });
+        private SpanKey(final long parentSpanId, final long spanId) {
+            this.parentSpanId = parentSpanId;
+            this.spanId = spanId;
+        }
 
-            for (Link link : linkList) {
-                if (link.startTimeMillis <= span.getStartTime()) {
-                    return link;
-                }
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
             }
-            return null;
+            if (o == null || getClass() != o.getClass()) {
+                return false;
+            }
+            final SpanKey that = (SpanKey) o;
+            return parentSpanId == that.parentSpanId && spanId == that.spanId;
+        }
+
+        @Override
+        public int hashCode() {
+            int result = (int) (parentSpanId ^ (parentSpanId >>> 32));
+            result = 31 * result + (int) (spanId ^ (spanId >>> 32));
+            return result;
         }
     }
 }
\ No newline at end of file
@@ -32,7 +32,10 @@ import org.springframework.web.bind.annotation.RequestMethod;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.ResponseBody;
 
+import com.navercorp.pinpoint.web.alarm.AlarmMessageSender;
 import com.navercorp.pinpoint.web.alarm.CheckerCategory;
+import com.navercorp.pinpoint.web.alarm.EmptyMessageSender;
+import com.navercorp.pinpoint.web.alarm.checker.StreamingAlarmChecker;
 import com.navercorp.pinpoint.web.alarm.vo.Rule;
 import com.navercorp.pinpoint.web.service.AlarmService;
 
@@ -49,6 +52,9 @@ public class AlarmController {
 
     @Autowired
     AlarmService alarmService;
+
+    @Autowired(required = false)
+    private AlarmMessageSender alarmMessageSender = new EmptyMessageSender();
     
     @RequestMapping(method = RequestMethod.POST)
     @ResponseBody
@@ -125,6 +131,45 @@ public class AlarmController {
         return CheckerCategory.getNames();
     }
     
+    /**
+     * sends the alarm detected by the collector's streaming alarm evaluator
+     */
+    @RequestMapping(value = "/streaming", method = RequestMethod.POST)
+    @ResponseBody
+    public Map<String, String> sendStreamingAlarm(@RequestParam(APPLICATION_ID) String applicationId, @RequestParam("ruleId") String ruleId,
+                                                  @RequestParam(value = "unit", defaultValue = "") String unit, @RequestParam("detectedValue") long detectedValue) {
+        Map<String, String> result = new HashMap<>();
+
+        Rule rule = findRule(applicationId, ruleId);
+        if (rule == null) {
+            result.put("errorCode", "500");
+            result.put("errorMessage", "there is not alarm rule of ruleId " + ruleId);
+            return result;
+        }
+
+        StreamingAlarmChecker checker = new StreamingAlarmChecker(rule, unit, detectedValue);
+        if (checker.isDetected()) {
+            if (checker.isSMSSend()) {
+                alarmMessageSender.sendSms(checker, 1);
+            }
+            if (checker.isEmailSend()) {
+                alarmMessageSender.sendEmail(checker, 1);
+            }
+        }
+
+        result.put("result", "SUCCESS");
+        return result;
+    }
+
+    private Rule findRule(String applicationId, String ruleId) {
+        for (Rule rule : alarmService.selectRuleByApplicationId(applicationId)) {
+            if (ruleId.equals(rule.getRuleId())) {
+                return rule;
+            }
+        }
+        return null;
+    }
+
     @ExceptionHandler(Exception.class)
     @ResponseBody
     public Map<String, String> handleException(Exception e) {
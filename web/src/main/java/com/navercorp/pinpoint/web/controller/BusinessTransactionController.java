@@ -86,6 +86,8 @@ public class BusinessTransactionController {
      *
      * @param traceIdParam
      * @param focusTimestamp
+     * @param offset first call tree node of the page, depth-first order
+     * @param limit max call tree nodes of the page, the whole call tree if less than 1
      * @return
      */
     @RequestMapping(value = "/transactionInfo", method = RequestMethod.GET)
@@ -94,13 +96,20 @@ public class BusinessTransactionController {
                                                     @RequestParam(value = "focusTimestamp", required = false, defaultValue = "0") long focusTimestamp,
                                                     @RequestParam(value = "agentId", required = false) String agentId,
                                                     @RequestParam(value = "spanId", required = false, defaultValue = "-1") long spanId,
-                                                    @RequestParam(value = "v", required = false, defaultValue = "0") int viewVersion) {
-        logger.debug("GET /transactionInfo params {traceId={}, focusTimestamp={}, agentId={}, spanId={}, v={}}", traceIdParam, focusTimestamp, agentId, spanId, viewVersion);
+                                                    @RequestParam(value = "v", required = false, defaultValue = "0") int viewVersion,
+                                                    @RequestParam(value = "offset", required = false, defaultValue = "0") int offset,
+                                                    @RequestParam(value = "limit", required = false, defaultValue = "0") int limit) {
+        logger.debug("GET /transactionInfo params {traceId={}, focusTimestamp={}, agentId={}, spanId={}, v={}, offset={}, limit={}}", traceIdParam, focusTimestamp, agentId, spanId, viewVersion, offset, limit);
 
         final TransactionId transactionId = TransactionIdUtils.parseTransactionId(traceIdParam);
 
         // select spans
-        final SpanResult spanResult = this.spanService.selectSpan(transactionId, focusTimestamp);
+        final SpanResult spanResult;
+        if (limit > 0) {
+            spanResult = this.spanService.selectSpan(transactionId, focusTimestamp, offset, limit);
+        } else {
+            spanResult = this.spanService.selectSpan(transactionId, focusTimestamp);
+        }
         final CallTreeIterator callTreeIterator = spanResult.getCallTree();
 
         // application map
@@ -108,6 +117,9 @@ public class BusinessTransactionController {
         RecordSet recordSet = this.transactionInfoService.createRecordSet(callTreeIterator, focusTimestamp, agentId, spanId);
 
         TransactionInfoViewModel result = new TransactionInfoViewModel(transactionId, map.getNodes(), map.getLinks(), recordSet, spanResult.getCompleteTypeString(), logLinkEnable, logButtonName, logPageUrl, disableButtonMessage);
+        if (limit > 0) {
+            result.setCallStackPage(offset, spanResult.getCallTreeSize());
+        }
         return result;
     }
 
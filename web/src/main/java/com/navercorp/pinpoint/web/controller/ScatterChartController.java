@@ -26,26 +26,36 @@ import com.navercorp.pinpoint.web.scatter.ScatterData;
 import com.navercorp.pinpoint.web.service.FilteredMapService;
 import com.navercorp.pinpoint.web.service.ScatterChartService;
 import com.navercorp.pinpoint.web.util.LimitUtils;
+import com.navercorp.pinpoint.web.view.ScatterDataBinaryEncoder;
 import com.navercorp.pinpoint.web.view.ServerTime;
 import com.navercorp.pinpoint.web.view.TransactionMetaDataViewModel;
 import com.navercorp.pinpoint.web.vo.LimitedScanResult;
 import com.navercorp.pinpoint.web.vo.Range;
 import com.navercorp.pinpoint.web.vo.TransactionMetadataQuery;
+import com.navercorp.pinpoint.web.vo.scatter.IncrementalScatterData;
 import org.apache.commons.lang3.StringUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Controller;
 import org.springframework.ui.Model;
 import org.springframework.util.StopWatch;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestMethod;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.ResponseBody;
 import org.springframework.web.servlet.ModelAndView;
 
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
 import java.util.List;
 import java.util.Map;
+import java.util.zip.GZIPOutputStream;
 
 /**
  * @author netspider
@@ -70,6 +80,8 @@ public class ScatterChartController {
     private static final String PREFIX_TIME = "T";
     private static final String PREFIX_RESPONSE_TIME = "R";
 
+    private final ScatterDataBinaryEncoder scatterDataBinaryEncoder = new ScatterDataBinaryEncoder();
+
     @Deprecated
     @RequestMapping(value = "/scatterpopup", method = RequestMethod.GET)
     public String scatterPopup(Model model,
@@ -183,6 +195,141 @@ public class ScatterChartController {
         return mv;
     }
 
+    /**
+     * returns only the dots accepted since the previous poll of the same cursor.
+     * the first poll, or a poll with an expired cursor, scans from {@code from}.
+     *
+     * @param applicationName
+     * @param from            used if there is no cursor to resume from
+     * @param to
+     * @param cursorId        cursor of the previous response
+     * @return
+     */
+    @RequestMapping(value = "/getScatterDataIncremental", method = RequestMethod.GET)
+    public ModelAndView getScatterDataIncremental(
+            @RequestParam("application") String applicationName,
+            @RequestParam("from") long from,
+            @RequestParam("to") long to,
+            @RequestParam("xGroupUnit") int xGroupUnit,
+            @RequestParam("yGroupUnit") int yGroupUnit,
+            @RequestParam("limit") int limit,
+            @RequestParam(value = "cursor", required = false) String cursorId,
+            @RequestParam(value = "_callback", required = false) String jsonpCallback) {
+        if (xGroupUnit <= 0) {
+            throw new IllegalArgumentException("xGroupUnit(" + xGroupUnit + ") must be positive number");
+        }
+        if (yGroupUnit < 0) {
+            throw new IllegalArgumentException("yGroupUnit(" + yGroupUnit + ") may not be negative number");
+        }
+
+        limit = LimitUtils.checkRange(limit);
+
+        StopWatch watch = new StopWatch();
+        watch.start("getScatterDataIncremental");
+
+        logger.debug("fetch incremental scatter data. APPLICATION={}, FROM={}, TO={}, X-Group-Unit:{}, Y-Group-Unit:{}, LIMIT={}, CURSOR:{}", applicationName, from, to, xGroupUnit, yGroupUnit, limit, cursorId);
+
+        final IncrementalScatterData incrementalScatterData = scatter.selectScatterData(cursorId, applicationName, from, to, xGroupUnit, Math.max(yGroupUnit, 1), limit);
+        final ScatterData scatterData = incrementalScatterData.getScatterData();
+
+        ModelAndView mv = createScatterDataV1(scatterData, incrementalScatterData.isComplete());
+        mv.addObject("cursor", incrementalScatterData.getCursor().getId());
+        mv.addObject("currentServerTime", new ServerTime().getCurrentServerTime());
+        // dots are relative to the scanned from
+        mv.addObject("from", scatterData.getFrom());
+        mv.addObject("to", to);
+
+        if (jsonpCallback == null) {
+            mv.setViewName("jsonView");
+        } else {
+            mv.setViewName("jsonpView");
+        }
+
+        watch.stop();
+
+        logger.info("Fetch incremental scatterData time : {}ms, dots:{}", watch.getLastTaskTimeMillis(), scatterData.getDotSize());
+
+        return mv;
+    }
+
+    /**
+     * same as {@link #getScatterData} but the scatter is written in the columnar binary format of {@link ScatterDataBinaryEncoder}.
+     * the response is gzipped if the client accepts it.
+     */
+    @RequestMapping(value = "/getScatterDataBinary", method = RequestMethod.GET)
+    public ResponseEntity<byte[]> getScatterDataBinary(
+            @RequestParam("application") String applicationName,
+            @RequestParam("from") long from,
+            @RequestParam("to") long to,
+            @RequestParam("xGroupUnit") int xGroupUnit,
+            @RequestParam("yGroupUnit") int yGroupUnit,
+            @RequestParam("limit") int limit,
+            @RequestParam(value = "backwardDirection", required = false, defaultValue = "true") boolean backwardDirection,
+            @RequestParam(value = "filter", required = false) String filterText,
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding) throws IOException {
+        if (xGroupUnit <= 0) {
+            throw new IllegalArgumentException("xGroupUnit(" + xGroupUnit + ") must be positive number");
+        }
+        if (yGroupUnit < 0) {
+            throw new IllegalArgumentException("yGroupUnit(" + yGroupUnit + ") may not be negative number");
+        }
+
+        limit = LimitUtils.checkRange(limit);
+
+        StopWatch watch = new StopWatch();
+        watch.start("getScatterDataBinary");
+
+        final Range range = Range.createUncheckedRange(from, to);
+        logger.debug("fetch binary scatter data. RANGE={}, X-Group-Unit:{}, Y-Group-Unit:{}, LIMIT={}, BACKWARD_DIRECTION:{}, FILTER:{}", range, xGroupUnit, yGroupUnit, limit, backwardDirection, filterText);
+
+        final ScatterData scatterData;
+        final boolean requestComplete;
+        if (StringUtils.isEmpty(filterText)) {
+            scatterData = scatter.selectScatterData(applicationName, range, xGroupUnit, Math.max(yGroupUnit, 1), limit, backwardDirection);
+            requestComplete = scatterData.getDotSize() < limit;
+        } else {
+            final List<TransactionId> transactionIdList = selectFilterTransactionIdList(applicationName, range, limit, backwardDirection);
+            requestComplete = transactionIdList.size() < limit;
+
+            Filter filter = filterBuilder.build(filterText);
+            scatterData = scatter.selectScatterData(transactionIdList, applicationName, range, xGroupUnit, Math.max(yGroupUnit, 1), filter);
+        }
+
+        final byte[] encoded = scatterDataBinaryEncoder.encode(scatterData, new ServerTime().getCurrentServerTime(), range.getFrom(), range.getTo(), requestComplete);
+
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(MediaType.APPLICATION_OCTET_STREAM);
+        byte[] body = encoded;
+        if (acceptEncoding != null && acceptEncoding.contains("gzip")) {
+            body = gzip(encoded);
+            headers.set(HttpHeaders.CONTENT_ENCODING, "gzip");
+        }
+
+        watch.stop();
+
+        logger.info("Fetch binary scatterData time : {}ms, dots:{}, size:{}/{}bytes", watch.getLastTaskTimeMillis(), scatterData.getDotSize(), body.length, encoded.length);
+
+        return new ResponseEntity<>(body, headers, HttpStatus.OK);
+    }
+
+    private byte[] gzip(byte[] bytes) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(bytes.length / 2 + 64);
+        try (GZIPOutputStream gzipOut = new GZIPOutputStream(out)) {
+            gzipOut.write(bytes);
+        }
+        return out.toByteArray();
+    }
+
+    private List<TransactionId> selectFilterTransactionIdList(String applicationName, Range range, int limit, boolean backwardDirection) {
+        final LimitedScanResult<List<TransactionId>> limitedScanResult = flow.selectTraceIdsFromApplicationTraceIndex(applicationName, range, limit, backwardDirection);
+
+        final List<TransactionId> transactionIdList = limitedScanResult.getScanData();
+        logger.trace("submitted transactionId count={}", transactionIdList.size());
+
+        transactionIdList.sort(TransactionIdComparator.INSTANCE);
+        return transactionIdList;
+    }
+
     private ModelAndView selectScatterData(String applicationName, Range range, int xGroupUnit, int yGroupUnit, int limit, boolean backwardDirection, int version) {
         ModelAndView mv = null;
         if (version == 1) {
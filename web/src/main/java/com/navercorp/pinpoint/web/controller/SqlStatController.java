@@ -0,0 +1,68 @@
+/*
+ * Copyright 2018 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.pinpoint.web.controller;
+
+import com.navercorp.pinpoint.common.server.bo.stat.SqlStatListBo;
+import com.navercorp.pinpoint.web.service.stat.SqlStatService;
+import com.navercorp.pinpoint.web.vo.Range;
+import com.navercorp.pinpoint.web.vo.stat.SqlStatSummary;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.stereotype.Controller;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestMethod;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.ResponseBody;
+
+import java.util.List;
+import java.util.Objects;
+
+@Controller
+@RequestMapping("/getAgentStat/sqlStat")
+public class SqlStatController {
+
+    private final SqlStatService sqlStatService;
+
+    @Autowired
+    public SqlStatController(SqlStatService sqlStatService) {
+        this.sqlStatService = Objects.requireNonNull(sqlStatService, "sqlStatService must not be null");
+    }
+
+    @PreAuthorize("hasPermission(new com.navercorp.pinpoint.web.vo.AgentParam(#agentId, #to), 'agentParam', 'inspector')")
+    @RequestMapping(method = RequestMethod.GET)
+    @ResponseBody
+    public List<SqlStatListBo> getSqlStat(
+            @RequestParam("agentId") String agentId,
+            @RequestParam("from") long from,
+            @RequestParam("to") long to) {
+        Range rangeToScan = new Range(from, to);
+        return this.sqlStatService.selectAgentStatList(agentId, rangeToScan);
+    }
+
+    @PreAuthorize("hasPermission(new com.navercorp.pinpoint.web.vo.AgentParam(#agentId, #to), 'agentParam', 'inspector')")
+    @RequestMapping(value = "/top", method = RequestMethod.GET)
+    @ResponseBody
+    public List<SqlStatSummary> getTopSqlStat(
+            @RequestParam("agentId") String agentId,
+            @RequestParam("from") long from,
+            @RequestParam("to") long to,
+            @RequestParam(value = "limit", required = false, defaultValue = "20") int limit) {
+        Range rangeToScan = new Range(from, to);
+        return this.sqlStatService.selectTopSqlStatList(agentId, rangeToScan, limit);
+    }
+
+}
@@ -48,6 +48,17 @@ public interface ApplicationTraceIndexDao {
      */
     List<Dot> scanTraceScatter(String applicationName, SelectedScatterArea area, TransactionId offsetTransactionId, int offsetTransactionElapsed, int limit);
 
+    /**
+     * select failed transactions in a selection range(box) in the scatter chart, newest first.
+     */
+    List<Dot> scanErrorTraceScatter(String applicationName, SelectedScatterArea area, int limit);
+
     ScatterData scanTraceScatterData(String applicationName, Range range, int xGroupUnit, int yGroupUnit, int limit, boolean scanBackward);
 
+    /**
+     * scans the oldest rows first. if the limit is reached, the dots of the last scanned time are left out
+     * and the limited time is the time to resume the scan from, otherwise it is the end of the range.
+     */
+    LimitedScanResult<ScatterData> scanTraceScatterDataForward(String applicationName, Range range, int xGroupUnit, int yGroupUnit, int limit);
+
 }
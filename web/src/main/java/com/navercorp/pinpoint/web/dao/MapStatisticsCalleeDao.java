@@ -20,6 +20,10 @@ import com.navercorp.pinpoint.web.applicationmap.rawdata.LinkDataMap;
 import com.navercorp.pinpoint.web.vo.Application;
 import com.navercorp.pinpoint.web.vo.Range;
 
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
 /**
  * 
  * @author netspider
@@ -28,4 +32,15 @@ import com.navercorp.pinpoint.web.vo.Range;
 public interface MapStatisticsCalleeDao {
     LinkDataMap selectCallee(Application calleeApplication, Range range);
 
+    /**
+     * @return link data of each application, including the applications without any
+     */
+    default Map<Application, LinkDataMap> selectCallees(List<Application> calleeApplications, Range range) {
+        Map<Application, LinkDataMap> linkDataMaps = new HashMap<>();
+        for (Application calleeApplication : calleeApplications) {
+            linkDataMaps.put(calleeApplication, selectCallee(calleeApplication, range));
+        }
+        return linkDataMaps;
+    }
+
 }
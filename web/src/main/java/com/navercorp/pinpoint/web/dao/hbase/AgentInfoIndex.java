@@ -0,0 +1,387 @@
+/*
+ * Copyright 2018 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.navercorp.pinpoint.web.dao.hbase;
+
+import com.navercorp.pinpoint.common.hbase.HBaseTables;
+import com.navercorp.pinpoint.common.hbase.HbaseOperations2;
+import com.navercorp.pinpoint.common.hbase.ResultsExtractor;
+import com.navercorp.pinpoint.common.hbase.RowMapper;
+import com.navercorp.pinpoint.common.hbase.TableNameProvider;
+import com.navercorp.pinpoint.common.server.bo.AgentLifeCycleBo;
+import com.navercorp.pinpoint.common.util.BytesUtils;
+import com.navercorp.pinpoint.common.util.PinpointThreadFactory;
+import com.navercorp.pinpoint.web.mapper.AgentInfoMapper;
+import com.navercorp.pinpoint.web.vo.AgentInfo;
+import org.apache.hadoop.hbase.TableName;
+import org.apache.hadoop.hbase.client.Result;
+import org.apache.hadoop.hbase.client.ResultScanner;
+import org.apache.hadoop.hbase.client.Scan;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * In-memory index of the most recent {@link AgentInfo} and {@link AgentLifeCycleBo} of each agent.
+ * <p>
+ * Agents are added when HBase is queried for their current state, and are kept up to date by periodically scanning
+ * the cells written since the last refresh. Answers may lag HBase by up to one refresh interval.
+ * Lookups the index cannot answer return null, and the caller falls back to HBase.
+ * Once maxSize agents are indexed, adding an agent evicts the least recently queried one.
+ * <p>
+ * A refresh is a time range scan over the whole AgentInfo and AgentLifeCycle tables. HBase skips the store files
+ * older than the range, so the cost follows the write rate rather than the table size, but every region is visited
+ * on each refresh. Raise the refresh interval on clusters with many regions.
+ */
+@Component
+public class AgentInfoIndex implements InitializingBean, DisposableBean {
+
+    // covers clock differences between the web server, collectors and region servers
+    static final long CLOCK_SKEW_MS = 5000;
+
+    private final Logger logger = LoggerFactory.getLogger(this.getClass());
+
+    @Value("#{pinpointWebProps['web.agentinfo.index.enable'] ?: false}")
+    private boolean enable;
+
+    @Value("#{pinpointWebProps['web.agentinfo.index.maxSize'] ?: 10000}")
+    private int maxSize;
+
+    @Value("#{pinpointWebProps['web.agentinfo.index.refresh.interval'] ?: 10000}")
+    private long refreshIntervalMs;
+
+    @Autowired
+    private HbaseOperations2 hbaseOperations2;
+
+    @Autowired
+    private TableNameProvider tableNameProvider;
+
+    @Autowired
+    private AgentInfoMapper agentInfoMapper;
+
+    @Autowired
+    @Qualifier("agentLifeCycleMapper")
+    private RowMapper<AgentLifeCycleBo> agentLifeCycleMapper;
+
+    private final ConcurrentMap<String, Entry> index = new ConcurrentHashMap<>();
+    // logical clock for the last access of each entry, the eviction order does not depend on the clock resolution
+    private final AtomicLong accessSequence = new AtomicLong();
+
+    // start time of the last successful refresh
+    private volatile long refreshedTimestamp;
+    // start time of the refresh before the last one, refresh scans from here to cover agents added while refreshing
+    private volatile long scanFromTimestamp;
+
+    private ScheduledExecutorService executor;
+
+    public AgentInfoIndex() {
+    }
+
+    AgentInfoIndex(int maxSize, long refreshIntervalMs) {
+        this.enable = true;
+        this.maxSize = maxSize;
+        this.refreshIntervalMs = refreshIntervalMs;
+        this.refreshedTimestamp = System.currentTimeMillis();
+        this.scanFromTimestamp = refreshedTimestamp;
+    }
+
+    @Override
+    public void afterPropertiesSet() throws Exception {
+        if (!enable) {
+            return;
+        }
+        if (maxSize <= 0) {
+            throw new IllegalArgumentException("maxSize must be positive:" + maxSize);
+        }
+        if (refreshIntervalMs <= 0) {
+            throw new IllegalArgumentException("refreshInterval must be positive:" + refreshIntervalMs);
+        }
+        this.refreshedTimestamp = System.currentTimeMillis();
+        this.scanFromTimestamp = refreshedTimestamp;
+        this.executor = Executors.newSingleThreadScheduledExecutor(new PinpointThreadFactory("Pinpoint-AgentInfoIndex-Refresh", true));
+        this.executor.scheduleWithFixedDelay(new Runnable() {
+            @Override
+            public void run() {
+                refresh();
+            }
+        }, refreshIntervalMs, refreshIntervalMs, TimeUnit.MILLISECONDS);
+        logger.info("AgentInfoIndex started. maxSize:{}, refreshInterval:{}ms", maxSize, refreshIntervalMs);
+    }
+
+    @Override
+    public void destroy() throws Exception {
+        if (executor != null) {
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * @return the agent info with the start time closest to the given timestamp, null if not indexed
+     */
+    public AgentInfo getAgentInfo(String agentId, long timestamp) {
+        final Entry entry = getEntry(agentId);
+        if (entry == null) {
+            return null;
+        }
+        final AgentInfo agentInfo = entry.agentInfo;
+        if (agentInfo.getStartTimestamp() > timestamp) {
+            // an older agent is asked for
+            return null;
+        }
+        // callers populate the status of the returned agent info
+        return new AgentInfo(agentInfo);
+    }
+
+    /**
+     * @return the most recent life cycle event of the agent started at startTimestamp before the given timestamp, null if not indexed
+     */
+    public AgentLifeCycleBo getAgentLifeCycle(String agentId, long startTimestamp, long timestamp) {
+        final AgentLifeCycleBo agentLifeCycle = getAgentLifeCycle(agentId, timestamp);
+        if (agentLifeCycle == null || agentLifeCycle.getStartTimestamp() != startTimestamp) {
+            return null;
+        }
+        return agentLifeCycle;
+    }
+
+    /**
+     * @return the most recent life cycle event of the agent before the given timestamp, null if not indexed
+     */
+    public AgentLifeCycleBo getAgentLifeCycle(String agentId, long timestamp) {
+        final Entry entry = getEntry(agentId);
+        if (entry == null) {
+            return null;
+        }
+        final AgentLifeCycleBo agentLifeCycle = entry.agentLifeCycle;
+        if (agentLifeCycle == null) {
+            return null;
+        }
+        if (agentLifeCycle.getStartTimestamp() > timestamp || agentLifeCycle.getEventTimestamp() >= timestamp) {
+            return null;
+        }
+        return agentLifeCycle;
+    }
+
+    private Entry getEntry(String agentId) {
+        if (!isAvailable() || agentId == null) {
+            return null;
+        }
+        final Entry entry = index.get(agentId);
+        if (entry != null) {
+            entry.lastAccess = accessSequence.incrementAndGet();
+        }
+        return entry;
+    }
+
+    private boolean isAvailable() {
+        if (!enable) {
+            return false;
+        }
+        // stop answering if refresh keeps failing
+        return System.currentTimeMillis() - refreshedTimestamp < refreshIntervalMs * 3;
+    }
+
+    /**
+     * Adds the agent info read from HBase for the given timestamp.
+     *
+     * @param queryStartTimestamp time the HBase query was issued at. Only the answers for the current time are
+     *                            known to be the most recent ones, later writes are picked up by the next refresh.
+     */
+    public void addAgentInfo(AgentInfo agentInfo, long timestamp, long queryStartTimestamp) {
+        if (agentInfo == null || !isRecentAnswer(timestamp, queryStartTimestamp)) {
+            return;
+        }
+        final String agentId = agentInfo.getAgentId();
+        final AgentInfo copy = new AgentInfo(agentInfo);
+        Entry entry = index.get(agentId);
+        if (entry == null) {
+            if (index.size() >= maxSize) {
+                evictLeastRecentlyUsed();
+            }
+            // published with its agent info, readers never see an entry without one
+            final Entry newEntry = new Entry(copy);
+            newEntry.lastAccess = accessSequence.incrementAndGet();
+            final Entry prev = index.putIfAbsent(agentId, newEntry);
+            if (prev == null) {
+                return;
+            }
+            entry = prev;
+        }
+        entry.lastAccess = accessSequence.incrementAndGet();
+        entry.update(copy);
+    }
+
+    private void evictLeastRecentlyUsed() {
+        // only runs for agents missing from a full index, whose HBase lookup costs far more than this loop
+        Map.Entry<String, Entry> oldest = null;
+        for (Map.Entry<String, Entry> candidate : index.entrySet()) {
+            if (oldest == null || candidate.getValue().lastAccess < oldest.getValue().lastAccess) {
+                oldest = candidate;
+            }
+        }
+        if (oldest != null) {
+            index.remove(oldest.getKey(), oldest.getValue());
+        }
+    }
+
+    /**
+     * Adds the life cycle event read from HBase for the given timestamp.
+     *
+     * @see #addAgentInfo(AgentInfo, long, long)
+     */
+    public void addAgentLifeCycle(AgentLifeCycleBo agentLifeCycle, long timestamp, long queryStartTimestamp) {
+        if (agentLifeCycle == null || !isRecentAnswer(timestamp, queryStartTimestamp)) {
+            return;
+        }
+        final Entry entry = index.get(agentLifeCycle.getAgentId());
+        if (entry == null) {
+            return;
+        }
+        if (entry.agentInfo.getStartTimestamp() != agentLifeCycle.getStartTimestamp()) {
+            // not known to be the most recent agent
+            return;
+        }
+        entry.update(agentLifeCycle);
+    }
+
+    private boolean isRecentAnswer(long timestamp, long queryStartTimestamp) {
+        if (!enable) {
+            return false;
+        }
+        return queryStartTimestamp >= refreshedTimestamp && timestamp >= queryStartTimestamp - CLOCK_SKEW_MS;
+    }
+
+    int size() {
+        return index.size();
+    }
+
+    void refresh() {
+        final long refreshStart = System.currentTimeMillis();
+        final long from = Math.max(0, scanFromTimestamp - CLOCK_SKEW_MS);
+        try {
+            final int agentInfoCount = refreshAgentInfo(from);
+            final int agentLifeCycleCount = refreshAgentLifeCycle(from);
+            this.scanFromTimestamp = refreshedTimestamp;
+            this.refreshedTimestamp = refreshStart;
+            if (logger.isDebugEnabled()) {
+                logger.debug("AgentInfoIndex refreshed. agents:{}, agentInfo:{}, agentLifeCycle:{}, elapsed:{}ms", index.size(), agentInfoCount, agentLifeCycleCount, System.currentTimeMillis() - refreshStart);
+            }
+        } catch (Exception e) {
+            logger.warn("AgentInfoIndex refresh failed. Caused:{}", e.getMessage(), e);
+        }
+    }
+
+    private int refreshAgentInfo(long from) throws IOException {
+        final Scan scan = new Scan();
+        scan.addFamily(HBaseTables.AGENTINFO_CF_INFO);
+        scan.setTimeRange(from, Long.MAX_VALUE);
+        scan.setMaxVersions(1);
+        scan.setCaching(100);
+        // periodic scan, keeps the block cache for the queries
+        scan.setCacheBlocks(false);
+
+        final TableName agentInfoTableName = tableNameProvider.getTableName(HBaseTables.AGENTINFO_STR);
+        return this.hbaseOperations2.find(agentInfoTableName, scan, new ResultsExtractor<Integer>() {
+            @Override
+            public Integer extractData(ResultScanner results) throws Exception {
+                int updated = 0;
+                for (Result result : results) {
+                    final Entry entry = index.get(readAgentId(result));
+                    if (entry != null) {
+                        entry.update(agentInfoMapper.mapRow(result, updated++));
+                    }
+                }
+                return updated;
+            }
+        });
+    }
+
+    private int refreshAgentLifeCycle(long from) throws IOException {
+        final Scan scan = new Scan();
+        scan.addColumn(HBaseTables.AGENT_LIFECYCLE_CF_STATUS, HBaseTables.AGENT_LIFECYCLE_CF_STATUS_QUALI_STATES);
+        scan.setTimeRange(from, Long.MAX_VALUE);
+        scan.setMaxVersions(1);
+        scan.setCaching(100);
+        scan.setCacheBlocks(false);
+
+        final TableName agentLifeCycleTableName = tableNameProvider.getTableName(HBaseTables.AGENT_LIFECYCLE_STR);
+        return this.hbaseOperations2.find(agentLifeCycleTableName, scan, new ResultsExtractor<Integer>() {
+            @Override
+            public Integer extractData(ResultScanner results) throws Exception {
+                int updated = 0;
+                for (Result result : results) {
+                    final Entry entry = index.get(readAgentId(result));
+                    if (entry != null) {
+                        entry.update(agentLifeCycleMapper.mapRow(result, updated++));
+                    }
+                }
+                return updated;
+            }
+        });
+    }
+
+    private String readAgentId(Result result) {
+        return BytesUtils.safeTrim(BytesUtils.toString(result.getRow(), 0, HBaseTables.AGENT_NAME_MAX_LEN));
+    }
+
+    private static class Entry {
+        private volatile AgentInfo agentInfo;
+        private volatile AgentLifeCycleBo agentLifeCycle;
+        private volatile long lastAccess;
+
+        private Entry(AgentInfo agentInfo) {
+            if (agentInfo == null) {
+                throw new NullPointerException("agentInfo must not be null");
+            }
+            this.agentInfo = agentInfo;
+        }
+
+        private synchronized void update(AgentInfo agentInfo) {
+            if (agentInfo == null) {
+                return;
+            }
+            if (this.agentInfo.getStartTimestamp() <= agentInfo.getStartTimestamp()) {
+                this.agentInfo = agentInfo;
+            }
+        }
+
+        private synchronized void update(AgentLifeCycleBo agentLifeCycle) {
+            if (agentLifeCycle == null) {
+                return;
+            }
+            final AgentLifeCycleBo current = this.agentLifeCycle;
+            if (current == null || current.getStartTimestamp() < agentLifeCycle.getStartTimestamp()) {
+                this.agentLifeCycle = agentLifeCycle;
+            } else if (current.getStartTimestamp() == agentLifeCycle.getStartTimestamp() && current.getEventIdentifier() < agentLifeCycle.getEventIdentifier()) {
+                this.agentLifeCycle = agentLifeCycle;
+            }
+        }
+    }
+}
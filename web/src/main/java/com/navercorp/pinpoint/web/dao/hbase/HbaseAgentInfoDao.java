@@ -54,6 +54,9 @@ public class HbaseAgentInfoDao implements AgentInfoDao {
     @Autowired
     private AgentInfoResultsExtractor agentInfoResultsExtractor;
 
+    @Autowired
+    private AgentInfoIndex agentInfoIndex;
+
     /**
      * Returns the very first information of the agent
      *
@@ -107,11 +110,18 @@ public class HbaseAgentInfoDao implements AgentInfoDao {
         if (agentId == null) {
             throw new NullPointerException("agentId must not be null");
         }
+        final long queryStartTimestamp = System.currentTimeMillis();
+        AgentInfo agentInfo = agentInfoIndex.getAgentInfo(agentId, timestamp);
+        if (agentInfo != null) {
+            return agentInfo;
+        }
 
         Scan scan = createScan(agentId, timestamp);
 
         TableName agentInfoTableName = tableNameProvider.getTableName(HBaseTables.AGENTINFO_STR);
-        return this.hbaseOperations2.find(agentInfoTableName, scan, agentInfoResultsExtractor);
+        agentInfo = this.hbaseOperations2.find(agentInfoTableName, scan, agentInfoResultsExtractor);
+        agentInfoIndex.addAgentInfo(agentInfo, timestamp, queryStartTimestamp);
+        return agentInfo;
     }
 
     @Override
@@ -120,13 +130,31 @@ public class HbaseAgentInfoDao implements AgentInfoDao {
             return Collections.emptyList();
         }
 
-        List<Scan> scans = new ArrayList<>(agentIds.size());
+        final long queryStartTimestamp = System.currentTimeMillis();
+        List<AgentInfo> agentInfos = new ArrayList<>(agentIds.size());
+        List<Scan> scans = new ArrayList<>();
         for (String agentId : agentIds) {
-            scans.add(createScan(agentId, timestamp));
+            AgentInfo agentInfo = agentInfoIndex.getAgentInfo(agentId, timestamp);
+            if (agentInfo == null) {
+                scans.add(createScan(agentId, timestamp));
+            }
+            agentInfos.add(agentInfo);
+        }
+        if (scans.isEmpty()) {
+            return agentInfos;
         }
 
         TableName agentInfoTableName = tableNameProvider.getTableName(HBaseTables.AGENTINFO_STR);
-        return this.hbaseOperations2.findParallel(agentInfoTableName, scans, agentInfoResultsExtractor);
+        List<AgentInfo> scannedAgentInfos = this.hbaseOperations2.findParallel(agentInfoTableName, scans, agentInfoResultsExtractor);
+        int scannedIdx = 0;
+        for (int i = 0; i < agentInfos.size(); i++) {
+            if (agentInfos.get(i) == null) {
+                AgentInfo agentInfo = scannedAgentInfos.get(scannedIdx++);
+                agentInfoIndex.addAgentInfo(agentInfo, timestamp, queryStartTimestamp);
+                agentInfos.set(i, agentInfo);
+            }
+        }
+        return agentInfos;
     }
 
     private Scan createScan(String agentId, long currentTime) {
@@ -62,15 +62,22 @@ public class HbaseAgentLifeCycleDao implements AgentLifeCycleDao {
     @Qualifier("agentLifeCycleMapper")
     private RowMapper<AgentLifeCycleBo> agentLifeCycleMapper;
 
+    @Autowired
+    private AgentInfoIndex agentInfoIndex;
+
     @Override
     public AgentStatus getAgentStatus(String agentId, long timestamp) {
         Assert.notNull(agentId, "agentId must not be null");
         Assert.isTrue(timestamp >= 0, "timestamp must not be less than 0");
-
-        Scan scan = createScan(agentId, 0, timestamp);
-
-        TableName agentLifeCycleTableName = tableNameProvider.getTableName(HBaseTables.AGENT_LIFECYCLE_STR);
-        AgentLifeCycleBo agentLifeCycleBo = this.hbaseOperations2.find(agentLifeCycleTableName, scan, new MostRecentAgentLifeCycleResultsExtractor(this.agentLifeCycleMapper, timestamp));
+        final long queryStartTimestamp = System.currentTimeMillis();
+        AgentLifeCycleBo agentLifeCycleBo = agentInfoIndex.getAgentLifeCycle(agentId, timestamp);
+        if (agentLifeCycleBo == null) {
+            Scan scan = createScan(agentId, 0, timestamp);
+
+            TableName agentLifeCycleTableName = tableNameProvider.getTableName(HBaseTables.AGENT_LIFECYCLE_STR);
+            agentLifeCycleBo = this.hbaseOperations2.find(agentLifeCycleTableName, scan, new MostRecentAgentLifeCycleResultsExtractor(this.agentLifeCycleMapper, timestamp));
+            agentInfoIndex.addAgentLifeCycle(agentLifeCycleBo, timestamp, queryStartTimestamp);
+        }
         return createAgentStatus(agentId, agentLifeCycleBo);
     }
 
@@ -81,13 +88,18 @@ public class HbaseAgentLifeCycleDao implements AgentLifeCycleDao {
         }
         Assert.isTrue(timestamp >= 0, "timestamp must not be less than 0");
         final String agentId = agentInfo.getAgentId();
-        // startTimestamp is stored in reverse order
-        final long toTimestamp = agentInfo.getStartTimestamp();
-        final long fromTimestamp = toTimestamp - 1;
-        Scan scan = createScan(agentId, fromTimestamp, toTimestamp);
-
-        TableName agentLifeCycleTableName = tableNameProvider.getTableName(HBaseTables.AGENT_LIFECYCLE_STR);
-        AgentLifeCycleBo agentLifeCycleBo = this.hbaseOperations2.find(agentLifeCycleTableName, scan, new MostRecentAgentLifeCycleResultsExtractor(this.agentLifeCycleMapper, timestamp));
+        final long queryStartTimestamp = System.currentTimeMillis();
+        AgentLifeCycleBo agentLifeCycleBo = agentInfoIndex.getAgentLifeCycle(agentId, agentInfo.getStartTimestamp(), timestamp);
+        if (agentLifeCycleBo == null) {
+            // startTimestamp is stored in reverse order
+            final long toTimestamp = agentInfo.getStartTimestamp();
+            final long fromTimestamp = toTimestamp - 1;
+            Scan scan = createScan(agentId, fromTimestamp, toTimestamp);
+
+            TableName agentLifeCycleTableName = tableNameProvider.getTableName(HBaseTables.AGENT_LIFECYCLE_STR);
+            agentLifeCycleBo = this.hbaseOperations2.find(agentLifeCycleTableName, scan, new MostRecentAgentLifeCycleResultsExtractor(this.agentLifeCycleMapper, timestamp));
+            agentInfoIndex.addAgentLifeCycle(agentLifeCycleBo, timestamp, queryStartTimestamp);
+        }
         AgentStatus agentStatus = createAgentStatus(agentId, agentLifeCycleBo);
         agentInfo.setStatus(agentStatus);
     }
@@ -97,25 +109,36 @@ public class HbaseAgentLifeCycleDao implements AgentLifeCycleDao {
         if (CollectionUtils.isEmpty(agentInfos)) {
             return;
         }
-        List<Scan> scans = new ArrayList<>(agentInfos.size());
+        final long queryStartTimestamp = System.currentTimeMillis();
+        List<Scan> scans = new ArrayList<>();
+        List<AgentInfo> scannedAgentInfos = new ArrayList<>();
         for (AgentInfo agentInfo : agentInfos) {
             if (agentInfo != null) {
                 final String agentId = agentInfo.getAgentId();
+                AgentLifeCycleBo agentLifeCycleBo = agentInfoIndex.getAgentLifeCycle(agentId, agentInfo.getStartTimestamp(), timestamp);
+                if (agentLifeCycleBo != null) {
+                    agentInfo.setStatus(createAgentStatus(agentId, agentLifeCycleBo));
+                    continue;
+                }
                 // startTimestamp is stored in reverse order
                 final long toTimestamp = agentInfo.getStartTimestamp();
                 final long fromTimestamp = toTimestamp - 1;
                 scans.add(createScan(agentId, fromTimestamp, toTimestamp));
+                scannedAgentInfos.add(agentInfo);
             }
         }
+        if (scans.isEmpty()) {
+            return;
+        }
 
         TableName agentLifeCycleTableName = tableNameProvider.getTableName(HBaseTables.AGENT_LIFECYCLE_STR);
         List<AgentLifeCycleBo> agentLifeCycles = this.hbaseOperations2.findParallel(agentLifeCycleTableName, scans, new MostRecentAgentLifeCycleResultsExtractor(this.agentLifeCycleMapper, timestamp));
         int idx = 0;
-        for (AgentInfo agentInfo : agentInfos) {
-            if (agentInfo != null) {
-                AgentStatus agentStatus = createAgentStatus(agentInfo.getAgentId(), agentLifeCycles.get(idx++));
-                agentInfo.setStatus(agentStatus);
-            }
+        for (AgentInfo agentInfo : scannedAgentInfos) {
+            AgentLifeCycleBo agentLifeCycleBo = agentLifeCycles.get(idx++);
+            agentInfoIndex.addAgentLifeCycle(agentLifeCycleBo, timestamp, queryStartTimestamp);
+            AgentStatus agentStatus = createAgentStatus(agentInfo.getAgentId(), agentLifeCycleBo);
+            agentInfo.setStatus(agentStatus);
         }
     }
 
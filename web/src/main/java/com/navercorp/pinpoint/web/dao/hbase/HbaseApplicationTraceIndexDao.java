@@ -26,10 +26,12 @@ import com.navercorp.pinpoint.common.hbase.RowMapper;
 import com.navercorp.pinpoint.common.hbase.TableNameProvider;
 import com.navercorp.pinpoint.common.util.BytesUtils;
 import com.navercorp.pinpoint.common.util.DateUtils;
+import com.navercorp.pinpoint.common.server.util.ApplicationTraceIndexBucketUtils;
 import com.navercorp.pinpoint.common.server.util.SpanUtils;
 import com.navercorp.pinpoint.common.util.TimeUtils;
 import com.navercorp.pinpoint.common.util.TransactionId;
 import com.navercorp.pinpoint.web.dao.ApplicationTraceIndexDao;
+import com.navercorp.pinpoint.web.mapper.TraceIndexBucketScatterMapper;
 import com.navercorp.pinpoint.web.mapper.TraceIndexScatterMapper2;
 import com.navercorp.pinpoint.web.mapper.TraceIndexScatterMapper3;
 import com.navercorp.pinpoint.web.mapper.TransactionIdMapper;
@@ -57,10 +59,14 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Repository;
 
 import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 
 /**
  * @author emeroad
@@ -70,6 +76,8 @@ import java.util.List;
 public class HbaseApplicationTraceIndexDao implements ApplicationTraceIndexDao {
 
     private static final int APPLICATION_TRACE_INDEX_NUM_PARTITIONS = 32;
+    // without the bucket index, error dots are searched in at most this many pages of limit rows
+    private static final int ERROR_SCAN_MAX_PAGES = 10;
 
     private final Logger logger = LoggerFactory.getLogger(this.getClass());
 
@@ -91,6 +99,9 @@ public class HbaseApplicationTraceIndexDao implements ApplicationTraceIndexDao {
     @Qualifier("applicationTraceIndexDistributor")
     private AbstractRowKeyDistributor traceIdRowKeyDistributor;
 
+    @Value("#{pinpointWebProps['web.applicationTraceIndex.bucket.enable'] ?: false}")
+    private boolean bucketIndexEnable;
+
     private int scanCacheSize = 256;
 
     public void setScanCacheSize(int scanCacheSize) {
@@ -151,6 +162,9 @@ public class HbaseApplicationTraceIndexDao implements ApplicationTraceIndexDao {
         if (limit < 0) {
             throw new IllegalArgumentException("negative limit:" + limit);
         }
+        if (bucketIndexEnable) {
+            return scanTraceIndexFromBucket(applicationName, area, limit);
+        }
         logger.debug("scanTraceIndex");
         Scan scan = createScan(applicationName, area.getTimeRange());
 
@@ -183,6 +197,76 @@ public class HbaseApplicationTraceIndexDao implements ApplicationTraceIndexDao {
         return limitedScanResult;
     }
 
+    private LimitedScanResult<List<TransactionId>> scanTraceIndexFromBucket(String applicationName, SelectedScatterArea area, int limit) {
+        final LimitedScanResult<List<Dot>> dotScanResult = scanBucket(applicationName, area, limit, false);
+
+        final List<Dot> dotList = dotScanResult.getScanData();
+        final List<TransactionId> transactionIdList = new ArrayList<>(dotList.size());
+        for (Dot dot : dotList) {
+            transactionIdList.add(dot.getTransactionId());
+        }
+
+        final LimitedScanResult<List<TransactionId>> limitedScanResult = new LimitedScanResult<>();
+        limitedScanResult.setScanData(transactionIdList);
+        limitedScanResult.setLimitedTime(dotScanResult.getLimitedTime());
+        return limitedScanResult;
+    }
+
+    /**
+     * scans only the buckets whose elapsed band overlaps the response time range of the area.
+     * each bucket is scanned up to the limit, so the newest dots of all buckets are merged and cut to the limit.
+     */
+    private LimitedScanResult<List<Dot>> scanBucket(String applicationName, SelectedScatterArea area, int limit, boolean errorOnly) {
+        logger.debug("scanTraceIndexBucket errorOnly:{}", errorOnly);
+        final Range range = area.getTimeRange();
+        final ResponseTimeRange responseTimeRange = area.getResponseTimeRange();
+        final byte[] buckets = ApplicationTraceIndexBucketUtils.getBuckets(responseTimeRange.getFrom(), responseTimeRange.getTo(), errorOnly);
+
+        final TraceIndexBucketScatterMapper mapper = new TraceIndexBucketScatterMapper(responseTimeRange.getFrom(), responseTimeRange.getTo());
+        final TableName bucketTableName = tableNameProvider.getTableName(HBaseTables.APPLICATION_TRACE_INDEX_BUCKET_STR);
+
+        List<Dot> result = new ArrayList<>();
+        for (byte bucket : buckets) {
+            Scan scan = createBucketScan(applicationName, bucket, range);
+            List<List<Dot>> dotListList = hbaseOperations2.findParallel(bucketTableName, scan, traceIdRowKeyDistributor, limit, mapper, APPLICATION_TRACE_INDEX_NUM_PARTITIONS);
+            for (List<Dot> dotList : dotListList) {
+                result.addAll(dotList);
+            }
+        }
+
+        // dots of several buckets are interleaved, callers expect the newest first
+        result.sort(Comparator.comparingLong(Dot::getAcceptedTime).reversed());
+        final LimitedScanResult<List<Dot>> limitedScanResult = new LimitedScanResult<>();
+        if (result.size() >= limit) {
+            result = new ArrayList<>(result.subList(0, limit));
+            long lastRowTimestamp = limit == 0 ? range.getTo() : result.get(limit - 1).getAcceptedTime();
+            limitedScanResult.setLimitedTime(lastRowTimestamp);
+            if (logger.isDebugEnabled()) {
+                logger.debug("lastRowTimestamp lastTime:{}", DateUtils.longToDateStr(lastRowTimestamp));
+            }
+        } else {
+            limitedScanResult.setLimitedTime(range.getFrom());
+        }
+        limitedScanResult.setScanData(result);
+        return limitedScanResult;
+    }
+
+    private Scan createBucketScan(String applicationName, byte bucket, Range range) {
+        Scan scan = new Scan();
+        scan.setCaching(this.scanCacheSize);
+
+        byte[] bApplicationName = Bytes.toBytes(applicationName);
+        // start key is replaced by end key because key has been reversed
+        scan.setStartRow(ApplicationTraceIndexBucketUtils.getRowKey(bApplicationName, bucket, range.getTo()));
+        scan.setStopRow(ApplicationTraceIndexBucketUtils.getRowKey(bApplicationName, bucket, range.getFrom()));
+
+        scan.addFamily(HBaseTables.APPLICATION_TRACE_INDEX_BUCKET_CF_TRACE);
+        scan.setId("ApplicationTraceIndexBucketScan");
+
+        logger.trace("create scan:{}", scan);
+        return scan;
+    }
+
     private class LastRowAccessor implements LimitEventHandler {
         private Long lastRowTimestamp = -1L;
         private TransactionId lastTransactionId = null;
@@ -267,6 +351,9 @@ public class HbaseApplicationTraceIndexDao implements ApplicationTraceIndexDao {
         if (limit < 0) {
             throw new IllegalArgumentException("negative limit:" + limit);
         }
+        if (bucketIndexEnable) {
+            return scanBucket(applicationName, area, limit, false).getScanData();
+        }
         logger.debug("scanTraceScatter");
         Scan scan = createScan(applicationName, area.getTimeRange());
 
@@ -289,6 +376,63 @@ public class HbaseApplicationTraceIndexDao implements ApplicationTraceIndexDao {
         return result;
     }
 
+    @Override
+    public List<Dot> scanErrorTraceScatter(String applicationName, SelectedScatterArea area, int limit) {
+        if (applicationName == null) {
+            throw new NullPointerException("applicationName must not be null");
+        }
+        if (area == null) {
+            throw new NullPointerException("area must not be null");
+        }
+        if (limit < 0) {
+            throw new IllegalArgumentException("negative limit:" + limit);
+        }
+        if (bucketIndexEnable) {
+            return scanBucket(applicationName, area, limit, true).getScanData();
+        }
+
+        if (limit == 0) {
+            return new ArrayList<>();
+        }
+
+        // without the bucket index, the trace index is read backward in pages of limit rows until enough errors are found.
+        // bounded by ERROR_SCAN_MAX_PAGES, so a wide area with few errors may return fewer dots than exist.
+        logger.debug("scanErrorTraceScatter");
+        final Range range = area.getTimeRange();
+        final ResponseTimeRange responseTimeRange = area.getResponseTimeRange();
+        final TraceIndexScatterMapper2 mapper = new TraceIndexScatterMapper2(responseTimeRange.getFrom(), responseTimeRange.getTo());
+        final TableName applicationTraceIndexTableName = tableNameProvider.getTableName(HBaseTables.APPLICATION_TRACE_INDEX_STR);
+
+        List<Dot> result = new ArrayList<>();
+        // pages overlap on the oldest millisecond of the previous page
+        final Set<TransactionId> transactionIdSet = new HashSet<>();
+        long to = range.getTo();
+        for (int page = 0; page < ERROR_SCAN_MAX_PAGES && result.size() < limit; page++) {
+            Scan scan = createScan(applicationName, new Range(range.getFrom(), to));
+            List<List<Dot>> dotListList = hbaseOperations2.findParallel(applicationTraceIndexTableName, scan, traceIdRowKeyDistributor, limit, mapper, APPLICATION_TRACE_INDEX_NUM_PARTITIONS);
+
+            long oldestAcceptedTime = to;
+            for (List<Dot> dotList : dotListList) {
+                for (Dot dot : dotList) {
+                    oldestAcceptedTime = Math.min(oldestAcceptedTime, dot.getAcceptedTime());
+                    if (dot.getExceptionCode() != Dot.EXCEPTION_NONE && transactionIdSet.add(dot.getTransactionId())) {
+                        result.add(dot);
+                    }
+                }
+            }
+            if (dotListList.size() < limit || oldestAcceptedTime >= to || oldestAcceptedTime <= range.getFrom()) {
+                // no more rows, or no progress in a millisecond holding more than limit rows
+                break;
+            }
+            to = oldestAcceptedTime;
+        }
+        result.sort(Comparator.comparingLong(Dot::getAcceptedTime).reversed());
+        if (result.size() > limit) {
+            return new ArrayList<>(result.subList(0, limit));
+        }
+        return result;
+    }
+
     @Override
     public ScatterData scanTraceScatterData(String applicationName, Range range, int xGroupUnit, int yGroupUnit, int limit, boolean scanBackward) {
         if (applicationName == null) {
@@ -320,6 +464,60 @@ public class HbaseApplicationTraceIndexDao implements ApplicationTraceIndexDao {
         }
     }
 
+    @Override
+    public LimitedScanResult<ScatterData> scanTraceScatterDataForward(String applicationName, Range range, int xGroupUnit, int yGroupUnit, int limit) {
+        if (applicationName == null) {
+            throw new NullPointerException("applicationName must not be null");
+        }
+        if (range == null) {
+            throw new NullPointerException("range must not be null");
+        }
+        if (limit < 0) {
+            throw new IllegalArgumentException("negative limit:" + limit);
+        }
+        logger.debug("scanTraceScatterDataForward");
+        Scan scan = createScan(applicationName, range, false);
+
+        LastRowAccessor lastRowAccessor = new LastRowAccessor();
+        TableName applicationTraceIndexTableName = tableNameProvider.getTableName(HBaseTables.APPLICATION_TRACE_INDEX_STR);
+        List<List<Dot>> dotListList = hbaseOperations2.findParallel(applicationTraceIndexTableName,
+                scan, traceIdRowKeyDistributor, limit, traceIndexScatterMapper, lastRowAccessor, APPLICATION_TRACE_INDEX_NUM_PARTITIONS);
+
+        int dotSize = 0;
+        for (List<Dot> dotList : dotListList) {
+            dotSize += dotList.size();
+        }
+
+        long limitedTime = range.getTo();
+        if (dotSize >= limit) {
+            // rows of the last time may still remain in the other partitions, so they are scanned again next time
+            long lastRowTimestamp = lastRowAccessor.getLastRowTimestamp();
+            if (lastRowTimestamp > range.getFrom()) {
+                limitedTime = lastRowTimestamp;
+            } else {
+                // a single millisecond exceeds the limit
+                limitedTime = lastRowTimestamp + 1;
+            }
+            if (logger.isDebugEnabled()) {
+                logger.debug("lastRowTimestamp lastTime:{}", DateUtils.longToDateStr(lastRowTimestamp));
+            }
+        }
+
+        ScatterData scatterData = new ScatterData(range.getFrom(), range.getTo(), xGroupUnit, yGroupUnit);
+        for (List<Dot> dotList : dotListList) {
+            for (Dot dot : dotList) {
+                if (dot.getAcceptedTime() < limitedTime) {
+                    scatterData.addDot(dot);
+                }
+            }
+        }
+
+        final LimitedScanResult<ScatterData> limitedScanResult = new LimitedScanResult<>();
+        limitedScanResult.setScanData(scatterData);
+        limitedScanResult.setLimitedTime(limitedTime);
+        return limitedScanResult;
+    }
+
     /**
      * make the hbase filter for selecting values of y-axis(response time) in order to select transactions in scatter chart.
      * 4 bytes for elapsed time should be attached for the prefix of column qualifier for to use this filter.
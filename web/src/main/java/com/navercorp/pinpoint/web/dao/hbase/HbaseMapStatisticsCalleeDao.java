@@ -22,6 +22,7 @@ import com.navercorp.pinpoint.common.hbase.ResultsExtractor;
 import com.navercorp.pinpoint.common.hbase.RowMapper;
 import com.navercorp.pinpoint.common.hbase.TableNameProvider;
 import com.navercorp.pinpoint.common.util.ApplicationMapStatisticsUtils;
+import com.navercorp.pinpoint.web.applicationmap.rawdata.LinkData;
 import com.navercorp.pinpoint.web.applicationmap.rawdata.LinkDataMap;
 import com.navercorp.pinpoint.web.dao.MapStatisticsCalleeDao;
 import com.navercorp.pinpoint.web.mapper.*;
@@ -33,6 +34,7 @@ import com.navercorp.pinpoint.web.vo.RangeFactory;
 
 import com.sematext.hbase.wd.RowKeyDistributorByHashPrefix;
 import org.apache.hadoop.hbase.TableName;
+import org.apache.hadoop.hbase.client.ResultScanner;
 import org.apache.hadoop.hbase.client.Scan;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -40,6 +42,9 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.stereotype.Repository;
 
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 
 /**
@@ -64,6 +69,8 @@ public class HbaseMapStatisticsCalleeDao implements MapStatisticsCalleeDao {
 
     private final RowKeyDistributorByHashPrefix rowKeyDistributorByHashPrefix;
 
+    private final MapStatisticsScanPlanner mapStatisticsScanPlanner;
+
     @Autowired
     public HbaseMapStatisticsCalleeDao(
             HbaseOperations2 hbaseTemplate,
@@ -76,6 +83,7 @@ public class HbaseMapStatisticsCalleeDao implements MapStatisticsCalleeDao {
         this.mapStatisticsCalleeMapper = Objects.requireNonNull(mapStatisticsCalleeMapper, "mapStatisticsCalleeMapper must not be null");
         this.rangeFactory = Objects.requireNonNull(rangeFactory, "rangeFactory must not be null");
         this.rowKeyDistributorByHashPrefix = Objects.requireNonNull(rowKeyDistributorByHashPrefix, "rowKeyDistributorByHashPrefix must not be null");
+        this.mapStatisticsScanPlanner = new MapStatisticsScanPlanner(rowKeyDistributorByHashPrefix, SCAN_CACHE_SIZE);
     }
 
     @Override
@@ -102,6 +110,51 @@ public class HbaseMapStatisticsCalleeDao implements MapStatisticsCalleeDao {
         return new LinkDataMap();
     }
 
+    @Override
+    public Map<Application, LinkDataMap> selectCallees(List<Application> calleeApplications, Range range) {
+        if (calleeApplications == null) {
+            throw new NullPointerException("calleeApplications must not be null");
+        }
+        if (range == null) {
+            throw new NullPointerException("range must not be null");
+        }
+        if (calleeApplications.size() <= 1) {
+            return MapStatisticsCalleeDao.super.selectCallees(calleeApplications, range);
+        }
+
+        final TimeWindow timeWindow = new TimeWindow(range, TimeWindowDownSampler.SAMPLER);
+        final Range statisticsRange = rangeFactory.createStatisticsRange(range);
+        final List<Scan> scans = mapStatisticsScanPlanner.createScans(calleeApplications, statisticsRange, HBaseTables.MAP_STATISTICS_CALLER_VER2_CF_COUNTER);
+        // scans are extracted concurrently, each needs its own reducer
+        ResultsExtractor<LinkDataMap> resultExtractor = new ResultsExtractor<LinkDataMap>() {
+            @Override
+            public LinkDataMap extractData(ResultScanner results) throws Exception {
+                return new RowMapReduceResultExtractor<>(mapStatisticsCalleeMapper, new MapStatisticsTimeWindowReducer(timeWindow)).extractData(results);
+            }
+        };
+
+        TableName mapStatisticsCallerTableName = tableNameProvider.getTableName(HBaseTables.MAP_STATISTICS_CALLER_VER2_STR);
+        List<LinkDataMap> scannedLinkDataMaps = this.hbaseTemplate.findParallel(mapStatisticsCallerTableName, scans, resultExtractor);
+
+        Map<Application, LinkDataMap> linkDataMaps = new HashMap<>();
+        for (Application calleeApplication : calleeApplications) {
+            linkDataMaps.put(calleeApplication, new LinkDataMap(timeWindow));
+        }
+        for (LinkDataMap scannedLinkDataMap : scannedLinkDataMaps) {
+            if (scannedLinkDataMap == null) {
+                continue;
+            }
+            for (LinkData linkData : scannedLinkDataMap.getLinkDataList()) {
+                LinkDataMap linkDataMap = linkDataMaps.get(linkData.getToApplication());
+                if (linkDataMap != null) {
+                    linkDataMap.addLinkData(linkData);
+                }
+            }
+        }
+        logger.debug("Callee data. applications:{}, scans:{}, {}", calleeApplications.size(), scans.size(), range);
+        return linkDataMaps;
+    }
+
 
     private Scan createScan(Application application, Range range, byte[] family) {
         range = rangeFactory.createStatisticsRange(range);
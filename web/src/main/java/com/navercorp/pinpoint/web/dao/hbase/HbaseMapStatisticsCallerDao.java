@@ -22,6 +22,7 @@ import com.navercorp.pinpoint.common.hbase.ResultsExtractor;
 import com.navercorp.pinpoint.common.hbase.RowMapper;
 import com.navercorp.pinpoint.common.hbase.TableNameProvider;
 import com.navercorp.pinpoint.common.util.ApplicationMapStatisticsUtils;
+import com.navercorp.pinpoint.web.applicationmap.rawdata.LinkData;
 import com.navercorp.pinpoint.web.applicationmap.rawdata.LinkDataMap;
 import com.navercorp.pinpoint.web.dao.MapStatisticsCallerDao;
 import com.navercorp.pinpoint.web.mapper.*;
@@ -33,6 +34,7 @@ import com.navercorp.pinpoint.web.vo.RangeFactory;
 
 import com.sematext.hbase.wd.RowKeyDistributorByHashPrefix;
 import org.apache.hadoop.hbase.TableName;
+import org.apache.hadoop.hbase.client.ResultScanner;
 import org.apache.hadoop.hbase.client.Scan;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -40,6 +42,9 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.stereotype.Repository;
 
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 
 /**
@@ -65,6 +70,8 @@ public class HbaseMapStatisticsCallerDao implements MapStatisticsCallerDao {
 
     private final RowKeyDistributorByHashPrefix rowKeyDistributorByHashPrefix;
 
+    private final MapStatisticsScanPlanner mapStatisticsScanPlanner;
+
     @Autowired
     public HbaseMapStatisticsCallerDao(
             HbaseOperations2 hbaseTemplate,
@@ -77,6 +84,7 @@ public class HbaseMapStatisticsCallerDao implements MapStatisticsCallerDao {
         this.mapStatisticsCallerMapper = Objects.requireNonNull(mapStatisticsCallerMapper, "mapStatisticsCallerMapper must not be null");
         this.rangeFactory = Objects.requireNonNull(rangeFactory, "rangeFactory must not be null");
         this.rowKeyDistributorByHashPrefix = Objects.requireNonNull(rowKeyDistributorByHashPrefix, "rowKeyDistributorByHashPrefix must not be null");
+        this.mapStatisticsScanPlanner = new MapStatisticsScanPlanner(rowKeyDistributorByHashPrefix, SCAN_CACHE_SIZE);
     }
 
     @Override
@@ -103,6 +111,51 @@ public class HbaseMapStatisticsCallerDao implements MapStatisticsCallerDao {
         return new LinkDataMap();
     }
 
+    @Override
+    public Map<Application, LinkDataMap> selectCallers(List<Application> callerApplications, Range range) {
+        if (callerApplications == null) {
+            throw new NullPointerException("callerApplications must not be null");
+        }
+        if (range == null) {
+            throw new NullPointerException("range must not be null");
+        }
+        if (callerApplications.size() <= 1) {
+            return MapStatisticsCallerDao.super.selectCallers(callerApplications, range);
+        }
+
+        final TimeWindow timeWindow = new TimeWindow(range, TimeWindowDownSampler.SAMPLER);
+        final Range statisticsRange = rangeFactory.createStatisticsRange(range);
+        final List<Scan> scans = mapStatisticsScanPlanner.createScans(callerApplications, statisticsRange, HBaseTables.MAP_STATISTICS_CALLEE_VER2_CF_COUNTER);
+        // scans are extracted concurrently, each needs its own reducer
+        ResultsExtractor<LinkDataMap> resultExtractor = new ResultsExtractor<LinkDataMap>() {
+            @Override
+            public LinkDataMap extractData(ResultScanner results) throws Exception {
+                return new RowMapReduceResultExtractor<>(mapStatisticsCallerMapper, new MapStatisticsTimeWindowReducer(timeWindow)).extractData(results);
+            }
+        };
+
+        TableName mapStatisticsCalleeTableName = tableNameProvider.getTableName(HBaseTables.MAP_STATISTICS_CALLEE_VER2_STR);
+        List<LinkDataMap> scannedLinkDataMaps = this.hbaseTemplate.findParallel(mapStatisticsCalleeTableName, scans, resultExtractor);
+
+        Map<Application, LinkDataMap> linkDataMaps = new HashMap<>();
+        for (Application callerApplication : callerApplications) {
+            linkDataMaps.put(callerApplication, new LinkDataMap(timeWindow));
+        }
+        for (LinkDataMap scannedLinkDataMap : scannedLinkDataMaps) {
+            if (scannedLinkDataMap == null) {
+                continue;
+            }
+            for (LinkData linkData : scannedLinkDataMap.getLinkDataList()) {
+                LinkDataMap linkDataMap = linkDataMaps.get(linkData.getFromApplication());
+                if (linkDataMap != null) {
+                    linkDataMap.addLinkData(linkData);
+                }
+            }
+        }
+        logger.debug("Caller data. applications:{}, scans:{}, {}", callerApplications.size(), scans.size(), range);
+        return linkDataMaps;
+    }
+
 
     private Scan createScan(Application application, Range range, byte[]... familyArgs) {
         range = rangeFactory.createStatisticsRange(range);
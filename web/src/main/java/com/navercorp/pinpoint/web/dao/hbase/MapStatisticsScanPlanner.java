@@ -0,0 +1,116 @@
+/*
+ * Copyright 2018 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.navercorp.pinpoint.web.dao.hbase;
+
+import com.navercorp.pinpoint.common.util.ApplicationMapStatisticsUtils;
+import com.navercorp.pinpoint.web.vo.Application;
+import com.navercorp.pinpoint.web.vo.Range;
+import com.sematext.hbase.wd.RowKeyDistributorByHashPrefix;
+import org.apache.hadoop.hbase.client.Scan;
+import org.apache.hadoop.hbase.filter.MultiRowRangeFilter;
+import org.apache.hadoop.hbase.util.Bytes;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Plans the scans reading the map statistics of several applications at once.
+ * <p>
+ * Rows of an application are spread over every hash prefix, so a distributed scan per application costs one scanner
+ * per prefix. Instead, a single scan per prefix is created covering the rows of all applications.
+ */
+public class MapStatisticsScanPlanner {
+
+    private final RowKeyDistributorByHashPrefix rowKeyDistributorByHashPrefix;
+
+    private final int scanCacheSize;
+
+    public MapStatisticsScanPlanner(RowKeyDistributorByHashPrefix rowKeyDistributorByHashPrefix, int scanCacheSize) {
+        this.rowKeyDistributorByHashPrefix = Objects.requireNonNull(rowKeyDistributorByHashPrefix, "rowKeyDistributorByHashPrefix must not be null");
+        this.scanCacheSize = scanCacheSize;
+    }
+
+    /**
+     * @param range statistics range
+     * @return one scan per hash prefix
+     */
+    public List<Scan> createScans(Collection<Application> applications, Range range, byte[] family) {
+        if (applications == null) {
+            throw new NullPointerException("applications must not be null");
+        }
+        if (range == null) {
+            throw new NullPointerException("range must not be null");
+        }
+        List<List<MultiRowRangeFilter.RowRange>> rowRangesPerPrefix = new ArrayList<>();
+        for (Application application : applications) {
+            // start key is replaced by end key because timestamp has been reversed
+            byte[] startKey = ApplicationMapStatisticsUtils.makeRowKey(application.getName(), application.getServiceTypeCode(), range.getTo());
+            byte[] endKey = ApplicationMapStatisticsUtils.makeRowKey(application.getName(), application.getServiceTypeCode(), range.getFrom());
+
+            byte[][] distributedStartKeys = rowKeyDistributorByHashPrefix.getAllDistributedKeys(startKey);
+            byte[][] distributedEndKeys = rowKeyDistributorByHashPrefix.getAllDistributedKeys(endKey);
+            for (int i = 0; i < distributedStartKeys.length; i++) {
+                if (rowRangesPerPrefix.size() <= i) {
+                    rowRangesPerPrefix.add(new ArrayList<>(applications.size()));
+                }
+                rowRangesPerPrefix.get(i).add(new MultiRowRangeFilter.RowRange(distributedStartKeys[i], true, distributedEndKeys[i], false));
+            }
+        }
+
+        List<Scan> scans = new ArrayList<>(rowRangesPerPrefix.size());
+        for (List<MultiRowRangeFilter.RowRange> rowRanges : rowRangesPerPrefix) {
+            scans.add(createScan(rowRanges, family));
+        }
+        return scans;
+    }
+
+    private Scan createScan(List<MultiRowRangeFilter.RowRange> rowRanges, byte[] family) {
+        byte[] startRow = null;
+        byte[] stopRow = null;
+        for (MultiRowRangeFilter.RowRange rowRange : rowRanges) {
+            if (startRow == null || Bytes.compareTo(rowRange.getStartRow(), startRow) < 0) {
+                startRow = rowRange.getStartRow();
+            }
+            if (stopRow == null || Bytes.compareTo(rowRange.getStopRow(), stopRow) > 0) {
+                stopRow = rowRange.getStopRow();
+            }
+        }
+
+        Scan scan = new Scan();
+        scan.setCaching(scanCacheSize);
+        scan.setStartRow(startRow);
+        scan.setStopRow(stopRow);
+        scan.addFamily(family);
+        if (rowRanges.size() > 1) {
+            scan.setFilter(createFilter(rowRanges));
+        }
+        scan.setId("ApplicationStatisticsMultiScan");
+        return scan;
+    }
+
+    private MultiRowRangeFilter createFilter(List<MultiRowRangeFilter.RowRange> rowRanges) {
+        try {
+            return new MultiRowRangeFilter(rowRanges);
+        } catch (IOException e) {
+            throw new IllegalArgumentException("invalid row ranges", e);
+        }
+    }
+}
@@ -27,6 +27,7 @@ import com.navercorp.pinpoint.common.server.bo.stat.FileDescriptorBo;
 import com.navercorp.pinpoint.common.server.bo.stat.JvmGcBo;
 import com.navercorp.pinpoint.common.server.bo.stat.JvmGcDetailedBo;
 import com.navercorp.pinpoint.common.server.bo.stat.ResponseTimeBo;
+import com.navercorp.pinpoint.common.server.bo.stat.SqlStatListBo;
 import com.navercorp.pinpoint.common.server.bo.stat.TransactionBo;
 import com.navercorp.pinpoint.web.dao.stat.ActiveTraceDao;
 import com.navercorp.pinpoint.web.dao.stat.AgentStatDao;
@@ -38,6 +39,7 @@ import com.navercorp.pinpoint.web.dao.stat.FileDescriptorDao;
 import com.navercorp.pinpoint.web.dao.stat.JvmGcDao;
 import com.navercorp.pinpoint.web.dao.stat.JvmGcDetailedDao;
 import com.navercorp.pinpoint.web.dao.stat.ResponseTimeDao;
+import com.navercorp.pinpoint.web.dao.stat.SqlStatDao;
 import com.navercorp.pinpoint.web.dao.stat.TransactionDao;
 import org.springframework.beans.factory.FactoryBean;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -294,4 +296,28 @@ abstract class AgentStatDaoFactory<T extends AgentStatDataPoint, D extends Agent
             return true;
         }
     }
+
+    @Repository("sqlStatDaoFactory")
+    public static class SqlStatDaoFactory extends AgentStatDaoFactory<SqlStatListBo, SqlStatDao> implements FactoryBean<SqlStatDao> {
+
+        @Autowired
+        public void setV2(@Qualifier("sqlStatDaoV2") SqlStatDao v2) {
+            this.v2 = v2;
+        }
+
+        @Override
+        public SqlStatDao getObject() throws Exception {
+            return super.getDao();
+        }
+
+        @Override
+        public Class<?> getObjectType() {
+            return SqlStatDao.class;
+        }
+
+        @Override
+        public boolean isSingleton() {
+            return true;
+        }
+    }
 }
@@ -20,6 +20,9 @@ import com.navercorp.pinpoint.web.applicationmap.rawdata.LinkDataMap;
 import com.navercorp.pinpoint.web.vo.Application;
 import com.navercorp.pinpoint.web.vo.Range;
 
+import java.util.List;
+import java.util.Map;
+
 /**
  * @author HyunGil Jeong
  */
@@ -28,4 +31,8 @@ public interface LinkDataMapService {
     LinkDataMap selectCallerLinkDataMap(Application application, Range range);
 
     LinkDataMap selectCalleeLinkDataMap(Application application, Range range);
+
+    Map<Application, LinkDataMap> selectCallerLinkDataMaps(List<Application> applications, Range range);
+
+    Map<Application, LinkDataMap> selectCalleeLinkDataMaps(List<Application> applications, Range range);
 }
@@ -24,6 +24,9 @@ import com.navercorp.pinpoint.web.vo.Range;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 
+import java.util.List;
+import java.util.Map;
+
 /**
  * @author HyunGil Jeong
  */
@@ -45,4 +48,14 @@ public class LinkDataMapServiceImpl implements LinkDataMapService {
     public LinkDataMap selectCalleeLinkDataMap(Application application, Range range) {
         return mapStatisticsCalleeDao.selectCallee(application, range);
     }
+
+    @Override
+    public Map<Application, LinkDataMap> selectCallerLinkDataMaps(List<Application> applications, Range range) {
+        return mapStatisticsCallerDao.selectCallers(applications, range);
+    }
+
+    @Override
+    public Map<Application, LinkDataMap> selectCalleeLinkDataMaps(List<Application> applications, Range range) {
+        return mapStatisticsCalleeDao.selectCallees(applications, range);
+    }
 }
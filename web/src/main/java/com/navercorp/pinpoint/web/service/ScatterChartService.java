@@ -24,6 +24,7 @@ import com.navercorp.pinpoint.web.vo.Range;
 import com.navercorp.pinpoint.web.vo.SelectedScatterArea;
 import com.navercorp.pinpoint.web.vo.TransactionMetadataQuery;
 import com.navercorp.pinpoint.web.vo.scatter.Dot;
+import com.navercorp.pinpoint.web.vo.scatter.IncrementalScatterData;
 
 import java.util.List;
 
@@ -49,6 +50,16 @@ public interface ScatterChartService {
      */
     List<Dot> selectScatterData(String applicationName, SelectedScatterArea area, TransactionId offsetTransactionId, int offsetTransactionElapsed, int limit);
 
+    /**
+     * Queries for the failed transactions in the area, newest first.
+     *
+     * @param applicationName
+     * @param area
+     * @param limit
+     * @return
+     */
+    List<Dot> selectErrorScatterData(String applicationName, SelectedScatterArea area, int limit);
+
     /**
      * Queries for scatter dots limited by the given limit.
      *
@@ -65,4 +76,18 @@ public interface ScatterChartService {
 
     ScatterData selectScatterData(List<TransactionId> transactionIdList, String applicationName, Range range, int xGroupUnit, int yGroupUnit, Filter filter);
 
+    /**
+     * Queries for the dots accepted since the previous call with the same cursor.
+     *
+     * @param cursorId cursor returned by the previous call, starts from {@code from} if null or expired
+     * @param applicationName
+     * @param from
+     * @param to
+     * @param xGroupUnit
+     * @param yGroupUnit
+     * @param limit
+     * @return
+     */
+    IncrementalScatterData selectScatterData(String cursorId, String applicationName, long from, long to, int xGroupUnit, int yGroupUnit, int limit);
+
 }
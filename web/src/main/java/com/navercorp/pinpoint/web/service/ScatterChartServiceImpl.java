@@ -22,10 +22,13 @@ import com.navercorp.pinpoint.web.dao.ApplicationTraceIndexDao;
 import com.navercorp.pinpoint.web.dao.TraceDao;
 import com.navercorp.pinpoint.web.filter.Filter;
 import com.navercorp.pinpoint.web.scatter.ScatterData;
+import com.navercorp.pinpoint.web.vo.LimitedScanResult;
 import com.navercorp.pinpoint.web.vo.Range;
 import com.navercorp.pinpoint.web.vo.SelectedScatterArea;
 import com.navercorp.pinpoint.web.vo.TransactionMetadataQuery;
 import com.navercorp.pinpoint.web.vo.scatter.Dot;
+import com.navercorp.pinpoint.web.vo.scatter.IncrementalScatterData;
+import com.navercorp.pinpoint.web.vo.scatter.ScatterCursor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -51,6 +54,9 @@ public class ScatterChartServiceImpl implements ScatterChartService {
     @Qualifier("hbaseTraceDaoFactory")
     private TraceDao traceDao;
 
+    @Autowired
+    private ScatterCursorRepository scatterCursorRepository;
+
     @Override
     public List<Dot> selectScatterData(String applicationName, SelectedScatterArea area, TransactionId offsetTransactionId, int offsetTransactionElapsed, int limit) {
         if (applicationName == null) {
@@ -62,6 +68,17 @@ public class ScatterChartServiceImpl implements ScatterChartService {
         return applicationTraceIndexDao.scanTraceScatter(applicationName, area, offsetTransactionId, offsetTransactionElapsed, limit);
     }
 
+    @Override
+    public List<Dot> selectErrorScatterData(String applicationName, SelectedScatterArea area, int limit) {
+        if (applicationName == null) {
+            throw new NullPointerException("applicationName must not be null");
+        }
+        if (area == null) {
+            throw new NullPointerException("area must not be null");
+        }
+        return applicationTraceIndexDao.scanErrorTraceScatter(applicationName, area, limit);
+    }
+
     @Override
     public List<Dot> selectScatterData(List<TransactionId> transactionIdList, String applicationName, Filter filter) {
         if (transactionIdList == null) {
@@ -179,4 +196,33 @@ public class ScatterChartServiceImpl implements ScatterChartService {
         return scatterData;
     }
 
+    @Override
+    public IncrementalScatterData selectScatterData(String cursorId, String applicationName, long from, long to, int xGroupUnit, int yGroupUnit, int limit) {
+        if (applicationName == null) {
+            throw new NullPointerException("applicationName must not be null");
+        }
+
+        ScatterCursor cursor = scatterCursorRepository.get(cursorId);
+        if (cursor == null || !cursor.isSameQuery(applicationName, xGroupUnit, yGroupUnit)) {
+            cursor = scatterCursorRepository.newCursor(applicationName, xGroupUnit, yGroupUnit, from);
+        }
+
+        final long scanFrom = cursor.getPosition();
+        if (scanFrom >= to) {
+            logger.debug("nothing to scan. cursor:{}, to:{}", cursor, to);
+            scatterCursorRepository.put(cursor);
+            return new IncrementalScatterData(cursor, new ScatterData(scanFrom, scanFrom, xGroupUnit, yGroupUnit), true);
+        }
+
+        final Range range = Range.createUncheckedRange(scanFrom, to);
+        final LimitedScanResult<ScatterData> limitedScanResult = applicationTraceIndexDao.scanTraceScatterDataForward(applicationName, range, xGroupUnit, yGroupUnit, limit);
+        final long limitedTime = limitedScanResult.getLimitedTime();
+
+        cursor = cursor.moveTo(limitedTime);
+        scatterCursorRepository.put(cursor);
+        logger.debug("scatter cursor moved. cursor:{}, to:{}", cursor, to);
+
+        return new IncrementalScatterData(cursor, limitedScanResult.getScanData(), limitedTime >= to);
+    }
+
 }
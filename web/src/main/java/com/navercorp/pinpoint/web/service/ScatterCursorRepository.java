@@ -0,0 +1,128 @@
+/*
+ * Copyright 2018 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.navercorp.pinpoint.web.service;
+
+import com.navercorp.pinpoint.web.vo.scatter.ScatterCursor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Iterator;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Keeps the {@link ScatterCursor} of polling scatter charts for a short while.
+ * Cursors not used for the time to live are dropped, and the chart starts over from the time it asks for.
+ */
+@Component
+public class ScatterCursorRepository {
+
+    private final Logger logger = LoggerFactory.getLogger(this.getClass());
+
+    @Value("#{pinpointWebProps['web.scatter.cursor.ttl'] ?: 60000}")
+    private long timeToLiveMs;
+
+    @Value("#{pinpointWebProps['web.scatter.cursor.maxSize'] ?: 10000}")
+    private int maxSize;
+
+    private final ConcurrentMap<String, Entry> cursorMap = new ConcurrentHashMap<>();
+
+    public ScatterCursorRepository() {
+    }
+
+    ScatterCursorRepository(long timeToLiveMs, int maxSize) {
+        this.timeToLiveMs = timeToLiveMs;
+        this.maxSize = maxSize;
+    }
+
+    public ScatterCursor newCursor(String applicationName, int xGroupUnit, int yGroupUnit, long position) {
+        final String id = UUID.randomUUID().toString();
+        return new ScatterCursor(id, applicationName, xGroupUnit, yGroupUnit, position);
+    }
+
+    /**
+     * @return null if the cursor does not exist or has expired
+     */
+    public ScatterCursor get(String id) {
+        if (id == null) {
+            return null;
+        }
+        final Entry entry = cursorMap.get(id);
+        if (entry == null) {
+            return null;
+        }
+        if (entry.isExpired(System.currentTimeMillis(), timeToLiveMs)) {
+            cursorMap.remove(id, entry);
+            return null;
+        }
+        return entry.cursor;
+    }
+
+    public void put(ScatterCursor cursor) {
+        if (cursor == null) {
+            throw new NullPointerException("cursor must not be null");
+        }
+        final long currentTime = System.currentTimeMillis();
+        if (cursorMap.size() >= maxSize && !cursorMap.containsKey(cursor.getId())) {
+            removeExpired(currentTime);
+            if (cursorMap.size() >= maxSize) {
+                logger.info("too many scatter cursors. size:{}, cursor:{} is not kept", cursorMap.size(), cursor);
+                return;
+            }
+        }
+        cursorMap.put(cursor.getId(), new Entry(cursor, currentTime));
+    }
+
+    public void remove(String id) {
+        if (id == null) {
+            return;
+        }
+        cursorMap.remove(id);
+    }
+
+    int size() {
+        return cursorMap.size();
+    }
+
+    private void removeExpired(long currentTime) {
+        final Iterator<Map.Entry<String, Entry>> iterator = cursorMap.entrySet().iterator();
+        while (iterator.hasNext()) {
+            if (iterator.next().getValue().isExpired(currentTime, timeToLiveMs)) {
+                iterator.remove();
+            }
+        }
+    }
+
+    private static class Entry {
+        private final ScatterCursor cursor;
+        private final long accessTime;
+
+        private Entry(ScatterCursor cursor, long accessTime) {
+            this.cursor = cursor;
+            this.accessTime = accessTime;
+        }
+
+        private boolean isExpired(long currentTime, long timeToLiveMs) {
+            return currentTime - accessTime > timeToLiveMs;
+        }
+    }
+}
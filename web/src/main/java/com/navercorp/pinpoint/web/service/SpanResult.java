@@ -26,13 +26,19 @@ import com.navercorp.pinpoint.web.calltree.span.SpanAligner;
 public class SpanResult {
     private int completeType;
     private CallTreeIterator callTreeIterator;
+    private int callTreeSize;
 
     public SpanResult(int completeType, CallTreeIterator callTreeIterator) {
+        this(completeType, callTreeIterator, -1);
+    }
+
+    public SpanResult(int completeType, CallTreeIterator callTreeIterator, int callTreeSize) {
         if (callTreeIterator == null) {
             throw new NullPointerException("spanAlignList must not be null");
         }
         this.completeType = completeType;
         this.callTreeIterator = callTreeIterator;
+        this.callTreeSize = callTreeSize;
     }
 
     public int getCompleteType() {
@@ -43,6 +49,13 @@ public class SpanResult {
         return callTreeIterator;
     }
 
+    /**
+     * @return number of nodes in the whole call tree, -1 if unknown
+     */
+    public int getCallTreeSize() {
+        return callTreeSize;
+    }
+
     public String getCompleteTypeString() {
         switch (completeType) {
             case SpanAligner.COMPLETE_MATCH:
@@ -23,4 +23,9 @@ import com.navercorp.pinpoint.common.util.TransactionId;
  */
 public interface SpanService {
     SpanResult selectSpan(TransactionId transactionId, long selectedSpanHint);
+
+    /**
+     * selects limit call tree nodes starting at offset(depth-first order). metadata is only resolved for the selected nodes.
+     */
+    SpanResult selectSpan(TransactionId transactionId, long selectedSpanHint, int offset, int limit);
 }
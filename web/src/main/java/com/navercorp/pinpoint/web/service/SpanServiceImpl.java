@@ -16,6 +16,8 @@
 
 package com.navercorp.pinpoint.web.service;
 
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
 import com.navercorp.pinpoint.common.server.bo.AnnotationBo;
 import com.navercorp.pinpoint.common.server.bo.ApiMetaDataBo;
 import com.navercorp.pinpoint.common.server.bo.MethodTypeEnum;
@@ -51,6 +53,7 @@ import org.springframework.beans.factory.annotation.Qualifier;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.TimeUnit;
 
 /**
  * @author emeroad
@@ -81,6 +84,12 @@ public class SpanServiceImpl implements SpanService {
     private final SqlParser sqlParser = new DefaultSqlParser();
     private final OutputParameterParser outputParameterParser = new OutputParameterParser();
 
+    // aligned call trees of the transactions being paged, so that the next page does not read and align all spans again
+    private final Cache<CallTreeKey, SpanResult> callTreeCache = CacheBuilder.newBuilder()
+            .maximumSize(64)
+            .expireAfterAccess(5, TimeUnit.MINUTES)
+            .build();
+
     public void setSqlMetaDataDao(SqlMetaDataDao sqlMetaDataDao) {
         this.sqlMetaDataDao = sqlMetaDataDao;
     }
@@ -98,15 +107,76 @@ public class SpanServiceImpl implements SpanService {
 
         final SpanResult result = order(spans, selectedSpanHint);
         final CallTreeIterator callTreeIterator = result.getCallTree();
-        final List<SpanAlign> values = callTreeIterator.values();
+        transition(callTreeIterator.values());
+        return result;
+    }
+
+    @Override
+    public SpanResult selectSpan(TransactionId transactionId, long selectedSpanHint, int offset, int limit) {
+        if (transactionId == null) {
+            throw new NullPointerException("transactionId must not be null");
+        }
+        if (offset < 0) {
+            throw new IllegalArgumentException("negative offset:" + offset);
+        }
+        if (limit <= 0) {
+            throw new IllegalArgumentException("limit must be positive:" + limit);
+        }
 
+        final CallTreeKey key = new CallTreeKey(transactionId, selectedSpanHint);
+        SpanResult result = callTreeCache.getIfPresent(key);
+        if (result == null) {
+            final List<SpanBo> spans = traceDao.selectSpan(transactionId);
+            if (CollectionUtils.isEmpty(spans)) {
+                return new SpanResult(SpanAligner.ERROR_MATCH, new CallTreeIterator(null));
+            }
+            result = order(spans, selectedSpanHint);
+            callTreeCache.put(key, result);
+        }
+
+        final CallTreeIterator callTreeIterator = result.getCallTree();
+        // metadata lookup is the expensive part of a huge call tree, so only the requested page is resolved.
+        // the page is a copy, the cached call tree is left as aligned.
+        final CallTreeIterator page = callTreeIterator.page(offset, limit);
+        transition(page.values());
+        return new SpanResult(result.getCompleteType(), page, callTreeIterator.size());
+    }
+
+    private static class CallTreeKey {
+        private final TransactionId transactionId;
+        private final long selectedSpanHint;
+
+        private CallTreeKey(TransactionId transactionId, long selectedSpanHint) {
+            this.transactionId = transactionId;
+            this.selectedSpanHint = selectedSpanHint;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (o == null || getClass() != o.getClass()) return false;
+
+            CallTreeKey that = (CallTreeKey) o;
+
+            if (selectedSpanHint != that.selectedSpanHint) return false;
+            return transactionId.equals(that.transactionId);
+        }
+
+        @Override
+        public int hashCode() {
+            int result = transactionId.hashCode();
+            result = 31 * result + (int) (selectedSpanHint ^ (selectedSpanHint >>> 32));
+            return result;
+        }
+    }
+
+    private void transition(List<SpanAlign> values) {
         transitionDynamicApiId(values);
         transitionSqlId(values);
         transitionMongoJson(values);
         transitionCachedString(values);
         transitionException(values);
         // TODO need to at least show the row data when root span is not found. 
-        return result;
     }
 
 
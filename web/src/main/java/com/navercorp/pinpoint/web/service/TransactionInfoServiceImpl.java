@@ -362,10 +362,14 @@ public class TransactionInfoServiceImpl implements TransactionInfoService {
 
                 final Record record = factory.get(node);
                 recordList.add(record);
+                // details of a repeated ancestor are on the page of the ancestor
+                if (record.isRepeatedAncestor()) {
+                    continue;
+                }
 
                 // add exception record.
                 if (align.hasException()) {
-                    final Record exceptionRecord = factory.getException(record.getTab() + 1, record.getId(), align);
+                    final Record exceptionRecord = factory.getException(record.getTab() + 1, align.getId(), align);
                     if(exceptionRecord != null) {
                         recordList.add(exceptionRecord);
                     }
@@ -373,13 +377,13 @@ public class TransactionInfoServiceImpl implements TransactionInfoService {
 
                 // add annotation record.
                 if (!align.getAnnotationBoList().isEmpty()) {
-                    final List<Record> annotations = factory.getAnnotations(record.getTab() + 1, record.getId(), align);
+                    final List<Record> annotations = factory.getAnnotations(record.getTab() + 1, align.getId(), align);
                     recordList.addAll(annotations);
                 }
 
                 // add remote record.(span only)
                 if (align.getRemoteAddr() != null) {
-                    final Record remoteAddressRecord = factory.getParameter(record.getTab() + 1, record.getId(), "REMOTE_ADDRESS", align.getRemoteAddr());
+                    final Record remoteAddressRecord = factory.getParameter(record.getTab() + 1, align.getId(), "REMOTE_ADDRESS", align.getRemoteAddr());
                     recordList.add(remoteAddressRecord);
                 }
             }
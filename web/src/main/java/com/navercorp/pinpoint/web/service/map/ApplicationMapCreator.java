@@ -19,6 +19,8 @@ package com.navercorp.pinpoint.web.service.map;
 import com.navercorp.pinpoint.web.applicationmap.rawdata.LinkDataDuplexMap;
 import com.navercorp.pinpoint.web.vo.Application;
 
+import java.util.List;
+
 /**
  * @author HyunGil Jeong
  */
@@ -26,4 +28,10 @@ public interface ApplicationMapCreator {
 
     LinkDataDuplexMap createMap(Application application, LinkSelectContext linkSelectContext);
 
+    /**
+     * Reads the link data of all applications of a depth at once, before {@link #createMap} is called for each of them.
+     */
+    default void prepare(List<Application> applications, LinkSelectContext linkSelectContext) {
+    }
+
 }
@@ -26,6 +26,9 @@ import com.navercorp.pinpoint.web.vo.Range;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.util.ArrayList;
+import java.util.List;
+
 /**
  * @author HyunGil Jeong
  */
@@ -54,6 +57,30 @@ public class DefaultApplicationMapCreator implements ApplicationMapCreator {
         this.calleeLinkDataMapProcessor = calleeLinkDataMapProcessor;
     }
 
+    @Override
+    public void prepare(List<Application> applications, LinkSelectContext linkSelectContext) {
+        final Range range = linkSelectContext.getRange();
+        final List<Application> callerApplications = new ArrayList<>();
+        final List<Application> calleeApplications = new ArrayList<>();
+        for (Application application : applications) {
+            if (linkSelectContext.isCallerSearchable(application)) {
+                callerApplications.add(application);
+            }
+            if (linkSelectContext.isCalleeSearchable(application)) {
+                calleeApplications.add(application);
+            }
+        }
+
+        if (callerApplications.size() > 1) {
+            logger.debug("Finding Caller link data for {} applications", callerApplications.size());
+            linkSelectContext.setCallerLinkDataMaps(linkDataMapService.selectCallerLinkDataMaps(callerApplications, range));
+        }
+        if (calleeApplications.size() > 1) {
+            logger.debug("Finding Callee link data for {} applications", calleeApplications.size());
+            linkSelectContext.setCalleeLinkDataMaps(linkDataMapService.selectCalleeLinkDataMaps(calleeApplications, range));
+        }
+    }
+
     @Override
     public LinkDataDuplexMap createMap(Application application, LinkSelectContext linkSelectContext) {
         logger.debug("Finding Caller/Callee link data for {}", application);
@@ -62,8 +89,11 @@ public class DefaultApplicationMapCreator implements ApplicationMapCreator {
 
         final boolean searchCallerNode = linkSelectContext.checkNextCaller(application);
         if (searchCallerNode) {
-            logger.debug("Finding Caller link data for {}", application);
-            final LinkDataMap callerLinkDataMap = linkDataMapService.selectCallerLinkDataMap(application, range);
+            LinkDataMap callerLinkDataMap = linkSelectContext.getCallerLinkDataMap(application);
+            if (callerLinkDataMap == null) {
+                logger.debug("Finding Caller link data for {}", application);
+                callerLinkDataMap = linkDataMapService.selectCallerLinkDataMap(application, range);
+            }
             logger.debug("Found Caller. count={}, caller={}, depth={}", callerLinkDataMap.size(), application, linkSelectContext.getCallerDepth());
 
             final LinkDataMap processedCallerLinkDataMap = callerLinkDataMapProcessor.processLinkDataMap(callerLinkDataMap, range);
@@ -80,8 +110,11 @@ public class DefaultApplicationMapCreator implements ApplicationMapCreator {
 
         final boolean searchCalleeNode = linkSelectContext.checkNextCallee(application);
         if (searchCalleeNode) {
-            logger.debug("Finding Callee link data for {}", application);
-            final LinkDataMap calleeLinkDataMap = linkDataMapService.selectCalleeLinkDataMap(application, range);
+            LinkDataMap calleeLinkDataMap = linkSelectContext.getCalleeLinkDataMap(application);
+            if (calleeLinkDataMap == null) {
+                logger.debug("Finding Callee link data for {}", application);
+                calleeLinkDataMap = linkDataMapService.selectCalleeLinkDataMap(application, range);
+            }
             logger.debug("Found Callee. count={}, callee={}, depth={}", calleeLinkDataMap.size(), application, linkSelectContext.getCalleeDepth());
 
             final LinkDataMap processedCalleeLinkDataMap = calleeLinkDataMapProcessor.processLinkDataMap(calleeLinkDataMap, range);
@@ -70,6 +70,9 @@ public class DefaultApplicationsMapCreator implements ApplicationsMapCreator {
     }
 
     private LinkDataDuplexMap createParallel(List<Application> applications, LinkSelectContext linkSelectContext) {
+        // scan the applications of this depth together instead of one by one
+        applicationMapCreator.prepare(applications, linkSelectContext);
+
         final Set<LinkDataDuplexMap> searchResults = Sets.newConcurrentHashSet();
         CompletableFuture[] futures = getLinkDataMapFutures(searchResults, applications, linkSelectContext);
         CompletableFuture.allOf(futures).join();
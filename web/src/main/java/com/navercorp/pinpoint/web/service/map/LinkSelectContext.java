@@ -17,6 +17,7 @@
 package com.navercorp.pinpoint.web.service.map;
 
 import com.google.common.collect.Sets;
+import com.navercorp.pinpoint.web.applicationmap.rawdata.LinkDataMap;
 import com.navercorp.pinpoint.web.service.SearchDepth;
 import com.navercorp.pinpoint.web.vo.Application;
 import com.navercorp.pinpoint.web.vo.Range;
@@ -24,7 +25,9 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 
 /**
@@ -41,6 +44,9 @@ public class LinkSelectContext {
 
     private final Set<Application> nextApplications = Sets.newConcurrentHashSet();
 
+    private volatile Map<Application, LinkDataMap> callerLinkDataMaps = Collections.emptyMap();
+    private volatile Map<Application, LinkDataMap> calleeLinkDataMaps = Collections.emptyMap();
+
     public LinkSelectContext(Range range, SearchDepth callerDepth, SearchDepth calleeDepth, LinkVisitChecker linkVisitChecker) {
         if (range == null) {
             throw new NullPointerException("range must not be null");
@@ -96,6 +102,48 @@ public class LinkSelectContext {
         return true;
     }
 
+    /**
+     * Same as {@link #checkNextCaller(Application)} without marking the application as visited
+     */
+    public boolean isCallerSearchable(Application application) {
+        return !callerDepth.isDepthOverflow() && !linkVisitChecker.isVisitedCaller(application);
+    }
+
+    /**
+     * Same as {@link #checkNextCallee(Application)} without marking the application as visited
+     */
+    public boolean isCalleeSearchable(Application application) {
+        return !calleeDepth.isDepthOverflow() && !linkVisitChecker.isVisitedCallee(application);
+    }
+
+    public void setCallerLinkDataMaps(Map<Application, LinkDataMap> callerLinkDataMaps) {
+        if (callerLinkDataMaps == null) {
+            throw new NullPointerException("callerLinkDataMaps must not be null");
+        }
+        this.callerLinkDataMaps = callerLinkDataMaps;
+    }
+
+    /**
+     * @return caller link data read ahead for this depth, null if not read
+     */
+    public LinkDataMap getCallerLinkDataMap(Application application) {
+        return callerLinkDataMaps.get(application);
+    }
+
+    public void setCalleeLinkDataMaps(Map<Application, LinkDataMap> calleeLinkDataMaps) {
+        if (calleeLinkDataMaps == null) {
+            throw new NullPointerException("calleeLinkDataMaps must not be null");
+        }
+        this.calleeLinkDataMaps = calleeLinkDataMaps;
+    }
+
+    /**
+     * @return callee link data read ahead for this depth, null if not read
+     */
+    public LinkDataMap getCalleeLinkDataMap(Application application) {
+        return calleeLinkDataMaps.get(application);
+    }
+
     public List<Application> getNextApplications() {
         List<Application> nextApplications = new ArrayList<>(this.nextApplications);
         return nextApplications;
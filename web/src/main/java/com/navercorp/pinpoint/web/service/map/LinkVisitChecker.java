@@ -46,6 +46,10 @@ public class LinkVisitChecker {
         return visit(calleeFound, callee, "Callee");
     }
 
+    public boolean isVisitedCallee(Application callee) {
+        return calleeFound.contains(callee);
+    }
+
     private boolean visit(Set<Application> visitedSet, Application application, String type) {
         if (application == null) {
             throw new NullPointerException("application must not be null");
@@ -0,0 +1,138 @@
+/*
+ * Copyright 2018 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.pinpoint.web.service.stat;
+
+import com.navercorp.pinpoint.common.server.bo.SqlMetaDataBo;
+import com.navercorp.pinpoint.common.server.bo.stat.SqlStatBo;
+import com.navercorp.pinpoint.common.server.bo.stat.SqlStatListBo;
+import com.navercorp.pinpoint.web.dao.SqlMetaDataDao;
+import com.navercorp.pinpoint.web.dao.stat.SqlStatDao;
+import com.navercorp.pinpoint.web.vo.Range;
+import com.navercorp.pinpoint.web.vo.stat.SqlStatSummary;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+@Service
+public class SqlStatService implements AgentStatService<SqlStatListBo> {
+
+    private static final Comparator<SqlStatSummary> TOTAL_TIME_DESC = Comparator.comparingLong(SqlStatSummary::getTotalTime).reversed();
+
+    private final SqlStatDao sqlStatDao;
+
+    private final SqlMetaDataDao sqlMetaDataDao;
+
+    @Autowired
+    public SqlStatService(@Qualifier("sqlStatDaoFactory") SqlStatDao sqlStatDao, SqlMetaDataDao sqlMetaDataDao) {
+        this.sqlStatDao = Objects.requireNonNull(sqlStatDao, "sqlStatDao must not be null");
+        this.sqlMetaDataDao = Objects.requireNonNull(sqlMetaDataDao, "sqlMetaDataDao must not be null");
+    }
+
+    @Override
+    public List<SqlStatListBo> selectAgentStatList(String agentId, Range range) {
+        if (agentId == null) {
+            throw new NullPointerException("agentId must not be null");
+        }
+        if (range == null) {
+            throw new NullPointerException("range must not be null");
+        }
+        return this.sqlStatDao.getAgentStatList(agentId, range);
+    }
+
+    /**
+     * Sums up the sql statistics of the given range, and returns the sqls with the largest total time first.
+     */
+    public List<SqlStatSummary> selectTopSqlStatList(String agentId, Range range, int limit) {
+        if (limit <= 0) {
+            throw new IllegalArgumentException("limit must be greater than 0");
+        }
+        final List<SqlStatListBo> sqlStatListBos = selectAgentStatList(agentId, range);
+
+        // sqlId is only unique within an agent's lifecycle
+        final Map<SummaryKey, SqlStatSummary> summaryMap = new HashMap<>();
+        for (SqlStatListBo sqlStatListBo : sqlStatListBos) {
+            for (SqlStatBo sqlStatBo : sqlStatListBo.getList()) {
+                final SummaryKey key = new SummaryKey(sqlStatBo);
+                final SqlStatSummary summary = summaryMap.computeIfAbsent(key, k -> new SqlStatSummary(k.agentStartTimestamp, k.databaseName, k.url, k.sqlId));
+                summary.add(sqlStatBo);
+            }
+        }
+
+        final List<SqlStatSummary> summaryList = new ArrayList<>(summaryMap.values());
+        summaryList.sort(TOTAL_TIME_DESC);
+        final List<SqlStatSummary> topSummaryList = new ArrayList<>(summaryList.subList(0, Math.min(limit, summaryList.size())));
+        for (SqlStatSummary summary : topSummaryList) {
+            summary.setSql(getSql(agentId, summary));
+        }
+        return topSummaryList;
+    }
+
+    private String getSql(String agentId, SqlStatSummary summary) {
+        final List<SqlMetaDataBo> sqlMetaDataList = sqlMetaDataDao.getSqlMetaData(agentId, summary.getAgentStartTimestamp(), summary.getSqlId());
+        if (sqlMetaDataList.size() == 1) {
+            return sqlMetaDataList.get(0).getSql();
+        }
+        if (sqlMetaDataList.isEmpty()) {
+            return "SQL-ID not found sqlId:" + summary.getSqlId();
+        }
+        return "collision sqlId:" + summary.getSqlId();
+    }
+
+    private static class SummaryKey {
+        private final long agentStartTimestamp;
+        private final String databaseName;
+        private final String url;
+        private final int sqlId;
+
+        private SummaryKey(SqlStatBo sqlStatBo) {
+            this.agentStartTimestamp = sqlStatBo.getStartTimestamp();
+            this.databaseName = sqlStatBo.getDatabaseName();
+            this.url = sqlStatBo.getUrl();
+            this.sqlId = sqlStatBo.getSqlId();
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (o == null || getClass() != o.getClass()) return false;
+
+            SummaryKey that = (SummaryKey) o;
+
+            if (agentStartTimestamp != that.agentStartTimestamp) return false;
+            if (sqlId != that.sqlId) return false;
+            if (databaseName != null ? !databaseName.equals(that.databaseName) : that.databaseName != null) return false;
+            return url != null ? url.equals(that.url) : that.url == null;
+        }
+
+        @Override
+        public int hashCode() {
+            int result = (int) (agentStartTimestamp ^ (agentStartTimestamp >>> 32));
+            result = 31 * result + (databaseName != null ? databaseName.hashCode() : 0);
+            result = 31 * result + (url != null ? url.hashCode() : 0);
+            result = 31 * result + sqlId;
+            return result;
+        }
+    }
+
+}
@@ -0,0 +1,135 @@
+/*
+ * Copyright 2018 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.navercorp.pinpoint.web.view;
+
+import com.navercorp.pinpoint.common.buffer.AutomaticBuffer;
+import com.navercorp.pinpoint.common.buffer.Buffer;
+import com.navercorp.pinpoint.web.scatter.DotGroup;
+import com.navercorp.pinpoint.web.scatter.DotGroups;
+import com.navercorp.pinpoint.web.scatter.ScatterAgentMetaData;
+import com.navercorp.pinpoint.web.scatter.ScatterData;
+import com.navercorp.pinpoint.web.vo.scatter.Dot;
+import com.navercorp.pinpoint.web.vo.scatter.DotAgentInfo;
+
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Columnar binary form of {@link ScatterDataSerializer}.
+ * <pre>
+ * version(byte)
+ * currentServerTime, from, to, resultFrom, resultTo(svlong) complete(boolean)
+ * agentCount(vint) {id(vint) agentId(string) transactionAgentId(string) transactionAgentStartTime(vlong)}
+ * dotCount(vint)
+ * acceptedTime column : delta from the previous dot(svlong)
+ * elapsedTime column : svint
+ * agent id column : vint, 0 if the agent is unknown
+ * transaction sequence column : svlong
+ * exception code column : svint
+ * thick column : vint
+ * transaction id of each dot of an unknown agent(string)
+ * </pre>
+ * Dots are in the same order as the json.
+ */
+public class ScatterDataBinaryEncoder {
+
+    public static final byte VERSION = 1;
+
+    private static final int UNKNOWN_AGENT_ID = -1;
+
+    public byte[] encode(ScatterData scatterData, long currentServerTime, long from, long to, boolean complete) {
+        if (scatterData == null) {
+            throw new NullPointerException("scatterData must not be null");
+        }
+        final ScatterAgentMetaData metaData = scatterData.getScatterAgentMetadata();
+
+        final int dotSize = scatterData.getDotSize();
+        final Dot[] dots = new Dot[dotSize];
+        final int[] thicks = new int[dotSize];
+        int index = 0;
+        for (DotGroups dotGroups : scatterData.getSortedScatterDataMap().values()) {
+            final Map<Dot, DotGroup> dotGroupLeaders = dotGroups.getDotGroupLeaders();
+            for (Dot dot : dotGroups.getSortedDotSet()) {
+                final DotGroup dotGroup = dotGroupLeaders.get(dot);
+                dots[index] = dot;
+                thicks[index] = dotGroup == null ? 0 : dotGroup.getDotSize();
+                index++;
+            }
+        }
+
+        final Buffer buffer = new AutomaticBuffer(64 + dotSize * 12);
+        buffer.putByte(VERSION);
+        buffer.putSVLong(currentServerTime);
+        buffer.putSVLong(from);
+        buffer.putSVLong(to);
+        buffer.putSVLong(scatterData.getOldestAcceptedTime());
+        buffer.putSVLong(scatterData.getLatestAcceptedTime());
+        buffer.putBoolean(complete);
+
+        writeAgentMetaData(buffer, metaData);
+        writeDots(buffer, dots, thicks, metaData);
+        return buffer.getBuffer();
+    }
+
+    private void writeAgentMetaData(Buffer buffer, ScatterAgentMetaData metaData) {
+        final Set<Map.Entry<Integer, DotAgentInfo>> entries = metaData.entrySet();
+        buffer.putVInt(entries.size());
+        for (Map.Entry<Integer, DotAgentInfo> entry : entries) {
+            final DotAgentInfo agentInfo = entry.getValue();
+            buffer.putVInt(entry.getKey());
+            buffer.putPrefixedString(agentInfo.getAgentId());
+            buffer.putPrefixedString(agentInfo.getTransactionAgentId());
+            buffer.putVLong(agentInfo.getTransactionAgentStartTime());
+        }
+    }
+
+    private void writeDots(Buffer buffer, Dot[] dots, int[] thicks, ScatterAgentMetaData metaData) {
+        buffer.putVInt(dots.length);
+
+        final int[] agentIds = new int[dots.length];
+        long prevAcceptedTime = 0;
+        for (int i = 0; i < dots.length; i++) {
+            final long acceptedTime = dots[i].getAcceptedTime();
+            buffer.putSVLong(acceptedTime - prevAcceptedTime);
+            prevAcceptedTime = acceptedTime;
+        }
+        for (Dot dot : dots) {
+            buffer.putSVInt(dot.getElapsedTime());
+        }
+        for (int i = 0; i < dots.length; i++) {
+            final int agentId = metaData.getId(dots[i]);
+            agentIds[i] = agentId;
+            buffer.putVInt(agentId == UNKNOWN_AGENT_ID ? 0 : agentId);
+        }
+        for (int i = 0; i < dots.length; i++) {
+            final long transactionSequence = agentIds[i] == UNKNOWN_AGENT_ID ? 0 : dots[i].getTransactionId().getTransactionSequence();
+            buffer.putSVLong(transactionSequence);
+        }
+        for (Dot dot : dots) {
+            buffer.putSVInt(dot.getSimpleExceptionCode());
+        }
+        for (int thick : thicks) {
+            buffer.putVInt(thick);
+        }
+        for (int i = 0; i < dots.length; i++) {
+            if (agentIds[i] == UNKNOWN_AGENT_ID) {
+                buffer.putPrefixedString(dots[i].getTransactionIdAsString());
+            }
+        }
+    }
+}
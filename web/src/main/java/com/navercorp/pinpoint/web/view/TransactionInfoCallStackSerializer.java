@@ -54,6 +54,7 @@ public class TransactionInfoCallStackSerializer extends JsonSerializer<Transacti
         jgen.writeBoolean(value.isFocused());
         jgen.writeBoolean(value.isHasException());
         jgen.writeBoolean(value.isAuthorized());
+        jgen.writeBoolean(value.isRepeatedAncestor());
         jgen.writeEndArray();
     }
 }
@@ -49,6 +49,8 @@ public class TransactionInfoViewModel {
     private String logButtonName;
     private String logPageUrl;
     private String disableButtonMessage;
+    private int callStackOffset = 0;
+    private int callStackSize = -1;
 
     public TransactionInfoViewModel(TransactionId transactionId, Collection<Node> nodes, Collection<Link> links, RecordSet recordSet, String completeState, boolean logLinkEnable, String logButtonName, String logPageUrl, String disableButtonMessage) {
         this.transactionId = transactionId;
@@ -62,6 +64,11 @@ public class TransactionInfoViewModel {
         this.disableButtonMessage = disableButtonMessage;
     }
 
+    public void setCallStackPage(int callStackOffset, int callStackSize) {
+        this.callStackOffset = callStackOffset;
+        this.callStackSize = callStackSize;
+    }
+
     @JsonProperty("applicationName")
     public String getApplicationName() {
         return recordSet.getApplicationName();
@@ -129,6 +136,23 @@ public class TransactionInfoViewModel {
         return disableButtonMessage;
     }
 
+    /**
+     * depth-first index of the first call tree node of the page that is not a repeated ancestor.
+     * the rows of the repeated ancestors come before it and are flagged with isRepeatedAncestor.
+     */
+    @JsonProperty("callStackOffset")
+    public int getCallStackOffset() {
+        return callStackOffset;
+    }
+
+    /**
+     * number of call tree nodes of the whole transaction when paged, -1 otherwise
+     */
+    @JsonProperty("callStackSize")
+    public int getCallStackSize() {
+        return callStackSize;
+    }
+
     @JsonProperty("callStackIndex")
     public Map<String, Integer> getCallStackIndex() {
         final Map<String, Integer> index = new HashMap<String, Integer>();
@@ -204,7 +228,8 @@ public class TransactionInfoViewModel {
                 "agent",
                 "isFocused",
                 "hasException",
-                "isAuthorized"
+                "isAuthorized",
+                "isRepeatedAncestor"
         };
 
         private String depth = "";
@@ -231,6 +256,7 @@ public class TransactionInfoViewModel {
         private boolean isFocused;
         private boolean hasException;
         private boolean isAuthorized;
+        private boolean isRepeatedAncestor;
 
         public CallStack(final Record record, long barRatio) {
             begin = record.getBegin();
@@ -261,6 +287,7 @@ public class TransactionInfoViewModel {
             isFocused = record.isFocused();
             hasException = record.getHasException();
             isAuthorized = record.isAuthorized();
+            isRepeatedAncestor = record.isRepeatedAncestor();
         }
 
         public String getDepth() {
@@ -358,5 +385,9 @@ public class TransactionInfoViewModel {
         public boolean isAuthorized() {
             return isAuthorized;
         }
+
+        public boolean isRepeatedAncestor() {
+            return isRepeatedAncestor;
+        }
     }
 }
\ No newline at end of file
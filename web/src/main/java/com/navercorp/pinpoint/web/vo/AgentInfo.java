@@ -74,6 +74,26 @@ public class AgentInfo {
         this.container = agentInfoBo.isContainer();
     }
 
+    /**
+     * Copies everything but the status, which is populated per query
+     */
+    public AgentInfo(AgentInfo agentInfo) {
+        this.applicationName = agentInfo.applicationName;
+        this.agentId = agentInfo.agentId;
+        this.startTimestamp = agentInfo.startTimestamp;
+        this.hostName = agentInfo.hostName;
+        this.ip = agentInfo.ip;
+        this.ports = agentInfo.ports;
+        this.serviceTypeCode = agentInfo.serviceTypeCode;
+        this.pid = agentInfo.pid;
+        this.vmVersion = agentInfo.vmVersion;
+        this.agentVersion = agentInfo.agentVersion;
+        this.serverMetaData = agentInfo.serverMetaData;
+        this.jvmInfo = agentInfo.jvmInfo;
+        this.initialStartTimestamp = agentInfo.initialStartTimestamp;
+        this.container = agentInfo.container;
+    }
+
     public String getApplicationName() {
         return applicationName;
     }
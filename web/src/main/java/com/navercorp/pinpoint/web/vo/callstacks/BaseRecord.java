@@ -24,8 +24,8 @@ import com.navercorp.pinpoint.common.trace.ServiceType;
  */
 public abstract class BaseRecord implements Record{
     protected int tab;
-    protected int id;
-    protected int parentId;
+    protected long id;
+    protected long parentId;
     protected boolean method;
     protected String title;
     protected String arguments;
@@ -46,14 +46,15 @@ public abstract class BaseRecord implements Record{
 
     protected boolean excludeFromTimeline;
     protected boolean focused;
+    protected boolean repeatedAncestor;
     protected String simpleClassName = "";
     protected String fullApiDescription = "";
 
-    public int getId() {
+    public long getId() {
         return id;
     }
 
-    public int getParentId() {
+    public long getParentId() {
         return parentId;
     }
 
@@ -147,6 +148,14 @@ public abstract class BaseRecord implements Record{
         this.focused = focused;
     }
 
+    public boolean isRepeatedAncestor() {
+        return repeatedAncestor;
+    }
+
+    public void setRepeatedAncestor(boolean repeatedAncestor) {
+        this.repeatedAncestor = repeatedAncestor;
+    }
+
     public boolean getHasChild() {
         return hasChild;
     }
@@ -24,7 +24,7 @@ import org.apache.commons.lang3.StringUtils;
  */
 public class ExceptionRecord extends BaseRecord {
 
-    public ExceptionRecord(final int tab, final int id, final int parentId, final SpanAlign align) {
+    public ExceptionRecord(final int tab, final long id, final long parentId, final SpanAlign align) {
         this.tab = tab;
         this.id = id;
         this.parentId = parentId;
@@ -23,7 +23,7 @@ import org.apache.commons.lang3.StringUtils;
  */
 public class ParameterRecord extends BaseRecord {
 
-    public ParameterRecord(final int tab, final int id, final int parentId, String method, String argument) {
+    public ParameterRecord(final int tab, final long id, final long parentId, String method, String argument) {
         this.tab = tab;
         this.id = id;
         this.parentId = parentId;
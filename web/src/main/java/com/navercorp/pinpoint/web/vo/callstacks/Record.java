@@ -27,9 +27,9 @@ import com.navercorp.pinpoint.common.server.bo.MethodTypeEnum;
  * @author minwoo.jung
  */
 public interface Record {
-    int getId();
+    long getId();
 
-    int getParentId();
+    long getParentId();
 
     int getTab();
 
@@ -65,6 +65,14 @@ public interface Record {
 
     boolean isFocused();
 
+    /**
+     * true when the record repeats an ancestor of the first node of a call stack page.
+     * such records are already part of a previous page and only give the page its context.
+     */
+    boolean isRepeatedAncestor();
+
+    void setRepeatedAncestor(boolean repeatedAncestor);
+
     void setFocused(boolean focused);
 
     boolean getHasChild();
@@ -45,6 +45,10 @@ public class RecordFactory {
 
     // spans with id = 0 are regarded as root - start at 1
     private int idGen = 1;
+    // nodes numbered by CallTreeIterator.page() - exception, annotation and parameter records are numbered per node
+    private boolean pageIds;
+    private int extraParentId;
+    private int extraSeq;
     private AnnotationKeyMatcherService annotationKeyMatcherService;
     private ServiceTypeRegistryService registry;
     private AnnotationKeyRegistryService annotationKeyRegistryService;
@@ -60,7 +64,7 @@ public class RecordFactory {
 
     public Record get(final CallTreeNode node) {
         final SpanAlign align = node.getValue();
-        align.setId(getNextId());
+        assignId(align);
 
         final int parentId = getParentId(node);
         Api api = getApi(align);
@@ -87,6 +91,7 @@ public class RecordFactory {
                 true);
         record.setSimpleClassName(api.getClassName());
         record.setFullApiDescription(api.getDescription());
+        record.setRepeatedAncestor(align.isRepeatedAncestor());
 
         return record;
     }
@@ -140,7 +145,7 @@ public class RecordFactory {
 
     public Record getFilteredRecord(final CallTreeNode node, String apiTitle) {
         final SpanAlign align = node.getValue();
-        align.setId(getNextId());
+        assignId(align);
 
         final int parentId = getParentId(node);
 //        Api api = getApi(align);
@@ -165,6 +170,7 @@ public class RecordFactory {
                 align.getExecutionMilliseconds(),
                 MethodTypeEnum.DEFAULT,
                 false);
+        record.setRepeatedAncestor(align.isRepeatedAncestor());
 
         return record;
     }
@@ -173,7 +179,7 @@ public class RecordFactory {
         if (!align.hasException()) {
             return null;
         }
-        return new ExceptionRecord(depth, getNextId(), parentId, align);
+        return new ExceptionRecord(depth, getNextExtraId(parentId), parentId, align);
     }
 
     public List<Record> getAnnotations(final int depth, final int parentId, SpanAlign align) {
@@ -183,7 +189,7 @@ public class RecordFactory {
             if (key.isViewInRecordSet()) {
                 final String title = this.annotationRecordFormatter.formatTitle(key, annotation, align);
                 final String arguments = this.annotationRecordFormatter.formatArguments(key, annotation, align);
-                final Record record = new AnnotationRecord(depth, getNextId(), parentId, title, arguments, annotation.isAuthorized());
+                final Record record = new AnnotationRecord(depth, getNextExtraId(parentId), parentId, title, arguments, annotation.isAuthorized());
                 list.add(record);
             }
         }
@@ -192,7 +198,7 @@ public class RecordFactory {
     }
 
     public Record getParameter(final int depth, final int parentId, final String method, final String argument) {
-        return new ParameterRecord(depth, getNextId(), parentId, method, argument);
+        return new ParameterRecord(depth, getNextExtraId(parentId), parentId, method, argument);
     }
 
     int getParentId(final CallTreeNode node) {
@@ -262,10 +268,35 @@ public class RecordFactory {
         return annotationKeyRegistryService.findAnnotationKey(key);
     }
 
+    private void assignId(final SpanAlign align) {
+        // already numbered by CallTreeIterator.page()
+        if (align.getId() > 0) {
+            pageIds = true;
+            return;
+        }
+        align.setId(getNextId());
+    }
+
     private int getNextId() {
         return idGen++;
     }
 
+    /**
+     * On a call stack page, the node id in the upper 32 bits, so that the id is the same on every page and never collides with node ids.
+     * Otherwise records are numbered in order with the nodes.
+     */
+    private long getNextExtraId(final int parentId) {
+        if (!pageIds) {
+            return getNextId();
+        }
+        if (parentId != extraParentId) {
+            extraParentId = parentId;
+            extraSeq = 0;
+        }
+        extraSeq++;
+        return ((long) parentId << 32) | extraSeq;
+    }
+
     private static class Api {
         private String title = "";
         private String className = "";
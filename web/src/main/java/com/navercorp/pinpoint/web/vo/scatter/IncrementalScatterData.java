@@ -0,0 +1,53 @@
+/*
+ * Copyright 2018 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.navercorp.pinpoint.web.vo.scatter;
+
+import com.navercorp.pinpoint.web.scatter.ScatterData;
+
+import java.util.Objects;
+
+/**
+ * dots accepted between the previous and the new position of a {@link ScatterCursor}.
+ */
+public class IncrementalScatterData {
+
+    private final ScatterCursor cursor;
+    private final ScatterData scatterData;
+    private final boolean complete;
+
+    public IncrementalScatterData(ScatterCursor cursor, ScatterData scatterData, boolean complete) {
+        this.cursor = Objects.requireNonNull(cursor, "cursor must not be null");
+        this.scatterData = Objects.requireNonNull(scatterData, "scatterData must not be null");
+        this.complete = complete;
+    }
+
+    public ScatterCursor getCursor() {
+        return cursor;
+    }
+
+    public ScatterData getScatterData() {
+        return scatterData;
+    }
+
+    /**
+     * @return false if the scan was limited and the next poll resumes from the cursor before the requested time
+     */
+    public boolean isComplete() {
+        return complete;
+    }
+}
@@ -0,0 +1,81 @@
+/*
+ * Copyright 2018 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.navercorp.pinpoint.web.vo.scatter;
+
+import java.util.Objects;
+
+/**
+ * scan position of a scatter chart which polls the same application repeatedly.
+ */
+public class ScatterCursor {
+
+    private final String id;
+    private final String applicationName;
+    private final int xGroupUnit;
+    private final int yGroupUnit;
+    // accepted time of the first dot not returned yet
+    private final long position;
+
+    public ScatterCursor(String id, String applicationName, int xGroupUnit, int yGroupUnit, long position) {
+        this.id = Objects.requireNonNull(id, "id must not be null");
+        this.applicationName = Objects.requireNonNull(applicationName, "applicationName must not be null");
+        this.xGroupUnit = xGroupUnit;
+        this.yGroupUnit = yGroupUnit;
+        this.position = position;
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    public String getApplicationName() {
+        return applicationName;
+    }
+
+    public int getXGroupUnit() {
+        return xGroupUnit;
+    }
+
+    public int getYGroupUnit() {
+        return yGroupUnit;
+    }
+
+    public long getPosition() {
+        return position;
+    }
+
+    public boolean isSameQuery(String applicationName, int xGroupUnit, int yGroupUnit) {
+        return this.applicationName.equals(applicationName) && this.xGroupUnit == xGroupUnit && this.yGroupUnit == yGroupUnit;
+    }
+
+    public ScatterCursor moveTo(long position) {
+        return new ScatterCursor(id, applicationName, xGroupUnit, yGroupUnit, position);
+    }
+
+    @Override
+    public String toString() {
+        final StringBuilder sb = new StringBuilder("ScatterCursor{");
+        sb.append("id='").append(id).append('\'');
+        sb.append(", applicationName='").append(applicationName).append('\'');
+        sb.append(", xGroupUnit=").append(xGroupUnit);
+        sb.append(", yGroupUnit=").append(yGroupUnit);
+        sb.append(", position=").append(position);
+        sb.append('}');
+        return sb.toString();
+    }
+}
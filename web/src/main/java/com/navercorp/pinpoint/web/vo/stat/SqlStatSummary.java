@@ -0,0 +1,142 @@
+/*
+ * Copyright 2018 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.pinpoint.web.vo.stat;
+
+import com.navercorp.pinpoint.common.server.bo.stat.SqlStatBo;
+
+/**
+ * Execution statistics of a sql statement summed over a time range.
+ */
+public class SqlStatSummary {
+
+    private final long agentStartTimestamp;
+    private final String databaseName;
+    private final String url;
+    private final int sqlId;
+    private String sql;
+
+    private int count;
+    private int errorCount;
+    private long totalTime;
+    private int maxTime;
+
+    private int fastCount;
+    private int normalCount;
+    private int slowCount;
+    private int verySlowCount;
+
+    public SqlStatSummary(long agentStartTimestamp, String databaseName, String url, int sqlId) {
+        this.agentStartTimestamp = agentStartTimestamp;
+        this.databaseName = databaseName;
+        this.url = url;
+        this.sqlId = sqlId;
+    }
+
+    public void add(SqlStatBo sqlStatBo) {
+        this.count += sqlStatBo.getCount();
+        this.errorCount += sqlStatBo.getErrorCount();
+        this.totalTime += sqlStatBo.getTotalTime();
+        this.maxTime = Math.max(this.maxTime, sqlStatBo.getMaxTime());
+        this.fastCount += sqlStatBo.getFastCount();
+        this.normalCount += sqlStatBo.getNormalCount();
+        this.slowCount += sqlStatBo.getSlowCount();
+        this.verySlowCount += sqlStatBo.getVerySlowCount();
+    }
+
+    public long getAgentStartTimestamp() {
+        return agentStartTimestamp;
+    }
+
+    public String getDatabaseName() {
+        return databaseName;
+    }
+
+    public String getUrl() {
+        return url;
+    }
+
+    public int getSqlId() {
+        return sqlId;
+    }
+
+    public String getSql() {
+        return sql;
+    }
+
+    public void setSql(String sql) {
+        this.sql = sql;
+    }
+
+    public int getCount() {
+        return count;
+    }
+
+    public int getErrorCount() {
+        return errorCount;
+    }
+
+    public long getTotalTime() {
+        return totalTime;
+    }
+
+    public long getAvgTime() {
+        if (count == 0) {
+            return 0;
+        }
+        return totalTime / count;
+    }
+
+    public int getMaxTime() {
+        return maxTime;
+    }
+
+    public int getFastCount() {
+        return fastCount;
+    }
+
+    public int getNormalCount() {
+        return normalCount;
+    }
+
+    public int getSlowCount() {
+        return slowCount;
+    }
+
+    public int getVerySlowCount() {
+        return verySlowCount;
+    }
+
+    @Override
+    public String toString() {
+        final StringBuilder sb = new StringBuilder("SqlStatSummary{");
+        sb.append("agentStartTimestamp=").append(agentStartTimestamp);
+        sb.append(", databaseName='").append(databaseName).append('\'');
+        sb.append(", url='").append(url).append('\'');
+        sb.append(", sqlId=").append(sqlId);
+        sb.append(", sql='").append(sql).append('\'');
+        sb.append(", count=").append(count);
+        sb.append(", errorCount=").append(errorCount);
+        sb.append(", totalTime=").append(totalTime);
+        sb.append(", maxTime=").append(maxTime);
+        sb.append(", fastCount=").append(fastCount);
+        sb.append(", normalCount=").append(normalCount);
+        sb.append(", slowCount=").append(slowCount);
+        sb.append(", verySlowCount=").append(verySlowCount);
+        sb.append('}');
+        return sb.toString();
+    }
+}
@@ -0,0 +1,110 @@
+// Decodes the response of getScatterDataBinary.pinpoint (see ScatterDataBinaryEncoder.java) into IScatterData.
+const VERSION = 1;
+
+class BinaryReader {
+    private offset = 0;
+    private bytes: Uint8Array;
+    private textDecoder = new TextDecoder('utf-8');
+    constructor(buffer: ArrayBuffer) {
+        this.bytes = new Uint8Array(buffer);
+    }
+    readByte(): number {
+        return this.bytes[this.offset++];
+    }
+    readBoolean(): boolean {
+        return this.readByte() === 1;
+    }
+    readVLong(): number {
+        // 64bit values are accumulated with arithmetic instead of bitwise operators, which are 32bit only.
+        let value = 0;
+        let multiplier = 1;
+        let b: number;
+        do {
+            b = this.readByte();
+            value += (b & 0x7f) * multiplier;
+            multiplier *= 128;
+        } while (b & 0x80);
+        return value;
+    }
+    readSVLong(): number {
+        const value = this.readVLong();
+        return value % 2 === 0 ? value / 2 : -(value + 1) / 2;
+    }
+    readVInt(): number {
+        return this.readVLong();
+    }
+    readSVInt(): number {
+        return this.readSVLong();
+    }
+    readPrefixedString(): string {
+        const length = this.readSVInt();
+        if (length === -1) {
+            return null;
+        }
+        const value = this.textDecoder.decode(this.bytes.subarray(this.offset, this.offset + length));
+        this.offset += length;
+        return value;
+    }
+}
+
+export function decodeScatterData(buffer: ArrayBuffer): IScatterData {
+    const reader = new BinaryReader(buffer);
+    const version = reader.readByte();
+    if (version !== VERSION) {
+        throw new Error(`unsupported scatter data version:${version}`);
+    }
+    const currentServerTime = reader.readSVLong();
+    const from = reader.readSVLong();
+    const to = reader.readSVLong();
+    const resultFrom = reader.readSVLong();
+    const resultTo = reader.readSVLong();
+    const complete = reader.readBoolean();
+
+    const metadata: { [key: number]: any[] } = {};
+    const agentCount = reader.readVInt();
+    for (let i = 0; i < agentCount; i++) {
+        const id = reader.readVInt();
+        metadata[id] = [reader.readPrefixedString(), reader.readPrefixedString(), reader.readVLong()];
+    }
+
+    const dotCount = reader.readVInt();
+    const dotList: any[][] = new Array(dotCount);
+    let acceptedTime = 0;
+    for (let i = 0; i < dotCount; i++) {
+        acceptedTime += reader.readSVLong();
+        dotList[i] = [acceptedTime];
+    }
+    for (let i = 0; i < dotCount; i++) {
+        dotList[i].push(reader.readSVInt());
+    }
+    for (let i = 0; i < dotCount; i++) {
+        const agentIndex = reader.readVInt();
+        dotList[i].push(agentIndex === 0 ? -1 : agentIndex);
+    }
+    for (let i = 0; i < dotCount; i++) {
+        dotList[i].push(reader.readSVLong());
+    }
+    for (let i = 0; i < dotCount; i++) {
+        dotList[i].push(reader.readSVInt());
+    }
+    for (let i = 0; i < dotCount; i++) {
+        dotList[i].push(reader.readVInt());
+    }
+    for (let i = 0; i < dotCount; i++) {
+        if (dotList[i][2] === -1) {
+            dotList[i][3] = reader.readPrefixedString();
+        }
+    }
+    return {
+        currentServerTime,
+        from,
+        to,
+        resultFrom,
+        resultTo,
+        complete,
+        scatter: {
+            dotList,
+            metadata
+        }
+    };
+}
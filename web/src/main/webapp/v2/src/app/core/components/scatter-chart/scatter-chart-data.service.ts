@@ -1,7 +1,9 @@
 import { Injectable } from '@angular/core';
 import { HttpClient, HttpParams } from '@angular/common/http';
 import { Observable, of, Subject } from 'rxjs';
-import { switchMap, delay, retry } from 'rxjs/operators';
+import { switchMap, delay, retry, map } from 'rxjs/operators';
+
+import { decodeScatterData } from './scatter-chart-binary-decoder';
 
 interface IScatterRequest {
     application: string;
@@ -14,7 +16,9 @@ interface IScatterRequest {
 
 @Injectable()
 export class ScatterChartDataService {
-    private url = 'getScatterData.pinpoint';
+    private url = 'getScatterDataBinary.pinpoint';
+    private realTimeUrl = 'getScatterDataIncremental.pinpoint';
+    private realTimeCursor: string;
     private realtime = {
         interval: 2000,
         resetTimeGap: 20000
@@ -56,7 +60,7 @@ export class ScatterChartDataService {
         });
         this.innerRealTimeDataRequest.pipe(
             switchMap((params: IScatterRequest) => {
-                return this.requestHttp(params).pipe(
+                return this.requestRealTimeHttp(params).pipe(
                     retry(3)
                 );
             })
@@ -68,14 +72,31 @@ export class ScatterChartDataService {
         });
     }
     private requestHttp(params: IScatterRequest): Observable<IScatterData> {
-        return this.http.get<IScatterData>(this.url, this.makeRequestOptionsArgs(
+        return this.http.get(this.url, {
+            params: this.makeRequestParams(
+                params.application,
+                params.fromX,
+                params.toX,
+                params.groupUnitX,
+                params.groupUnitY,
+                params.backwardDirection),
+            responseType: 'arraybuffer'
+        }).pipe(
+            map((buffer: ArrayBuffer) => decodeScatterData(buffer))
+        );
+    }
+    private requestRealTimeHttp(params: IScatterRequest): Observable<IScatterData> {
+        let httpParams = this.makeRequestParams(
             params.application,
             params.fromX,
             params.toX,
             params.groupUnitX,
             params.groupUnitY,
-            params.backwardDirection)
-        );
+            params.backwardDirection);
+        if (this.realTimeCursor) {
+            httpParams = httpParams.set('cursor', this.realTimeCursor);
+        }
+        return this.http.get<IScatterData>(this.realTimeUrl, { params: httpParams });
     }
     private getData(fromX: number, toX: number, backwardDirection: boolean): void {
         this.requestTime = Date.now();
@@ -117,6 +138,7 @@ export class ScatterChartDataService {
     }
     loadRealTimeData(application: string, fromX: number, toX: number, groupUnitX: number, groupUnitY: number): void {
         this.loadStart = true;
+        this.realTimeCursor = null;
         this.application = application;
         this.groupUnitX = groupUnitX;
         this.groupUnitY = groupUnitY;
@@ -124,6 +146,7 @@ export class ScatterChartDataService {
     }
     loadRealTimeDataV2(toX: number): void {
         this.loadStart = true;
+        this.realTimeCursor = null;
         of(1).pipe(delay(this.realtime.interval)).subscribe((useless: number) => {
             this.getRealTimeData(toX, toX + this.realtime.interval, false);
         });
@@ -137,6 +160,9 @@ export class ScatterChartDataService {
         let toNext = 0;
         let delayTime = this.realtime.interval - roundTripTime;
 
+        // the server resumes from the cursor, so the next request scans only the dots not returned yet
+        this.realTimeCursor = scatterData.cursor;
+
         if (scatterData.complete) {
             fromNext = scatterData.to;
             toNext = fromNext + this.realtime.interval;
@@ -153,12 +179,13 @@ export class ScatterChartDataService {
                 delayTime = 0;
             }
         } else {
-            // TODO: 처리해야 함.
+            // limited, continue from the cursor up to the same time
             fromNext = scatterData.from;
-            toNext = scatterData.resultFrom;
+            toNext = scatterData.to;
             delayTime = 0;
         }
         if (scatterData.currentServerTime - toNext >= this.realtime.resetTimeGap) {
+            this.realTimeCursor = null;
             scatterData.reset = true;
             this.outRealTimeScatterData.next(scatterData);
         } else {
@@ -168,17 +195,15 @@ export class ScatterChartDataService {
             });
         }
     }
-    private makeRequestOptionsArgs(application: string, fromX: number, toX: number, groupUnitX: number, groupUnitY: number, backwardDirection: boolean): object {
-        return {
-            params: new HttpParams()
-                .set('application', application)
-                .set('from', fromX + '')
-                .set('to', toX + '')
-                .set('limit', '5000')
-                .set('filter', '')
-                .set('xGroupUnit', groupUnitX + '')
-                .set('yGroupUnit', groupUnitY + '')
-                .set('backwardDirection', backwardDirection + '')
-        };
+    private makeRequestParams(application: string, fromX: number, toX: number, groupUnitX: number, groupUnitY: number, backwardDirection: boolean): HttpParams {
+        return new HttpParams()
+            .set('application', application)
+            .set('from', fromX + '')
+            .set('to', toX + '')
+            .set('limit', '5000')
+            .set('filter', '')
+            .set('xGroupUnit', groupUnitX + '')
+            .set('yGroupUnit', groupUnitY + '')
+            .set('backwardDirection', backwardDirection + '');
     }
 }
@@ -215,6 +215,7 @@ interface IScatterData {
     };
     to: number;
     reset?: boolean;
+    cursor?: string;
 }
 // @store
 interface IHelpViewerInfo {
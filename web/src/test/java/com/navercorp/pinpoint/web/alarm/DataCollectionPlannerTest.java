@@ -0,0 +1,167 @@
+/*
+ * Copyright 2018 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.navercorp.pinpoint.web.alarm;
+
+import com.navercorp.pinpoint.common.trace.ServiceType;
+import com.navercorp.pinpoint.web.alarm.DataCollectorFactory.DataCollectorCategory;
+import com.navercorp.pinpoint.web.alarm.collector.DataCollector;
+import com.navercorp.pinpoint.web.vo.Application;
+import org.junit.Assert;
+import org.junit.Test;
+import org.springframework.core.task.SyncTaskExecutor;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class DataCollectionPlannerTest {
+
+    @Test
+    public void shareDataCollector() {
+        final AtomicInteger createCount = new AtomicInteger();
+        final AtomicInteger collectCount = new AtomicInteger();
+        DataCollectorFactory dataCollectorFactory = new DataCollectorFactory() {
+            @Override
+            public DataCollector createDataCollector(CheckerCategory checker, Application application, long timeSlotEndTime) {
+                createCount.incrementAndGet();
+                return new CountingDataCollector(checker.getDataCollectorCategory(), collectCount);
+            }
+        };
+
+        DataCollectionPlanner planner = new DataCollectionPlanner(dataCollectorFactory, 1000);
+        Application app1 = new Application("app1", ServiceType.STAND_ALONE);
+        Application app2 = new Application("app2", ServiceType.STAND_ALONE);
+
+        DataCollector collector1 = planner.getDataCollector(CheckerCategory.SLOW_COUNT, app1);
+        DataCollector collector2 = planner.getDataCollector(CheckerCategory.SLOW_RATE, app1);
+        DataCollector collector3 = planner.getDataCollector(CheckerCategory.SLOW_COUNT, app2);
+        planner.getDataCollector(CheckerCategory.HEAP_USAGE_RATE, app1);
+        planner.getDataCollector(CheckerCategory.JVM_CPU_USAGE_RATE, app1);
+
+        Assert.assertSame(collector1, collector2);
+        Assert.assertNotSame(collector1, collector3);
+        Assert.assertEquals(3, createCount.get());
+        Assert.assertEquals(3, planner.getDataCollectorCount());
+
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            planner.collect(executor);
+        } finally {
+            executor.shutdown();
+        }
+        Assert.assertEquals(3, collectCount.get());
+
+        long responseTimeCount = 0;
+        long agentStatCount = 0;
+        for (DataCollectionPlanner.CollectMetric metric : planner.getCollectMetrics()) {
+            if (metric.getCategory() == DataCollectorCategory.RESPONSE_TIME) {
+                responseTimeCount = metric.getCount();
+            }
+            if (metric.getCategory() == DataCollectorCategory.AGENT_STAT) {
+                agentStatCount = metric.getCount();
+            }
+        }
+        Assert.assertEquals(2, responseTimeCount);
+        Assert.assertEquals(1, agentStatCount);
+    }
+
+    @Test
+    public void collectFail() {
+        DataCollectorFactory dataCollectorFactory = new DataCollectorFactory() {
+            @Override
+            public DataCollector createDataCollector(CheckerCategory checker, Application application, long timeSlotEndTime) {
+                return new DataCollector(checker.getDataCollectorCategory()) {
+                    @Override
+                    public void collect() {
+                        throw new RuntimeException("test");
+                    }
+                };
+            }
+        };
+
+        DataCollectionPlanner planner = new DataCollectionPlanner(dataCollectorFactory, 1000);
+        planner.getDataCollector(CheckerCategory.SLOW_COUNT, new Application("app", ServiceType.STAND_ALONE));
+        planner.collect(new SyncTaskExecutor());
+
+        for (DataCollectionPlanner.CollectMetric metric : planner.getCollectMetrics()) {
+            if (metric.getCategory() == DataCollectorCategory.RESPONSE_TIME) {
+                Assert.assertEquals(1, metric.getFailCount());
+            }
+        }
+    }
+
+    @Test
+    public void collectInterrupted() throws InterruptedException {
+        final CountDownLatch started = new CountDownLatch(1);
+        final CountDownLatch release = new CountDownLatch(1);
+        final AtomicInteger collectCount = new AtomicInteger();
+        DataCollectorFactory dataCollectorFactory = new DataCollectorFactory() {
+            @Override
+            public DataCollector createDataCollector(CheckerCategory checker, Application application, long timeSlotEndTime) {
+                if (checker.getDataCollectorCategory() == DataCollectorCategory.RESPONSE_TIME) {
+                    return new DataCollector(checker.getDataCollectorCategory()) {
+                        @Override
+                        public void collect() {
+                            started.countDown();
+                            try {
+                                release.await();
+                            } catch (InterruptedException e) {
+                                Thread.currentThread().interrupt();
+                            }
+                        }
+                    };
+                }
+                return new CountingDataCollector(checker.getDataCollectorCategory(), collectCount);
+            }
+        };
+
+        DataCollectionPlanner planner = new DataCollectionPlanner(dataCollectorFactory, 1000);
+        Application application = new Application("app", ServiceType.STAND_ALONE);
+        planner.getDataCollector(CheckerCategory.SLOW_COUNT, application);
+        planner.getDataCollector(CheckerCategory.HEAP_USAGE_RATE, application);
+
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            Thread.currentThread().interrupt();
+            planner.collect(executor);
+            Assert.assertTrue(Thread.interrupted());
+
+            Assert.assertTrue(started.await(5, TimeUnit.SECONDS));
+            release.countDown();
+        } finally {
+            executor.shutdown();
+        }
+        Assert.assertTrue(executor.awaitTermination(5, TimeUnit.SECONDS));
+        Assert.assertEquals(0, collectCount.get());
+    }
+
+    private static class CountingDataCollector extends DataCollector {
+        private final AtomicInteger collectCount;
+
+        private CountingDataCollector(DataCollectorCategory dataCollectorCategory, AtomicInteger collectCount) {
+            super(dataCollectorCategory);
+            this.collectCount = collectCount;
+        }
+
+        @Override
+        public void collect() {
+            collectCount.incrementAndGet();
+        }
+    }
+}
@@ -39,6 +39,7 @@ import org.mockito.junit.MockitoJUnitRunner;
 
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
 
 import static org.mockito.Mockito.when;
@@ -115,6 +116,28 @@ public class DataSourceConnectionUsageRateCheckerTest {
         Assert.assertTrue(CollectionUtils.isEmpty(smsMessage));
     }
 
+    @Test
+    public void collectRetryAfterPartialFailure() {
+        String failingAgentId = "failing_tomcat";
+        when(mockApplicationIndexDao.selectAgentIds(APPLICATION_NAME)).thenReturn(Arrays.asList(AGENT_ID, failingAgentId));
+        Range range = Range.createUncheckedRange(START_TIME_MILLIS, CURRENT_TIME_MILLIS);
+        when(mockDataSourceDao.getAgentStatList(failingAgentId, range))
+                .thenThrow(new RuntimeException("test"))
+                .thenReturn(Collections.<DataSourceListBo>emptyList());
+
+        Application application = new Application(APPLICATION_NAME, ServiceType.STAND_ALONE);
+        DataSourceDataCollector collector = new DataSourceDataCollector(DataCollectorFactory.DataCollectorCategory.DATA_SOURCE_STAT, application, mockDataSourceDao, mockApplicationIndexDao, CURRENT_TIME_MILLIS, INTERVAL_MILLIS);
+        try {
+            collector.collect();
+            Assert.fail("expected collect failure");
+        } catch (RuntimeException expected) {
+            // retried below
+        }
+        collector.collect();
+
+        Assert.assertEquals(3, collector.getDataSourceConnectionUsageRate().get(AGENT_ID).size());
+    }
+
     private DataSourceListBo createDataSourceListBo(int id, int activeConnectionSize, int maxConnectionSize, int numValues) {
         DataSourceListBo dataSourceListBo = new DataSourceListBo();
         dataSourceListBo.setAgentId(AGENT_ID);
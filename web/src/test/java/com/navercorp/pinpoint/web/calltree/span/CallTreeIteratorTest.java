@@ -16,7 +16,11 @@
 package com.navercorp.pinpoint.web.calltree.span;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
 
+import com.navercorp.pinpoint.common.server.bo.AnnotationBo;
 import org.apache.commons.collections.CollectionUtils;
 import org.junit.Test;
 
@@ -24,6 +28,7 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Queue;
 import java.util.concurrent.LinkedBlockingQueue;
@@ -462,6 +467,85 @@ public class CallTreeIteratorTest {
         assertCallTree(callTree, callStack.getDepths(), callStack.getGaps(), callStack.getExecs(), true);
     }
 
+    @Test
+    public void page() {
+        CallStackDummy callStack = new CallStackDummy();
+        callStack.add("R", 0, 0, 1);
+        callStack.add("##", 1, 1, 1);
+        callStack.add("###", 2, 1, 1);
+        callStack.add("####", 3, 1, 1);
+        callStack.add("###", 2, 1, 1);
+        callStack.add("##", 1, 1, 1);
+
+        CallTree callTree = factory.get(callStack.getEvents());
+        CallTreeIterator iterator = callTree.iterator();
+        assertEquals(6, iterator.size());
+
+        // ancestors(R, ##, ###) + ####, ###
+        CallTreeIterator page = iterator.page(3, 2);
+        assertEquals(5, page.size());
+        List<Integer> depths = new ArrayList<>();
+        for (SpanAlign spanAlign : page.values()) {
+            depths.add(spanAlign.getDepth());
+        }
+        assertEquals(Arrays.asList(0, 1, 2, 3, 2), depths);
+
+        // root has no ancestor
+        assertEquals(2, iterator.page(0, 2).size());
+        // last page is cut at the end of the call tree
+        assertEquals(2, iterator.page(5, 10).size());
+        assertTrue(iterator.page(6, 10).isEmpty());
+    }
+
+    @Test
+    public void pageDoesNotChangeCallTree() {
+        CallStackDummy callStack = new CallStackDummy();
+        callStack.add("R", 0, 0, 1);
+        callStack.add("##", 1, 1, 1);
+        callStack.add("###", 2, 1, 1);
+        callStack.add("####", 3, 1, 1);
+        callStack.add("###", 2, 1, 1);
+
+        CallTree callTree = factory.get(callStack.getEvents());
+        CallTreeIterator iterator = callTree.iterator();
+
+        CallTreeIterator page = iterator.page(3, 2);
+        List<Integer> ids = new ArrayList<>();
+        while (page.hasNext()) {
+            CallTreeNode node = page.next();
+            ids.add(node.getValue().getId());
+            if (!node.isRoot()) {
+                // parents are linked to the copies of the page
+                assertTrue(page.values().contains(node.getParent().getValue()));
+            }
+        }
+        assertEquals(Arrays.asList(1, 2, 3, 4, 5), ids);
+        assertTrue(page.values().get(2).isRepeatedAncestor());
+
+        SpanAlign copy = page.values().get(3);
+        copy.setAnnotationBoList(new ArrayList<AnnotationBo>());
+        copy.setExceptionClass("java.lang.Exception");
+
+        List<SpanAlign> values = iterator.values();
+        for (SpanAlign spanAlign : values) {
+            assertEquals(0, spanAlign.getId());
+            assertFalse(spanAlign.isRepeatedAncestor());
+            assertNull(spanAlign.getExceptionClass());
+        }
+        assertNull(values.get(3).getAnnotationBoList());
+        // paged again with the same ids
+        assertEquals(4, iterator.page(3, 1).values().get(3).getId());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void pageInvalidLimit() {
+        CallStackDummy callStack = new CallStackDummy();
+        callStack.add("R", 0, 0, 1);
+
+        CallTree callTree = factory.get(callStack.getEvents());
+        callTree.iterator().page(0, 0);
+    }
+
     private void assertCallTree(CallTree callTree, List<Integer> expectedDepths, List<Integer> expectedGaps, List<Integer> expectedExecs, boolean check) {
         Queue<Integer> depths = new LinkedBlockingQueue<>(expectedDepths);
         Queue<Integer> gaps = new LinkedBlockingQueue<>(expectedGaps);
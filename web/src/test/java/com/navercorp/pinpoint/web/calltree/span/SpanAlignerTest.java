@@ -21,7 +21,9 @@ import com.navercorp.pinpoint.common.server.bo.SpanEventBo;
 import org.junit.Test;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
+import java.util.Random;
 
 import static org.junit.Assert.*;
 
@@ -410,6 +412,155 @@ public class SpanAlignerTest {
         CallTreeAssert.assertDepth("loopSpanList", callTree, expectResult);
     }
 
+    @Test
+    public void manyNextSpan() throws Exception {
+        final int size = 5000;
+        List<String> expectResult = new ArrayList<>();
+        expectResult.add("#");
+
+        List<SpanBo> list = new ArrayList<>();
+        SpanBo span = new SpanBo();
+        span.setParentSpanId(-1);
+        span.setSpanId(1);
+        list.add(span);
+
+        for (int i = 0; i < size; i++) {
+            final int nextSpanId = 100 + i;
+            span.addSpanEvent(makeSpanEvent(i, 1, nextSpanId));
+            expectResult.add("##");
+            expectResult.add("###"); // nextSpan
+            expectResult.add("####");
+
+            SpanBo nextSpan = new SpanBo();
+            nextSpan.setParentSpanId(1);
+            nextSpan.setSpanId(nextSpanId);
+            nextSpan.addSpanEvent(makeSpanEvent(0, 1, -1));
+            list.add(nextSpan);
+        }
+        // unmatched links
+        for (int i = 0; i < size; i++) {
+            span.addSpanEvent(makeSpanEvent(size + i, 1, 100000 + i));
+            expectResult.add("##");
+        }
+
+        SpanAligner spanAligner = new SpanAligner(list, 1);
+        final CallTree callTree = spanAligner.align();
+        CallTreeAssert.assertDepth("many", callTree, expectResult);
+        assertEquals(SpanAligner.COMPLETE_MATCH, spanAligner.getMatchType());
+    }
+
+    @Test
+    public void alignSameAsLegacyAligner() {
+        // duplicated spans, missing parents, unmatched links and async events on purpose
+        for (int seed = 0; seed < 2000; seed++) {
+            final List<SpanBo> spans = makeRandomSpans(new Random(seed));
+            final String legacy = alignLegacy(copySpans(spans));
+            final String current = align(copySpans(spans));
+            assertEquals("seed:" + seed, legacy, current);
+        }
+    }
+
+    private String alignLegacy(List<SpanBo> spans) {
+        try {
+            LegacySpanAligner spanAligner = new LegacySpanAligner(spans, 1);
+            return dump(spanAligner.align()) + spanAligner.getMatchType();
+        } catch (RuntimeException | StackOverflowError e) {
+            // the outcome on corrupted spans must match as well
+            return e.getClass().getName();
+        }
+    }
+
+    private String align(List<SpanBo> spans) {
+        try {
+            SpanAligner spanAligner = new SpanAligner(spans, 1);
+            return dump(spanAligner.align()) + spanAligner.getMatchType();
+        } catch (RuntimeException | StackOverflowError e) {
+            // the outcome on corrupted spans must match as well
+            return e.getClass().getName();
+        }
+    }
+
+    private String dump(CallTree callTree) {
+        StringBuilder sb = new StringBuilder();
+        CallTreeIterator iterator = callTree.iterator();
+        CallTreeNode node;
+        while ((node = iterator.next()) != null) {
+            SpanAlign align = node.getValue();
+            sb.append(node.getDepth()).append(':').append(align.getSpanId()).append(':');
+            sb.append(align.isSpan() ? "span" : align.getSpanEventBo().getSequence()).append(' ');
+        }
+        return sb.toString();
+    }
+
+    private List<SpanBo> makeRandomSpans(Random random) {
+        final int size = 1 + random.nextInt(40);
+        final long[] spanIds = new long[size];
+        for (int i = 0; i < size; i++) {
+            spanIds[i] = 1000 + random.nextInt(60);
+        }
+
+        List<SpanBo> list = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            SpanBo span = new SpanBo();
+            span.setSpanId(spanIds[i]);
+            span.setParentSpanId(random.nextInt(5) == 0 ? -1 : spanIds[random.nextInt(size)]);
+            span.setStartTime(1000 + random.nextInt(200));
+            span.setCollectorAcceptTime(random.nextInt(3));
+
+            final int eventSize = random.nextInt(6);
+            int depth = 1;
+            for (int sequence = 0; sequence < eventSize; sequence++) {
+                final long nextSpanId;
+                if (random.nextInt(3) == 0) {
+                    nextSpanId = spanIds[random.nextInt(size)];
+                } else if (random.nextInt(6) == 0) {
+                    nextSpanId = 5000 + random.nextInt(5);
+                } else {
+                    nextSpanId = -1;
+                }
+                SpanEventBo event = makeSpanEvent(sequence, depth, (int) nextSpanId);
+                event.setStartElapsed(random.nextInt(100));
+                if (random.nextInt(4) == 0) {
+                    event.setNextAsyncId(random.nextInt(3));
+                }
+                span.addSpanEvent(event);
+                if (random.nextBoolean()) {
+                    depth++;
+                } else if (depth > 1 && random.nextBoolean()) {
+                    depth--;
+                }
+            }
+
+            final int asyncEventSize = random.nextInt(3);
+            for (int sequence = 0; sequence < asyncEventSize; sequence++) {
+                SpanEventBo event = makeSpanEvent(sequence, 1, -1);
+                event.setAsyncId(random.nextInt(3));
+                event.setAsyncSequence((short) 0);
+                span.addSpanEvent(event);
+            }
+            list.add(span);
+        }
+        Collections.shuffle(list, random);
+        return list;
+    }
+
+    // the aligners take the async events out of the span, so each gets its own spans
+    private List<SpanBo> copySpans(List<SpanBo> spans) {
+        List<SpanBo> copy = new ArrayList<>(spans.size());
+        for (SpanBo span : spans) {
+            SpanBo spanCopy = new SpanBo();
+            spanCopy.setSpanId(span.getSpanId());
+            spanCopy.setParentSpanId(span.getParentSpanId());
+            spanCopy.setStartTime(span.getStartTime());
+            spanCopy.setCollectorAcceptTime(span.getCollectorAcceptTime());
+            for (SpanEventBo event : span.getSpanEventBoList()) {
+                spanCopy.addSpanEvent(event);
+            }
+            copy.add(spanCopy);
+        }
+        return copy;
+    }
+
     private SpanEventBo makeSpanEvent(int sequence, int depth, int nextSpanId) {
         return makeSpanEvent(sequence, depth, nextSpanId, 0);
     }
@@ -0,0 +1,131 @@
+/*
+ * Copyright 2018 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.navercorp.pinpoint.web.dao.hbase;
+
+import com.navercorp.pinpoint.common.server.bo.AgentLifeCycleBo;
+import com.navercorp.pinpoint.common.server.util.AgentLifeCycleState;
+import com.navercorp.pinpoint.web.vo.AgentInfo;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class AgentInfoIndexTest {
+
+    private static final String AGENT_ID = "test-agent";
+
+    @Test
+    public void agentInfo() {
+        AgentInfoIndex index = new AgentInfoIndex(100, 10000);
+        final long now = System.currentTimeMillis();
+        Assert.assertNull(index.getAgentInfo(AGENT_ID, now));
+
+        index.addAgentInfo(createAgentInfo(AGENT_ID, 1000), now, now);
+        AgentInfo agentInfo = index.getAgentInfo(AGENT_ID, now);
+        Assert.assertEquals(AGENT_ID, agentInfo.getAgentId());
+        Assert.assertEquals(1000, agentInfo.getStartTimestamp());
+        // older agents are left to HBase
+        Assert.assertNull(index.getAgentInfo(AGENT_ID, 999));
+
+        // copies are handed out as the status is populated per query
+        Assert.assertNotSame(agentInfo, index.getAgentInfo(AGENT_ID, now));
+
+        index.addAgentInfo(createAgentInfo(AGENT_ID, 500), now, now);
+        Assert.assertEquals(1000, index.getAgentInfo(AGENT_ID, now).getStartTimestamp());
+        index.addAgentInfo(createAgentInfo(AGENT_ID, 2000), now, now);
+        Assert.assertEquals(2000, index.getAgentInfo(AGENT_ID, now).getStartTimestamp());
+    }
+
+    @Test
+    public void agentInfo_from_past_query_is_not_indexed() {
+        AgentInfoIndex index = new AgentInfoIndex(100, 10000);
+        final long now = System.currentTimeMillis();
+        index.addAgentInfo(createAgentInfo(AGENT_ID, 1000), now - 60000, now);
+
+        Assert.assertNull(index.getAgentInfo(AGENT_ID, now));
+        Assert.assertEquals(0, index.size());
+    }
+
+    @Test
+    public void maxSize() {
+        AgentInfoIndex index = new AgentInfoIndex(2, 10000);
+        final long now = System.currentTimeMillis();
+        index.addAgentInfo(createAgentInfo("agent1", 1000), now, now);
+        index.addAgentInfo(createAgentInfo("agent2", 1000), now, now);
+        Assert.assertNotNull(index.getAgentInfo("agent1", now));
+        index.addAgentInfo(createAgentInfo("agent3", 1000), now, now);
+
+        // agent2 is the least recently queried
+        Assert.assertEquals(2, index.size());
+        Assert.assertNull(index.getAgentInfo("agent2", now));
+        Assert.assertNotNull(index.getAgentInfo("agent1", now));
+        Assert.assertNotNull(index.getAgentInfo("agent3", now));
+        // indexed agents are still updated
+        index.addAgentInfo(createAgentInfo("agent1", 2000), now, now);
+        Assert.assertEquals(2000, index.getAgentInfo("agent1", now).getStartTimestamp());
+    }
+
+    @Test
+    public void agentLifeCycle() {
+        AgentInfoIndex index = new AgentInfoIndex(100, 10000);
+        final long now = System.currentTimeMillis();
+        // not indexed without the agent info
+        index.addAgentLifeCycle(new AgentLifeCycleBo(AGENT_ID, 1000, 1000, 1, AgentLifeCycleState.RUNNING), now, now);
+        Assert.assertNull(index.getAgentLifeCycle(AGENT_ID, now));
+
+        index.addAgentInfo(createAgentInfo(AGENT_ID, 1000), now, now);
+        index.addAgentLifeCycle(new AgentLifeCycleBo(AGENT_ID, 1000, 1500, 2, AgentLifeCycleState.RUNNING), now, now);
+        Assert.assertEquals(AgentLifeCycleState.RUNNING, index.getAgentLifeCycle(AGENT_ID, now).getAgentLifeCycleState());
+        Assert.assertEquals(AgentLifeCycleState.RUNNING, index.getAgentLifeCycle(AGENT_ID, 1000, now).getAgentLifeCycleState());
+        // event after the query timestamp
+        Assert.assertNull(index.getAgentLifeCycle(AGENT_ID, 1500));
+        // other agent start
+        Assert.assertNull(index.getAgentLifeCycle(AGENT_ID, 900, now));
+
+        // older event
+        index.addAgentLifeCycle(new AgentLifeCycleBo(AGENT_ID, 1000, 1200, 1, AgentLifeCycleState.RUNNING), now, now);
+        Assert.assertEquals(2, index.getAgentLifeCycle(AGENT_ID, now).getEventIdentifier());
+        index.addAgentLifeCycle(new AgentLifeCycleBo(AGENT_ID, 1000, 1800, 3, AgentLifeCycleState.SHUTDOWN), now, now);
+        Assert.assertEquals(AgentLifeCycleState.SHUTDOWN, index.getAgentLifeCycle(AGENT_ID, now).getAgentLifeCycleState());
+    }
+
+    @Test
+    public void agentLifeCycle_of_other_agent_start_is_not_indexed() {
+        AgentInfoIndex index = new AgentInfoIndex(100, 10000);
+        final long now = System.currentTimeMillis();
+        index.addAgentInfo(createAgentInfo(AGENT_ID, 2000), now, now);
+        index.addAgentLifeCycle(new AgentLifeCycleBo(AGENT_ID, 1000, 1500, 1, AgentLifeCycleState.RUNNING), now, now);
+
+        Assert.assertNull(index.getAgentLifeCycle(AGENT_ID, now));
+    }
+
+    @Test
+    public void disabled() {
+        AgentInfoIndex index = new AgentInfoIndex();
+        final long now = System.currentTimeMillis();
+        index.addAgentInfo(createAgentInfo(AGENT_ID, 1000), now, now);
+
+        Assert.assertEquals(0, index.size());
+        Assert.assertNull(index.getAgentInfo(AGENT_ID, now));
+    }
+
+    private AgentInfo createAgentInfo(String agentId, long startTimestamp) {
+        AgentInfo agentInfo = new AgentInfo();
+        agentInfo.setAgentId(agentId);
+        agentInfo.setStartTimestamp(startTimestamp);
+        return agentInfo;
+    }
+}
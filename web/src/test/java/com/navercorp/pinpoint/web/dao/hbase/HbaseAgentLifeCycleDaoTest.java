@@ -60,6 +60,9 @@ public class HbaseAgentLifeCycleDaoTest {
     @Mock
     private RowMapper<AgentLifeCycleBo> agentLifeCycleMapper;
 
+    @Spy
+    private AgentInfoIndex agentInfoIndex = new AgentInfoIndex();
+
     @InjectMocks
     private AgentLifeCycleDao agentLifeCycleDao = new HbaseAgentLifeCycleDao();
 
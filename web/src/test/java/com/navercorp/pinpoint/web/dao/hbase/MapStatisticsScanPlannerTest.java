@@ -0,0 +1,79 @@
+/*
+ * Copyright 2018 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.navercorp.pinpoint.web.dao.hbase;
+
+import com.navercorp.pinpoint.common.hbase.HBaseTables;
+import com.navercorp.pinpoint.common.hbase.distributor.RangeOneByteSimpleHash;
+import com.navercorp.pinpoint.common.trace.ServiceType;
+import com.navercorp.pinpoint.web.vo.Application;
+import com.navercorp.pinpoint.web.vo.Range;
+import com.sematext.hbase.wd.RowKeyDistributorByHashPrefix;
+import org.apache.hadoop.hbase.client.Scan;
+import org.apache.hadoop.hbase.filter.MultiRowRangeFilter;
+import org.apache.hadoop.hbase.util.Bytes;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+public class MapStatisticsScanPlannerTest {
+
+    private static final int NUM_BUCKETS = 32;
+
+    private final RowKeyDistributorByHashPrefix rowKeyDistributor = new RowKeyDistributorByHashPrefix(new RangeOneByteSimpleHash(0, 36, NUM_BUCKETS));
+
+    private final MapStatisticsScanPlanner scanPlanner = new MapStatisticsScanPlanner(rowKeyDistributor, 40);
+
+    private final Range range = new Range(1000, 2000);
+
+    @Test
+    public void singleApplication() {
+        Application application = new Application("APP_A", ServiceType.STAND_ALONE);
+
+        List<Scan> scans = scanPlanner.createScans(Collections.singletonList(application), range, HBaseTables.MAP_STATISTICS_CALLEE_VER2_CF_COUNTER);
+
+        Assert.assertEquals(NUM_BUCKETS, scans.size());
+        for (Scan scan : scans) {
+            Assert.assertNull(scan.getFilter());
+            Assert.assertTrue(Bytes.compareTo(scan.getStartRow(), scan.getStopRow()) < 0);
+        }
+    }
+
+    @Test
+    public void multipleApplications() {
+        Application applicationA = new Application("APP_A", ServiceType.STAND_ALONE);
+        Application applicationB = new Application("APP_B_LONGER_NAME", ServiceType.STAND_ALONE);
+        Application applicationC = new Application("APP_C", ServiceType.TEST_STAND_ALONE);
+
+        List<Scan> scans = scanPlanner.createScans(Arrays.asList(applicationA, applicationB, applicationC), range, HBaseTables.MAP_STATISTICS_CALLEE_VER2_CF_COUNTER);
+
+        // one scan per bucket regardless of the number of applications
+        Assert.assertEquals(NUM_BUCKETS, scans.size());
+        for (int i = 0; i < scans.size(); i++) {
+            Scan scan = scans.get(i);
+            Assert.assertTrue(scan.getFilter() instanceof MultiRowRangeFilter);
+            // every range of a scan shares the bucket prefix
+            Assert.assertEquals(i, scan.getStartRow()[0]);
+            Assert.assertEquals(i, scan.getStopRow()[0]);
+            Assert.assertTrue(Bytes.compareTo(scan.getStartRow(), scan.getStopRow()) < 0);
+            Assert.assertTrue(scan.hasFamilies());
+        }
+    }
+}
@@ -0,0 +1,119 @@
+/*
+ * Copyright 2018 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.navercorp.pinpoint.web.service;
+
+import com.navercorp.pinpoint.common.util.TransactionId;
+import com.navercorp.pinpoint.web.dao.ApplicationTraceIndexDao;
+import com.navercorp.pinpoint.web.dao.TraceDao;
+import com.navercorp.pinpoint.web.scatter.ScatterData;
+import com.navercorp.pinpoint.web.vo.LimitedScanResult;
+import com.navercorp.pinpoint.web.vo.Range;
+import com.navercorp.pinpoint.web.vo.scatter.Dot;
+import com.navercorp.pinpoint.web.vo.scatter.IncrementalScatterData;
+import org.junit.Assert;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.MockitoJUnitRunner;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@RunWith(MockitoJUnitRunner.class)
+public class ScatterChartServiceImplTest {
+
+    private static final String APPLICATION_NAME = "app";
+
+    @Mock
+    private ApplicationTraceIndexDao applicationTraceIndexDao;
+
+    @Mock
+    private TraceDao traceDao;
+
+    @Spy
+    private ScatterCursorRepository scatterCursorRepository = new ScatterCursorRepository(60000, 100);
+
+    @InjectMocks
+    private ScatterChartServiceImpl scatterChartService;
+
+    @Test
+    public void selectScatterData_cursor() {
+        when(applicationTraceIndexDao.scanTraceScatterDataForward(eq(APPLICATION_NAME), eq(Range.createUncheckedRange(1000, 2000)), anyInt(), anyInt(), anyInt()))
+                .thenReturn(scanResult(1000, 2000, 2000));
+        when(applicationTraceIndexDao.scanTraceScatterDataForward(eq(APPLICATION_NAME), eq(Range.createUncheckedRange(2000, 3000)), anyInt(), anyInt(), anyInt()))
+                .thenReturn(scanResult(2000, 3000, 2500));
+        when(applicationTraceIndexDao.scanTraceScatterDataForward(eq(APPLICATION_NAME), eq(Range.createUncheckedRange(2500, 3000)), anyInt(), anyInt(), anyInt()))
+                .thenReturn(scanResult(2500, 3000, 3000));
+
+        IncrementalScatterData first = scatterChartService.selectScatterData(null, APPLICATION_NAME, 1000, 2000, 10, 10, 100);
+        Assert.assertTrue(first.isComplete());
+        Assert.assertEquals(2000, first.getCursor().getPosition());
+
+        // the requested from is ignored while the cursor is alive
+        IncrementalScatterData second = scatterChartService.selectScatterData(first.getCursor().getId(), APPLICATION_NAME, 0, 3000, 10, 10, 100);
+        Assert.assertFalse(second.isComplete());
+        Assert.assertEquals(first.getCursor().getId(), second.getCursor().getId());
+        Assert.assertEquals(2500, second.getCursor().getPosition());
+
+        IncrementalScatterData third = scatterChartService.selectScatterData(second.getCursor().getId(), APPLICATION_NAME, 0, 3000, 10, 10, 100);
+        Assert.assertTrue(third.isComplete());
+        Assert.assertEquals(3000, third.getCursor().getPosition());
+        Assert.assertEquals(2500, third.getScatterData().getFrom());
+    }
+
+    @Test
+    public void selectScatterData_cursor_otherQuery() {
+        when(applicationTraceIndexDao.scanTraceScatterDataForward(eq(APPLICATION_NAME), any(Range.class), anyInt(), anyInt(), anyInt()))
+                .thenReturn(scanResult(1000, 2000, 2000));
+
+        IncrementalScatterData first = scatterChartService.selectScatterData(null, APPLICATION_NAME, 1000, 2000, 10, 10, 100);
+        IncrementalScatterData other = scatterChartService.selectScatterData(first.getCursor().getId(), APPLICATION_NAME, 1000, 2000, 20, 10, 100);
+
+        Assert.assertNotEquals(first.getCursor().getId(), other.getCursor().getId());
+        Assert.assertEquals(2000, other.getCursor().getPosition());
+    }
+
+    @Test
+    public void selectScatterData_cursor_nothingToScan() {
+        when(applicationTraceIndexDao.scanTraceScatterDataForward(eq(APPLICATION_NAME), any(Range.class), anyInt(), anyInt(), anyInt()))
+                .thenReturn(scanResult(1000, 2000, 2000));
+
+        IncrementalScatterData first = scatterChartService.selectScatterData(null, APPLICATION_NAME, 1000, 2000, 10, 10, 100);
+        IncrementalScatterData second = scatterChartService.selectScatterData(first.getCursor().getId(), APPLICATION_NAME, 1000, 2000, 10, 10, 100);
+
+        Assert.assertTrue(second.isComplete());
+        Assert.assertEquals(0, second.getScatterData().getDotSize());
+        verify(applicationTraceIndexDao, never()).scanTraceScatterDataForward(eq(APPLICATION_NAME), eq(Range.createUncheckedRange(2000, 2000)), anyInt(), anyInt(), anyInt());
+    }
+
+    private LimitedScanResult<ScatterData> scanResult(long from, long to, long limitedTime) {
+        ScatterData scatterData = new ScatterData(from, to, 10, 10);
+        scatterData.addDot(new Dot(new TransactionId("agent", 1, from), from, 10, 0, "agent"));
+
+        LimitedScanResult<ScatterData> limitedScanResult = new LimitedScanResult<>();
+        limitedScanResult.setScanData(scatterData);
+        limitedScanResult.setLimitedTime(limitedTime);
+        return limitedScanResult;
+    }
+}
@@ -0,0 +1,70 @@
+/*
+ * Copyright 2018 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.navercorp.pinpoint.web.service;
+
+import com.navercorp.pinpoint.web.vo.scatter.ScatterCursor;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class ScatterCursorRepositoryTest {
+
+    @Test
+    public void putAndGet() {
+        ScatterCursorRepository repository = new ScatterCursorRepository(60000, 10);
+        ScatterCursor cursor = repository.newCursor("app", 10, 10, 1000);
+        Assert.assertNull(repository.get(cursor.getId()));
+
+        repository.put(cursor);
+        Assert.assertEquals(1000, repository.get(cursor.getId()).getPosition());
+
+        repository.put(cursor.moveTo(2000));
+        Assert.assertEquals(2000, repository.get(cursor.getId()).getPosition());
+        Assert.assertEquals(1, repository.size());
+
+        repository.remove(cursor.getId());
+        Assert.assertNull(repository.get(cursor.getId()));
+    }
+
+    @Test
+    public void expire() throws Exception {
+        ScatterCursorRepository repository = new ScatterCursorRepository(10, 10);
+        ScatterCursor cursor = repository.newCursor("app", 10, 10, 1000);
+        repository.put(cursor);
+
+        Thread.sleep(50);
+        Assert.assertNull(repository.get(cursor.getId()));
+        Assert.assertEquals(0, repository.size());
+    }
+
+    @Test
+    public void maxSize() throws Exception {
+        ScatterCursorRepository repository = new ScatterCursorRepository(10, 2);
+        repository.put(repository.newCursor("app", 10, 10, 1000));
+        repository.put(repository.newCursor("app", 10, 10, 1000));
+
+        ScatterCursor cursor = repository.newCursor("app", 10, 10, 1000);
+        repository.put(cursor);
+        Assert.assertNull(repository.get(cursor.getId()));
+
+        // expired cursors make room
+        Thread.sleep(50);
+        repository.put(cursor);
+        Assert.assertNotNull(repository.get(cursor.getId()));
+        Assert.assertEquals(1, repository.size());
+    }
+}
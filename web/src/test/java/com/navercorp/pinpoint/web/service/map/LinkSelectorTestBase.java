@@ -35,9 +35,12 @@ import org.junit.Before;
 import org.junit.Test;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Random;
 import java.util.Set;
 import java.util.concurrent.ExecutorService;
@@ -45,8 +48,11 @@ import java.util.concurrent.Executors;
 import java.util.concurrent.TimeUnit;
 
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 /**
@@ -169,6 +175,43 @@ public abstract class LinkSelectorTestBase {
         Assert.assertEquals(linkData.getTargetLinkDataList().size(), 0);
     }
 
+    @Test
+    public void testCaller_prepared() throws Exception {
+        // APP_A -> APP_C, APP_B -> APP_C
+        final Application APP_A = new Application("APP_A", ServiceType.TEST_STAND_ALONE);
+        final Application APP_B = new Application("APP_B", ServiceType.TEST_STAND_ALONE);
+        final Application APP_C = new Application("APP_C", ServiceType.TEST_STAND_ALONE);
+        int callCount_A_C = 10;
+        int callCount_B_C = 20;
+        LinkDataMap linkDataMap_A = new LinkDataMap();
+        linkDataMap_A.addLinkData(
+                APP_A, "agentA",
+                APP_C, "agentC",
+                1000, ServiceType.TEST_STAND_ALONE.getHistogramSchema().getNormalSlot().getSlotTime(), callCount_A_C);
+        LinkDataMap linkDataMap_B = new LinkDataMap();
+        linkDataMap_B.addLinkData(
+                APP_B, "agentB",
+                APP_C, "agentC",
+                1000, ServiceType.TEST_STAND_ALONE.getHistogramSchema().getNormalSlot().getSlotTime(), callCount_B_C);
+        Map<Application, LinkDataMap> callerLinkDataMaps = new HashMap<>();
+        callerLinkDataMaps.put(APP_A, linkDataMap_A);
+        callerLinkDataMaps.put(APP_B, linkDataMap_B);
+
+        when(linkDataMapService.selectCallerLinkDataMaps(anyList(), any(Range.class))).thenReturn(callerLinkDataMaps);
+        when(linkDataMapService.selectCallerLinkDataMap(any(Application.class), any(Range.class))).thenReturn(newEmptyLinkDataMap());
+        when(linkDataMapService.selectCalleeLinkDataMap(any(Application.class), any(Range.class))).thenReturn(newEmptyLinkDataMap());
+        when(hostApplicationMapDao.findAcceptApplicationName(any(Application.class), any(Range.class))).thenReturn(new HashSet<>());
+
+        LinkSelector linkSelector = linkSelectorFactory.createLinkSelector(getLinkSelectorType());
+        LinkDataDuplexMap linkData = linkSelector.select(Arrays.asList(APP_A, APP_B), range, 1, 1);
+
+        Assert.assertEquals(callCount_A_C, linkData.getSourceLinkData(new LinkKey(APP_A, APP_C)).getTotalCount());
+        Assert.assertEquals(callCount_B_C, linkData.getSourceLinkData(new LinkKey(APP_B, APP_C)).getTotalCount());
+        // read together, not one by one
+        verify(linkDataMapService, never()).selectCallerLinkDataMap(eq(APP_A), any(Range.class));
+        verify(linkDataMapService, never()).selectCallerLinkDataMap(eq(APP_B), any(Range.class));
+    }
+
     @Test
     public void testCaller_3tier() throws Exception {
         // APP_A -> APP_B -> APP_C
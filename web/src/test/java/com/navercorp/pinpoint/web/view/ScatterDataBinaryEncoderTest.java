@@ -0,0 +1,122 @@
+/*
+ * Copyright 2018 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.navercorp.pinpoint.web.view;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.navercorp.pinpoint.common.buffer.Buffer;
+import com.navercorp.pinpoint.common.buffer.FixedBuffer;
+import com.navercorp.pinpoint.common.util.TransactionId;
+import com.navercorp.pinpoint.web.scatter.ScatterData;
+import com.navercorp.pinpoint.web.vo.scatter.Dot;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+
+public class ScatterDataBinaryEncoderTest {
+
+    private final ObjectMapper mapper = new ObjectMapper();
+
+    private final ScatterDataBinaryEncoder encoder = new ScatterDataBinaryEncoder();
+
+    @Test
+    public void encodeSameAsJson() throws Exception {
+        final long from = 1000;
+        final long to = 100000;
+        ScatterData scatterData = new ScatterData(from, to, 100, 10);
+        for (int i = 0; i < 50; i++) {
+            TransactionId transactionId = new TransactionId("transactionAgent" + (i % 3), 1234, i);
+            scatterData.addDot(new Dot(transactionId, from + (i * 997) % (to - from), (i * 31) % 200, i % 5 == 0 ? 1 : 0, "agent" + (i % 2)));
+        }
+        // same coordinates
+        scatterData.addDot(new Dot(new TransactionId("transactionAgent0", 1234, 100), from, 0, 0, "agent0"));
+
+        byte[] bytes = encoder.encode(scatterData, 5000, from, to, true);
+        JsonNode expected = mapper.readTree(mapper.writeValueAsString(scatterData));
+
+        Buffer buffer = new FixedBuffer(bytes);
+        Assert.assertEquals(ScatterDataBinaryEncoder.VERSION, buffer.readByte());
+        Assert.assertEquals(5000, buffer.readSVLong());
+        Assert.assertEquals(from, buffer.readSVLong());
+        Assert.assertEquals(to, buffer.readSVLong());
+        Assert.assertEquals(scatterData.getOldestAcceptedTime(), buffer.readSVLong());
+        Assert.assertEquals(scatterData.getLatestAcceptedTime(), buffer.readSVLong());
+        Assert.assertTrue(buffer.readBoolean());
+
+        JsonNode metadata = expected.get("metadata");
+        final int agentCount = buffer.readVInt();
+        Assert.assertEquals(metadata.size(), agentCount);
+        Map<Integer, String> agentIdMap = new HashMap<>();
+        for (int i = 0; i < agentCount; i++) {
+            int id = buffer.readVInt();
+            JsonNode agent = metadata.get(String.valueOf(id));
+            Assert.assertEquals(agent.get(0).asText(), buffer.readPrefixedString());
+            Assert.assertEquals(agent.get(1).asText(), buffer.readPrefixedString());
+            Assert.assertEquals(agent.get(2).asLong(), buffer.readVLong());
+            agentIdMap.put(id, agent.get(0).asText());
+        }
+
+        JsonNode dotList = expected.get("dotList");
+        final int dotCount = buffer.readVInt();
+        Assert.assertEquals(dotList.size(), dotCount);
+        Assert.assertEquals(scatterData.getDotSize(), dotCount);
+
+        long acceptedTime = 0;
+        for (int i = 0; i < dotCount; i++) {
+            acceptedTime += buffer.readSVLong();
+            Assert.assertEquals(dotList.get(i).get(0).asLong(), acceptedTime);
+        }
+        for (int i = 0; i < dotCount; i++) {
+            Assert.assertEquals(dotList.get(i).get(1).asInt(), buffer.readSVInt());
+        }
+        for (int i = 0; i < dotCount; i++) {
+            int id = buffer.readVInt();
+            Assert.assertEquals(dotList.get(i).get(2).asInt(), id);
+            Assert.assertTrue(agentIdMap.containsKey(id));
+        }
+        for (int i = 0; i < dotCount; i++) {
+            Assert.assertEquals(dotList.get(i).get(3).asLong(), buffer.readSVLong());
+        }
+        for (int i = 0; i < dotCount; i++) {
+            Assert.assertEquals(dotList.get(i).get(4).asInt(), buffer.readSVInt());
+        }
+        for (int i = 0; i < dotCount; i++) {
+            Assert.assertEquals(dotList.get(i).get(5).asInt(), buffer.readVInt());
+        }
+        Assert.assertEquals(bytes.length, buffer.getOffset());
+    }
+
+    @Test
+    public void encodeEmpty() {
+        ScatterData scatterData = new ScatterData(1000, 2000, 100, 10);
+
+        Buffer buffer = new FixedBuffer(encoder.encode(scatterData, 3000, 1000, 2000, false));
+        Assert.assertEquals(ScatterDataBinaryEncoder.VERSION, buffer.readByte());
+        Assert.assertEquals(3000, buffer.readSVLong());
+        Assert.assertEquals(1000, buffer.readSVLong());
+        Assert.assertEquals(2000, buffer.readSVLong());
+        buffer.readSVLong();
+        buffer.readSVLong();
+        Assert.assertFalse(buffer.readBoolean());
+        Assert.assertEquals(0, buffer.readVInt());
+        Assert.assertEquals(0, buffer.readVInt());
+        Assert.assertFalse(buffer.hasRemaining());
+    }
+}
@@ -0,0 +1,110 @@
+/*
+ * Copyright 2018 NAVER Corp.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.navercorp.pinpoint.web.view;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.navercorp.pinpoint.common.util.TransactionId;
+import com.navercorp.pinpoint.web.scatter.ScatterData;
+import com.navercorp.pinpoint.web.vo.scatter.Dot;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.Random;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * compares the json scatter response with {@link ScatterDataBinaryEncoder}.
+ * <pre>
+ * usage : ScatterDataEncodingBenchmark [dotCount] [agentCount] [iteration]
+ * </pre>
+ */
+public class ScatterDataEncodingBenchmark {
+
+    private static final long FROM = 1500000000000L;
+    private static final long TO = FROM + 5 * 60 * 1000;
+
+    private final ObjectMapper mapper = new ObjectMapper();
+    private final ScatterDataBinaryEncoder encoder = new ScatterDataBinaryEncoder();
+
+    public static void main(String[] args) throws IOException {
+        int dotCount = args.length > 0 ? Integer.parseInt(args[0]) : 200000;
+        int agentCount = args.length > 1 ? Integer.parseInt(args[1]) : 20;
+        int iteration = args.length > 2 ? Integer.parseInt(args[2]) : 20;
+
+        ScatterDataEncodingBenchmark benchmark = new ScatterDataEncodingBenchmark();
+        ScatterData scatterData = benchmark.createScatterData(dotCount, agentCount);
+        System.out.println("dots:" + scatterData.getDotSize() + " agents:" + agentCount + " iteration:" + iteration);
+
+        benchmark.run(scatterData, iteration);
+    }
+
+    private ScatterData createScatterData(int dotCount, int agentCount) {
+        Random random = new Random(1);
+        ScatterData scatterData = new ScatterData(FROM, TO, 1, 1);
+        for (int i = 0; i < dotCount; i++) {
+            int agentIndex = random.nextInt(agentCount);
+            TransactionId transactionId = new TransactionId("agent" + agentIndex, FROM - 3600000, i);
+            long acceptedTime = FROM + (long) (random.nextDouble() * (TO - FROM));
+            int elapsed = (int) Math.min(60000, Math.abs(random.nextGaussian() * 300));
+            int exceptionCode = random.nextInt(100) == 0 ? 1 : 0;
+            scatterData.addDot(new Dot(transactionId, acceptedTime, elapsed, exceptionCode, "agent" + agentIndex));
+        }
+        return scatterData;
+    }
+
+    private void run(ScatterData scatterData, int iteration) throws IOException {
+        // warm up
+        for (int i = 0; i < 5; i++) {
+            encodeJson(scatterData);
+            encodeBinary(scatterData);
+        }
+
+        long jsonTime = 0;
+        long binaryTime = 0;
+        byte[] json = null;
+        byte[] binary = null;
+        for (int i = 0; i < iteration; i++) {
+            long start = System.nanoTime();
+            json = encodeJson(scatterData);
+            jsonTime += System.nanoTime() - start;
+
+            start = System.nanoTime();
+            binary = encodeBinary(scatterData);
+            binaryTime += System.nanoTime() - start;
+        }
+
+        System.out.println(String.format("json   : %8.2fms %10d bytes, gzip %10d bytes", jsonTime / 1000000.0 / iteration, json.length, gzip(json).length));
+        System.out.println(String.format("binary : %8.2fms %10d bytes, gzip %10d bytes", binaryTime / 1000000.0 / iteration, binary.length, gzip(binary).length));
+    }
+
+    private byte[] encodeJson(ScatterData scatterData) throws IOException {
+        return mapper.writeValueAsBytes(scatterData);
+    }
+
+    private byte[] encodeBinary(ScatterData scatterData) {
+        return encoder.encode(scatterData, TO, FROM, TO, true);
+    }
+
+    private byte[] gzip(byte[] bytes) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (GZIPOutputStream gzipOut = new GZIPOutputStream(out)) {
+            gzipOut.write(bytes);
+        }
+        return out.toByteArray();
+    }
+}
@@ -16,6 +16,7 @@
 
 package com.navercorp.pinpoint.web.vo.callstacks;
 
+import com.navercorp.pinpoint.common.server.bo.AnnotationBo;
 import com.navercorp.pinpoint.common.server.bo.SpanBo;
 import com.navercorp.pinpoint.common.service.AnnotationKeyRegistryService;
 import com.navercorp.pinpoint.common.service.DefaultAnnotationKeyRegistryService;
@@ -27,12 +28,21 @@ import com.navercorp.pinpoint.common.trace.AnnotationKeyMatcher;
 import com.navercorp.pinpoint.common.util.TransactionId;
 import com.navercorp.pinpoint.common.util.logger.CommonLoggerFactory;
 import com.navercorp.pinpoint.common.util.logger.StdoutCommonLoggerFactory;
+import com.navercorp.pinpoint.web.calltree.span.CallTree;
+import com.navercorp.pinpoint.web.calltree.span.CallTreeFactory;
+import com.navercorp.pinpoint.web.calltree.span.CallTreeIterator;
+import com.navercorp.pinpoint.web.calltree.span.CallTreeNode;
 import com.navercorp.pinpoint.web.calltree.span.SpanAlign;
 import com.navercorp.pinpoint.web.service.AnnotationKeyMatcherService;
 import org.junit.Assert;
 import org.junit.Test;
 
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
 
 /**
  * @author Woonduk Kang(emeroad)
@@ -84,4 +94,65 @@ public class RecordFactoryTest {
         Assert.assertEquals(exceptionRecord.getArguments(), "null");
     }
 
+    @Test
+    public void pagedRecordsJoinIntoWholeTree() {
+        CallTreeIterator iterator = newCallTree("R", "##", "###", "####", "###", "##", "###", "####");
+        iterator.values().get(3).getSpanEventBo().setExceptionInfo(1, "error");
+
+        List<String> whole = newRecords(iterator.page(0, iterator.size()));
+
+        List<String> joined = new ArrayList<>();
+        for (int offset = 0; offset < iterator.size(); offset += 3) {
+            joined.addAll(newRecords(iterator.page(offset, 3)));
+        }
+
+        Assert.assertEquals(iterator.size() + 1, whole.size());
+        Assert.assertEquals(whole, joined);
+    }
+
+    @Test
+    public void unpagedRecordsAreNumberedInOrder() {
+        CallTreeIterator iterator = newCallTree("R", "##", "###", "##");
+        iterator.values().get(1).getSpanEventBo().setExceptionInfo(1, "error");
+
+        List<String> records = newRecords(iterator);
+        Assert.assertEquals(Arrays.asList("1:0:0", "2:1:1", "3:2:2", "4:2:2", "5:1:1"), records);
+    }
+
+    private CallTreeIterator newCallTree(String... callStack) {
+        CallTree callTree = new CallTreeFactory().get(Arrays.asList(callStack));
+        CallTreeIterator iterator = callTree.iterator();
+        for (SpanAlign align : iterator.values()) {
+            align.getSpanBo().setTransactionId(new TransactionId("test", 0, 0));
+            align.setAnnotationBoList(new ArrayList<AnnotationBo>());
+        }
+        return iterator;
+    }
+
+    /**
+     * id, parentId and tab of the records of a page, without the repeated ancestors
+     */
+    private List<String> newRecords(CallTreeIterator page) {
+        // a new factory for each request
+        final RecordFactory factory = newRecordFactory();
+        final Set<Long> ids = new HashSet<>();
+        final List<String> records = new ArrayList<>();
+        while (page.hasNext()) {
+            final CallTreeNode node = page.next();
+            final Record record = factory.get(node);
+            Assert.assertTrue(ids.add(record.getId()));
+            if (record.isRepeatedAncestor()) {
+                continue;
+            }
+            records.add(record.getId() + ":" + record.getParentId() + ":" + record.getTab());
+
+            final Record exceptionRecord = factory.getException(record.getTab() + 1, node.getValue().getId(), node.getValue());
+            if (exceptionRecord != null) {
+                Assert.assertTrue(ids.add(exceptionRecord.getId()));
+                records.add(exceptionRecord.getId() + ":" + exceptionRecord.getParentId() + ":" + exceptionRecord.getTab());
+            }
+        }
+        return records;
+    }
+
 }
\ No newline at end of file